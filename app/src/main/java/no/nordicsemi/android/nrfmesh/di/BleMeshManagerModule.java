@@ -38,9 +38,15 @@ import no.nordicsemi.android.mesh.MeshManagerApi;
 @Module
 public class BleMeshManagerModule {
 
+    // Sliders send a Set message on every change, only the latest state within this interval is sent.
+    // Other messages, such as Get or Scene Store messages, are never coalesced.
+    private static final long COMMAND_COALESCING_INTERVAL = 100;
+
     @Provides
     @Singleton
     public MeshManagerApi provideMeshManagerApi(@ApplicationContext final Context context) {
-        return new MeshManagerApi(context);
+        final MeshManagerApi meshManagerApi = new MeshManagerApi(context);
+        meshManagerApi.setCommandCoalescingInterval(COMMAND_COALESCING_INTERVAL);
+        return meshManagerApi;
     }
 }
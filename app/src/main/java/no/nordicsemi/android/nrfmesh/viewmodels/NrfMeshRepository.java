@@ -180,6 +180,8 @@ public class NrfMeshRepository implements MeshProvisioningStatusCallbacks, MeshS
         mMeshManagerApi.setMeshManagerCallbacks(this);
         mMeshManagerApi.setProvisioningStatusCallbacks(this);
         mMeshManagerApi.setMeshStatusCallbacks(this);
+        // Group messages may be answered by a large number of nodes, refresh the network at most every 250 ms
+        mMeshManagerApi.setNetworkUpdateInterval(250);
         mMeshManagerApi.loadMeshNetwork();
         //Initialize the ble manager
         mBleMeshManager = bleMeshManager;
@@ -522,10 +524,7 @@ public class NrfMeshRepository implements MeshProvisioningStatusCallbacks, MeshS
             mIsConnected.postValue(false);
             mIsConnectedToProxy.postValue(false);
             if (mConnectedProxyAddress.getValue() != null) {
-                final MeshNetwork network = mMeshManagerApi.getMeshNetwork();
-                if (network != null) {
-                    network.setProxyFilter(null);
-                }
+                mMeshManagerApi.onProxyDisconnected();
             }
             //clearExtendedMeshNode();
         }
@@ -556,6 +555,7 @@ public class NrfMeshRepository implements MeshProvisioningStatusCallbacks, MeshS
                     clearExtendedMeshNode();
                 }
             }
+            mMeshManagerApi.onProxyConnected();
             mIsConnectedToProxy.postValue(true);
         }
     }
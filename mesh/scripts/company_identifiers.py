@@ -0,0 +1,135 @@
+#!/usr/bin/env python3
+# Copyright (c) 2018, Nordic Semiconductor
+# All rights reserved.
+#
+# Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+#
+# 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+#
+# 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+# documentation and/or other materials provided with the distribution.
+#
+# 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+# software without specific prior written permission.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+# LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+# HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+# LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+# ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+# USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+"""Generates the company identifier table read by CompanyIdentifiers.
+
+The table is generated from a tab separated list of company identifiers and names, one per line:
+
+    company_identifiers.py company_identifiers.tsv > ../src/main/java/no/nordicsemi/android/mesh/utils/CompanyIdentifierTable.java
+
+The table is a Java class of string constants, so that it is loaded with the code instead of being read from the APK:
+    IDENTIFIERS  company identifiers sorted ascending, one char each
+    OFFSETS      offset of each name within its chunk of names, one char each
+    NAMES        names of NAMES_PER_CHUNK companies per chunk, as a constant string is limited to 65535 bytes
+"""
+import sys
+
+NAMES_PER_CHUNK = 512
+LICENSE = """/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+"""
+LINE_LENGTH = 100
+
+
+def escape(text):
+    escaped = []
+    for c in text:
+        if c == '\n':
+            escaped.append('\\n')
+        elif c == '\r':
+            escaped.append('\\r')
+        elif c == '"':
+            escaped.append('\\"')
+        elif c == '\\':
+            escaped.append('\\\\')
+        elif 0x20 <= ord(c) < 0x7F:
+            escaped.append(c)
+        else:
+            escaped.append('\\u%04x' % ord(c))
+    return escaped
+
+
+def literal(text, indent):
+    escaped = escape(text)
+    lines = []
+    line = ''
+    for c in escaped:
+        if len(line) + len(c) > LINE_LENGTH:
+            lines.append('"%s"' % line)
+            line = ''
+        line += c
+    lines.append('"%s"' % line)
+    return ('\n' + ' ' * indent + '+ ').join(lines)
+
+
+def generate(source):
+    companies = {}
+    with open(source, encoding='utf-8') as f:
+        for line in f:
+            line = line.rstrip('\n')
+            if not line:
+                continue
+            identifier, name = line.split('\t', 1)
+            companies[int(identifier, 16)] = name
+    identifiers = sorted(companies)
+    offsets = []
+    chunks = []
+    for start in range(0, len(identifiers), NAMES_PER_CHUNK):
+        chunk = ''
+        for identifier in identifiers[start:start + NAMES_PER_CHUNK]:
+            offsets.append(len(chunk))
+            chunk += companies[identifier]
+        if len(chunk) > 0xFFFF or len(chunk.encode('utf-8')) > 0xFFFF:
+            sys.exit('Chunk of names too long, decrease NAMES_PER_CHUNK')
+        chunks.append(chunk)
+
+    out = sys.stdout
+    out.write(LICENSE)
+    out.write('\npackage no.nordicsemi.android.mesh.utils;\n\n')
+    out.write('/**\n')
+    out.write(' * Company identifiers assigned by the Bluetooth SIG, generated by mesh/scripts/company_identifiers.py.\n')
+    out.write(' */\n')
+    out.write('final class CompanyIdentifierTable {\n\n')
+    out.write('    static final int NAMES_PER_CHUNK = %d;\n\n' % NAMES_PER_CHUNK)
+    out.write('    static final String IDENTIFIERS = %s;\n\n' % literal(''.join(map(chr, identifiers)), 12))
+    out.write('    static final String OFFSETS = %s;\n\n' % literal(''.join(map(chr, offsets)), 12))
+    out.write('    static final String[] NAMES = {\n')
+    for i, chunk in enumerate(chunks):
+        out.write('            %s%s\n' % (literal(chunk, 16), ',' if i < len(chunks) - 1 else ''))
+    out.write('    };\n\n')
+    out.write('    private CompanyIdentifierTable() {\n')
+    out.write('    }\n')
+    out.write('}\n')
+
+
+if __name__ == '__main__':
+    if len(sys.argv) != 2:
+        sys.exit(__doc__)
+    generate(sys.argv[1])
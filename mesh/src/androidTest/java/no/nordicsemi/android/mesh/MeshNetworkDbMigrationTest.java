@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+import androidx.room.testing.MigrationTestHelper;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+import no.nordicsemi.android.mesh.transport.Element;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Migrates a database created with the version 12 schema exported in the schemas directory.
+ */
+@RunWith(AndroidJUnit4.class)
+public class MeshNetworkDbMigrationTest {
+
+    private static final String TEST_DB = "migration-test";
+    private static final String MESH_UUID = "A0D4C1D6-6F2B-4D0D-9C4F-3B6E1F1A2C55";
+    private static final String NODE_UUID = "6E3A5A1C-8D2B-4C55-A0C1-2C9E4A3F7B10";
+    private static final String BAD_NODE_UUID = "0B7E4C2D-1A3F-4E6B-9D5C-8F2A6B1C3E47";
+    private static final String ELEMENTS_JSON = "{\"1\":{\"elementAddress\":1,\"locationDescriptor\":256," +
+            "\"name\":\"Primary\",\"meshModels\":{}}}";
+    private static final String NODE_KEYS_JSON = "[{\"index\":0,\"updated\":false}]";
+    private static final String BAD_ELEMENTS_JSON = "{\"1\":";
+
+    @Rule
+    public MigrationTestHelper helper = new MigrationTestHelper(InstrumentationRegistry.getInstrumentation(),
+            MeshNetworkDb.class);
+
+    @Test
+    public void migrate12To13() throws Exception {
+        final SupportSQLiteDatabase db12 = helper.createDatabase(TEST_DB, 12);
+        final ContentValues network = new ContentValues();
+        network.put("mesh_uuid", MESH_UUID);
+        network.put("iv_index", "{}");
+        network.put("last_selected", 1);
+        db12.insert("mesh_network", SQLiteDatabase.CONFLICT_FAIL, network);
+        db12.insert("nodes", SQLiteDatabase.CONFLICT_FAIL, node(NODE_UUID, 0x0001, ELEMENTS_JSON));
+        db12.insert("nodes", SQLiteDatabase.CONFLICT_FAIL, node(BAD_NODE_UUID, 0x0002, BAD_ELEMENTS_JSON));
+        db12.close();
+
+        final SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DB, 13, true, MeshNetworkDb.MIGRATION_12_13);
+        final Cursor cursor = db.query("SELECT netKeys, elements, element_count FROM nodes WHERE uuid = ?",
+                new Object[]{NODE_UUID});
+        try {
+            assertTrue(cursor.moveToFirst());
+            final List<NodeKey> netKeys = MeshTypeConverters.fromBlobToNodeKeys(cursor.getBlob(0));
+            assertEquals(1, netKeys.size());
+            assertEquals(0, netKeys.get(0).getIndex());
+            final Map<Integer, Element> elements = MeshTypeConverters.fromBlobToElements(cursor.getBlob(1));
+            final Element element = elements.get(0x0001);
+            assertNotNull(element);
+            assertEquals("Primary", element.getName());
+            assertEquals(256, element.getLocationDescriptor());
+            assertEquals(1, cursor.getInt(2));
+        } finally {
+            cursor.close();
+        }
+
+        // A row that could not be converted keeps its json and no element count, the other columns are still converted
+        final Cursor badCursor = db.query("SELECT netKeys, elements, element_count FROM nodes WHERE uuid = ?",
+                new Object[]{BAD_NODE_UUID});
+        try {
+            assertTrue(badCursor.moveToFirst());
+            assertEquals(1, MeshTypeConverters.fromBlobToNodeKeys(badCursor.getBlob(0)).size());
+            assertArrayEquals(BAD_ELEMENTS_JSON.getBytes(Charset.forName("UTF-8")), badCursor.getBlob(1));
+            assertEquals(0, badCursor.getInt(2));
+        } finally {
+            badCursor.close();
+        }
+    }
+
+    private static ContentValues node(final String uuid, final int unicastAddress, final String elementsJson) {
+        final ContentValues values = new ContentValues();
+        values.put("timestamp", 0);
+        values.put("mesh_uuid", MESH_UUID);
+        values.put("uuid", uuid);
+        values.put("security", 0);
+        values.put("unicast_address", unicastAddress);
+        values.put("configured", 1);
+        values.put("seq_number", 0);
+        values.put("netKeys", NODE_KEYS_JSON);
+        values.put("appKeys", NODE_KEYS_JSON);
+        values.put("elements", elementsJson);
+        values.put("excluded", 0);
+        return values;
+    }
+}
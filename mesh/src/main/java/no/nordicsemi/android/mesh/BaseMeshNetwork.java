@@ -13,8 +13,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import androidx.annotation.IntDef;
@@ -325,22 +328,19 @@ abstract class BaseMeshNetwork {
      * @param meshKey Updated Key
      */
     private void updateNodeKeyStatus(@NonNull final MeshKey meshKey) {
+        final Set<String> provisionerUuids = new HashSet<>();
         for (Provisioner provisioner : provisioners) {
-            for (ProvisionedMeshNode node : nodes) {
-                if (node.getUuid().equalsIgnoreCase(provisioner.getProvisionerUuid())) {
-                    if (meshKey instanceof NetworkKey) {
-                        for (NodeKey key : node.getAddedNetKeys()) {
-                            if (key.getIndex() == meshKey.getKeyIndex()) {
-                                key.setUpdated(true);
-                            }
-                        }
-                    } else {
-                        for (NodeKey key : node.getAddedAppKeys()) {
-                            if (key.getIndex() == meshKey.getKeyIndex()) {
-                                key.setUpdated(true);
-                            }
-                        }
-                    }
+            provisionerUuids.add(provisioner.getProvisionerUuid().toUpperCase(Locale.US));
+        }
+        for (ProvisionedMeshNode node : nodes) {
+            if (!provisionerUuids.contains(node.getUuid().toUpperCase(Locale.US)))
+                continue;
+            final List<NodeKey> keys = meshKey instanceof NetworkKey ? node.getAddedNetKeys() : node.getAddedAppKeys();
+            for (NodeKey key : keys) {
+                if (key.getIndex() == meshKey.getKeyIndex()) {
+                    key.setUpdated(true);
+                    notifyNodeUpdated(node);
+                    break;
                 }
             }
         }
@@ -362,7 +362,11 @@ abstract class BaseMeshNetwork {
         if (!netKeys.contains(networkKey)) {
             throw new IllegalArgumentException("Network Key not distributed");
         }
-        return networkKey.switchToNewKey();
+        if (networkKey.switchToNewKey()) {
+            notifyNetKeyUpdated(networkKey);
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -377,8 +381,9 @@ abstract class BaseMeshNetwork {
      * @return true if success or false otherwise
      */
     public boolean revokeOldKey(@NonNull final NetworkKey networkKey) {
-        if (netKeys.contains(networkKey)) {
-            return networkKey.revokeOldKey();
+        if (netKeys.contains(networkKey) && networkKey.revokeOldKey()) {
+            notifyNetKeyUpdated(networkKey);
+            return true;
         }
         return false;
     }
@@ -1287,7 +1292,7 @@ abstract class BaseMeshNetwork {
         if (node != null) {
             if (node.getElements().containsKey(element.getElementAddress())) {
                 element.setName(name);
-                node.getElements().put(element.getElementAddress(), element);
+                node.putElement(element);
                 notifyNodeUpdated(node);
                 return true;
             }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+
+/**
+ * Tracks the responses to an acknowledged message sent to a group address.
+ * <p>
+ * The expected responders are the elements containing the target model subscribed to the group. Each received status
+ * is recorded in a bitmap indexed by the position of the responder in the sorted list of expected responders.
+ * Elements that did not respond within the timeout are retried using unicast messages, see
+ * {@link MeshManagerApi#sendGroupMessage(Group, MeshMessage, int, int, long, int, GroupTransactionCallbacks)}.
+ * </p>
+ */
+public final class GroupTransaction {
+
+    private final int groupAddress;
+    private final MeshMessage meshMessage;
+    private final int statusOpCode;
+    private final int[] expectedResponders;
+    private final BitSet responders;
+    private final long timeout;
+    private int retriesLeft;
+    private int unicastRetries;
+    private boolean complete;
+
+    GroupTransaction(final int groupAddress,
+                     @NonNull final MeshMessage meshMessage,
+                     final int statusOpCode,
+                     @NonNull final int[] expectedResponders,
+                     final long timeout,
+                     final int retries) {
+        this.groupAddress = groupAddress;
+        this.meshMessage = meshMessage;
+        this.statusOpCode = statusOpCode;
+        this.expectedResponders = expectedResponders.clone();
+        Arrays.sort(this.expectedResponders);
+        this.responders = new BitSet(expectedResponders.length);
+        this.timeout = timeout;
+        this.retriesLeft = retries;
+    }
+
+    /**
+     * Returns the group address the message was sent to.
+     */
+    public int getGroupAddress() {
+        return groupAddress;
+    }
+
+    /**
+     * Returns the message that was sent.
+     */
+    @NonNull
+    public MeshMessage getMeshMessage() {
+        return meshMessage;
+    }
+
+    /**
+     * Returns the op code of the status message expected from each responder.
+     */
+    public int getStatusOpCode() {
+        return statusOpCode;
+    }
+
+    /**
+     * Returns the number of element addresses expected to respond.
+     */
+    public synchronized int getExpectedResponderCount() {
+        return expectedResponders.length;
+    }
+
+    /**
+     * Returns the number of element addresses that responded so far.
+     */
+    public synchronized int getResponderCount() {
+        return responders.cardinality();
+    }
+
+    /**
+     * Returns the element addresses expected to respond in ascending order.
+     */
+    @NonNull
+    public synchronized List<Integer> getExpectedResponders() {
+        final List<Integer> addresses = new ArrayList<>(expectedResponders.length);
+        for (int address : expectedResponders) {
+            addresses.add(address);
+        }
+        return addresses;
+    }
+
+    /**
+     * Returns the element addresses that responded so far in ascending order.
+     */
+    @NonNull
+    public synchronized List<Integer> getResponders() {
+        final List<Integer> addresses = new ArrayList<>(responders.cardinality());
+        for (int i = responders.nextSetBit(0); i >= 0; i = responders.nextSetBit(i + 1)) {
+            addresses.add(expectedResponders[i]);
+        }
+        return addresses;
+    }
+
+    /**
+     * Returns the element addresses that have not responded so far in ascending order.
+     */
+    @NonNull
+    public synchronized List<Integer> getMissingResponders() {
+        final List<Integer> addresses = new ArrayList<>(expectedResponders.length - responders.cardinality());
+        for (int i = responders.nextClearBit(0); i < expectedResponders.length; i = responders.nextClearBit(i + 1)) {
+            addresses.add(expectedResponders[i]);
+        }
+        return addresses;
+    }
+
+    /**
+     * Returns the number of unicast messages sent to elements that did not respond to the group message.
+     */
+    public synchronized int getUnicastRetryCount() {
+        return unicastRetries;
+    }
+
+    /**
+     * Returns true if the transaction has completed, either because all expected elements responded or because
+     * the retries have been exhausted.
+     */
+    public synchronized boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns true if all expected elements responded.
+     */
+    public synchronized boolean isSuccessful() {
+        return responders.cardinality() == expectedResponders.length;
+    }
+
+    long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Records a received status message.
+     *
+     * @param src    Source address of the status
+     * @param opCode Op code of the status
+     * @return true if the status was expected and had not been received before
+     */
+    synchronized boolean onStatusReceived(final int src, final int opCode) {
+        if (complete || opCode != statusOpCode)
+            return false;
+        final int index = Arrays.binarySearch(expectedResponders, src);
+        if (index < 0 || responders.get(index))
+            return false;
+        responders.set(index);
+        return true;
+    }
+
+    /**
+     * Consumes a retry and returns the elements that should be retried, or an empty list if there are no
+     * retries left or all elements responded.
+     */
+    @NonNull
+    synchronized List<Integer> nextRetry() {
+        if (retriesLeft == 0 || isSuccessful())
+            return new ArrayList<>();
+        retriesLeft--;
+        return getMissingResponders();
+    }
+
+    /**
+     * Counts a unicast retry to an element, unless it responded since the retry was scheduled.
+     *
+     * @param address Element address
+     * @return true if the message should be sent to the element
+     */
+    synchronized boolean onUnicastRetry(final int address) {
+        if (complete)
+            return false;
+        final int index = Arrays.binarySearch(expectedResponders, address);
+        if (index < 0 || responders.get(index))
+            return false;
+        unicastRetries++;
+        return true;
+    }
+
+    synchronized void setComplete() {
+        complete = true;
+    }
+}
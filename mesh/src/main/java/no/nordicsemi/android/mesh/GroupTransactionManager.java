@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.transport.TransportScheduler;
+
+/**
+ * Sends acknowledged messages to group addresses and collects the responses into {@link GroupTransaction}s.
+ * <p>
+ * When the timeout of a transaction expires the message is sent again to each element that did not respond using its
+ * unicast address, until either all elements responded or the retries are exhausted. The unicast messages of a retry
+ * are sent {@link #RETRY_INTERVAL} apart, so that a lossy proxy link is not flooded with copies, and the timeout
+ * doubles with every retry, up to {@link #MAX_BACKOFF} times the timeout of the transaction.
+ * </p>
+ */
+final class GroupTransactionManager {
+
+    static final long RETRY_INTERVAL = 100;
+    static final int MAX_BACKOFF = 8;
+
+    interface MessageSender {
+        void send(final int dst, @NonNull final MeshMessage meshMessage);
+    }
+
+    private final TransportScheduler mScheduler;
+    private final MessageSender mSender;
+    private final List<Entry> mTransactions = new ArrayList<>();
+
+    private final class Entry implements Runnable {
+        final GroupTransaction transaction;
+        final GroupTransactionCallbacks callbacks;
+        final Runnable retrySender = () -> sendNextRetry(this);
+        List<Integer> retries = new ArrayList<>();
+        int retryIndex;
+        long timeout;
+
+        Entry(@NonNull final GroupTransaction transaction, @NonNull final GroupTransactionCallbacks callbacks) {
+            this.transaction = transaction;
+            this.callbacks = callbacks;
+            this.timeout = transaction.getTimeout();
+        }
+
+        @Override
+        public void run() {
+            onTimeout(this);
+        }
+    }
+
+    GroupTransactionManager(@NonNull final TransportScheduler scheduler, @NonNull final MessageSender sender) {
+        mScheduler = scheduler;
+        mSender = sender;
+    }
+
+    /**
+     * Starts a transaction by sending the message to the group address.
+     */
+    void start(@NonNull final GroupTransaction transaction, @NonNull final GroupTransactionCallbacks callbacks) {
+        final Entry entry = new Entry(transaction, callbacks);
+        if (transaction.getExpectedResponderCount() == 0) {
+            mSender.send(transaction.getGroupAddress(), transaction.getMeshMessage());
+            complete(entry);
+            return;
+        }
+        mSender.send(transaction.getGroupAddress(), transaction.getMeshMessage());
+        synchronized (mTransactions) {
+            mTransactions.add(entry);
+        }
+        mScheduler.postDelayed(entry, entry.timeout);
+    }
+
+    /**
+     * Records a received status message in the oldest transaction expecting it.
+     */
+    void onMessageReceived(@NonNull final MeshMessage message) {
+        Entry completed = null;
+        synchronized (mTransactions) {
+            for (Entry entry : mTransactions) {
+                if (entry.transaction.onStatusReceived(message.getSrc(), message.getOpCode())) {
+                    if (entry.transaction.isSuccessful()) {
+                        mTransactions.remove(entry);
+                        completed = entry;
+                    }
+                    break;
+                }
+            }
+        }
+        if (completed != null) {
+            mScheduler.removeCallbacks(completed);
+            mScheduler.removeCallbacks(completed.retrySender);
+            complete(completed);
+        }
+    }
+
+    /**
+     * Drops the transactions in progress without completing them.
+     */
+    void cancelAll() {
+        final List<Entry> entries;
+        synchronized (mTransactions) {
+            entries = new ArrayList<>(mTransactions);
+            mTransactions.clear();
+        }
+        for (Entry entry : entries) {
+            mScheduler.removeCallbacks(entry);
+            mScheduler.removeCallbacks(entry.retrySender);
+        }
+    }
+
+    private void onTimeout(@NonNull final Entry entry) {
+        final List<Integer> retries;
+        synchronized (mTransactions) {
+            // The transaction may have completed while the timeout was being dispatched
+            if (!mTransactions.contains(entry))
+                return;
+            retries = entry.transaction.nextRetry();
+            if (retries.isEmpty()) {
+                mTransactions.remove(entry);
+            } else {
+                entry.retries = retries;
+                entry.retryIndex = 0;
+                entry.timeout = Math.min(entry.timeout * 2, entry.transaction.getTimeout() * MAX_BACKOFF);
+            }
+        }
+        if (retries.isEmpty()) {
+            complete(entry);
+            return;
+        }
+        sendNextRetry(entry);
+    }
+
+    /**
+     * Sends the next unicast retry of a transaction, skipping the elements that responded in the meantime, and
+     * schedules the one after it or the timeout once all have been sent.
+     */
+    private void sendNextRetry(@NonNull final Entry entry) {
+        int address = -1;
+        final boolean last;
+        synchronized (mTransactions) {
+            if (!mTransactions.contains(entry))
+                return;
+            while (entry.retryIndex < entry.retries.size()) {
+                final int candidate = entry.retries.get(entry.retryIndex++);
+                if (entry.transaction.onUnicastRetry(candidate)) {
+                    address = candidate;
+                    break;
+                }
+            }
+            last = entry.retryIndex >= entry.retries.size();
+        }
+        if (address != -1) {
+            mSender.send(address, entry.transaction.getMeshMessage());
+        }
+        if (last) {
+            mScheduler.postDelayed(entry, entry.timeout);
+        } else {
+            mScheduler.postDelayed(entry.retrySender, RETRY_INTERVAL);
+        }
+    }
+
+    private void complete(@NonNull final Entry entry) {
+        entry.transaction.setComplete();
+        mScheduler.postDelayed(() -> entry.callbacks.onGroupTransactionCompleted(entry.transaction), 0);
+    }
+}
@@ -67,11 +67,12 @@ public interface InternalTransportCallbacks {
     /**
      * Callback that is invoked when a mesh pdu is created
      *
-     * @param dst Destination address to be sent
-     * @param pdu mesh pdu to be sent
+     * @param dst      Destination address to be sent
+     * @param pdu      mesh pdu to be sent
+     * @param priority priority class of the pdu, see {@link no.nordicsemi.android.mesh.transport.OutboundQueue}
      */
     @RestrictTo(RestrictTo.Scope.LIBRARY)
-    void onMeshPduCreated(final int dst, final byte[] pdu);
+    void onMeshPduCreated(final int dst, final byte[] pdu, final int priority);
 
 
     ProxyFilter getProxyFilter();
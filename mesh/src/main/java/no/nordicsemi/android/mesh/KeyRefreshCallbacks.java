@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
+
+/**
+ * Callbacks notifying the progress of a Key Refresh Procedure started with
+ * {@link MeshManagerApi#startKeyRefresh(NetworkKey, int, long, int, KeyRefreshCallbacks)}.
+ * <p>
+ * The phases reported are {@link NetworkKey#KEY_DISTRIBUTION}, {@link NetworkKey#USING_NEW_KEYS} and
+ * {@link NetworkKey#REVOKE_OLD_KEYS}. All callbacks are invoked on the main thread.
+ * </p>
+ */
+public interface KeyRefreshCallbacks {
+
+    /**
+     * Invoked when a phase is started.
+     *
+     * @param networkKey network key being refreshed
+     * @param phase      phase started
+     * @param nodeCount  number of nodes the phase has to be completed on
+     */
+    void onKeyRefreshPhaseStarted(@NonNull final NetworkKey networkKey, final int phase, final int nodeCount);
+
+    /**
+     * Invoked when a node has completed a phase.
+     *
+     * @param networkKey network key being refreshed
+     * @param phase      phase completed by the node
+     * @param node       node
+     */
+    void onNodeKeyRefreshed(@NonNull final NetworkKey networkKey, final int phase, @NonNull final ProvisionedMeshNode node);
+
+    /**
+     * Invoked when all nodes have revoked the old keys and the provisioner has returned to normal operation.
+     *
+     * @param networkKey refreshed network key
+     */
+    void onKeyRefreshCompleted(@NonNull final NetworkKey networkKey);
+
+    /**
+     * Invoked when a phase could not be completed on some nodes after all retries. The procedure stops before the next
+     * phase so that the nodes are not excluded from the network, and can be resumed by starting it again.
+     *
+     * @param networkKey  network key being refreshed
+     * @param phase       phase that could not be completed
+     * @param failedNodes nodes that did not complete the phase
+     */
+    void onKeyRefreshFailed(@NonNull final NetworkKey networkKey, final int phase, @NonNull final List<ProvisionedMeshNode> failedNodes);
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.transport.ConfigAppKeyStatus;
+import no.nordicsemi.android.mesh.transport.ConfigAppKeyUpdate;
+import no.nordicsemi.android.mesh.transport.ConfigKeyRefreshPhaseSet;
+import no.nordicsemi.android.mesh.transport.ConfigKeyRefreshPhaseStatus;
+import no.nordicsemi.android.mesh.transport.ConfigNetKeyStatus;
+import no.nordicsemi.android.mesh.transport.ConfigNetKeyUpdate;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
+import no.nordicsemi.android.mesh.transport.TransportScheduler;
+
+/**
+ * Runs the Key Refresh Procedure of a network key across all nodes of the network.
+ * <p>
+ * In the key distribution phase each node receives a Config NetKey Update followed by a Config AppKey Update for
+ * every application key bound to the network key that has been distributed. Once every node has the new keys the
+ * network switches to the new keys and every node is sent a Config Key Refresh Phase Set, first to use the new keys
+ * and then to revoke the old ones. Up to a given number of nodes are configured at a time, each with a single message
+ * outstanding, which is sent again if no response is received within the timeout.
+ * </p>
+ * <p>
+ * The progress is kept in the network itself, so that a procedure interrupted by an app restart continues where it
+ * stopped: the phase of the network key, and the {@link NodeKey#isUpdated()} flags of the nodes, which are set when a
+ * node confirms a new key and cleared once it revokes the old one. If any node fails to complete a phase the procedure
+ * stops at the end of that phase, so it can be started again once the nodes can be reached.
+ * </p>
+ */
+final class KeyRefreshManager {
+
+    private static final String TAG = KeyRefreshManager.class.getSimpleName();
+    static final int DEFAULT_MAX_IN_FLIGHT = 8;
+    static final long DEFAULT_TIMEOUT = 10 * 1000;
+    static final int DEFAULT_RETRIES = 2;
+
+    interface MessageSender {
+        void send(final int dst, @NonNull final MeshMessage meshMessage);
+    }
+
+    private final TransportScheduler mScheduler;
+    private final MessageSender mSender;
+    private final Map<Integer, Procedure> mProcedures = new HashMap<>();
+
+    private static final class Procedure {
+        final MeshNetwork network;
+        final NetworkKey networkKey;
+        final List<ApplicationKey> appKeys;
+        final int maxInFlight;
+        final long timeout;
+        final int retries;
+        final KeyRefreshCallbacks callbacks;
+        final ArrayDeque<ProvisionedMeshNode> pending = new ArrayDeque<>();
+        final Map<Integer, Task> inFlight = new HashMap<>();
+        final List<ProvisionedMeshNode> failed = new ArrayList<>();
+        int phase;
+
+        Procedure(@NonNull final MeshNetwork network,
+                  @NonNull final NetworkKey networkKey,
+                  @NonNull final List<ApplicationKey> appKeys,
+                  final int maxInFlight,
+                  final long timeout,
+                  final int retries,
+                  @NonNull final KeyRefreshCallbacks callbacks) {
+            this.network = network;
+            this.networkKey = networkKey;
+            this.appKeys = appKeys;
+            this.maxInFlight = maxInFlight;
+            this.timeout = timeout;
+            this.retries = retries;
+            this.callbacks = callbacks;
+        }
+    }
+
+    /**
+     * Message to a node and the key it configures, the key index is -1 for the network key.
+     */
+    private static final class Step {
+        final MeshMessage message;
+        final int appKeyIndex;
+
+        Step(@NonNull final MeshMessage message, final int appKeyIndex) {
+            this.message = message;
+            this.appKeyIndex = appKeyIndex;
+        }
+    }
+
+    private final class Task implements Runnable {
+        final Procedure procedure;
+        final ProvisionedMeshNode node;
+        final ArrayDeque<Step> steps;
+        int attempts;
+
+        Task(@NonNull final Procedure procedure, @NonNull final ProvisionedMeshNode node, @NonNull final ArrayDeque<Step> steps) {
+            this.procedure = procedure;
+            this.node = node;
+            this.steps = steps;
+        }
+
+        @Override
+        public void run() {
+            onTimeout(this);
+        }
+    }
+
+    KeyRefreshManager(@NonNull final TransportScheduler scheduler, @NonNull final MessageSender sender) {
+        mScheduler = scheduler;
+        mSender = sender;
+    }
+
+    /**
+     * Starts or resumes the Key Refresh Procedure of a network key from the phase it is in.
+     *
+     * @throws IllegalArgumentException if the key does not belong to the network or a new key has not been distributed
+     * @throws IllegalStateException    if the procedure is already running for the key
+     */
+    synchronized void start(@NonNull final MeshNetwork network,
+                            @NonNull final NetworkKey networkKey,
+                            final int maxInFlight,
+                            final long timeout,
+                            final int retries,
+                            @NonNull final KeyRefreshCallbacks callbacks) {
+        // The phase is switched on the key held by the network, not on a copy of it
+        NetworkKey key = null;
+        for (NetworkKey netKey : network.getNetKeys()) {
+            if (netKey.getKeyIndex() == networkKey.getKeyIndex()) {
+                key = netKey;
+                break;
+            }
+        }
+        if (key == null)
+            throw new IllegalArgumentException("Network key does not belong to the network");
+        if (key.getPhase() == NetworkKey.NORMAL_OPERATION)
+            throw new IllegalArgumentException("Distribute the new network key before starting the Key Refresh Procedure");
+        if (mProcedures.containsKey(key.getKeyIndex()))
+            throw new IllegalStateException("Key Refresh Procedure already running for the network key");
+
+        final Procedure procedure = new Procedure(network, key, getDistributedAppKeys(network, key),
+                maxInFlight, timeout, retries, callbacks);
+        mProcedures.put(key.getKeyIndex(), procedure);
+        startPhase(procedure, key.getPhase() == NetworkKey.KEY_DISTRIBUTION ? NetworkKey.KEY_DISTRIBUTION : NetworkKey.USING_NEW_KEYS);
+    }
+
+    /**
+     * Stops the Key Refresh Procedure of a network key. The progress made so far is kept.
+     *
+     * @return true if the procedure was running
+     */
+    synchronized boolean cancel(@NonNull final NetworkKey networkKey) {
+        final Procedure procedure = mProcedures.remove(networkKey.getKeyIndex());
+        if (procedure == null)
+            return false;
+        for (Task task : procedure.inFlight.values()) {
+            mScheduler.removeCallbacks(task);
+        }
+        procedure.inFlight.clear();
+        procedure.pending.clear();
+        return true;
+    }
+
+    /**
+     * Stops the running procedures. The progress made so far is kept.
+     */
+    synchronized void cancelAll() {
+        for (Procedure procedure : mProcedures.values()) {
+            for (Task task : procedure.inFlight.values()) {
+                mScheduler.removeCallbacks(task);
+            }
+            procedure.inFlight.clear();
+            procedure.pending.clear();
+        }
+        mProcedures.clear();
+    }
+
+    synchronized boolean isRunning(@NonNull final NetworkKey networkKey) {
+        return mProcedures.containsKey(networkKey.getKeyIndex());
+    }
+
+    /**
+     * Continues the procedure of the node that sent the message, if it is a response to the message outstanding.
+     */
+    synchronized void onMessageReceived(@NonNull final MeshMessage message) {
+        if (mProcedures.isEmpty())
+            return;
+        for (Procedure procedure : new ArrayList<>(mProcedures.values())) {
+            final Task task = procedure.inFlight.get(message.getSrc());
+            if (task == null)
+                continue;
+            final Boolean successful = getResult(procedure, task.steps.peek(), message);
+            if (successful == null)
+                continue;
+            mScheduler.removeCallbacks(task);
+            if (successful) {
+                onStepCompleted(task);
+            } else {
+                MeshLogger.warn(TAG, "Node 0x" + Integer.toHexString(task.node.getUnicastAddress()) + " rejected phase " + procedure.phase);
+                fail(task);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Returns whether the message reports the outcome of the step, or null if the message is not a response to it.
+     */
+    @Nullable
+    private static Boolean getResult(@NonNull final Procedure procedure, @NonNull final Step step, @NonNull final MeshMessage message) {
+        final int netKeyIndex = procedure.networkKey.getKeyIndex();
+        if (step.message instanceof ConfigNetKeyUpdate) {
+            if (!(message instanceof ConfigNetKeyStatus))
+                return null;
+            final ConfigNetKeyStatus status = (ConfigNetKeyStatus) message;
+            return status.getNetKeyIndex() == netKeyIndex ? status.isSuccessful() : null;
+        } else if (step.message instanceof ConfigAppKeyUpdate) {
+            if (!(message instanceof ConfigAppKeyStatus))
+                return null;
+            final ConfigAppKeyStatus status = (ConfigAppKeyStatus) message;
+            return status.getAppKeyIndex() == step.appKeyIndex ? status.isSuccessful() : null;
+        } else {
+            if (!(message instanceof ConfigKeyRefreshPhaseStatus))
+                return null;
+            final ConfigKeyRefreshPhaseStatus status = (ConfigKeyRefreshPhaseStatus) message;
+            if (status.getNetKeyIndex() != netKeyIndex)
+                return null;
+            final int expectedPhase = procedure.phase == NetworkKey.USING_NEW_KEYS ? NetworkKey.USING_NEW_KEYS : NetworkKey.NORMAL_OPERATION;
+            return status.isSuccessful() && status.getTransition() == expectedPhase;
+        }
+    }
+
+    private void startPhase(@NonNull final Procedure procedure, final int phase) {
+        procedure.phase = phase;
+        for (ProvisionedMeshNode node : procedure.network.getNodes()) {
+            if (procedure.network.isProvisioner(node))
+                continue;
+            final NodeKey netKey = findKey(node.getAddedNetKeys(), procedure.networkKey.getKeyIndex());
+            if (netKey == null)
+                continue;
+            if (phase == NetworkKey.KEY_DISTRIBUTION ? !createSteps(procedure, node).isEmpty() : netKey.isUpdated()) {
+                procedure.pending.add(node);
+            }
+        }
+        final int nodeCount = procedure.pending.size();
+        MeshLogger.debug(TAG, "Key Refresh phase " + phase + " started for " + nodeCount + " nodes");
+        post(() -> procedure.callbacks.onKeyRefreshPhaseStarted(procedure.networkKey, phase, nodeCount));
+        next(procedure);
+    }
+
+    @NonNull
+    private ArrayDeque<Step> createSteps(@NonNull final Procedure procedure, @NonNull final ProvisionedMeshNode node) {
+        final ArrayDeque<Step> steps = new ArrayDeque<>();
+        if (procedure.phase == NetworkKey.KEY_DISTRIBUTION) {
+            final NodeKey netKey = findKey(node.getAddedNetKeys(), procedure.networkKey.getKeyIndex());
+            if (netKey != null && !netKey.isUpdated()) {
+                steps.add(new Step(new ConfigNetKeyUpdate(procedure.networkKey), -1));
+            }
+            for (ApplicationKey appKey : procedure.appKeys) {
+                final NodeKey nodeKey = findKey(node.getAddedAppKeys(), appKey.getKeyIndex());
+                if (nodeKey != null && !nodeKey.isUpdated()) {
+                    steps.add(new Step(new ConfigAppKeyUpdate(appKey), appKey.getKeyIndex()));
+                }
+            }
+        } else {
+            final int transition = procedure.phase == NetworkKey.USING_NEW_KEYS ? NetworkKey.USE_NEW_KEYS : NetworkKey.REVOKE_OLD_KEYS;
+            steps.add(new Step(new ConfigKeyRefreshPhaseSet(procedure.networkKey, transition), -1));
+        }
+        return steps;
+    }
+
+    private void next(@NonNull final Procedure procedure) {
+        while (mProcedures.get(procedure.networkKey.getKeyIndex()) == procedure
+                && procedure.inFlight.size() < procedure.maxInFlight && !procedure.pending.isEmpty()) {
+            final ProvisionedMeshNode node = procedure.pending.poll();
+            final ArrayDeque<Step> steps = createSteps(procedure, node);
+            if (steps.isEmpty())
+                continue;
+            final Task task = new Task(procedure, node, steps);
+            procedure.inFlight.put(node.getUnicastAddress(), task);
+            send(task);
+        }
+        if (mProcedures.get(procedure.networkKey.getKeyIndex()) == procedure
+                && procedure.inFlight.isEmpty() && procedure.pending.isEmpty()) {
+            completePhase(procedure);
+        }
+    }
+
+    private void send(@NonNull final Task task) {
+        try {
+            mSender.send(task.node.getUnicastAddress(), task.steps.peek().message);
+        } catch (IllegalArgumentException ex) {
+            MeshLogger.warn(TAG, "Unable to send to node 0x" + Integer.toHexString(task.node.getUnicastAddress()) + ": " + ex.getMessage());
+            fail(task);
+            return;
+        }
+        mScheduler.postDelayed(task, task.procedure.timeout);
+    }
+
+    private void onTimeout(@NonNull final Task task) {
+        synchronized (this) {
+            // The response may have been received while the timeout was being dispatched
+            if (task.procedure.inFlight.get(task.node.getUnicastAddress()) != task)
+                return;
+            if (task.attempts < task.procedure.retries) {
+                task.attempts++;
+                send(task);
+                return;
+            }
+            MeshLogger.warn(TAG, "No response from node 0x" + Integer.toHexString(task.node.getUnicastAddress()));
+            fail(task);
+        }
+    }
+
+    private void onStepCompleted(@NonNull final Task task) {
+        final Procedure procedure = task.procedure;
+        final Step step = task.steps.poll();
+        final ProvisionedMeshNode node = task.node;
+        if (procedure.phase == NetworkKey.KEY_DISTRIBUTION) {
+            final NodeKey nodeKey = step.appKeyIndex < 0
+                    ? findKey(node.getAddedNetKeys(), procedure.networkKey.getKeyIndex())
+                    : findKey(node.getAddedAppKeys(), step.appKeyIndex);
+            if (nodeKey != null) {
+                nodeKey.setUpdated(true);
+            }
+        } else if (procedure.phase == NetworkKey.REVOKE_OLD_KEYS) {
+            resetKeys(procedure, node);
+        }
+        if (!task.steps.isEmpty()) {
+            task.attempts = 0;
+            send(task);
+            return;
+        }
+        procedure.inFlight.remove(node.getUnicastAddress());
+        final int phase = procedure.phase;
+        post(() -> procedure.callbacks.onNodeKeyRefreshed(procedure.networkKey, phase, node));
+        next(procedure);
+    }
+
+    private void fail(@NonNull final Task task) {
+        final Procedure procedure = task.procedure;
+        procedure.inFlight.remove(task.node.getUnicastAddress());
+        procedure.failed.add(task.node);
+        next(procedure);
+    }
+
+    private void completePhase(@NonNull final Procedure procedure) {
+        final int phase = procedure.phase;
+        if (!procedure.failed.isEmpty()) {
+            mProcedures.remove(procedure.networkKey.getKeyIndex());
+            final List<ProvisionedMeshNode> failed = new ArrayList<>(procedure.failed);
+            MeshLogger.warn(TAG, "Key Refresh phase " + phase + " failed for " + failed.size() + " nodes");
+            post(() -> procedure.callbacks.onKeyRefreshFailed(procedure.networkKey, phase, failed));
+            return;
+        }
+        if (phase == NetworkKey.KEY_DISTRIBUTION) {
+            procedure.network.switchToNewKey(procedure.networkKey);
+            startPhase(procedure, NetworkKey.USING_NEW_KEYS);
+        } else if (phase == NetworkKey.USING_NEW_KEYS) {
+            startPhase(procedure, NetworkKey.REVOKE_OLD_KEYS);
+        } else {
+            procedure.network.revokeOldKey(procedure.networkKey);
+            for (ProvisionedMeshNode node : procedure.network.getNodes()) {
+                if (procedure.network.isProvisioner(node)) {
+                    resetKeys(procedure, node);
+                    procedure.network.notifyNodeUpdated(node);
+                }
+            }
+            mProcedures.remove(procedure.networkKey.getKeyIndex());
+            MeshLogger.debug(TAG, "Key Refresh completed for network key " + procedure.networkKey.getKeyIndex());
+            post(() -> procedure.callbacks.onKeyRefreshCompleted(procedure.networkKey));
+        }
+    }
+
+    private static void resetKeys(@NonNull final Procedure procedure, @NonNull final ProvisionedMeshNode node) {
+        final NodeKey netKey = findKey(node.getAddedNetKeys(), procedure.networkKey.getKeyIndex());
+        if (netKey != null) {
+            netKey.setUpdated(false);
+        }
+        for (ApplicationKey appKey : procedure.appKeys) {
+            final NodeKey nodeKey = findKey(node.getAddedAppKeys(), appKey.getKeyIndex());
+            if (nodeKey != null) {
+                nodeKey.setUpdated(false);
+            }
+        }
+    }
+
+    /**
+     * Returns the application keys bound to the network key that have been distributed during this procedure, which
+     * are those marked as updated on any node.
+     */
+    @NonNull
+    private static List<ApplicationKey> getDistributedAppKeys(@NonNull final MeshNetwork network, @NonNull final NetworkKey networkKey) {
+        final List<ApplicationKey> appKeys = new ArrayList<>();
+        for (ApplicationKey appKey : network.getAppKeys(networkKey.getKeyIndex())) {
+            for (ProvisionedMeshNode node : network.getNodes()) {
+                final NodeKey nodeKey = findKey(node.getAddedAppKeys(), appKey.getKeyIndex());
+                if (nodeKey != null && nodeKey.isUpdated()) {
+                    appKeys.add(appKey);
+                    break;
+                }
+            }
+        }
+        return appKeys;
+    }
+
+    @Nullable
+    private static NodeKey findKey(@NonNull final List<NodeKey> keys, final int index) {
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i).getIndex() == index)
+                return keys.get(i);
+        }
+        return null;
+    }
+
+    private void post(@NonNull final Runnable runnable) {
+        mScheduler.postDelayed(runnable, 0);
+    }
+}
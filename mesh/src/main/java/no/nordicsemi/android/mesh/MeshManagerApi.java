@@ -41,6 +41,7 @@ import java.util.UUID;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import no.nordicsemi.android.mesh.data.ApplicationKeyDao;
 import no.nordicsemi.android.mesh.data.ApplicationKeysDao;
 import no.nordicsemi.android.mesh.data.GroupDao;
@@ -56,8 +57,15 @@ import no.nordicsemi.android.mesh.data.SceneDao;
 import no.nordicsemi.android.mesh.data.ScenesDao;
 import no.nordicsemi.android.mesh.logger.MeshLogger;
 import no.nordicsemi.android.mesh.provisionerstates.UnprovisionedMeshNode;
+import no.nordicsemi.android.mesh.sensorhistory.SensorHistory;
+import no.nordicsemi.android.mesh.state.ModelStateCache;
+import no.nordicsemi.android.mesh.trace.PduTraceRecord;
+import no.nordicsemi.android.mesh.trace.PduTraceWriter;
+import no.nordicsemi.android.mesh.transport.CommandCoalescer;
+import no.nordicsemi.android.mesh.transport.HandlerScheduler;
 import no.nordicsemi.android.mesh.transport.MeshMessage;
 import no.nordicsemi.android.mesh.transport.NetworkLayerCallbacks;
+import no.nordicsemi.android.mesh.transport.OutboundQueue;
 import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
 import no.nordicsemi.android.mesh.transport.UpperTransportLayerCallbacks;
 import no.nordicsemi.android.mesh.utils.ExtendedInvalidCipherTextException;
@@ -66,6 +74,7 @@ import no.nordicsemi.android.mesh.utils.MeshAddress;
 import no.nordicsemi.android.mesh.utils.MeshParserUtils;
 import no.nordicsemi.android.mesh.utils.OutputOOBAction;
 import no.nordicsemi.android.mesh.utils.ProxyFilter;
+import no.nordicsemi.android.mesh.utils.ProxyFilterType;
 import no.nordicsemi.android.mesh.utils.SecureUtils;
 
 
@@ -81,15 +90,19 @@ public class MeshManagerApi implements MeshMngrApi {
     public static final byte PDU_TYPE_NETWORK = 0x00;
     public static final byte PDU_TYPE_MESH_BEACON = 0x01;
     public static final byte PDU_TYPE_PROXY_CONFIGURATION = 0x02;
+
+    //Group transactions
+    public static final long DEFAULT_GROUP_TRANSACTION_TIMEOUT = 4000;
+    public static final int DEFAULT_GROUP_TRANSACTION_RETRIES = 2;
     //GATT level segmentation
     private static final byte GATT_SAR_COMPLETE = 0b00;
     private static final byte GATT_SAR_START = 0b01;
     private static final byte GATT_SAR_CONTINUATION = 0b10;
-    private static final byte GATT_SAR_END = 0b11;
+    static final byte GATT_SAR_END = 0b11;
     //GATT level segmentation mask
     private static final int GATT_SAR_MASK = 0xC0;
     private static final int GATT_SAR_UNMASK = 0x3F;
-    private static final int SAR_BIT_OFFSET = 6;
+    static final int SAR_BIT_OFFSET = 6;
 
     private static final long PROXY_SAR_TRANSFER_TIME_OUT = 20 * 1000; // According to the spec the proxy protocol must contain an SAR timeout of 20 seconds.
     private final static int HASH_RANDOM_NUMBER_LENGTH = 64; // Length of the random number required to calculate the hash containing the node id in bits
@@ -97,21 +110,32 @@ public class MeshManagerApi implements MeshMngrApi {
     private static final int ADVERTISEMENT_TYPE_NODE_IDENTITY = 0x01;
     private final static int ADVERTISED_HASH_OFFSET = 1; // Offset of the hash contained in the advertisement service data
     private final static int ADVERTISED_HASH_LENGTH = 8; // Length of the hash contained in the advertisement service data
-    private final static int ADVERTISED_RANDOM_OFFSET = 9; // Offset of the hash contained in the advertisement service data
-    private final static int ADVERTISED_RANDOM_LENGTH = 8; //Length of the hash contained in the advertisement service data
     private final static int ADVERTISED_NETWORK_ID_OFFSET = 1; //Offset of the network id contained in the advertisement service data
     private final static int ADVERTISED_NETWORK_ID_LENGTH = 8; //Length of the network id contained in the advertisement service data
 
     private final Context mContext;
     private final Handler mHandler;
     private MeshManagerCallbacks mMeshManagerCallbacks;
+    private NetworkChangeCallbacks mNetworkChangeCallbacks;
+    private final NetworkChangeCoalescer mNetworkChangeCoalescer;
+    private final GroupTransactionManager mGroupTransactionManager;
+    private final KeyRefreshManager mKeyRefreshManager;
+    private final UnacknowledgedRepeater mUnacknowledgedRepeater;
+    private final CommandCoalescer mCommandCoalescer;
+    private final OutboundQueue mOutboundQueue;
+    private volatile OutboundQueueCallbacks mOutboundQueueCallbacks;
+    private final ProxyFilterManager mProxyFilterManager;
+    private final ProxyBearerManager mProxyBearerManager = new ProxyBearerManager();
     private final MeshProvisioningHandler mMeshProvisioningHandler;
     private final MeshMessageHandler mMeshMessageHandler;
     private final ImportExportUtils mImportExportUtils;
-    private byte[] mIncomingBuffer;
-    private int mIncomingBufferOffset;
-    private byte[] mOutgoingBuffer;
-    private int mOutgoingBufferOffset;
+    private final NodeIdentityResolver mNodeIdentityResolver = new NodeIdentityResolver();
+    private final NetworkIdFilter mNetworkIdFilter = new NetworkIdFilter();
+    private final ModelStateCache mModelStateCache = new ModelStateCache();
+    private final ProxySarBuffer mProxySarBuffer = new ProxySarBuffer();
+    private volatile PduTraceWriter mPduTraceWriter;
+    private volatile SensorHistory mSensorHistory;
+    private volatile int mNodeElementCacheSize;
     private MeshNetwork mMeshNetwork;
     private boolean ivUpdateTestModeActive = false;
     private boolean allowIvIndexRecoveryOver42 = false;
@@ -147,6 +171,14 @@ public class MeshManagerApi implements MeshMngrApi {
     public MeshManagerApi(@NonNull final Context context) {
         this.mContext = context;
         mHandler = new Handler(Looper.getMainLooper());
+        mNetworkChangeCoalescer = new NetworkChangeCoalescer(new HandlerScheduler(mHandler), this::onNetworkChangesDispatched);
+        mGroupTransactionManager = new GroupTransactionManager(new HandlerScheduler(mHandler), this::sendMeshPdu);
+        mKeyRefreshManager = new KeyRefreshManager(new HandlerScheduler(mHandler), this::sendMeshPdu);
+        mUnacknowledgedRepeater = new UnacknowledgedRepeater(new HandlerScheduler(mHandler), this::sendMeshPdu);
+        mProxyFilterManager = new ProxyFilterManager(this::createMeshMessage);
+        mCommandCoalescer = new CommandCoalescer(new HandlerScheduler(mHandler), this::sendCoalescedMeshPdu);
+        mOutboundQueue = new OutboundQueue(new HandlerScheduler(mHandler), this::deliverMeshPdu);
+        mProxyBearerManager.setPduListener((bearerId, mtu, pdu) -> capture(PduTraceRecord.DIRECTION_OUT, bearerId, mtu, pdu));
         mMeshProvisioningHandler = new MeshProvisioningHandler(context, internalTransportCallbacks, internalMeshMgrCallbacks);
         mMeshMessageHandler = new MeshMessageHandler(context, internalTransportCallbacks, networkLayerCallbacks, upperTransportLayerCallbacks);
         mImportExportUtils = new ImportExportUtils();
@@ -170,10 +202,134 @@ public class MeshManagerApi implements MeshMngrApi {
         mMeshMessageHandler.setMeshStatusCallbacks(callbacks);
     }
 
+    @Override
+    public void setNetworkChangeCallbacks(@Nullable final NetworkChangeCallbacks callbacks) {
+        mNetworkChangeCallbacks = callbacks;
+    }
+
+    @Override
+    public void setNetworkUpdateInterval(final long interval) {
+        mNetworkChangeCoalescer.setInterval(interval);
+    }
+
+    @Override
+    public long getNetworkUpdateInterval() {
+        return mNetworkChangeCoalescer.getInterval();
+    }
+
+    @Override
+    public void setTransportCacheLimits(final int maxSize, final long idleTimeout) {
+        mMeshMessageHandler.setTransportCacheLimits(maxSize, idleTimeout);
+    }
+
+    @Override
+    public int getLiveTransportCount() {
+        return mMeshMessageHandler.getLiveTransportCount();
+    }
+
+    @Override
+    public int getLiveMessageStateCount() {
+        return mMeshMessageHandler.getLiveMessageStateCount();
+    }
+
+    @Override
+    public long getEvictedTransportCount() {
+        return mMeshMessageHandler.getEvictedTransportCount();
+    }
+
+    @Override
+    public void onProxyConnected() {
+        if (mMeshNetwork != null) {
+            mProxyFilterManager.onProxyConnected(mMeshNetwork);
+        }
+    }
+
+    @Override
+    public void onProxyDisconnected() {
+        mOutboundQueue.clear();
+        if (mMeshNetwork != null) {
+            mProxyFilterManager.onProxyDisconnected(mMeshNetwork);
+        }
+    }
+
+    @Override
+    public void addProxyBearer(@NonNull final ProxyBearer bearer, final int proxyAddress) {
+        final ProvisionedMeshNode node = mMeshNetwork == null ? null : mMeshNetwork.getNode(proxyAddress);
+        final int lastAddress = node == null ? proxyAddress : node.getLastUnicastAddress();
+        mProxyBearerManager.add(bearer, proxyAddress, lastAddress, System.currentTimeMillis());
+        mProxyFilterManager.setProxyCount(mMeshNetwork, mProxyBearerManager.getBearerCount());
+        if (mMeshNetwork != null) {
+            mProxyFilterManager.onProxyConnected(mMeshNetwork);
+        }
+    }
+
+    @Override
+    public void removeProxyBearer(@NonNull final ProxyBearer bearer) {
+        final ProxySarBuffer sarBuffer = mProxyBearerManager.getSarBuffer(bearer);
+        if (sarBuffer == null)
+            return;
+        mHandler.removeCallbacks(sarBuffer.getTimeout(mProxyProtocolTimeoutRunnable));
+        mProxyBearerManager.remove(bearer, System.currentTimeMillis());
+        if (mMeshNetwork != null && mProxyBearerManager.isEmpty()) {
+            mProxyFilterManager.onProxyDisconnected(mMeshNetwork);
+        }
+        mProxyFilterManager.setProxyCount(mMeshNetwork, mProxyBearerManager.getBearerCount());
+    }
+
+    @Override
+    public int getProxyBearerCount() {
+        return mProxyBearerManager.getBearerCount();
+    }
+
+    @Nullable
+    @Override
+    public ProxyFilter getProxyFilter(@NonNull final ProxyBearer bearer) {
+        return mProxyBearerManager.getProxyFilter(bearer);
+    }
+
+    @Override
+    public void setAutomaticProxyFilterEnabled(final boolean enabled) {
+        mProxyFilterManager.setAutomatic(mMeshNetwork, enabled);
+    }
+
+    @Override
+    public void setProxyFilterType(@NonNull final ProxyFilterType filterType) {
+        mProxyFilterManager.setFilterType(mMeshNetwork, filterType);
+    }
+
+    @Override
+    public void addProxyFilterAddresses(@NonNull final int... addresses) {
+        mProxyFilterManager.addAddresses(mMeshNetwork, addresses);
+    }
+
+    @Override
+    public void removeProxyFilterAddresses(@NonNull final int... addresses) {
+        mProxyFilterManager.removeAddresses(mMeshNetwork, addresses);
+    }
+
+    private void onNetworkChangesDispatched(@NonNull final NetworkChangeSet changes) {
+        final MeshNetwork network = mMeshNetwork;
+        if (network == null)
+            return;
+        mMeshManagerCallbacks.onNetworkUpdated(network);
+        mProxyFilterManager.onNetworkChanged(network, changes);
+        final NetworkChangeCallbacks callbacks = mNetworkChangeCallbacks;
+        if (callbacks != null) {
+            callbacks.onNetworkChanged(network, changes);
+        }
+    }
+
     @Override
     public void loadMeshNetwork() {
         mMeshNetworkDb.loadNetwork(mMeshNetworkDao, mNetworkKeysDao, mApplicationKeysDao, mProvisionersDao, mProvisionedNodesDao,
-                mGroupsDao, mScenesDao, networkLoadCallbacks);
+                mGroupsDao, mScenesDao, mNodeElementCacheSize, networkLoadCallbacks);
+    }
+
+    @Override
+    public void setNodeElementCacheSize(final int cacheSize) {
+        if (cacheSize < 0)
+            throw new IllegalArgumentException("Cache size must not be negative");
+        mNodeElementCacheSize = cacheSize;
     }
 
     public Context getContext() {
@@ -237,34 +393,77 @@ public class MeshManagerApi implements MeshMngrApi {
 
     @Override
     public final void handleNotifications(final int mtuSize, @NonNull final byte[] data) {
-        byte[] unsegmentedPdu;
+        capture(PduTraceRecord.DIRECTION_IN, PduTraceRecord.DEFAULT_BEARER, mtuSize, data);
+        final byte[] unsegmentedPdu = reassembleNotification(mProxySarBuffer, mtuSize, data);
+        if (unsegmentedPdu != null) {
+            parseNotifications(unsegmentedPdu);
+        }
+    }
+
+    @Override
+    public final void handleNotifications(@NonNull final ProxyBearer bearer, final int mtuSize, @NonNull final byte[] data) {
+        capture(PduTraceRecord.DIRECTION_IN, mProxyBearerManager.getBearerId(bearer), mtuSize, data);
+        final ProxySarBuffer sarBuffer = mProxyBearerManager.getSarBuffer(bearer);
+        if (sarBuffer == null) {
+            MeshLogger.warn(TAG, "Notification received from a proxy bearer that has not been added");
+            return;
+        }
+        final byte[] unsegmentedPdu = reassembleNotification(sarBuffer, mtuSize, data);
+        if (unsegmentedPdu == null)
+            return;
+        mProxyBearerManager.setReceivingBearer(bearer);
+        try {
+            parseNotifications(unsegmentedPdu);
+        } finally {
+            mProxyBearerManager.setReceivingBearer(null);
+        }
+    }
+
+    @Override
+    public void setPduTraceWriter(@Nullable final PduTraceWriter writer) {
+        mPduTraceWriter = writer;
+    }
+
+    private void capture(final int direction, final int bearer, final int mtu, @NonNull final byte[] pdu) {
+        final PduTraceWriter writer = mPduTraceWriter;
+        if (writer != null) {
+            writer.write(direction, bearer, mtu, pdu);
+        }
+    }
+
+    /**
+     * Reassembles a notification segmented at the GATT layer.
+     *
+     * @return the unsegmented pdu or null if more segments are expected
+     */
+    @Nullable
+    private byte[] reassembleNotification(@NonNull final ProxySarBuffer sarBuffer, final int mtuSize, @NonNull final byte[] data) {
         if (!isGattSegmented(data)) {
-            unsegmentedPdu = data;
-        } else {
-            final byte[] combinedPdu = appendPdu(mtuSize, data);
-            if (combinedPdu == null) {
-                //Start the timer
-                toggleProxyProtocolSarTimeOut(data);
-                return;
-            } else {
-                toggleProxyProtocolSarTimeOut(data);
-                unsegmentedPdu = removeSegmentation(mtuSize, combinedPdu);
-            }
+            return data;
+        }
+        final byte[] combinedPdu = sarBuffer.appendNotification(mtuSize, data);
+        //Start or stop the timer
+        toggleProxyProtocolSarTimeOut(sarBuffer, data);
+        if (combinedPdu == null) {
+            return null;
         }
-        parseNotifications(unsegmentedPdu);
+        return removeSegmentation(mtuSize, combinedPdu);
     }
 
     /**
-     * Toggles the Segmentation and Reassembly timeout for proxy configuration messages received via proxy protocol
+     * Toggles the Segmentation and Reassembly timeout for proxy configuration messages received via proxy protocol.
+     * Each proxy connection has its own timeout.
      *
-     * @param data pdu
+     * @param sarBuffer SAR buffers of the proxy connection the pdu was received over
+     * @param data      pdu
      */
-    private void toggleProxyProtocolSarTimeOut(final byte[] data) {
+    private void toggleProxyProtocolSarTimeOut(@NonNull final ProxySarBuffer sarBuffer, final byte[] data) {
         final int pduType = MeshParserUtils.unsignedByteToInt(data[0]);
+        final Runnable timeout = sarBuffer.getTimeout(mProxyProtocolTimeoutRunnable);
         if (pduType == ((GATT_SAR_START << SAR_BIT_OFFSET) | MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION)) {
-            mHandler.postDelayed(mProxyProtocolTimeoutRunnable, PROXY_SAR_TRANSFER_TIME_OUT);
+            mHandler.postDelayed(timeout, PROXY_SAR_TRANSFER_TIME_OUT);
         } else if (pduType == ((GATT_SAR_END << SAR_BIT_OFFSET) | MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION)) {
-            mHandler.removeCallbacks(mProxyProtocolTimeoutRunnable);
+            mHandler.removeCallbacks(timeout);
         }
     }
 
@@ -390,7 +589,7 @@ public class MeshManagerApi implements MeshMngrApi {
                     break;
             }
         } catch (ExtendedInvalidCipherTextException ex) {
-            //TODO handle decryption failure
+            MeshLogger.warn(TAG, "Decryption failed in " + ex.getTag() + " : " + ex.getMessage());
         } catch (IllegalArgumentException ex) {
             MeshLogger.error(TAG, "Parsing notification failed: " + MeshParserUtils.bytesToHex(unsegmentedPdu, true) + " - " + ex.getMessage());
         }
@@ -398,18 +597,39 @@ public class MeshManagerApi implements MeshMngrApi {
 
     @Override
     public final void handleWriteCallbacks(final int mtuSize, @NonNull final byte[] data) {
-        byte[] unsegmentedPdu;
+        final byte[] unsegmentedPdu = reassembleWrite(mProxySarBuffer, mtuSize, data);
+        if (unsegmentedPdu != null) {
+            handleWriteCallbacks(unsegmentedPdu);
+        }
+    }
+
+    @Override
+    public final void handleWriteCallbacks(@NonNull final ProxyBearer bearer, final int mtuSize, @NonNull final byte[] data) {
+        final ProxySarBuffer sarBuffer = mProxyBearerManager.getSarBuffer(bearer);
+        if (sarBuffer == null)
+            return;
+        final byte[] unsegmentedPdu = reassembleWrite(sarBuffer, mtuSize, data);
+        if (unsegmentedPdu != null) {
+            mProxyBearerManager.onPduWritten(bearer);
+            handleWriteCallbacks(unsegmentedPdu);
+        }
+    }
+
+    /**
+     * Reassembles a written pdu segmented at the GATT layer.
+     *
+     * @return the unsegmented pdu or null if more segments are expected
+     */
+    @Nullable
+    private byte[] reassembleWrite(@NonNull final ProxySarBuffer sarBuffer, final int mtuSize, @NonNull final byte[] data) {
         if (!isGattSegmented(data)) {
-            unsegmentedPdu = data;
-        } else {
-            final byte[] combinedPdu = appendWritePdu(mtuSize, data);
-            if (combinedPdu == null)
-                return;
-            else {
-                unsegmentedPdu = removeSegmentation(mtuSize, combinedPdu);
-            }
+            return data;
+        }
+        final byte[] combinedPdu = sarBuffer.appendWrite(mtuSize, data);
+        if (combinedPdu == null) {
+            return null;
         }
-        handleWriteCallbacks(unsegmentedPdu);
+        return removeSegmentation(mtuSize, combinedPdu);
     }
 
     /**
@@ -421,12 +641,15 @@ public class MeshManagerApi implements MeshMngrApi {
         switch (data[0]) {
             case PDU_TYPE_NETWORK: // MeshNetwork PDU
                 MeshLogger.verbose(TAG, "MeshNetwork pdu sent: " + MeshParserUtils.bytesToHex(data, true));
+                // Returns the credit of the PDU to the outbound queue when pacing limits the PDUs in flight
+                mOutboundQueue.onPduSent();
                 break;
             case PDU_TYPE_MESH_BEACON: // MESH BEACON
                 MeshLogger.verbose(TAG, "Mesh beacon pdu sent: " + MeshParserUtils.bytesToHex(data, true));
                 break;
             case PDU_TYPE_PROXY_CONFIGURATION: // Proxy configuration
                 MeshLogger.verbose(TAG, "Proxy configuration pdu sent: " + MeshParserUtils.bytesToHex(data, true));
+                mOutboundQueue.onPduSent();
                 break;
             case PDU_TYPE_PROVISIONING: // Provisioning PDU
                 MeshLogger.verbose(TAG, "Provisioning pdu sent: " + MeshParserUtils.bytesToHex(data, true));
@@ -448,65 +671,8 @@ public class MeshManagerApi implements MeshMngrApi {
         }
     }
 
-    /**
-     * Appends the PDUs that are segmented at gatt layer.
-     *
-     * @param mtuSize mtu size supported by the device/node
-     * @param pdu     pdu received by the provisioner
-     * @return the combine pdu or returns null if not complete.
-     */
-    private byte[] appendPdu(final int mtuSize, final byte[] pdu) {
-        final int length = Math.min(pdu.length, mtuSize);
-        if (mIncomingBuffer == null) {
-            mIncomingBufferOffset = 0;
-            mIncomingBufferOffset += length;
-            mIncomingBuffer = pdu;
-        } else {
-            final byte[] buffer = new byte[mIncomingBuffer.length + length];
-            System.arraycopy(mIncomingBuffer, 0, buffer, 0, mIncomingBufferOffset);
-            System.arraycopy(pdu, 0, buffer, mIncomingBufferOffset, length);
-            mIncomingBufferOffset += length;
-            mIncomingBuffer = buffer;
-            final int sar = MeshParserUtils.unsignedByteToInt(pdu[0]) >> SAR_BIT_OFFSET;
-            if (sar == GATT_SAR_END) {
-                final byte[] packet = mIncomingBuffer;
-                mIncomingBuffer = null;
-                return packet;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Appends the PDUs that are segmented at gatt layer.
-     *
-     * @param mtuSize mtu size supported by the device/node
-     * @param pdu     pdu received by the provisioner
-     * @return the combine pdu or returns null if not complete.
-     */
-    private byte[] appendWritePdu(final int mtuSize, final byte[] pdu) {
-        if (mOutgoingBuffer == null) {
-            final int length = Math.min(pdu.length, mtuSize);
-            mOutgoingBufferOffset = 0;
-            mOutgoingBufferOffset += length;
-            mOutgoingBuffer = pdu;
-        } else {
-            final int length = Math.min(pdu.length, mtuSize);
-            final byte[] buffer = new byte[mOutgoingBuffer.length + length];
-            System.arraycopy(mOutgoingBuffer, 0, buffer, 0, mOutgoingBufferOffset);
-            System.arraycopy(pdu, 0, buffer, mOutgoingBufferOffset, length);
-            mOutgoingBufferOffset += length;
-            mOutgoingBuffer = buffer;
-            if (length < mtuSize) {
-                final byte[] packet = mOutgoingBuffer;
-                mOutgoingBuffer = null;
-                return packet;
-            }
-        }
-        return null;
-    }
-
-    private byte[] applySegmentation(final int mtuSize, final byte[] pdu) {
+    @VisibleForTesting
+    static byte[] applySegmentation(final int mtuSize, final byte[] pdu) {
         int srcOffset = 0;
         int dstOffset = 0;
         final int chunks = (pdu.length + (mtuSize - 1)) / mtuSize;
@@ -537,7 +703,8 @@ public class MeshManagerApi implements MeshMngrApi {
         return pdu;
     }
 
-    private byte[] removeSegmentation(final int mtuSize, final byte[] data) {
+    @VisibleForTesting
+    static byte[] removeSegmentation(final int mtuSize, final byte[] data) {
         int srcOffset = 0;
         int dstOffset = 0;
         final int chunks = (data.length + (mtuSize - 1)) / mtuSize;
@@ -684,29 +851,16 @@ public class MeshManagerApi implements MeshMngrApi {
 
     @Override
     public boolean nodeIdentityMatches(@NonNull final ProvisionedMeshNode meshNode, @NonNull final byte[] serviceData) {
-        final byte[] advertisedHash = getAdvertisedHash(serviceData);
-        //If there is no advertised hash return false as this is used to match against the generated hash
-        if (advertisedHash == null) {
-            return false;
-        }
-
-        //If there is no advertised random return false as this is used to generate the hash to match against the advertised
-        final byte[] random = getAdvertisedRandom(serviceData);
-        if (random == null) {
-            return false;
-        }
-
-        for (NetworkKey key : mMeshNetwork.netKeys) {
-            if (Arrays.equals(advertisedHash, SecureUtils.
-                    calculateHash(key.getIdentityKey(), random, MeshAddress.addressIntToBytes(meshNode.getUnicastAddress()))) ||
-                    (key.getOldIdentityKey() != null &&
-                            Arrays.equals(advertisedHash, SecureUtils.
-                                    calculateHash(key.getOldIdentityKey(), random, MeshAddress.addressIntToBytes(meshNode.getUnicastAddress())))))
-                return true;
-        }
-        return false;
+        return mMeshNetwork != null && mNodeIdentityResolver.matches(mMeshNetwork, meshNode, serviceData);
     }
 
+    @Nullable
+    @Override
+    public ProvisionedMeshNode resolveNodeIdentity(@NonNull final byte[] serviceData) {
+        if (mMeshNetwork == null || !isAdvertisedWithNodeIdentity(serviceData))
+            return null;
+        return mNodeIdentityResolver.resolve(mMeshNetwork, serviceData, System.currentTimeMillis());
+    }
 
     @Override
     public boolean isAdvertisedWithNodeIdentity(@Nullable final byte[] serviceData) {
@@ -714,34 +868,6 @@ public class MeshManagerApi implements MeshMngrApi {
                 && serviceData[ADVERTISED_HASH_OFFSET - 1] == ADVERTISEMENT_TYPE_NODE_IDENTITY;
     }
 
-    /**
-     * Returns the advertised hash
-     *
-     * @param serviceData advertised service data
-     * @return returns the advertised hash
-     */
-    private byte[] getAdvertisedHash(final byte[] serviceData) {
-        if (serviceData == null)
-            return null;
-        final ByteBuffer expectedBufferHash = ByteBuffer.allocate(ADVERTISED_HASH_LENGTH).order(ByteOrder.BIG_ENDIAN);
-        expectedBufferHash.put(serviceData, ADVERTISED_HASH_OFFSET, ADVERTISED_HASH_LENGTH);
-        return expectedBufferHash.array();
-    }
-
-    /**
-     * Returns the advertised random
-     *
-     * @param serviceData advertised service data
-     * @return returns the advertised random
-     */
-    private byte[] getAdvertisedRandom(final byte[] serviceData) {
-        if (serviceData == null || serviceData.length <= ADVERTISED_RANDOM_LENGTH)
-            return null;
-        final ByteBuffer expectedBufferHash = ByteBuffer.allocate(ADVERTISED_RANDOM_LENGTH).order(ByteOrder.BIG_ENDIAN);
-        expectedBufferHash.put(serviceData, ADVERTISED_RANDOM_OFFSET, ADVERTISED_RANDOM_LENGTH);
-        return expectedBufferHash.array();
-    }
-
     @Override
     public boolean networkIdMatches(@NonNull final String networkId, @Nullable final byte[] serviceData) {
         final byte[] advertisedNetworkId = getAdvertisedNetworkId(serviceData);
@@ -754,14 +880,8 @@ public class MeshManagerApi implements MeshMngrApi {
 
     @Override
     public boolean networkIdMatches(@Nullable final byte[] serviceData) {
-        final byte[] advertisedNetworkId = getAdvertisedNetworkId(serviceData);
-        if (advertisedNetworkId != null) {
-            for (NetworkKey key : mMeshNetwork.getNetKeys()) {
-                if (Arrays.equals(key.getNetworkId(), advertisedNetworkId) || Arrays.equals(key.getOldNetworkId(), advertisedNetworkId))
-                    return true;
-            }
-        }
-        return false;
+        return serviceData != null && mMeshNetwork != null
+                && mNetworkIdFilter.matches(mMeshNetwork, serviceData, ADVERTISED_NETWORK_ID_OFFSET);
     }
 
     @Override
@@ -800,6 +920,7 @@ public class MeshManagerApi implements MeshMngrApi {
         final MeshNetwork newMeshNetwork = generateMeshNetwork();
         newMeshNetwork.setCallbacks(callbacks);
         insertNetwork(newMeshNetwork);
+        resetNetworkState();
         mMeshNetwork = newMeshNetwork;
         mMeshManagerCallbacks.onNetworkLoaded(newMeshNetwork);
     }
@@ -816,6 +937,7 @@ public class MeshManagerApi implements MeshMngrApi {
         final MeshNetwork newMeshNetwork = generateMeshNetwork();
         newMeshNetwork.setCallbacks(callbacks);
         insertNetwork(newMeshNetwork);
+        resetNetworkState();
         mMeshNetwork = newMeshNetwork;
         mMeshManagerCallbacks.onNetworkLoaded(newMeshNetwork);
     }
@@ -879,6 +1001,96 @@ public class MeshManagerApi implements MeshMngrApi {
 
     @Override
     public void createMeshPdu(final int dst, @NonNull final MeshMessage meshMessage) {
+        if (!MeshAddress.isAddressInRange(dst)) {
+            throw new IllegalArgumentException("Invalid address, destination address must be a valid 16-bit value.");
+        }
+        if (rejectIfQueueFull(dst, meshMessage))
+            return;
+        mProxyFilterManager.onApplicationMessage(mMeshNetwork, meshMessage);
+        mCommandCoalescer.send(dst, meshMessage);
+    }
+
+    /**
+     * Sends a message released by the command coalescer, which may have been held back until the queue filled up.
+     */
+    private void sendCoalescedMeshPdu(final int dst, @NonNull final MeshMessage meshMessage) {
+        if (rejectIfQueueFull(dst, meshMessage))
+            return;
+        sendMeshPdu(dst, meshMessage);
+    }
+
+    /**
+     * Reports a message of the application as rejected if the outbound queue is full.
+     *
+     * @return true if the message was rejected
+     */
+    private boolean rejectIfQueueFull(final int dst, @NonNull final MeshMessage meshMessage) {
+        if (!mOutboundQueue.isFull())
+            return false;
+        MeshLogger.warn(TAG, "Outbound queue full, message to " + MeshAddress.formatAddress(dst, true) + " rejected");
+        final OutboundQueueCallbacks callbacks = mOutboundQueueCallbacks;
+        if (callbacks != null) {
+            callbacks.onMeshMessageRejected(dst, meshMessage);
+        }
+        return true;
+    }
+
+    @Override
+    public void setCommandCoalescingInterval(final long interval) {
+        mCommandCoalescer.setMinInterval(interval);
+    }
+
+    @Override
+    public void setOutboundPacing(final int maxInFlight, final long minInterval) {
+        mOutboundQueue.setPacing(maxInFlight, minInterval);
+    }
+
+    @Override
+    public boolean isOutboundQueueFull() {
+        return mOutboundQueue.isFull();
+    }
+
+    @Override
+    public void setOutboundQueueCallbacks(@Nullable final OutboundQueueCallbacks callbacks) {
+        mOutboundQueueCallbacks = callbacks;
+        mOutboundQueue.setListener(callbacks);
+    }
+
+    /**
+     * Hands a network PDU released by the outbound queue to the proxy bearers, or to the app segmented to the MTU.
+     */
+    private void deliverMeshPdu(final int dst, @NonNull final byte[] pdu) {
+        if (!mProxyBearerManager.isEmpty()) {
+            mProxyBearerManager.send(dst, pdu, System.currentTimeMillis());
+            return;
+        }
+        final int mtu = mMeshManagerCallbacks.getMtu();
+        capture(PduTraceRecord.DIRECTION_OUT, PduTraceRecord.DEFAULT_BEARER, mtu, pdu);
+        mMeshManagerCallbacks.onMeshPduCreated(applySegmentation(mtu, pdu));
+    }
+
+    /**
+     * Creates the PDUs of a message and sends them right away, bypassing the command coalescing used by
+     * {@link #createMeshPdu(int, MeshMessage)}.
+     * <p>
+     * Messages are dropped while the outbound queue is full, as if they were lost on the way: group transactions and
+     * the Key Refresh Procedure send them again after their timeout and repeated messages are sent with the next
+     * transmission. Proxy configuration messages are sent with {@link #createMeshMessage(int, MeshMessage)} instead,
+     * as the proxy filter sends a single PDU at a time and waits for its Filter Status before sending the next one.
+     * </p>
+     */
+    private void sendMeshPdu(final int dst, @NonNull final MeshMessage meshMessage) {
+        if (mOutboundQueue.isFull()) {
+            MeshLogger.warn(TAG, "Outbound queue full, message to " + MeshAddress.formatAddress(dst, true) + " dropped");
+            return;
+        }
+        createMeshMessage(dst, meshMessage);
+    }
+
+    /**
+     * Creates the PDUs of a message and queues them regardless of the size of the outbound queue.
+     */
+    private void createMeshMessage(final int dst, @NonNull final MeshMessage meshMessage) {
         if (!MeshAddress.isAddressInRange(dst)) {
             throw new IllegalArgumentException("Invalid address, destination address must be a valid 16-bit value.");
         }
@@ -897,6 +1109,127 @@ public class MeshManagerApi implements MeshMngrApi {
         }
     }
 
+    @NonNull
+    @Override
+    public GroupTransaction sendGroupMessage(@NonNull final Group group,
+                                             @NonNull final MeshMessage meshMessage,
+                                             final int modelId,
+                                             final int statusOpCode,
+                                             @NonNull final GroupTransactionCallbacks callbacks) {
+        return sendGroupMessage(group, meshMessage, modelId, statusOpCode,
+                DEFAULT_GROUP_TRANSACTION_TIMEOUT, DEFAULT_GROUP_TRANSACTION_RETRIES, callbacks);
+    }
+
+    @NonNull
+    @Override
+    public GroupTransaction sendGroupMessage(@NonNull final Group group,
+                                             @NonNull final MeshMessage meshMessage,
+                                             final int modelId,
+                                             final int statusOpCode,
+                                             final long timeout,
+                                             final int retries,
+                                             @NonNull final GroupTransactionCallbacks callbacks) {
+        if (timeout <= 0)
+            throw new IllegalArgumentException("Timeout must be greater than 0");
+        if (retries < 0)
+            throw new IllegalArgumentException("Retries must not be negative");
+        if (mMeshNetwork == null)
+            throw new IllegalStateException("Mesh network not loaded");
+        final List<Integer> addresses = mMeshNetwork.getSubscribedElementAddresses(group, modelId);
+        final int[] expectedResponders = new int[addresses.size()];
+        for (int i = 0; i < expectedResponders.length; i++) {
+            expectedResponders[i] = addresses.get(i);
+        }
+        final GroupTransaction transaction = new GroupTransaction(group.getAddress(), meshMessage, statusOpCode,
+                expectedResponders, timeout, retries);
+        mGroupTransactionManager.start(transaction, callbacks);
+        return transaction;
+    }
+
+    @NonNull
+    @Override
+    public ModelStateCache getModelStateCache() {
+        return mModelStateCache;
+    }
+
+    @Override
+    public void setSensorHistory(@Nullable final SensorHistory sensorHistory) {
+        mSensorHistory = sensorHistory;
+    }
+
+    /**
+     * Drops the state kept for the previous network before another network is loaded, created or imported: the model
+     * states, the sensor history, the running group transactions and Key Refresh Procedures, and the messages still
+     * waiting to be repeated, coalesced or sent.
+     */
+    private void resetNetworkState() {
+        mModelStateCache.clear();
+        final SensorHistory sensorHistory = mSensorHistory;
+        if (sensorHistory != null) {
+            sensorHistory.clear();
+        }
+        mGroupTransactionManager.cancelAll();
+        mKeyRefreshManager.cancelAll();
+        mUnacknowledgedRepeater.cancelAll();
+        mCommandCoalescer.clear();
+        mOutboundQueue.clear();
+    }
+
+    @Override
+    public void startKeyRefresh(@NonNull final NetworkKey networkKey, @NonNull final KeyRefreshCallbacks callbacks) {
+        startKeyRefresh(networkKey, KeyRefreshManager.DEFAULT_MAX_IN_FLIGHT, KeyRefreshManager.DEFAULT_TIMEOUT,
+                KeyRefreshManager.DEFAULT_RETRIES, callbacks);
+    }
+
+    @Override
+    public void startKeyRefresh(@NonNull final NetworkKey networkKey,
+                                final int maxInFlight,
+                                final long timeout,
+                                final int retries,
+                                @NonNull final KeyRefreshCallbacks callbacks) {
+        if (maxInFlight <= 0)
+            throw new IllegalArgumentException("Number of nodes configured at a time must be greater than 0");
+        if (timeout <= 0)
+            throw new IllegalArgumentException("Timeout must be greater than 0");
+        if (retries < 0)
+            throw new IllegalArgumentException("Retries must not be negative");
+        if (mMeshNetwork == null)
+            throw new IllegalStateException("Mesh network not loaded");
+        mKeyRefreshManager.start(mMeshNetwork, networkKey, maxInFlight, timeout, retries, callbacks);
+    }
+
+    @Override
+    public boolean cancelKeyRefresh(@NonNull final NetworkKey networkKey) {
+        return mKeyRefreshManager.cancel(networkKey);
+    }
+
+    @NonNull
+    @Override
+    public MeshMessage sendUnacknowledged(final int dst, @NonNull final UnacknowledgedMessageFactory factory) {
+        return sendUnacknowledged(dst, factory, UnacknowledgedRepeater.DEFAULT_TRANSMISSIONS,
+                UnacknowledgedRepeater.DEFAULT_INTERVAL, UnacknowledgedRepeater.DEFAULT_JITTER);
+    }
+
+    @NonNull
+    @Override
+    public MeshMessage sendUnacknowledged(final int dst,
+                                          @NonNull final UnacknowledgedMessageFactory factory,
+                                          final int transmissions,
+                                          final long interval,
+                                          final long jitter) {
+        if (mMeshNetwork == null)
+            throw new IllegalStateException("Mesh network not loaded");
+        final Provisioner provisioner = mMeshNetwork.getSelectedProvisioner();
+        if (provisioner == null || provisioner.getProvisionerAddress() == null)
+            throw new IllegalArgumentException("Provisioner address not set, please assign an address to the provisioner.");
+        return mUnacknowledgedRepeater.send(provisioner.getProvisionerAddress(), dst, factory, transmissions, interval, jitter);
+    }
+
+    @Override
+    public boolean cancelUnacknowledged(final int dst) {
+        return mUnacknowledgedRepeater.cancel(dst);
+    }
+
     @Override
     public String exportMeshNetwork() {
         try {
@@ -961,6 +1294,7 @@ public class MeshManagerApi implements MeshMngrApi {
             }
             mMeshNetworkDb.update(mMeshNetworkDao, importedNetwork, false);
             insertNetwork(importedNetwork);
+            resetNetworkState();
             mMeshNetwork = importedNetwork;
             mMeshManagerCallbacks.onNetworkImported(importedNetwork);
             isNetworkImportInProgress = false;
@@ -995,27 +1329,65 @@ public class MeshManagerApi implements MeshMngrApi {
         }
 
         @Override
-        public void onMeshPduCreated(final int dst, final byte[] pdu) {
+        public void onMeshPduCreated(final int dst, final byte[] pdu, final int priority) {
             //We must save the mesh network state for every message that is being sent out.
             //This will specifically save the sequence number for every message sent.
             final ProvisionedMeshNode meshNode = mMeshNetwork.getNode(dst);
-            updateNetwork(meshNode);
-            final int mtu = mMeshManagerCallbacks.getMtu();
-            mMeshManagerCallbacks.onMeshPduCreated(applySegmentation(mtu, pdu));
+            final Provisioner provisioner = mMeshNetwork.getSelectedProvisioner();
+            if (provisioner != null && provisioner.getProvisionerAddress() != null) {
+                mNetworkChangeCoalescer.nodeChanged(provisioner.getProvisionerAddress());
+            }
+            if (meshNode == null && (MeshAddress.isValidGroupAddress(dst) || MeshAddress.isValidVirtualAddress(dst))) {
+                // Only the sequence number of the provisioner changes when sending to a group
+                saveNetwork();
+            } else {
+                updateNetwork(meshNode);
+            }
+            // PDUs to different elements of a node share its replay protection and must not be reordered
+            final int node;
+            if (meshNode != null) {
+                node = meshNode.getUnicastAddress();
+            } else if (dst == MeshAddress.UNASSIGNED_ADDRESS || MeshAddress.isValidUnicastAddress(dst)) {
+                node = dst;
+            } else {
+                node = OutboundQueue.ANY_NODE;
+            }
+            mOutboundQueue.enqueue(dst, node, priority, pdu);
         }
 
         @Override
         public ProxyFilter getProxyFilter() {
-            return mMeshNetwork.getProxyFilter();
+            // A Filter Status received over a proxy connection updates the filter of that connection
+            final ProxyFilter filter = mProxyBearerManager.getReceivingProxyFilter();
+            return filter != null ? filter : mMeshNetwork.getProxyFilter();
         }
 
         @Override
         public void setProxyFilter(@NonNull final ProxyFilter filter) {
-            mMeshNetwork.setProxyFilter(filter);
+            if (mProxyBearerManager.setReceivingProxyFilter(filter)) {
+                // The network keeps the filter last confirmed, which every connection converges to
+                final ProxyFilter copy = new ProxyFilter(filter.getFilterType());
+                for (int address : filter.getAddressValues()) {
+                    copy.addAddress(address);
+                }
+                mMeshNetwork.setProxyFilter(copy);
+            } else {
+                mMeshNetwork.setProxyFilter(filter);
+            }
         }
 
         @Override
         public void updateMeshNetwork(final MeshMessage message) {
+            mGroupTransactionManager.onMessageReceived(message);
+            mKeyRefreshManager.onMessageReceived(message);
+            final long now = System.currentTimeMillis();
+            mModelStateCache.update(message, now);
+            final SensorHistory sensorHistory = mSensorHistory;
+            if (sensorHistory != null) {
+                sensorHistory.update(message, now);
+            }
+            mProxyFilterManager.onMessageReceived(mMeshNetwork, message);
+            mProxyBearerManager.onMessageReceived(message.getSrc());
             final ProvisionedMeshNode meshNode = mMeshNetwork.getNode(message.getSrc());
             updateNetwork(meshNode);
         }
@@ -1024,6 +1396,13 @@ public class MeshManagerApi implements MeshMngrApi {
         public void onMeshNodeReset(final ProvisionedMeshNode meshNode) {
             if (meshNode != null) {
                 mMeshNetwork.deleteNode(meshNode);
+                final SensorHistory sensorHistory = mSensorHistory;
+                for (int elementAddress : meshNode.getElements().keySet()) {
+                    mModelStateCache.remove(elementAddress);
+                    if (sensorHistory != null) {
+                        sensorHistory.remove(elementAddress);
+                    }
+                }
             }
         }
 
@@ -1042,6 +1421,7 @@ public class MeshManagerApi implements MeshMngrApi {
             final Scene scene = mMeshNetwork.getScene(currentScene);
             if (scene != null && !scene.getAddresses().contains(address)) {
                 scene.addresses.add(address);
+                mNetworkChangeCoalescer.sceneChanged(currentScene);
             }
         }
 
@@ -1050,21 +1430,29 @@ public class MeshManagerApi implements MeshMngrApi {
             final Scene scene = mMeshNetwork.getScene(currentScene);
             if (scene != null && scene.getAddresses().contains(address)) {
                 scene.addresses.remove((Integer) address);
+                mNetworkChangeCoalescer.sceneChanged(currentScene);
             }
         }
 
         private void updateNetwork(final ProvisionedMeshNode meshNode) {
             if (meshNode != null) {
+                mNetworkChangeCoalescer.nodeChanged(meshNode.getUnicastAddress());
                 for (int i = 0; i < mMeshNetwork.nodes.size(); i++) {
                     if (meshNode.getUnicastAddress() == mMeshNetwork.nodes.get(i).getUnicastAddress()) {
                         mMeshNetwork.nodes.set(i, meshNode);
                         break;
                     }
                 }
+            } else {
+                mNetworkChangeCoalescer.networkChanged();
             }
+            saveNetwork();
+        }
+
+        private void saveNetwork() {
             mMeshNetworkDb.update(mMeshNetwork, mMeshNetworkDao, mNetworkKeysDao, mApplicationKeysDao, mProvisionersDao, mProvisionedNodesDao,
                     mGroupsDao, mScenesDao);
-            mMeshManagerCallbacks.onNetworkUpdated(mMeshNetwork);
+            mNetworkChangeCoalescer.dispatch();
         }
     };
 
@@ -1093,7 +1481,9 @@ public class MeshManagerApi implements MeshMngrApi {
             mMeshNetworkDb.insert(mProvisionedNodeDao, meshNode);
             mMeshNetworkDb.update(mProvisionerDao,
                     mMeshNetwork.getSelectedProvisioner());
-            mMeshManagerCallbacks.onNetworkUpdated(mMeshNetwork);
+            mNetworkChangeCoalescer.nodeChanged(meshNode.getUnicastAddress());
+            mNetworkChangeCoalescer.provisionerChanged(mMeshNetwork.getSelectedProvisioner().getProvisionerUuid());
+            mNetworkChangeCoalescer.dispatch();
         }
 
         private void updateProvisionedNodeList(final ProvisionedMeshNode meshNode) {
@@ -1158,6 +1548,11 @@ public class MeshManagerApi implements MeshMngrApi {
         public List<NetworkKey> getNetworkKeys() {
             return mMeshNetwork.getNetKeys();
         }
+
+        @Override
+        public boolean isDuplicateNetworkPdu(final int ivIndex, final int src, final int sequenceNumber) {
+            return mProxyBearerManager.isDuplicate(ivIndex, src, sequenceNumber);
+        }
     };
 
     @SuppressWarnings("FieldCanBeLocal")
@@ -1218,6 +1613,7 @@ public class MeshManagerApi implements MeshMngrApi {
                 network.loadSequenceNumbers();
             }
             network.setCallbacks(callbacks);
+            resetNetworkState();
             mMeshNetwork = network;
             mMeshManagerCallbacks.onNetworkLoaded(network);
         }
@@ -1238,7 +1634,8 @@ public class MeshManagerApi implements MeshMngrApi {
         mMeshNetworkDb.deleteNode(mProvisionedNodeDao, meshNode);
         mMeshNetwork.setTimestamp(System.currentTimeMillis());
         mMeshNetworkDb.update(mMeshNetworkDao, mMeshNetwork);
-        mMeshManagerCallbacks.onNetworkUpdated(mMeshNetwork);
+        mNetworkChangeCoalescer.nodeChanged(meshNode.getUnicastAddress());
+        mNetworkChangeCoalescer.dispatch();
     }
 
     /**
@@ -1247,69 +1644,86 @@ public class MeshManagerApi implements MeshMngrApi {
     private final MeshNetworkCallbacks callbacks = new MeshNetworkCallbacks() {
         @Override
         public void onMeshNetworkUpdated() {
+            mNetworkChangeCoalescer.networkChanged();
+            dispatchNetworkUpdated();
+        }
+
+        private void dispatchNetworkUpdated() {
             if (!isNetworkImportInProgress)
                 mMeshNetwork.setTimestamp(System.currentTimeMillis());
             mMeshNetworkDb.update(mMeshNetworkDao, mMeshNetwork);
-            mMeshManagerCallbacks.onNetworkUpdated(mMeshNetwork);
+            mNetworkChangeCoalescer.dispatch();
         }
 
         @Override
         public void onNetworkKeyAdded(@NonNull final NetworkKey networkKey) {
             mMeshNetworkDb.insert(mNetworkKeyDao, networkKey);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.netKeyChanged(networkKey.getKeyIndex());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onNetworkKeyUpdated(@NonNull final NetworkKey networkKey) {
             mMeshNetworkDb.update(mNetworkKeyDao, networkKey);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.netKeyChanged(networkKey.getKeyIndex());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onNetworkKeyDeleted(@NonNull final NetworkKey networkKey) {
             mMeshNetworkDb.delete(mNetworkKeyDao, networkKey);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.netKeyChanged(networkKey.getKeyIndex());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onApplicationKeyAdded(@NonNull final ApplicationKey applicationKey) {
             mMeshNetworkDb.insert(mApplicationKeyDao, applicationKey);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.appKeyChanged(applicationKey.getKeyIndex());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onApplicationKeyUpdated(@NonNull final ApplicationKey applicationKey) {
             mMeshNetworkDb.update(mApplicationKeyDao, applicationKey);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.appKeyChanged(applicationKey.getKeyIndex());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onApplicationKeyDeleted(@NonNull final ApplicationKey applicationKey) {
             mMeshNetworkDb.delete(mApplicationKeyDao, applicationKey);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.appKeyChanged(applicationKey.getKeyIndex());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onProvisionerAdded(@NonNull final Provisioner provisioner) {
             mMeshNetworkDb.insert(mProvisionerDao, provisioner);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.provisionerChanged(provisioner.getProvisionerUuid());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onProvisionerUpdated(@NonNull final Provisioner provisioner) {
             mMeshNetworkDb.update(mProvisionerDao, provisioner);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.provisionerChanged(provisioner.getProvisionerUuid());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onProvisionersUpdated(@NonNull final List<Provisioner> provisioners) {
             mMeshNetworkDb.update(mProvisionerDao, provisioners);
-            onMeshNetworkUpdated();
+            for (Provisioner provisioner : provisioners) {
+                mNetworkChangeCoalescer.provisionerChanged(provisioner.getProvisionerUuid());
+            }
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onProvisionerDeleted(@NonNull Provisioner provisioner) {
             mMeshNetworkDb.delete(mProvisionerDao, provisioner);
+            mNetworkChangeCoalescer.provisionerChanged(provisioner.getProvisionerUuid());
             // Network update is invoked independent in the case of node deletion or provisioner deletion
             // onMeshNetworkUpdated();
         }
@@ -1324,6 +1738,7 @@ public class MeshManagerApi implements MeshMngrApi {
             // mMeshNetwork.sequenceNumbers.delete(meshNode.getUnicastAddress());
             mMeshNetworkDb.deleteNode(mProvisionedNodeDao, meshNode);
             mMeshMessageHandler.resetState(meshNode.getUnicastAddress());
+            mNetworkChangeCoalescer.nodeChanged(meshNode.getUnicastAddress());
             // Network update is invoked independent in the case of node deletion or provisioner deletion
             // mMeshNetworkDb.update(mMeshNetworkDao, mMeshNetwork);
         }
@@ -1331,49 +1746,57 @@ public class MeshManagerApi implements MeshMngrApi {
         @Override
         public void onNodeAdded(@NonNull final ProvisionedMeshNode meshNode) {
             mMeshNetworkDb.insert(mProvisionedNodeDao, meshNode);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.nodeChanged(meshNode.getUnicastAddress());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onNodeUpdated(@NonNull final ProvisionedMeshNode meshNode) {
             mMeshNetworkDb.update(mProvisionedNodeDao, meshNode);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.nodeChanged(meshNode.getUnicastAddress());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onGroupAdded(@NonNull final Group group) {
             mMeshNetworkDb.insert(mGroupDao, group);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.groupChanged(group.getAddress());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onGroupUpdated(@NonNull final Group group) {
             mMeshNetworkDb.update(mGroupDao, group);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.groupChanged(group.getAddress());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onGroupDeleted(@NonNull final Group group) {
             mMeshNetworkDb.delete(mGroupDao, group);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.groupChanged(group.getAddress());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onSceneAdded(@NonNull final Scene scene) {
             mMeshNetworkDb.insert(mSceneDao, scene);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.sceneChanged(scene.getNumber());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onSceneUpdated(@NonNull final Scene scene) {
             mMeshNetworkDb.update(mSceneDao, scene);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.sceneChanged(scene.getNumber());
+            dispatchNetworkUpdated();
         }
 
         @Override
         public void onSceneDeleted(@NonNull final Scene scene) {
             mMeshNetworkDb.delete(mSceneDao, scene);
-            onMeshNetworkUpdated();
+            mNetworkChangeCoalescer.sceneChanged(scene.getNumber());
+            dispatchNetworkUpdated();
         }
     };
 
@@ -39,7 +39,8 @@ public interface MeshManagerCallbacks {
     /**
      * Returns the network that was updated
      * <p>
-     * This callback is invoked for every message that was sent or received as it changes the contents of the network
+     * This callback is invoked for every message that was sent or received as it changes the contents of the network,
+     * unless the notifications are coalesced using {@link MeshManagerApi#setNetworkUpdateInterval(long)}.
      * </p>
      *
      * @param meshNetwork{@link MeshNetwork that was loaded}
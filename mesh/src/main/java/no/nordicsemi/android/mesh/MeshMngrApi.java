@@ -7,10 +7,17 @@ import java.util.UUID;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import no.nordicsemi.android.mesh.provisionerstates.UnprovisionedMeshNode;
+import no.nordicsemi.android.mesh.sensorhistory.SensorHistory;
+import no.nordicsemi.android.mesh.state.ModelStateCache;
+import no.nordicsemi.android.mesh.trace.PduTraceReplayer;
+import no.nordicsemi.android.mesh.trace.PduTraceWriter;
 import no.nordicsemi.android.mesh.transport.MeshMessage;
 import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
 import no.nordicsemi.android.mesh.utils.InputOOBAction;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
 import no.nordicsemi.android.mesh.utils.OutputOOBAction;
+import no.nordicsemi.android.mesh.utils.ProxyFilter;
+import no.nordicsemi.android.mesh.utils.ProxyFilterType;
 
 interface MeshMngrApi {
 
@@ -35,6 +42,168 @@ interface MeshMngrApi {
      */
     void setMeshStatusCallbacks(@NonNull final MeshStatusCallbacks callbacks);
 
+    /**
+     * Sets the {@link NetworkChangeCallbacks} listener to be notified which parts of the network changed
+     * along with every {@link MeshManagerCallbacks#onNetworkUpdated(MeshNetwork)}.
+     *
+     * @param callbacks callbacks or null to remove the listener
+     */
+    void setNetworkChangeCallbacks(@Nullable final NetworkChangeCallbacks callbacks);
+
+    /**
+     * Sets the minimum interval between two network update notifications.
+     * <p>
+     * By default {@link MeshManagerCallbacks#onNetworkUpdated(MeshNetwork)} is invoked on the calling thread for every
+     * change, which includes every message sent or received. When an interval is set, changes are coalesced and
+     * notified at most once per interval on the main thread, with a {@link NetworkChangeSet} containing all changes
+     * made in the meantime. The network is still persisted immediately for every change.
+     * </p>
+     *
+     * @param interval interval in milliseconds, 0 notifies every change immediately
+     * @throws IllegalArgumentException if the interval is negative
+     */
+    void setNetworkUpdateInterval(final long interval);
+
+    /**
+     * Returns the minimum interval between two network update notifications in milliseconds.
+     */
+    long getNetworkUpdateInterval();
+
+    /**
+     * Sets the limits of the transports and message states kept for the nodes and groups messages are exchanged with.
+     * <p>
+     * Once the limit is reached the least recently used address is evicted, unless it is receiving a segmented
+     * message. Addresses that have not been used within the idle timeout are evicted as well. Evicted transports are
+     * reused for new addresses.
+     * </p>
+     *
+     * @param maxSize     maximum number of addresses kept, 256 by default
+     * @param idleTimeout time in milliseconds after which an unused address is evicted, 5 minutes by default or 0 to
+     *                    evict only once the limit is reached
+     * @throws IllegalArgumentException if the size is less than 1 or the timeout is negative
+     */
+    void setTransportCacheLimits(final int maxSize, final long idleTimeout);
+
+    /**
+     * Returns the number of live transports, one for every address messages are being exchanged with.
+     */
+    int getLiveTransportCount();
+
+    /**
+     * Returns the number of live message states.
+     */
+    int getLiveMessageStateCount();
+
+    /**
+     * Returns the number of transports evicted since the mesh manager was created.
+     */
+    long getEvictedTransportCount();
+
+    /**
+     * Adds a connection to a proxy node, allowing several proxy connections to be used at once.
+     * <p>
+     * Once a connection is added, mesh PDUs are sent over the added connections instead of
+     * {@link MeshManagerCallbacks#onMeshPduCreated(byte[])}. Network PDUs are sent over the connection to the
+     * destination node, or the connection through which the destination was last heard, or the least loaded
+     * connection. Notifications and write callbacks of the connection must be passed to
+     * {@link #handleNotifications(ProxyBearer, int, byte[])} and {@link #handleWriteCallbacks(ProxyBearer, int, byte[])}.
+     * The proxy filter of the new connection is configured as described in {@link #onProxyConnected()}.
+     * </p>
+     *
+     * @param bearer       proxy connection
+     * @param proxyAddress unicast address of the proxy node, or {@link MeshAddress#UNASSIGNED_ADDRESS} if unknown
+     * @throws IllegalArgumentException if the connection has already been added
+     */
+    void addProxyBearer(@NonNull final ProxyBearer bearer, final int proxyAddress);
+
+    /**
+     * Removes a proxy connection that has been closed. Network PDUs recently sent over the connection are sent again
+     * over the remaining connections, or over the next connection added if none remain.
+     *
+     * @param bearer proxy connection
+     */
+    void removeProxyBearer(@NonNull final ProxyBearer bearer);
+
+    /**
+     * Returns the number of proxy connections added.
+     */
+    int getProxyBearerCount();
+
+    /**
+     * Returns the proxy filter of the given proxy connection, an empty inclusion list until the proxy confirms a
+     * filter configuration with a Filter Status.
+     *
+     * @param bearer proxy connection
+     * @return the proxy filter or null if the connection has not been added
+     */
+    @Nullable
+    ProxyFilter getProxyFilter(@NonNull final ProxyBearer bearer);
+
+    /**
+     * Handles notifications received over a proxy connection added with {@link #addProxyBearer(ProxyBearer, int)}.
+     * Network PDUs and beacons already received over another connection are ignored.
+     *
+     * @param bearer  proxy connection
+     * @param mtuSize GATT MTU size
+     * @param data    PDU received by the client
+     */
+    void handleNotifications(@NonNull final ProxyBearer bearer, final int mtuSize, @NonNull final byte[] data);
+
+    /**
+     * Handles write callbacks of a proxy connection added with {@link #addProxyBearer(ProxyBearer, int)}.
+     *
+     * @param bearer  proxy connection
+     * @param mtuSize GATT MTU size
+     * @param data    PDU written by the client
+     */
+    void handleWriteCallbacks(@NonNull final ProxyBearer bearer, final int mtuSize, @NonNull final byte[] data);
+
+    /**
+     * Notifies the library that a connection to a proxy node has been established.
+     * <p>
+     * The proxy filter of a new connection is an empty inclusion list. The library sets the filter type and adds the
+     * addresses given to {@link #addProxyFilterAddresses(int...)}, together with the element addresses of the
+     * provisioner and the groups it is subscribed to when the filter is configured automatically. Changes are batched
+     * into as few proxy configuration messages as possible.
+     * </p>
+     */
+    void onProxyConnected();
+
+    /**
+     * Notifies the library that the connection to the proxy node has been closed.
+     */
+    void onProxyDisconnected();
+
+    /**
+     * Sets whether the element addresses of the provisioner and the groups it is subscribed to are added to the proxy
+     * filter automatically when the filter is an inclusion list. Enabled by default, and switched off when a proxy
+     * filter configuration message is sent with {@link #createMeshPdu(int, MeshMessage)}.
+     *
+     * @param enabled true to configure the proxy filter automatically
+     */
+    void setAutomaticProxyFilterEnabled(final boolean enabled);
+
+    /**
+     * Sets the proxy filter type used for proxy connections.
+     *
+     * @param filterType filter type, an inclusion list by default
+     */
+    void setProxyFilterType(@NonNull final ProxyFilterType filterType);
+
+    /**
+     * Adds addresses to the proxy filter of the current and future proxy connections.
+     *
+     * @param addresses 16-bit unicast, group or virtual addresses
+     */
+    void addProxyFilterAddresses(@NonNull final int... addresses);
+
+    /**
+     * Removes addresses previously added with {@link #addProxyFilterAddresses(int...)} from the proxy filter.
+     *
+     * @param addresses 16-bit unicast, group or virtual addresses
+     */
+    void removeProxyFilterAddresses(@NonNull final int... addresses);
+
     /**
      * Handles notifications received by the client.
      * <p>
@@ -47,6 +216,16 @@ interface MeshMngrApi {
      */
     void handleNotifications(final int mtuSize, @NonNull final byte[] data);
 
+    /**
+     * Sets the writer capturing the PDUs passed to {@link #handleNotifications(int, byte[])} and
+     * {@link #handleNotifications(ProxyBearer, int, byte[])} and the PDUs created by the library, before they are
+     * segmented, along with the MTU and the proxy connection they were received or sent over. The captured trace can
+     * be fed back through a mesh manager with a {@link PduTraceReplayer}.
+     *
+     * @param writer trace writer, or null to stop capturing
+     */
+    void setPduTraceWriter(@Nullable final PduTraceWriter writer);
+
     /**
      * Must be called to handle provisioning states
      *
@@ -176,6 +355,20 @@ interface MeshMngrApi {
      */
     boolean nodeIdentityMatches(@NonNull final ProvisionedMeshNode meshNode, @NonNull final byte[] serviceData);
 
+    /**
+     * Returns the node advertising with the given Node Identity.
+     * <p>
+     * All nodes in the network are matched against the advertisement in a single pass and the result is cached for a
+     * short while, which makes this preferable to calling {@link #nodeIdentityMatches(ProvisionedMeshNode, byte[])}
+     * for every node when scanning.
+     * </p>
+     *
+     * @param serviceData advertised service data
+     * @return the matching node or null if the advertisement does not contain a Node Identity of a node in the network
+     */
+    @Nullable
+    ProvisionedMeshNode resolveNodeIdentity(@NonNull final byte[] serviceData);
+
     /**
      * Checks if the node is advertising with Node Identity
      *
@@ -215,10 +408,203 @@ interface MeshMngrApi {
      * Sends the specified  mesh message specified within the {@link MeshMessage} object
      *
      * @param dst         destination address
+     * <p>
+     * If the queue of PDUs waiting to be sent is full, see {@link #isOutboundQueueFull()}, the message is not sent and
+     * is reported with {@link OutboundQueueCallbacks#onMeshMessageRejected(int, MeshMessage)}.
+     * </p>
+     *
+     * @param dst         destination address
      * @param meshMessage {@link MeshMessage} Mesh message containing the message opcode and message parameters
      */
     void createMeshPdu(final int dst, @NonNull final MeshMessage meshMessage) throws IllegalArgumentException;
 
+    /**
+     * Sets the minimum interval between two state Set messages sent with {@link #createMeshPdu(int, MeshMessage)}
+     * to the same destination with the same opcode, such as the messages sent while a slider is being moved.
+     * <p>
+     * Only the Generic OnOff, Generic Level, Light Lightness, Light CTL and Light HSL Set messages, acknowledged or
+     * not, are coalesced. A message sent within the interval after the previous one is held, replacing any message
+     * already held, and sent once the interval has elapsed, so that only the latest state is sent. The messages
+     * replaced and dropped are counted in {@link no.nordicsemi.android.mesh.metrics.MeshMetrics#COMMANDS_SUPERSEDED}
+     * and {@link no.nordicsemi.android.mesh.metrics.MeshMetrics#COMMANDS_DROPPED}. All other messages, such as Get
+     * messages or Scene Store messages, are sent right away.
+     * </p>
+     *
+     * @param interval interval in milliseconds, 0 to send every message right away, which is the default
+     */
+    void setCommandCoalescingInterval(final long interval);
+
+    /**
+     * Sets the pace at which the network PDUs created are handed to {@link MeshManagerCallbacks#onMeshPduCreated(byte[])}
+     * or to the proxy bearers.
+     * <p>
+     * PDUs waiting to be sent are delivered by priority, segment acknowledgements and proxy configuration messages
+     * first, then application messages and last configuration messages, without a PDU ever overtaking an older PDU
+     * sent to the same node. With a limit on the PDUs in flight, a PDU is in flight until its write is reported with
+     * {@link #handleWriteCallbacks(int, byte[])} or {@link #handleWriteCallbacks(ProxyBearer, int, byte[])}, which
+     * must then be called for every write, otherwise no more PDUs are sent once the limit is reached. While the queue
+     * is full the messages passed to {@link #createMeshPdu(int, MeshMessage)} are rejected, see
+     * {@link OutboundQueueCallbacks#onMeshMessageRejected(int, MeshMessage)}.
+     * </p>
+     *
+     * @param maxInFlight maximum number of PDUs delivered and not yet reported sent, 0 for no limit, which is the default
+     * @param minInterval minimum time between two PDUs in milliseconds, 0 for none, which is the default
+     */
+    void setOutboundPacing(final int maxInFlight, final long minInterval);
+
+    /**
+     * Returns true if the queue of PDUs waiting to be sent is full and no message can be sent.
+     */
+    boolean isOutboundQueueFull();
+
+    /**
+     * Sets the callbacks notified when the queue of PDUs waiting to be sent fills up and drains.
+     *
+     * @param callbacks {@link OutboundQueueCallbacks} or null to remove them
+     */
+    void setOutboundQueueCallbacks(@Nullable final OutboundQueueCallbacks callbacks);
+
+    /**
+     * Sends an acknowledged message to a group and tracks the responses of the subscribed elements using the default
+     * timeout and number of retries.
+     *
+     * @see #sendGroupMessage(Group, MeshMessage, int, int, long, int, GroupTransactionCallbacks)
+     */
+    @NonNull
+    GroupTransaction sendGroupMessage(@NonNull final Group group,
+                                      @NonNull final MeshMessage meshMessage,
+                                      final int modelId,
+                                      final int statusOpCode,
+                                      @NonNull final GroupTransactionCallbacks callbacks) throws IllegalArgumentException;
+
+    /**
+     * Sends an acknowledged message to a group and tracks the responses of the subscribed elements.
+     * <p>
+     * The expected responders are the elements containing the model with the given identifier subscribed to the
+     * group. Elements that did not respond with the given status within the timeout are sent the same message
+     * to their unicast address, up to the given number of retries. The unicast messages are sent 100 ms apart and
+     * the timeout doubles after each retry, up to 8 times the given timeout. The statuses are still delivered through
+     * {@link MeshStatusCallbacks#onMeshMessageReceived(int, MeshMessage)}.
+     * </p>
+     *
+     * @param group        group to send the message to
+     * @param meshMessage  acknowledged {@link MeshMessage}
+     * @param modelId      identifier of the model handling the message, i.e. {@link no.nordicsemi.android.mesh.models.SigModelParser#GENERIC_ON_OFF_SERVER}
+     * @param statusOpCode op code of the status sent in response
+     * @param timeout      time to wait for responses after the group message in milliseconds
+     * @param retries      number of times the message is retried to the elements that did not respond
+     * @param callbacks    callbacks notified when the transaction completes
+     * @return {@link GroupTransaction} tracking the responses
+     * @throws IllegalStateException if no mesh network is loaded
+     */
+    @NonNull
+    GroupTransaction sendGroupMessage(@NonNull final Group group,
+                                      @NonNull final MeshMessage meshMessage,
+                                      final int modelId,
+                                      final int statusOpCode,
+                                      final long timeout,
+                                      final int retries,
+                                      @NonNull final GroupTransactionCallbacks callbacks) throws IllegalArgumentException;
+
+    /**
+     * Returns the cache holding the last known state of the models in the network, updated from the statuses received
+     * in response to messages and from the statuses published by the models.
+     */
+    @NonNull
+    ModelStateCache getModelStateCache();
+
+    /**
+     * Sets the history to which the values of the sensor statuses received are added. The history is cleared when a
+     * network is loaded, created or imported, and the history of the elements of a node is removed when the node is
+     * reset.
+     *
+     * @param sensorHistory sensor history or null to stop recording
+     */
+    void setSensorHistory(@Nullable final SensorHistory sensorHistory);
+
+    /**
+     * Starts the Key Refresh Procedure of a network key with the default number of nodes configured at a time,
+     * timeout and number of retries.
+     *
+     * @see #startKeyRefresh(NetworkKey, int, long, int, KeyRefreshCallbacks)
+     */
+    void startKeyRefresh(@NonNull final NetworkKey networkKey,
+                         @NonNull final KeyRefreshCallbacks callbacks) throws IllegalArgumentException;
+
+    /**
+     * Starts the Key Refresh Procedure of a network key on all nodes of the network.
+     * <p>
+     * The new key must have been distributed using {@link MeshNetwork#distributeNetKey(NetworkKey, byte[])}, together
+     * with any application keys bound to it using {@link MeshNetwork#distributeAppKey(ApplicationKey, byte[])}. The
+     * nodes are then sent the new keys, switched to the new keys and made to revoke the old ones, after which the
+     * network key returns to normal operation. The progress is saved with the network, and a procedure that was
+     * stopped, failed or interrupted by an app restart continues from where it stopped when started again.
+     * </p>
+     *
+     * @param networkKey  network key being refreshed
+     * @param maxInFlight maximum number of nodes configured at a time
+     * @param timeout     time to wait for the response of a node in milliseconds
+     * @param retries     number of times a message is sent again to a node that did not respond
+     * @param callbacks   callbacks notified of the progress of the procedure
+     * @throws IllegalArgumentException if the key does not belong to the network or a new key has not been distributed
+     * @throws IllegalStateException    if no mesh network is loaded or the procedure is already running for the key
+     */
+    void startKeyRefresh(@NonNull final NetworkKey networkKey,
+                         final int maxInFlight,
+                         final long timeout,
+                         final int retries,
+                         @NonNull final KeyRefreshCallbacks callbacks) throws IllegalArgumentException;
+
+    /**
+     * Stops the Key Refresh Procedure of a network key. The progress made so far is kept.
+     *
+     * @param networkKey network key being refreshed
+     * @return true if the procedure was running or false otherwise
+     */
+    boolean cancelKeyRefresh(@NonNull final NetworkKey networkKey);
+
+    /**
+     * Sends an unacknowledged message with the default number of transmissions, interval and jitter.
+     *
+     * @see #sendUnacknowledged(int, UnacknowledgedMessageFactory, int, long, long)
+     */
+    @NonNull
+    MeshMessage sendUnacknowledged(final int dst, @NonNull final UnacknowledgedMessageFactory factory) throws IllegalArgumentException;
+
+    /**
+     * Sends an unacknowledged message, such as a Generic OnOff Set Unacknowledged, a number of times with the same
+     * transaction identifier.
+     * <p>
+     * The transaction identifier is allocated by the library for the provisioner and the destination, and passed to
+     * the factory creating the message. The message is sent right away and then repeated, each transmission spaced
+     * from the previous one by the interval plus a random time up to the jitter. The pending repeats are cancelled
+     * when a newer message with the same opcode is sent to the same destination.
+     * </p>
+     *
+     * @param dst           destination address, unicast, group or virtual
+     * @param factory       factory creating the message with the allocated transaction identifier
+     * @param transmissions number of times the message is sent
+     * @param interval      minimum time between two transmissions in milliseconds
+     * @param jitter        maximum random time added to the interval in milliseconds
+     * @return the message sent
+     * @throws IllegalArgumentException if the message could not be sent
+     * @throws IllegalStateException    if no mesh network is loaded
+     */
+    @NonNull
+    MeshMessage sendUnacknowledged(final int dst,
+                                   @NonNull final UnacknowledgedMessageFactory factory,
+                                   final int transmissions,
+                                   final long interval,
+                                   final long jitter) throws IllegalArgumentException;
+
+    /**
+     * Cancels the pending repeats of the unacknowledged messages sent to a destination.
+     *
+     * @param dst destination address
+     * @return true if any repeats were pending or false otherwise
+     */
+    boolean cancelUnacknowledged(final int dst);
+
     /**
      * Loads the mesh network from the local database.
      * <p>
@@ -228,6 +614,20 @@ interface MeshMngrApi {
      */
     void loadMeshNetwork();
 
+    /**
+     * Sets the number of nodes whose elements are kept in memory by the networks loaded afterwards.
+     * <p>
+     * By default every node is loaded with its elements. With a positive cache size the nodes are loaded without their
+     * elements, which keeps the time to load large networks and the memory used by them flat. The elements and models
+     * of a node are then read from the database on first access, and released again once more nodes than the cache
+     * size have been accessed since. Elements and models obtained from a node should therefore not be kept across
+     * accesses to other nodes.
+     * </p>
+     *
+     * @param cacheSize number of nodes to keep the elements of or 0 to load every node with its elements
+     */
+    void setNodeElementCacheSize(final int cacheSize);
+
     /**
      * Returns an already loaded mesh network, make sure to call {@link #loadMeshNetwork()} before calling this
      *
@@ -816,6 +816,32 @@ public final class MeshNetwork extends BaseMeshNetwork {
         return elements;
     }
 
+    /**
+     * Returns the addresses of the elements containing a model with the given identifier that is subscribed to the group.
+     * These are the elements expected to respond to an acknowledged message sent to the group.
+     *
+     * @param group   group
+     * @param modelId identifier of the model handling the message
+     */
+    @NonNull
+    public List<Integer> getSubscribedElementAddresses(@NonNull final Group group, final int modelId) {
+        final List<Integer> addresses = new ArrayList<>();
+        for (final ProvisionedMeshNode node : nodes) {
+            for (Map.Entry<Integer, Element> elementEntry : node.getElements().entrySet()) {
+                final MeshModel model = elementEntry.getValue().getMeshModels().get(modelId);
+                if (model == null)
+                    continue;
+                final boolean subscribed = group.getAddressLabel() != null ?
+                        model.getLabelUUID().contains(group.getAddressLabel()) :
+                        model.getSubscribedAddresses().contains(group.getAddress());
+                if (subscribed) {
+                    addresses.add(elementEntry.getKey());
+                }
+            }
+        }
+        return addresses;
+    }
+
     /**
      * Returns a list of models assigned to a particular group
      *
@@ -5,6 +5,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.os.Looper;
 import no.nordicsemi.android.mesh.logger.MeshLogger;
 import android.util.SparseIntArray;
 
@@ -20,7 +21,9 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
+import androidx.annotation.VisibleForTesting;
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
@@ -39,6 +42,9 @@ import no.nordicsemi.android.mesh.data.ProvisionerDao;
 import no.nordicsemi.android.mesh.data.ProvisionersDao;
 import no.nordicsemi.android.mesh.data.SceneDao;
 import no.nordicsemi.android.mesh.data.ScenesDao;
+import no.nordicsemi.android.mesh.transport.Element;
+import no.nordicsemi.android.mesh.transport.ElementCache;
+import no.nordicsemi.android.mesh.transport.LazyElementMap;
 import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
 import no.nordicsemi.android.mesh.utils.MeshAddress;
 import no.nordicsemi.android.mesh.utils.MeshParserUtils;
@@ -53,10 +59,11 @@ import no.nordicsemi.android.mesh.utils.MeshParserUtils;
         ProvisionedMeshNode.class,
         Group.class,
         Scene.class},
-        version = 12)
+        version = 13)
 abstract class MeshNetworkDb extends RoomDatabase {
 
     private static final String TAG = MeshNetworkDb.class.getSimpleName();
+    private static final int NODE_PAGE_SIZE = 256;
 
     abstract MeshNetworkDao meshNetworkDao();
 
@@ -111,6 +118,7 @@ abstract class MeshNetworkDb extends RoomDatabase {
                             .addMigrations(MIGRATION_9_10)
                             .addMigrations(MIGRATION_10_11)
                             .addMigrations(MIGRATION_11_12)
+                            .addMigrations(MIGRATION_12_13)
                             .build();
                 }
 
@@ -168,21 +176,81 @@ abstract class MeshNetworkDb extends RoomDatabase {
                      @NonNull final ProvisionedMeshNodesDao nodesDao,
                      @NonNull final GroupsDao groupsDao,
                      @NonNull final ScenesDao scenesDao,
+                     final int elementCacheSize,
                      @NonNull final LoadNetworkCallbacks listener) {
         databaseWriteExecutor.execute(() -> {
-            final MeshNetwork meshNetwork = meshNetworkDao.getMeshNetwork(true);
-            if (meshNetwork != null) {
-                meshNetwork.netKeys = netKeysDao.loadNetworkKeys(meshNetwork.getMeshUUID());
-                meshNetwork.appKeys = appKeysDao.loadApplicationKeys(meshNetwork.getMeshUUID());
-                meshNetwork.nodes = nodesDao.getNodes(meshNetwork.getMeshUUID());
-                meshNetwork.provisioners = provisionersDao.getProvisioners(meshNetwork.getMeshUUID());
-                meshNetwork.groups = groupsDao.loadGroups(meshNetwork.getMeshUUID());
-                meshNetwork.scenes = scenesDao.loadScenes(meshNetwork.getMeshUUID());
-            }
+            // Read the network in one transaction, so that the pages of nodes are consistent with each other
+            final MeshNetwork meshNetwork = runInTransaction(() -> {
+                final MeshNetwork network = meshNetworkDao.getMeshNetwork(true);
+                if (network != null) {
+                    final ElementCache cache = elementCacheSize > 0 ?
+                            new ElementCache(elementCacheSize, uuid -> loadElements(nodesDao, uuid)) : null;
+                    network.netKeys = netKeysDao.loadNetworkKeys(network.getMeshUUID());
+                    network.appKeys = appKeysDao.loadApplicationKeys(network.getMeshUUID());
+                    network.nodes = loadNodes(nodesDao, network.getMeshUUID(), cache);
+                    network.provisioners = provisionersDao.getProvisioners(network.getMeshUUID());
+                    network.groups = groupsDao.loadGroups(network.getMeshUUID());
+                    network.scenes = scenesDao.loadScenes(network.getMeshUUID());
+                }
+                return network;
+            });
             listener.onNetworkLoadedFromDb(meshNetwork);
         });
     }
 
+    /**
+     * Loads the nodes of a network page by page, so that the cursor window never has to hold all rows at once.
+     * <p>
+     * Without a cache every row is read, including the encoded elements, but the elements of each node are only
+     * decoded on first access, see {@link LazyElementMap}. With a cache the nodes are loaded without their elements,
+     * which are fetched on first access and released again when the node has not been used for a while.
+     * </p>
+     */
+    private static List<ProvisionedMeshNode> loadNodes(@NonNull final ProvisionedMeshNodesDao nodesDao,
+                                                       @NonNull final String meshUuid,
+                                                       @Nullable final ElementCache cache) {
+        final List<ProvisionedMeshNode> nodes = new ArrayList<>(nodesDao.getNodeCount(meshUuid));
+        List<ProvisionedMeshNode> page;
+        int afterAddress = -1;
+        String afterUuid = "";
+        do {
+            page = cache == null ?
+                    nodesDao.getNodes(meshUuid, afterAddress, afterUuid, NODE_PAGE_SIZE) :
+                    nodesDao.getNodeStubs(meshUuid, afterAddress, afterUuid, NODE_PAGE_SIZE);
+            for (ProvisionedMeshNode node : page) {
+                if (cache != null) {
+                    node.setElementStub(cache);
+                }
+                nodes.add(node);
+            }
+            if (!page.isEmpty()) {
+                final ProvisionedMeshNode last = page.get(page.size() - 1);
+                afterAddress = last.getUnicastAddress();
+                afterUuid = last.getUuid();
+            }
+        } while (page.size() == NODE_PAGE_SIZE);
+        return nodes;
+    }
+
+    /**
+     * Fetches the encoded elements of a node. Room does not allow queries on the main thread, where the query is run
+     * on the database executor instead, while on other threads, including the executor itself when a node is saved,
+     * the query is run directly.
+     */
+    @Nullable
+    private static byte[] loadElements(@NonNull final ProvisionedMeshNodesDao nodesDao, @NonNull final String uuid) {
+        if (Looper.myLooper() != Looper.getMainLooper())
+            return nodesDao.getElements(uuid);
+        try {
+            return databaseWriteExecutor.submit(() -> nodesDao.getElements(uuid)).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the elements of node " + uuid, ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Unable to load the elements of node " + uuid, ex.getCause());
+        }
+    }
+
     MeshNetwork getMeshNetwork(@NonNull final MeshNetworkDao meshNetworkDao, @NonNull final String meshUuid) throws ExecutionException, InterruptedException {
         return databaseWriteExecutor.submit(() -> meshNetworkDao.getMeshNetwork(meshUuid)).get();
     }
@@ -396,6 +464,14 @@ abstract class MeshNetworkDb extends RoomDatabase {
         }
     };
 
+    @VisibleForTesting
+    static final Migration MIGRATION_12_13 = new Migration(12, 13) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            migrateNodes12_13(database);
+        }
+    };
+
     private static void migrateMeshNetwork(final SupportSQLiteDatabase database) {
         database.execSQL("CREATE TABLE `mesh_network_temp` " +
                 "(`mesh_uuid` TEXT NOT NULL, " +
@@ -1036,4 +1112,112 @@ abstract class MeshNetworkDb extends RoomDatabase {
         database.execSQL("DROP TABLE mesh_network");
         database.execSQL("ALTER TABLE mesh_network_temp RENAME TO mesh_network");
     }
+
+    /**
+     * Migrates the elements, netKeys and appKeys columns of the nodes table from json to the compact binary format.
+     */
+    private static void migrateNodes12_13(@NonNull final SupportSQLiteDatabase database) {
+        database.execSQL("CREATE TABLE `nodes_temp` " +
+                "(`timestamp` INTEGER NOT NULL, " +
+                "`name` TEXT, " +
+                "`ttl` INTEGER, " +
+                "`secureNetworkBeacon` INTEGER, " +
+                "`mesh_uuid` TEXT, " +
+                "`uuid` TEXT NOT NULL, " +
+                "`security` INTEGER NOT NULL, " +
+                "`unicast_address` INTEGER NOT NULL, " +
+                "`configured` INTEGER NOT NULL, " +
+                "`device_key` BLOB, " +
+                "`seq_number` INTEGER NOT NULL, " +
+                "`cid` INTEGER, " +
+                "`pid` INTEGER, " +
+                "`vid` INTEGER, " +
+                "`crpl` INTEGER, " +
+                "`netKeys` BLOB, " +
+                "`appKeys` BLOB, " +
+                "`elements` BLOB, " +
+                "`element_count` INTEGER NOT NULL, " +
+                "`excluded` INTEGER NOT NULL, " +
+                "`networkTransmitCount` INTEGER, " +
+                "`networkIntervalSteps` INTEGER, " +
+                "`relayTransmitCount` INTEGER, " +
+                "`relayIntervalSteps` INTEGER, " +
+                "`friend` INTEGER, " +
+                "`lowPower` INTEGER, " +
+                "`proxy` INTEGER, " +
+                "`relay` INTEGER, " +
+                "PRIMARY KEY(`uuid`), " +
+                "FOREIGN KEY(`mesh_uuid`) REFERENCES `mesh_network`(`mesh_uuid`) ON UPDATE CASCADE ON DELETE CASCADE )");
+
+        database.execSQL(
+                "INSERT INTO nodes_temp (timestamp, name, ttl, secureNetworkBeacon, mesh_uuid, uuid, " +
+                        "security, unicast_address, configured, device_key, seq_number, cid, pid, vid, crpl, " +
+                        "element_count, excluded, networkTransmitCount, networkIntervalSteps, relayTransmitCount, relayIntervalSteps, " +
+                        "friend, lowPower, proxy, relay) " +
+                        "SELECT timestamp, name, ttl, secureNetworkBeacon, mesh_uuid, uuid, " +
+                        "security, unicast_address, configured, device_key, seq_number, cid, pid, vid, crpl, " +
+                        "0, excluded, networkTransmitCount, networkIntervalSteps, relayTransmitCount, relayIntervalSteps, " +
+                        "friend, lowPower, proxy, relay FROM nodes");
+
+        // A column that cannot be converted keeps its json, which the type converters still read, so that a single
+        // bad row neither fails the migration on every start nor loses the node. The node is written in the binary
+        // format the next time it is saved. The element count of such a node is left at 0, in which case the elements
+        // are read when the node is loaded.
+        final Cursor cursor = database.query("SELECT uuid, netKeys, appKeys, elements FROM nodes");
+        try {
+            while (cursor.moveToNext()) {
+                final String uuid = cursor.getString(cursor.getColumnIndex("uuid"));
+                final ContentValues values = new ContentValues();
+                final String netKeysJson = cursor.getString(cursor.getColumnIndex("netKeys"));
+                if (netKeysJson != null) {
+                    values.put("netKeys", migrateColumn(uuid, "netKeys", netKeysJson));
+                }
+                final String appKeysJson = cursor.getString(cursor.getColumnIndex("appKeys"));
+                if (appKeysJson != null) {
+                    values.put("appKeys", migrateColumn(uuid, "appKeys", appKeysJson));
+                }
+                final String elementsJson = cursor.getString(cursor.getColumnIndex("elements"));
+                if (elementsJson != null) {
+                    migrateElements(uuid, elementsJson, values);
+                }
+                if (values.size() > 0) {
+                    database.update("nodes_temp", SQLiteDatabase.CONFLICT_REPLACE, values, "uuid = ?", new String[]{uuid});
+                }
+            }
+        } finally {
+            cursor.close();
+        }
+        database.execSQL("DROP TABLE nodes");
+        database.execSQL("ALTER TABLE nodes_temp RENAME TO nodes");
+        database.execSQL("CREATE INDEX index_nodes_mesh_uuid ON `nodes` (mesh_uuid)");
+    }
+
+    /**
+     * Converts a json key column of the nodes table to the binary format, keeping the json if it cannot be converted.
+     */
+    @Nullable
+    private static byte[] migrateColumn(@NonNull final String uuid, @NonNull final String column, @NonNull final String json) {
+        try {
+            return MeshTypeConverters.nodeKeysToBlob(MeshTypeConverters.fromJsonToNodeKeys(json));
+        } catch (RuntimeException ex) {
+            MeshLogger.error(TAG, "Unable to migrate " + column + " of node " + uuid + ", keeping json: " + ex.getMessage());
+            return json.getBytes(MeshTypeConverters.JSON_CHARSET);
+        }
+    }
+
+    /**
+     * Converts the json elements of a node to the binary format and stores the element count, keeping the json if the
+     * elements cannot be converted.
+     */
+    private static void migrateElements(@NonNull final String uuid, @NonNull final String json,
+                                        @NonNull final ContentValues values) {
+        try {
+            final Map<Integer, Element> elements = MeshTypeConverters.fromJsonToElements(json);
+            values.put("elements", MeshTypeConverters.elementsToBlob(elements));
+            values.put("element_count", elements == null ? 0 : elements.size());
+        } catch (RuntimeException ex) {
+            MeshLogger.error(TAG, "Unable to migrate elements of node " + uuid + ", keeping json: " + ex.getMessage());
+            values.put("elements", json.getBytes(MeshTypeConverters.JSON_CHARSET));
+        }
+    }
 }
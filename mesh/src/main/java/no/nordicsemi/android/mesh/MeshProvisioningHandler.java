@@ -24,6 +24,7 @@ package no.nordicsemi.android.mesh;
 
 import android.content.Context;
 import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.metrics.MeshMetrics;
 
 import java.nio.ByteBuffer;
 import java.util.UUID;
@@ -64,6 +65,7 @@ class MeshProvisioningHandler implements InternalProvisioningCallbacks {
     private boolean isProvisioneePublicKeyReceived;
     private final InternalMeshManagerCallbacks mInternalMeshManagerCallbacks;
     private byte[] confirmationInputs;
+    private long mProvisioningStartTimestamp;
 
     /**
      * Constructs the mesh provisioning handler
@@ -192,11 +194,18 @@ class MeshProvisioningHandler implements InternalProvisioningCallbacks {
             provisioningState = new ProvisioningCompleteState(unprovisionedMeshNode);
             //Generate the network id and store it in the mesh node, this is needed to reconnect to the device at a later stage.
             final ProvisionedMeshNode provisionedMeshNode = new ProvisionedMeshNode(unprovisionedMeshNode);
+            MeshMetrics.PROVISIONING_COMPLETED.increment();
+            if (mProvisioningStartTimestamp != 0) {
+                MeshMetrics.PROVISIONING_DURATION.record((System.nanoTime() - mProvisioningStartTimestamp) / 1000000);
+                mProvisioningStartTimestamp = 0;
+            }
             mInternalMeshManagerCallbacks.onNodeProvisioned(provisionedMeshNode, unprovisionedMeshNode.getProvisioningCapabilities().getNumberOfElements());
             mStatusCallbacks.onProvisioningCompleted(provisionedMeshNode, ProvisioningState.States.PROVISIONING_COMPLETE, data);
         } else {
             final ProvisioningFailedState provisioningFailedState = new ProvisioningFailedState();
             provisioningState = provisioningFailedState;
+            MeshMetrics.PROVISIONING_FAILED.increment();
+            mProvisioningStartTimestamp = 0;
             if (provisioningFailedState.parseData(data)) {
                 mStatusCallbacks.onProvisioningFailed(unprovisionedMeshNode, ProvisioningState.States.PROVISIONING_FAILED, data);
             }
@@ -350,6 +359,8 @@ class MeshProvisioningHandler implements InternalProvisioningCallbacks {
     }
 
     private void sendProvisioningInvite(final UnprovisionedMeshNode node) {
+        MeshMetrics.PROVISIONING_STARTED.increment();
+        mProvisioningStartTimestamp = System.nanoTime();
         isProvisioningPublicKeySent = false;
         isProvisioneePublicKeyReceived = false;
         final ProvisioningInviteState invite = new ProvisioningInviteState(node, attentionTimer, mInternalTransportCallbacks, mStatusCallbacks);
@@ -7,6 +7,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -16,151 +17,218 @@ import androidx.annotation.NonNull;
 import androidx.annotation.RestrictTo;
 import androidx.room.TypeConverter;
 import no.nordicsemi.android.mesh.transport.Element;
+import no.nordicsemi.android.mesh.transport.ElementBlobConverter;
+import no.nordicsemi.android.mesh.transport.LazyElementMap;
 import no.nordicsemi.android.mesh.transport.ElementDbMigrator;
 import no.nordicsemi.android.mesh.transport.InternalMeshModelDeserializer;
 import no.nordicsemi.android.mesh.transport.MeshModel;
+import no.nordicsemi.android.mesh.utils.BlobReader;
+import no.nordicsemi.android.mesh.utils.BlobWriter;
 
 @SuppressWarnings("WeakerAccess")
 @RestrictTo(RestrictTo.Scope.LIBRARY)
 public class MeshTypeConverters {
 
+    // Gson instances are thread safe and expensive to build, so they are shared across all conversions.
+    private static final Gson GSON = new Gson();
+    private static final Gson ELEMENTS_GSON = new GsonBuilder().
+            excludeFieldsWithoutExposeAnnotation().
+            registerTypeAdapter(Element.class, new ElementDbMigrator()).
+            registerTypeAdapter(MeshModel.class, new InternalMeshModelDeserializer()).
+            create();
+    private static final int NODE_KEYS_VERSION = 1;
+    static final Charset JSON_CHARSET = Charset.forName("UTF-8");
+
     @TypeConverter
     public static Map<Integer, ApplicationKey> fromJsonToAddedAppKeys(final String appKeyJson) {
         final Type addedAppKeys = new TypeToken<Map<Integer, ApplicationKey>>() {
         }.getType();
-        return new Gson().fromJson(appKeyJson, addedAppKeys);
+        return GSON.fromJson(appKeyJson, addedAppKeys);
     }
 
     @TypeConverter
     public static List<NetworkKey> fromJsonToAddedNetKeys(final String networkKeyJson) {
         final Type addedNetKeys = new TypeToken<List<NetworkKey>>() {
         }.getType();
-        return new Gson().fromJson(networkKeyJson, addedNetKeys);
+        return GSON.fromJson(networkKeyJson, addedNetKeys);
     }
 
-    @TypeConverter
     public static String elementsToJson(final Map<Integer, Element> elements) {
-        return new Gson().toJson(elements);
+        return GSON.toJson(elements);
     }
 
-    @TypeConverter
-    public Map<Integer, Element> fromJsonToElements(final String elementsJson) {
+    /**
+     * Converts elements stored as json, used when migrating to the binary format.
+     */
+    public static Map<Integer, Element> fromJsonToElements(final String elementsJson) {
         final Type elements = new TypeToken<Map<Integer, Element>>() {
         }.getType();
-        return new GsonBuilder().
-                excludeFieldsWithoutExposeAnnotation().
-                registerTypeAdapter(Element.class, new ElementDbMigrator()).
-                registerTypeAdapter(MeshModel.class, new InternalMeshModelDeserializer()).
-                create().fromJson(elementsJson, elements);
+        return ELEMENTS_GSON.fromJson(elementsJson, elements);
+    }
+
+    @TypeConverter
+    public static byte[] elementsToBlob(final Map<Integer, Element> elements) {
+        return ElementBlobConverter.toBlob(elements);
+    }
+
+    @TypeConverter
+    public static Map<Integer, Element> fromBlobToElements(final byte[] elements) {
+        if (elements == null)
+            return null;
+        if (isJson(elements, '{'))
+            return fromJsonToElements(new String(elements, JSON_CHARSET));
+        return new LazyElementMap(elements);
     }
 
     @TypeConverter
     public static String allocatedGroupRangeToJson(final List<AllocatedGroupRange> ranges) {
-        return new Gson().toJson(ranges);
+        return GSON.toJson(ranges);
     }
 
     @TypeConverter
     public static List<AllocatedGroupRange> fromJsonToAllocatedGroupRanges(final String rangesJson) {
         final Type ranges = new TypeToken<List<AllocatedGroupRange>>() {
         }.getType();
-        return new Gson().fromJson(rangesJson, ranges);
+        return GSON.fromJson(rangesJson, ranges);
     }
 
     @TypeConverter
     public static String allocatedSceneRangeToJson(final List<AllocatedSceneRange> ranges) {
-        return new Gson().toJson(ranges);
+        return GSON.toJson(ranges);
     }
 
     @TypeConverter
     public static List<AllocatedSceneRange> fromJsonToAllocatedSceneRanges(final String rangesJson) {
         final Type ranges = new TypeToken<List<AllocatedSceneRange>>() {
         }.getType();
-        return new Gson().fromJson(rangesJson, ranges);
+        return GSON.fromJson(rangesJson, ranges);
     }
 
     @TypeConverter
     public static String allocatedUnicastRangeToJson(final List<AllocatedUnicastRange> ranges) {
-        return new Gson().toJson(ranges);
+        return GSON.toJson(ranges);
     }
 
     @TypeConverter
     public static List<AllocatedUnicastRange> fromJsonToAllocatedUnicastRanges(final String rangesJson) {
         Type ranges = new TypeToken<List<AllocatedUnicastRange>>() {
         }.getType();
-        return new Gson().fromJson(rangesJson, ranges);
+        return GSON.fromJson(rangesJson, ranges);
     }
 
     @TypeConverter
     public static String integerToJson(final List<Integer> integerList) {
-        return new Gson().toJson(integerList);
+        return GSON.toJson(integerList);
     }
 
     @TypeConverter
     public static List<Integer> fromJsonToIntegerList(final String integerListJson) {
         final Type addresses = new TypeToken<List<Integer>>() {
         }.getType();
-        return new Gson().fromJson(integerListJson, addresses);
+        return GSON.fromJson(integerListJson, addresses);
     }
 
     @TypeConverter
     public String uuidToJson(final UUID uuid) {
         if (uuid == null)
             return null;
-        return new Gson().toJson(uuid.toString());
+        return GSON.toJson(uuid.toString());
     }
 
     @TypeConverter
     public UUID fromJsonToUuid(final String addressesJson) {
         final Type uuid = new TypeToken<UUID>() {
         }.getType();
-        return new Gson().fromJson(addressesJson, uuid);
+        return GSON.fromJson(addressesJson, uuid);
     }
 
     @TypeConverter
     public static String sparseIntArrayToJson(@NonNull final SparseIntArray array) {
-        return new Gson().toJson(array);
+        return GSON.toJson(array);
     }
 
     @TypeConverter
     public static SparseIntArray fromJsonToSparseIntArray(final String integerListJson) {
         final Type addresses = new TypeToken<SparseIntArray>() {
         }.getType();
-        return new Gson().fromJson(integerListJson, addresses);
+        return GSON.fromJson(integerListJson, addresses);
     }
 
-    @TypeConverter
     public static String nodeKeysToJson(@NonNull final List<NodeKey> nodeKeys) {
-        return new Gson().toJson(nodeKeys);
+        return GSON.toJson(nodeKeys);
     }
 
-    @TypeConverter
+    /**
+     * Converts node keys stored as json, used when migrating to the binary format.
+     */
     public static List<NodeKey> fromJsonToNodeKeys(final String nodeKeys) {
         final Type keys = new TypeToken<List<NodeKey>>() {
         }.getType();
-        return new Gson().fromJson(nodeKeys, keys);
+        return GSON.fromJson(nodeKeys, keys);
+    }
+
+    @TypeConverter
+    public static byte[] nodeKeysToBlob(final List<NodeKey> nodeKeys) {
+        if (nodeKeys == null)
+            return null;
+        final BlobWriter writer = new BlobWriter(2 + nodeKeys.size() * 3);
+        writer.writeVarInt(NODE_KEYS_VERSION);
+        writer.writeVarInt(nodeKeys.size());
+        for (NodeKey nodeKey : nodeKeys) {
+            // Key indexes are 12-bit values, the updated flag is packed in to the lowest bit.
+            writer.writeVarInt((nodeKey.getIndex() << 1) | (nodeKey.isUpdated() ? 1 : 0));
+        }
+        return writer.toByteArray();
+    }
+
+    @TypeConverter
+    public static List<NodeKey> fromBlobToNodeKeys(final byte[] nodeKeys) {
+        if (nodeKeys == null)
+            return null;
+        if (isJson(nodeKeys, '['))
+            return fromJsonToNodeKeys(new String(nodeKeys, JSON_CHARSET));
+        final BlobReader reader = new BlobReader(nodeKeys);
+        final int version = reader.readVarInt();
+        if (version != NODE_KEYS_VERSION)
+            throw new IllegalArgumentException("Unsupported node key format version: " + version);
+        final int count = reader.readVarInt();
+        final List<NodeKey> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int value = reader.readVarInt();
+            keys.add(new NodeKey(value >>> 1, (value & 1) == 1));
+        }
+        return keys;
+    }
+
+    /**
+     * Returns whether a column holds the json kept by the migration to the binary format for a value it could not
+     * convert. The binary formats start with their version, which is never a json character.
+     */
+    static boolean isJson(@NonNull final byte[] value, final char start) {
+        return value.length > 0 && value[0] == start;
     }
 
     @TypeConverter
     public static String ivIndexToJson(@NonNull final IvIndex ivIndex) {
-        return new Gson().toJson(ivIndex);
+        return GSON.toJson(ivIndex);
     }
 
     @TypeConverter
     public static IvIndex fromJsonToIvIndex(final String ivIndex) {
         final Type newIvIndex = new TypeToken<IvIndex>() {
         }.getType();
-        return new Gson().fromJson(ivIndex, newIvIndex);
+        return GSON.fromJson(ivIndex, newIvIndex);
     }
 
     @TypeConverter
     public static String networkExclusionsToJson(@NonNull final Map<Integer, List<Integer>> networkExclusions) {
-        return new Gson().toJson(networkExclusions);
+        return GSON.toJson(networkExclusions);
     }
 
     @TypeConverter
     public static Map<Integer, List<Integer>> fromJsonToNetworkExclusions(@NonNull final String networkExclusions) {
         final Type newNetworkExclusions = new TypeToken<Map<Integer, ArrayList<Integer>>>() {
         }.getType();
-        return new Gson().fromJson(networkExclusions, newNetworkExclusions);
+        return GSON.fromJson(networkExclusions, newNetworkExclusions);
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.transport.TransportScheduler;
+
+/**
+ * Collects network changes and dispatches them at most once per update interval.
+ * <p>
+ * With an interval of 0 every change is dispatched immediately on the calling thread. Otherwise the first change
+ * after a quiet period is dispatched on the next run of the scheduler and any further changes are collected and
+ * dispatched once the interval has passed since the previous dispatch.
+ * </p>
+ */
+final class NetworkChangeCoalescer {
+
+    interface Listener {
+        void onChangesDispatched(@NonNull final NetworkChangeSet changes);
+    }
+
+    private final TransportScheduler mScheduler;
+    private final Listener mListener;
+    private final Runnable mFlushRunnable = this::flush;
+    private NetworkChangeSet mPending = new NetworkChangeSet();
+    private long mInterval;
+    private long mLastDispatchTime = Long.MIN_VALUE;
+    private boolean mScheduled;
+
+    NetworkChangeCoalescer(@NonNull final TransportScheduler scheduler, @NonNull final Listener listener) {
+        mScheduler = scheduler;
+        mListener = listener;
+    }
+
+    synchronized long getInterval() {
+        return mInterval;
+    }
+
+    /**
+     * Sets the minimum interval between two dispatches in milliseconds, 0 disables coalescing.
+     */
+    synchronized void setInterval(final long interval) {
+        if (interval < 0)
+            throw new IllegalArgumentException("Interval must not be negative");
+        mInterval = interval;
+    }
+
+    synchronized void nodeChanged(final int unicastAddress) {
+        mPending.addNode(unicastAddress);
+    }
+
+    synchronized void netKeyChanged(final int keyIndex) {
+        mPending.addNetKey(keyIndex);
+    }
+
+    synchronized void appKeyChanged(final int keyIndex) {
+        mPending.addAppKey(keyIndex);
+    }
+
+    synchronized void provisionerChanged(@NonNull final String provisionerUuid) {
+        mPending.addProvisioner(provisionerUuid);
+    }
+
+    synchronized void groupChanged(final int address) {
+        mPending.addGroup(address);
+    }
+
+    synchronized void sceneChanged(final int number) {
+        mPending.addScene(number);
+    }
+
+    synchronized void networkChanged() {
+        mPending.setNetworkChanged();
+    }
+
+    /**
+     * Dispatches the pending changes or schedules them to be dispatched.
+     */
+    void dispatch() {
+        final long delay;
+        synchronized (this) {
+            if (mInterval == 0) {
+                delay = -1;
+            } else if (mScheduled) {
+                return;
+            } else {
+                mScheduled = true;
+                delay = mLastDispatchTime == Long.MIN_VALUE ? 0 :
+                        Math.max(0, mLastDispatchTime + mInterval - mScheduler.currentTimeMillis());
+            }
+        }
+        if (delay < 0) {
+            flush();
+        } else {
+            mScheduler.postDelayed(mFlushRunnable, delay);
+        }
+    }
+
+    private void flush() {
+        final NetworkChangeSet changes;
+        synchronized (this) {
+            changes = mPending;
+            mPending = new NetworkChangeSet();
+            mScheduled = false;
+            mLastDispatchTime = mScheduler.currentTimeMillis();
+        }
+        if (!changes.isEmpty()) {
+            mListener.onChangesDispatched(changes);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Describes the parts of the mesh network that changed since the previous network update notification.
+ * <p>
+ * Network updates may be coalesced, see {@link MeshManagerApi#setNetworkUpdateInterval(long)}, in which case a single
+ * change set contains all changes made during the interval.
+ * </p>
+ */
+public final class NetworkChangeSet {
+
+    private final Set<Integer> nodes = new HashSet<>();
+    private final Set<Integer> netKeys = new HashSet<>();
+    private final Set<Integer> appKeys = new HashSet<>();
+    private final Set<String> provisioners = new HashSet<>();
+    private final Set<Integer> groups = new HashSet<>();
+    private final Set<Integer> scenes = new HashSet<>();
+    private boolean networkChanged;
+
+    NetworkChangeSet() {
+    }
+
+    void addNode(final int unicastAddress) {
+        nodes.add(unicastAddress);
+    }
+
+    void addNetKey(final int keyIndex) {
+        netKeys.add(keyIndex);
+    }
+
+    void addAppKey(final int keyIndex) {
+        appKeys.add(keyIndex);
+    }
+
+    void addProvisioner(@NonNull final String provisionerUuid) {
+        provisioners.add(provisionerUuid);
+    }
+
+    void addGroup(final int address) {
+        groups.add(address);
+    }
+
+    void addScene(final int number) {
+        scenes.add(number);
+    }
+
+    void setNetworkChanged() {
+        networkChanged = true;
+    }
+
+    /**
+     * Returns the unicast addresses of the nodes that were added, updated or removed.
+     */
+    @NonNull
+    public Set<Integer> getNodes() {
+        return Collections.unmodifiableSet(nodes);
+    }
+
+    /**
+     * Returns the indexes of the network keys that were added, updated or removed.
+     */
+    @NonNull
+    public Set<Integer> getNetKeys() {
+        return Collections.unmodifiableSet(netKeys);
+    }
+
+    /**
+     * Returns the indexes of the application keys that were added, updated or removed.
+     */
+    @NonNull
+    public Set<Integer> getAppKeys() {
+        return Collections.unmodifiableSet(appKeys);
+    }
+
+    /**
+     * Returns the UUIDs of the provisioners that were added, updated or removed.
+     */
+    @NonNull
+    public Set<String> getProvisioners() {
+        return Collections.unmodifiableSet(provisioners);
+    }
+
+    /**
+     * Returns the addresses of the groups that were added, updated or removed.
+     */
+    @NonNull
+    public Set<Integer> getGroups() {
+        return Collections.unmodifiableSet(groups);
+    }
+
+    /**
+     * Returns the numbers of the scenes that were added, updated or removed.
+     */
+    @NonNull
+    public Set<Integer> getScenes() {
+        return Collections.unmodifiableSet(scenes);
+    }
+
+    /**
+     * Returns true if a property of the network itself, such as the name, IV Index or exclusion list, was changed or
+     * if the change could not be attributed to a single entry, in which case the whole network should be reloaded.
+     */
+    public boolean isNetworkChanged() {
+        return networkChanged;
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return !networkChanged && nodes.isEmpty() && netKeys.isEmpty() && appKeys.isEmpty() &&
+                provisioners.isEmpty() && groups.isEmpty() && scenes.isEmpty();
+    }
+}
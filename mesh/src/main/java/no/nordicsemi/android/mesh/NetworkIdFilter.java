@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+/**
+ * Matches Network ID advertisements against the network IDs of the network keys.
+ * <p>
+ * The network IDs are derived once per key and kept in a set, so that an advertisement is matched with a single
+ * lookup instead of deriving the network ID of every key for every advertisement. The set is rebuilt when a key is
+ * updated, and includes the network ID of the old key only while a Key Refresh Procedure is in progress.
+ * </p>
+ */
+final class NetworkIdFilter {
+
+    static final int NETWORK_ID_LENGTH = 8;
+
+    private final HashSet<Long> mNetworkIds = new HashSet<>();
+    private final List<byte[]> mKeys = new ArrayList<>();
+    private MeshNetwork mNetwork;
+
+    /**
+     * Returns true if the network ID at the given offset of the service data belongs to a network key of the network.
+     *
+     * @param network     mesh network
+     * @param serviceData advertised service data
+     * @param offset      offset of the network ID in the service data
+     */
+    synchronized boolean matches(@NonNull final MeshNetwork network, @NonNull final byte[] serviceData, final int offset) {
+        if (serviceData.length < offset + NETWORK_ID_LENGTH)
+            return false;
+        update(network);
+        return mNetworkIds.contains(toLong(serviceData, offset));
+    }
+
+    /**
+     * Clears the cached network IDs.
+     */
+    synchronized void clear() {
+        mNetworkIds.clear();
+        mKeys.clear();
+        mNetwork = null;
+    }
+
+    /**
+     * Rebuilds the network IDs if the network or the keys in use have changed. Keys are compared by reference, as
+     * updating a key replaces its value.
+     */
+    private void update(@NonNull final MeshNetwork network) {
+        if (network == mNetwork && sameKeys(network))
+            return;
+        mNetworkIds.clear();
+        mKeys.clear();
+        for (NetworkKey networkKey : network.netKeys) {
+            final byte[] key = networkKey.getKey();
+            final byte[] oldKey = getOldKey(networkKey);
+            mKeys.add(key);
+            mKeys.add(oldKey);
+            mNetworkIds.add(toLong(SecureUtils.calculateK3(key), 0));
+            if (oldKey != null) {
+                mNetworkIds.add(toLong(SecureUtils.calculateK3(oldKey), 0));
+            }
+        }
+        mNetwork = network;
+    }
+
+    private boolean sameKeys(@NonNull final MeshNetwork network) {
+        final List<NetworkKey> netKeys = network.netKeys;
+        if (netKeys.size() * 2 != mKeys.size())
+            return false;
+        for (int i = 0; i < netKeys.size(); i++) {
+            final NetworkKey networkKey = netKeys.get(i);
+            if (networkKey.getKey() != mKeys.get(2 * i) || getOldKey(networkKey) != mKeys.get(2 * i + 1))
+                return false;
+        }
+        return true;
+    }
+
+    private static byte[] getOldKey(@NonNull final NetworkKey networkKey) {
+        return networkKey.getPhase() == NetworkKey.NORMAL_OPERATION ? null : networkKey.getOldKey();
+    }
+
+    private static long toLong(@NonNull final byte[] data, final int offset) {
+        long value = 0;
+        for (int i = 0; i < NETWORK_ID_LENGTH; i++) {
+            value = (value << 8) | (data[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
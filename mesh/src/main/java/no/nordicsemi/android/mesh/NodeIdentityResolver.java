@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.spongycastle.crypto.engines.AESLightEngine;
+import org.spongycastle.crypto.params.KeyParameter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
+
+/**
+ * Resolves Node Identity advertisements to the node that advertised them.
+ * <p>
+ * A cipher is initialized once per identity key of the network and reused for every advertisement, instead of
+ * expanding the identity key for every node and advertisement. All nodes are evaluated in a single pass per
+ * advertisement and the result is cached for a short while, as the same advertisement is reported repeatedly while
+ * scanning.
+ * </p>
+ */
+final class NodeIdentityResolver {
+
+    static final int HASH_OFFSET = 1;
+    static final int RANDOM_OFFSET = 9;
+    static final int HASH_LENGTH = 8;
+    static final int RANDOM_LENGTH = 8;
+    static final int SERVICE_DATA_LENGTH = 17;
+    static final long RESULT_TIMEOUT = 10 * 1000;
+    private static final int MAX_RESULTS = 64;
+    private static final int PADDING_LENGTH = 6;
+    private static final int BLOCK_SIZE = 16;
+
+    private final List<byte[]> mIdentityKeys = new ArrayList<>();
+    private final List<AESLightEngine> mEngines = new ArrayList<>();
+    private final LinkedHashMap<ByteBuffer, Result> mResults = new LinkedHashMap<ByteBuffer, Result>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ByteBuffer, Result> eldest) {
+            return size() > MAX_RESULTS;
+        }
+    };
+    private final byte[] mInput = new byte[BLOCK_SIZE];
+    private final byte[] mOutput = new byte[BLOCK_SIZE];
+    private MeshNetwork mNetwork;
+    private int mNodeCount;
+
+    private static final class Result {
+        final int address;
+        final long timestamp;
+
+        Result(final int address, final long timestamp) {
+            this.address = address;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Returns the node advertising the given Node Identity service data.
+     *
+     * @param network     mesh network
+     * @param serviceData advertised service data
+     * @param now         current time in milliseconds
+     * @return the matching node or null if none of the nodes in the network match
+     */
+    @Nullable
+    synchronized ProvisionedMeshNode resolve(@NonNull final MeshNetwork network,
+                                             @NonNull final byte[] serviceData,
+                                             final long now) {
+        if (serviceData.length != SERVICE_DATA_LENGTH)
+            return null;
+        update(network);
+
+        final ByteBuffer key = ByteBuffer.wrap(serviceData, HASH_OFFSET, HASH_LENGTH + RANDOM_LENGTH).slice();
+        final Result result = mResults.get(key);
+        if (result != null && now - result.timestamp < RESULT_TIMEOUT) {
+            return result.address == MeshAddress.UNASSIGNED_ADDRESS ? null : network.getNode(result.address);
+        }
+
+        ProvisionedMeshNode match = null;
+        prepareInput(serviceData);
+        for (ProvisionedMeshNode node : network.nodes) {
+            if (matches(node.getUnicastAddress(), serviceData)) {
+                match = node;
+                break;
+            }
+        }
+        final byte[] copy = new byte[HASH_LENGTH + RANDOM_LENGTH];
+        System.arraycopy(serviceData, HASH_OFFSET, copy, 0, copy.length);
+        mResults.put(ByteBuffer.wrap(copy),
+                new Result(match == null ? MeshAddress.UNASSIGNED_ADDRESS : match.getUnicastAddress(), now));
+        return match;
+    }
+
+    /**
+     * Checks if the given Node Identity service data was advertised by the given node.
+     *
+     * @param network     mesh network
+     * @param node        node to match with
+     * @param serviceData advertised service data
+     * @return true if the hashes match or false otherwise
+     */
+    synchronized boolean matches(@NonNull final MeshNetwork network,
+                                 @NonNull final ProvisionedMeshNode node,
+                                 @NonNull final byte[] serviceData) {
+        if (serviceData.length < SERVICE_DATA_LENGTH)
+            return false;
+        update(network);
+        prepareInput(serviceData);
+        return matches(node.getUnicastAddress(), serviceData);
+    }
+
+    /**
+     * Clears the cached ciphers and results.
+     */
+    synchronized void clear() {
+        mIdentityKeys.clear();
+        mEngines.clear();
+        mResults.clear();
+        mNetwork = null;
+    }
+
+    private boolean matches(final int address, @NonNull final byte[] serviceData) {
+        mInput[BLOCK_SIZE - 2] = (byte) (address >> 8);
+        mInput[BLOCK_SIZE - 1] = (byte) address;
+        for (int i = 0; i < mEngines.size(); i++) {
+            mEngines.get(i).processBlock(mInput, 0, mOutput, 0);
+            if (hashEquals(serviceData))
+                return true;
+        }
+        return false;
+    }
+
+    private boolean hashEquals(@NonNull final byte[] serviceData) {
+        for (int i = 0; i < HASH_LENGTH; i++) {
+            if (mOutput[BLOCK_SIZE - HASH_LENGTH + i] != serviceData[HASH_OFFSET + i])
+                return false;
+        }
+        return true;
+    }
+
+    private void prepareInput(@NonNull final byte[] serviceData) {
+        for (int i = 0; i < PADDING_LENGTH; i++) {
+            mInput[i] = 0;
+        }
+        System.arraycopy(serviceData, RANDOM_OFFSET, mInput, PADDING_LENGTH, RANDOM_LENGTH);
+    }
+
+    /**
+     * Rebuilds the ciphers if the identity keys of the network have changed and drops the cached results if the
+     * network, its keys or its nodes have changed.
+     */
+    private void update(@NonNull final MeshNetwork network) {
+        final List<byte[]> keys = new ArrayList<>();
+        for (NetworkKey networkKey : network.netKeys) {
+            keys.add(networkKey.getIdentityKey());
+            if (networkKey.getOldIdentityKey() != null) {
+                keys.add(networkKey.getOldIdentityKey());
+            }
+        }
+        if (network != mNetwork || network.nodes.size() != mNodeCount || !sameKeys(keys)) {
+            mResults.clear();
+        }
+        mNetwork = network;
+        mNodeCount = network.nodes.size();
+        if (sameKeys(keys))
+            return;
+
+        mIdentityKeys.clear();
+        mEngines.clear();
+        for (byte[] identityKey : keys) {
+            final AESLightEngine engine = new AESLightEngine();
+            engine.init(true, new KeyParameter(identityKey));
+            mIdentityKeys.add(identityKey);
+            mEngines.add(engine);
+        }
+    }
+
+    private boolean sameKeys(@NonNull final List<byte[]> keys) {
+        if (keys.size() != mIdentityKeys.size())
+            return false;
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i) != mIdentityKeys.get(i))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+
+/**
+ * Callbacks notifying when the queue of PDUs waiting for the bearer fills up and drains, see
+ * {@link MeshManagerApi#setOutboundPacing(int, long)}. Messages sent while the queue is full are rejected and
+ * reported with {@link #onMeshMessageRejected(int, MeshMessage)}.
+ */
+public interface OutboundQueueCallbacks {
+
+    /**
+     * Invoked when the queue has reached its capacity.
+     */
+    void onOutboundQueueFull();
+
+    /**
+     * Invoked when the queue, after being full, has drained to half of its capacity.
+     */
+    void onOutboundQueueAvailable();
+
+    /**
+     * Invoked when a message passed to {@link MeshManagerApi#createMeshPdu(int, MeshMessage)} is not sent as the
+     * queue is full. The message may be sent again once {@link #onOutboundQueueAvailable()} is invoked.
+     *
+     * @param dst         destination address of the message
+     * @param meshMessage message that was not sent
+     */
+    void onMeshMessageRejected(final int dst, @NonNull final MeshMessage meshMessage);
+}
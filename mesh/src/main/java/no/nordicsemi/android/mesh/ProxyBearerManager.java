@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
+import no.nordicsemi.android.mesh.utils.ProxyFilter;
+import no.nordicsemi.android.mesh.utils.ProxyFilterType;
+
+/**
+ * Sends and receives mesh PDUs over several proxy connections at once.
+ * <p>
+ * Each connection keeps its own GATT SAR buffers and its own proxy filter, which starts as an empty inclusion list
+ * and is updated by the Filter Statuses received over the connection. Network PDUs are sent over the connection to
+ * the destination node if there is one, otherwise over the connection through which a PDU from the destination was
+ * last received, otherwise over the connection with the fewest PDUs waiting to be written. Proxy configuration
+ * messages and beacons are sent over every connection. Network PDUs received over more than one connection are
+ * passed on once, told apart by their source address and sequence number once de-obfuscated, as the copies relayed
+ * by different nodes differ in TTL and so in their obfuscated header.
+ * </p>
+ * <p>
+ * Network PDUs sent over a connection within the {@link #FAILOVER_WINDOW} are sent again over the remaining
+ * connections when it is closed, or over the next connection added if it was the last one. Resending the same PDU is
+ * safe, as nodes that already received it discard the copy.
+ * </p>
+ */
+final class ProxyBearerManager {
+
+    private static final String TAG = ProxyBearerManager.class.getSimpleName();
+    static final long FAILOVER_WINDOW = 5 * 1000;
+    private static final int MAX_SENT_PDUS = 64;
+    private static final int MAX_ROUTES = 1024;
+    private static final int MAX_RECEIVED_PDUS = 256;
+
+    interface PduListener {
+        /**
+         * Called for every unsegmented PDU written to a proxy connection.
+         *
+         * @param bearerId id of the connection, see {@link #getBearerId(ProxyBearer)}
+         * @param mtu      MTU the PDU was segmented to
+         * @param pdu      unsegmented proxy PDU
+         */
+        void onPduSent(final int bearerId, final int mtu, @NonNull final byte[] pdu);
+    }
+
+    private static final class Bearer {
+        final ProxyBearer bearer;
+        final int id;
+        final int proxyAddress;
+        final int lastAddress;
+        final ProxySarBuffer sarBuffer = new ProxySarBuffer();
+        final ArrayDeque<SentPdu> sentPdus = new ArrayDeque<>();
+        ProxyFilter proxyFilter = new ProxyFilter(new ProxyFilterType(ProxyFilterType.INCLUSION_LIST_FILTER));
+        int pendingWrites;
+
+        Bearer(@NonNull final ProxyBearer bearer, final int id, final int proxyAddress, final int lastAddress) {
+            this.bearer = bearer;
+            this.id = id;
+            this.proxyAddress = proxyAddress;
+            this.lastAddress = lastAddress;
+        }
+
+        boolean isProxyElement(final int address) {
+            return proxyAddress != MeshAddress.UNASSIGNED_ADDRESS && address >= proxyAddress && address <= lastAddress;
+        }
+    }
+
+    private static final class SentPdu {
+        final int dst;
+        final byte[] pdu;
+        final long timestamp;
+
+        SentPdu(final int dst, @NonNull final byte[] pdu, final long timestamp) {
+            this.dst = dst;
+            this.pdu = pdu;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private final List<Bearer> mBearers = new ArrayList<>();
+    private final ArrayDeque<SentPdu> mOrphanedPdus = new ArrayDeque<>();
+    private final LinkedHashMap<Integer, Bearer> mRoutes = new LinkedHashMap<Integer, Bearer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, Bearer> eldest) {
+            return size() > MAX_ROUTES;
+        }
+    };
+    private final LinkedHashMap<Long, Boolean> mReceivedPdus = new LinkedHashMap<Long, Boolean>() {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, Boolean> eldest) {
+            return size() > MAX_RECEIVED_PDUS;
+        }
+    };
+    private PduListener mPduListener;
+    private Bearer mReceivingBearer;
+    private int mLastBearerId;
+    private long mDuplicateCount;
+    private long mFailoverCount;
+
+    /**
+     * Adds a proxy connection.
+     *
+     * @param bearer       proxy connection
+     * @param proxyAddress unicast address of the proxy node or {@link MeshAddress#UNASSIGNED_ADDRESS} if unknown
+     * @param lastAddress  unicast address of the last element of the proxy node
+     * @param now          current time in milliseconds
+     * @throws IllegalArgumentException if the connection has already been added
+     */
+    synchronized void add(@NonNull final ProxyBearer bearer, final int proxyAddress, final int lastAddress, final long now) {
+        if (find(bearer) != null)
+            throw new IllegalArgumentException("Proxy bearer already added");
+        final Bearer added = new Bearer(bearer, ++mLastBearerId, proxyAddress, Math.max(proxyAddress, lastAddress));
+        mBearers.add(added);
+        SentPdu sentPdu;
+        while ((sentPdu = mOrphanedPdus.poll()) != null) {
+            if (now - sentPdu.timestamp < FAILOVER_WINDOW) {
+                mFailoverCount++;
+                transmit(added, sentPdu.dst, sentPdu.pdu, now);
+            }
+        }
+    }
+
+    /**
+     * Removes a proxy connection and resends the network PDUs recently sent over it.
+     *
+     * @param bearer proxy connection
+     * @param now    current time in milliseconds
+     * @return true if the connection was removed or false if it had not been added
+     */
+    synchronized boolean remove(@NonNull final ProxyBearer bearer, final long now) {
+        final Bearer removed = find(bearer);
+        if (removed == null)
+            return false;
+        mBearers.remove(removed);
+        if (mReceivingBearer == removed) {
+            mReceivingBearer = null;
+        }
+        final Iterator<Bearer> routes = mRoutes.values().iterator();
+        while (routes.hasNext()) {
+            if (routes.next() == removed) {
+                routes.remove();
+            }
+        }
+        for (SentPdu sentPdu : removed.sentPdus) {
+            if (now - sentPdu.timestamp >= FAILOVER_WINDOW)
+                continue;
+            if (mBearers.isEmpty()) {
+                mOrphanedPdus.add(sentPdu);
+            } else {
+                mFailoverCount++;
+                transmit(select(sentPdu.dst), sentPdu.dst, sentPdu.pdu, now);
+            }
+        }
+        MeshLogger.debug(TAG, "Proxy bearer removed, " + mBearers.size() + " remaining");
+        return true;
+    }
+
+    synchronized boolean isEmpty() {
+        return mBearers.isEmpty();
+    }
+
+    synchronized int getBearerCount() {
+        return mBearers.size();
+    }
+
+    /**
+     * Returns the id of a proxy connection, or 0 if it has not been added. Ids start at 1 and are assigned in the order
+     * the connections are added, so that PDUs captured in a trace can be told apart per connection.
+     */
+    synchronized int getBearerId(@NonNull final ProxyBearer bearer) {
+        final Bearer found = find(bearer);
+        return found == null ? 0 : found.id;
+    }
+
+    /**
+     * Sets the listener notified of the PDUs written to the proxy connections.
+     */
+    synchronized void setPduListener(@Nullable final PduListener listener) {
+        mPduListener = listener;
+    }
+
+    /**
+     * Sends a PDU over the most suitable proxy connection, or over every connection if it is not a network PDU or
+     * is not addressed to a node.
+     *
+     * @param dst destination address
+     * @param pdu unsegmented proxy PDU
+     * @param now current time in milliseconds
+     */
+    synchronized void send(final int dst, @NonNull final byte[] pdu, final long now) {
+        if (mBearers.isEmpty())
+            return;
+        if (pdu[0] != MeshManagerApi.PDU_TYPE_NETWORK || dst == MeshAddress.UNASSIGNED_ADDRESS) {
+            for (int i = 0; i < mBearers.size(); i++) {
+                write(mBearers.get(i), pdu);
+            }
+            return;
+        }
+        transmit(select(dst), dst, pdu, now);
+    }
+
+    /**
+     * Returns the SAR buffers of a proxy connection, or null if the connection has not been added.
+     */
+    @Nullable
+    synchronized ProxySarBuffer getSarBuffer(@NonNull final ProxyBearer bearer) {
+        final Bearer found = find(bearer);
+        return found == null ? null : found.sarBuffer;
+    }
+
+    /**
+     * Returns true if the network PDU being parsed has already been received over any of the proxy connections. PDUs
+     * not received over a proxy connection are never reported as duplicates.
+     *
+     * @param ivIndex        IV Index the PDU was decrypted with
+     * @param src            de-obfuscated source address
+     * @param sequenceNumber de-obfuscated sequence number
+     */
+    synchronized boolean isDuplicate(final int ivIndex, final int src, final int sequenceNumber) {
+        if (mReceivingBearer == null)
+            return false;
+        final long key = (long) ivIndex << 40 | (long) src << 24 | sequenceNumber;
+        if (mReceivedPdus.put(key, Boolean.TRUE) == null)
+            return false;
+        mDuplicateCount++;
+        return true;
+    }
+
+    /**
+     * Sets the proxy connection over which the PDU being parsed was received, or null once it has been parsed.
+     */
+    synchronized void setReceivingBearer(@Nullable final ProxyBearer bearer) {
+        mReceivingBearer = bearer == null ? null : find(bearer);
+    }
+
+    /**
+     * Records that a message from the given address was received over the connection of the PDU being parsed.
+     */
+    synchronized void onMessageReceived(final int src) {
+        if (mReceivingBearer != null && MeshAddress.isValidUnicastAddress(src)) {
+            mRoutes.put(src, mReceivingBearer);
+        }
+    }
+
+    /**
+     * Records that a PDU has been written to a proxy connection.
+     */
+    synchronized void onPduWritten(@NonNull final ProxyBearer bearer) {
+        final Bearer found = find(bearer);
+        if (found != null && found.pendingWrites > 0) {
+            found.pendingWrites--;
+        }
+    }
+
+    /**
+     * Returns the proxy filter of the connection over which the PDU being parsed was received, or null if the PDU was
+     * not received over a proxy connection.
+     */
+    @Nullable
+    synchronized ProxyFilter getReceivingProxyFilter() {
+        return mReceivingBearer == null ? null : mReceivingBearer.proxyFilter;
+    }
+
+    /**
+     * Sets the proxy filter of the connection over which the PDU being parsed was received, as confirmed by the Filter
+     * Status it carries.
+     *
+     * @return true if the filter was set or false if the PDU was not received over a proxy connection
+     */
+    synchronized boolean setReceivingProxyFilter(@NonNull final ProxyFilter filter) {
+        if (mReceivingBearer == null)
+            return false;
+        mReceivingBearer.proxyFilter = filter;
+        return true;
+    }
+
+    /**
+     * Returns the proxy filter of a connection, or null if the connection has not been added.
+     */
+    @Nullable
+    synchronized ProxyFilter getProxyFilter(@NonNull final ProxyBearer bearer) {
+        final Bearer found = find(bearer);
+        return found == null ? null : found.proxyFilter;
+    }
+
+    /**
+     * Returns the number of network PDUs dropped as they had already been received over another connection.
+     */
+    synchronized long getDuplicateCount() {
+        return mDuplicateCount;
+    }
+
+    /**
+     * Returns the number of network PDUs resent after a connection was closed.
+     */
+    synchronized long getFailoverCount() {
+        return mFailoverCount;
+    }
+
+    @NonNull
+    private Bearer select(final int dst) {
+        Bearer leastLoaded = null;
+        for (int i = 0; i < mBearers.size(); i++) {
+            final Bearer bearer = mBearers.get(i);
+            if (bearer.isProxyElement(dst))
+                return bearer;
+            if (leastLoaded == null || bearer.pendingWrites < leastLoaded.pendingWrites) {
+                leastLoaded = bearer;
+            }
+        }
+        final Bearer route = mRoutes.get(dst);
+        return route != null ? route : leastLoaded;
+    }
+
+    private void transmit(@NonNull final Bearer bearer, final int dst, @NonNull final byte[] pdu, final long now) {
+        bearer.sentPdus.add(new SentPdu(dst, pdu, now));
+        SentPdu oldest;
+        while ((oldest = bearer.sentPdus.peek()) != null
+                && (bearer.sentPdus.size() > MAX_SENT_PDUS || now - oldest.timestamp >= FAILOVER_WINDOW)) {
+            bearer.sentPdus.poll();
+        }
+        write(bearer, pdu);
+    }
+
+    private void write(@NonNull final Bearer bearer, @NonNull final byte[] pdu) {
+        final int mtu = bearer.bearer.getMtu();
+        bearer.pendingWrites++;
+        if (mPduListener != null) {
+            mPduListener.onPduSent(bearer.id, mtu, pdu);
+        }
+        bearer.bearer.sendPdu(MeshManagerApi.applySegmentation(mtu, pdu));
+    }
+
+    @Nullable
+    private Bearer find(@NonNull final ProxyBearer bearer) {
+        for (int i = 0; i < mBearers.size(); i++) {
+            if (mBearers.get(i).bearer == bearer)
+                return mBearers.get(i);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.transport.Element;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.transport.MeshModel;
+import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
+import no.nordicsemi.android.mesh.transport.ProxyConfigAddAddressToFilter;
+import no.nordicsemi.android.mesh.transport.ProxyConfigFilterStatus;
+import no.nordicsemi.android.mesh.transport.ProxyConfigRemoveAddressFromFilter;
+import no.nordicsemi.android.mesh.transport.ProxyConfigSetFilterType;
+import no.nordicsemi.android.mesh.utils.AddressArray;
+import no.nordicsemi.android.mesh.utils.IntHashSet;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+import no.nordicsemi.android.mesh.utils.ProxyFilter;
+import no.nordicsemi.android.mesh.utils.ProxyFilterType;
+
+/**
+ * Keeps the proxy filter of the connected proxy node in sync with the addresses the provisioner is interested in.
+ * <p>
+ * The desired filter is the filter type and the addresses added by the user, together with the element addresses of
+ * the provisioner and the groups it is subscribed to when the filter is configured automatically. The filter confirmed
+ * by the proxy is the {@link ProxyFilter} of the network. Differences are sent as proxy configuration messages one at
+ * a time, each carrying as many addresses as fit in a single network PDU, removals first. The next message is sent
+ * once the Filter Status of the previous one is received from every connected proxy.
+ * </p>
+ * <p>
+ * Proxy configuration messages sent by the application switch the automatic configuration off and become the desired
+ * filter, so that they are not undone by the next Filter Status.
+ * </p>
+ */
+final class ProxyFilterManager {
+
+    private static final String TAG = ProxyFilterManager.class.getSimpleName();
+
+    /**
+     * Maximum number of addresses in an unsegmented proxy configuration message, as the network PDU carries at most
+     * 11 bytes of opcode and parameters.
+     */
+    static final int MAX_ADDRESSES_PER_MESSAGE = 5;
+
+    interface MessageSender {
+        void send(final int dst, @NonNull final MeshMessage meshMessage);
+    }
+
+    private final MessageSender mSender;
+    private final IntHashSet mAddresses = new IntHashSet();
+    private final IntHashSet mAutomaticAddresses = new IntHashSet();
+    private ProxyFilterType mFilterType = new ProxyFilterType(ProxyFilterType.INCLUSION_LIST_FILTER);
+    private boolean mAutomatic = true;
+    private boolean mConnected;
+    private int mProxyCount = 1;
+    private int mPendingStatuses;
+    private boolean mFull;
+    private int mMessageCount;
+    private List<AddressArray> mLastAdded = new ArrayList<>();
+
+    ProxyFilterManager(@NonNull final MessageSender sender) {
+        mSender = sender;
+    }
+
+    /**
+     * Sets whether the element addresses of the provisioner and the groups it is subscribed to are added to an
+     * inclusion list filter automatically.
+     */
+    synchronized void setAutomatic(@Nullable final MeshNetwork network, final boolean automatic) {
+        mAutomatic = automatic;
+        sync(network);
+    }
+
+    /**
+     * Sets the filter type. Changing the filter type clears the addresses of the filter on the proxy, the addresses
+     * of the new filter are added afterwards.
+     */
+    synchronized void setFilterType(@Nullable final MeshNetwork network, @NonNull final ProxyFilterType filterType) {
+        mFilterType = filterType;
+        sync(network);
+    }
+
+    synchronized void addAddresses(@Nullable final MeshNetwork network, @NonNull final int... addresses) {
+        for (int address : addresses) {
+            mAddresses.add(address & 0xFFFF);
+        }
+        sync(network);
+    }
+
+    synchronized void removeAddresses(@Nullable final MeshNetwork network, @NonNull final int... addresses) {
+        for (int address : addresses) {
+            mAddresses.remove(address & 0xFFFF);
+        }
+        mFull = false;
+        sync(network);
+    }
+
+    /**
+     * Starts configuring the filter of a new proxy connection, which starts as an empty inclusion list.
+     */
+    synchronized void onProxyConnected(@NonNull final MeshNetwork network) {
+        mConnected = true;
+        mPendingStatuses = 0;
+        mFull = false;
+        network.setProxyFilter(new ProxyFilter(new ProxyFilterType(ProxyFilterType.INCLUSION_LIST_FILTER)));
+        sync(network);
+    }
+
+    synchronized void onProxyDisconnected(@NonNull final MeshNetwork network) {
+        mConnected = false;
+        mPendingStatuses = 0;
+        network.setProxyFilter(null);
+    }
+
+    /**
+     * Takes over a proxy filter configuration message sent by the application. The automatic configuration is switched
+     * off, keeping the automatic addresses already in the filter, and the message is applied to the desired filter.
+     * Other messages are ignored.
+     */
+    synchronized void onApplicationMessage(@Nullable final MeshNetwork network, @NonNull final MeshMessage message) {
+        if (!(message instanceof ProxyConfigSetFilterType || message instanceof ProxyConfigAddAddressToFilter ||
+                message instanceof ProxyConfigRemoveAddressFromFilter))
+            return;
+        if (mAutomatic && network != null && mFilterType.getType() == ProxyFilterType.INCLUSION_LIST_FILTER) {
+            updateAutomaticAddresses(network);
+            for (int address : mAutomaticAddresses.toArray()) {
+                mAddresses.add(address);
+            }
+        }
+        mAutomatic = false;
+        if (message instanceof ProxyConfigSetFilterType) {
+            mFilterType = ((ProxyConfigSetFilterType) message).getFilterType();
+            mAddresses.clear();
+            mFull = false;
+        } else if (message instanceof ProxyConfigAddAddressToFilter) {
+            for (AddressArray address : ((ProxyConfigAddAddressToFilter) message).getAddresses()) {
+                mAddresses.add(toInt(address));
+            }
+            mLastAdded = ((ProxyConfigAddAddressToFilter) message).getAddresses();
+        } else if (message instanceof ProxyConfigRemoveAddressFromFilter) {
+            for (AddressArray address : ((ProxyConfigRemoveAddressFromFilter) message).getAddresses()) {
+                mAddresses.remove(toInt(address));
+            }
+            mFull = false;
+        }
+        if (mConnected) {
+            // The proxy responds to the message of the application like to those sent by the manager
+            mPendingStatuses += mProxyCount;
+        }
+    }
+
+    /**
+     * Continues the filter configuration when a Filter Status is received. If the proxy accepted fewer addresses than
+     * were added, the addresses it did not accept are removed from the filter of the network.
+     */
+    synchronized void onMessageReceived(@NonNull final MeshNetwork network, @NonNull final MeshMessage message) {
+        if (message instanceof ProxyConfigFilterStatus) {
+            if (mPendingStatuses > 0) {
+                mPendingStatuses--;
+            }
+            final ProxyFilter filter = network.getProxyFilter();
+            final int listSize = ((ProxyConfigFilterStatus) message).getListSize();
+            if (filter != null && listSize < filter.getAddressCount()) {
+                MeshLogger.warn(TAG, "Proxy filter is full, " + listSize + " addresses accepted");
+                mFull = true;
+                trim(filter, listSize);
+            }
+            sync(network);
+        }
+    }
+
+    /**
+     * Refreshes the automatic addresses when the provisioner, its node or the whole network has changed.
+     */
+    synchronized void onNetworkChanged(@NonNull final MeshNetwork network, @NonNull final NetworkChangeSet changes) {
+        if (!mConnected || !mAutomatic)
+            return;
+        final Integer provisionerAddress = network.getSelectedProvisioner() == null ? null : network.getProvisionerAddress();
+        if (changes.isNetworkChanged() || !changes.getProvisioners().isEmpty() ||
+                (provisionerAddress != null && changes.getNodes().contains(provisionerAddress))) {
+            sync(network);
+        }
+    }
+
+    /**
+     * Sets the number of connected proxies, each of which responds to every proxy configuration message. If a proxy
+     * is disconnected while a response is pending, the next message is sent without waiting for the remaining ones.
+     */
+    synchronized void setProxyCount(@Nullable final MeshNetwork network, final int count) {
+        final boolean removed = count < mProxyCount;
+        mProxyCount = Math.max(1, count);
+        if (removed && mPendingStatuses > 0) {
+            mPendingStatuses = 0;
+            sync(network);
+        }
+    }
+
+    /**
+     * Returns the number of proxy configuration messages sent.
+     */
+    synchronized int getMessageCount() {
+        return mMessageCount;
+    }
+
+    private void sync(@Nullable final MeshNetwork network) {
+        if (network == null || !mConnected || mPendingStatuses > 0)
+            return;
+        final ProxyFilter filter = network.getProxyFilter();
+        if (filter == null || filter.getFilterType().getType() != mFilterType.getType()) {
+            send(new ProxyConfigSetFilterType(mFilterType));
+            return;
+        }
+
+        final IntHashSet desired = getDesiredAddresses(network);
+        final List<AddressArray> removed = new ArrayList<>();
+        for (int address : filter.getAddressValues()) {
+            if (!desired.contains(address)) {
+                removed.add(toAddressArray(address));
+                if (removed.size() == MAX_ADDRESSES_PER_MESSAGE)
+                    break;
+            }
+        }
+        if (!removed.isEmpty()) {
+            send(new ProxyConfigRemoveAddressFromFilter(removed));
+            return;
+        }
+
+        if (mFull)
+            return;
+        final List<AddressArray> added = new ArrayList<>();
+        for (int address : desired.toArray()) {
+            if (!filter.contains(address)) {
+                added.add(toAddressArray(address));
+                if (added.size() == MAX_ADDRESSES_PER_MESSAGE)
+                    break;
+            }
+        }
+        if (!added.isEmpty()) {
+            send(new ProxyConfigAddAddressToFilter(added));
+        }
+    }
+
+    /**
+     * Removes the addresses the proxy did not accept, the last ones added, until the filter holds the given number.
+     */
+    private void trim(@NonNull final ProxyFilter filter, final int listSize) {
+        for (int i = mLastAdded.size() - 1; i >= 0 && filter.getAddressCount() > listSize; i--) {
+            filter.removeAddress(mLastAdded.get(i));
+        }
+        final int[] addresses = filter.getAddressValues();
+        for (int i = addresses.length - 1; i >= 0 && filter.getAddressCount() > listSize; i--) {
+            filter.removeAddress(addresses[i]);
+        }
+    }
+
+    private void send(@NonNull final MeshMessage message) {
+        if (message instanceof ProxyConfigAddAddressToFilter) {
+            mLastAdded = ((ProxyConfigAddAddressToFilter) message).getAddresses();
+        }
+        mPendingStatuses = mProxyCount;
+        mMessageCount++;
+        mSender.send(MeshAddress.UNASSIGNED_ADDRESS, message);
+    }
+
+    @NonNull
+    private IntHashSet getDesiredAddresses(@NonNull final MeshNetwork network) {
+        final IntHashSet desired = new IntHashSet(mAddresses.size() + mAutomaticAddresses.size());
+        for (int address : mAddresses.toArray()) {
+            desired.add(address);
+        }
+        if (mAutomatic && mFilterType.getType() == ProxyFilterType.INCLUSION_LIST_FILTER) {
+            updateAutomaticAddresses(network);
+            for (int address : mAutomaticAddresses.toArray()) {
+                desired.add(address);
+            }
+        }
+        return desired;
+    }
+
+    private void updateAutomaticAddresses(@NonNull final MeshNetwork network) {
+        mAutomaticAddresses.clear();
+        final Integer provisionerAddress = network.getSelectedProvisioner() == null ? null : network.getProvisionerAddress();
+        if (provisionerAddress == null)
+            return;
+        final ProvisionedMeshNode node = network.getNode(provisionerAddress);
+        if (node == null) {
+            mAutomaticAddresses.add(provisionerAddress);
+            return;
+        }
+        for (Element element : node.getElements().values()) {
+            mAutomaticAddresses.add(element.getElementAddress());
+            for (MeshModel model : element.getMeshModels().values()) {
+                for (Integer address : model.getSubscribedAddresses()) {
+                    mAutomaticAddresses.add(address);
+                }
+            }
+        }
+        if (mAutomaticAddresses.isEmpty()) {
+            mAutomaticAddresses.add(provisionerAddress);
+        }
+    }
+
+    private static int toInt(@NonNull final AddressArray address) {
+        return MeshParserUtils.unsignedBytesToInt(address.getAddress()[1], address.getAddress()[0]);
+    }
+
+    @NonNull
+    private static AddressArray toAddressArray(final int address) {
+        return new AddressArray((byte) (address >> 8), (byte) address);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+
+/**
+ * Reassembles the PDUs segmented at the GATT layer that are received from, and written to, a single proxy connection.
+ */
+final class ProxySarBuffer {
+
+    private byte[] mIncomingBuffer;
+    private int mIncomingBufferOffset;
+    private byte[] mOutgoingBuffer;
+    private int mOutgoingBufferOffset;
+    private Runnable mTimeout;
+
+    /**
+     * Returns the task to run when the reassembly of an incoming PDU of this connection times out. The task drops the
+     * partially received PDU and then runs the given task.
+     *
+     * @param onTimeout task run after the partially received PDU is dropped
+     */
+    @NonNull
+    Runnable getTimeout(@NonNull final Runnable onTimeout) {
+        if (mTimeout == null) {
+            mTimeout = () -> {
+                mIncomingBuffer = null;
+                mIncomingBufferOffset = 0;
+                onTimeout.run();
+            };
+        }
+        return mTimeout;
+    }
+
+    /**
+     * Appends the PDUs that are segmented at gatt layer.
+     *
+     * @param mtuSize mtu size supported by the device/node
+     * @param pdu     pdu received by the provisioner
+     * @return the combine pdu or returns null if not complete.
+     */
+    @Nullable
+    byte[] appendNotification(final int mtuSize, @NonNull final byte[] pdu) {
+        final int length = Math.min(pdu.length, mtuSize);
+        if (mIncomingBuffer == null) {
+            mIncomingBufferOffset = 0;
+            mIncomingBufferOffset += length;
+            mIncomingBuffer = pdu;
+        } else {
+            final byte[] buffer = new byte[mIncomingBuffer.length + length];
+            System.arraycopy(mIncomingBuffer, 0, buffer, 0, mIncomingBufferOffset);
+            System.arraycopy(pdu, 0, buffer, mIncomingBufferOffset, length);
+            mIncomingBufferOffset += length;
+            mIncomingBuffer = buffer;
+            final int sar = MeshParserUtils.unsignedByteToInt(pdu[0]) >> MeshManagerApi.SAR_BIT_OFFSET;
+            if (sar == MeshManagerApi.GATT_SAR_END) {
+                final byte[] packet = mIncomingBuffer;
+                mIncomingBuffer = null;
+                return packet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Appends the PDUs that are segmented at gatt layer.
+     *
+     * @param mtuSize mtu size supported by the device/node
+     * @param pdu     pdu written by the provisioner
+     * @return the combine pdu or returns null if not complete.
+     */
+    @Nullable
+    byte[] appendWrite(final int mtuSize, @NonNull final byte[] pdu) {
+        if (mOutgoingBuffer == null) {
+            final int length = Math.min(pdu.length, mtuSize);
+            mOutgoingBufferOffset = 0;
+            mOutgoingBufferOffset += length;
+            mOutgoingBuffer = pdu;
+        } else {
+            final int length = Math.min(pdu.length, mtuSize);
+            final byte[] buffer = new byte[mOutgoingBuffer.length + length];
+            System.arraycopy(mOutgoingBuffer, 0, buffer, 0, mOutgoingBufferOffset);
+            System.arraycopy(pdu, 0, buffer, mOutgoingBufferOffset, length);
+            mOutgoingBufferOffset += length;
+            mOutgoingBuffer = buffer;
+            if (length < mtuSize) {
+                final byte[] packet = mOutgoingBuffer;
+                mOutgoingBuffer = null;
+                return packet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops any partially received or written PDU.
+     */
+    void clear() {
+        mIncomingBuffer = null;
+        mIncomingBufferOffset = 0;
+        mOutgoingBuffer = null;
+        mOutgoingBufferOffset = 0;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.transport.TransportScheduler;
+
+/**
+ * Sends unacknowledged messages a number of times, keeping the same transaction identifier, so that a message lost
+ * on the way to a node or a group is still received without each node having to respond.
+ * <p>
+ * Transaction identifiers are allocated per source and destination address. The first one for a pair is random, so
+ * that it does not match the last one the nodes may remember from a previous session, and the following ones are
+ * incremented. The repeats are spaced by the interval plus a random jitter, so that the repeats of several
+ * messages and of several phones do not collide on every transmission. A newer message with the same opcode to the
+ * same destination supersedes the pending repeats of the older one, which would otherwise undo the newer state.
+ * </p>
+ */
+final class UnacknowledgedRepeater {
+
+    private static final String TAG = UnacknowledgedRepeater.class.getSimpleName();
+    static final int DEFAULT_TRANSMISSIONS = 3;
+    static final long DEFAULT_INTERVAL = 100;
+    static final long DEFAULT_JITTER = 50;
+
+    interface MessageSender {
+        void send(final int dst, @NonNull final MeshMessage meshMessage);
+    }
+
+    private final TransportScheduler mScheduler;
+    private final MessageSender mSender;
+    private final Random mRandom;
+    private final Map<Integer, Integer> mTids = new HashMap<>();
+    private final Map<Long, Repeat> mRepeats = new HashMap<>();
+
+    private final class Repeat implements Runnable {
+        final long key;
+        final int dst;
+        final MeshMessage message;
+        final long interval;
+        final long jitter;
+        int remaining;
+
+        Repeat(final long key, final int dst, @NonNull final MeshMessage message, final int remaining,
+               final long interval, final long jitter) {
+            this.key = key;
+            this.dst = dst;
+            this.message = message;
+            this.remaining = remaining;
+            this.interval = interval;
+            this.jitter = jitter;
+        }
+
+        @Override
+        public void run() {
+            onRepeat(this);
+        }
+    }
+
+    UnacknowledgedRepeater(@NonNull final TransportScheduler scheduler, @NonNull final MessageSender sender) {
+        this(scheduler, sender, new Random());
+    }
+
+    UnacknowledgedRepeater(@NonNull final TransportScheduler scheduler,
+                           @NonNull final MessageSender sender,
+                           @NonNull final Random random) {
+        mScheduler = scheduler;
+        mSender = sender;
+        mRandom = random;
+    }
+
+    /**
+     * Returns the next transaction identifier for messages from a source to a destination.
+     */
+    synchronized int nextTid(final int src, final int dst) {
+        final int key = (src & 0xFFFF) << 16 | (dst & 0xFFFF);
+        final Integer last = mTids.get(key);
+        final int tId = last == null ? mRandom.nextInt(256) : (last + 1) & 0xFF;
+        mTids.put(key, tId);
+        return tId;
+    }
+
+    /**
+     * Sends a message right away and schedules its repeats.
+     *
+     * @param src           source address the transaction identifier is allocated for
+     * @param dst           destination address
+     * @param factory       factory creating the message with the allocated transaction identifier
+     * @param transmissions number of times the message is sent
+     * @param interval      minimum time between two transmissions in milliseconds
+     * @param jitter        maximum random time added to the interval in milliseconds
+     * @return the message sent
+     * @throws IllegalArgumentException if the message could not be sent
+     */
+    @NonNull
+    synchronized MeshMessage send(final int src,
+                                  final int dst,
+                                  @NonNull final UnacknowledgedMessageFactory factory,
+                                  final int transmissions,
+                                  final long interval,
+                                  final long jitter) {
+        if (transmissions < 1)
+            throw new IllegalArgumentException("A message must be sent at least once");
+        if (interval < 0 || jitter < 0)
+            throw new IllegalArgumentException("Interval and jitter must not be negative");
+        final MeshMessage message = factory.create(nextTid(src, dst));
+        final long key = (long) (dst & 0xFFFF) << 32 | (message.getOpCode() & 0xFFFFFFFFL);
+        final Repeat superseded = mRepeats.remove(key);
+        if (superseded != null) {
+            mScheduler.removeCallbacks(superseded);
+        }
+        mSender.send(dst, message);
+        if (transmissions > 1) {
+            final Repeat repeat = new Repeat(key, dst, message, transmissions - 1, interval, jitter);
+            mRepeats.put(key, repeat);
+            schedule(repeat);
+        }
+        return message;
+    }
+
+    /**
+     * Cancels the pending repeats of the messages sent to a destination.
+     *
+     * @return true if any repeats were pending
+     */
+    synchronized boolean cancel(final int dst) {
+        boolean cancelled = false;
+        final Iterator<Repeat> iterator = mRepeats.values().iterator();
+        while (iterator.hasNext()) {
+            final Repeat repeat = iterator.next();
+            if (repeat.dst == dst) {
+                mScheduler.removeCallbacks(repeat);
+                iterator.remove();
+                cancelled = true;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Cancels all pending repeats.
+     */
+    synchronized void cancelAll() {
+        for (Repeat repeat : mRepeats.values()) {
+            mScheduler.removeCallbacks(repeat);
+        }
+        mRepeats.clear();
+    }
+
+    synchronized int getPendingCount() {
+        return mRepeats.size();
+    }
+
+    private synchronized void onRepeat(@NonNull final Repeat repeat) {
+        if (mRepeats.get(repeat.key) != repeat)
+            return;
+        try {
+            mSender.send(repeat.dst, repeat.message);
+        } catch (IllegalArgumentException ex) {
+            MeshLogger.warn(TAG, "Unable to repeat message to 0x" + Integer.toHexString(repeat.dst) + ": " + ex.getMessage());
+            mRepeats.remove(repeat.key);
+            return;
+        }
+        if (--repeat.remaining > 0) {
+            schedule(repeat);
+        } else {
+            mRepeats.remove(repeat.key);
+        }
+    }
+
+    private void schedule(@NonNull final Repeat repeat) {
+        final long jitter = repeat.jitter == 0 ? 0 : (long) (mRandom.nextDouble() * (repeat.jitter + 1));
+        mScheduler.postDelayed(repeat, repeat.interval + jitter);
+    }
+}
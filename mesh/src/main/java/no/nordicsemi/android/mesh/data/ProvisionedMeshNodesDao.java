@@ -4,6 +4,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.RoomWarnings;
 import androidx.annotation.RestrictTo;
 
 import java.util.List;
@@ -16,12 +17,67 @@ import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
 @Dao
 public interface ProvisionedMeshNodesDao {
 
+    /**
+     * Columns of a node stub, every column except the elements, see {@link ProvisionedMeshNode#setElementStub}.
+     */
+    String STUB_COLUMNS = "timestamp, name, ttl, secureNetworkBeacon, mesh_uuid, uuid, security, unicast_address, " +
+            "configured, device_key, seq_number, cid, pid, vid, crpl, netKeys, appKeys, element_count, excluded, " +
+            "networkTransmitCount, networkIntervalSteps, relayTransmitCount, relayIntervalSteps, " +
+            "friend, lowPower, proxy, relay";
+
+    /**
+     * Orders the nodes by unicast address and UUID, so that a page starts after the last node of the previous page
+     * even if nodes are added or removed in between.
+     */
+    String PAGE = "AND (unicast_address > :afterAddress OR (unicast_address = :afterAddress AND uuid > :afterUuid)) " +
+            "ORDER BY unicast_address, uuid LIMIT :limit";
+
     @Query("SELECT * from nodes WHERE mesh_uuid == :meshUuid")
     List<ProvisionedMeshNode> loadMeshNodes(final String meshUuid);
 
     @Query("SELECT * from nodes WHERE mesh_uuid IS :meshUuid")
     List<ProvisionedMeshNode> getNodes(final String meshUuid);
 
+    /**
+     * Returns the nodes following the given node in the order of their unicast addresses.
+     */
+    @Query("SELECT * from nodes WHERE mesh_uuid IS :meshUuid " + PAGE)
+    List<ProvisionedMeshNode> getNodes(final String meshUuid, final int afterAddress, final String afterUuid, final int limit);
+
+    /**
+     * Returns the nodes following the given node in the order of their unicast addresses, without their elements.
+     */
+    @SuppressWarnings(RoomWarnings.CURSOR_MISMATCH)
+    @Query("SELECT " + STUB_COLUMNS + " from nodes WHERE mesh_uuid IS :meshUuid " + PAGE)
+    List<ProvisionedMeshNode> getNodeStubs(final String meshUuid, final int afterAddress, final String afterUuid, final int limit);
+
+    /**
+     * Returns the node with the highest unicast address that is less than or equal to the given address, without its
+     * elements. As the address ranges of nodes do not overlap this is the only node that may contain an element with
+     * that address.
+     */
+    @SuppressWarnings(RoomWarnings.CURSOR_MISMATCH)
+    @Query("SELECT " + STUB_COLUMNS + " from nodes WHERE mesh_uuid IS :meshUuid AND unicast_address <= :address " +
+            "ORDER BY unicast_address DESC LIMIT 1")
+    ProvisionedMeshNode getNodeStubAtOrBelow(final String meshUuid, final int address);
+
+    /**
+     * Returns the nodes whose unicast address is within the given range, without their elements.
+     */
+    @SuppressWarnings(RoomWarnings.CURSOR_MISMATCH)
+    @Query("SELECT " + STUB_COLUMNS + " from nodes WHERE mesh_uuid IS :meshUuid " +
+            "AND unicast_address BETWEEN :lowAddress AND :highAddress ORDER BY unicast_address")
+    List<ProvisionedMeshNode> getNodeStubsInRange(final String meshUuid, final int lowAddress, final int highAddress);
+
+    /**
+     * Returns the encoded elements of a node.
+     */
+    @Query("SELECT elements from nodes WHERE uuid IS :uuid")
+    byte[] getElements(final String uuid);
+
+    @Query("SELECT COUNT(*) from nodes WHERE mesh_uuid IS :meshUuid")
+    int getNodeCount(final String meshUuid);
+
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     void insert(final List<ProvisionedMeshNode> provisionedMeshNode);
 
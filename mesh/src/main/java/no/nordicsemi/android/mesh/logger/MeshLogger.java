@@ -2,6 +2,9 @@ package no.nordicsemi.android.mesh.logger;
 
 import android.util.Log;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
 import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 
@@ -51,6 +54,12 @@ public final class MeshLogger {
         log(Log.ERROR, tag, message, throwable);
     }
 
+    /**
+     * Sets the handler the library logs to. Without a handler the library logs to {@link Log}, so a handler must be set
+     * when the library runs outside of Android, such as in JVM unit tests.
+     *
+     * @param logHandler handler or null to log to {@link Log}
+     */
     public static void setLogHandler(@Nullable LogHandler logHandler) {
         MeshLogger.logHandler = logHandler;
     }
@@ -58,7 +67,7 @@ public final class MeshLogger {
     private static void log(int priority, String tag, String message, @Nullable Throwable throwable) {
         String fullMessage = message;
         if (throwable != null) {
-            fullMessage = fullMessage + "\n" + Log.getStackTraceString(throwable);
+            fullMessage = fullMessage + "\n" + getStackTraceString(throwable);
         }
         if (logHandler != null) {
             logHandler.log(priority, tag, fullMessage);
@@ -67,4 +76,12 @@ public final class MeshLogger {
         }
     }
 
+    private static String getStackTraceString(final Throwable throwable) {
+        final StringWriter writer = new StringWriter();
+        final PrintWriter printWriter = new PrintWriter(writer);
+        throwable.printStackTrace(printWriter);
+        printWriter.flush();
+        return writer.toString();
+    }
+
 }
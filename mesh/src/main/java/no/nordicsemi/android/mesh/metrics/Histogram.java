@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Histogram of a {@link MeshMetrics} registry with fixed bucket bounds.
+ * <p>
+ * Each bucket counts the values lower than or equal to its upper bound and greater than the bound of the previous
+ * bucket. Values greater than the last bound are counted in an overflow bucket.
+ * </p>
+ */
+public final class Histogram {
+
+    private final String mName;
+    private final long[] mBounds;
+    private final AtomicLongArray mCounts;
+    private final AtomicLong mSum = new AtomicLong();
+    private final AtomicLong mMax = new AtomicLong();
+
+    Histogram(@NonNull final String name, @NonNull final long[] bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1])
+                throw new IllegalArgumentException("Bucket bounds must be in ascending order");
+        }
+        mName = name;
+        mBounds = bounds.clone();
+        mCounts = new AtomicLongArray(bounds.length + 1);
+    }
+
+    /**
+     * Returns the name of the histogram.
+     */
+    @NonNull
+    public String getName() {
+        return mName;
+    }
+
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public void record(final long value) {
+        int bucket = 0;
+        while (bucket < mBounds.length && value > mBounds[bucket]) {
+            bucket++;
+        }
+        mCounts.incrementAndGet(bucket);
+        mSum.addAndGet(value);
+        long max;
+        while (value > (max = mMax.get()) && !mMax.compareAndSet(max, value)) {
+            // Retry until the maximum is updated or a larger value has been recorded
+        }
+    }
+
+    /**
+     * Returns a copy of the current values of the histogram.
+     */
+    @NonNull
+    public HistogramSnapshot snapshot() {
+        final long[] counts = new long[mCounts.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = mCounts.get(i);
+        }
+        return new HistogramSnapshot(mBounds, counts, mSum.get(), mMax.get());
+    }
+
+    void reset() {
+        for (int i = 0; i < mCounts.length(); i++) {
+            mCounts.set(i, 0);
+        }
+        mSum.set(0);
+        mMax.set(0);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.metrics;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Values of a {@link Histogram} at the time the snapshot was taken.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] mBounds;
+    private final long[] mCounts;
+    private final long mCount;
+    private final long mSum;
+    private final long mMax;
+
+    HistogramSnapshot(@NonNull final long[] bounds, @NonNull final long[] counts, final long sum, final long max) {
+        mBounds = bounds;
+        mCounts = counts;
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        mCount = count;
+        mSum = sum;
+        mMax = max;
+    }
+
+    /**
+     * Returns the upper bounds of the buckets, the overflow bucket excluded.
+     */
+    @NonNull
+    public long[] getBounds() {
+        return mBounds.clone();
+    }
+
+    /**
+     * Returns the number of values in each bucket, the last one being the overflow bucket.
+     */
+    @NonNull
+    public long[] getCounts() {
+        return mCounts.clone();
+    }
+
+    /**
+     * Returns the number of values recorded.
+     */
+    public long getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the sum of the values recorded.
+     */
+    public long getSum() {
+        return mSum;
+    }
+
+    /**
+     * Returns the largest value recorded or 0 if none.
+     */
+    public long getMax() {
+        return mMax;
+    }
+
+    /**
+     * Returns the mean of the values recorded or 0 if none.
+     */
+    public double getMean() {
+        return mCount == 0 ? 0 : (double) mSum / mCount;
+    }
+
+    /**
+     * Returns an upper estimate of the given percentile, which is the bound of the bucket the percentile falls in or
+     * the largest value recorded if it falls in the overflow bucket.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return estimated percentile or 0 if no values were recorded
+     */
+    public long getPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        if (mCount == 0)
+            return 0;
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * mCount));
+        long count = 0;
+        for (int i = 0; i < mBounds.length; i++) {
+            count += mCounts[i];
+            if (count >= rank)
+                return Math.min(mBounds[i], mMax);
+        }
+        return mMax;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Registry of the operational metrics of the mesh stack.
+ * <p>
+ * Counters and histograms are updated without locking by the network, lower transport, upper transport and access
+ * layers and by the provisioning handler. Counters named with <i>dropped</i> count the PDUs discarded for the given
+ * reason. Take a {@link #snapshot()} to read the current values, or set a {@link MetricsExporter} and call
+ * {@link #export()} periodically to pass them on.
+ * </p>
+ */
+public final class MeshMetrics {
+
+    private static final List<Counter> COUNTERS = new ArrayList<>();
+    private static final List<Histogram> HISTOGRAMS = new ArrayList<>();
+
+    /**
+     * Upper bounds in milliseconds of the buckets of the latency histograms.
+     */
+    private static final long[] LATENCY_BOUNDS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    /**
+     * Upper bounds in milliseconds of the buckets of the provisioning duration histogram.
+     */
+    private static final long[] PROVISIONING_BOUNDS = {1000, 2500, 5000, 10000, 20000, 30000, 60000};
+
+    /** Network PDUs received. */
+    public static final Counter NETWORK_PDUS_RECEIVED = counter("network.pdus_received");
+    /** Network PDUs created, each segment counted separately. */
+    public static final Counter NETWORK_PDUS_SENT = counter("network.pdus_sent");
+    /** Network PDUs dropped as their NID does not match any network key. */
+    public static final Counter NETWORK_DROPPED_NID_MISMATCH = counter("network.dropped.nid_mismatch");
+    /** Network PDUs dropped as their source is not a node of the network. */
+    public static final Counter NETWORK_DROPPED_UNKNOWN_SOURCE = counter("network.dropped.unknown_source");
+    /** Network PDUs dropped as their network MIC did not match. */
+    public static final Counter NETWORK_DROPPED_DECRYPTION_FAILED = counter("network.dropped.decryption_failed");
+    /** Control messages dropped as they were not addressed to the provisioner. */
+    public static final Counter NETWORK_DROPPED_NOT_ADDRESSED = counter("network.dropped.not_addressed");
+    /** Segments received. */
+    public static final Counter LOWER_TRANSPORT_SEGMENTS_RECEIVED = counter("lower_transport.segments_received");
+    /** Segments sent again after a block acknowledgement. */
+    public static final Counter LOWER_TRANSPORT_SEGMENTS_RETRANSMITTED = counter("lower_transport.segments_retransmitted");
+    /** Block acknowledgements sent. */
+    public static final Counter LOWER_TRANSPORT_BLOCK_ACKS_SENT = counter("lower_transport.block_acks_sent");
+    /** Block acknowledgements received. */
+    public static final Counter LOWER_TRANSPORT_BLOCK_ACKS_RECEIVED = counter("lower_transport.block_acks_received");
+    /** Segmented messages abandoned as the incomplete timer expired. */
+    public static final Counter LOWER_TRANSPORT_INCOMPLETE_TIMER_EXPIRED = counter("lower_transport.incomplete_timer_expired");
+    /** Messages dropped as their SeqAuth was not greater than the last one received from the source. */
+    public static final Counter LOWER_TRANSPORT_DROPPED_REPLAY = counter("lower_transport.dropped.replay");
+    /** Segments dropped as a segmented message from another source was being received. */
+    public static final Counter LOWER_TRANSPORT_DROPPED_INTERLEAVED = counter("lower_transport.dropped.interleaved");
+    /** Access messages dropped as their transport MIC did not match. */
+    public static final Counter UPPER_TRANSPORT_DROPPED_DECRYPTION_FAILED = counter("upper_transport.dropped.decryption_failed");
+    /** Access messages sent. */
+    public static final Counter ACCESS_MESSAGES_SENT = counter("access.messages_sent");
+    /** Access messages received. */
+    public static final Counter ACCESS_MESSAGES_RECEIVED = counter("access.messages_received");
+    /** Control messages replaced by a newer one to the same destination before being sent. */
+    public static final Counter COMMANDS_SUPERSEDED = counter("access.commands_superseded");
+    /** Control messages held for coalescing that were never sent. */
+    public static final Counter COMMANDS_DROPPED = counter("access.commands_dropped");
+    /** Provisioning procedures started. */
+    public static final Counter PROVISIONING_STARTED = counter("provisioning.started");
+    /** Provisioning procedures completed. */
+    public static final Counter PROVISIONING_COMPLETED = counter("provisioning.completed");
+    /** Provisioning procedures failed. */
+    public static final Counter PROVISIONING_FAILED = counter("provisioning.failed");
+
+    /** Time in milliseconds between sending a message to a node and receiving the first message from it. */
+    public static final Histogram ACCESS_RESPONSE_LATENCY = histogram("access.response_latency_ms", LATENCY_BOUNDS);
+    /** Time in milliseconds between sending the provisioning invite and receiving provisioning complete. */
+    public static final Histogram PROVISIONING_DURATION = histogram("provisioning.duration_ms", PROVISIONING_BOUNDS);
+
+    @Nullable
+    private static volatile MetricsExporter exporter;
+
+    private MeshMetrics() {
+    }
+
+    /**
+     * Sets the exporter receiving the snapshots taken by {@link #export()}.
+     *
+     * @param metricsExporter metrics exporter or null to remove the current one
+     */
+    public static void setExporter(@Nullable final MetricsExporter metricsExporter) {
+        exporter = metricsExporter;
+    }
+
+    /**
+     * Returns the current values of all metrics.
+     */
+    @NonNull
+    public static MetricsSnapshot snapshot() {
+        final Map<String, Long> counters = new LinkedHashMap<>();
+        for (Counter counter : COUNTERS) {
+            counters.put(counter.getName(), counter.get());
+        }
+        final Map<String, HistogramSnapshot> histograms = new LinkedHashMap<>();
+        for (Histogram histogram : HISTOGRAMS) {
+            histograms.put(histogram.getName(), histogram.snapshot());
+        }
+        return new MetricsSnapshot(System.currentTimeMillis(), counters, histograms);
+    }
+
+    /**
+     * Takes a snapshot and passes it to the exporter, if one is set.
+     *
+     * @return the exported snapshot
+     */
+    @NonNull
+    public static MetricsSnapshot export() {
+        final MetricsSnapshot snapshot = snapshot();
+        final MetricsExporter metricsExporter = exporter;
+        if (metricsExporter != null) {
+            metricsExporter.export(snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Resets all metrics to 0.
+     */
+    public static void reset() {
+        for (Counter counter : COUNTERS) {
+            counter.reset();
+        }
+        for (Histogram histogram : HISTOGRAMS) {
+            histogram.reset();
+        }
+    }
+
+    private static Counter counter(@NonNull final String name) {
+        final Counter counter = new Counter(name);
+        COUNTERS.add(counter);
+        return counter;
+    }
+
+    private static Histogram histogram(@NonNull final String name, @NonNull final long[] bounds) {
+        final Histogram histogram = new Histogram(name, bounds);
+        HISTOGRAMS.add(histogram);
+        return histogram;
+    }
+}
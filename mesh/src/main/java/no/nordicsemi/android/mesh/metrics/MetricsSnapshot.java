@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Values of the mesh metrics at the time the snapshot was taken.
+ */
+public final class MetricsSnapshot {
+
+    private final long mTimestamp;
+    private final Map<String, Long> mCounters;
+    private final Map<String, HistogramSnapshot> mHistograms;
+
+    MetricsSnapshot(final long timestamp,
+                    @NonNull final Map<String, Long> counters,
+                    @NonNull final Map<String, HistogramSnapshot> histograms) {
+        mTimestamp = timestamp;
+        mCounters = Collections.unmodifiableMap(counters);
+        mHistograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Returns the time the snapshot was taken in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return mTimestamp;
+    }
+
+    /**
+     * Returns the values of the counters by name.
+     */
+    @NonNull
+    public Map<String, Long> getCounters() {
+        return mCounters;
+    }
+
+    /**
+     * Returns the value of a counter or 0 if there is no counter with the given name.
+     *
+     * @param name counter name
+     */
+    public long getCounter(@NonNull final String name) {
+        final Long value = mCounters.get(name);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Returns the histograms by name.
+     */
+    @NonNull
+    public Map<String, HistogramSnapshot> getHistograms() {
+        return mHistograms;
+    }
+
+    /**
+     * Returns a histogram or null if there is no histogram with the given name.
+     *
+     * @param name histogram name
+     */
+    @Nullable
+    public HistogramSnapshot getHistogram(@NonNull final String name) {
+        return mHistograms.get(name);
+    }
+}
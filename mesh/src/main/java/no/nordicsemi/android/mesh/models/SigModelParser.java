@@ -44,7 +44,7 @@ public class SigModelParser {
     private static final short GENERIC_POWER_LEVEL_SERVER = 0x1009;
     private static final short GENERIC_POWER_LEVEL_SETUP_SERVER = 0x100A;
     private static final short GENERIC_POWER_LEVEL_CLIENT = 0x100B;
-    private static final short GENERIC_BATTERY_SERVER = 0x100C;
+    public static final short GENERIC_BATTERY_SERVER = 0x100C;
     private static final short GENERIC_BATTERY_CLIENT = 0x100D;
     private static final short GENERIC_LOCATION_SERVER = 0x100E;
     private static final short GENERIC_LOCATION_SETUP_SERVER = 0x100F;
@@ -72,14 +72,14 @@ public class SigModelParser {
     private static final short SCHEDULER_CLIENT = 0x1208;
 
     // SIG Lightning, Mesh Model Spec
-    private static final short LIGHT_LIGHTNESS_SERVER = 0x1300;
+    public static final short LIGHT_LIGHTNESS_SERVER = 0x1300;
     private static final short LIGHT_LIGHTNESS_SETUP_SERVER = 0x1301;
     private static final short LIGHT_LIGHTNESS_CLIENT = 0x1302;
-    private static final short LIGHT_CTL_SERVER = 0x1303;
+    public static final short LIGHT_CTL_SERVER = 0x1303;
     private static final short LIGHT_CTL_SETUP_SERVER = 0x1304;
     private static final short LIGHT_CTL_CLIENT = 0x1305;
     private static final short LIGHT_CTL_TEMPERATURE_SERVER = 0x1306;
-    private static final short LIGHT_HSL_SERVER = 0x1307;
+    public static final short LIGHT_HSL_SERVER = 0x1307;
     private static final short LIGHT_HSL_SETUP_SERVER = 0x1308;
     private static final short LIGHT_HSL_CLIENT = 0x1309;
     private static final short LIGHT_HSL_HUE_SERVER = 0x130A;
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.sensorhistory;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Bounded ring of samples ordered by time, stored in primitive arrays. The arrays start small and double in size as
+ * samples are added, up to the capacity of the ring. When full, the oldest sample is overwritten.
+ */
+final class SampleRing {
+
+    static final int INITIAL_CAPACITY = 16;
+
+    private final int mCapacity;
+    private long[] mTimestamps;
+    private double[] mMins;
+    private double[] mMaxs;
+    private double[] mSums;
+    private int[] mCounts;
+    private int mHead;
+    private int mSize;
+
+    SampleRing(final int capacity) {
+        mCapacity = capacity;
+        allocate(Math.min(capacity, INITIAL_CAPACITY));
+    }
+
+    int size() {
+        return mSize;
+    }
+
+    boolean isFull() {
+        return mSize == mCapacity;
+    }
+
+    /**
+     * Returns the number of samples the arrays currently hold room for.
+     */
+    int getAllocatedCapacity() {
+        return mTimestamps.length;
+    }
+
+    /**
+     * Returns the time of the sample at the given position, the oldest being at 0.
+     */
+    long getTimestamp(final int position) {
+        return mTimestamps[index(position)];
+    }
+
+    double getSum(final int position) {
+        return mSums[index(position)];
+    }
+
+    @NonNull
+    SensorSample get(final int position) {
+        final int index = index(position);
+        return new SensorSample(mTimestamps[index], mMins[index], mMaxs[index], mSums[index], mCounts[index]);
+    }
+
+    /**
+     * Appends a single value.
+     */
+    void add(final long timestamp, final double value) {
+        if (mSize == mTimestamps.length && mSize < mCapacity) {
+            grow();
+        }
+        final int index = (mHead + mSize) % mTimestamps.length;
+        if (isFull()) {
+            mHead = (mHead + 1) % mTimestamps.length;
+        } else {
+            mSize++;
+        }
+        mTimestamps[index] = timestamp;
+        mMins[index] = value;
+        mMaxs[index] = value;
+        mSums[index] = value;
+        mCounts[index] = 1;
+    }
+
+    /**
+     * Returns whether the latest sample is the interval starting at the given time.
+     */
+    boolean isLatest(final long intervalStart) {
+        return mSize > 0 && getTimestamp(mSize - 1) == intervalStart;
+    }
+
+    /**
+     * Adds a value to the interval starting at the given time, appending the interval if it is not the latest one.
+     */
+    void merge(final long intervalStart, final double value) {
+        if (isLatest(intervalStart)) {
+            final int index = index(mSize - 1);
+            mMins[index] = Math.min(mMins[index], value);
+            mMaxs[index] = Math.max(mMaxs[index], value);
+            mSums[index] += value;
+            mCounts[index]++;
+        } else {
+            add(intervalStart, value);
+        }
+    }
+
+    /**
+     * Returns the position of the first sample at or after the given time.
+     */
+    int search(final long timestamp) {
+        int low = 0;
+        int high = mSize;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (getTimestamp(mid) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Adds the samples within the given time range to the list.
+     *
+     * @param from start of the range in milliseconds, inclusive
+     * @param to   end of the range in milliseconds, exclusive
+     */
+    void addSamples(final long from, final long to, @NonNull final List<SensorSample> samples) {
+        for (int position = search(from); position < mSize && getTimestamp(position) < to; position++) {
+            samples.add(get(position));
+        }
+    }
+
+    /**
+     * Aggregates the samples within the given time range.
+     *
+     * @return the aggregate or null if there are no samples within the range
+     */
+    SensorSample aggregate(final long from, final long to) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double sum = 0;
+        int count = 0;
+        for (int position = search(from); position < mSize && getTimestamp(position) < to; position++) {
+            final int index = index(position);
+            min = Math.min(min, mMins[index]);
+            max = Math.max(max, mMaxs[index]);
+            sum += mSums[index];
+            count += mCounts[index];
+        }
+        return count == 0 ? null : new SensorSample(from, min, max, sum, count);
+    }
+
+    private void grow() {
+        final long[] timestamps = mTimestamps;
+        final double[] mins = mMins;
+        final double[] maxs = mMaxs;
+        final double[] sums = mSums;
+        final int[] counts = mCounts;
+        allocate((int) Math.min(mCapacity, (long) mSize << 1));
+        // Unroll the ring so that the oldest sample is at the start of the new arrays
+        final int tail = timestamps.length - mHead;
+        copy(timestamps, mins, maxs, sums, counts, mHead, 0, tail);
+        copy(timestamps, mins, maxs, sums, counts, 0, tail, mHead);
+        mHead = 0;
+    }
+
+    private void copy(final long[] timestamps, final double[] mins, final double[] maxs, final double[] sums,
+                      final int[] counts, final int from, final int to, final int length) {
+        System.arraycopy(timestamps, from, mTimestamps, to, length);
+        System.arraycopy(mins, from, mMins, to, length);
+        System.arraycopy(maxs, from, mMaxs, to, length);
+        System.arraycopy(sums, from, mSums, to, length);
+        System.arraycopy(counts, from, mCounts, to, length);
+    }
+
+    private void allocate(final int capacity) {
+        mTimestamps = new long[capacity];
+        mMins = new double[capacity];
+        mMaxs = new double[capacity];
+        mSums = new double[capacity];
+        mCounts = new int[capacity];
+    }
+
+    private int index(final int position) {
+        return (mHead + position) % mTimestamps.length;
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.sensorhistory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.sensorutils.DeviceProperty;
+import no.nordicsemi.android.mesh.sensorutils.DevicePropertyCharacteristic;
+import no.nordicsemi.android.mesh.sensorutils.MarshalledSensorData;
+import no.nordicsemi.android.mesh.sensorutils.UnknownCharacteristic;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.transport.SensorColumnStatus;
+import no.nordicsemi.android.mesh.transport.SensorSeriesStatus;
+import no.nordicsemi.android.mesh.transport.SensorStatus;
+
+/**
+ * History of the values reported by the sensors in the network.
+ * <p>
+ * The values of each property of each element are kept in three bounded rings: the raw values, and the
+ * minimum, maximum and mean of the values received within each minute and within each quarter of an hour. Once a
+ * ring is full, its oldest sample is overwritten, after being written to the {@link SensorSegmentWriter} if one is
+ * set, while the coarser rings keep covering a longer time. The rings start with room for a few values and grow as
+ * values are received, so a sensor that reports rarely uses little memory, and the memory used by a sensor is
+ * bounded by the capacities of the history.
+ * </p>
+ * <p>
+ * With a segment writer set, queries for a range older than a ring read the samples spilled from it, and the latest
+ * value of a sensor not received since the history was created is read from the segments, so the history outlives
+ * its rings, and the app when the same directory is used again. Such queries read the segment files on the calling
+ * thread, and a read error is logged and leaves out the spilled samples.
+ * </p>
+ * <p>
+ * Sensor Column Status and Sensor Series Status messages describe the values of a sensor over a range of its X
+ * property rather than over time, so only the latest columns received are kept, see
+ * {@link #getColumns(int, int)}.
+ * </p>
+ * <p>
+ * Set the history to be fed by the library with {@link no.nordicsemi.android.mesh.MeshManagerApi#setSensorHistory}.
+ * The library clears it when a network is loaded, created or imported, as element addresses are only unique within
+ * a network.
+ * </p>
+ */
+public final class SensorHistory {
+
+    /**
+     * Values as they were received.
+     */
+    public static final int RAW = 0;
+
+    /**
+     * Values aggregated over a minute.
+     */
+    public static final int ONE_MINUTE = 1;
+
+    /**
+     * Values aggregated over 15 minutes.
+     */
+    public static final int FIFTEEN_MINUTES = 2;
+
+    @Retention(RetentionPolicy.SOURCE)
+    @IntDef({RAW, ONE_MINUTE, FIFTEEN_MINUTES})
+    public @interface Resolution {
+    }
+
+    private static final String TAG = SensorHistory.class.getSimpleName();
+    private static final int RESOLUTIONS = 3;
+    private static final int DEFAULT_RAW_CAPACITY = 1024;
+    private static final int DEFAULT_ONE_MINUTE_CAPACITY = 24 * 60;
+    private static final int DEFAULT_FIFTEEN_MINUTES_CAPACITY = 7 * 24 * 4;
+    private static final long ONE_MINUTE_MILLIS = 60 * 1000;
+    private static final long FIFTEEN_MINUTES_MILLIS = 15 * ONE_MINUTE_MILLIS;
+
+    private final int mRawCapacity;
+    private final int mOneMinuteCapacity;
+    private final int mFifteenMinutesCapacity;
+    private final Map<Integer, Series> mSeries = new HashMap<>();
+    private SensorSegmentWriter mSpillWriter;
+
+    private final class Series {
+        final SampleRing raw = new SampleRing(mRawCapacity);
+        final SampleRing oneMinute = new SampleRing(mOneMinuteCapacity);
+        final SampleRing fifteenMinutes = new SampleRing(mFifteenMinutesCapacity);
+        long lastTimestamp = Long.MIN_VALUE;
+        List<SensorColumn> columns;
+
+        SampleRing ring(@Resolution final int resolution) {
+            switch (resolution) {
+                case ONE_MINUTE:
+                    return oneMinute;
+                case FIFTEEN_MINUTES:
+                    return fifteenMinutes;
+                default:
+                    return raw;
+            }
+        }
+    }
+
+    /**
+     * Creates a history keeping 1024 raw values, a day of one minute aggregates and a week of 15 minute aggregates
+     * per sensor property.
+     */
+    public SensorHistory() {
+        this(DEFAULT_RAW_CAPACITY, DEFAULT_ONE_MINUTE_CAPACITY, DEFAULT_FIFTEEN_MINUTES_CAPACITY);
+    }
+
+    /**
+     * Creates a history.
+     *
+     * @param rawCapacity            number of raw values kept per sensor property
+     * @param oneMinuteCapacity      number of one minute aggregates kept per sensor property
+     * @param fifteenMinutesCapacity number of 15 minute aggregates kept per sensor property
+     */
+    public SensorHistory(final int rawCapacity, final int oneMinuteCapacity, final int fifteenMinutesCapacity) {
+        if (rawCapacity <= 0 || oneMinuteCapacity <= 0 || fifteenMinutesCapacity <= 0)
+            throw new IllegalArgumentException("Capacities must be positive");
+        mRawCapacity = rawCapacity;
+        mOneMinuteCapacity = oneMinuteCapacity;
+        mFifteenMinutesCapacity = fifteenMinutesCapacity;
+    }
+
+    /**
+     * Sets the writer to which the samples are written before they are overwritten in memory, and from which the
+     * queries read the samples no longer in memory.
+     *
+     * @param writer segment writer or null to drop the samples
+     */
+    public synchronized void setSpillWriter(@Nullable final SensorSegmentWriter writer) {
+        mSpillWriter = writer;
+    }
+
+    /**
+     * Adds a value. A value older than the latest one of the same sensor property is recorded at the time of the
+     * latest one, so that the history stays ordered.
+     *
+     * @param address    element address of the sensor
+     * @param propertyId property ID
+     * @param timestamp  time the value was received in milliseconds
+     * @param value      value
+     */
+    public synchronized void add(final int address, final int propertyId, final long timestamp, final double value) {
+        final Series series = getOrCreate(address, propertyId);
+        final long time = Math.max(timestamp, series.lastTimestamp);
+        series.lastTimestamp = time;
+        final long minute = time - Math.floorMod(time, ONE_MINUTE_MILLIS);
+        final long quarter = time - Math.floorMod(time, FIFTEEN_MINUTES_MILLIS);
+        spill(address, propertyId, RAW, series.raw, false);
+        spill(address, propertyId, ONE_MINUTE, series.oneMinute, series.oneMinute.isLatest(minute));
+        spill(address, propertyId, FIFTEEN_MINUTES, series.fifteenMinutes, series.fifteenMinutes.isLatest(quarter));
+        series.raw.add(time, value);
+        series.oneMinute.merge(minute, value);
+        series.fifteenMinutes.merge(quarter, value);
+    }
+
+    /**
+     * Writes the oldest sample of a ring to the segment writer if it is about to be overwritten.
+     *
+     * @param merged true if the value is merged into the latest sample rather than appended
+     */
+    private void spill(final int address,
+                       final int propertyId,
+                       @Resolution final int resolution,
+                       @NonNull final SampleRing ring,
+                       final boolean merged) {
+        if (mSpillWriter != null && !merged && ring.isFull()) {
+            mSpillWriter.write(address & 0xFFFF, propertyId & 0xFFFF, resolution, ring.get(0));
+        }
+    }
+
+    /**
+     * Returns the latest value of a sensor property, read from the spilled segments if none was received since the
+     * history was created or cleared.
+     *
+     * @param address    element address of the sensor
+     * @param propertyId property ID
+     * @return the latest value or null if none was received
+     */
+    @Nullable
+    public synchronized SensorSample getLatest(final int address, final int propertyId) {
+        final Series series = mSeries.get(key(address, propertyId));
+        if (series != null && series.raw.size() > 0)
+            return series.raw.get(series.raw.size() - 1);
+        if (mSpillWriter == null || !flushSpillWriter())
+            return null;
+        try {
+            return SensorSegmentReader.readLatest(mSpillWriter.getDirectory(), address, propertyId);
+        } catch (IOException ex) {
+            MeshLogger.error(TAG, "Error while reading sensor segments: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the samples of a sensor property within a time range, starting with the spilled samples if the range
+     * starts before the samples in memory.
+     *
+     * @param address    element address of the sensor
+     * @param propertyId property ID
+     * @param resolution resolution of the samples
+     * @param from       start of the range in milliseconds, inclusive
+     * @param to         end of the range in milliseconds, exclusive
+     * @return the samples ordered by time, starting within the range
+     */
+    @NonNull
+    public synchronized List<SensorSample> getSamples(final int address,
+                                                      final int propertyId,
+                                                      @Resolution final int resolution,
+                                                      final long from,
+                                                      final long to) {
+        final List<SensorSample> samples = new ArrayList<>();
+        final Series series = mSeries.get(key(address, propertyId));
+        final SampleRing ring = series == null ? null : series.ring(resolution);
+        if (mSpillWriter != null && (ring == null || !covers(ring, from)) && flushSpillWriter()) {
+            try {
+                samples.addAll(SensorSegmentReader.read(mSpillWriter.getDirectory(), address, propertyId, resolution,
+                        from, spilledEnd(ring, to)));
+            } catch (IOException ex) {
+                MeshLogger.error(TAG, "Error while reading sensor segments: " + ex.getMessage());
+            }
+        }
+        if (ring != null) {
+            ring.addSamples(from, to, samples);
+        }
+        return samples;
+    }
+
+    /**
+     * Returns the minimum, maximum and mean of a sensor property within a time range. The finest resolution still
+     * covering the start of the range, in memory or in the spilled segments, is used, so an older range is aggregated
+     * from the intervals starting within it.
+     *
+     * @param address    element address of the sensor
+     * @param propertyId property ID
+     * @param from       start of the range in milliseconds, inclusive
+     * @param to         end of the range in milliseconds, exclusive
+     * @return the aggregate, with the start of the range as its time, or null if there are no values in the range
+     */
+    @Nullable
+    public synchronized SensorSample getAggregate(final int address, final int propertyId, final long from, final long to) {
+        final Series series = mSeries.get(key(address, propertyId));
+        if (series != null && covers(series.raw, from))
+            return series.raw.aggregate(from, to);
+        if (mSpillWriter != null && flushSpillWriter()) {
+            try {
+                return getSpilledAggregate(series, address, propertyId, from, to);
+            } catch (IOException ex) {
+                MeshLogger.error(TAG, "Error while reading sensor segments: " + ex.getMessage());
+            }
+        }
+        if (series == null)
+            return null;
+        if (covers(series.oneMinute, from))
+            return series.oneMinute.aggregate(from, to);
+        return series.fifteenMinutes.aggregate(from, to);
+    }
+
+    /**
+     * Aggregates a time range from the finest resolution whose ring or spilled samples cover the start of the range,
+     * reading the segments once for all resolutions.
+     */
+    @Nullable
+    private SensorSample getSpilledAggregate(@Nullable final Series series,
+                                             final int address,
+                                             final int propertyId,
+                                             final long from,
+                                             final long to) throws IOException {
+        final long[] starts = new long[RESOLUTIONS];
+        final long[] ends = new long[RESOLUTIONS];
+        final double[] mins = new double[RESOLUTIONS];
+        final double[] maxs = new double[RESOLUTIONS];
+        final double[] sums = new double[RESOLUTIONS];
+        final int[] counts = new int[RESOLUTIONS];
+        for (int resolution = RAW; resolution < RESOLUTIONS; resolution++) {
+            final SampleRing ring = series == null ? null : series.ring(resolution);
+            starts[resolution] = ring == null || ring.size() == 0 ? Long.MAX_VALUE : ring.getTimestamp(0);
+            ends[resolution] = spilledEnd(ring, to);
+            mins[resolution] = Double.POSITIVE_INFINITY;
+            maxs[resolution] = Double.NEGATIVE_INFINITY;
+        }
+        for (File file : SensorSegmentReader.list(mSpillWriter.getDirectory())) {
+            final SensorSegmentReader reader = new SensorSegmentReader(file);
+            try {
+                while (reader.next()) {
+                    if (reader.getAddress() != (address & 0xFFFF) || reader.getPropertyId() != (propertyId & 0xFFFF))
+                        continue;
+                    final int resolution = reader.getResolution();
+                    final long timestamp = reader.getTimestamp();
+                    starts[resolution] = Math.min(starts[resolution], timestamp);
+                    if (timestamp >= from && timestamp < ends[resolution]) {
+                        final SensorSample sample = reader.getSample();
+                        mins[resolution] = Math.min(mins[resolution], sample.getMin());
+                        maxs[resolution] = Math.max(maxs[resolution], sample.getMax());
+                        sums[resolution] += sample.getSum();
+                        counts[resolution] += sample.getCount();
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        int resolution = RAW;
+        while (resolution < FIFTEEN_MINUTES && starts[resolution] > from) {
+            resolution++;
+        }
+        final SensorSample inMemory = series == null ? null : series.ring(resolution).aggregate(from, to);
+        if (inMemory != null) {
+            mins[resolution] = Math.min(mins[resolution], inMemory.getMin());
+            maxs[resolution] = Math.max(maxs[resolution], inMemory.getMax());
+            sums[resolution] += inMemory.getSum();
+            counts[resolution] += inMemory.getCount();
+        }
+        return counts[resolution] == 0 ? null
+                : new SensorSample(from, mins[resolution], maxs[resolution], sums[resolution], counts[resolution]);
+    }
+
+    /**
+     * Writes the pending spilled samples, so that they can be read.
+     *
+     * @return true if the segments can be read
+     */
+    private boolean flushSpillWriter() {
+        try {
+            mSpillWriter.flush();
+            return true;
+        } catch (IOException ex) {
+            MeshLogger.error(TAG, "Error while flushing sensor segments: " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the end of the range to read from the segments, which is where the samples in memory start.
+     */
+    private static long spilledEnd(@Nullable final SampleRing ring, final long to) {
+        return ring == null || ring.size() == 0 ? to : Math.min(to, ring.getTimestamp(0));
+    }
+
+    /**
+     * Returns the latest columns received from a sensor property in a Sensor Column Status or a Sensor Series Status.
+     *
+     * @param address    element address of the sensor
+     * @param propertyId property ID
+     * @return the columns ordered by their start
+     */
+    @NonNull
+    public synchronized List<SensorColumn> getColumns(final int address, final int propertyId) {
+        final Series series = mSeries.get(key(address, propertyId));
+        if (series == null || series.columns == null)
+            return new ArrayList<>();
+        return new ArrayList<>(series.columns);
+    }
+
+    /**
+     * Removes the history of the sensors of an element.
+     *
+     * @param address element address
+     */
+    public synchronized void remove(final int address) {
+        final Iterator<Integer> iterator = mSeries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() >>> 16 == (address & 0xFFFF)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the history of all sensors.
+     */
+    public synchronized void clear() {
+        mSeries.clear();
+    }
+
+    /**
+     * Records the values of a sensor status message. Other messages are ignored.
+     *
+     * @param message received message
+     * @param now     time the message was received in milliseconds
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public void update(@NonNull final MeshMessage message, final long now) {
+        if (message instanceof SensorStatus) {
+            final int address = message.getSrc();
+            for (MarshalledSensorData data : ((SensorStatus) message).getMarshalledSensorData()) {
+                final DeviceProperty property = data.getMarshalledPropertyId().getPropertyId();
+                final double value = decode(property, data.getRawValues(), 0, data.getRawValues().length);
+                if (!Double.isNaN(value)) {
+                    add(address, property.getPropertyId(), now, value);
+                }
+            }
+        } else if (message instanceof SensorColumnStatus) {
+            final SensorColumnStatus status = (SensorColumnStatus) message;
+            final List<SensorColumn> columns = decodeColumns(status.getPropertyId(), status.getResult());
+            if (columns.size() == 1) {
+                putColumn(message.getSrc(), status.getPropertyId().getPropertyId(), columns.get(0));
+            }
+        } else if (message instanceof SensorSeriesStatus) {
+            final SensorSeriesStatus status = (SensorSeriesStatus) message;
+            final List<SensorColumn> columns = decodeColumns(status.getPropertyId(), status.getSeriesRawX1X2());
+            synchronized (this) {
+                getOrCreate(message.getSrc(), status.getPropertyId().getPropertyId()).columns = columns;
+            }
+        }
+    }
+
+    private synchronized void putColumn(final int address, final int propertyId, @NonNull final SensorColumn column) {
+        final Series series = getOrCreate(address, propertyId);
+        if (series.columns == null) {
+            series.columns = new ArrayList<>();
+        }
+        int index = 0;
+        while (index < series.columns.size() && series.columns.get(index).getX() < column.getX()) {
+            index++;
+        }
+        if (index < series.columns.size() && series.columns.get(index).getX() == column.getX()) {
+            series.columns.set(index, column);
+        } else {
+            series.columns.add(index, column);
+        }
+    }
+
+    @NonNull
+    private Series getOrCreate(final int address, final int propertyId) {
+        final int key = key(address, propertyId);
+        Series series = mSeries.get(key);
+        if (series == null) {
+            series = new Series();
+            mSeries.put(key, series);
+        }
+        return series;
+    }
+
+    private static boolean covers(@NonNull final SampleRing ring, final long from) {
+        return ring.size() > 0 && ring.getTimestamp(0) <= from;
+    }
+
+    private static int key(final int address, final int propertyId) {
+        return (address & 0xFFFF) << 16 | (propertyId & 0xFFFF);
+    }
+
+    /**
+     * Decodes the columns of a Sensor Column Status or Sensor Series Status, each holding the raw X value, the
+     * column width and the raw Y value, all with the length of the property characteristic.
+     */
+    @NonNull
+    private static List<SensorColumn> decodeColumns(@Nullable final DeviceProperty property, @Nullable final byte[] data) {
+        final List<SensorColumn> columns = new ArrayList<>();
+        if (property == null || property == DeviceProperty.UNKNOWN || data == null || data.length == 0)
+            return columns;
+        final int length;
+        try {
+            final DevicePropertyCharacteristic<?> characteristic = DeviceProperty.getCharacteristic(property, data, 0, data.length);
+            if (characteristic instanceof UnknownCharacteristic)
+                return columns;
+            length = characteristic.getLength();
+        } catch (RuntimeException ex) {
+            return columns;
+        }
+        if (length <= 0)
+            return columns;
+        for (int offset = 0; offset + length <= data.length; offset += 3 * length) {
+            final double x = decode(property, data, offset, length);
+            final double width = offset + 2 * length <= data.length ? decode(property, data, offset + length, length) : Double.NaN;
+            final double y = offset + 3 * length <= data.length ? decode(property, data, offset + 2 * length, length) : Double.NaN;
+            columns.add(new SensorColumn(x, width, y));
+        }
+        return columns;
+    }
+
+    /**
+     * Decodes a numeric or boolean property value.
+     *
+     * @return the value or NaN if the property is not numeric or the value is not known
+     */
+    private static double decode(@NonNull final DeviceProperty property, @NonNull final byte[] data, final int offset, final int length) {
+        if (property == DeviceProperty.UNKNOWN || length == 0)
+            return Double.NaN;
+        final Object value;
+        try {
+            final DevicePropertyCharacteristic<?> characteristic = DeviceProperty.getCharacteristic(property, data, offset, length);
+            if (characteristic instanceof UnknownCharacteristic)
+                return Double.NaN;
+            value = characteristic.getValue();
+        } catch (RuntimeException ex) {
+            return Double.NaN;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return Double.NaN;
+    }
+}
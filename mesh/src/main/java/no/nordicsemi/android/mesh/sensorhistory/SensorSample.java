@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.sensorhistory;
+
+/**
+ * Sensor value, or the aggregate of the values received within an interval.
+ * <p>
+ * A raw sample holds a single value, for which the minimum, maximum and mean are the same.
+ * </p>
+ */
+public final class SensorSample {
+
+    private final long mTimestamp;
+    private final double mMin;
+    private final double mMax;
+    private final double mSum;
+    private final int mCount;
+
+    SensorSample(final long timestamp, final double min, final double max, final double sum, final int count) {
+        mTimestamp = timestamp;
+        mMin = min;
+        mMax = max;
+        mSum = sum;
+        mCount = count;
+    }
+
+    /**
+     * Returns the time the value was received, or the start of the interval, in milliseconds.
+     */
+    public long getTimestamp() {
+        return mTimestamp;
+    }
+
+    public double getMin() {
+        return mMin;
+    }
+
+    public double getMax() {
+        return mMax;
+    }
+
+    public double getMean() {
+        return mSum / mCount;
+    }
+
+    double getSum() {
+        return mSum;
+    }
+
+    /**
+     * Returns the number of values aggregated.
+     */
+    public int getCount() {
+        return mCount;
+    }
+}
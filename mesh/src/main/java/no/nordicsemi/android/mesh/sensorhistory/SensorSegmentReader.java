@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.sensorhistory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Reads the records of a segment written by {@link SensorSegmentWriter}.
+ */
+public final class SensorSegmentReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final DataInputStream mInputStream;
+    private final byte[] mRecord = new byte[SensorSegmentWriter.AGGREGATE_RECORD_LENGTH];
+    private int mAddress;
+    private int mPropertyId;
+    private int mResolution;
+    private long mTimestamp;
+    private double mMin;
+    private double mMax;
+    private double mSum;
+    private int mCount;
+
+    /**
+     * Opens a segment.
+     *
+     * @param file segment file
+     * @throws IOException if the file could not be opened or is not a segment
+     */
+    public SensorSegmentReader(@NonNull final File file) throws IOException {
+        mInputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        try {
+            final byte[] magic = new byte[SensorSegmentWriter.MAGIC.length];
+            mInputStream.readFully(magic);
+            if (!Arrays.equals(magic, SensorSegmentWriter.MAGIC))
+                throw new IOException("Not a sensor segment");
+            final int version = mInputStream.readUnsignedByte();
+            if (version != SensorSegmentWriter.VERSION)
+                throw new IOException("Unsupported sensor segment version: " + version);
+        } catch (IOException ex) {
+            mInputStream.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return true if a record was read or false at the end of the segment
+     * @throws IOException if the segment could not be read
+     */
+    public boolean next() throws IOException {
+        try {
+            mInputStream.readFully(mRecord, 0, SensorSegmentWriter.RAW_RECORD_LENGTH);
+            mResolution = mRecord[4] & 0xFF;
+            if (mResolution > SensorHistory.FIFTEEN_MINUTES)
+                throw new IOException("Invalid sensor segment record");
+            if (mResolution != SensorHistory.RAW) {
+                mInputStream.readFully(mRecord, SensorSegmentWriter.RAW_RECORD_LENGTH,
+                        SensorSegmentWriter.AGGREGATE_RECORD_LENGTH - SensorSegmentWriter.RAW_RECORD_LENGTH);
+            }
+        } catch (EOFException ex) {
+            return false;
+        }
+        mAddress = (mRecord[0] & 0xFF) << 8 | (mRecord[1] & 0xFF);
+        mPropertyId = (mRecord[2] & 0xFF) << 8 | (mRecord[3] & 0xFF);
+        mTimestamp = readLong(5);
+        if (mResolution == SensorHistory.RAW) {
+            mSum = Double.longBitsToDouble(readLong(13));
+            mMin = mSum;
+            mMax = mSum;
+            mCount = 1;
+        } else {
+            mMin = Double.longBitsToDouble(readLong(13));
+            mMax = Double.longBitsToDouble(readLong(21));
+            mSum = Double.longBitsToDouble(readLong(29));
+            mCount = readInt(37);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the element address of the current record.
+     */
+    public int getAddress() {
+        return mAddress;
+    }
+
+    /**
+     * Returns the property ID of the current record.
+     */
+    public int getPropertyId() {
+        return mPropertyId;
+    }
+
+    /**
+     * Returns the {@link SensorHistory.Resolution} of the current record.
+     */
+    @SensorHistory.Resolution
+    public int getResolution() {
+        return mResolution;
+    }
+
+    /**
+     * Returns the time of the current record in milliseconds.
+     */
+    public long getTimestamp() {
+        return mTimestamp;
+    }
+
+    /**
+     * Returns the value of the current record, or the mean of the values it aggregates.
+     */
+    public double getValue() {
+        return mSum / mCount;
+    }
+
+    /**
+     * Returns the sample of the current record.
+     */
+    @NonNull
+    public SensorSample getSample() {
+        return new SensorSample(mTimestamp, mMin, mMax, mSum, mCount);
+    }
+
+    @Override
+    public void close() throws IOException {
+        mInputStream.close();
+    }
+
+    /**
+     * Reads the raw values of a sensor within a time range from all segments in a directory.
+     *
+     * @param directory  directory holding the segments
+     * @param address    element address of the sensor
+     * @param propertyId property ID
+     * @param from       start of the range in milliseconds, inclusive
+     * @param to         end of the range in milliseconds, exclusive
+     * @return the values in the order they were written
+     * @throws IOException if a segment could not be read
+     */
+    @NonNull
+    public static List<SensorSample> read(@NonNull final File directory,
+                                          final int address,
+                                          final int propertyId,
+                                          final long from,
+                                          final long to) throws IOException {
+        return read(directory, address, propertyId, SensorHistory.RAW, from, to);
+    }
+
+    /**
+     * Reads the samples of a sensor within a time range from all segments in a directory.
+     *
+     * @param directory  directory holding the segments
+     * @param address    element address of the sensor
+     * @param propertyId property ID
+     * @param resolution resolution of the samples
+     * @param from       start of the range in milliseconds, inclusive
+     * @param to         end of the range in milliseconds, exclusive
+     * @return the samples in the order they were written
+     * @throws IOException if a segment could not be read
+     */
+    @NonNull
+    public static List<SensorSample> read(@NonNull final File directory,
+                                          final int address,
+                                          final int propertyId,
+                                          @SensorHistory.Resolution final int resolution,
+                                          final long from,
+                                          final long to) throws IOException {
+        final List<SensorSample> samples = new ArrayList<>();
+        for (File file : list(directory)) {
+            final SensorSegmentReader reader = new SensorSegmentReader(file);
+            try {
+                while (reader.next()) {
+                    if (reader.matches(address, propertyId, resolution)
+                            && reader.mTimestamp >= from && reader.mTimestamp < to) {
+                        samples.add(reader.getSample());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Reads the latest raw value of a sensor from the segments in a directory, starting with the latest segment.
+     *
+     * @return the value or null if the segments hold no value of the sensor
+     * @throws IOException if a segment could not be read
+     */
+    @Nullable
+    static SensorSample readLatest(@NonNull final File directory,
+                                   final int address,
+                                   final int propertyId) throws IOException {
+        final List<File> files = list(directory);
+        for (int i = files.size() - 1; i >= 0; i--) {
+            SensorSample latest = null;
+            final SensorSegmentReader reader = new SensorSegmentReader(files.get(i));
+            try {
+                while (reader.next()) {
+                    if (reader.matches(address, propertyId, SensorHistory.RAW)) {
+                        latest = reader.getSample();
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            if (latest != null)
+                return latest;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the segments in a directory in the order they were written.
+     */
+    @NonNull
+    static List<File> list(@NonNull final File directory) {
+        final List<File> segments = new ArrayList<>();
+        final File[] files = directory.listFiles();
+        if (files == null)
+            return segments;
+        Arrays.sort(files);
+        for (File file : files) {
+            if (file.getName().endsWith(SensorSegmentWriter.SUFFIX)) {
+                segments.add(file);
+            }
+        }
+        return segments;
+    }
+
+    boolean matches(final int address, final int propertyId, final int resolution) {
+        return mAddress == (address & 0xFFFF) && mPropertyId == (propertyId & 0xFFFF) && mResolution == resolution;
+    }
+
+    private int readInt(final int offset) {
+        return (mRecord[offset] & 0xFF) << 24 | (mRecord[offset + 1] & 0xFF) << 16
+                | (mRecord[offset + 2] & 0xFF) << 8 | (mRecord[offset + 3] & 0xFF);
+    }
+
+    private long readLong(final int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (mRecord[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
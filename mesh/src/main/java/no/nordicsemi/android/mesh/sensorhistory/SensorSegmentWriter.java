@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.sensorhistory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+
+/**
+ * Appends the samples dropped from the memory of a {@link SensorHistory} to segment files in a directory.
+ * <p>
+ * Each segment starts with the magic bytes "MSNS" and a version byte, followed by records holding the element address
+ * and the property ID as unsigned 16-bit integers, the {@link SensorHistory.Resolution} of the sample as a byte and
+ * its time in milliseconds as a 64-bit integer. A raw record of 21 bytes then holds the value as a 64-bit floating
+ * point number, while a record of 41 bytes aggregating the values of an interval holds their minimum, maximum and sum
+ * as 64-bit floating point numbers and their number as a 32-bit integer, all big endian. Segments are named after the time they were created,
+ * so that they sort in the order they were written, and a new segment is started once the current one reaches the
+ * maximum size. Records are written on a background thread, so that the file I/O never blocks the thread receiving
+ * the sensor statuses, through a buffer that is flushed when it is full, on {@link #flush()} and on {@link #close()}.
+ * A record cut short by the app being stopped is ignored when reading.
+ * </p>
+ * <p>
+ * A write error is logged and stops the spill-over, so that it never interrupts the mesh stack.
+ * </p>
+ */
+public final class SensorSegmentWriter implements Closeable {
+
+    private static final String TAG = SensorSegmentWriter.class.getSimpleName();
+    static final byte[] MAGIC = {'M', 'S', 'N', 'S'};
+    static final int VERSION = 1;
+    static final int HEADER_LENGTH = 5;
+    static final int RAW_RECORD_LENGTH = 21;
+    static final int AGGREGATE_RECORD_LENGTH = 41;
+    static final String SUFFIX = ".seg";
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final File mDirectory;
+    private final long mMaxSegmentSize;
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, TAG);
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Accessed on the executor thread only
+    private DataOutputStream mOutputStream;
+    private long mSegmentSize;
+    private boolean mFailed;
+    private volatile long mRecordCount;
+    private boolean mClosed;
+
+    /**
+     * Creates a writer appending segments to a directory, which is created if it does not exist.
+     *
+     * @param directory      directory holding the segments
+     * @param maxSegmentSize size in bytes after which a new segment is started
+     * @throws IOException if the directory could not be created
+     */
+    public SensorSegmentWriter(@NonNull final File directory, final long maxSegmentSize) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Unable to create directory " + directory);
+        if (maxSegmentSize < HEADER_LENGTH + AGGREGATE_RECORD_LENGTH)
+            throw new IllegalArgumentException("Segments must hold at least one record");
+        mDirectory = directory;
+        mMaxSegmentSize = maxSegmentSize;
+    }
+
+    /**
+     * Returns the directory holding the segments.
+     */
+    @NonNull
+    public File getDirectory() {
+        return mDirectory;
+    }
+
+    synchronized void write(final int address,
+                            final int propertyId,
+                            @SensorHistory.Resolution final int resolution,
+                            @NonNull final SensorSample sample) {
+        if (!mClosed) {
+            mExecutor.execute(() -> append(address, propertyId, resolution, sample));
+        }
+    }
+
+    private void append(final int address,
+                        final int propertyId,
+                        final int resolution,
+                        @NonNull final SensorSample sample) {
+        if (mFailed)
+            return;
+        final int length = resolution == SensorHistory.RAW ? RAW_RECORD_LENGTH : AGGREGATE_RECORD_LENGTH;
+        try {
+            if (mOutputStream == null || mSegmentSize + length > mMaxSegmentSize) {
+                startSegment();
+            }
+            mOutputStream.writeShort(address);
+            mOutputStream.writeShort(propertyId);
+            mOutputStream.writeByte(resolution);
+            mOutputStream.writeLong(sample.getTimestamp());
+            if (resolution == SensorHistory.RAW) {
+                mOutputStream.writeDouble(sample.getSum());
+            } else {
+                mOutputStream.writeDouble(sample.getMin());
+                mOutputStream.writeDouble(sample.getMax());
+                mOutputStream.writeDouble(sample.getSum());
+                mOutputStream.writeInt(sample.getCount());
+            }
+            mSegmentSize += length;
+            mRecordCount++;
+        } catch (IOException ex) {
+            MeshLogger.error(TAG, "Error while writing sensor segment, spill-over stopped: " + ex.getMessage());
+            mFailed = true;
+        }
+    }
+
+    /**
+     * Returns the number of samples written by this writer.
+     */
+    public long getRecordCount() {
+        return mRecordCount;
+    }
+
+    /**
+     * Writes the pending records to the current segment, waiting until they have been written.
+     */
+    public void flush() throws IOException {
+        final Future<Void> future;
+        synchronized (this) {
+            if (mClosed)
+                return;
+            future = mExecutor.submit(() -> {
+                if (mOutputStream != null) {
+                    mOutputStream.flush();
+                }
+                return null;
+            });
+        }
+        await(future);
+    }
+
+    /**
+     * Writes the pending records and closes the current segment, waiting until it has been closed.
+     */
+    @Override
+    public void close() throws IOException {
+        final Future<Void> future;
+        synchronized (this) {
+            if (mClosed)
+                return;
+            mClosed = true;
+            future = mExecutor.submit(() -> {
+                if (mOutputStream != null) {
+                    mOutputStream.close();
+                }
+                return null;
+            });
+            mExecutor.shutdown();
+        }
+        await(future);
+    }
+
+    private static void await(@NonNull final Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing sensor segment");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException)
+                throw (IOException) ex.getCause();
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    private void startSegment() throws IOException {
+        if (mOutputStream != null) {
+            mOutputStream.close();
+        }
+        long name = System.currentTimeMillis();
+        File file;
+        while ((file = new File(mDirectory, String.format(Locale.US, "%013d", name) + SUFFIX)).exists()) {
+            name++;
+        }
+        mOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        mOutputStream.write(MAGIC);
+        mOutputStream.write(VERSION);
+        mSegmentSize = HEADER_LENGTH;
+    }
+}
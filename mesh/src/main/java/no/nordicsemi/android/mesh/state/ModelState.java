@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.state;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Last known state of a model, as reported by the most recent status received from it.
+ * <p>
+ * The values held depend on the model:
+ * <ul>
+ * <li>Generic OnOff Server: {@link #ON_OFF}, 1 for on and 0 for off</li>
+ * <li>Generic Level Server: {@link #LEVEL}</li>
+ * <li>Generic Battery Server: {@link #BATTERY_LEVEL}, {@link #TIME_TO_DISCHARGE}, {@link #TIME_TO_CHARGE} and
+ * {@link #BATTERY_FLAGS}</li>
+ * <li>Light Lightness Server: {@link #LIGHTNESS}</li>
+ * <li>Light CTL Server: {@link #LIGHTNESS} and {@link #TEMPERATURE}</li>
+ * <li>Light HSL Server: {@link #LIGHTNESS}, {@link #HUE} and {@link #SATURATION}</li>
+ * </ul>
+ * Target values are only available while the model is in a transition.
+ * </p>
+ */
+public final class ModelState {
+
+    public static final int ON_OFF = 0;
+    public static final int LEVEL = 0;
+    public static final int LIGHTNESS = 0;
+    public static final int TEMPERATURE = 1;
+    public static final int HUE = 1;
+    public static final int SATURATION = 2;
+    public static final int BATTERY_LEVEL = 0;
+    public static final int TIME_TO_DISCHARGE = 1;
+    public static final int TIME_TO_CHARGE = 2;
+    public static final int BATTERY_FLAGS = 3;
+
+    private final int mElementAddress;
+    private final int mModelId;
+    private final int[] mPresentValues;
+    private final int[] mTargetValues;
+    private final long mTimestamp;
+
+    ModelState(final int elementAddress,
+               final int modelId,
+               @NonNull final int[] presentValues,
+               @NonNull final int[] targetValues,
+               final long timestamp) {
+        mElementAddress = elementAddress;
+        mModelId = modelId;
+        mPresentValues = presentValues;
+        mTargetValues = targetValues;
+        mTimestamp = timestamp;
+    }
+
+    /**
+     * Returns the address of the element containing the model.
+     */
+    public int getElementAddress() {
+        return mElementAddress;
+    }
+
+    /**
+     * Returns the identifier of the model, i.e. {@link no.nordicsemi.android.mesh.models.SigModelParser#GENERIC_ON_OFF_SERVER}.
+     */
+    public int getModelId() {
+        return mModelId;
+    }
+
+    /**
+     * Returns the number of values held for the model.
+     */
+    public int getValueCount() {
+        return mPresentValues.length;
+    }
+
+    /**
+     * Returns a present value.
+     *
+     * @param index index of the value, i.e. {@link #LIGHTNESS}
+     */
+    public int getPresentValue(final int index) {
+        return mPresentValues[index];
+    }
+
+    /**
+     * Returns true if the model reported target values as it was in a transition.
+     */
+    public boolean hasTargetValues() {
+        return mTargetValues.length > 0;
+    }
+
+    /**
+     * Returns a target value.
+     *
+     * @param index index of the value, i.e. {@link #LIGHTNESS}
+     * @throws IndexOutOfBoundsException if the model did not report target values
+     */
+    public int getTargetValue(final int index) {
+        return mTargetValues[index];
+    }
+
+    /**
+     * Returns the time the state was received in milliseconds.
+     */
+    public long getTimestamp() {
+        return mTimestamp;
+    }
+}
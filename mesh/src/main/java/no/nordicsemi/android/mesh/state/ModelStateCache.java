@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.state;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import no.nordicsemi.android.mesh.models.SigModelParser;
+import no.nordicsemi.android.mesh.transport.ApplicationStatusMessage;
+import no.nordicsemi.android.mesh.transport.GenericBatteryStatus;
+import no.nordicsemi.android.mesh.transport.GenericLevelStatus;
+import no.nordicsemi.android.mesh.transport.GenericOnOffStatus;
+import no.nordicsemi.android.mesh.transport.LightCtlStatus;
+import no.nordicsemi.android.mesh.transport.LightHslStatus;
+import no.nordicsemi.android.mesh.transport.LightLightnessStatus;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+
+/**
+ * Keeps the last known state of the models in the network, so that it can be shown without sending Get messages.
+ * <p>
+ * The state is updated from every Generic OnOff, Generic Level, Generic Battery, Light Lightness, Light CTL and
+ * Light HSL status received, whether it was sent in response to a message or published. The state is read from the raw
+ * parameters of the status, so that updating the cache does not parse the status message. States are kept per element
+ * address and model in primitive arrays, and {@link ModelState} objects are only created when reading them or
+ * notifying a change.
+ * </p>
+ */
+public final class ModelStateCache {
+
+    private static final int GENERIC_ON_OFF_STATE_ON = 0x01;
+
+    static final int MAX_VALUES = 4;
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    // Open addressing table mapping keys to rows, sized to twice the capacity of the rows
+    private int[] mIndex = newIndex(MIN_CAPACITY * 2);
+    private int[] mKeys = new int[MIN_CAPACITY];
+    private int[] mPresentValues = new int[MIN_CAPACITY * MAX_VALUES];
+    private int[] mTargetValues = new int[MIN_CAPACITY * MAX_VALUES];
+    private byte[] mValueCounts = new byte[MIN_CAPACITY];
+    private byte[] mTargetCounts = new byte[MIN_CAPACITY];
+    private long[] mTimestamps = new long[MIN_CAPACITY];
+    private int mSize;
+
+    private final int[] mPresent = new int[MAX_VALUES];
+    private final int[] mTarget = new int[MAX_VALUES];
+    private final List<ModelStateListener> mListeners = new ArrayList<>();
+    private final Map<Integer, List<ModelStateListener>> mModelListeners = new HashMap<>();
+
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public ModelStateCache() {
+    }
+
+    /**
+     * Returns the last known state of a model.
+     *
+     * @param elementAddress address of the element containing the model
+     * @param modelId        identifier of the model
+     * @return the state or null if no status has been received from the model
+     */
+    @Nullable
+    public synchronized ModelState getState(final int elementAddress, final int modelId) {
+        final int row = find(key(elementAddress, modelId));
+        return row == EMPTY ? null : toState(row);
+    }
+
+    /**
+     * Returns the last known states of all models.
+     */
+    @NonNull
+    public synchronized List<ModelState> getStates() {
+        final List<ModelState> states = new ArrayList<>(mSize);
+        for (int row = 0; row < mSize; row++) {
+            states.add(toState(row));
+        }
+        return states;
+    }
+
+    /**
+     * Returns the last known states of all models with the given identifier.
+     *
+     * @param modelId identifier of the model, i.e. {@link no.nordicsemi.android.mesh.models.SigModelParser#GENERIC_ON_OFF_SERVER}
+     */
+    @NonNull
+    public synchronized List<ModelState> getStates(final int modelId) {
+        final List<ModelState> states = new ArrayList<>();
+        for (int row = 0; row < mSize; row++) {
+            if ((mKeys[row] & 0xFFFF) == (modelId & 0xFFFF)) {
+                states.add(toState(row));
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Returns the number of models with a known state.
+     */
+    public synchronized int size() {
+        return mSize;
+    }
+
+    /**
+     * Adds a listener notified when the state of any model changes.
+     */
+    public synchronized void addListener(@NonNull final ModelStateListener listener) {
+        if (!mListeners.contains(listener)) {
+            mListeners.add(listener);
+        }
+    }
+
+    public synchronized void removeListener(@NonNull final ModelStateListener listener) {
+        mListeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener notified when the state of the given model changes.
+     *
+     * @param elementAddress address of the element containing the model
+     * @param modelId        identifier of the model
+     * @param listener       listener
+     */
+    public synchronized void addListener(final int elementAddress, final int modelId, @NonNull final ModelStateListener listener) {
+        final int key = key(elementAddress, modelId);
+        List<ModelStateListener> listeners = mModelListeners.get(key);
+        if (listeners == null) {
+            listeners = new ArrayList<>();
+            mModelListeners.put(key, listeners);
+        }
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public synchronized void removeListener(final int elementAddress, final int modelId, @NonNull final ModelStateListener listener) {
+        final int key = key(elementAddress, modelId);
+        final List<ModelStateListener> listeners = mModelListeners.get(key);
+        if (listeners != null && listeners.remove(listener) && listeners.isEmpty()) {
+            mModelListeners.remove(key);
+        }
+    }
+
+    /**
+     * Removes the states of all models. Listeners are kept.
+     */
+    public synchronized void clear() {
+        Arrays.fill(mIndex, EMPTY);
+        mSize = 0;
+    }
+
+    /**
+     * Removes the states of the models of an element, i.e. when the node is reset.
+     *
+     * @param elementAddress address of the element
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public synchronized void remove(final int elementAddress) {
+        for (int row = mSize - 1; row >= 0; row--) {
+            if (mKeys[row] >>> 16 == (elementAddress & 0xFFFF)) {
+                removeRow(row);
+            }
+        }
+    }
+
+    /**
+     * Updates the state of the model that sent the message if it is a supported status, and notifies the listeners if
+     * the state has changed.
+     *
+     * @param message received message
+     * @param now     current time in milliseconds
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public void update(@NonNull final MeshMessage message, final long now) {
+        if (!MeshAddress.isValidUnicastAddress(message.getSrc()))
+            return;
+        final ModelState state;
+        final List<ModelStateListener> listeners = new ArrayList<>();
+        synchronized (this) {
+            final byte[] params = message instanceof ApplicationStatusMessage
+                    ? ((ApplicationStatusMessage) message).getParameters() : null;
+            if (params == null)
+                return;
+            final int modelId;
+            final int valueCount;
+            int targetCount = 0;
+            if (message instanceof GenericOnOffStatus && params.length >= 1) {
+                modelId = SigModelParser.GENERIC_ON_OFF_SERVER;
+                valueCount = 1;
+                mPresent[ModelState.ON_OFF] = params[0] == GENERIC_ON_OFF_STATE_ON ? 1 : 0;
+                if (params.length > 1) {
+                    targetCount = 1;
+                    mTarget[ModelState.ON_OFF] = params[1] == GENERIC_ON_OFF_STATE_ON ? 1 : 0;
+                }
+            } else if (message instanceof GenericLevelStatus && params.length >= 2) {
+                modelId = SigModelParser.GENERIC_LEVEL_SERVER;
+                valueCount = 1;
+                mPresent[ModelState.LEVEL] = (short) uint16(params, 0);
+                if (params.length > 2) {
+                    targetCount = 1;
+                    mTarget[ModelState.LEVEL] = (short) uint16(params, 2);
+                }
+            } else if (message instanceof GenericBatteryStatus && params.length >= 1) {
+                modelId = SigModelParser.GENERIC_BATTERY_SERVER;
+                valueCount = 4;
+                mPresent[ModelState.BATTERY_LEVEL] = params[0] & 0xFF;
+                final boolean complete = params.length >= 8;
+                mPresent[ModelState.TIME_TO_DISCHARGE] = complete ? uint24(params, 1) : 0;
+                mPresent[ModelState.TIME_TO_CHARGE] = complete ? uint24(params, 4) : 0;
+                mPresent[ModelState.BATTERY_FLAGS] = complete ? params[7] & 0xFF : 0;
+            } else if (message instanceof LightLightnessStatus && params.length >= 2) {
+                modelId = SigModelParser.LIGHT_LIGHTNESS_SERVER;
+                valueCount = 1;
+                mPresent[ModelState.LIGHTNESS] = uint16(params, 0);
+                if (params.length > 2) {
+                    targetCount = 1;
+                    mTarget[ModelState.LIGHTNESS] = uint16(params, 2);
+                }
+            } else if (message instanceof LightCtlStatus && params.length >= 4) {
+                modelId = SigModelParser.LIGHT_CTL_SERVER;
+                valueCount = 2;
+                mPresent[ModelState.LIGHTNESS] = uint16(params, 0);
+                mPresent[ModelState.TEMPERATURE] = uint16(params, 2);
+                if (params.length > 4) {
+                    targetCount = 2;
+                    mTarget[ModelState.LIGHTNESS] = uint16(params, 4);
+                    mTarget[ModelState.TEMPERATURE] = uint16(params, 6);
+                }
+            } else if (message instanceof LightHslStatus && params.length >= 6) {
+                modelId = SigModelParser.LIGHT_HSL_SERVER;
+                valueCount = 3;
+                mPresent[ModelState.LIGHTNESS] = uint16(params, 0);
+                mPresent[ModelState.HUE] = uint16(params, 2);
+                mPresent[ModelState.SATURATION] = uint16(params, 4);
+            } else {
+                return;
+            }
+            final int key = key(message.getSrc(), modelId);
+            if (!put(key, valueCount, targetCount, now))
+                return;
+            state = toState(find(key));
+            listeners.addAll(mListeners);
+            final List<ModelStateListener> modelListeners = mModelListeners.get(key);
+            if (modelListeners != null) {
+                listeners.addAll(modelListeners);
+            }
+        }
+        for (ModelStateListener listener : listeners) {
+            listener.onModelStateChanged(state);
+        }
+    }
+
+    /**
+     * Stores the decoded values in the row of the key, adding it if needed.
+     *
+     * @return true if the values have changed
+     */
+    private boolean put(final int key, final int valueCount, final int targetCount, final long now) {
+        int row = find(key);
+        boolean changed = row == EMPTY;
+        if (row == EMPTY) {
+            row = addRow(key);
+        } else if (mValueCounts[row] != valueCount || mTargetCounts[row] != targetCount) {
+            changed = true;
+        } else {
+            final int offset = row * MAX_VALUES;
+            for (int i = 0; i < valueCount && !changed; i++) {
+                changed = mPresentValues[offset + i] != mPresent[i];
+            }
+            for (int i = 0; i < targetCount && !changed; i++) {
+                changed = mTargetValues[offset + i] != mTarget[i];
+            }
+        }
+        mValueCounts[row] = (byte) valueCount;
+        mTargetCounts[row] = (byte) targetCount;
+        System.arraycopy(mPresent, 0, mPresentValues, row * MAX_VALUES, valueCount);
+        System.arraycopy(mTarget, 0, mTargetValues, row * MAX_VALUES, targetCount);
+        mTimestamps[row] = now;
+        return changed;
+    }
+
+    @NonNull
+    private ModelState toState(final int row) {
+        final int offset = row * MAX_VALUES;
+        return new ModelState(mKeys[row] >>> 16, mKeys[row] & 0xFFFF,
+                Arrays.copyOfRange(mPresentValues, offset, offset + mValueCounts[row]),
+                Arrays.copyOfRange(mTargetValues, offset, offset + mTargetCounts[row]),
+                mTimestamps[row]);
+    }
+
+    private int find(final int key) {
+        final int mask = mIndex.length - 1;
+        int slot = hash(key) & mask;
+        int row;
+        while ((row = mIndex[slot]) != EMPTY) {
+            if (mKeys[row] == key)
+                return row;
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    private int addRow(final int key) {
+        if (mSize == mKeys.length) {
+            grow();
+        }
+        final int row = mSize++;
+        mKeys[row] = key;
+        final int mask = mIndex.length - 1;
+        int slot = hash(key) & mask;
+        while (mIndex[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        mIndex[slot] = row;
+        return row;
+    }
+
+    /**
+     * Removes a row by moving the last row in its place.
+     */
+    private void removeRow(final int row) {
+        removeFromIndex(mKeys[row]);
+        final int last = --mSize;
+        if (row == last)
+            return;
+        final int lastKey = mKeys[last];
+        mIndex[slotOf(lastKey)] = row;
+        mKeys[row] = lastKey;
+        System.arraycopy(mPresentValues, last * MAX_VALUES, mPresentValues, row * MAX_VALUES, MAX_VALUES);
+        System.arraycopy(mTargetValues, last * MAX_VALUES, mTargetValues, row * MAX_VALUES, MAX_VALUES);
+        mValueCounts[row] = mValueCounts[last];
+        mTargetCounts[row] = mTargetCounts[last];
+        mTimestamps[row] = mTimestamps[last];
+    }
+
+    private int slotOf(final int key) {
+        final int mask = mIndex.length - 1;
+        int slot = hash(key) & mask;
+        while (mKeys[mIndex[slot]] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void removeFromIndex(final int key) {
+        final int mask = mIndex.length - 1;
+        int slot = slotOf(key);
+        mIndex[slot] = EMPTY;
+        // Shift the following entries of the probe sequence back so that lookups do not stop at the removed slot
+        int next = (slot + 1) & mask;
+        int row;
+        while ((row = mIndex[next]) != EMPTY) {
+            final int home = hash(mKeys[row]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                mIndex[slot] = row;
+                mIndex[next] = EMPTY;
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        final int capacity = mKeys.length << 1;
+        mKeys = Arrays.copyOf(mKeys, capacity);
+        mPresentValues = Arrays.copyOf(mPresentValues, capacity * MAX_VALUES);
+        mTargetValues = Arrays.copyOf(mTargetValues, capacity * MAX_VALUES);
+        mValueCounts = Arrays.copyOf(mValueCounts, capacity);
+        mTargetCounts = Arrays.copyOf(mTargetCounts, capacity);
+        mTimestamps = Arrays.copyOf(mTimestamps, capacity);
+        mIndex = newIndex(capacity * 2);
+        final int mask = mIndex.length - 1;
+        for (int row = 0; row < mSize; row++) {
+            int slot = hash(mKeys[row]) & mask;
+            while (mIndex[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            mIndex[slot] = row;
+        }
+    }
+
+    private static int[] newIndex(final int capacity) {
+        final int[] index = new int[capacity];
+        Arrays.fill(index, EMPTY);
+        return index;
+    }
+
+    private static int uint16(@NonNull final byte[] params, final int offset) {
+        return MeshParserUtils.unsignedBytesToInt(params[offset], params[offset + 1]);
+    }
+
+    private static int uint24(@NonNull final byte[] params, final int offset) {
+        return uint16(params, offset) | (params[offset + 2] & 0xFF) << 16;
+    }
+
+    private static int key(final int elementAddress, final int modelId) {
+        return (elementAddress & 0xFFFF) << 16 | (modelId & 0xFFFF);
+    }
+
+    private static int hash(final int value) {
+        final int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.trace;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Reads the PDUs of a trace file written by {@link PduTraceWriter}.
+ */
+public final class PduTraceReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream mInputStream;
+    private long mTimestamp;
+
+    /**
+     * Opens a trace file.
+     *
+     * @param file trace file
+     * @throws IOException if the file could not be opened or is not a trace file
+     */
+    public PduTraceReader(@NonNull final File file) throws IOException {
+        this(new FileInputStream(file));
+    }
+
+    PduTraceReader(@NonNull final InputStream inputStream) throws IOException {
+        mInputStream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        for (byte magic : PduTrace.MAGIC) {
+            if (readByte() != (magic & 0xFF))
+                throw new IOException("Not a PDU trace file");
+        }
+        final int version = readByte();
+        if (version != PduTrace.VERSION)
+            throw new IOException("Unsupported PDU trace version: " + version);
+    }
+
+    /**
+     * Returns the next PDU of the trace, or null at the end of the trace.
+     *
+     * @throws IOException if the trace could not be read or is truncated
+     */
+    @Nullable
+    public PduTraceRecord next() throws IOException {
+        while (true) {
+            final int type = mInputStream.read();
+            if (type < 0)
+                return null;
+            if (type == PduTrace.RECORD_SESSION) {
+                mTimestamp = readLong() * 1000;
+                continue;
+            }
+            if (type != PduTrace.RECORD_IN && type != PduTrace.RECORD_OUT)
+                throw new IOException("Unknown PDU trace record: " + type);
+            mTimestamp += readVarInt();
+            final int bearer = (int) readVarInt();
+            final int mtu = (int) readVarInt();
+            final byte[] pdu = new byte[(int) readVarInt()];
+            int offset = 0;
+            while (offset < pdu.length) {
+                final int read = mInputStream.read(pdu, offset, pdu.length - offset);
+                if (read < 0)
+                    throw new EOFException("Truncated PDU trace record");
+                offset += read;
+            }
+            final int direction = type == PduTrace.RECORD_OUT ? PduTraceRecord.DIRECTION_OUT : PduTraceRecord.DIRECTION_IN;
+            return new PduTraceRecord(direction, mTimestamp, bearer, mtu, pdu);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        mInputStream.close();
+    }
+
+    private int readByte() throws IOException {
+        final int value = mInputStream.read();
+        if (value < 0)
+            throw new EOFException("Truncated PDU trace");
+        return value;
+    }
+
+    private long readVarInt() throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 63)
+                throw new IOException("Malformed PDU trace record");
+            b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private long readLong() throws IOException {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+}
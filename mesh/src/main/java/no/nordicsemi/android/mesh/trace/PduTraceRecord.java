@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.trace;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * A PDU captured in a trace file.
+ */
+public final class PduTraceRecord {
+
+    /**
+     * PDU received from the proxy node, as passed to the library in a notification.
+     */
+    public static final int DIRECTION_IN = 0;
+
+    /**
+     * PDU created by the library to be sent to the proxy node, before it is segmented to the MTU.
+     */
+    public static final int DIRECTION_OUT = 1;
+
+    @Retention(RetentionPolicy.SOURCE)
+    @IntDef({DIRECTION_IN, DIRECTION_OUT})
+    public @interface Direction {
+    }
+
+    /**
+     * Bearer id of the PDUs exchanged without a {@link no.nordicsemi.android.mesh.ProxyBearer}, through
+     * {@link no.nordicsemi.android.mesh.MeshManagerApi#handleNotifications(int, byte[])}.
+     */
+    public static final int DEFAULT_BEARER = 0;
+
+    private final int direction;
+    private final long timestamp;
+    private final int bearer;
+    private final int mtu;
+    private final byte[] pdu;
+
+    PduTraceRecord(@Direction final int direction, final long timestamp, final int bearer, final int mtu,
+                   @NonNull final byte[] pdu) {
+        this.direction = direction;
+        this.timestamp = timestamp;
+        this.bearer = bearer;
+        this.mtu = mtu;
+        this.pdu = pdu;
+    }
+
+    /**
+     * Returns the direction of the PDU.
+     */
+    @Direction
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Returns the time the PDU was captured, in microseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the id of the proxy connection the PDU was received or sent over, or {@link #DEFAULT_BEARER}. Ids are
+     * assigned in the order the connections were added within a capture session.
+     */
+    public int getBearer() {
+        return bearer;
+    }
+
+    /**
+     * Returns the MTU the PDU was received or sent with.
+     */
+    public int getMtu() {
+        return mtu;
+    }
+
+    /**
+     * Returns the raw PDU.
+     */
+    @NonNull
+    public byte[] getPdu() {
+        return pdu;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.trace;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.VisibleForTesting;
+import no.nordicsemi.android.mesh.MeshManagerApi;
+import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.ProxyBearer;
+import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
+
+/**
+ * Feeds the PDUs received in a trace back through a mesh manager, to reproduce a captured load profile or to
+ * benchmark the parsing of the received PDUs offline.
+ * <p>
+ * Received PDUs are passed to the mesh manager with the MTU they were received with, either with the original spacing
+ * scaled by the given speed or back to back. PDUs received without a proxy bearer are passed to
+ * {@link MeshManagerApi#handleNotifications(int, byte[])}. PDUs received over a proxy bearer are passed to
+ * {@link MeshManagerApi#handleNotifications(ProxyBearer, int, byte[])} with a stand-in bearer per captured connection,
+ * so that the GATT segments of each connection are reassembled separately. The stand-in bearers are added for the
+ * duration of the replay and discard the PDUs written to them. PDUs created by the library are skipped, as the mesh
+ * manager creates them again while replaying.
+ * </p>
+ * <p>
+ * The mesh manager must have the network of the trace loaded. As the network already holds the sequence numbers
+ * received during the capture, replay protection is reset before replaying, otherwise every PDU would be dropped as a
+ * replayed message.
+ * </p>
+ */
+public final class PduTraceReplayer {
+
+    /**
+     * Receives the PDUs replayed from a trace.
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public interface Target {
+        /**
+         * Called before the first PDU is replayed.
+         */
+        void onReplayStarted();
+
+        void handleNotifications(final int bearer, final int mtuSize, @NonNull final byte[] data);
+
+        /**
+         * Called once the trace has been replayed, or replaying failed.
+         */
+        void onReplayFinished();
+    }
+
+    private final Target mTarget;
+
+    /**
+     * Constructs a replayer feeding the given mesh manager.
+     *
+     * @param meshManagerApi mesh manager with the network of the trace loaded
+     */
+    public PduTraceReplayer(@NonNull final MeshManagerApi meshManagerApi) {
+        this(new MeshManagerTarget(meshManagerApi));
+    }
+
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public PduTraceReplayer(@NonNull final Target target) {
+        mTarget = target;
+    }
+
+    /**
+     * Replays the received PDUs of a trace on the calling thread.
+     *
+     * @param reader trace to replay
+     * @param speed  1 to replay at the original speed, 10 to replay ten times faster, or 0 to replay without delays
+     * @return the number of PDUs replayed
+     * @throws IOException          if the trace could not be read
+     * @throws InterruptedException if the thread is interrupted while waiting for the next PDU
+     */
+    public long replay(@NonNull final PduTraceReader reader, final float speed) throws IOException, InterruptedException {
+        if (speed < 0)
+            throw new IllegalArgumentException("Speed must not be negative");
+        mTarget.onReplayStarted();
+        try {
+            final long start = System.nanoTime();
+            long firstTimestamp = -1;
+            long count = 0;
+            PduTraceRecord record;
+            while ((record = reader.next()) != null) {
+                if (record.getDirection() != PduTraceRecord.DIRECTION_IN)
+                    continue;
+                if (firstTimestamp < 0) {
+                    firstTimestamp = record.getTimestamp();
+                }
+                if (speed > 0) {
+                    // Wait relative to the start of the replay so that delays do not add up
+                    final long due = start + (long) ((record.getTimestamp() - firstTimestamp) * 1000 / speed);
+                    final long delay = due - System.nanoTime();
+                    if (delay > 0) {
+                        Thread.sleep(delay / 1000000, (int) (delay % 1000000));
+                    }
+                }
+                mTarget.handleNotifications(record.getBearer(), record.getMtu(), record.getPdu());
+                count++;
+            }
+            return count;
+        } finally {
+            mTarget.onReplayFinished();
+        }
+    }
+
+    /**
+     * Forgets the SeqAuth values the nodes of a network received, so that the messages of a trace captured with the
+     * network are not dropped as replayed messages.
+     */
+    @VisibleForTesting
+    static void resetReplayProtection(@NonNull final MeshNetwork network) {
+        for (ProvisionedMeshNode node : network.getNodes()) {
+            node.clearSeqAuth();
+        }
+    }
+
+    private static final class ReplayBearer implements ProxyBearer {
+        private final int mtu;
+
+        ReplayBearer(final int mtu) {
+            this.mtu = mtu;
+        }
+
+        @Override
+        public int getMtu() {
+            return mtu;
+        }
+
+        @Override
+        public void sendPdu(@NonNull final byte[] pdu) {
+            // PDUs created while replaying are not sent anywhere
+        }
+    }
+
+    private static final class MeshManagerTarget implements Target {
+        private final MeshManagerApi meshManagerApi;
+        private final Map<Integer, ReplayBearer> bearers = new HashMap<>();
+
+        MeshManagerTarget(@NonNull final MeshManagerApi meshManagerApi) {
+            this.meshManagerApi = meshManagerApi;
+        }
+
+        @Override
+        public void onReplayStarted() {
+            final MeshNetwork network = meshManagerApi.getMeshNetwork();
+            if (network != null) {
+                resetReplayProtection(network);
+            }
+        }
+
+        @Override
+        public void handleNotifications(final int bearer, final int mtuSize, @NonNull final byte[] data) {
+            if (bearer == PduTraceRecord.DEFAULT_BEARER) {
+                meshManagerApi.handleNotifications(mtuSize, data);
+                return;
+            }
+            ReplayBearer replayBearer = bearers.get(bearer);
+            if (replayBearer == null) {
+                replayBearer = new ReplayBearer(mtuSize);
+                bearers.put(bearer, replayBearer);
+                meshManagerApi.addProxyBearer(replayBearer, MeshAddress.UNASSIGNED_ADDRESS);
+            }
+            meshManagerApi.handleNotifications(replayBearer, mtuSize, data);
+        }
+
+        @Override
+        public void onReplayFinished() {
+            for (ReplayBearer replayBearer : bearers.values()) {
+                meshManagerApi.removeProxyBearer(replayBearer);
+            }
+            bearers.clear();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.trace;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+
+/**
+ * Appends captured PDUs to a trace file.
+ * <p>
+ * The file starts with the magic bytes "MPDU" and a version byte, written when the file is created. Every writer then
+ * appends a session record holding the current time in milliseconds since the epoch, followed by a record per PDU
+ * holding the direction, the time since the previous record in microseconds, the id of the proxy connection, the MTU,
+ * and the length and bytes of the PDU. Times, ids and lengths are stored as unsigned LEB128 variable length integers,
+ * so a record adds 5 to 7 bytes to the PDU. Records are written through a buffer that is flushed when it is full,
+ * on {@link #flush()} and on {@link #close()}.
+ * </p>
+ * <p>
+ * A write error is logged and stops the capture, so that capturing never interrupts the mesh stack.
+ * </p>
+ */
+public final class PduTraceWriter implements Closeable {
+
+    private static final String TAG = PduTraceWriter.class.getSimpleName();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream mOutputStream;
+    private long mLastTimestamp;
+    private long mRecordCount;
+    private boolean mFailed;
+    private boolean mClosed;
+
+    /**
+     * Opens a trace file for appending, creating it if it does not exist.
+     *
+     * @param file trace file
+     * @throws IOException if the file could not be opened or is not a trace of the current version
+     */
+    public PduTraceWriter(@NonNull final File file) throws IOException {
+        this(new FileOutputStream(file, true), !checkHeader(file), System.currentTimeMillis(), System.nanoTime() / 1000);
+    }
+
+    PduTraceWriter(@NonNull final OutputStream outputStream, final boolean writeHeader,
+                   final long epochMillis, final long timestamp) throws IOException {
+        mOutputStream = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        if (writeHeader) {
+            mOutputStream.write(PduTrace.MAGIC);
+            mOutputStream.write(PduTrace.VERSION);
+        }
+        mOutputStream.write(PduTrace.RECORD_SESSION);
+        writeLong(epochMillis);
+        mLastTimestamp = timestamp;
+    }
+
+    /**
+     * Returns true if the file holds the header of a trace of the current version, or false if it is empty or does
+     * not exist.
+     */
+    private static boolean checkHeader(@NonNull final File file) throws IOException {
+        if (file.length() == 0)
+            return false;
+        // Throws if the header is not valid, so that records are not appended to a trace of another version
+        new PduTraceReader(file).close();
+        return true;
+    }
+
+    /**
+     * Appends a PDU exchanged without a proxy bearer to the trace.
+     *
+     * @param direction {@link PduTraceRecord#DIRECTION_IN} or {@link PduTraceRecord#DIRECTION_OUT}
+     * @param mtu       MTU the PDU was received or sent with
+     * @param pdu       raw PDU
+     */
+    public void write(@PduTraceRecord.Direction final int direction, final int mtu, @NonNull final byte[] pdu) {
+        write(direction, PduTraceRecord.DEFAULT_BEARER, mtu, pdu);
+    }
+
+    /**
+     * Appends a PDU to the trace.
+     *
+     * @param direction {@link PduTraceRecord#DIRECTION_IN} or {@link PduTraceRecord#DIRECTION_OUT}
+     * @param bearer    id of the proxy connection, see {@link PduTraceRecord#getBearer()}
+     * @param mtu       MTU the PDU was received or sent with
+     * @param pdu       raw PDU
+     */
+    public void write(@PduTraceRecord.Direction final int direction, final int bearer, final int mtu,
+                      @NonNull final byte[] pdu) {
+        write(direction, System.nanoTime() / 1000, bearer, mtu, pdu);
+    }
+
+    synchronized void write(@PduTraceRecord.Direction final int direction, final long timestamp, final int bearer,
+                            final int mtu, @NonNull final byte[] pdu) {
+        if (mFailed || mClosed)
+            return;
+        try {
+            mOutputStream.write(direction == PduTraceRecord.DIRECTION_OUT ? PduTrace.RECORD_OUT : PduTrace.RECORD_IN);
+            writeVarInt(Math.max(0, timestamp - mLastTimestamp));
+            writeVarInt(bearer);
+            writeVarInt(mtu);
+            writeVarInt(pdu.length);
+            mOutputStream.write(pdu);
+            mLastTimestamp = Math.max(mLastTimestamp, timestamp);
+            mRecordCount++;
+        } catch (IOException ex) {
+            MeshLogger.error(TAG, "Error while writing PDU trace, capture stopped: " + ex.getMessage());
+            mFailed = true;
+        }
+    }
+
+    /**
+     * Returns the number of PDUs written by this writer.
+     */
+    public synchronized long getRecordCount() {
+        return mRecordCount;
+    }
+
+    /**
+     * Writes the buffered records to the file.
+     */
+    public synchronized void flush() throws IOException {
+        if (!mClosed) {
+            mOutputStream.flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!mClosed) {
+            mClosed = true;
+            mOutputStream.close();
+        }
+    }
+
+    private void writeVarInt(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            mOutputStream.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        mOutputStream.write((int) value);
+    }
+
+    private void writeLong(final long value) throws IOException {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            mOutputStream.write((int) (value >>> shift));
+        }
+    }
+}
@@ -22,8 +22,6 @@
 
 package no.nordicsemi.android.mesh.transport;
 
-import android.content.Context;
-import android.os.Handler;
 import no.nordicsemi.android.mesh.logger.MeshLogger;
 
 import java.nio.ByteBuffer;
@@ -47,12 +45,9 @@ import static no.nordicsemi.android.mesh.utils.MeshParserUtils.unsignedByteToInt
 abstract class AccessLayer {
 
     private static final String TAG = AccessLayer.class.getSimpleName();
-    protected Context mContext;
-    Handler mHandler;
+    TransportScheduler mScheduler;
     ProvisionedMeshNode mMeshNode;
 
-    protected abstract void initHandler();
-
     /**
      * Creates an access message
      *
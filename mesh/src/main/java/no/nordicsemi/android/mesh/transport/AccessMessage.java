@@ -26,6 +26,8 @@ import android.os.Parcel;
 import android.os.ParcelUuid;
 import android.util.SparseArray;
 
+import no.nordicsemi.android.mesh.utils.ByteArrayMap;
+
 import java.util.UUID;
 
 import androidx.annotation.NonNull;
@@ -34,7 +36,7 @@ import androidx.annotation.NonNull;
 public final class AccessMessage extends Message {
 
     private UUID label;                                // Label UUID for destination address
-    protected SparseArray<byte[]> lowerTransportAccessPdu = new SparseArray<>();
+    protected ByteArrayMap lowerTransportAccessPdu = new ByteArrayMap();
     private byte[] accessPdu;
     private byte[] transportPdu;
 
@@ -60,7 +62,7 @@ public final class AccessMessage extends Message {
         if (parcelUuid != null) {
             label = parcelUuid.getUuid();
         }
-        lowerTransportAccessPdu = readSparseArrayToParcelable(source);
+        lowerTransportAccessPdu = readByteArrayMapFromParcel(source);
         accessPdu = source.createByteArray();
         transportPdu = source.createByteArray();
     }
@@ -74,11 +76,53 @@ public final class AccessMessage extends Message {
     public void writeToParcel(final Parcel dest, final int flags) {
         super.writeToParcel(dest, flags);
         dest.writeParcelable(new ParcelUuid(label), flags);
-        writeSparseArrayToParcelable(dest, lowerTransportAccessPdu);
+        writeByteArrayMapToParcel(dest, lowerTransportAccessPdu);
         dest.writeByteArray(accessPdu);
         dest.writeByteArray(transportPdu);
     }
 
+    /**
+     * Writes the fields a received status message is decoded from, leaving out the keys and the PDUs of the lower
+     * layers, which are not needed once the message has been decrypted.
+     *
+     * @param dest parcel
+     */
+    void writeStatusToParcel(@NonNull final Parcel dest) {
+        dest.writeInt(getSrc());
+        dest.writeInt(getDst());
+        dest.writeInt(getTtl());
+        dest.writeInt(getAkf());
+        dest.writeInt(getAid());
+        dest.writeInt(getOpCode());
+        dest.writeInt(getCompanyIdentifier());
+        dest.writeByteArray(getSequenceNumber());
+        dest.writeByteArray(getIvIndex());
+        dest.writeByteArray(getParameters());
+        dest.writeByteArray(accessPdu);
+    }
+
+    /**
+     * Reads a status message written by {@link #writeStatusToParcel(Parcel)}.
+     *
+     * @param source parcel
+     */
+    @NonNull
+    static AccessMessage createStatusFromParcel(@NonNull final Parcel source) {
+        final AccessMessage message = new AccessMessage();
+        message.setSrc(source.readInt());
+        message.setDst(source.readInt());
+        message.setTtl(source.readInt());
+        message.setAkf(source.readInt());
+        message.setAid(source.readInt());
+        message.setOpCode(source.readInt());
+        message.setCompanyIdentifier(source.readInt());
+        message.setSequenceNumber(source.createByteArray());
+        message.setIvIndex(source.createByteArray());
+        message.setParameters(source.createByteArray());
+        message.accessPdu = source.createByteArray();
+        return message;
+    }
+
     @Override
     public int getCtl() {
         return ctl;
@@ -108,11 +152,31 @@ public final class AccessMessage extends Message {
         this.transportPdu = transportPdu;
     }
 
-    public final SparseArray<byte[]> getLowerTransportAccessPdu() {
+    public final ByteArrayMap getLowerTransportAccessPduMap() {
         return lowerTransportAccessPdu;
     }
 
-    public final void setLowerTransportAccessPdu(final SparseArray<byte[]> lowerTransportAccessPdu) {
+    public final void setLowerTransportAccessPdu(final ByteArrayMap lowerTransportAccessPdu) {
         this.lowerTransportAccessPdu = lowerTransportAccessPdu;
     }
+
+    /**
+     * Returns a copy of the lower transport access pdus.
+     *
+     * @deprecated Use {@link #getLowerTransportAccessPduMap()} instead.
+     */
+    @Deprecated
+    public final SparseArray<byte[]> getLowerTransportAccessPdu() {
+        return toSparseArray(lowerTransportAccessPdu);
+    }
+
+    /**
+     * Sets the lower transport access pdus.
+     *
+     * @deprecated Use {@link #setLowerTransportAccessPdu(ByteArrayMap)} instead.
+     */
+    @Deprecated
+    public final void setLowerTransportAccessPdu(final SparseArray<byte[]> lowerTransportAccessPdu) {
+        this.lowerTransportAccessPdu = toByteArrayMap(lowerTransportAccessPdu);
+    }
 }
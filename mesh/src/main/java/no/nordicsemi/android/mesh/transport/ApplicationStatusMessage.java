@@ -1,9 +1,11 @@
 package no.nordicsemi.android.mesh.transport;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 
 public abstract class ApplicationStatusMessage extends MeshMessage {
 
+    private volatile boolean mParsed;
 
     ApplicationStatusMessage(@NonNull final AccessMessage message) {
         mMessage = message;
@@ -14,6 +16,29 @@ public abstract class ApplicationStatusMessage extends MeshMessage {
      */
     abstract void parseStatusParameters();
 
+    /**
+     * Parses the status parameters on first use, so that statuses that are never inspected are not decoded.
+     * Subclasses call this before reading a parsed field.
+     */
+    final void ensureParsed() {
+        if (!mParsed) {
+            synchronized (this) {
+                if (!mParsed) {
+                    parseStatusParameters();
+                    mParsed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if the status parameters have been parsed.
+     */
+    @VisibleForTesting
+    boolean isParsed() {
+        return mParsed;
+    }
+
     @Override
     public final int getAkf() {
         return 1;
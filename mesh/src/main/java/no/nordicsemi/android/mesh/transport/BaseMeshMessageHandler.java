@@ -23,13 +23,12 @@
 package no.nordicsemi.android.mesh.transport;
 
 import android.content.Context;
+import android.os.Handler;
 import no.nordicsemi.android.mesh.logger.MeshLogger;
-import android.util.SparseArray;
+import no.nordicsemi.android.mesh.metrics.MeshMetrics;
 
 import org.spongycastle.crypto.InvalidCipherTextException;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.List;
 import java.util.UUID;
 
@@ -42,13 +41,8 @@ import no.nordicsemi.android.mesh.MeshStatusCallbacks;
 import no.nordicsemi.android.mesh.NetworkKey;
 import no.nordicsemi.android.mesh.utils.ExtendedInvalidCipherTextException;
 import no.nordicsemi.android.mesh.utils.MeshAddress;
-import no.nordicsemi.android.mesh.utils.MeshParserUtils;
 import no.nordicsemi.android.mesh.utils.SecureUtils;
 
-import static no.nordicsemi.android.mesh.transport.NetworkLayer.createNetworkNonce;
-import static no.nordicsemi.android.mesh.transport.NetworkLayer.createProxyNonce;
-import static no.nordicsemi.android.mesh.transport.NetworkLayer.deObfuscateNetworkHeader;
-
 /**
  * Abstract class that handles mesh messages
  */
@@ -61,22 +55,41 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
     private final NetworkLayerCallbacks networkLayerCallbacks;
     private final UpperTransportLayerCallbacks upperTransportLayerCallbacks;
     protected MeshStatusCallbacks mStatusCallbacks;
-    private final SparseArray<MeshTransport> transportSparseArray = new SparseArray<>();
-    private final SparseArray<MeshMessageState> stateSparseArray = new SparseArray<>();
+    private final MeshTransportCache transportCache;
+    private final NetworkPduReader mPduReader = new NetworkPduReader();
+
+    /**
+     * Constructs BaseMessageHandler
+     *
+     * @param context                      Context
+     * @param internalTransportCallbacks   {@link InternalTransportCallbacks} Callbacks
+     * @param networkLayerCallbacks        {@link NetworkLayerCallbacks} network layer callbacks
+     * @param upperTransportLayerCallbacks {@link UpperTransportLayerCallbacks} upper transport layer callbacks
+     */
+    protected BaseMeshMessageHandler(@NonNull final Context context,
+                                     @NonNull final InternalTransportCallbacks internalTransportCallbacks,
+                                     @NonNull final NetworkLayerCallbacks networkLayerCallbacks,
+                                     @NonNull final UpperTransportLayerCallbacks upperTransportLayerCallbacks) {
+        this(context, new HandlerScheduler(new Handler(context.getMainLooper())), internalTransportCallbacks,
+                networkLayerCallbacks, upperTransportLayerCallbacks);
+    }
 
     /**
      * Constructs BaseMessageHandler
      *
      * @param context                      Context
+     * @param scheduler                    {@link TransportScheduler} providing the clock of the cached transports
      * @param internalTransportCallbacks   {@link InternalTransportCallbacks} Callbacks
      * @param networkLayerCallbacks        {@link NetworkLayerCallbacks} network layer callbacks
      * @param upperTransportLayerCallbacks {@link UpperTransportLayerCallbacks} upper transport layer callbacks
      */
     protected BaseMeshMessageHandler(@NonNull final Context context,
+                                     @NonNull final TransportScheduler scheduler,
                                      @NonNull final InternalTransportCallbacks internalTransportCallbacks,
                                      @NonNull final NetworkLayerCallbacks networkLayerCallbacks,
                                      @NonNull final UpperTransportLayerCallbacks upperTransportLayerCallbacks) {
         this.mContext = context;
+        this.transportCache = new MeshTransportCache(scheduler);
         this.mInternalTransportCallbacks = internalTransportCallbacks;
         this.networkLayerCallbacks = networkLayerCallbacks;
         this.upperTransportLayerCallbacks = upperTransportLayerCallbacks;
@@ -107,24 +120,25 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
         int tempIvIndex = ivIndex;
         NetworkKey networkKey = null;
         SecureUtils.K2Output k2Output = null;
-        byte[] networkHeader = null;
-        int ctlTtl = 0;
-        int ctl = 0;
-        int src = 0;
         ProvisionedMeshNode node = null;
+        boolean nidMatched = false;
+        MeshMetrics.NETWORK_PDUS_RECEIVED.increment();
+        if (!NetworkPduReader.isValidLength(pdu)) {
+            MeshLogger.warn(TAG, "Network PDU too short, length: " + pdu.length);
+            return;
+        }
         while (tempIvIndex <= ivIndex + 1) {
             //Here we go through all the network keys and filter out network keys based on the nid.
             for (int i = 0; i < networkKeys.size(); i++) {
                 networkKey = networkKeys.get(i);
                 k2Output = getMatchingK2Output(networkKey, nid);
                 if (k2Output != null) {
-                    networkHeader = deObfuscateNetworkHeader(pdu, MeshParserUtils.intToBytes(tempIvIndex), k2Output.getPrivacyKey());
-                    ctlTtl = networkHeader[0];
-                    ctl = (ctlTtl >> 7) & 0x01;
-                    src = MeshParserUtils.unsignedBytesToInt(networkHeader[5], networkHeader[4]);
+                    nidMatched = true;
+                    // The header is de-obfuscated in to the reader, the received pdu is left untouched
+                    mPduReader.deObfuscate(pdu, tempIvIndex, k2Output.getPrivacyKey());
                     // Check if the src is known to the network and if found let's break
                     // Note a node may not be found if there are two provisioners are operating independently without syncing the network.
-                    node = network.getNode(src);
+                    node = network.getNode(mPduReader.getSrc());
                     if (node != null) {
                         break;
                     }
@@ -132,36 +146,37 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
             }
             // IF the node was found we can safely try to decrypt message with the network key which we found src of the message.
             if(node != null && k2Output != null) {
-                final byte[] sequenceNumber = ByteBuffer.allocate(3).order(ByteOrder.BIG_ENDIAN).put(networkHeader, 1, 3).array();
-                MeshLogger.verbose(TAG, "Sequence number of received Network PDU: " + MeshParserUtils.convert24BitsToInt(sequenceNumber));
+                MeshLogger.verbose(TAG, "Sequence number of received Network PDU: " + mPduReader.getSequenceNumber());
                 //TODO validate ivi
-                byte[] nonce;
                 try {
-                    final int networkPayloadLength = pdu.length - (2 + networkHeader.length);
-                    final byte[] transportPdu = new byte[networkPayloadLength];
-                    System.arraycopy(pdu, 8, transportPdu, 0, networkPayloadLength);
-                    final byte[] decryptedPayload;
+                    mPduReader.decrypt(pdu, k2Output.getEncryptionKey());
+                    if (pdu[0] == MeshManagerApi.PDU_TYPE_NETWORK && networkLayerCallbacks.isDuplicateNetworkPdu(
+                            mPduReader.getIvIndex(), mPduReader.getSrc(), mPduReader.getSequenceNumber())) {
+                        return;
+                    }
                     final MeshMessageState state;
                     if (pdu[0] == MeshManagerApi.PDU_TYPE_NETWORK) {
-                        nonce = createNetworkNonce((byte) ctlTtl, sequenceNumber, src, MeshParserUtils.intToBytes(tempIvIndex));
-                        decryptedPayload = SecureUtils.decryptCCM(transportPdu, k2Output.getEncryptionKey(), nonce, SecureUtils.getNetMicLength(ctl));
-                        state = getState(src);
+                        state = getState(getEntry(mPduReader.getSrc(), true));
                     } else {
-                        nonce = createProxyNonce(sequenceNumber, src, MeshParserUtils.intToBytes(tempIvIndex));
-                        decryptedPayload = SecureUtils.decryptCCM(transportPdu, k2Output.getEncryptionKey(), nonce, SecureUtils.getNetMicLength(ctl));
-                        state = getState(MeshAddress.UNASSIGNED_ADDRESS);
+                        state = getState(getEntry(MeshAddress.UNASSIGNED_ADDRESS, true));
                     }
                     if (state != null) {
                         //TODO look in to proxy filter messages
-                        ((DefaultNoOperationMessageState) state).parseMeshPdu(networkKey, node, pdu, networkHeader, decryptedPayload, tempIvIndex, sequenceNumber);
+                        ((DefaultNoOperationMessageState) state).parseMeshPdu(networkKey, node, pdu, mPduReader);
                         return;
                     }
                 } catch (InvalidCipherTextException ex) {
+                    MeshMetrics.NETWORK_DROPPED_DECRYPTION_FAILED.increment();
                     throw new ExtendedInvalidCipherTextException(ex.getMessage(), ex.getCause(), TAG);
                 }
             }
             tempIvIndex++;
         }
+        if (!nidMatched) {
+            MeshMetrics.NETWORK_DROPPED_NID_MISMATCH.increment();
+        } else if (node == null) {
+            MeshMetrics.NETWORK_DROPPED_UNKNOWN_SOURCE.increment();
+        }
     }
 
     /**
@@ -182,7 +197,7 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
     @Override
     public final void onIncompleteTimerExpired(final int address) {
         //We switch no operation state if the incomplete timer has expired so that we don't wait on the same state if a particular message fails.
-        stateSparseArray.put(address, toggleState(getTransport(address), getState(address).getMeshMessage()));
+        setState(address, toggleState(getTransport(address), getState(address).getMeshMessage()));
     }
 
     /**
@@ -195,19 +210,46 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
         return new DefaultNoOperationMessageState(meshMessage, transport, this, mInternalTransportCallbacks, mStatusCallbacks);
     }
 
+    /**
+     * Toggles the current state of a node that is about to be sent a message to the default state, which measures the
+     * time until a message is received from the node, and keeps the node cached while the transfer is in progress.
+     *
+     * @param address     address of the node
+     * @param meshMessage Mesh message being sent
+     */
+    private void setRequestState(final int address, @NonNull final MeshMessage meshMessage) {
+        final MeshTransportCache.Entry entry = getEntry(address, false);
+        final DefaultNoOperationMessageState state = toggleState(entry.transport, meshMessage);
+        state.setRequestTimestamp(System.nanoTime());
+        entry.state = state;
+        transportCache.onTransferStarted(entry);
+    }
+
     /**
      * Returns the existing state or a new state if nothing exists for a node
      *
      * @param address address of the node
      */
     protected MeshMessageState getState(final int address) {
-        MeshMessageState state = stateSparseArray.get(address);
-        if (state == null) {
-            state = new DefaultNoOperationMessageState(null, getTransport(address),
+        return getState(getEntry(address, false));
+    }
+
+    private MeshMessageState getState(@NonNull final MeshTransportCache.Entry entry) {
+        if (entry.state == null) {
+            entry.state = new DefaultNoOperationMessageState(null, entry.transport,
                     this, mInternalTransportCallbacks, mStatusCallbacks);
-            stateSparseArray.put(address, state);
         }
-        return state;
+        return entry.state;
+    }
+
+    /**
+     * Sets the current state of a node
+     *
+     * @param address address of the node
+     * @param state   state
+     */
+    private void setState(final int address, @NonNull final MeshMessageState state) {
+        getEntry(address, false).state = state;
     }
 
     /**
@@ -216,14 +258,28 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
      * @param address address of the node
      */
     private MeshTransport getTransport(final int address) {
-        MeshTransport transport = transportSparseArray.get(address);
-        if (transport == null) {
-            transport = new MeshTransport(mContext);
-            transport.setNetworkLayerCallbacks(networkLayerCallbacks);
-            transport.setUpperTransportLayerCallbacks(upperTransportLayerCallbacks);
-            transportSparseArray.put(address, transport);
+        return getEntry(address, false).transport;
+    }
+
+    /**
+     * Returns the cached transport and state of the node, creating a new entry if the node is not cached.
+     * A transport of an evicted node is reused if available.
+     *
+     * @param address address of the node
+     * @param inbound true if a message is being received from the node
+     */
+    private MeshTransportCache.Entry getEntry(final int address, final boolean inbound) {
+        MeshTransportCache.Entry entry = transportCache.get(address);
+        if (entry == null) {
+            MeshTransport transport = transportCache.obtainTransport();
+            if (transport == null) {
+                transport = new MeshTransport(mContext);
+                transport.setNetworkLayerCallbacks(networkLayerCallbacks);
+                transport.setUpperTransportLayerCallbacks(upperTransportLayerCallbacks);
+            }
+            entry = transportCache.put(address, transport, inbound);
         }
-        return transport;
+        return entry;
     }
 
     /**
@@ -232,8 +288,38 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
      * @param address unicast address of the node
      */
     public void resetState(final int address) {
-        stateSparseArray.remove(address);
-        transportSparseArray.remove(address);
+        transportCache.remove(address);
+    }
+
+    /**
+     * Sets the limits of the transports and states kept for the nodes and groups messages are exchanged with.
+     *
+     * @param maxSize     maximum number of addresses kept, the least recently used address is evicted once exceeded
+     * @param idleTimeout time in milliseconds after which an unused address is evicted, 0 to disable
+     */
+    public void setTransportCacheLimits(final int maxSize, final long idleTimeout) {
+        transportCache.setLimits(maxSize, idleTimeout);
+    }
+
+    /**
+     * Returns the number of live transports.
+     */
+    public int getLiveTransportCount() {
+        return transportCache.getTransportCount();
+    }
+
+    /**
+     * Returns the number of live message states.
+     */
+    public int getLiveMessageStateCount() {
+        return transportCache.getStateCount();
+    }
+
+    /**
+     * Returns the number of transports evicted after being idle or least recently used.
+     */
+    public long getEvictedTransportCount() {
+        return transportCache.getEvictionCount();
     }
 
     @Override
@@ -259,7 +345,7 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
     private void createProxyConfigMeshMessage(final int src, final int dst, @NonNull final ProxyConfigMessage configurationMessage) {
         final ProxyConfigMessageState currentState = new ProxyConfigMessageState(src, dst, configurationMessage,
                 getTransport(dst), this, mInternalTransportCallbacks, mStatusCallbacks);
-        stateSparseArray.put(dst, toggleState(currentState.getMeshTransport(), configurationMessage));
+        setState(dst, toggleState(currentState.getMeshTransport(), configurationMessage));
         currentState.executeSend();
     }
 
@@ -277,9 +363,10 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
         final ConfigMessageState currentState = new ConfigMessageState(src, dst, node.getDeviceKey(), configurationMessage,
                 getTransport(dst), this, mInternalTransportCallbacks, mStatusCallbacks);
         if (MeshAddress.isValidUnicastAddress(dst)) {
-            stateSparseArray.put(dst, toggleState(getTransport(dst), configurationMessage));
+            setRequestState(dst, configurationMessage);
         }
         currentState.executeSend();
+        MeshMetrics.ACCESS_MESSAGES_SENT.increment();
     }
 
     /**
@@ -306,9 +393,10 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
                     this, mInternalTransportCallbacks, mStatusCallbacks);
         }
         if (MeshAddress.isValidUnicastAddress(dst)) {
-            stateSparseArray.put(dst, toggleState(getTransport(dst), applicationMessage));
+            setRequestState(dst, applicationMessage);
         }
         currentState.executeSend();
+        MeshMetrics.ACCESS_MESSAGES_SENT.increment();
     }
 
 
@@ -337,8 +425,9 @@ public abstract class BaseMeshMessageHandler implements MeshMessageHandlerApi, I
                     this, mInternalTransportCallbacks, mStatusCallbacks);
         }
         if (MeshAddress.isValidUnicastAddress(dst)) {
-            stateSparseArray.put(dst, toggleState(getTransport(dst), applicationMessage));
+            setRequestState(dst, applicationMessage);
         }
         currentState.executeSend();
+        MeshMetrics.ACCESS_MESSAGES_SENT.increment();
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.metrics.MeshMetrics;
+
+/**
+ * Limits the rate of state Set messages sent to the same destination with the same opcode, such as the Light
+ * Lightness Set messages sent while a slider is being moved.
+ * <p>
+ * Only the Generic OnOff, Generic Level, Light Lightness, Light CTL and Light HSL Set messages, acknowledged or not,
+ * are coalesced, as each of them carries the whole state of its model, so that a newer one makes an older one to the
+ * same destination pointless. Other messages are always sent right away, as messages with the same opcode may target
+ * different properties, scenes, models or keys, or, like Get messages, each expect their own response.
+ * </p>
+ * <p>
+ * The first message for a destination and opcode is sent right away. Messages sent within the minimum interval after
+ * it are held, a newer one replacing the one held, which is counted as superseded, and the latest one is sent once the
+ * interval has elapsed. Only the latest state therefore goes through encryption, segmentation and the bearer.
+ * </p>
+ * <p>
+ * A held message that can no longer be sent, or that is dropped when the coalescer is cleared, is counted as dropped.
+ * </p>
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public final class CommandCoalescer {
+
+    private static final String TAG = CommandCoalescer.class.getSimpleName();
+
+    public interface MessageSender {
+        void send(final int dst, @NonNull final MeshMessage meshMessage);
+    }
+
+    private final TransportScheduler mScheduler;
+    private final MessageSender mSender;
+    private final Map<Long, Slot> mSlots = new HashMap<>();
+    private long mMinInterval;
+
+    /**
+     * Message last sent for a key, and the message held until the interval since it was sent has elapsed. The slot
+     * is removed once the interval has elapsed with no message held.
+     */
+    private final class Slot implements Runnable {
+        final long key;
+        final int dst;
+        MeshMessage held;
+
+        Slot(final long key, final int dst) {
+            this.key = key;
+            this.dst = dst;
+        }
+
+        @Override
+        public void run() {
+            onIntervalElapsed(this);
+        }
+    }
+
+    public CommandCoalescer(@NonNull final TransportScheduler scheduler, @NonNull final MessageSender sender) {
+        mScheduler = scheduler;
+        mSender = sender;
+    }
+
+    /**
+     * Sets the minimum interval between two messages with the same destination and opcode. Messages held are sent
+     * right away when coalescing is disabled.
+     *
+     * @param minInterval interval in milliseconds, 0 to disable coalescing
+     */
+    public synchronized void setMinInterval(final long minInterval) {
+        if (minInterval < 0)
+            throw new IllegalArgumentException("Interval must not be negative");
+        mMinInterval = minInterval;
+        if (minInterval == 0) {
+            final Iterator<Slot> iterator = mSlots.values().iterator();
+            while (iterator.hasNext()) {
+                final Slot slot = iterator.next();
+                mScheduler.removeCallbacks(slot);
+                iterator.remove();
+                if (slot.held != null) {
+                    sendHeld(slot);
+                }
+            }
+        }
+    }
+
+    public synchronized long getMinInterval() {
+        return mMinInterval;
+    }
+
+    /**
+     * Sends a message, or holds it if it is a state Set message and a message with the same destination and opcode was
+     * sent within the minimum interval.
+     *
+     * @param dst         destination address
+     * @param meshMessage message to be sent
+     * @throws IllegalArgumentException if a message sent right away could not be sent
+     */
+    public synchronized void send(final int dst, @NonNull final MeshMessage meshMessage) {
+        if (mMinInterval == 0 || !isCoalesced(meshMessage)) {
+            mSender.send(dst, meshMessage);
+            return;
+        }
+        final long key = key(dst, meshMessage);
+        final Slot slot = mSlots.get(key);
+        if (slot == null) {
+            mSender.send(dst, meshMessage);
+            final Slot sent = new Slot(key, dst);
+            mSlots.put(key, sent);
+            mScheduler.postDelayed(sent, mMinInterval);
+        } else {
+            if (slot.held != null) {
+                MeshMetrics.COMMANDS_SUPERSEDED.increment();
+            }
+            slot.held = meshMessage;
+        }
+    }
+
+    /**
+     * Drops all messages held.
+     */
+    public synchronized void clear() {
+        for (Slot slot : mSlots.values()) {
+            mScheduler.removeCallbacks(slot);
+            if (slot.held != null) {
+                MeshMetrics.COMMANDS_DROPPED.increment();
+            }
+        }
+        mSlots.clear();
+    }
+
+    /**
+     * Returns the number of messages held.
+     */
+    public synchronized int getHeldCount() {
+        int count = 0;
+        for (Slot slot : mSlots.values()) {
+            if (slot.held != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private synchronized void onIntervalElapsed(@NonNull final Slot slot) {
+        if (mSlots.get(slot.key) != slot)
+            return;
+        if (slot.held == null) {
+            mSlots.remove(slot.key);
+            return;
+        }
+        if (sendHeld(slot)) {
+            mScheduler.postDelayed(slot, mMinInterval);
+        } else {
+            mSlots.remove(slot.key);
+        }
+    }
+
+    private boolean sendHeld(@NonNull final Slot slot) {
+        final MeshMessage message = slot.held;
+        slot.held = null;
+        try {
+            mSender.send(slot.dst, message);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            MeshLogger.warn(TAG, "Unable to send message to 0x" + Integer.toHexString(slot.dst) + ": " + ex.getMessage());
+            MeshMetrics.COMMANDS_DROPPED.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if the message sets the whole state of a model, so that it supersedes an older message with the
+     * same destination and opcode.
+     */
+    private static boolean isCoalesced(@NonNull final MeshMessage meshMessage) {
+        return meshMessage instanceof GenericOnOffSet
+                || meshMessage instanceof GenericOnOffSetUnacknowledged
+                || meshMessage instanceof GenericLevelSet
+                || meshMessage instanceof GenericLevelSetUnacknowledged
+                || meshMessage instanceof LightLightnessSet
+                || meshMessage instanceof LightLightnessSetUnacknowledged
+                || meshMessage instanceof LightCtlSet
+                || meshMessage instanceof LightCtlSetUnacknowledged
+                || meshMessage instanceof LightHslSet
+                || meshMessage instanceof LightHslSetUnacknowledged;
+    }
+
+    private static long key(final int dst, @NonNull final MeshMessage meshMessage) {
+        return (long) (dst & 0xFFFF) << 32 | (meshMessage.getOpCode() & 0xFFFFFFFFL);
+    }
+}
@@ -46,8 +46,7 @@ public class ConfigAppKeyList extends ConfigStatusMessage implements Parcelable
     public static final Creator<ConfigAppKeyList> CREATOR = new Creator<ConfigAppKeyList>() {
         @Override
         public ConfigAppKeyList createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigAppKeyList(message);
         }
 
@@ -102,8 +101,7 @@ public class ConfigAppKeyList extends ConfigStatusMessage implements Parcelable
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
@@ -45,8 +45,7 @@ public class ConfigAppKeyStatus extends ConfigStatusMessage implements Parcelabl
     public static final Creator<ConfigAppKeyStatus> CREATOR = new Creator<ConfigAppKeyStatus>() {
         @Override
         public ConfigAppKeyStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigAppKeyStatus(message);
         }
 
@@ -121,7 +120,6 @@ public class ConfigAppKeyStatus extends ConfigStatusMessage implements Parcelabl
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -62,7 +62,7 @@ public class ConfigCompositionDataStatus extends ConfigStatusMessage implements
     private static final Creator<ConfigCompositionDataStatus> CREATOR = new Creator<ConfigCompositionDataStatus>() {
         @Override
         public ConfigCompositionDataStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigCompositionDataStatus(message);
         }
 
@@ -319,7 +319,6 @@ public class ConfigCompositionDataStatus extends ConfigStatusMessage implements
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
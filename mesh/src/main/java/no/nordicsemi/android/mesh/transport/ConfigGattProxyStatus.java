@@ -40,7 +40,7 @@ public final class ConfigGattProxyStatus extends ConfigStatusMessage implements
     private static final Creator<ConfigGattProxyStatus> CREATOR = new Creator<ConfigGattProxyStatus>() {
         @Override
         public ConfigGattProxyStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigGattProxyStatus(message);
         }
 
@@ -96,7 +96,6 @@ public final class ConfigGattProxyStatus extends ConfigStatusMessage implements
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -58,7 +58,7 @@ public class ConfigHeartbeatPublicationStatus extends ConfigStatusMessage implem
     public static final Creator<ConfigHeartbeatPublicationStatus> CREATOR = new Creator<ConfigHeartbeatPublicationStatus>() {
         @Override
         public ConfigHeartbeatPublicationStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigHeartbeatPublicationStatus(message);
         }
 
@@ -101,8 +101,7 @@ public class ConfigHeartbeatPublicationStatus extends ConfigStatusMessage implem
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
@@ -56,7 +56,7 @@ public class ConfigHeartbeatSubscriptionStatus extends ConfigStatusMessage imple
     public static final Creator<ConfigHeartbeatSubscriptionStatus> CREATOR = new Creator<ConfigHeartbeatSubscriptionStatus>() {
         @Override
         public ConfigHeartbeatSubscriptionStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigHeartbeatSubscriptionStatus(message);
         }
 
@@ -95,8 +95,7 @@ public class ConfigHeartbeatSubscriptionStatus extends ConfigStatusMessage imple
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
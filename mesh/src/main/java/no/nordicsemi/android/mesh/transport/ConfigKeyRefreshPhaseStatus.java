@@ -49,7 +49,7 @@ public class ConfigKeyRefreshPhaseStatus extends ConfigStatusMessage implements
     public static final Creator<ConfigKeyRefreshPhaseStatus> CREATOR = new Creator<ConfigKeyRefreshPhaseStatus>() {
         @Override
         public ConfigKeyRefreshPhaseStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigKeyRefreshPhaseStatus(message);
         }
 
@@ -123,7 +123,6 @@ public class ConfigKeyRefreshPhaseStatus extends ConfigStatusMessage implements
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -51,8 +51,7 @@ public class ConfigModelAppStatus extends ConfigStatusMessage implements Parcela
     private static final Creator<ConfigModelAppStatus> CREATOR = new Creator<ConfigModelAppStatus>() {
         @Override
         public ConfigModelAppStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigModelAppStatus(message);
         }
 
@@ -138,8 +137,7 @@ public class ConfigModelAppStatus extends ConfigStatusMessage implements Parcela
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
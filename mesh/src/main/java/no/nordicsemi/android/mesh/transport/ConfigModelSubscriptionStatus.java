@@ -48,8 +48,7 @@ public class ConfigModelSubscriptionStatus extends ConfigStatusMessage implement
     private static final Creator<ConfigModelSubscriptionStatus> CREATOR = new Creator<ConfigModelSubscriptionStatus>() {
         @Override
         public ConfigModelSubscriptionStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigModelSubscriptionStatus(message);
         }
 
@@ -142,7 +141,6 @@ public class ConfigModelSubscriptionStatus extends ConfigStatusMessage implement
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
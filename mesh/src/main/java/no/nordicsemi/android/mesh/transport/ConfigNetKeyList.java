@@ -45,8 +45,7 @@ public class ConfigNetKeyList extends ConfigStatusMessage implements Parcelable
     public static final Creator<ConfigNetKeyList> CREATOR = new Creator<ConfigNetKeyList>() {
         @Override
         public ConfigNetKeyList createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigNetKeyList(message);
         }
 
@@ -97,8 +96,7 @@ public class ConfigNetKeyList extends ConfigStatusMessage implements Parcelable
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     public List<Integer> getKeyIndexes() {
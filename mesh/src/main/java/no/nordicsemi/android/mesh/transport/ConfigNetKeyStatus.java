@@ -44,8 +44,7 @@ public class ConfigNetKeyStatus extends ConfigStatusMessage implements Parcelabl
     public static final Creator<ConfigNetKeyStatus> CREATOR = new Creator<ConfigNetKeyStatus>() {
         @Override
         public ConfigNetKeyStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigNetKeyStatus(message);
         }
 
@@ -109,7 +108,6 @@ public class ConfigNetKeyStatus extends ConfigStatusMessage implements Parcelabl
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -43,8 +43,7 @@ public final class ConfigNetworkTransmitStatus extends ConfigStatusMessage imple
     private static final Creator<ConfigNetworkTransmitStatus> CREATOR = new Creator<ConfigNetworkTransmitStatus>() {
         @Override
         public ConfigNetworkTransmitStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigNetworkTransmitStatus(message);
         }
 
@@ -104,7 +103,6 @@ public final class ConfigNetworkTransmitStatus extends ConfigStatusMessage imple
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
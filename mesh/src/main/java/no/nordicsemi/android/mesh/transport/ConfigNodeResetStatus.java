@@ -40,8 +40,7 @@ public class ConfigNodeResetStatus extends ConfigStatusMessage implements Parcel
     private static final Creator<ConfigNodeResetStatus> CREATOR = new Creator<ConfigNodeResetStatus>() {
         @Override
         public ConfigNodeResetStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigNodeResetStatus(message);
         }
 
@@ -79,7 +78,6 @@ public class ConfigNodeResetStatus extends ConfigStatusMessage implements Parcel
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
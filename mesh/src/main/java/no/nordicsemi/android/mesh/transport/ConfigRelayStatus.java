@@ -46,7 +46,7 @@ public final class ConfigRelayStatus extends ConfigStatusMessage implements Parc
     public static final Creator<ConfigRelayStatus> CREATOR = new Creator<ConfigRelayStatus>() {
         @Override
         public ConfigRelayStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigRelayStatus(message);
         }
 
@@ -118,8 +118,7 @@ public final class ConfigRelayStatus extends ConfigStatusMessage implements Parc
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
@@ -50,8 +50,7 @@ public class ConfigSigModelAppList extends ConfigStatusMessage implements Parcel
     public static final Creator<ConfigSigModelAppList> CREATOR = new Creator<ConfigSigModelAppList>() {
         @Override
         public ConfigSigModelAppList createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigSigModelAppList(message);
         }
 
@@ -112,8 +111,7 @@ public class ConfigSigModelAppList extends ConfigStatusMessage implements Parcel
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
@@ -50,8 +50,7 @@ public class ConfigSigModelSubscriptionList extends ConfigStatusMessage implemen
     private static final Creator<ConfigSigModelSubscriptionList> CREATOR = new Creator<ConfigSigModelSubscriptionList>() {
         @Override
         public ConfigSigModelSubscriptionList createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigSigModelSubscriptionList(message);
         }
 
@@ -141,7 +140,6 @@ public class ConfigSigModelSubscriptionList extends ConfigStatusMessage implemen
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -52,8 +52,7 @@ public class ConfigVendorModelAppList extends ConfigStatusMessage implements Par
     public static final Creator<ConfigVendorModelAppList> CREATOR = new Creator<ConfigVendorModelAppList>() {
         @Override
         public ConfigVendorModelAppList createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigVendorModelAppList(message);
         }
 
@@ -115,8 +114,7 @@ public class ConfigVendorModelAppList extends ConfigStatusMessage implements Par
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
@@ -50,8 +50,7 @@ public class ConfigVendorModelSubscriptionList extends ConfigStatusMessage imple
     private static final Creator<ConfigVendorModelSubscriptionList> CREATOR = new Creator<ConfigVendorModelSubscriptionList>() {
         @Override
         public ConfigVendorModelSubscriptionList createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new ConfigVendorModelSubscriptionList(message);
         }
 
@@ -141,7 +140,6 @@ public class ConfigVendorModelSubscriptionList extends ConfigStatusMessage imple
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
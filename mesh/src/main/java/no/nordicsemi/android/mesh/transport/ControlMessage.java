@@ -25,12 +25,14 @@ package no.nordicsemi.android.mesh.transport;
 import android.os.Parcel;
 import android.util.SparseArray;
 
+import no.nordicsemi.android.mesh.utils.ByteArrayMap;
+
 import no.nordicsemi.android.mesh.control.TransportControlMessage;
 
 @SuppressWarnings("WeakerAccess")
 public final class ControlMessage extends Message {
 
-    protected SparseArray<byte[]> lowerTransportControlPdu = new SparseArray<>();
+    protected ByteArrayMap lowerTransportControlPdu = new ByteArrayMap();
     private byte[] transportControlPdu;
     private TransportControlMessage transportControlMessage;
 
@@ -52,7 +54,7 @@ public final class ControlMessage extends Message {
 
     public ControlMessage(final Parcel source) {
         super(source);
-        lowerTransportControlPdu = readSparseArrayToParcelable(source);
+        lowerTransportControlPdu = readByteArrayMapFromParcel(source);
         transportControlPdu = source.createByteArray();
         transportControlMessage = (TransportControlMessage) source.readValue(TransportControlMessage.class.getClassLoader());
     }
@@ -70,14 +72,34 @@ public final class ControlMessage extends Message {
         this.transportControlPdu = transportControlPdu;
     }
 
-    public SparseArray<byte[]> getLowerTransportControlPdu() {
+    public ByteArrayMap getLowerTransportControlPduMap() {
         return lowerTransportControlPdu;
     }
 
-    public void setLowerTransportControlPdu(final SparseArray<byte[]> segmentedAccessMessages) {
+    public void setLowerTransportControlPdu(final ByteArrayMap segmentedAccessMessages) {
         this.lowerTransportControlPdu = segmentedAccessMessages;
     }
 
+    /**
+     * Returns a copy of the lower transport control pdus.
+     *
+     * @deprecated Use {@link #getLowerTransportControlPduMap()} instead.
+     */
+    @Deprecated
+    public SparseArray<byte[]> getLowerTransportControlPdu() {
+        return toSparseArray(lowerTransportControlPdu);
+    }
+
+    /**
+     * Sets the lower transport control pdus.
+     *
+     * @deprecated Use {@link #setLowerTransportControlPdu(ByteArrayMap)} instead.
+     */
+    @Deprecated
+    public void setLowerTransportControlPdu(final SparseArray<byte[]> segmentedAccessMessages) {
+        this.lowerTransportControlPdu = toByteArrayMap(segmentedAccessMessages);
+    }
+
     public TransportControlMessage getTransportControlMessage() {
         return transportControlMessage;
     }
@@ -94,7 +116,7 @@ public final class ControlMessage extends Message {
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
         super.writeToParcel(dest, flags);
-        writeSparseArrayToParcelable(dest, lowerTransportControlPdu);
+        writeByteArrayMapToParcel(dest, lowerTransportControlPdu);
         dest.writeByteArray(transportControlPdu);
         dest.writeValue(transportControlMessage);
     }
@@ -16,6 +16,7 @@ import no.nordicsemi.android.mesh.NetworkKey;
 import no.nordicsemi.android.mesh.control.BlockAcknowledgementMessage;
 import no.nordicsemi.android.mesh.control.TransportControlMessage;
 import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.metrics.MeshMetrics;
 import no.nordicsemi.android.mesh.models.ConfigurationServerModel;
 import no.nordicsemi.android.mesh.models.SceneServer;
 import no.nordicsemi.android.mesh.opcodes.ApplicationMessageOpCodes;
@@ -37,6 +38,9 @@ import static no.nordicsemi.android.mesh.utils.MeshAddress.isValidUnassignedAddr
 class DefaultNoOperationMessageState extends MeshMessageState {
 
     private static final String TAG = DefaultNoOperationMessageState.class.getSimpleName();
+    private static final long RESPONSE_TIMEOUT = 30 * 1000;
+
+    private long mRequestTimestamp;
 
     /**
      * Constructs the DefaultNoOperationMessageState
@@ -60,16 +64,20 @@ class DefaultNoOperationMessageState extends MeshMessageState {
         return null;
     }
 
+    /**
+     * Sets the time in nanoseconds the message of this state was sent, or 0 if no response is awaited.
+     */
+    void setRequestTimestamp(final long timestamp) {
+        mRequestTimestamp = timestamp;
+    }
+
     void parseMeshPdu(@NonNull final NetworkKey key,
                       @NonNull final ProvisionedMeshNode node,
                       @NonNull final byte[] pdu,
-                      @NonNull final byte[] networkHeader,
-                      @NonNull final byte[] decryptedNetworkPayload,
-                      final int ivIndex,
-                      @NonNull final byte[] sequenceNumber) {
+                      @NonNull final NetworkPduReader decryptedPdu) {
         final Message message;
         try {
-            message = mMeshTransport.parseMeshMessage(key, node, pdu, networkHeader, decryptedNetworkPayload, ivIndex, sequenceNumber);
+            message = mMeshTransport.parseMeshMessage(key, node, pdu, decryptedPdu);
             if (message != null) {
                 if (message instanceof AccessMessage) {
                     parseAccessMessage((AccessMessage) message);
@@ -80,6 +88,7 @@ class DefaultNoOperationMessageState extends MeshMessageState {
                 MeshLogger.verbose(TAG, "Message reassembly may not be completed yet!");
             }
         } catch (ExtendedInvalidCipherTextException e) {
+            MeshMetrics.UPPER_TRANSPORT_DROPPED_DECRYPTION_FAILED.increment();
             MeshLogger.error(TAG, "Decryption failed in " + e.getTag() + " : " + e.getMessage());
             mMeshStatusCallbacks.onMessageDecryptionFailed(e.getTag(), e.getMessage());
         }
@@ -91,6 +100,14 @@ class DefaultNoOperationMessageState extends MeshMessageState {
      * @param message access message received by the access layer
      */
     private void parseAccessMessage(final AccessMessage message) {
+        MeshMetrics.ACCESS_MESSAGES_RECEIVED.increment();
+        if (mRequestTimestamp != 0) {
+            final long latency = (System.nanoTime() - mRequestTimestamp) / 1000000;
+            if (latency < RESPONSE_TIMEOUT) {
+                MeshMetrics.ACCESS_RESPONSE_LATENCY.record(latency);
+            }
+            mRequestTimestamp = 0;
+        }
         final ProvisionedMeshNode node = mInternalTransportCallbacks.getNode(message.getSrc());
         final int opCodeLength = MeshParserUtils.getOpCodeLength(message.getAccessPdu()[0] & 0xFF);
         //OpCode length
@@ -537,7 +554,7 @@ class DefaultNoOperationMessageState extends MeshMessageState {
      */
     private void parseControlMessage(final ControlMessage controlMessage) {
         //Get the segment count count of the access message
-        final int segmentCount = message.getNetworkLayerPdu().size();
+        final int segmentCount = message.getNetworkLayerPduMap().size();
         if (controlMessage.getPduType() == MeshManagerApi.PDU_TYPE_NETWORK) {
             final TransportControlMessage transportControlMessage = controlMessage.getTransportControlMessage();
             if (transportControlMessage.getState() == TransportControlMessage.TransportControlMessageState.LOWER_TRANSPORT_BLOCK_ACKNOWLEDGEMENT) {
@@ -600,21 +617,11 @@ class DefaultNoOperationMessageState extends MeshMessageState {
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
     private boolean isReceivedViaProxyFilter(@NonNull final Message message) {
         final ProxyFilter filter = mInternalTransportCallbacks.getProxyFilter();
-        if (filter != null && !filter.getAddresses().isEmpty()) {
+        if (filter != null && filter.getAddressCount() > 0) {
             if (filter.getFilterType().getType() == ProxyFilterType.INCLUSION_LIST_FILTER) {
-                return filterAddressMatches(filter, message.getDst());
+                return filter.contains(message.getDst());
             } else {
-                return !filterAddressMatches(filter, message.getDst());
-            }
-        }
-        return false;
-    }
-
-    private boolean filterAddressMatches(@NonNull final ProxyFilter filter, final int dst) {
-        for (AddressArray addressArray : filter.getAddresses()) {
-            final int address = MeshParserUtils.unsignedBytesToInt(addressArray.getAddress()[1], addressArray.getAddress()[0]);
-            if (address == dst) {
-                return true;
+                return !filter.contains(message.getDst());
             }
         }
         return false;
@@ -635,11 +642,7 @@ class DefaultNoOperationMessageState extends MeshMessageState {
     }
 
     private MeshModel getMeshModel(final ProvisionedMeshNode node, final int src, final int modelId) {
-        final Element element = node.getElements().get(src);
-        if (element != null) {
-            return element.getMeshModels().get(modelId);
-        }
-        return null;
+        return node.getMeshModel(src, modelId);
     }
 
     private void storeScene(final ProvisionedMeshNode node, final SceneRegisterStatus status) {
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import no.nordicsemi.android.mesh.Features;
+import no.nordicsemi.android.mesh.models.ConfigurationServerModel;
+import no.nordicsemi.android.mesh.models.SigModelParser;
+import no.nordicsemi.android.mesh.models.VendorModel;
+import no.nordicsemi.android.mesh.utils.BlobReader;
+import no.nordicsemi.android.mesh.utils.BlobWriter;
+import no.nordicsemi.android.mesh.utils.HeartbeatPublication;
+import no.nordicsemi.android.mesh.utils.HeartbeatSubscription;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+
+/**
+ * Converts the elements of a node to and from the compact binary format stored in the database.
+ * <p>
+ * Version 1 of the format is laid out as follows, where all integers are variable length integers:
+ * version, element count, the addresses of all elements and for each element the location descriptor, name and model
+ * count. Each model is stored as the model id, bound key indexes, subscription addresses, label UUIDs, scene numbers,
+ * a flags byte and the optional publication settings and heartbeat publication/subscription.
+ * </p>
+ * <p>
+ * Keeping the element addresses in the header allows {@link LazyElementMap} to answer address lookups without
+ * decoding the models.
+ * </p>
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public final class ElementBlobConverter {
+
+    static final int VERSION = 1;
+    private static final int MAX_ELEMENTS = 0x7FFF;
+
+    private static final int FLAG_PUBLICATION = 1;
+    private static final int FLAG_PUBLICATION_LABEL_UUID = 1 << 1;
+    private static final int FLAG_PUBLICATION_CREDENTIALS = 1 << 2;
+    private static final int FLAG_HEARTBEAT_PUBLICATION = 1 << 3;
+    private static final int FLAG_HEARTBEAT_SUBSCRIPTION = 1 << 4;
+
+    private ElementBlobConverter() {
+    }
+
+    /**
+     * Encodes the elements of a node.
+     *
+     * @param elements Elements of the node
+     * @return encoded elements or null if elements is null
+     */
+    @Nullable
+    public static byte[] toBlob(@Nullable final Map<Integer, Element> elements) {
+        if (elements == null)
+            return null;
+
+        if (elements instanceof ElementMapView)
+            return toBlob(((ElementMapView) elements).getElements());
+
+        if (elements instanceof LazyElementMap)
+            return ((LazyElementMap) elements).toBlob();
+
+        return encode(elements);
+    }
+
+    /**
+     * Encodes the given elements, which must not be a {@link LazyElementMap}.
+     */
+    @NonNull
+    static byte[] encode(@NonNull final Map<Integer, Element> elements) {
+        final BlobWriter writer = new BlobWriter(32 + elements.size() * 64);
+        writer.writeVarInt(VERSION);
+        writer.writeVarInt(elements.size());
+        for (Integer address : elements.keySet()) {
+            writer.writeVarInt(address);
+        }
+        for (Element element : elements.values()) {
+            writer.writeVarInt(element.locationDescriptor);
+            writer.writeString(element.name);
+            writer.writeVarInt(element.meshModels.size());
+            for (MeshModel model : element.meshModels.values()) {
+                writeModel(writer, model);
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes the elements of a node.
+     *
+     * @param blob Encoded elements
+     * @return elements or null if blob is null
+     * @throws IllegalArgumentException if the data is malformed or of an unsupported version
+     */
+    @Nullable
+    public static Map<Integer, Element> fromBlob(@Nullable final byte[] blob) {
+        if (blob == null)
+            return null;
+
+        final BlobReader reader = new BlobReader(blob);
+        final int[] addresses = readHeader(reader);
+        final Map<Integer, Element> elements = new LinkedHashMap<>();
+        for (int address : addresses) {
+            final int locationDescriptor = reader.readVarInt();
+            final String name = reader.readString();
+            final int modelCount = reader.readVarInt();
+            final Map<Integer, MeshModel> models = new LinkedHashMap<>();
+            for (int j = 0; j < modelCount; j++) {
+                final MeshModel model = readModel(reader);
+                models.put(model.getModelId(), model);
+            }
+            elements.put(address, name == null ?
+                    new Element(address, locationDescriptor, models) :
+                    new Element(address, locationDescriptor, models, name));
+        }
+        return elements;
+    }
+
+    /**
+     * Reads the element addresses from the header of the encoded elements without decoding the elements themselves.
+     *
+     * @param blob Encoded elements
+     * @return element addresses in the order they were written
+     * @throws IllegalArgumentException if the data is malformed or of an unsupported version
+     */
+    @NonNull
+    static int[] readAddresses(@NonNull final byte[] blob) {
+        return readHeader(new BlobReader(blob));
+    }
+
+    private static int[] readHeader(@NonNull final BlobReader reader) {
+        final int version = reader.readVarInt();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported element format version: " + version);
+
+        final int elementCount = reader.readVarInt();
+        if (elementCount < 0 || elementCount > MAX_ELEMENTS)
+            throw new IllegalArgumentException("Invalid element count: " + elementCount);
+        final int[] addresses = new int[elementCount];
+        for (int i = 0; i < elementCount; i++) {
+            addresses[i] = reader.readVarInt();
+        }
+        return addresses;
+    }
+
+    private static void writeModel(@NonNull final BlobWriter writer, @NonNull final MeshModel model) {
+        writer.writeVarInt(model.getModelId());
+        writer.writeVarInt(model.mBoundAppKeyIndexes.size());
+        for (Integer index : model.mBoundAppKeyIndexes) {
+            writer.writeVarInt(index);
+        }
+        writer.writeVarInt(model.subscriptionAddresses.size());
+        for (Integer address : model.subscriptionAddresses) {
+            writer.writeVarInt(address);
+        }
+        writer.writeVarInt(model.labelUuids.size());
+        for (UUID uuid : model.labelUuids) {
+            writer.writeUuid(uuid);
+        }
+        writer.writeVarInt(model.sceneNumbers.size());
+        for (Integer number : model.sceneNumbers) {
+            writer.writeVarInt(number);
+        }
+
+        final PublicationSettings publication = model.mPublicationSettings;
+        HeartbeatPublication heartbeatPublication = null;
+        HeartbeatSubscription heartbeatSubscription = null;
+        if (model instanceof ConfigurationServerModel) {
+            heartbeatPublication = ((ConfigurationServerModel) model).getHeartbeatPublication();
+            heartbeatSubscription = ((ConfigurationServerModel) model).getHeartbeatSubscription();
+        }
+
+        int flags = 0;
+        if (publication != null) {
+            flags |= FLAG_PUBLICATION;
+            if (publication.getLabelUUID() != null)
+                flags |= FLAG_PUBLICATION_LABEL_UUID;
+            if (publication.getCredentialFlag())
+                flags |= FLAG_PUBLICATION_CREDENTIALS;
+        }
+        if (heartbeatPublication != null)
+            flags |= FLAG_HEARTBEAT_PUBLICATION;
+        if (heartbeatSubscription != null)
+            flags |= FLAG_HEARTBEAT_SUBSCRIPTION;
+        writer.writeByte(flags);
+
+        if (publication != null) {
+            writer.writeVarInt(publication.getPublishAddress());
+            if (publication.getLabelUUID() != null)
+                writer.writeUuid(publication.getLabelUUID());
+            writer.writeVarInt(publication.getAppKeyIndex());
+            writer.writeVarInt(publication.getPublishTtl());
+            writer.writeVarInt(publication.getPublicationSteps());
+            writer.writeVarInt(publication.getPublicationResolution());
+            writer.writeVarInt(publication.getPublishRetransmitCount());
+            writer.writeVarInt(publication.getPublishRetransmitIntervalSteps());
+        }
+        if (heartbeatPublication != null) {
+            writer.writeVarInt(heartbeatPublication.getDst());
+            writer.writeByte(heartbeatPublication.getCountLog());
+            writer.writeByte(heartbeatPublication.getPeriodLog());
+            writer.writeVarInt(heartbeatPublication.getTtl());
+            final Features features = heartbeatPublication.getFeatures();
+            writer.writeByte(features.getFriend());
+            writer.writeByte(features.getLowPower());
+            writer.writeByte(features.getProxy());
+            writer.writeByte(features.getRelay());
+            writer.writeVarInt(heartbeatPublication.getNetKeyIndex());
+        }
+        if (heartbeatSubscription != null) {
+            writer.writeVarInt(heartbeatSubscription.getSrc());
+            writer.writeVarInt(heartbeatSubscription.getDst());
+            writer.writeByte(heartbeatSubscription.getPeriodLog());
+            writer.writeByte(heartbeatSubscription.getCountLog());
+            writer.writeVarInt(heartbeatSubscription.getMinHops());
+            writer.writeVarInt(heartbeatSubscription.getMaxHops());
+        }
+    }
+
+    private static MeshModel readModel(@NonNull final BlobReader reader) {
+        final int modelId = reader.readVarInt();
+        final MeshModel model = MeshParserUtils.isVendorModel(modelId) ?
+                new VendorModel(modelId) : SigModelParser.getSigModel(modelId);
+
+        final int keyCount = reader.readVarInt();
+        for (int i = 0; i < keyCount; i++) {
+            model.mBoundAppKeyIndexes.add(reader.readVarInt());
+        }
+        final int subscriptionCount = reader.readVarInt();
+        for (int i = 0; i < subscriptionCount; i++) {
+            model.subscriptionAddresses.add(reader.readVarInt());
+        }
+        final int labelCount = reader.readVarInt();
+        for (int i = 0; i < labelCount; i++) {
+            model.labelUuids.add(reader.readUuid());
+        }
+        final int sceneCount = reader.readVarInt();
+        for (int i = 0; i < sceneCount; i++) {
+            model.sceneNumbers.add(reader.readVarInt());
+        }
+
+        final int flags = reader.readByte();
+        if ((flags & FLAG_PUBLICATION) != 0) {
+            final int publishAddress = reader.readVarInt();
+            final UUID labelUuid = (flags & FLAG_PUBLICATION_LABEL_UUID) != 0 ? reader.readUuid() : null;
+            final int appKeyIndex = reader.readVarInt();
+            final int publishTtl = reader.readVarInt();
+            final int publicationSteps = reader.readVarInt();
+            final int publicationResolution = reader.readVarInt();
+            final int retransmitCount = reader.readVarInt();
+            final int retransmitIntervalSteps = reader.readVarInt();
+            model.mPublicationSettings = new PublicationSettings(publishAddress, labelUuid, appKeyIndex,
+                    (flags & FLAG_PUBLICATION_CREDENTIALS) != 0, publishTtl, publicationSteps,
+                    publicationResolution, retransmitCount, retransmitIntervalSteps);
+        }
+        if ((flags & FLAG_HEARTBEAT_PUBLICATION) != 0) {
+            final int dst = reader.readVarInt();
+            final byte countLog = (byte) reader.readByte();
+            final byte periodLog = (byte) reader.readByte();
+            final int ttl = reader.readVarInt();
+            final Features features = new Features(reader.readByte(), reader.readByte(), reader.readByte(), reader.readByte());
+            final int netKeyIndex = reader.readVarInt();
+            if (model instanceof ConfigurationServerModel) {
+                ((ConfigurationServerModel) model).setHeartbeatPublication(
+                        new HeartbeatPublication(dst, countLog, periodLog, ttl, features, netKeyIndex));
+            }
+        }
+        if ((flags & FLAG_HEARTBEAT_SUBSCRIPTION) != 0) {
+            final int src = reader.readVarInt();
+            final int dst = reader.readVarInt();
+            final byte periodLog = (byte) reader.readByte();
+            final byte countLog = (byte) reader.readByte();
+            final int minHops = reader.readVarInt();
+            final int maxHops = reader.readVarInt();
+            if (model instanceof ConfigurationServerModel) {
+                ((ConfigurationServerModel) model).setHeartbeatSubscription(
+                        new HeartbeatSubscription(src, dst, periodLog, countLog, minHops, maxHops));
+            }
+        }
+        return model;
+    }
+}
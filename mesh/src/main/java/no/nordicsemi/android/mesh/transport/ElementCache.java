@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Keeps the elements of the most recently used nodes of a network loaded without their elements.
+ * <p>
+ * The elements of such a node are fetched through the {@link Loader} on first access and decoded, after which the node
+ * is added to the cache. When more nodes than the size of the cache have been accessed, the elements of the least
+ * recently used node are released, see {@link LazyElementMap}. Elements and models obtained from a released node are
+ * no longer part of the node, so they should not be kept across accesses to other nodes.
+ * </p>
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public final class ElementCache {
+
+    /**
+     * Fetches the encoded elements of a node.
+     */
+    public interface Loader {
+
+        /**
+         * Returns the encoded elements of the node with the given UUID or null if the node is not stored.
+         *
+         * @param uuid UUID of the node
+         */
+        @Nullable
+        byte[] load(@NonNull final String uuid);
+    }
+
+    private final Loader loader;
+    private final Map<String, LazyElementMap> elements;
+
+    /**
+     * Constructs the cache
+     *
+     * @param maxSize Number of nodes to keep the elements of
+     * @param loader  Loader fetching the encoded elements of a node
+     */
+    public ElementCache(final int maxSize, @NonNull final Loader loader) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("Cache size must be positive");
+        this.loader = loader;
+        this.elements = new LinkedHashMap<String, LazyElementMap>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, LazyElementMap> eldest) {
+                if (size() > maxSize) {
+                    eldest.getValue().release();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Nullable
+    byte[] load(@NonNull final String uuid) {
+        return loader.load(uuid);
+    }
+
+    /**
+     * Marks the elements of a node as most recently used, releasing the elements of the least recently used node if
+     * the cache is full. Must not be called while holding the lock of an element map.
+     */
+    synchronized void touch(@NonNull final String uuid, @NonNull final LazyElementMap map) {
+        elements.put(uuid, map);
+    }
+
+    /**
+     * Returns the number of nodes whose elements are kept.
+     */
+    synchronized int size() {
+        return elements.size();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+
+/**
+ * View of the elements of a node.
+ * <p>
+ * The view reads the current elements of the node, so that it remains valid when they are replaced, and does not
+ * decode a {@link LazyElementMap} for address lookups. Changes made through the view are written to the elements of
+ * the node and invalidate its model index, as when the element map itself was returned.
+ * </p>
+ */
+final class ElementMapView extends AbstractMap<Integer, Element> {
+
+    private final ProvisionedMeshNode node;
+    private final Set<Entry<Integer, Element>> entrySet = new EntrySet();
+
+    ElementMapView(@NonNull final ProvisionedMeshNode node) {
+        this.node = node;
+    }
+
+    /**
+     * Returns the elements of the node this is a view of.
+     */
+    Map<Integer, Element> getElements() {
+        return node.mElements;
+    }
+
+    @Override
+    public int size() {
+        return node.mElements.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return node.mElements.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return node.mElements.containsKey(key);
+    }
+
+    @Override
+    public Element get(final Object key) {
+        return node.mElements.get(key);
+    }
+
+    @Override
+    public Element put(final Integer key, final Element value) {
+        final Element previous = node.mElements.put(key, value);
+        node.invalidateModelIndex();
+        return previous;
+    }
+
+    @Override
+    public Element remove(final Object key) {
+        final Element previous = node.mElements.remove(key);
+        node.invalidateModelIndex();
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        node.mElements.clear();
+        node.invalidateModelIndex();
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<Integer, Element>> entrySet() {
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Integer, Element>> {
+
+        @Override
+        public int size() {
+            return node.mElements.size();
+        }
+
+        @NonNull
+        @Override
+        public Iterator<Entry<Integer, Element>> iterator() {
+            final Iterator<Entry<Integer, Element>> iterator = node.mElements.entrySet().iterator();
+            return new Iterator<Entry<Integer, Element>>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<Integer, Element> next() {
+                    final Entry<Integer, Element> entry = iterator.next();
+                    return new SimpleEntry<Integer, Element>(entry) {
+                        @Override
+                        public Element setValue(final Element value) {
+                            super.setValue(value);
+                            final Element previous = entry.setValue(value);
+                            node.invalidateModelIndex();
+                            return previous;
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    node.invalidateModelIndex();
+                }
+            };
+        }
+    }
+}
@@ -27,7 +27,6 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -56,6 +55,7 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
      * @return battery level
      */
     public int getBatteryLevel() {
+        ensureParsed();
         return mBatteryLevel;
     }
 
@@ -65,6 +65,7 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
      * @return time to discharge
      */
     public int getTimeToDischarge() {
+        ensureParsed();
         return mTimeToDischarge;
     }
 
@@ -74,6 +75,7 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
      * @return time to charge
      */
     public int getTimeToCharge() {
+        ensureParsed();
         return mTimeToCharge;
     }
 
@@ -84,6 +86,7 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
      * @return battery flags
      */
     public int getFlags() {
+        ensureParsed();
         return mFlags;
     }
 
@@ -93,6 +96,7 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
      * @return BatteryPresence
      */
     public BatteryPresence getBatteryPresence() {
+        ensureParsed();
         return BatteryPresence.getBatteryPresence(mFlags & 0x03);
     }
 
@@ -102,6 +106,7 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
      * @return BatteryIndicator
      */
     public BatteryIndicator getBatteryIndicator() {
+        ensureParsed();
         return BatteryIndicator.getBatteryIndicator((mFlags >> 2) & 0x03);
     }
 
@@ -111,6 +116,7 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
      * @return BatteryChargingState
      */
     public BatteryChargingState getBatteryChargingState() {
+        ensureParsed();
         return BatteryChargingState.getBatteryChargingState((mFlags >> 4) & 0x03);
     }
 
@@ -120,6 +126,7 @@ public class GenericBatteryStatus extends ApplicationStatusMessage {
      * @return BatteryServiceability
      */
     public BatteryServiceability batteryServiceability() {
+        ensureParsed();
         return BatteryServiceability.getBatteryServiceability((mFlags >> 6) & 0x03);
     }
 
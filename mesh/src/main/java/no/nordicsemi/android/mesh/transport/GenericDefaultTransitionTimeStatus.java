@@ -25,8 +25,7 @@ public class GenericDefaultTransitionTimeStatus extends ApplicationStatusMessage
     private static final Creator<GenericDefaultTransitionTimeStatus> CREATOR = new Creator<GenericDefaultTransitionTimeStatus>() {
         @Override
         public GenericDefaultTransitionTimeStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new GenericDefaultTransitionTimeStatus(message);
         }
 
@@ -44,7 +43,6 @@ public class GenericDefaultTransitionTimeStatus extends ApplicationStatusMessage
     public GenericDefaultTransitionTimeStatus(@NonNull AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -54,8 +52,7 @@ public class GenericDefaultTransitionTimeStatus extends ApplicationStatusMessage
 
     @Override
     public void writeToParcel(Parcel parcel, int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        parcel.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(parcel);
     }
 
     @Override
@@ -78,6 +75,7 @@ public class GenericDefaultTransitionTimeStatus extends ApplicationStatusMessage
     }
 
     public GenericTransitionTime getGenericTransitionTime() {
+        ensureParsed();
         return genericTransitionTime;
     }
 }
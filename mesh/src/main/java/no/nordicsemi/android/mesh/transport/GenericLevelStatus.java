@@ -51,7 +51,7 @@ public final class GenericLevelStatus extends ApplicationStatusMessage implement
     private static final Creator<GenericLevelStatus> CREATOR = new Creator<GenericLevelStatus>() {
         @Override
         public GenericLevelStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new GenericLevelStatus(message);
         }
 
@@ -69,7 +69,6 @@ public final class GenericLevelStatus extends ApplicationStatusMessage implement
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -101,6 +100,7 @@ public final class GenericLevelStatus extends ApplicationStatusMessage implement
      * @return present level
      */
     public final int getPresentLevel() {
+        ensureParsed();
         return mPresentLevel;
     }
 
@@ -110,6 +110,7 @@ public final class GenericLevelStatus extends ApplicationStatusMessage implement
      * @return target level
      */
     public final Integer getTargetLevel() {
+        ensureParsed();
         return mTargetLevel;
     }
 
@@ -119,6 +120,7 @@ public final class GenericLevelStatus extends ApplicationStatusMessage implement
      * @return transition steps
      */
     public int getTransitionSteps() {
+        ensureParsed();
         return mTransitionSteps;
     }
 
@@ -128,6 +130,7 @@ public final class GenericLevelStatus extends ApplicationStatusMessage implement
      * @return transition resolution
      */
     public int getTransitionResolution() {
+        ensureParsed();
         return mTransitionResolution;
     }
 
@@ -138,7 +141,6 @@ public final class GenericLevelStatus extends ApplicationStatusMessage implement
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -30,7 +30,7 @@ public final class GenericLocationGlobalStatus extends ApplicationStatusMessage
     private static final Parcelable.Creator<GenericLocationGlobalStatus> CREATOR = new Parcelable.Creator<GenericLocationGlobalStatus>() {
         @Override
         public GenericLocationGlobalStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new GenericLocationGlobalStatus(message);
         }
 
@@ -48,7 +48,6 @@ public final class GenericLocationGlobalStatus extends ApplicationStatusMessage
     public GenericLocationGlobalStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -58,8 +57,7 @@ public final class GenericLocationGlobalStatus extends ApplicationStatusMessage
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     @Override
@@ -88,6 +86,7 @@ public final class GenericLocationGlobalStatus extends ApplicationStatusMessage
      */
     @NonNull
     public GlobalLatitude getLatitude() {
+        ensureParsed();
         return latitude;
     }
 
@@ -98,6 +97,7 @@ public final class GenericLocationGlobalStatus extends ApplicationStatusMessage
      */
     @NonNull
     public GlobalLongitude getLongitude() {
+        ensureParsed();
         return longitude;
     }
 
@@ -108,6 +108,7 @@ public final class GenericLocationGlobalStatus extends ApplicationStatusMessage
      */
     @NonNull
     public GlobalAltitude getAltitude() {
+        ensureParsed();
         return altitude;
     }
 }
@@ -52,7 +52,7 @@ public final class GenericOnOffStatus extends ApplicationStatusMessage implement
     private static final Creator<GenericOnOffStatus> CREATOR = new Creator<GenericOnOffStatus>() {
         @Override
         public GenericOnOffStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new GenericOnOffStatus(message);
         }
 
@@ -70,7 +70,6 @@ public final class GenericOnOffStatus extends ApplicationStatusMessage implement
     public GenericOnOffStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -103,6 +102,7 @@ public final class GenericOnOffStatus extends ApplicationStatusMessage implement
      * @return true if on and false other wise
      */
     public final boolean getPresentState() {
+        ensureParsed();
         return mPresentOn;
     }
 
@@ -112,6 +112,7 @@ public final class GenericOnOffStatus extends ApplicationStatusMessage implement
      * @return true if on and false other wise
      */
     public final Boolean getTargetState() {
+        ensureParsed();
         return mTargetOn;
     }
 
@@ -121,6 +122,7 @@ public final class GenericOnOffStatus extends ApplicationStatusMessage implement
      * @return transition steps
      */
     public int getTransitionSteps() {
+        ensureParsed();
         return mTransitionSteps;
     }
 
@@ -130,6 +132,7 @@ public final class GenericOnOffStatus extends ApplicationStatusMessage implement
      * @return transition resolution
      */
     public int getTransitionResolution() {
+        ensureParsed();
         return mTransitionResolution;
     }
 
@@ -140,7 +143,6 @@ public final class GenericOnOffStatus extends ApplicationStatusMessage implement
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -25,8 +25,7 @@ public class GenericOnPowerUpStatus extends ApplicationStatusMessage implements
     private static final Creator<GenericOnPowerUpStatus> CREATOR = new Creator<GenericOnPowerUpStatus>() {
         @Override
         public GenericOnPowerUpStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new GenericOnPowerUpStatus(message);
         }
 
@@ -44,7 +43,6 @@ public class GenericOnPowerUpStatus extends ApplicationStatusMessage implements
     public GenericOnPowerUpStatus(@NonNull AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -54,8 +52,7 @@ public class GenericOnPowerUpStatus extends ApplicationStatusMessage implements
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     @Override
@@ -79,6 +76,7 @@ public class GenericOnPowerUpStatus extends ApplicationStatusMessage implements
     }
 
     public OnPowerUpState getOnPowerUpState() {
+        ensureParsed();
         return onPowerUpState;
     }
 }
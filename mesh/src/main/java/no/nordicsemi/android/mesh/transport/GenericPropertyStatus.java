@@ -18,8 +18,7 @@ public class GenericPropertyStatus extends ApplicationStatusMessage  implements
     private static final Creator<GenericPropertyStatus> CREATOR = new Creator<GenericPropertyStatus>() {
         @Override
         public GenericPropertyStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new GenericPropertyStatus(message);
         }
 
@@ -34,7 +33,6 @@ public class GenericPropertyStatus extends ApplicationStatusMessage  implements
         this.opCode = message.getOpCode();
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -60,19 +58,21 @@ public class GenericPropertyStatus extends ApplicationStatusMessage  implements
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     public short getPropertyId() {
+        ensureParsed();
         return propertyId;
     }
 
     public byte getUserAccess() {
+        ensureParsed();
         return userAccess;
     }
 
     public byte[] getPropertyValue() {
+        ensureParsed();
         return propertyValue;
     }
 }
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Element map of a node loaded from the database that decodes its elements and models on first access.
+ * <p>
+ * Only the element addresses are read when the node is loaded, which is enough for the address lookups performed
+ * when resolving nodes by unicast address. Any other access decodes the elements once, after which the map behaves
+ * like a regular {@link LinkedHashMap}. Until then the encoded data is written back to the database unchanged.
+ * </p>
+ * <p>
+ * A node loaded without its elements holds a stub instead, which only knows the element addresses from the unicast
+ * address and element count of the node. The encoded elements are fetched through an {@link ElementCache} on first
+ * access, and the cache releases the decoded elements of the least recently used nodes. A released map becomes a stub
+ * again if its elements still equal the data fetched from the database, otherwise it keeps them encoded until they are
+ * accessed again. Each release increments the generation of the map, so that indexes of the models can be rebuilt.
+ * </p>
+ * <p>
+ * The map is read by the database executor when the node is saved while it may be decoded on another thread, so the
+ * state of the map is guarded by its lock and {@link #toBlob()} takes a consistent snapshot of either form. The
+ * elements of a stub are fetched and the cache is updated without holding the lock.
+ * </p>
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public final class LazyElementMap extends AbstractMap<Integer, Element> {
+
+    private final String uuid;
+    private final ElementCache cache;
+    private byte[] blob;
+    private int[] addresses;
+    private Map<Integer, Element> elements;
+    // Encoded elements as stored in the database, known only while the elements have not been written since fetched
+    private byte[] stored;
+    private int generation;
+
+    /**
+     * Constructs the element map
+     *
+     * @param blob Elements encoded by {@link ElementBlobConverter}
+     * @throws IllegalArgumentException if the data is malformed or of an unsupported version
+     */
+    public LazyElementMap(@NonNull final byte[] blob) {
+        this.uuid = null;
+        this.cache = null;
+        this.addresses = ElementBlobConverter.readAddresses(blob);
+        this.blob = blob;
+    }
+
+    /**
+     * Constructs a stub of the elements of a node loaded without its elements.
+     *
+     * @param uuid           UUID of the node
+     * @param unicastAddress Unicast address of the node, the address of its primary element
+     * @param elementCount   Number of elements of the node
+     * @param cache          Cache through which the elements are fetched
+     */
+    LazyElementMap(@NonNull final String uuid, final int unicastAddress, final int elementCount,
+                   @NonNull final ElementCache cache) {
+        this.uuid = uuid;
+        this.cache = cache;
+        this.addresses = new int[elementCount];
+        for (int i = 0; i < elementCount; i++) {
+            addresses[i] = unicastAddress + i;
+        }
+    }
+
+    /**
+     * Returns true if the elements have been decoded.
+     */
+    synchronized boolean isDecoded() {
+        return elements != null;
+    }
+
+    /**
+     * Returns true if the elements have been neither fetched nor decoded.
+     */
+    synchronized boolean isStub() {
+        return elements == null && blob == null;
+    }
+
+    /**
+     * Returns the generation of the map, incremented each time the decoded elements are released.
+     */
+    synchronized int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the encoded elements, the data the map was loaded from if the elements have not been decoded. The
+     * elements of a stub are fetched from the database without being decoded.
+     */
+    @NonNull
+    synchronized byte[] toBlob() {
+        if (elements != null) {
+            final byte[] encoded = ElementBlobConverter.encode(elements);
+            // Once different elements have been written the data in the database is no longer known
+            if (stored != null && !Arrays.equals(encoded, stored)) {
+                stored = null;
+            }
+            return encoded;
+        }
+        if (blob != null)
+            return blob;
+        final byte[] fetched = cache.load(uuid);
+        return fetched == null ? ElementBlobConverter.encode(new LinkedHashMap<>()) : fetched;
+    }
+
+    /**
+     * Releases the decoded elements, turning the map back into a stub if the elements equal the data fetched from the
+     * database or keeping them encoded otherwise.
+     */
+    synchronized void release() {
+        if (elements == null)
+            return;
+        final byte[] encoded = ElementBlobConverter.encode(elements);
+        addresses = ElementBlobConverter.readAddresses(encoded);
+        blob = stored != null && Arrays.equals(encoded, stored) ? null : encoded;
+        elements = null;
+        stored = null;
+        generation++;
+    }
+
+    /**
+     * Fetches the elements of a stub without holding the lock, so that saving the node is not blocked by the fetch.
+     */
+    private void fetch() {
+        if (cache == null || !isStub())
+            return;
+        final byte[] fetched = cache.load(uuid);
+        synchronized (this) {
+            if (isStub()) {
+                setFetched(fetched);
+            }
+        }
+    }
+
+    private void setFetched(@Nullable final byte[] fetched) {
+        if (fetched == null) {
+            elements = new LinkedHashMap<>();
+        } else {
+            blob = fetched;
+            stored = fetched;
+        }
+    }
+
+    private void touch() {
+        if (cache != null) {
+            cache.touch(uuid, this);
+        }
+    }
+
+    private Map<Integer, Element> decode() {
+        if (elements == null) {
+            if (blob == null) {
+                // Released again after the elements were fetched
+                setFetched(cache.load(uuid));
+            }
+            if (elements == null) {
+                elements = ElementBlobConverter.fromBlob(blob);
+                blob = null;
+                addresses = null;
+            }
+        }
+        return elements;
+    }
+
+    @Override
+    public synchronized int size() {
+        return elements == null ? addresses.length : elements.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public synchronized boolean containsKey(final Object key) {
+        if (elements != null)
+            return elements.containsKey(key);
+        if (!(key instanceof Integer))
+            return false;
+        final int address = (Integer) key;
+        for (int elementAddress : addresses) {
+            if (elementAddress == address)
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Element get(final Object key) {
+        if (!containsKey(key))
+            return null;
+        fetch();
+        final Element element;
+        synchronized (this) {
+            element = decode().get(key);
+        }
+        touch();
+        return element;
+    }
+
+    @Override
+    public Element put(final Integer key, final Element value) {
+        fetch();
+        final Element previous;
+        synchronized (this) {
+            previous = decode().put(key, value);
+        }
+        touch();
+        return previous;
+    }
+
+    @Override
+    public Element remove(final Object key) {
+        fetch();
+        final Element previous;
+        synchronized (this) {
+            previous = decode().remove(key);
+        }
+        touch();
+        return previous;
+    }
+
+    @Override
+    public void putAll(@NonNull final Map<? extends Integer, ? extends Element> map) {
+        fetch();
+        synchronized (this) {
+            decode().putAll(map);
+        }
+        touch();
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this) {
+            if (elements == null) {
+                elements = new LinkedHashMap<>();
+                blob = null;
+                addresses = null;
+                stored = null;
+            } else {
+                elements.clear();
+            }
+        }
+        touch();
+    }
+
+    @NonNull
+    @Override
+    public Set<Integer> keySet() {
+        fetch();
+        final Set<Integer> keys;
+        synchronized (this) {
+            keys = decode().keySet();
+        }
+        touch();
+        return keys;
+    }
+
+    @NonNull
+    @Override
+    public Collection<Element> values() {
+        fetch();
+        final Collection<Element> values;
+        synchronized (this) {
+            values = decode().values();
+        }
+        touch();
+        return values;
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<Integer, Element>> entrySet() {
+        fetch();
+        final Set<Entry<Integer, Element>> entries;
+        synchronized (this) {
+            entries = decode().entrySet();
+        }
+        touch();
+        return entries;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        fetch();
+        final boolean equal;
+        synchronized (this) {
+            equal = decode().equals(o);
+        }
+        touch();
+        return equal;
+    }
+
+    @Override
+    public int hashCode() {
+        fetch();
+        final int hashCode;
+        synchronized (this) {
+            hashCode = decode().hashCode();
+        }
+        touch();
+        return hashCode;
+    }
+}
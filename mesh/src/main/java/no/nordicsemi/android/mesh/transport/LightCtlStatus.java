@@ -53,7 +53,7 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
     private static final Creator<LightCtlStatus> CREATOR = new Creator<LightCtlStatus>() {
         @Override
         public LightCtlStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new LightCtlStatus(message);
         }
 
@@ -72,7 +72,6 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -108,6 +107,7 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
      * @return present level
      */
     public final int getPresentLightness() {
+        ensureParsed();
         return mPresentCtlLightness;
     }
 
@@ -117,6 +117,7 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
      * @return target level
      */
     public final Integer getTargetLightness() {
+        ensureParsed();
         return mTargetCtlLightness;
     }
 
@@ -126,6 +127,7 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
      * @return present level
      */
     public final int getPresentTemperature() {
+        ensureParsed();
         return mPresentCtlTemperature;
     }
 
@@ -135,6 +137,7 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
      * @return target level
      */
     public final Integer getTargetTemperature() {
+        ensureParsed();
         return mTargetCtlTemperature;
     }
 
@@ -144,6 +147,7 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
      * @return transition steps
      */
     public int getTransitionSteps() {
+        ensureParsed();
         return mTransitionSteps;
     }
 
@@ -153,6 +157,7 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
      * @return transition resolution
      */
     public int getTransitionResolution() {
+        ensureParsed();
         return mTransitionResolution;
     }
 
@@ -163,7 +168,6 @@ public final class LightCtlStatus extends ApplicationStatusMessage implements Pa
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
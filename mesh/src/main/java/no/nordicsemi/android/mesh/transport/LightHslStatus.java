@@ -52,7 +52,7 @@ public final class LightHslStatus extends ApplicationStatusMessage implements Pa
     private static final Creator<LightHslStatus> CREATOR = new Creator<LightHslStatus>() {
         @Override
         public LightHslStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new LightHslStatus(message);
         }
 
@@ -70,7 +70,6 @@ public final class LightHslStatus extends ApplicationStatusMessage implements Pa
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -104,6 +103,7 @@ public final class LightHslStatus extends ApplicationStatusMessage implements Pa
      * @return present level
      */
     public final int getPresentLightness() {
+        ensureParsed();
         return mPresentHslLightness;
     }
 
@@ -113,6 +113,7 @@ public final class LightHslStatus extends ApplicationStatusMessage implements Pa
      * @return present level
      */
     public final int getPresentSaturation() {
+        ensureParsed();
         return mPresentHslSaturation;
     }
 
@@ -122,6 +123,7 @@ public final class LightHslStatus extends ApplicationStatusMessage implements Pa
      * @return present level
      */
     public final int getPresentHue() {
+        ensureParsed();
         return mPresentHslHue;
     }
 
@@ -132,6 +134,7 @@ public final class LightHslStatus extends ApplicationStatusMessage implements Pa
      * @return transition steps
      */
     public int getTransitionSteps() {
+        ensureParsed();
         return mTransitionSteps;
     }
 
@@ -141,6 +144,7 @@ public final class LightHslStatus extends ApplicationStatusMessage implements Pa
      * @return transition resolution
      */
     public int getTransitionResolution() {
+        ensureParsed();
         return mTransitionResolution;
     }
 
@@ -151,7 +155,6 @@ public final class LightHslStatus extends ApplicationStatusMessage implements Pa
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -52,7 +52,7 @@ public final class LightLCLightOnOffStatus extends ApplicationStatusMessage impl
     private static final Creator<LightLCLightOnOffStatus> CREATOR = new Creator<LightLCLightOnOffStatus>() {
         @Override
         public LightLCLightOnOffStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new LightLCLightOnOffStatus(message);
         }
 
@@ -70,7 +70,6 @@ public final class LightLCLightOnOffStatus extends ApplicationStatusMessage impl
     public LightLCLightOnOffStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -103,6 +102,7 @@ public final class LightLCLightOnOffStatus extends ApplicationStatusMessage impl
      * @return true if on and false other wise
      */
     public final boolean getPresentState() {
+        ensureParsed();
         return mPresentOn;
     }
 
@@ -112,6 +112,7 @@ public final class LightLCLightOnOffStatus extends ApplicationStatusMessage impl
      * @return true if on and false other wise
      */
     public final Boolean getTargetState() {
+        ensureParsed();
         return mTargetOn;
     }
 
@@ -121,6 +122,7 @@ public final class LightLCLightOnOffStatus extends ApplicationStatusMessage impl
      * @return transition steps
      */
     public int getTransitionSteps() {
+        ensureParsed();
         return mTransitionSteps;
     }
 
@@ -130,6 +132,7 @@ public final class LightLCLightOnOffStatus extends ApplicationStatusMessage impl
      * @return transition resolution
      */
     public int getTransitionResolution() {
+        ensureParsed();
         return mTransitionResolution;
     }
 
@@ -140,11 +143,11 @@ public final class LightLCLightOnOffStatus extends ApplicationStatusMessage impl
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     public int getRemainingTime() {
+        ensureParsed();
         return mRemainingTime;
     }
 }
@@ -43,7 +43,7 @@ public final class LightLCModeStatus extends ApplicationStatusMessage implements
     private static final Creator<LightLCModeStatus> CREATOR = new Creator<LightLCModeStatus>() {
         @Override
         public LightLCModeStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new LightLCModeStatus(message);
         }
 
@@ -61,7 +61,6 @@ public final class LightLCModeStatus extends ApplicationStatusMessage implements
     public LightLCModeStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -82,11 +81,11 @@ public final class LightLCModeStatus extends ApplicationStatusMessage implements
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     public boolean getStatus() {
+        ensureParsed();
         return status;
     }
 }
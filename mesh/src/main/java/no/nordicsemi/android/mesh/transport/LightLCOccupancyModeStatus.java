@@ -43,7 +43,7 @@ public final class LightLCOccupancyModeStatus extends ApplicationStatusMessage i
     private static final Creator<LightLCOccupancyModeStatus> CREATOR = new Creator<LightLCOccupancyModeStatus>() {
         @Override
         public LightLCOccupancyModeStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new LightLCOccupancyModeStatus(message);
         }
 
@@ -61,7 +61,6 @@ public final class LightLCOccupancyModeStatus extends ApplicationStatusMessage i
     public LightLCOccupancyModeStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -82,11 +81,11 @@ public final class LightLCOccupancyModeStatus extends ApplicationStatusMessage i
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     public boolean getStatus() {
+        ensureParsed();
         return status;
     }
 }
@@ -49,7 +49,7 @@ public final class LightLCPropertyStatus extends ApplicationStatusMessage implem
     private static final Creator<LightLCPropertyStatus> CREATOR = new Creator<LightLCPropertyStatus>() {
         @Override
         public LightLCPropertyStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new LightLCPropertyStatus(message);
         }
 
@@ -67,7 +67,6 @@ public final class LightLCPropertyStatus extends ApplicationStatusMessage implem
     public LightLCPropertyStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -92,14 +91,14 @@ public final class LightLCPropertyStatus extends ApplicationStatusMessage implem
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
      * Returns the device property.
      */
     public DeviceProperty getProperty() {
+        ensureParsed();
         return property;
     }
 
@@ -107,6 +106,7 @@ public final class LightLCPropertyStatus extends ApplicationStatusMessage implem
      * Returns the device property characteristic for a given device property
      */
     public DevicePropertyCharacteristic<?> getValue() {
+        ensureParsed();
         return characteristic;
     }
 }
@@ -51,7 +51,7 @@ public final class LightLightnessStatus extends ApplicationStatusMessage impleme
     private static final Creator<LightLightnessStatus> CREATOR = new Creator<LightLightnessStatus>() {
         @Override
         public LightLightnessStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new LightLightnessStatus(message);
         }
 
@@ -70,7 +70,6 @@ public final class LightLightnessStatus extends ApplicationStatusMessage impleme
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -102,6 +101,7 @@ public final class LightLightnessStatus extends ApplicationStatusMessage impleme
      * @return present level
      */
     public final int getPresentLightness() {
+        ensureParsed();
         return mPresentLightness;
     }
 
@@ -111,6 +111,7 @@ public final class LightLightnessStatus extends ApplicationStatusMessage impleme
      * @return target level
      */
     public final Integer getTargetLightness() {
+        ensureParsed();
         return mTargetLightness;
     }
 
@@ -120,6 +121,7 @@ public final class LightLightnessStatus extends ApplicationStatusMessage impleme
      * @return transition steps
      */
     public int getTransitionSteps() {
+        ensureParsed();
         return mTransitionSteps;
     }
 
@@ -129,6 +131,7 @@ public final class LightLightnessStatus extends ApplicationStatusMessage impleme
      * @return transition resolution
      */
     public int getTransitionResolution() {
+        ensureParsed();
         return mTransitionResolution;
     }
 
@@ -139,7 +142,6 @@ public final class LightLightnessStatus extends ApplicationStatusMessage impleme
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -23,10 +23,12 @@
 package no.nordicsemi.android.mesh.transport;
 
 import no.nordicsemi.android.mesh.logger.MeshLogger;
-import android.util.SparseArray;
+import no.nordicsemi.android.mesh.metrics.MeshMetrics;
+import no.nordicsemi.android.mesh.utils.ByteArrayMap;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
@@ -55,8 +57,8 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
     private static final int UNSEGMENTED_ACK_MESSAGE_HEADER_LENGTH = 3;
     private static final long INCOMPLETE_TIMER_DELAY = 10 * 1000; // According to the spec the incomplete timer must be a minimum of 10 seconds.
 
-    private final SparseArray<byte[]> segmentedAccessMessageMap = new SparseArray<>();
-    private final SparseArray<byte[]> segmentedControlMessageMap = new SparseArray<>();
+    private final ByteArrayMap segmentedAccessMessageMap = new ByteArrayMap();
+    private final ByteArrayMap segmentedControlMessageMap = new ByteArrayMap();
     LowerTransportLayerCallbacks mLowerTransportLayerCallbacks;
     private boolean mSegmentedAccessAcknowledgementTimerStarted;
     private Integer mSegmentedAccessBlockAck;
@@ -72,6 +74,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
     private final Runnable mIncompleteTimerRunnable = new Runnable() {
         @Override
         public void run() {
+            MeshMetrics.LOWER_TRANSPORT_INCOMPLETE_TIMER_EXPIRED.increment();
             mLowerTransportLayerCallbacks.onIncompleteTimerExpired();
             //Reset the incomplete timer flag once it expires
             mIncompleteTimerStarted = false;
@@ -93,6 +96,32 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
      */
     protected abstract Message createNetworkLayerPDU(@NonNull final Message message);
 
+    /**
+     * Returns true while a segmented message is being received, i.e. the incomplete timer or the acknowledgement timer
+     * is running.
+     */
+    boolean isReceivingSegments() {
+        return mIncompleteTimerStarted || mSegmentedAccessAcknowledgementTimerStarted;
+    }
+
+    /**
+     * Cancels all timers and drops any partially received segmented messages, so that the layer can be reused for
+     * another node.
+     */
+    void reset() {
+        mScheduler.removeAllCallbacks();
+        segmentedAccessMessageMap.clear();
+        segmentedControlMessageMap.clear();
+        mSegmentedAccessAcknowledgementTimerStarted = false;
+        mSegmentedAccessBlockAck = null;
+        mSegmentedControlAcknowledgementTimerStarted = false;
+        mSegmentedControlBlockAck = null;
+        mIncompleteTimerStarted = false;
+        mBlockAckSent = false;
+        mDuration = 0;
+        mMeshNode = null;
+    }
+
     @Override
     void createMeshMessage(@NonNull final Message message) {
         super.createMeshMessage(message);
@@ -117,11 +146,11 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
     @VisibleForTesting(otherwise = VisibleForTesting.PROTECTED)
     public final void createLowerTransportAccessPDU(@NonNull final AccessMessage message) {
         final byte[] upperTransportPDU = message.getUpperTransportPdu();
-        final SparseArray<byte[]> lowerTransportAccessPduMap;
+        final ByteArrayMap lowerTransportAccessPduMap;
         if (upperTransportPDU.length <= MAX_SEGMENTED_ACCESS_PAYLOAD_LENGTH) {
             message.setSegmented(false);
             final byte[] lowerTransportPDU = createUnsegmentedAccessMessage(message);
-            lowerTransportAccessPduMap = new SparseArray<>();
+            lowerTransportAccessPduMap = new ByteArrayMap();
             lowerTransportAccessPduMap.put(0, lowerTransportPDU);
         } else {
             message.setSegmented(true);
@@ -136,7 +165,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
     public final void createLowerTransportControlPDU(@NonNull final ControlMessage message) {
         switch (message.getPduType()) {
             case MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION:
-                final SparseArray<byte[]> lowerTransportControlPduArray = new SparseArray<>();
+                final ByteArrayMap lowerTransportControlPduArray = new ByteArrayMap();
                 lowerTransportControlPduArray.put(0, message.getTransportControlPdu());
                 message.setLowerTransportControlPdu(lowerTransportControlPduArray);
                 break;
@@ -154,14 +183,14 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
 
     @Override
     final void reassembleLowerTransportAccessPDU(@NonNull final AccessMessage accessMessage) {
-        final SparseArray<byte[]> lowerTransportAccessPdu = removeLowerTransportAccessMessageHeader(accessMessage);
+        final ByteArrayMap lowerTransportAccessPdu = removeLowerTransportAccessMessageHeader(accessMessage);
         final byte[] upperTransportPdu = MeshParserUtils.concatenateSegmentedMessages(lowerTransportAccessPdu);
         accessMessage.setUpperTransportPdu(upperTransportPdu);
     }
 
     @Override
     final void reassembleLowerTransportControlPDU(@NonNull final ControlMessage controlMessage) {
-        final SparseArray<byte[]> lowerTransportPdu = removeLowerTransportControlMessageHeader(controlMessage);
+        final ByteArrayMap lowerTransportPdu = removeLowerTransportControlMessageHeader(controlMessage);
         final byte[] lowerTransportControlPdu = MeshParserUtils.concatenateSegmentedMessages(lowerTransportPdu);
         controlMessage.setTransportControlPdu(lowerTransportControlPdu);
     }
@@ -172,8 +201,8 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
      * @param message access message received.
      * @return map containing the messages.
      */
-    private SparseArray<byte[]> removeLowerTransportAccessMessageHeader(@NonNull final AccessMessage message) {
-        final SparseArray<byte[]> messages = message.getLowerTransportAccessPdu();
+    private ByteArrayMap removeLowerTransportAccessMessageHeader(@NonNull final AccessMessage message) {
+        final ByteArrayMap messages = message.getLowerTransportAccessPduMap();
         if (message.isSegmented()) {
             for (int i = 0; i < messages.size(); i++) {
                 final byte[] data = messages.get(i);
@@ -194,8 +223,8 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
      * @param message control message.
      * @return map containing the messages.
      */
-    private SparseArray<byte[]> removeLowerTransportControlMessageHeader(@NonNull final ControlMessage message) {
-        final SparseArray<byte[]> messages = message.getLowerTransportControlPdu();
+    private ByteArrayMap removeLowerTransportControlMessageHeader(@NonNull final ControlMessage message) {
+        final ByteArrayMap messages = message.getLowerTransportControlPduMap();
         if (messages.size() > 1) {
             for (int i = 0; i < messages.size(); i++) {
                 final byte[] data = messages.get(i);
@@ -258,7 +287,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
      * @param message access message.
      * @return Segmented access message.
      */
-    private SparseArray<byte[]> createSegmentedAccessMessage(@NonNull final AccessMessage message) {
+    private ByteArrayMap createSegmentedAccessMessage(@NonNull final AccessMessage message) {
         final byte[] encryptedUpperTransportPDU = message.getUpperTransportPdu();
         final int akfAid = ((message.getAkf() << 6) | message.getAid());
         final int aszmic = message.getAszmic();
@@ -267,24 +296,23 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
 
         final int numberOfSegments = (encryptedUpperTransportPDU.length + (MAX_SEGMENTED_ACCESS_PAYLOAD_LENGTH - 1)) / MAX_SEGMENTED_ACCESS_PAYLOAD_LENGTH;
         final int segN = numberOfSegments - 1; //Zero based segN
-        final SparseArray<byte[]> lowerTransportPduMap = new SparseArray<>();
+        final ByteArrayMap lowerTransportPduMap = new ByteArrayMap();
         int offset = 0;
         int length;
         for (int segO = 0; segO < numberOfSegments; segO++) {
             //Here we calculate the size of the segments based on the offset and the maximum payload of a segment access message
             length = Math.min(encryptedUpperTransportPDU.length - offset, MAX_SEGMENTED_ACCESS_PAYLOAD_LENGTH);
-            final ByteBuffer lowerTransportBuffer = ByteBuffer.allocate(SEGMENTED_MESSAGE_HEADER_LENGTH + length).order(ByteOrder.BIG_ENDIAN);
-            lowerTransportBuffer.put((byte) ((SEGMENTED_HEADER << 7) | akfAid));
-            lowerTransportBuffer.put((byte) ((aszmic << 7) | ((seqZero >> 6) & 0x7F)));
-            lowerTransportBuffer.put((byte) (((seqZero << 2) & 0xFC) | ((segO >> 3) & 0x03)));
-            lowerTransportBuffer.put((byte) (((segO << 5) & 0xE0) | ((segN) & 0x1F)));
-            lowerTransportBuffer.put(encryptedUpperTransportPDU, offset, length);
+            // Written directly in to the array kept for retransmissions, the header followed by the segment
+            final byte[] lowerTransportPDU = new byte[SEGMENTED_MESSAGE_HEADER_LENGTH + length];
+            lowerTransportPDU[0] = (byte) ((SEGMENTED_HEADER << 7) | akfAid);
+            lowerTransportPDU[1] = (byte) ((aszmic << 7) | ((seqZero >> 6) & 0x7F));
+            lowerTransportPDU[2] = (byte) (((seqZero << 2) & 0xFC) | ((segO >> 3) & 0x03));
+            lowerTransportPDU[3] = (byte) (((segO << 5) & 0xE0) | ((segN) & 0x1F));
+            System.arraycopy(encryptedUpperTransportPDU, offset, lowerTransportPDU, SEGMENTED_MESSAGE_HEADER_LENGTH, length);
             offset += length;
-
-            final byte[] lowerTransportPDU = lowerTransportBuffer.array();
-            MeshLogger.verbose(TAG, "Segmented Lower transport access PDU: " + MeshParserUtils.bytesToHex(lowerTransportPDU, false) + " " + segO + " of " + numberOfSegments);
             lowerTransportPduMap.put(segO, lowerTransportPDU);
         }
+        MeshLogger.verbose(TAG, "Lower transport access PDU split in to " + numberOfSegments + " segments");
         return lowerTransportPduMap;
     }
 
@@ -316,7 +344,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
         lowerTransportBuffer.put(upperTransportControlPDU);
         final byte[] lowerTransportPDU = lowerTransportBuffer.array();
         MeshLogger.verbose(TAG, "Unsegmented Lower transport control PDU " + MeshParserUtils.bytesToHex(lowerTransportPDU, false));
-        final SparseArray<byte[]> lowerTransportControlPduMap = new SparseArray<>();
+        final ByteArrayMap lowerTransportControlPduMap = new ByteArrayMap();
         lowerTransportControlPduMap.put(0, lowerTransportPDU);
         message.setLowerTransportControlPdu(lowerTransportControlPduMap);
     }
@@ -336,7 +364,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
 
         final int numberOfSegments = (encryptedUpperTransportControlPDU.length + (MAX_SEGMENTED_CONTROL_PAYLOAD_LENGTH - 1)) / MAX_SEGMENTED_CONTROL_PAYLOAD_LENGTH;
         final int segN = numberOfSegments - 1; //Zero based segN
-        final SparseArray<byte[]> lowerTransportControlPduMap = new SparseArray<>();
+        final ByteArrayMap lowerTransportControlPduMap = new ByteArrayMap();
         int offset = 0;
         int length;
         for (int segO = 0; segO < numberOfSegments; segO++) {
@@ -373,13 +401,17 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
      *
      * @param pdu            The complete pdu was received from the node. This is already de-obfuscated
      *                       and decrypted at network layer.
+     * @param length         Length of the pdu
+     * @param srcAdd         Source address of the pdu
      * @param ivIndex        IV Index of the received pdu
      * @param sequenceNumber Sequence number of the message.
      */
     /*package*/
     final AccessMessage parseUnsegmentedAccessLowerTransportPDU(@NonNull final byte[] pdu,
+                                                                final int length,
+                                                                final int srcAdd,
                                                                 final int ivIndex,
-                                                                @NonNull final byte[] sequenceNumber) {
+                                                                final int sequenceNumber) {
         AccessMessage message = null;
         final byte header = pdu[10]; //Lower transport pdu starts here
         final int seg = (header >> 7) & 0x01;
@@ -387,11 +419,10 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
         final int aid = header & 0x3F;
         if (seg == 0) { //Unsegmented message
             MeshLogger.debug(TAG, "IV Index of received message: " + ivIndex);
-            final int seqAuth = (ivIndex << 24) | MeshParserUtils.convert24BitsToInt(sequenceNumber);
-            final byte[] src = MeshParserUtils.getSrcAddress(pdu);
-            final int srcAdd = MeshParserUtils.unsignedBytesToInt(src[1], src[0]);
+            final int seqAuth = (ivIndex << 24) | sequenceNumber;
             MeshLogger.debug(TAG, "SeqAuth: " + seqAuth);
             if (!isValidSeqAuth(seqAuth, srcAdd)) {
+                MeshMetrics.LOWER_TRANSPORT_DROPPED_REPLAY.increment();
                 return null;
             }
             mMeshNode.setSeqAuth(srcAdd, seqAuth);
@@ -399,31 +430,15 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
             // Setting hte sequence number here will reset the already incremented sequence number for a message sent to all nodes.
             // mMeshNode.setSequenceNumber(MeshParserUtils.convert24BitsToInt(sequenceNumber));
             message = new AccessMessage();
-            if (akf == 0) {// device key was used to encrypt
-                final int lowerTransportPduLength = pdu.length - 10;
-                final ByteBuffer lowerTransportBuffer = ByteBuffer.allocate(lowerTransportPduLength).order(ByteOrder.BIG_ENDIAN);
-                lowerTransportBuffer.put(pdu, 10, lowerTransportPduLength);
-                final byte[] lowerTransportPDU = lowerTransportBuffer.array();
-                final SparseArray<byte[]> messages = new SparseArray<>();
-                messages.put(0, lowerTransportPDU);
-                message.setSegmented(false);
-                message.setAszmic(0); //aszmic is always 0 for unsegmented access messages
-                message.setAkf(akf);
-                message.setAid(aid);
-                message.setLowerTransportAccessPdu(messages);
-            } else {
-                final int lowerTransportPduLength = pdu.length - 10;
-                final ByteBuffer lowerTransportBuffer = ByteBuffer.allocate(lowerTransportPduLength).order(ByteOrder.BIG_ENDIAN);
-                lowerTransportBuffer.put(pdu, 10, lowerTransportPduLength);
-                final byte[] lowerTransportPDU = lowerTransportBuffer.array();
-                final SparseArray<byte[]> messages = new SparseArray<>();
-                messages.put(0, lowerTransportPDU);
-                message.setSegmented(false);
-                message.setAszmic(0); //aszmic is always 0 for unsegmented access messages
-                message.setAkf(akf);
-                message.setAid(aid);
-                message.setLowerTransportAccessPdu(messages);
-            }
+            // The lower transport pdu is kept by the message, the pdu being a buffer reused for the next pdu
+            final byte[] lowerTransportPDU = Arrays.copyOfRange(pdu, 10, length);
+            final ByteArrayMap messages = new ByteArrayMap();
+            messages.put(0, lowerTransportPDU);
+            message.setSegmented(false);
+            message.setAszmic(0); //aszmic is always 0 for unsegmented access messages
+            message.setAkf(akf);
+            message.setAid(aid);
+            message.setLowerTransportAccessPdu(messages);
         }
         return message;
     }
@@ -433,14 +448,20 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
      *
      * @param ttl            TTL of the acknowledgement
      * @param pdu            The complete pdu was received from the node. This is already de-obfuscated and decrypted at network layer.
+     * @param length         Length of the pdu
+     * @param src            Source address of the pdu
+     * @param dst            Destination address of the pdu
      * @param ivIndex        Current IV Index of the network
      * @param sequenceNumber Sequence number
      */
     /*package*/
     final AccessMessage parseSegmentedAccessLowerTransportPDU(final int ttl,
                                                               @NonNull final byte[] pdu,
+                                                              final int length,
+                                                              final int src,
+                                                              final int dst,
                                                               final int ivIndex,
-                                                              @NonNull final byte[] sequenceNumber) {
+                                                              final int sequenceNumber) {
         final byte header = pdu[10]; //Lower transport pdu starts here
         final int akf = (header >> 6) & 0x01;
         final int aid = header & 0x3F;
@@ -450,16 +471,14 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
         final int segO = ((pdu[12] & 0x03) << 3) | ((pdu[13] & 0xE0) >> 5);
         final int segN = ((pdu[13]) & 0x1F);
 
-        final byte[] src = MeshParserUtils.getSrcAddress(pdu);
-        final byte[] dst = MeshParserUtils.getDstAddress(pdu);
-
-        final int blockAckSrc = MeshParserUtils.unsignedBytesToInt(dst[1], dst[0]); //Destination of the received packet would be the source for the ack
-        final int blockAckDst = MeshParserUtils.unsignedBytesToInt(src[1], src[0]); //Source of the received packet would be the destination for the ack
+        final int blockAckSrc = dst; //Destination of the received packet would be the source for the ack
+        final int blockAckDst = src; //Source of the received packet would be the destination for the ack
 
         MeshLogger.verbose(TAG, "SEG O: " + segO);
         MeshLogger.verbose(TAG, "SEG N: " + segN);
 
-        final int seqNumber = getTransportLayerSequenceNumber(MeshParserUtils.convert24BitsToInt(sequenceNumber), seqZero);
+        MeshMetrics.LOWER_TRANSPORT_SEGMENTS_RECEIVED.increment();
+        final int seqNumber = getTransportLayerSequenceNumber(sequenceNumber, seqZero);
         final int seqAuth = ivIndex << 24 | seqNumber;
         final Integer lastSeqAuth = mMeshNode.getSeqAuth(blockAckDst);
         if (lastSeqAuth != null)
@@ -467,17 +486,13 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
 
         MeshLogger.verbose(TAG, "Current SeqAuth value " + seqAuth);
 
-        final int payloadLength = pdu.length - 10;
-        final ByteBuffer payloadBuffer = ByteBuffer.allocate(payloadLength);
-        payloadBuffer.put(pdu, 10, payloadLength);
-
         //Check if the current SeqAuth value is greater than the last and if the incomplete timer has not started, start it!
         if ((lastSeqAuth == null || lastSeqAuth < seqAuth)) {
             // We do not need to rely on the sequence number here
             // Setting hte sequence number here will reset the already incremented sequence number for a message sent to all nodes.
             // mMeshNode.setSequenceNumber(seqNumber);
             segmentedAccessMessageMap.clear();
-            segmentedAccessMessageMap.put(segO, payloadBuffer.array());
+            segmentedAccessMessageMap.put(segO, Arrays.copyOfRange(pdu, 10, length));
             mMeshNode.setSeqAuth(blockAckDst, seqAuth);
 
             MeshLogger.verbose(TAG, "Starting incomplete timer for src: " + MeshAddress.formatAddress(blockAckDst, false));
@@ -495,7 +510,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
             if (lastSeqAuth == seqAuth) {
                 if (mIncompleteTimerStarted) {
                     if (segmentedAccessMessageMap.get(segO) == null) {
-                        segmentedAccessMessageMap.put(segO, payloadBuffer.array());
+                        segmentedAccessMessageMap.put(segO, Arrays.copyOfRange(pdu, 10, length));
                     }
                     final int receivedSegmentedMessageCount = segmentedAccessMessageMap.size();
                     MeshLogger.verbose(TAG, "Received segment message count: " + receivedSegmentedMessageCount);
@@ -527,13 +542,15 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
                         accessMessage.setAkf(akf);
                         accessMessage.setAid(aid);
                         accessMessage.setSegmented(true);
-                        final SparseArray<byte[]> segmentedMessages = segmentedAccessMessageMap.clone();
+                        final ByteArrayMap segmentedMessages = segmentedAccessMessageMap.clone();
                         accessMessage.setLowerTransportAccessPdu(segmentedMessages);
                         return accessMessage;
                     }
                 } else {
                     MeshLogger.verbose(TAG, "Ignoring message since the incomplete timer has expired and all messages have been received");
                 }
+            } else {
+                MeshMetrics.LOWER_TRANSPORT_DROPPED_REPLAY.increment();
             }
         }
         return null;
@@ -557,16 +574,15 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
      * Parses a unsegmented lower transport control pdu.
      *
      * @param decryptedProxyPdu The complete pdu was received from the node. This is already de-obfuscated and decrypted at network layer.
+     * @param length            Length of the pdu
      */
     /*package*/
     final void parseUnsegmentedControlLowerTransportPDU(@NonNull final ControlMessage controlMessage,
-                                                        @NonNull final byte[] decryptedProxyPdu) throws ExtendedInvalidCipherTextException {
+                                                        @NonNull final byte[] decryptedProxyPdu,
+                                                        final int length) throws ExtendedInvalidCipherTextException {
 
-        final SparseArray<byte[]> unsegmentedMessages = new SparseArray<>();
-        final int lowerTransportPduLength = decryptedProxyPdu.length - 10;
-        final ByteBuffer lowerTransportBuffer = ByteBuffer.allocate(lowerTransportPduLength).order(ByteOrder.BIG_ENDIAN);
-        lowerTransportBuffer.put(decryptedProxyPdu, 10, lowerTransportPduLength);
-        final byte[] lowerTransportPDU = lowerTransportBuffer.array();
+        final ByteArrayMap unsegmentedMessages = new ByteArrayMap();
+        final byte[] lowerTransportPDU = Arrays.copyOfRange(decryptedProxyPdu, 10, length);
         unsegmentedMessages.put(0, lowerTransportPDU);
         final int opCode;
         final int pduType = decryptedProxyPdu[0];
@@ -591,10 +607,18 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
     /**
      * Parses a segmented lower transport control pdu.
      *
-     * @param pdu The complete pdu was received from the node. This is already de-obfuscated and decrypted at network layer.
+     * @param pdu            The complete pdu was received from the node. This is already de-obfuscated and decrypted at network layer.
+     * @param length         Length of the pdu
+     * @param src            Source address of the pdu
+     * @param dst            Destination address of the pdu
+     * @param sequenceNumber Sequence number of the pdu
      */
     /*package*/
-    final ControlMessage parseSegmentedControlLowerTransportPDU(@NonNull final byte[] pdu) {
+    final ControlMessage parseSegmentedControlLowerTransportPDU(@NonNull final byte[] pdu,
+                                                                final int length,
+                                                                final int src,
+                                                                final int dst,
+                                                                final int sequenceNumber) {
 
         final byte header = pdu[10]; //Lower transport pdu starts here
         final int akf = (header >> 6) & 0x01;
@@ -606,50 +630,43 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
         final int segN = ((pdu[13]) & 0x1F);
 
         final int ttl = pdu[2] & 0x7F;
-        final byte[] src = MeshParserUtils.getSrcAddress(pdu);
-        final byte[] dst = MeshParserUtils.getDstAddress(pdu);
-
-        final int blockAckSrc = MeshParserUtils.unsignedBytesToInt(dst[1], dst[0]); //Destination of the received packet would be the source for the ack
-        final int blockAckDst = MeshParserUtils.unsignedBytesToInt(src[1], src[0]); //Source of the received packet would be the destination for the ack
+        final int blockAckSrc = dst; //Destination of the received packet would be the source for the ack
+        final int blockAckDst = src; //Source of the received packet would be the destination for the ack
 
         MeshLogger.verbose(TAG, "SEG O: " + segO);
         MeshLogger.verbose(TAG, "SEG N: " + segN);
 
+        MeshMetrics.LOWER_TRANSPORT_SEGMENTS_RECEIVED.increment();
         //Start the timer irrespective of which segment was received first
         initSegmentedControlAcknowledgementTimer(seqZero, ttl, blockAckDst, blockAckSrc, segN);
         mSegmentedControlBlockAck = BlockAcknowledgementMessage.calculateBlockAcknowledgement(mSegmentedControlBlockAck, segO);
         MeshLogger.verbose(TAG, "Block acknowledgement value for " + mSegmentedControlBlockAck + " Seg O " + segO);
 
-        final int payloadLength = pdu.length - 10;
-
-        final ByteBuffer payloadBuffer = ByteBuffer.allocate(payloadLength);
-        payloadBuffer.put(pdu, 10, payloadLength);
-        segmentedControlMessageMap.put(segO, payloadBuffer.array());
+        segmentedControlMessageMap.put(segO, Arrays.copyOfRange(pdu, 10, length));
 
         //Check the message count against the zero-based segN;
         final int receivedSegmentedMessageCount = segmentedControlMessageMap.size() - 1;
         if (segN == receivedSegmentedMessageCount) {
             MeshLogger.verbose(TAG, "All segments received");
             //Remove the incomplete timer if all segments were received
-            mHandler.removeCallbacks(mIncompleteTimerRunnable);
+            mScheduler.removeCallbacks(mIncompleteTimerRunnable);
             MeshLogger.verbose(TAG, "Block ack sent? " + mBlockAckSent);
-            if (mDuration > System.currentTimeMillis() && !mBlockAckSent) {
+            if (mDuration > mScheduler.currentTimeMillis() && !mBlockAckSent) {
                 if (MeshAddress.isValidUnicastAddress(dst)) {
-                    mHandler.removeCallbacksAndMessages(null);
+                    mScheduler.removeAllCallbacks();
                     MeshLogger.verbose(TAG, "Cancelling Scheduled block ack and incomplete timer, sending an immediate block ack");
                     sendBlockAck(seqZero, ttl, blockAckSrc, blockAckDst, segN);
                     //mBlockAckSent = false;
                 }
             }
-            final int upperTransportSequenceNumber = getTransportLayerSequenceNumber(MeshParserUtils.getSequenceNumberFromPDU(pdu), seqZero);
-            final byte[] sequenceNumber = MeshParserUtils.getSequenceNumberBytes(upperTransportSequenceNumber);
+            final int upperTransportSequenceNumber = getTransportLayerSequenceNumber(sequenceNumber, seqZero);
             final ControlMessage message = new ControlMessage();
             message.setAszmic(szmic);
-            message.setSequenceNumber(sequenceNumber);
+            message.setSequenceNumber(MeshParserUtils.getSequenceNumberBytes(upperTransportSequenceNumber));
             message.setAkf(akf);
             message.setAid(aid);
             message.setSegmented(true);
-            final SparseArray<byte[]> segmentedMessages = segmentedControlMessageMap.clone();
+            final ByteArrayMap segmentedMessages = segmentedControlMessageMap.clone();
             segmentedControlMessageMap.clear();
             message.setLowerTransportControlPdu(segmentedMessages);
             return message;
@@ -662,7 +679,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
      * Start incomplete timer for segmented messages.
      */
     private void initIncompleteTimer() {
-        mHandler.postDelayed(mIncompleteTimerRunnable, INCOMPLETE_TIMER_DELAY);
+        mScheduler.postDelayed(mIncompleteTimerRunnable, INCOMPLETE_TIMER_DELAY);
         mIncompleteTimerStarted = true;
     }
 
@@ -672,7 +689,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
     private void restartIncompleteTimer() {
         //Remove the existing incomplete timer
         if (mIncompleteTimerStarted) {
-            mHandler.removeCallbacks(mIncompleteTimerRunnable);
+            mScheduler.removeCallbacks(mIncompleteTimerRunnable);
         }
         //Call init to start the timer again
         initIncompleteTimer();
@@ -684,7 +701,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
     private void cancelIncompleteTimer() {
         //Remove the existing incomplete timer
         mIncompleteTimerStarted = false;
-        mHandler.removeCallbacks(mIncompleteTimerRunnable);
+        mScheduler.removeCallbacks(mIncompleteTimerRunnable);
     }
 
     /**
@@ -700,8 +717,8 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
             MeshLogger.verbose(TAG, "TTL: " + ttl);
             final int duration = (BLOCK_ACK_TIMER + (50 * ttl));
             MeshLogger.verbose(TAG, "Duration: " + duration);
-            mDuration = System.currentTimeMillis() + duration;
-            mHandler.postDelayed(() -> {
+            mDuration = mScheduler.currentTimeMillis() + duration;
+            mScheduler.postDelayed(() -> {
                 MeshLogger.verbose(TAG, "Acknowledgement timer expiring");
                 sendBlockAck(seqZero, ttl, src, dst, segN);
             }, duration);
@@ -720,8 +737,8 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
         if (!mSegmentedControlAcknowledgementTimerStarted) {
             mSegmentedControlAcknowledgementTimerStarted = true;
             final int duration = BLOCK_ACK_TIMER + (50 * ttl);
-            mDuration = System.currentTimeMillis() + duration;
-            mHandler.postDelayed(() -> sendBlockAck(seqZero, ttl, src, dst, segN), duration);
+            mDuration = mScheduler.currentTimeMillis() + duration;
+            mScheduler.postDelayed(() -> sendBlockAck(seqZero, ttl, src, dst, segN), duration);
         }
     }
 
@@ -754,6 +771,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
         final byte[] sequenceNum = MeshParserUtils.getSequenceNumberBytes(sequenceNumber);
         controlMessage.setSequenceNumber(sequenceNum);
         mBlockAckSent = true;
+        MeshMetrics.LOWER_TRANSPORT_BLOCK_ACKS_SENT.increment();
         mLowerTransportLayerCallbacks.sendSegmentAcknowledgementMessage(controlMessage);
         mSegmentedAccessAcknowledgementTimerStarted = false;
     }
@@ -788,6 +806,7 @@ abstract class LowerTransportLayer extends UpperTransportLayer {
         final int opCode = controlMessage.getOpCode();
 
         if (opCode == TransportLayerOpCodes.SAR_ACK_OPCODE) {
+            MeshMetrics.LOWER_TRANSPORT_BLOCK_ACKS_RECEIVED.increment();
             final BlockAcknowledgementMessage acknowledgement = new BlockAcknowledgementMessage(transportControlPdu);
             controlMessage.setTransportControlMessage(acknowledgement);
         }
@@ -1,6 +1,7 @@
 package no.nordicsemi.android.mesh.transport;
 
 import no.nordicsemi.android.mesh.logger.MeshLogger;
+import no.nordicsemi.android.mesh.metrics.MeshMetrics;
 
 import java.util.List;
 
@@ -79,9 +80,9 @@ abstract class MeshMessageState implements LowerTransportLayerCallbacks {
      * Starts sending the mesh pdu
      */
     public void executeSend() {
-        if (message.getNetworkLayerPdu().size() > 0) {
-            for (int i = 0; i < message.getNetworkLayerPdu().size(); i++) {
-                mInternalTransportCallbacks.onMeshPduCreated(mDst, message.getNetworkLayerPdu().get(i));
+        if (message.getNetworkLayerPduMap().size() > 0) {
+            for (int i = 0; i < message.getNetworkLayerPduMap().size(); i++) {
+                mInternalTransportCallbacks.onMeshPduCreated(mDst, message.getNetworkLayerPduMap().get(i), getPriority());
             }
 
             if (mMeshStatusCallbacks != null) {
@@ -90,20 +91,33 @@ abstract class MeshMessageState implements LowerTransportLayerCallbacks {
         }
     }
 
+    /**
+     * Returns the priority class of the PDUs of the message, see {@link OutboundQueue}.
+     */
+    private int getPriority() {
+        if (mMeshMessage instanceof ProxyConfigMessage) {
+            return OutboundQueue.PRIORITY_CONTROL;
+        } else if (mMeshMessage instanceof ConfigMessage) {
+            return OutboundQueue.PRIORITY_BULK;
+        }
+        return OutboundQueue.PRIORITY_INTERACTIVE;
+    }
+
     /**
      * Re-sends the mesh pdu segments that were lost in flight
      *
      * @param retransmitPduIndexes list of indexes of the messages to be
      */
     final void executeResend(final List<Integer> retransmitPduIndexes) {
-        if (message.getNetworkLayerPdu().size() > 0 && !retransmitPduIndexes.isEmpty()) {
+        if (message.getNetworkLayerPduMap().size() > 0 && !retransmitPduIndexes.isEmpty()) {
             for (int i = 0; i < retransmitPduIndexes.size(); i++) {
                 final int segO = retransmitPduIndexes.get(i);
-                if (message.getNetworkLayerPdu().get(segO) != null) {
-                    final byte[] pdu = message.getNetworkLayerPdu().get(segO);
+                if (message.getNetworkLayerPduMap().get(segO) != null) {
+                    final byte[] pdu = message.getNetworkLayerPduMap().get(segO);
                     MeshLogger.verbose(TAG, "Resending segment " + segO + " : " + MeshParserUtils.bytesToHex(pdu, false));
                     final Message retransmitMeshMessage = mMeshTransport.createRetransmitMeshMessage(message, segO);
-                    mInternalTransportCallbacks.onMeshPduCreated(mDst, retransmitMeshMessage.getNetworkLayerPdu().get(segO));
+                    MeshMetrics.LOWER_TRANSPORT_SEGMENTS_RETRANSMITTED.increment();
+                    mInternalTransportCallbacks.onMeshPduCreated(mDst, retransmitMeshMessage.getNetworkLayerPduMap().get(segO), getPriority());
                 }
             }
         }
@@ -130,8 +144,8 @@ abstract class MeshMessageState implements LowerTransportLayerCallbacks {
     public void sendSegmentAcknowledgementMessage(final ControlMessage controlMessage) {
         //We don't send acknowledgements here
         final ControlMessage message = mMeshTransport.createSegmentBlockAcknowledgementMessage(controlMessage);
-        MeshLogger.verbose(TAG, "Sending acknowledgement: " + MeshParserUtils.bytesToHex(message.getNetworkLayerPdu().get(0), false));
-        mInternalTransportCallbacks.onMeshPduCreated(message.getDst(), message.getNetworkLayerPdu().get(0));
+        MeshLogger.verbose(TAG, "Sending acknowledgement: " + MeshParserUtils.bytesToHex(message.getNetworkLayerPduMap().get(0), false));
+        mInternalTransportCallbacks.onMeshPduCreated(message.getDst(), message.getNetworkLayerPduMap().get(0), OutboundQueue.PRIORITY_CONTROL);
         mMeshStatusCallbacks.onBlockAcknowledgementProcessed(message.getDst(), controlMessage);
     }
 
@@ -50,8 +50,17 @@ final class MeshTransport extends NetworkLayer {
      * @param context context
      */
     MeshTransport(@NonNull final Context context) {
-        this.mContext = context;
-        initHandler();
+        this(new HandlerScheduler(new Handler(context.getMainLooper())));
+    }
+
+    /**
+     * Constructs the MeshTransport with the given scheduler, allowing the transport to run without the Android
+     * framework.
+     *
+     * @param scheduler scheduler running the transport layer timers
+     */
+    MeshTransport(@NonNull final TransportScheduler scheduler) {
+        this.mScheduler = scheduler;
     }
 
     /**
@@ -62,15 +71,8 @@ final class MeshTransport extends NetworkLayer {
      */
     @VisibleForTesting(otherwise = VisibleForTesting.PROTECTED)
     MeshTransport(@NonNull final Context context, @NonNull final ProvisionedMeshNode node) {
-        super();
-        this.mContext = context;
+        this(context);
         this.mMeshNode = node;
-        initHandler();
-    }
-
-    @Override
-    protected final void initHandler() {
-        this.mHandler = new Handler(mContext.getMainLooper());
     }
 
     @Override
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Keeps the {@link MeshTransport} and the {@link MeshMessageState} of every address the message handler exchanges
+ * messages with.
+ * <p>
+ * Entries are kept in least recently used order. Once the cache is full, the least recently used entry that is not busy
+ * is evicted, preferring entries of addresses messages were only received from, so that the responses to a message
+ * sent to a large group do not evict the addresses messages are sent to. An entry is busy while its transport is
+ * receiving a segmented message or within {@link #TRANSFER_TIMEOUT} of a message sent to it. Entries that have not been
+ * used within the idle timeout are evicted when the cache is next accessed. Transports of evicted entries are reset and
+ * pooled, so that they are reused for new addresses instead of creating a new transport and scheduler.
+ * </p>
+ */
+final class MeshTransportCache {
+
+    static final int DEFAULT_MAX_SIZE = 256;
+    static final long DEFAULT_IDLE_TIMEOUT = 5 * 60 * 1000;
+    static final long TRANSFER_TIMEOUT = 30 * 1000;
+    private static final int MAX_POOL_SIZE = 16;
+
+    private final TransportScheduler mScheduler;
+
+    private final LinkedHashMap<Integer, Entry> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ArrayDeque<MeshTransport> mPool = new ArrayDeque<>();
+    private int mMaxSize = DEFAULT_MAX_SIZE;
+    private long mIdleTimeout = DEFAULT_IDLE_TIMEOUT;
+    private long mLastIdleCheck;
+    private long mEvictionCount;
+
+    /**
+     * Transport and state of an address.
+     */
+    static final class Entry {
+        final MeshTransport transport;
+        MeshMessageState state;
+        long lastUsed;
+        boolean inbound;
+        long transferEnd;
+
+        Entry(@NonNull final MeshTransport transport, final long lastUsed, final boolean inbound) {
+            this.transport = transport;
+            this.lastUsed = lastUsed;
+            this.inbound = inbound;
+        }
+    }
+
+    /**
+     * Constructs the cache.
+     *
+     * @param scheduler scheduler providing the clock the entries are timed with
+     */
+    MeshTransportCache(@NonNull final TransportScheduler scheduler) {
+        mScheduler = scheduler;
+    }
+
+    /**
+     * Sets the limits of the cache.
+     *
+     * @param maxSize     maximum number of addresses kept, must be at least 1
+     * @param idleTimeout time in milliseconds after which an unused address is evicted, 0 to keep unused addresses
+     *                    until the cache is full
+     */
+    void setLimits(final int maxSize, final long idleTimeout) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Maximum size must be at least 1");
+        if (idleTimeout < 0)
+            throw new IllegalArgumentException("Idle timeout must not be negative");
+        mMaxSize = maxSize;
+        mIdleTimeout = idleTimeout;
+    }
+
+    int getMaxSize() {
+        return mMaxSize;
+    }
+
+    long getIdleTimeout() {
+        return mIdleTimeout;
+    }
+
+    /**
+     * Returns the entry of the given address and marks it as used.
+     *
+     * @param address address of the node or group
+     * @return the entry or null if the address is not cached
+     */
+    @Nullable
+    Entry get(final int address) {
+        final long now = mScheduler.currentTimeMillis();
+        evictIdle(now);
+        final Entry entry = mEntries.get(address);
+        if (entry != null) {
+            entry.lastUsed = now;
+        }
+        return entry;
+    }
+
+    /**
+     * Adds an entry for the given address, evicting the least recently used entries if the cache is full.
+     *
+     * @param address   address of the node or group
+     * @param transport transport for the address
+     * @param inbound   true if the entry is created for a message received from the address
+     * @return the new entry
+     */
+    @NonNull
+    Entry put(final int address, @NonNull final MeshTransport transport, final boolean inbound) {
+        final Entry entry = new Entry(transport, mScheduler.currentTimeMillis(), inbound);
+        final Entry previous = mEntries.put(address, entry);
+        if (previous != null && previous.transport != transport) {
+            recycle(previous.transport);
+        }
+        trimToSize(entry);
+        return entry;
+    }
+
+    /**
+     * Marks a message as sent to the address of the entry, which keeps the entry from being evicted until the
+     * response or the acknowledgement of the segments is expected to have been received.
+     */
+    void onTransferStarted(@NonNull final Entry entry) {
+        entry.inbound = false;
+        entry.transferEnd = mScheduler.currentTimeMillis() + TRANSFER_TIMEOUT;
+    }
+
+    /**
+     * Removes the entry of the given address.
+     */
+    void remove(final int address) {
+        final Entry entry = mEntries.remove(address);
+        if (entry != null) {
+            recycle(entry.transport);
+        }
+    }
+
+    /**
+     * Returns a pooled transport that has been reset, or null if the pool is empty.
+     */
+    @Nullable
+    MeshTransport obtainTransport() {
+        return mPool.poll();
+    }
+
+    /**
+     * Returns the number of addresses with a live transport.
+     */
+    int getTransportCount() {
+        return mEntries.size();
+    }
+
+    /**
+     * Returns the number of addresses with a live message state.
+     */
+    int getStateCount() {
+        int count = 0;
+        for (Entry entry : mEntries.values()) {
+            if (entry.state != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of transports kept for reuse.
+     */
+    int getPooledTransportCount() {
+        return mPool.size();
+    }
+
+    /**
+     * Returns the number of entries evicted since the cache was created.
+     */
+    long getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    /**
+     * Evicts the entries that have not been used within the idle timeout.
+     * <p>
+     * The entries are checked at most every quarter of the idle timeout, as the oldest entries are at the head of the
+     * map the check stops at the first entry that is still in use.
+     * </p>
+     */
+    void evictIdle(final long now) {
+        if (mIdleTimeout == 0 || now - mLastIdleCheck < mIdleTimeout / 4)
+            return;
+        mLastIdleCheck = now;
+        final Iterator<Entry> iterator = mEntries.values().iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (now - entry.lastUsed < mIdleTimeout)
+                break;
+            if (isBusy(entry, now))
+                continue;
+            iterator.remove();
+            mEvictionCount++;
+            recycle(entry.transport);
+        }
+    }
+
+    private void trimToSize(@NonNull final Entry newest) {
+        final long now = mScheduler.currentTimeMillis();
+        trimToSize(newest, now, true);
+        trimToSize(newest, now, false);
+    }
+
+    private void trimToSize(@NonNull final Entry newest, final long now, final boolean inboundOnly) {
+        final Iterator<Entry> iterator = mEntries.values().iterator();
+        while (mEntries.size() > mMaxSize && iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (entry == newest)
+                break;
+            if ((inboundOnly && !entry.inbound) || isBusy(entry, now))
+                continue;
+            iterator.remove();
+            mEvictionCount++;
+            recycle(entry.transport);
+        }
+    }
+
+    private static boolean isBusy(@NonNull final Entry entry, final long now) {
+        return entry.transport.isReceivingSegments() || now < entry.transferEnd;
+    }
+
+    private void recycle(@NonNull final MeshTransport transport) {
+        transport.reset();
+        if (mPool.size() < MAX_POOL_SIZE) {
+            mPool.add(transport);
+        }
+    }
+}
@@ -26,6 +26,8 @@ import android.os.Parcel;
 import android.os.Parcelable;
 import android.util.SparseArray;
 
+import no.nordicsemi.android.mesh.utils.ByteArrayMap;
+
 import no.nordicsemi.android.mesh.ApplicationKey;
 import no.nordicsemi.android.mesh.NetworkKey;
 
@@ -33,7 +35,7 @@ import no.nordicsemi.android.mesh.NetworkKey;
 abstract class Message implements Parcelable {
 
     protected int ctl;                              // If ctl = 0 access message and ctl = 1 control message
-    protected SparseArray<byte[]> networkLayerPdu;  // Mesh pdu
+    protected ByteArrayMap networkLayerPdu;  // Mesh pdu
     private int pduType;                            // PDU Type
     private int ttl = 100;                          // Time to live
     private int src;                                // Source address
@@ -58,7 +60,7 @@ abstract class Message implements Parcelable {
 
     protected Message(final Parcel source) {
         ctl = source.readInt();
-        networkLayerPdu = readSparseArrayToParcelable(source);
+        networkLayerPdu = readByteArrayMapFromParcel(source);
         pduType = source.readInt();
         ttl = source.readInt();
         src = source.readInt();
@@ -82,7 +84,7 @@ abstract class Message implements Parcelable {
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
         dest.writeInt(ctl);
-        writeSparseArrayToParcelable(dest, networkLayerPdu);
+        writeByteArrayMapToParcel(dest, networkLayerPdu);
         dest.writeInt(pduType);
         dest.writeInt(ttl);
         dest.writeInt(src);
@@ -249,15 +251,45 @@ abstract class Message implements Parcelable {
         this.segmented = segmented;
     }
 
-    public final SparseArray<byte[]> getNetworkLayerPdu() {
+    public final ByteArrayMap getNetworkLayerPduMap() {
         return networkLayerPdu;
     }
 
-    final void setNetworkLayerPdu(final SparseArray<byte[]> pdu) {
+    /**
+     * Returns a copy of the network layer pdus.
+     *
+     * @deprecated Use {@link #getNetworkLayerPduMap()} instead.
+     */
+    @Deprecated
+    public final SparseArray<byte[]> getNetworkLayerPdu() {
+        return toSparseArray(networkLayerPdu);
+    }
+
+    final void setNetworkLayerPdu(final ByteArrayMap pdu) {
         networkLayerPdu = pdu;
     }
 
-    protected final void writeSparseArrayToParcelable(final Parcel dest, final SparseArray<byte[]> array) {
+    static SparseArray<byte[]> toSparseArray(final ByteArrayMap map) {
+        if (map == null)
+            return null;
+        final SparseArray<byte[]> array = new SparseArray<>(map.size());
+        for (int i = 0; i < map.size(); i++) {
+            array.put(map.keyAt(i), map.valueAt(i));
+        }
+        return array;
+    }
+
+    static ByteArrayMap toByteArrayMap(final SparseArray<byte[]> array) {
+        if (array == null)
+            return null;
+        final ByteArrayMap map = new ByteArrayMap(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            map.put(array.keyAt(i), array.valueAt(i));
+        }
+        return map;
+    }
+
+    protected final void writeByteArrayMapToParcel(final Parcel dest, final ByteArrayMap array) {
         final int size = array.size();
         dest.writeInt(size);
         for (int i = 0; i < size; i++) {
@@ -265,8 +297,8 @@ abstract class Message implements Parcelable {
         }
     }
 
-    protected final SparseArray<byte[]> readSparseArrayToParcelable(final Parcel src) {
-        final SparseArray<byte[]> array = new SparseArray<>();
+    protected final ByteArrayMap readByteArrayMapFromParcel(final Parcel src) {
+        final ByteArrayMap array = new ByteArrayMap();
         final int size = src.readInt();
         for (int i = 0; i < size; i++) {
             array.put(i, src.createByteArray());
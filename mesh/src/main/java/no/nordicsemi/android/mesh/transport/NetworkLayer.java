@@ -22,14 +22,11 @@
 package no.nordicsemi.android.mesh.transport;
 
 import no.nordicsemi.android.mesh.logger.MeshLogger;
-import android.util.SparseArray;
+import no.nordicsemi.android.mesh.metrics.MeshMetrics;
+import no.nordicsemi.android.mesh.utils.ByteArrayMap;
 
 import org.spongycastle.crypto.InvalidCipherTextException;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.util.ArrayList;
-import java.util.List;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -52,8 +49,9 @@ abstract class NetworkLayer extends LowerTransportLayer {
 
     private static final String TAG = NetworkLayer.class.getSimpleName();
     NetworkLayerCallbacks mNetworkLayerCallbacks;
-    private SparseArray<byte[]> segmentedAccessMessagesMessages;
-    private SparseArray<byte[]> segmentedControlMessagesMessages;
+    private ByteArrayMap segmentedAccessMessagesMessages;
+    private ByteArrayMap segmentedControlMessagesMessages;
+    private final NetworkPduWriter mPduWriter = new NetworkPduWriter();
 
     /**
      * Set network layer callbacks
@@ -62,6 +60,13 @@ abstract class NetworkLayer extends LowerTransportLayer {
      */
     abstract void setNetworkLayerCallbacks(@NonNull final NetworkLayerCallbacks callbacks);
 
+    @Override
+    void reset() {
+        super.reset();
+        segmentedAccessMessagesMessages = null;
+        segmentedControlMessagesMessages = null;
+    }
+
     /**
      * Creates a mesh message
      *
@@ -106,67 +111,44 @@ abstract class NetworkLayer extends LowerTransportLayer {
         final byte ctlTTL = (byte) ((ctl << 7) | (ttl & 0x7F));
 
         final int src = message.getSrc();
-        final SparseArray<byte[]> lowerTransportPduMap;
-        final SparseArray<byte[]> encryptedPduPayload = new SparseArray<>();
-        final List<byte[]> sequenceNumbers = new ArrayList<>();
+        final int micLength = SecureUtils.getNetMicLength(ctl);
+        final ByteArrayMap lowerTransportPduMap;
+        final ByteArrayMap pduArray = new ByteArrayMap();
+        mPduWriter.begin(encryptionKey, privacyKey, message.getIvIndex());
 
         final ProvisionedMeshNode node = mUpperTransportLayerCallbacks.getNode(message.getSrc());
         final int pduType = message.getPduType();
         switch (message.getPduType()) {
             case MeshManagerApi.PDU_TYPE_NETWORK:
                 if (message instanceof AccessMessage) {
-                    lowerTransportPduMap = ((AccessMessage) message).getLowerTransportAccessPdu();
+                    lowerTransportPduMap = ((AccessMessage) message).getLowerTransportAccessPduMap();
                 } else {
-                    lowerTransportPduMap = ((ControlMessage) message).getLowerTransportControlPdu();
+                    lowerTransportPduMap = ((ControlMessage) message).getLowerTransportControlPduMap();
                 }
                 for (int i = 0; i < lowerTransportPduMap.size(); i++) {
                     final byte[] lowerTransportPdu = lowerTransportPduMap.get(i);
+                    int sequenceNumber = MeshParserUtils.convert24BitsToInt(message.getSequenceNumber());
                     if (i != 0) {
-                        node.setSequenceNumber(MeshParserUtils.convert24BitsToInt(message.getSequenceNumber()));
-                        final byte[] sequenceNumber = MeshParserUtils.getSequenceNumberBytes(node.incrementSequenceNumber());
-                        message.setSequenceNumber(sequenceNumber);
+                        node.setSequenceNumber(sequenceNumber);
+                        sequenceNumber = node.incrementSequenceNumber();
+                        message.setSequenceNumber(MeshParserUtils.getSequenceNumberBytes(sequenceNumber));
                     }
-                    sequenceNumbers.add(message.getSequenceNumber());
-                    MeshLogger.verbose(TAG, "Sequence Number: " + MeshParserUtils.bytesToHex(sequenceNumbers.get(i), false));
-                    final byte[] nonce = createNetworkNonce(ctlTTL, sequenceNumbers.get(i), src, message.getIvIndex());
-                    final byte[] encryptedPayload = encryptPdu(lowerTransportPdu, encryptionKey, nonce, message.getDst(), SecureUtils.getNetMicLength(message.getCtl()));
-                    encryptedPduPayload.put(i, encryptedPayload);
-                    MeshLogger.verbose(TAG, "Encrypted Network payload: " + MeshParserUtils.bytesToHex(encryptedPayload, false));
+                    pduArray.put(i, mPduWriter.write(pduType, iviNID, ctlTTL, sequenceNumber, src, message.getDst(), lowerTransportPdu, micLength));
                 }
                 break;
             case MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION:
-                lowerTransportPduMap = ((ControlMessage) message).getLowerTransportControlPdu();
+                lowerTransportPduMap = ((ControlMessage) message).getLowerTransportControlPduMap();
                 for (int i = 0; i < lowerTransportPduMap.size(); i++) {
                     final byte[] lowerTransportPdu = lowerTransportPduMap.get(i);
-                    final byte[] sequenceNum = MeshParserUtils.getSequenceNumberBytes(node.incrementSequenceNumber());
-                    message.setSequenceNumber(sequenceNum);
-                    sequenceNumbers.add(message.getSequenceNumber());
-                    final byte[] nonce = createProxyNonce(message.getSequenceNumber(), src, message.getIvIndex());
-                    final byte[] encryptedPayload = encryptPdu(lowerTransportPdu, encryptionKey, nonce, message.getDst(), SecureUtils.getNetMicLength(message.getCtl()));
-                    encryptedPduPayload.put(i, encryptedPayload);
-                    MeshLogger.verbose(TAG, "Encrypted Network payload: " + MeshParserUtils.bytesToHex(encryptedPayload, false));
+                    final int sequenceNumber = node.incrementSequenceNumber();
+                    message.setSequenceNumber(MeshParserUtils.getSequenceNumberBytes(sequenceNumber));
+                    pduArray.put(i, mPduWriter.write(pduType, iviNID, ctlTTL, sequenceNumber, src, message.getDst(), lowerTransportPdu, micLength));
                 }
                 break;
         }
-
-        final SparseArray<byte[]> pduArray = new SparseArray<>();
-        for (int i = 0; i < encryptedPduPayload.size(); i++) {
-            //Create the privacy random
-            final byte[] encryptedPayload = encryptedPduPayload.get(i);
-            final byte[] privacyRandom = createPrivacyRandom(encryptedPayload);
-            //Next we create the PECB
-            final byte[] pecb = createPECB(message.getIvIndex(), privacyRandom, privacyKey);
-
-            final byte[] header = obfuscateNetworkHeader(ctlTTL, sequenceNumbers.get(i), src, pecb);
-            final byte[] pdu = ByteBuffer.allocate(1 + 1 + header.length + encryptedPayload.length).order(ByteOrder.BIG_ENDIAN)
-                    .put((byte) pduType)
-                    .put(iviNID)
-                    .put(header)
-                    .put(encryptedPayload)
-                    .array();
-            pduArray.put(i, pdu);
-            message.setNetworkLayerPdu(pduArray);
-        }
+        MeshLogger.verbose(TAG, "Sequence Number: " + MeshParserUtils.bytesToHex(message.getSequenceNumber(), false));
+        message.setNetworkLayerPdu(pduArray);
+        MeshMetrics.NETWORK_PDUS_SENT.add(pduArray.size());
 
         return message;
     }
@@ -186,48 +168,33 @@ abstract class NetworkLayer extends LowerTransportLayer {
         final byte iviNID = (byte) ((ivi << 7) | (nid & 0x7F));
         final byte ctlTTL = (byte) ((ctl << 7) | (ttl & 0x7F));
 
+        if (message.getPduType() != MeshManagerApi.PDU_TYPE_NETWORK)
+            return null;
+
         final int src = message.getSrc();
-        final SparseArray<byte[]> lowerTransportPduMap;
+        final ByteArrayMap lowerTransportPduMap;
         if (message instanceof AccessMessage) {
-            lowerTransportPduMap = ((AccessMessage) message).getLowerTransportAccessPdu();
+            lowerTransportPduMap = ((AccessMessage) message).getLowerTransportAccessPduMap();
         } else {
-            lowerTransportPduMap = ((ControlMessage) message).getLowerTransportControlPdu();
+            lowerTransportPduMap = ((ControlMessage) message).getLowerTransportControlPduMap();
         }
 
-        byte[] encryptedNetworkPayload = null;
-        final int pduType = message.getPduType();
-        if (message.getPduType() == MeshManagerApi.PDU_TYPE_NETWORK) {
-            final ProvisionedMeshNode node = mUpperTransportLayerCallbacks.getNode(message.getSrc());
-            final byte[] lowerTransportPdu = lowerTransportPduMap.get(segment);
-            node.setSequenceNumber(MeshParserUtils.convert24BitsToInt(message.getSequenceNumber()));
-            //final int sequenceNumber = node.incrementSequenceNumber();//incrementSequenceNumber(mNetworkLayerCallbacks.getProvisioner(), message.getSequenceNumber());
-            final byte[] sequenceNum = MeshParserUtils.getSequenceNumberBytes(node.incrementSequenceNumber());
-            message.setSequenceNumber(sequenceNum);
-
-            MeshLogger.verbose(TAG, "Sequence Number: " + MeshParserUtils.bytesToHex(sequenceNum, false));
-
-            final byte[] nonce = createNetworkNonce(ctlTTL, sequenceNum, src, message.getIvIndex());
-            encryptedNetworkPayload = encryptPdu(lowerTransportPdu, encryptionKey, nonce, message.getDst(), SecureUtils.getNetMicLength(message.getCtl()));
-            if (encryptedNetworkPayload == null)
-                return null;
-            MeshLogger.verbose(TAG, "Encrypted Network payload: " + MeshParserUtils.bytesToHex(encryptedNetworkPayload, false));
-        }
-
-        if (encryptedNetworkPayload == null)
+        // The segment is sent with a new sequence number, as the destination and the relays have seen the previous
+        // one, and is encrypted from the lower transport PDU kept since the message was created
+        final ProvisionedMeshNode node = mUpperTransportLayerCallbacks.getNode(message.getSrc());
+        final byte[] lowerTransportPdu = lowerTransportPduMap.get(segment);
+        node.setSequenceNumber(MeshParserUtils.convert24BitsToInt(message.getSequenceNumber()));
+        final int sequenceNumber = node.incrementSequenceNumber();
+        message.setSequenceNumber(MeshParserUtils.getSequenceNumberBytes(sequenceNumber));
+        MeshLogger.verbose(TAG, "Sequence Number: " + sequenceNumber);
+
+        mPduWriter.begin(encryptionKey, privacyKey, message.getIvIndex());
+        final byte[] pdu = mPduWriter.write(message.getPduType(), iviNID, ctlTTL, sequenceNumber, src, message.getDst(),
+                lowerTransportPdu, SecureUtils.getNetMicLength(ctl));
+        if (pdu == null)
             return null;
-
-        final byte[] privacyRandom = createPrivacyRandom(encryptedNetworkPayload);
-        //Next we create the PECB
-        final byte[] pecb = createPECB(message.getIvIndex(), privacyRandom, privacyKey);
-
-        final byte[] header = obfuscateNetworkHeader(ctlTTL, message.getSequenceNumber(), src, pecb);
-        final byte[] pdu = ByteBuffer.allocate(1 + 1 + header.length + encryptedNetworkPayload.length).order(ByteOrder.BIG_ENDIAN)
-                .put((byte) pduType)
-                .put(iviNID)
-                .put(header)
-                .put(encryptedNetworkPayload)
-                .array();
-        message.getNetworkLayerPdu().put(segment, pdu);
+        message.getNetworkLayerPduMap().put(segment, pdu);
+        MeshMetrics.NETWORK_PDUS_SENT.increment();
         return message;
     }
 
@@ -237,93 +204,76 @@ abstract class NetworkLayer extends LowerTransportLayer {
      * This method will drop messages with an invalid sequence number as all mesh messages are supposed to have a sequence
      * </p>
      *
-     * @param key                     Network Key used to decrypt
-     * @param node                    Mesh node.
-     * @param data                    PDU received from the mesh node.
-     * @param networkHeader           Network header.
-     * @param decryptedNetworkPayload Decrypted network payload.
-     * @param ivIndex                 IV Index of the network.
+     * @param key          Network Key used to decrypt
+     * @param node         Mesh node.
+     * @param data         PDU received from the mesh node.
+     * @param decryptedPdu De-obfuscated and decrypted PDU, valid until the next PDU is received.
      * @return complete {@link Message} that was successfully parsed or null otherwise.
      */
     final Message parseMeshMessage(@NonNull final NetworkKey key,
                                    @NonNull final ProvisionedMeshNode node,
                                    @NonNull final byte[] data,
-                                   @NonNull final byte[] networkHeader,
-                                   @NonNull final byte[] decryptedNetworkPayload,
-                                   final int ivIndex,
-                                   @NonNull final byte[] sequenceNumber) throws ExtendedInvalidCipherTextException {
+                                   @NonNull final NetworkPduReader decryptedPdu) throws ExtendedInvalidCipherTextException {
         mMeshNode = node;
         final Provisioner provisioner = mNetworkLayerCallbacks.getProvisioner();
-        final int ctlTtl = networkHeader[0];
-        final int ctl = (ctlTtl >> 7) & 0x01;
-        final int ttl = ctlTtl & 0x7F;
-        MeshLogger.verbose(TAG, "TTL for received message: " + ttl);
-        final int src = MeshParserUtils.unsignedBytesToInt(networkHeader[5], networkHeader[4]);
-        if (ctl == 1) {
-            return parseControlMessage(key, provisioner.getProvisionerAddress(), data, networkHeader, decryptedNetworkPayload, src, sequenceNumber);
+        MeshLogger.verbose(TAG, "TTL for received message: " + decryptedPdu.getTtl());
+        if (decryptedPdu.getCtl() == 1) {
+            return parseControlMessage(key, provisioner.getProvisionerAddress(), data, decryptedPdu);
         } else {
-            return parseAccessMessage(key, data, networkHeader, decryptedNetworkPayload, src, sequenceNumber, ivIndex);
+            return parseAccessMessage(key, data, decryptedPdu);
         }
     }
 
     /**
      * Parses access message
      *
-     * @param key                     Network Key used to decrypt
-     * @param data                    Received from the node.
-     * @param networkHeader           De-obfuscated network header.
-     * @param decryptedNetworkPayload Decrypted network payload.
-     * @param src                     Source address.
-     * @param sequenceNumber          Sequence number of the received message.
-     * @param ivIndex                 IV Index used for decryption.
+     * @param key          Network Key used to decrypt
+     * @param data         Received from the node.
+     * @param decryptedPdu De-obfuscated and decrypted PDU.
      * @return access message
      */
     @VisibleForTesting
     private AccessMessage parseAccessMessage(@NonNull final NetworkKey key,
                                              @NonNull final byte[] data,
-                                             @NonNull final byte[] networkHeader,
-                                             @NonNull final byte[] decryptedNetworkPayload,
-                                             final int src,
-                                             @NonNull final byte[] sequenceNumber,
-                                             int ivIndex) throws ExtendedInvalidCipherTextException {
+                                             @NonNull final NetworkPduReader decryptedPdu) throws ExtendedInvalidCipherTextException {
         try {
-            int receivedTtl = networkHeader[0] & 0x7F;
-            final int dst = MeshParserUtils.unsignedBytesToInt(decryptedNetworkPayload[1], decryptedNetworkPayload[0]);
+            final int receivedTtl = decryptedPdu.getTtl();
+            final int src = decryptedPdu.getSrc();
+            final int dst = decryptedPdu.getDst();
+            final int ivIndex = decryptedPdu.getIvIndex();
+            final int sequenceNumber = decryptedPdu.getSequenceNumber();
+            // The lower transport layer parses the decrypted PDU in the buffer of the reader, without copying it
+            final byte[] pdu = decryptedPdu.getBuffer();
+            final int length = decryptedPdu.getLength();
             MeshLogger.verbose(TAG, "Dst: " + MeshAddress.formatAddress(dst, true));
 
-            if (isSegmentedMessage(decryptedNetworkPayload[2])) {
+            if (isSegmentedMessage(pdu[NetworkPduReader.HEADER_LENGTH + 2])) {
                 MeshLogger.verbose(TAG, "Received a segmented access message from: " + MeshAddress.formatAddress(src, false));
 
                 //Check if the received segmented message is from the same src as the previous segment
                 //Ideal case this check is not needed but let's leave it for now.
                 if (!mMeshNode.hasUnicastAddress(src)) {
                     MeshLogger.verbose(TAG, "Segment received is from a different src than the one we are processing, let's drop it");
+                    MeshMetrics.LOWER_TRANSPORT_DROPPED_INTERLEAVED.increment();
                     return null;
                 }
 
                 if (segmentedAccessMessagesMessages == null) {
-                    segmentedAccessMessagesMessages = new SparseArray<>();
+                    segmentedAccessMessagesMessages = new ByteArrayMap();
                     segmentedAccessMessagesMessages.put(0, data);
                 } else {
                     final int k = segmentedAccessMessagesMessages.size();
                     segmentedAccessMessagesMessages.put(k, data);
                 }
-                //Removing the mDst here
-                final byte[] pdu = ByteBuffer.allocate(2 + networkHeader.length + decryptedNetworkPayload.length)
-                        .order(ByteOrder.BIG_ENDIAN)
-                        .put(data, 0, 2)
-                        .put(networkHeader)
-                        .put(decryptedNetworkPayload)
-                        .array();
 
                 // Spec states, section 3.5.2.4 page 77
                 // If the received segments were sent with TTL set to 0, it is recommended that the
                 // corresponding Segment Acknowledgment message is sent with TTL set to 0.
                 final int ttl = receivedTtl == 0 ? receivedTtl : mNetworkLayerCallbacks.getProvisioner().getGlobalTtl();
-                final AccessMessage message = parseSegmentedAccessLowerTransportPDU(ttl, pdu, ivIndex, sequenceNumber);
+                final AccessMessage message = parseSegmentedAccessLowerTransportPDU(ttl, pdu, length, src, dst, ivIndex, sequenceNumber);
 
                 if (message != null) {
-                    final SparseArray<byte[]> segmentedMessages = segmentedAccessMessagesMessages.clone();
+                    final ByteArrayMap segmentedMessages = segmentedAccessMessagesMessages.clone();
                     segmentedAccessMessagesMessages = null;
                     message.setNetworkKey(key);
                     message.setIvIndex(MeshParserUtils.intToBytes(ivIndex));
@@ -337,26 +287,18 @@ abstract class NetworkLayer extends LowerTransportLayer {
                 return message;
 
             } else {
-
-                //Removing the mDst here
-                final byte[] pdu = ByteBuffer.allocate(2 + networkHeader.length + decryptedNetworkPayload.length)
-                        .order(ByteOrder.BIG_ENDIAN)
-                        .put(data, 0, 2)
-                        .put(networkHeader)
-                        .put(decryptedNetworkPayload)
-                        .array();
-                final AccessMessage message = parseUnsegmentedAccessLowerTransportPDU(pdu, ivIndex, sequenceNumber);
+                final AccessMessage message = parseUnsegmentedAccessLowerTransportPDU(pdu, length, src, ivIndex, sequenceNumber);
                 if (message == null)
                     return null;
                 message.setNetworkKey(key);
                 message.setIvIndex(MeshParserUtils.intToBytes(ivIndex));
-                final SparseArray<byte[]> pduArray = new SparseArray<>();
+                final ByteArrayMap pduArray = new ByteArrayMap();
                 pduArray.put(0, data);
                 message.setNetworkLayerPdu(pduArray);
                 message.setTtl(receivedTtl);
                 message.setSrc(src);
                 message.setDst(dst);
-                message.setSequenceNumber(sequenceNumber);
+                message.setSequenceNumber(MeshParserUtils.getSequenceNumberBytes(sequenceNumber));
                 parseUpperTransportPDU(message);
                 parseAccessLayerPDU(message);
                 return message;
@@ -369,33 +311,23 @@ abstract class NetworkLayer extends LowerTransportLayer {
     /**
      * Parses control message
      *
-     * @param key                     Network Key used to decrypt
-     * @param provisionerAddress      Provisioner address.
-     * @param data                    Data received from the node.
-     * @param networkHeader           De-obfuscated network header.
-     * @param decryptedNetworkPayload Decrypted network payload.
-     * @param src                     Source address where the pdu originated from.
-     * @param sequenceNumber          Sequence number of the received message.
+     * @param key                Network Key used to decrypt
+     * @param provisionerAddress Provisioner address.
+     * @param data               Data received from the node.
+     * @param decryptedPdu       De-obfuscated and decrypted PDU.
      * @return a complete {@link ControlMessage} or null if the message was unable to parsed
      */
     private ControlMessage parseControlMessage(@NonNull final NetworkKey key,
                                                @Nullable final Integer provisionerAddress,
                                                @NonNull final byte[] data,
-                                               @NonNull final byte[] networkHeader,
-                                               @NonNull final byte[] decryptedNetworkPayload,
-                                               final int src,
-                                               @NonNull final byte[] sequenceNumber) throws ExtendedInvalidCipherTextException {
+                                               @NonNull final NetworkPduReader decryptedPdu) throws ExtendedInvalidCipherTextException {
         try {
-            final int ttl = networkHeader[0] & 0x7F;
-            final int dst = MeshParserUtils.unsignedBytesToInt(decryptedNetworkPayload[1], decryptedNetworkPayload[0]);
-
-            //Removing the mDst here
-            final byte[] decryptedProxyPdu = ByteBuffer.allocate(2 + networkHeader.length + decryptedNetworkPayload.length)
-                    .order(ByteOrder.BIG_ENDIAN)
-                    .put(data, 0, 2)
-                    .put(networkHeader)
-                    .put(decryptedNetworkPayload)
-                    .array();
+            final int ttl = decryptedPdu.getTtl();
+            final int src = decryptedPdu.getSrc();
+            final int dst = decryptedPdu.getDst();
+            final int sequenceNumber = decryptedPdu.getSequenceNumber();
+            final byte[] decryptedProxyPdu = decryptedPdu.getBuffer();
+            final int length = decryptedPdu.getLength();
 
             //We check the pdu type
             final int pduType = data[0];
@@ -410,17 +342,18 @@ abstract class NetworkLayer extends LowerTransportLayer {
                     //Check if the message is directed to us, if its not ignore the message
                     if (provisionerAddress != dst) {
                         MeshLogger.verbose(TAG, "Received a control message that was not directed to us, so we drop it");
+                        MeshMetrics.NETWORK_DROPPED_NOT_ADDRESSED.increment();
                         return null;
                     }
 
-                    if (isSegmentedMessage(decryptedNetworkPayload[2])) {
-                        return parseSegmentedControlMessage(key, data, decryptedProxyPdu, ttl, src, dst);
+                    if (isSegmentedMessage(decryptedProxyPdu[NetworkPduReader.HEADER_LENGTH + 2])) {
+                        return parseSegmentedControlMessage(key, data, decryptedProxyPdu, length, ttl, src, dst, sequenceNumber);
                     } else {
-                        return parseUnsegmentedControlMessage(key, data, decryptedProxyPdu, ttl, src, dst, sequenceNumber);
+                        return parseUnsegmentedControlMessage(key, data, decryptedProxyPdu, length, ttl, src, dst, sequenceNumber);
                     }
                 case MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION:
                     //Proxy configuration messages are segmented only at the gatt level
-                    return parseUnsegmentedControlMessage(key, data, decryptedProxyPdu, ttl, src, dst, sequenceNumber);
+                    return parseUnsegmentedControlMessage(key, data, decryptedProxyPdu, length, ttl, src, dst, sequenceNumber);
                 default:
                     return null;
             }
@@ -435,6 +368,7 @@ abstract class NetworkLayer extends LowerTransportLayer {
      * @param key               Network Key used to decrypt
      * @param data              Received pdu data
      * @param decryptedProxyPdu Decrypted proxy pdu
+     * @param length            Length of the decrypted proxy pdu
      * @param ttl               TTL of the pdu
      * @param src               Source address where the pdu originated from
      * @param dst               Destination address to which the pdu was sent
@@ -444,22 +378,23 @@ abstract class NetworkLayer extends LowerTransportLayer {
     private ControlMessage parseUnsegmentedControlMessage(@NonNull final NetworkKey key,
                                                           @NonNull final byte[] data,
                                                           @NonNull final byte[] decryptedProxyPdu,
+                                                          final int length,
                                                           final int ttl,
                                                           final int src,
                                                           final int dst,
-                                                          @NonNull final byte[] sequenceNumber) throws ExtendedInvalidCipherTextException {
+                                                          final int sequenceNumber) throws ExtendedInvalidCipherTextException {
         final ControlMessage message = new ControlMessage();
         message.setNetworkKey(key);
         message.setIvIndex(mUpperTransportLayerCallbacks.getIvIndex());
-        final SparseArray<byte[]> proxyPduArray = new SparseArray<>();
+        final ByteArrayMap proxyPduArray = new ByteArrayMap();
         proxyPduArray.put(0, data);
         message.setNetworkLayerPdu(proxyPduArray);
         message.setTtl(ttl);
         message.setSrc(src);
         message.setDst(dst);
-        message.setSequenceNumber(sequenceNumber);
+        message.setSequenceNumber(MeshParserUtils.getSequenceNumberBytes(sequenceNumber));
         message.setSegmented(false);
-        parseUnsegmentedControlLowerTransportPDU(message, decryptedProxyPdu);
+        parseUnsegmentedControlLowerTransportPDU(message, decryptedProxyPdu, length);
 
         return message;
     }
@@ -470,23 +405,26 @@ abstract class NetworkLayer extends LowerTransportLayer {
      * @param key               Network Key used to decrypt
      * @param data              Received pdu data
      * @param decryptedProxyPdu Decrypted proxy pdu
+     * @param length            Length of the decrypted proxy pdu
      * @param ttl               TTL of the pdu
      * @param src               Source address where the pdu originated from
      * @param dst               Destination address to which the pdu was sent
+     * @param sequenceNumber    Sequence number of the pdu
      * @return a complete {@link ControlMessage} or null if the message was unable to parsed
      */
-    private ControlMessage parseSegmentedControlMessage(@NonNull final NetworkKey key, @NonNull final byte[] data, @NonNull final byte[] decryptedProxyPdu, final int ttl, final int src, final int dst) {
+    private ControlMessage parseSegmentedControlMessage(@NonNull final NetworkKey key, @NonNull final byte[] data, @NonNull final byte[] decryptedProxyPdu,
+                                                        final int length, final int ttl, final int src, final int dst, final int sequenceNumber) {
         if (segmentedControlMessagesMessages == null) {
-            segmentedControlMessagesMessages = new SparseArray<>();
+            segmentedControlMessagesMessages = new ByteArrayMap();
             segmentedControlMessagesMessages.put(0, data);
         } else {
             final int k = segmentedControlMessagesMessages.size();
             segmentedAccessMessagesMessages.put(k, data);
         }
 
-        final ControlMessage message = parseSegmentedControlLowerTransportPDU(decryptedProxyPdu);
+        final ControlMessage message = parseSegmentedControlLowerTransportPDU(decryptedProxyPdu, length, src, dst, sequenceNumber);
         if (message != null) {
-            final SparseArray<byte[]> segmentedMessages = segmentedControlMessagesMessages.clone();
+            final ByteArrayMap segmentedMessages = segmentedControlMessagesMessages.clone();
             segmentedControlMessagesMessages = null;
             message.setNetworkKey(key);
             message.setIvIndex(mUpperTransportLayerCallbacks.getIvIndex());
@@ -513,141 +451,4 @@ abstract class NetworkLayer extends LowerTransportLayer {
         }
         return networkKey.getTxDerivatives();
     }
-
-    /**
-     * Obfuscates the network header
-     *
-     * @param ctlTTL         Message type and ttl bit
-     * @param sequenceNumber Sequence number of the message
-     * @param src            Source address
-     * @param pecb           Value derived from the privacy random
-     * @return Obfuscated network header
-     */
-    private byte[] obfuscateNetworkHeader(final byte ctlTTL, @NonNull final byte[] sequenceNumber, final int src, @NonNull final byte[] pecb) {
-
-        final ByteBuffer buffer = ByteBuffer.allocate(1 + sequenceNumber.length + 2).order(ByteOrder.BIG_ENDIAN);
-        buffer.put(ctlTTL);
-        buffer.put(sequenceNumber);   //sequence number
-        buffer.putShort((short) src);       //source address
-
-        final byte[] headerBuffer = buffer.array();
-
-        final ByteBuffer bufferPECB = ByteBuffer.allocate(6);
-        bufferPECB.put(pecb, 0, 6);
-
-        final byte[] obfuscated = new byte[6];
-        for (int i = 0; i < 6; i++)
-            obfuscated[i] = (byte) (headerBuffer[i] ^ pecb[i]);
-
-        return obfuscated;
-    }
-
-    /**
-     * De-obfuscates the network header
-     *
-     * @param pdu Received from the node
-     * @return Obfuscated network header
-     */
-    static byte[] deObfuscateNetworkHeader(@NonNull final byte[] pdu,
-                                           @NonNull final byte[] ivIndex,
-                                           @NonNull final byte[] privacyKey) {
-        final ByteBuffer obfuscatedNetworkBuffer = ByteBuffer.allocate(6);
-        obfuscatedNetworkBuffer.order(ByteOrder.BIG_ENDIAN);
-        obfuscatedNetworkBuffer.put(pdu, 2, 6);
-        final byte[] obfuscatedData = obfuscatedNetworkBuffer.array();
-
-        final ByteBuffer privacyRandomBuffer = ByteBuffer.allocate(7);
-        privacyRandomBuffer.order(ByteOrder.BIG_ENDIAN);
-        privacyRandomBuffer.put(pdu, 8, 7);
-        final byte[] privacyRandom = createPrivacyRandom(privacyRandomBuffer.array());
-
-        final byte[] pecb = createPECB(ivIndex, privacyRandom, privacyKey);
-        final byte[] deObfuscatedData = new byte[6];
-
-        for (int i = 0; i < 6; i++)
-            deObfuscatedData[i] = (byte) (obfuscatedData[i] ^ pecb[i]);
-
-        return deObfuscatedData;
-    }
-
-    /**
-     * Creates the privacy random.
-     *
-     * @param encryptedUpperTransportPDU Encrypted transport pdu
-     * @return Privacy random
-     */
-    private static byte[] createPrivacyRandom(@NonNull final byte[] encryptedUpperTransportPDU) {
-        final byte[] privacyRandom = new byte[7];
-        System.arraycopy(encryptedUpperTransportPDU, 0, privacyRandom, 0, privacyRandom.length);
-        return privacyRandom;
-    }
-
-    private static byte[] createPECB(@NonNull final byte[] ivIndex, @NonNull final byte[] privacyRandom, @NonNull final byte[] privacyKey) {
-        final ByteBuffer buffer = ByteBuffer.allocate(5 + privacyRandom.length + ivIndex.length);
-        buffer.order(ByteOrder.BIG_ENDIAN);
-        buffer.put(new byte[]{0x00, 0x00, 0x00, 0x00, 0x00});
-        buffer.put(ivIndex);
-        buffer.put(privacyRandom);
-        final byte[] temp = buffer.array();
-        return SecureUtils.encryptWithAES(temp, privacyKey);
-    }
-
-    /**
-     * Creates the network nonce
-     *
-     * @param ctlTTL         Combined ctl and ttl value
-     * @param sequenceNumber Sequence number of the message
-     * @param src            Source address
-     * @return Network nonce
-     */
-    static byte[] createNetworkNonce(final byte ctlTTL, @NonNull final byte[] sequenceNumber, final int src, @NonNull final byte[] ivIndex) {
-        final ByteBuffer networkNonce = ByteBuffer.allocate(13);
-        networkNonce.put((byte) NONCE_TYPE_NETWORK); //Nonce type
-        networkNonce.put(ctlTTL); // CTL and TTL
-        networkNonce.put(sequenceNumber);
-        networkNonce.putShort((short) src);
-        networkNonce.put(new byte[]{PAD_NETWORK_NONCE, PAD_NETWORK_NONCE}); //PAD
-        networkNonce.put(ivIndex);
-        return networkNonce.array();
-    }
-
-    /**
-     * Creates the proxy nonce
-     *
-     * @param sequenceNumber Sequence number of the message
-     * @param src            Source address
-     * @return Proxy nonce
-     */
-    static byte[] createProxyNonce(@NonNull final byte[] sequenceNumber, final int src, @NonNull final byte[] ivIndex) {
-        final ByteBuffer applicationNonceBuffer = ByteBuffer.allocate(13);
-        applicationNonceBuffer.put((byte) NONCE_TYPE_PROXY); //Nonce type
-        applicationNonceBuffer.put((byte) PAD_PROXY_NONCE); //PAD
-        applicationNonceBuffer.put(sequenceNumber);
-        applicationNonceBuffer.putShort((short) src);
-        applicationNonceBuffer.put(new byte[]{PAD_PROXY_NONCE, PAD_PROXY_NONCE});
-        applicationNonceBuffer.put(ivIndex);
-        return applicationNonceBuffer.array();
-    }
-
-    /**
-     * Encrypts the pdu
-     *
-     * @param lowerTransportPdu lower transport pdu to be encrypted
-     * @param encryptionKey     Encryption key
-     * @param nonce             nonce depending on the pdu type
-     * @param dst               Destination address
-     * @param micLength         Message integrity check length
-     */
-    private byte[] encryptPdu(@NonNull final byte[] lowerTransportPdu,
-                              @NonNull final byte[] encryptionKey,
-                              @NonNull final byte[] nonce,
-                              final int dst,
-                              final int micLength) {
-        //Adding the destination address on network layer
-        final byte[] unencryptedNetworkPayload = ByteBuffer.allocate(2 + lowerTransportPdu.length).order(ByteOrder.BIG_ENDIAN)
-                .putShort((short) dst)
-                .put(lowerTransportPdu).array();
-        //Network layer encryption
-        return SecureUtils.encryptCCM(unencryptedNetworkPayload, encryptionKey, nonce, micLength);
-    }
 }
@@ -58,4 +58,15 @@ public interface NetworkLayerCallbacks {
      * Callback to retrieve the list of {@link NetworkKey} belonging to this network.
      */
     List<NetworkKey> getNetworkKeys();
+
+    /**
+     * Callback to check whether a decrypted network PDU has already been received, in which case it is dropped.
+     *
+     * @param ivIndex        IV Index the PDU was decrypted with
+     * @param src            source address of the PDU
+     * @param sequenceNumber sequence number of the PDU
+     */
+    default boolean isDuplicateNetworkPdu(final int ivIndex, final int src, final int sequenceNumber) {
+        return false;
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.spongycastle.crypto.InvalidCipherTextException;
+import org.spongycastle.crypto.engines.AESEngine;
+import org.spongycastle.crypto.engines.AESLightEngine;
+import org.spongycastle.crypto.modes.CCMBlockCipher;
+import org.spongycastle.crypto.params.AEADParameters;
+import org.spongycastle.crypto.params.KeyParameter;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.MeshManagerApi;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+import static no.nordicsemi.android.mesh.transport.UpperTransportLayer.NONCE_TYPE_NETWORK;
+import static no.nordicsemi.android.mesh.transport.UpperTransportLayer.NONCE_TYPE_PROXY;
+import static no.nordicsemi.android.mesh.transport.UpperTransportLayer.PAD_NETWORK_NONCE;
+import static no.nordicsemi.android.mesh.transport.UpperTransportLayer.PAD_PROXY_NONCE;
+
+/**
+ * De-obfuscates and decrypts received network PDUs in to a buffer that is reused for every PDU.
+ * <p>
+ * The buffer holds the PDU as the lower transport layer parses it: the PDU type, the IVI and NID byte, the
+ * de-obfuscated network header, the destination address and the decrypted lower transport PDU, without the network
+ * MIC. The header fields are also kept as primitives. The received PDU is only read, as it is kept in the message
+ * parsed from it. The contents of the buffer are valid until the next PDU is read, and instances are not thread safe,
+ * like the message handler that owns them.
+ * </p>
+ */
+final class NetworkPduReader {
+
+    /**
+     * Length of the PDU type, the IVI and NID byte and the network header, the offset of the destination address.
+     */
+    static final int HEADER_LENGTH = 2 + 6;
+    private static final int MIN_PDU_LENGTH = HEADER_LENGTH + 7; // The privacy random must be present
+    private static final int PRIVACY_RANDOM_LENGTH = 7;
+
+    private final CCMBlockCipher mCcm = new CCMBlockCipher(new AESEngine());
+    private final AESLightEngine mPrivacyEngine = new AESLightEngine();
+    private final byte[] mNonce = new byte[13];
+    private final byte[] mPecbInput = new byte[16];
+    private final byte[] mPecb = new byte[16];
+    private byte[] mBuffer = new byte[32];
+    private int mLength;
+    private int mIvIndex;
+    private int mCtlTtl;
+    private int mSequenceNumber;
+    private int mSrc;
+    private int mDst;
+
+    /**
+     * Returns true if a PDU is long enough to be de-obfuscated.
+     */
+    static boolean isValidLength(@NonNull final byte[] pdu) {
+        return pdu.length >= MIN_PDU_LENGTH;
+    }
+
+    /**
+     * De-obfuscates the network header of a received PDU.
+     *
+     * @param pdu        network or proxy configuration PDU, see {@link #isValidLength(byte[])}
+     * @param ivIndex    IV Index
+     * @param privacyKey privacy key of the network key matching the NID
+     */
+    void deObfuscate(@NonNull final byte[] pdu, final int ivIndex, @NonNull final byte[] privacyKey) {
+        if (mBuffer.length < pdu.length) {
+            mBuffer = new byte[pdu.length];
+        }
+        mIvIndex = ivIndex;
+        mLength = 0;
+        for (int i = 0; i < 5; i++) {
+            mPecbInput[i] = 0x00;
+        }
+        putInt(mPecbInput, 5, ivIndex);
+        System.arraycopy(pdu, HEADER_LENGTH, mPecbInput, 9, PRIVACY_RANDOM_LENGTH);
+        mPrivacyEngine.init(true, new KeyParameter(privacyKey));
+        mPrivacyEngine.processBlock(mPecbInput, 0, mPecb, 0);
+
+        mBuffer[0] = pdu[0];
+        mBuffer[1] = pdu[1];
+        for (int i = 0; i < 6; i++) {
+            mBuffer[2 + i] = (byte) (pdu[2 + i] ^ mPecb[i]);
+        }
+        mCtlTtl = mBuffer[2] & 0xFF;
+        mSequenceNumber = (mBuffer[3] & 0xFF) << 16 | (mBuffer[4] & 0xFF) << 8 | (mBuffer[5] & 0xFF);
+        mSrc = (mBuffer[6] & 0xFF) << 8 | (mBuffer[7] & 0xFF);
+    }
+
+    /**
+     * Decrypts the network payload of the PDU de-obfuscated last.
+     *
+     * @param pdu           PDU passed to {@link #deObfuscate(byte[], int, byte[])}
+     * @param encryptionKey encryption key of the network key matching the NID
+     * @throws InvalidCipherTextException if the network MIC does not match
+     */
+    void decrypt(@NonNull final byte[] pdu, @NonNull final byte[] encryptionKey) throws InvalidCipherTextException {
+        final boolean proxy = pdu[0] == MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION;
+        final byte pad = (byte) (proxy ? PAD_PROXY_NONCE : PAD_NETWORK_NONCE);
+        mNonce[0] = (byte) (proxy ? NONCE_TYPE_PROXY : NONCE_TYPE_NETWORK);
+        mNonce[1] = proxy ? pad : (byte) mCtlTtl;
+        System.arraycopy(mBuffer, 3, mNonce, 2, 5); // Sequence number and source address
+        mNonce[7] = pad;
+        mNonce[8] = pad;
+        putInt(mNonce, 9, mIvIndex);
+
+        final int micLength = SecureUtils.getNetMicLength(getCtl());
+        mCcm.init(false, new AEADParameters(new KeyParameter(encryptionKey), micLength * 8, mNonce));
+        mCcm.processBytes(pdu, HEADER_LENGTH, pdu.length - HEADER_LENGTH, mBuffer, HEADER_LENGTH);
+        mCcm.doFinal(mBuffer, HEADER_LENGTH);
+        mLength = pdu.length - micLength;
+        mDst = (mBuffer[HEADER_LENGTH] & 0xFF) << 8 | (mBuffer[HEADER_LENGTH + 1] & 0xFF);
+    }
+
+    /**
+     * Returns the buffer holding the PDU decrypted last, valid up to {@link #getLength()}.
+     */
+    @NonNull
+    byte[] getBuffer() {
+        return mBuffer;
+    }
+
+    /**
+     * Returns the length of the PDU decrypted last, or 0 if it has not been decrypted.
+     */
+    int getLength() {
+        return mLength;
+    }
+
+    int getPduType() {
+        return mBuffer[0];
+    }
+
+    int getIvIndex() {
+        return mIvIndex;
+    }
+
+    int getCtl() {
+        return (mCtlTtl >> 7) & 0x01;
+    }
+
+    int getTtl() {
+        return mCtlTtl & 0x7F;
+    }
+
+    int getSequenceNumber() {
+        return mSequenceNumber;
+    }
+
+    int getSrc() {
+        return mSrc;
+    }
+
+    /**
+     * Returns the destination address, available once the PDU has been decrypted.
+     */
+    int getDst() {
+        return mDst;
+    }
+
+    private static void putInt(@NonNull final byte[] buffer, final int offset, final int value) {
+        buffer[offset] = (byte) (value >> 24);
+        buffer[offset + 1] = (byte) (value >> 16);
+        buffer[offset + 2] = (byte) (value >> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+}
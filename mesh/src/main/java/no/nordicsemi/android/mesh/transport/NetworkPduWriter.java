@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.spongycastle.crypto.InvalidCipherTextException;
+import org.spongycastle.crypto.engines.AESEngine;
+import org.spongycastle.crypto.engines.AESLightEngine;
+import org.spongycastle.crypto.modes.CCMBlockCipher;
+import org.spongycastle.crypto.params.AEADParameters;
+import org.spongycastle.crypto.params.KeyParameter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import no.nordicsemi.android.mesh.MeshManagerApi;
+import no.nordicsemi.android.mesh.logger.MeshLogger;
+
+import static no.nordicsemi.android.mesh.transport.UpperTransportLayer.NONCE_TYPE_NETWORK;
+import static no.nordicsemi.android.mesh.transport.UpperTransportLayer.NONCE_TYPE_PROXY;
+import static no.nordicsemi.android.mesh.transport.UpperTransportLayer.PAD_NETWORK_NONCE;
+import static no.nordicsemi.android.mesh.transport.UpperTransportLayer.PAD_PROXY_NONCE;
+
+/**
+ * Encrypts and obfuscates network PDUs in place.
+ * <p>
+ * The nonce, the plain network payload and the privacy block are written to buffers that are reused for every PDU
+ * of a transfer, and the cipher instances are reused across transfers, so that the network PDU returned is the only
+ * array allocated per PDU. The keys and the IV Index are set once per transfer with
+ * {@link #begin(byte[], byte[], byte[])}. Instances are not thread safe, like the layers that own them.
+ * </p>
+ */
+final class NetworkPduWriter {
+
+    private static final String TAG = NetworkPduWriter.class.getSimpleName();
+    private static final int NONCE_LENGTH = 13;
+    private static final int HEADER_LENGTH = 2 + 6; // PDU type, IVI and NID, obfuscated header
+    private static final int PRIVACY_RANDOM_LENGTH = 7;
+
+    private final CCMBlockCipher mCcm = new CCMBlockCipher(new AESEngine());
+    private final AESLightEngine mPrivacyEngine = new AESLightEngine();
+    private final byte[] mNonce = new byte[NONCE_LENGTH];
+    private final byte[] mPecbInput = new byte[16];
+    private final byte[] mPecb = new byte[16];
+    private byte[] mPayload = new byte[2 + 16];
+    private KeyParameter mEncryptionKey;
+    private byte[] mIvIndex;
+
+    /**
+     * Sets the keys and the IV Index used for the PDUs of a transfer.
+     *
+     * @param encryptionKey network encryption key
+     * @param privacyKey    network privacy key
+     * @param ivIndex       IV Index
+     */
+    void begin(@NonNull final byte[] encryptionKey, @NonNull final byte[] privacyKey, @NonNull final byte[] ivIndex) {
+        mEncryptionKey = new KeyParameter(encryptionKey);
+        mPrivacyEngine.init(true, new KeyParameter(privacyKey));
+        mIvIndex = ivIndex;
+        // The PECB input is 5 bytes of padding, the IV Index and the privacy random
+        for (int i = 0; i < 5; i++) {
+            mPecbInput[i] = 0x00;
+        }
+        System.arraycopy(ivIndex, 0, mPecbInput, 5, 4);
+    }
+
+    /**
+     * Creates a network PDU.
+     *
+     * @param pduType           PDU type, network or proxy configuration
+     * @param iviNid            IVI and NID byte
+     * @param ctlTtl            CTL and TTL byte
+     * @param sequenceNumber    24-bit sequence number
+     * @param src               source address
+     * @param dst               destination address
+     * @param lowerTransportPdu lower transport PDU
+     * @param micLength         network MIC length
+     * @return the network PDU or null if it could not be encrypted
+     */
+    @Nullable
+    byte[] write(final int pduType,
+                 final byte iviNid,
+                 final byte ctlTtl,
+                 final int sequenceNumber,
+                 final int src,
+                 final int dst,
+                 @NonNull final byte[] lowerTransportPdu,
+                 final int micLength) {
+        final int payloadLength = 2 + lowerTransportPdu.length;
+        if (mPayload.length < payloadLength) {
+            mPayload = new byte[payloadLength];
+        }
+        mPayload[0] = (byte) (dst >> 8);
+        mPayload[1] = (byte) dst;
+        System.arraycopy(lowerTransportPdu, 0, mPayload, 2, lowerTransportPdu.length);
+
+        final boolean proxy = pduType == MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION;
+        final byte pad = (byte) (proxy ? PAD_PROXY_NONCE : PAD_NETWORK_NONCE);
+        mNonce[0] = (byte) (proxy ? NONCE_TYPE_PROXY : NONCE_TYPE_NETWORK);
+        mNonce[1] = proxy ? pad : ctlTtl;
+        mNonce[2] = (byte) (sequenceNumber >> 16);
+        mNonce[3] = (byte) (sequenceNumber >> 8);
+        mNonce[4] = (byte) sequenceNumber;
+        mNonce[5] = (byte) (src >> 8);
+        mNonce[6] = (byte) src;
+        mNonce[7] = pad;
+        mNonce[8] = pad;
+        System.arraycopy(mIvIndex, 0, mNonce, 9, 4);
+
+        final byte[] pdu = new byte[HEADER_LENGTH + payloadLength + micLength];
+        pdu[0] = (byte) pduType;
+        pdu[1] = iviNid;
+        mCcm.init(true, new AEADParameters(mEncryptionKey, micLength * 8, mNonce));
+        mCcm.processBytes(mPayload, 0, payloadLength, pdu, HEADER_LENGTH);
+        try {
+            mCcm.doFinal(pdu, HEADER_LENGTH);
+        } catch (InvalidCipherTextException e) {
+            MeshLogger.error(TAG, "Error wile encrypting: " + e.getMessage());
+            return null;
+        }
+
+        // The privacy random is the first 7 bytes of the encrypted payload
+        System.arraycopy(pdu, HEADER_LENGTH, mPecbInput, 9, PRIVACY_RANDOM_LENGTH);
+        mPrivacyEngine.processBlock(mPecbInput, 0, mPecb, 0);
+        pdu[2] = (byte) (ctlTtl ^ mPecb[0]);
+        pdu[3] = (byte) ((sequenceNumber >> 16) ^ mPecb[1]);
+        pdu[4] = (byte) ((sequenceNumber >> 8) ^ mPecb[2]);
+        pdu[5] = (byte) (sequenceNumber ^ mPecb[3]);
+        pdu[6] = (byte) ((src >> 8) ^ mPecb[4]);
+        pdu[7] = (byte) (src ^ mPecb[5]);
+        return pdu;
+    }
+}
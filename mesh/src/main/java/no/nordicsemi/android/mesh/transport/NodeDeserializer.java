@@ -143,9 +143,7 @@ public final class NodeDeserializer implements JsonSerializer<List<ProvisionedMe
 
             if (jsonObject.has("elements")) {
                 final List<Element> elements = deserializeElements(context, jsonObject);
-                final Map<Integer, Element> elementMap = populateElements(unicastAddress, elements);
-                node.mElements.clear();
-                node.mElements.putAll(elementMap);
+                node.setElements(populateElements(unicastAddress, elements));
             }
 
             if (jsonObject.has("blacklisted")) {
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import no.nordicsemi.android.mesh.OutboundQueueCallbacks;
+import no.nordicsemi.android.mesh.utils.IntHashSet;
+
+/**
+ * Queue of the network PDUs created by the library, delivered to the bearer by priority and at the pace the bearer
+ * can take them.
+ * <p>
+ * PDUs are delivered in the order of their priority class, segment acknowledgements and proxy configuration first,
+ * then application messages and last configuration messages, so that a control message is not held up by the
+ * segments of a composition data transfer. A PDU never overtakes an older PDU sent to the same node, or any older PDU
+ * when either is sent to a group or virtual address, as the node would then have seen a higher sequence number from
+ * the provisioner and discard the older PDU as a replay.
+ * </p>
+ * <p>
+ * Without pacing every PDU is delivered as soon as it is queued. With pacing, at most the given number of PDUs are
+ * delivered until the bearer reports them written with {@link #onPduSent()}, which matches the write without response
+ * credits of a GATT connection, and PDUs are delivered at least the given interval apart, which matches the
+ * connection interval. The queue is bounded by the callers checking {@link #isFull()} before creating a message, as
+ * the PDUs of a message that has been encrypted must all be sent.
+ * </p>
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public final class OutboundQueue {
+
+    public static final int PRIORITY_CONTROL = 0;
+    public static final int PRIORITY_INTERACTIVE = 1;
+    public static final int PRIORITY_BULK = 2;
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Node address used for PDUs that may be received by any node.
+     */
+    public static final int ANY_NODE = -1;
+
+    public interface PduSender {
+        void send(final int dst, @NonNull final byte[] pdu);
+    }
+
+    private static final class Entry {
+        final int dst;
+        final int node;
+        final int priority;
+        final byte[] pdu;
+
+        Entry(final int dst, final int node, final int priority, @NonNull final byte[] pdu) {
+            this.dst = dst;
+            this.node = node;
+            this.priority = priority;
+            this.pdu = pdu;
+        }
+    }
+
+    private final TransportScheduler mScheduler;
+    private final PduSender mSender;
+    private final int mCapacity;
+    private final List<Entry> mEntries = new ArrayList<>();
+    private final IntHashSet mNodes = new IntHashSet();
+    private final Runnable mDrainTask = this::onDrainTask;
+    private OutboundQueueCallbacks mListener;
+    private int mMaxInFlight;
+    private long mMinInterval;
+    private int mInFlight;
+    private long mLastSentAt = Long.MIN_VALUE;
+    private boolean mDraining;
+    private boolean mDrainScheduled;
+    private boolean mFull;
+
+    public OutboundQueue(@NonNull final TransportScheduler scheduler, @NonNull final PduSender sender) {
+        this(scheduler, sender, DEFAULT_CAPACITY);
+    }
+
+    public OutboundQueue(@NonNull final TransportScheduler scheduler, @NonNull final PduSender sender, final int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive");
+        mScheduler = scheduler;
+        mSender = sender;
+        mCapacity = capacity;
+    }
+
+    public synchronized void setListener(@Nullable final OutboundQueueCallbacks listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Sets the pace at which PDUs are delivered.
+     *
+     * @param maxInFlight maximum number of PDUs delivered and not yet reported with {@link #onPduSent()}, 0 for no limit
+     * @param minInterval minimum time between two PDUs in milliseconds, 0 for none
+     */
+    public synchronized void setPacing(final int maxInFlight, final long minInterval) {
+        if (maxInFlight < 0 || minInterval < 0)
+            throw new IllegalArgumentException("Pacing must not be negative");
+        mMaxInFlight = maxInFlight;
+        mMinInterval = minInterval;
+        mInFlight = 0;
+        drain();
+    }
+
+    /**
+     * Queues a PDU and delivers the PDUs the pacing allows.
+     *
+     * @param dst      destination address
+     * @param node     unicast address of the destination node, or {@link #ANY_NODE}
+     * @param priority priority class
+     * @param pdu      network PDU
+     */
+    public synchronized void enqueue(final int dst, final int node, final int priority, @NonNull final byte[] pdu) {
+        mEntries.add(new Entry(dst, node, priority, pdu));
+        if (!mFull && mEntries.size() >= mCapacity) {
+            mFull = true;
+            if (mListener != null) {
+                mListener.onOutboundQueueFull();
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Reports that a PDU delivered has been written to the bearer, returning a credit. Called by the mesh manager when
+     * the write of a network or proxy configuration PDU is reported through its write callbacks.
+     */
+    public synchronized void onPduSent() {
+        if (mInFlight > 0) {
+            mInFlight--;
+        }
+        drain();
+    }
+
+    /**
+     * Drops the PDUs queued and resets the credits, to be called when the bearer is closed.
+     */
+    public synchronized void clear() {
+        mEntries.clear();
+        mInFlight = 0;
+        if (mDrainScheduled) {
+            mScheduler.removeCallbacks(mDrainTask);
+            mDrainScheduled = false;
+        }
+        updateAvailability();
+    }
+
+    public synchronized boolean isFull() {
+        return mEntries.size() >= mCapacity;
+    }
+
+    public synchronized int size() {
+        return mEntries.size();
+    }
+
+    private synchronized void onDrainTask() {
+        mDrainScheduled = false;
+        drain();
+    }
+
+    private void drain() {
+        // A PDU sent synchronously by the bearer may report itself sent while being delivered
+        if (mDraining)
+            return;
+        mDraining = true;
+        try {
+            while (!mEntries.isEmpty()) {
+                if (mMaxInFlight > 0 && mInFlight >= mMaxInFlight)
+                    return;
+                if (mMinInterval > 0 && mLastSentAt != Long.MIN_VALUE) {
+                    final long wait = mLastSentAt + mMinInterval - mScheduler.currentTimeMillis();
+                    if (wait > 0) {
+                        if (!mDrainScheduled) {
+                            mDrainScheduled = true;
+                            mScheduler.postDelayed(mDrainTask, wait);
+                        }
+                        return;
+                    }
+                }
+                final Entry entry = mEntries.remove(select());
+                if (mMaxInFlight > 0) {
+                    mInFlight++;
+                }
+                mLastSentAt = mScheduler.currentTimeMillis();
+                updateAvailability();
+                mSender.send(entry.dst, entry.pdu);
+            }
+        } finally {
+            mDraining = false;
+        }
+    }
+
+    /**
+     * Returns the index of the PDU with the highest priority among those that do not have to wait for an older one.
+     */
+    private int select() {
+        int selected = 0;
+        int priority = Integer.MAX_VALUE;
+        mNodes.clear();
+        for (int i = 0; i < mEntries.size(); i++) {
+            final Entry entry = mEntries.get(i);
+            if (entry.node == ANY_NODE) {
+                if (i == 0) {
+                    selected = 0;
+                }
+                break;
+            }
+            if (mNodes.add(entry.node) && entry.priority < priority) {
+                selected = i;
+                priority = entry.priority;
+                if (priority == PRIORITY_CONTROL)
+                    break;
+            }
+        }
+        return selected;
+    }
+
+    private void updateAvailability() {
+        if (mFull && mEntries.size() <= mCapacity / 2) {
+            mFull = false;
+            if (mListener != null) {
+                mListener.onOutboundQueueAvailable();
+            }
+        }
+    }
+}
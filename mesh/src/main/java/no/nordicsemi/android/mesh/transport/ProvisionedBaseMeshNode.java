@@ -147,6 +147,8 @@ abstract class ProvisionedBaseMeshNode implements Parcelable {
     @TypeConverters(MeshTypeConverters.class)
     @Expose
     Map<Integer, Element> mElements = new LinkedHashMap<>();
+    @ColumnInfo(name = "element_count")
+    int elementCount;
     @ColumnInfo(name = "excluded")
     boolean excluded = false;
     @Ignore
@@ -214,6 +216,19 @@ abstract class ProvisionedBaseMeshNode implements Parcelable {
         return mElements.size();
     }
 
+    /**
+     * Returns the number of elements stored with the node, which allows nodes to be loaded without their elements.
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public final int getElementCount() {
+        return mElements.size();
+    }
+
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public final void setElementCount(final int elementCount) {
+        this.elementCount = elementCount;
+    }
+
     /**
      * Returns the unicast address used by the last element in the node
      */
@@ -28,11 +28,13 @@ import android.os.Parcel;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 import androidx.annotation.VisibleForTesting;
 import androidx.room.Entity;
@@ -42,6 +44,7 @@ import androidx.room.Index;
 import no.nordicsemi.android.mesh.ApplicationKey;
 import no.nordicsemi.android.mesh.Features;
 import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.MeshTypeConverters;
 import no.nordicsemi.android.mesh.NetworkKey;
 import no.nordicsemi.android.mesh.NodeKey;
 import no.nordicsemi.android.mesh.Provisioner;
@@ -77,6 +80,16 @@ public final class ProvisionedMeshNode extends ProvisionedBaseMeshNode {
         }
     };
 
+    /**
+     * Index of (element address, model id) to {@link MeshModel}, built on first lookup and invalidated when the elements change.
+     */
+    @Ignore
+    private transient Map<Long, MeshModel> mModelIndex;
+    @Ignore
+    private transient int mModelIndexGeneration;
+    @Ignore
+    private final transient ElementMapView mElementsView = new ElementMapView(this);
+
     @VisibleForTesting(otherwise = VisibleForTesting.PROTECTED)
     @RestrictTo(RestrictTo.Scope.LIBRARY)
     public ProvisionedMeshNode() {
@@ -205,8 +218,12 @@ public final class ProvisionedMeshNode extends ProvisionedBaseMeshNode {
         return 0;
     }
 
+    /**
+     * Returns the elements of this node, keyed by element address. Elements added or removed through the returned map
+     * are added to or removed from the node.
+     */
     public Map<Integer, Element> getElements() {
-        return mElements;
+        return mElementsView;
     }
 
     /**
@@ -216,18 +233,77 @@ public final class ProvisionedMeshNode extends ProvisionedBaseMeshNode {
      * @return if this address is the address of an element
      */
     public boolean hasUnicastAddress(final int unicastAddress) {
-        if (unicastAddress == getUnicastAddress())
-            return true;
-        for (Element element : mElements.values()) {
-            if (element.getElementAddress() == unicastAddress)
-                return true;
-        }
-        return false;
+        return unicastAddress == getUnicastAddress() || mElements.containsKey(unicastAddress);
     }
 
     @RestrictTo(RestrictTo.Scope.LIBRARY)
     public void setElements(final Map<Integer, Element> elements) {
         mElements = elements;
+        invalidateModelIndex();
+    }
+
+    /**
+     * Replaces the elements of a node loaded without its elements by a stub that fetches them through the given cache
+     * on first access. The elements of a node stored without an element count are fetched right away.
+     *
+     * @param cache Element cache of the network
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public void setElementStub(@NonNull final ElementCache cache) {
+        if (elementCount > 0) {
+            setElements(new LazyElementMap(uuid, unicastAddress, elementCount, cache));
+        } else {
+            final Map<Integer, Element> elements = MeshTypeConverters.fromBlobToElements(cache.load(uuid));
+            setElements(elements == null ? new LinkedHashMap<>() : elements);
+        }
+    }
+
+    /**
+     * Adds or replaces an element of this node.
+     *
+     * @param element Element
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public void putElement(@NonNull final Element element) {
+        mElements.put(element.getElementAddress(), element);
+        invalidateModelIndex();
+    }
+
+    /**
+     * Returns the model with the given model identifier from the element with the given address.
+     *
+     * @param elementAddress Element address
+     * @param modelId        Model identifier
+     * @return {@link MeshModel} or null if the node does not contain such a model
+     */
+    @Nullable
+    public MeshModel getMeshModel(final int elementAddress, final int modelId) {
+        Map<Long, MeshModel> index = mModelIndex;
+        // Models of released elements are no longer part of the node
+        final int generation = mElements instanceof LazyElementMap ? ((LazyElementMap) mElements).getGeneration() : 0;
+        if (index == null || generation != mModelIndexGeneration) {
+            index = new HashMap<>();
+            for (Map.Entry<Integer, Element> elementEntry : mElements.entrySet()) {
+                for (Map.Entry<Integer, MeshModel> modelEntry : elementEntry.getValue().meshModels.entrySet()) {
+                    index.put(getModelKey(elementEntry.getKey(), modelEntry.getKey()), modelEntry.getValue());
+                }
+            }
+            mModelIndex = index;
+            mModelIndexGeneration = generation;
+        }
+        return index.get(getModelKey(elementAddress, modelId));
+    }
+
+    /**
+     * Invalidates the model index, must be called whenever the elements or the models of this node are replaced.
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    void invalidateModelIndex() {
+        mModelIndex = null;
+    }
+
+    private static long getModelKey(final int elementAddress, final int modelId) {
+        return ((long) elementAddress << 32) | (modelId & 0xFFFFFFFFL);
     }
 
     public byte[] getDeviceKey() {
@@ -507,6 +583,7 @@ public final class ProvisionedMeshNode extends ProvisionedBaseMeshNode {
                 proxyFeatureSupported ? Features.DISABLED : Features.UNSUPPORTED,
                 relayFeatureSupported ? Features.DISABLED : Features.UNSUPPORTED);
         mElements.putAll(configCompositionDataStatus.getElements());
+        invalidateModelIndex();
     }
 
     /**
@@ -517,14 +594,10 @@ public final class ProvisionedMeshNode extends ProvisionedBaseMeshNode {
     void setAppKeyBindStatus(
             @NonNull final ConfigModelAppStatus configModelAppStatus) {
         if (configModelAppStatus.isSuccessful()) {
-            final Element element = mElements.get(configModelAppStatus.getElementAddress());
-            if (element != null) {
-                final int modelIdentifier = configModelAppStatus.getModelIdentifier();
-                final MeshModel model = element.getMeshModels().get(modelIdentifier);
-                if (model != null) {
-                    final int appKeyIndex = configModelAppStatus.getAppKeyIndex();
-                    model.setBoundAppKeyIndex(appKeyIndex);
-                }
+            final MeshModel model = getMeshModel(configModelAppStatus.getElementAddress(), configModelAppStatus.getModelIdentifier());
+            if (model != null) {
+                final int appKeyIndex = configModelAppStatus.getAppKeyIndex();
+                model.setBoundAppKeyIndex(appKeyIndex);
             }
         }
     }
@@ -537,14 +610,10 @@ public final class ProvisionedMeshNode extends ProvisionedBaseMeshNode {
     void setAppKeyUnbindStatus(
             @NonNull final ConfigModelAppStatus configModelAppStatus) {
         if (configModelAppStatus.isSuccessful()) {
-            final Element element = mElements.get(configModelAppStatus.getElementAddress());
-            if (element != null) {
-                final int modelIdentifier = configModelAppStatus.getModelIdentifier();
-                final MeshModel model = element.getMeshModels().get(modelIdentifier);
+            final MeshModel model = getMeshModel(configModelAppStatus.getElementAddress(), configModelAppStatus.getModelIdentifier());
+            if (model != null) {
                 final int appKeyIndex = configModelAppStatus.getAppKeyIndex();
-                if (model != null) {
-                    model.removeBoundAppKeyIndex(appKeyIndex);
-                }
+                model.removeBoundAppKeyIndex(appKeyIndex);
             }
         }
     }
@@ -564,6 +633,15 @@ public final class ProvisionedMeshNode extends ProvisionedBaseMeshNode {
         mSeqAuth.put(src, seqAuth);
     }
 
+    /**
+     * Forgets the SeqAuth values received from the node, so that messages with lower sequence numbers are accepted
+     * again, such as when replaying a captured trace.
+     */
+    @RestrictTo(RestrictTo.Scope.LIBRARY)
+    public void clearSeqAuth() {
+        mSeqAuth.clear();
+    }
+
     public Integer getSeqAuth(final int src) {
         if (mSeqAuth.size() == 0) {
             return null;
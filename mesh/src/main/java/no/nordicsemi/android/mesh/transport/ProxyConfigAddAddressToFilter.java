@@ -29,7 +29,7 @@ public class ProxyConfigAddAddressToFilter extends ProxyConfigMessage {
     void assembleMessageParameters() throws IllegalArgumentException {
         if(addresses.isEmpty())
             throw new IllegalArgumentException("Address list cannot be empty!");
-        final int length = (int) Math.pow(2 , addresses.size());
+        final int length = 2 * addresses.size();
         mParameters = new byte[length];
         int count = 0;
         for (AddressArray addressArray : addresses) {
@@ -35,4 +35,11 @@ public class ProxyConfigSetFilterType extends ProxyConfigMessage {
     byte[] getParameters() {
         return mParameters;
     }
+
+    /**
+     * Returns the filter type set by the proxy configuration
+     */
+    public ProxyFilterType getFilterType() {
+        return filterType;
+    }
 }
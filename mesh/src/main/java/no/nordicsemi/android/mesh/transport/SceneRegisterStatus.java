@@ -49,7 +49,7 @@ public final class SceneRegisterStatus extends ApplicationStatusMessage implemen
     private static final Creator<SceneRegisterStatus> CREATOR = new Creator<SceneRegisterStatus>() {
         @Override
         public SceneRegisterStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SceneRegisterStatus(message);
         }
 
@@ -68,7 +68,6 @@ public final class SceneRegisterStatus extends ApplicationStatusMessage implemen
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -100,10 +99,12 @@ public final class SceneRegisterStatus extends ApplicationStatusMessage implemen
      * @return true if on and false other wise
      */
     public final int getStatus() {
+        ensureParsed();
         return mStatus;
     }
 
     public boolean isSuccessful() {
+        ensureParsed();
         return mStatus == 0x00;
     }
 
@@ -113,6 +114,7 @@ public final class SceneRegisterStatus extends ApplicationStatusMessage implemen
      * @return true if on and false other wise
      */
     public final int getCurrentScene() {
+        ensureParsed();
         return mCurrentScene;
     }
 
@@ -122,6 +124,7 @@ public final class SceneRegisterStatus extends ApplicationStatusMessage implemen
      * @return scene list
      */
     public ArrayList<Integer> getSceneList() {
+        ensureParsed();
         return mSceneList;
     }
 
@@ -132,7 +135,6 @@ public final class SceneRegisterStatus extends ApplicationStatusMessage implemen
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
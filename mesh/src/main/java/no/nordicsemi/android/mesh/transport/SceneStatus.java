@@ -53,7 +53,7 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
     private static final Creator<SceneStatus> CREATOR = new Creator<SceneStatus>() {
         @Override
         public SceneStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SceneStatus(message);
         }
 
@@ -72,7 +72,6 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -107,6 +106,7 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
      * @return true if on and false other wise
      */
     public final int getStatus() {
+        ensureParsed();
         return mStatusCode;
     }
 
@@ -114,6 +114,7 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
      * Returns true if the message was successful.
      */
     public final boolean isSuccessful() {
+        ensureParsed();
         return mStatusCode == 0;
     }
 
@@ -123,6 +124,7 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
      * @return true if on and false other wise
      */
     public final int getCurrentScene() {
+        ensureParsed();
         return mCurrentScene;
     }
 
@@ -132,6 +134,7 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
      * @return true if on and false other wise
      */
     public final Integer getTargetScene() {
+        ensureParsed();
         return mTargetScene;
     }
 
@@ -141,6 +144,7 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
      * @return transition steps
      */
     public int getTransitionSteps() {
+        ensureParsed();
         return mTransitionSteps;
     }
 
@@ -150,6 +154,7 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
      * @return transition resolution
      */
     public int getTransitionResolution() {
+        ensureParsed();
         return mTransitionResolution;
     }
 
@@ -160,7 +165,6 @@ public final class SceneStatus extends ApplicationStatusMessage implements Parce
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -26,8 +26,7 @@ public class SchedulerActionStatus extends ApplicationStatusMessage implements P
     private static final Creator<SchedulerActionStatus> CREATOR = new Creator<SchedulerActionStatus>() {
         @Override
         public SchedulerActionStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SchedulerActionStatus(message);
         }
 
@@ -45,7 +44,6 @@ public class SchedulerActionStatus extends ApplicationStatusMessage implements P
     public SchedulerActionStatus(@NonNull AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -55,8 +53,7 @@ public class SchedulerActionStatus extends ApplicationStatusMessage implements P
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     @Override
@@ -86,6 +83,7 @@ public class SchedulerActionStatus extends ApplicationStatusMessage implements P
      * Enumerates (selects) a Schedule Register entry
      */
     public int getIndex() {
+        ensureParsed();
         return index;
     }
 
@@ -93,6 +91,7 @@ public class SchedulerActionStatus extends ApplicationStatusMessage implements P
      * Bit field defining an entry in the Schedule Register
      */
     public ScheduleEntry getEntry() {
+        ensureParsed();
         return entry;
     }
 }
@@ -22,8 +22,7 @@ public class SchedulerStatus extends ApplicationStatusMessage implements Parcela
     private static final Creator<SchedulerStatus> CREATOR = new Creator<SchedulerStatus>() {
         @Override
         public SchedulerStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SchedulerStatus(message);
         }
 
@@ -41,7 +40,6 @@ public class SchedulerStatus extends ApplicationStatusMessage implements Parcela
     public SchedulerStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -62,6 +60,7 @@ public class SchedulerStatus extends ApplicationStatusMessage implements Parcela
      * Each bit of the Schedules field set to 1 identifies a corresponding entry of the Schedule Register
      */
     public int getSchedules() {
+        ensureParsed();
         return schedules;
     }
 
@@ -72,7 +71,6 @@ public class SchedulerStatus extends ApplicationStatusMessage implements Parcela
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 }
@@ -42,7 +42,7 @@ public final class SensorCadenceStatus extends SensorMessage implements Parcelab
     private static final Creator<SensorCadenceStatus> CREATOR = new Creator<SensorCadenceStatus>() {
         @Override
         public SensorCadenceStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SensorCadenceStatus(message);
         }
 
@@ -61,7 +61,6 @@ public final class SensorCadenceStatus extends SensorMessage implements Parcelab
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -83,11 +82,11 @@ public final class SensorCadenceStatus extends SensorMessage implements Parcelab
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     public SensorCadence getCadence() {
+        ensureParsed();
         return cadence;
     }
 
@@ -46,7 +46,7 @@ public final class SensorColumnStatus extends ApplicationStatusMessage implement
     private static final Creator<SensorColumnStatus> CREATOR = new Creator<SensorColumnStatus>() {
         @Override
         public SensorColumnStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SensorColumnStatus(message);
         }
 
@@ -65,7 +65,6 @@ public final class SensorColumnStatus extends ApplicationStatusMessage implement
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -89,18 +88,19 @@ public final class SensorColumnStatus extends ApplicationStatusMessage implement
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
      * Returns the Property ID
      */
     public DeviceProperty getPropertyId() {
+        ensureParsed();
         return propertyId;
     }
 
     public byte[] getResult() {
+        ensureParsed();
         return result;
     }
 }
@@ -50,7 +50,7 @@ public final class SensorDescriptorStatus extends ApplicationStatusMessage imple
     private static final Creator<SensorDescriptorStatus> CREATOR = new Creator<SensorDescriptorStatus>() {
         @Override
         public SensorDescriptorStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SensorDescriptorStatus(message);
         }
 
@@ -69,7 +69,6 @@ public final class SensorDescriptorStatus extends ApplicationStatusMessage imple
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -106,6 +105,7 @@ public final class SensorDescriptorStatus extends ApplicationStatusMessage imple
     }
 
     protected DescriptorStatusResult getResult() {
+        ensureParsed();
         return result;
     }
 
@@ -122,8 +122,7 @@ public final class SensorDescriptorStatus extends ApplicationStatusMessage imple
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     public class PropertyNotFound implements DescriptorStatusResult {
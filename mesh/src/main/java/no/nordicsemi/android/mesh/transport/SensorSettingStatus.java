@@ -48,7 +48,7 @@ public final class SensorSettingStatus extends ApplicationStatusMessage implemen
     private static final Creator<SensorSettingStatus> CREATOR = new Creator<SensorSettingStatus>() {
         @Override
         public SensorSettingStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SensorSettingStatus(message);
         }
 
@@ -67,7 +67,6 @@ public final class SensorSettingStatus extends ApplicationStatusMessage implemen
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -93,14 +92,14 @@ public final class SensorSettingStatus extends ApplicationStatusMessage implemen
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
      * Returns the Property ID
      */
     public DeviceProperty getPropertyId() {
+        ensureParsed();
         return propertyId;
     }
 
@@ -108,6 +107,7 @@ public final class SensorSettingStatus extends ApplicationStatusMessage implemen
      * Returns the sensor setting property ID.
      */
     public DeviceProperty getSensorSettingPropertyId() {
+        ensureParsed();
         return sensorSettingPropertyId;
     }
 
@@ -115,6 +115,7 @@ public final class SensorSettingStatus extends ApplicationStatusMessage implemen
      * Returns the sensor setting access.
      */
     public SensorSettingAccess getSensorSettingAccess() {
+        ensureParsed();
         return sensorSettingAccess;
     }
 
@@ -122,6 +123,7 @@ public final class SensorSettingStatus extends ApplicationStatusMessage implemen
      * Returns the sensor setting.
      */
     public DevicePropertyCharacteristic<?> getSensorSetting() {
+        ensureParsed();
         return sensorSetting;
     }
 }
@@ -44,7 +44,7 @@ public final class SensorSettingsStatus extends ApplicationStatusMessage impleme
     private static final Creator<SensorSettingsStatus> CREATOR = new Creator<SensorSettingsStatus>() {
         @Override
         public SensorSettingsStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SensorSettingsStatus(message);
         }
 
@@ -63,7 +63,6 @@ public final class SensorSettingsStatus extends ApplicationStatusMessage impleme
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -92,14 +91,14 @@ public final class SensorSettingsStatus extends ApplicationStatusMessage impleme
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     /**
      * Returns the Property ID
      */
     public DeviceProperty getPropertyId() {
+        ensureParsed();
         return propertyId;
     }
 
@@ -107,6 +106,7 @@ public final class SensorSettingsStatus extends ApplicationStatusMessage impleme
      * Returns an array of Sensor Setting Property IDs.
      */
     public DeviceProperty[] getSensorSettingPropertyIds() {
+        ensureParsed();
         return sensorSettingPropertyId;
     }
 }
@@ -49,7 +49,7 @@ public final class SensorStatus extends ApplicationStatusMessage implements Parc
     private static final Creator<SensorStatus> CREATOR = new Creator<SensorStatus>() {
         @Override
         public SensorStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new SensorStatus(message);
         }
 
@@ -68,7 +68,6 @@ public final class SensorStatus extends ApplicationStatusMessage implements Parc
         super(message);
         this.mMessage = message;
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -117,11 +116,11 @@ public final class SensorStatus extends ApplicationStatusMessage implements Parc
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     public ArrayList<MarshalledSensorData> getMarshalledSensorData() {
+        ensureParsed();
         return marshalledSensorDataList;
     }
 }
@@ -19,8 +19,7 @@ public class TimeStatus extends ApplicationStatusMessage implements Parcelable {
     private static final Creator<TimeStatus> CREATOR = new Creator<TimeStatus>() {
         @Override
         public TimeStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
-            //noinspection ConstantConditions
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new TimeStatus(message);
         }
 
@@ -41,7 +40,6 @@ public class TimeStatus extends ApplicationStatusMessage implements Parcelable {
     public TimeStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
 
@@ -78,37 +76,42 @@ public class TimeStatus extends ApplicationStatusMessage implements Parcelable {
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     @Nullable
     public Integer getTaiSeconds() {
+        ensureParsed();
         return taiSeconds;
     }
 
     @Nullable
     public Byte getSubSecond() {
+        ensureParsed();
         return subSecond;
     }
 
     @Nullable
     public Byte getUncertainty() {
+        ensureParsed();
         return uncertainty;
     }
 
     @Nullable
     public Boolean isTimeAuthority() {
+        ensureParsed();
         return timeAuthority;
     }
 
     @Nullable
     public Short getUtcDelta() {
+        ensureParsed();
         return utcDelta;
     }
 
     @Nullable
     public Byte getTimeZoneOffset() {
+        ensureParsed();
         return timeZoneOffset;
     }
 
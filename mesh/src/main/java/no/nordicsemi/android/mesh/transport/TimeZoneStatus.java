@@ -27,7 +27,7 @@ public final class TimeZoneStatus extends ApplicationStatusMessage implements Pa
     private static final Parcelable.Creator<TimeZoneStatus> CREATOR = new Parcelable.Creator<TimeZoneStatus>() {
         @Override
         public TimeZoneStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             return new TimeZoneStatus(message);
         }
 
@@ -45,7 +45,6 @@ public final class TimeZoneStatus extends ApplicationStatusMessage implements Pa
     public TimeZoneStatus(@NonNull final AccessMessage message) {
         super(message);
         this.mParameters = message.getParameters();
-        parseStatusParameters();
     }
 
     @Override
@@ -55,8 +54,7 @@ public final class TimeZoneStatus extends ApplicationStatusMessage implements Pa
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
     }
 
     @Override
@@ -85,6 +83,7 @@ public final class TimeZoneStatus extends ApplicationStatusMessage implements Pa
      */
     @NonNull
     public TimeZoneOffset getCurrentTimeZoneOffset() {
+        ensureParsed();
         return currentTimeZoneOffset;
     }
 
@@ -95,6 +94,7 @@ public final class TimeZoneStatus extends ApplicationStatusMessage implements Pa
      */
     @NonNull
     public TimeZoneOffset getNewTimeZoneOffset() {
+        ensureParsed();
         return newTimeZoneOffset;
     }
 
@@ -104,6 +104,7 @@ public final class TimeZoneStatus extends ApplicationStatusMessage implements Pa
      * @return TAI in seconds
      */
     public long getTimeOfChange() {
+        ensureParsed();
         return timeOfChange;
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Clock and timer source used by the transport layers.
+ * <p>
+ * On Android the timers run on the main looper, see {@link HandlerScheduler}. Other implementations allow the
+ * transport layers to run on a plain JVM, for example with a virtual clock in tests and load simulations.
+ * </p>
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public interface TransportScheduler {
+
+    /**
+     * Returns the current time in milliseconds.
+     */
+    long currentTimeMillis();
+
+    /**
+     * Runs the task once the given delay has elapsed.
+     *
+     * @param task  task to run
+     * @param delay delay in milliseconds
+     */
+    void postDelayed(@NonNull final Runnable task, final long delay);
+
+    /**
+     * Removes any pending runs of the given task.
+     *
+     * @param task task to remove
+     */
+    void removeCallbacks(@NonNull final Runnable task);
+
+    /**
+     * Removes all pending tasks posted to this scheduler.
+     */
+    void removeAllCallbacks();
+}
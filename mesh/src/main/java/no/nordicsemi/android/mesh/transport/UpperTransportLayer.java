@@ -189,8 +189,8 @@ abstract class UpperTransportLayer extends AccessLayer {
                     break;
                 case MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION:
                     final ControlMessage controlMessage = (ControlMessage) message;
-                    if (controlMessage.getLowerTransportControlPdu().size() == 1) {
-                        final byte[] lowerTransportControlPdu = controlMessage.getLowerTransportControlPdu().get(0);
+                    if (controlMessage.getLowerTransportControlPduMap().size() == 1) {
+                        final byte[] lowerTransportControlPdu = controlMessage.getLowerTransportControlPduMap().get(0);
                         final ByteBuffer buffer = ByteBuffer.wrap(lowerTransportControlPdu)
                                 .order(ByteOrder.BIG_ENDIAN);
                         message.setOpCode(buffer.get());
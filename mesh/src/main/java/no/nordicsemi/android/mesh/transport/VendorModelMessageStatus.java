@@ -41,7 +41,7 @@ public final class VendorModelMessageStatus extends ApplicationStatusMessage imp
     public static final Creator<VendorModelMessageStatus> CREATOR = new Creator<VendorModelMessageStatus>() {
         @Override
         public VendorModelMessageStatus createFromParcel(Parcel in) {
-            final AccessMessage message = in.readParcelable(AccessMessage.class.getClassLoader());
+            final AccessMessage message = AccessMessage.createStatusFromParcel(in);
             final int modelIdentifier = in.readInt();
             return new VendorModelMessageStatus(message, modelIdentifier);
         }
@@ -62,7 +62,6 @@ public final class VendorModelMessageStatus extends ApplicationStatusMessage imp
         super(message);
         this.mParameters = message.getParameters();
         this.mModelIdentifier = modelIdentifier;
-        parseStatusParameters();
     }
 
     @Override
@@ -86,12 +85,12 @@ public final class VendorModelMessageStatus extends ApplicationStatusMessage imp
 
     @Override
     public void writeToParcel(final Parcel dest, final int flags) {
-        final AccessMessage message = (AccessMessage) mMessage;
-        dest.writeParcelable(message, flags);
+        ((AccessMessage) mMessage).writeStatusToParcel(dest);
         dest.writeInt(mModelIdentifier);
     }
 
     public final byte[] getAccessPayload() {
+        ensureParsed();
         return ((AccessMessage) mMessage).getAccessPdu();
     }
 
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+import java.nio.charset.Charset;
+import java.util.UUID;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Reads the data written by {@link BlobWriter}.
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public final class BlobReader {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final byte[] buf;
+    private int index;
+
+    /**
+     * Constructs a new blob reader.
+     *
+     * @param buf data to be read
+     */
+    public BlobReader(@NonNull final byte[] buf) {
+        this.buf = buf;
+    }
+
+    /**
+     * Returns true if there are bytes left to be read.
+     */
+    public boolean hasRemaining() {
+        return index < buf.length;
+    }
+
+    /**
+     * Reads a single unsigned byte.
+     *
+     * @throws IllegalArgumentException if the end of the data has been reached
+     */
+    public int readByte() {
+        checkRemaining(1);
+        return buf[index++] & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned variable length integer written by {@link BlobWriter#writeVarInt(int)}.
+     *
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    /**
+     * Reads an unsigned variable length integer written by {@link BlobWriter#writeVarLong(long)}.
+     *
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length integer at " + index);
+    }
+
+    /**
+     * Reads a nullable string written by {@link BlobWriter#writeString(String)}.
+     */
+    @Nullable
+    public String readString() {
+        final int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        checkRemaining(length - 1);
+        final String value = new String(buf, index, length - 1, UTF_8);
+        index += length - 1;
+        return value;
+    }
+
+    /**
+     * Reads a UUID written by {@link BlobWriter#writeUuid(UUID)}.
+     */
+    @NonNull
+    public UUID readUuid() {
+        return new UUID(readLong(), readLong());
+    }
+
+    private long readLong() {
+        checkRemaining(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buf[index++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void checkRemaining(final int length) {
+        if (length < 0 || index + length > buf.length) {
+            throw new IllegalArgumentException("Unexpected end of data, required " + length + " bytes at " + index);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.UUID;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Writes a compact binary representation of the data stored in the database.
+ * <p>
+ * Integers are written as unsigned LEB128 variable length integers, so that small values such as key indexes and
+ * model identifiers only take one to three bytes. See {@link BlobReader} for reading the data back.
+ * </p>
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public final class BlobWriter {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private byte[] buf;
+    private int index;
+
+    /**
+     * Constructs a new blob writer.
+     */
+    public BlobWriter() {
+        this(64);
+    }
+
+    /**
+     * Constructs a new blob writer with the given initial buffer size.
+     */
+    public BlobWriter(final int size) {
+        buf = new byte[Math.max(size, 1)];
+    }
+
+    /**
+     * Writes a single byte.
+     */
+    public void writeByte(final int value) {
+        ensureCapacity(1);
+        buf[index++] = (byte) value;
+    }
+
+    /**
+     * Writes the given value as an unsigned variable length integer. Negative values are written as their unsigned
+     * 32-bit representation.
+     */
+    public void writeVarInt(final int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Writes the given non negative value as an unsigned variable length integer.
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[index++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[index++] = (byte) value;
+    }
+
+    /**
+     * Writes a nullable UTF-8 string prefixed by its length.
+     */
+    public void writeString(@Nullable final String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        final byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Writes a UUID as 16 raw bytes.
+     */
+    public void writeUuid(final UUID uuid) {
+        ensureCapacity(16);
+        writeLong(uuid.getMostSignificantBits());
+        writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private void writeLong(final long value) {
+        for (int i = 7; i >= 0; i--) {
+            buf[index++] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private void writeBytes(final byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buf, index, bytes.length);
+        index += bytes.length;
+    }
+
+    private void ensureCapacity(final int length) {
+        if (index + length > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, index + length));
+        }
+    }
+
+    /**
+     * Gets an array containing all bytes written thus far.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, index);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Maps integer keys, such as segment offsets, to byte arrays.
+ * <p>
+ * This is a plain Java replacement for {@code SparseArray<byte[]>} used by the transport layers, so that the PDU
+ * pipeline does not depend on the Android framework. Keys are kept sorted, {@link #keyAt(int)} and
+ * {@link #valueAt(int)} iterate in ascending key order.
+ * </p>
+ */
+public final class ByteArrayMap implements Cloneable {
+
+    private int[] keys;
+    private byte[][] values;
+    private int size;
+
+    /**
+     * Constructs an empty map.
+     */
+    public ByteArrayMap() {
+        this(4);
+    }
+
+    /**
+     * Constructs an empty map with the given initial capacity.
+     */
+    public ByteArrayMap(final int capacity) {
+        keys = new int[Math.max(capacity, 1)];
+        values = new byte[keys.length][];
+    }
+
+    /**
+     * Returns the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value mapped to the key or null if there is no such mapping.
+     */
+    @Nullable
+    public byte[] get(final int key) {
+        final int index = Arrays.binarySearch(keys, 0, size, key);
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * Maps the value to the key, replacing any previous value.
+     */
+    public void put(final int key, @Nullable final byte[] value) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        index = ~index;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * Removes the mapping of the key, if any.
+     */
+    public void remove(final int key) {
+        final int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            values[--size] = null;
+        }
+    }
+
+    /**
+     * Returns the key at the given index, in ascending key order.
+     */
+    public int keyAt(final int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    /**
+     * Returns the value at the given index, in ascending key order.
+     */
+    @Nullable
+    public byte[] valueAt(final int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns a shallow copy of this map, the byte arrays are not copied.
+     */
+    @NonNull
+    @Override
+    public ByteArrayMap clone() {
+        try {
+            final ByteArrayMap clone = (ByteArrayMap) super.clone();
+            clone.keys = keys.clone();
+            clone.values = values.clone();
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException(index);
+    }
+}
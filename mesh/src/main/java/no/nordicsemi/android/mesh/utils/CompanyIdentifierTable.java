@@ -0,0 +1,950 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+/**
+ * Company identifiers assigned by the Bluetooth SIG, generated by mesh/scripts/company_identifiers.py.
+ */
+final class CompanyIdentifierTable {
+
+    static final int NAMES_PER_CHUNK = 512;
+
+    static final String IDENTIFIERS = "\u0000\u0001\u0002\u0003\u0004\u0005\u0006\u0007\u0008\u0009\n\u000b\u000c\r\u000e\u000f\u0010\u0011"
+            + "\u0012\u0013\u0014\u0015\u0016\u0017\u0018\u0019\u001a\u001b\u001c\u001d\u001e\u001f !\"#$%&'()*+,-."
+            + "/0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqrstuvwxyz{|}~\u007f\u0080\u0081"
+            + "\u0082\u0083\u0084\u0085\u0086\u0087\u0088\u0089\u008a\u008b\u008c\u008d\u008e\u008f\u0090\u0091"
+            + "\u0092\u0093\u0094\u0095\u0096\u0097\u0098\u0099\u009a\u009b\u009c\u009d\u009e\u009f\u00a0\u00a1"
+            + "\u00a2\u00a3\u00a4\u00a5\u00a6\u00a7\u00a8\u00a9\u00aa\u00ab\u00ac\u00ad\u00ae\u00af\u00b0\u00b1"
+            + "\u00b2\u00b3\u00b4\u00b5\u00b6\u00b7\u00b8\u00b9\u00ba\u00bb\u00bc\u00bd\u00be\u00bf\u00c0\u00c1"
+            + "\u00c2\u00c3\u00c4\u00c5\u00c6\u00c7\u00c8\u00c9\u00ca\u00cb\u00cc\u00cd\u00ce\u00cf\u00d0\u00d1"
+            + "\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u00d8\u00d9\u00da\u00db\u00dc\u00dd\u00de\u00df\u00e0\u00e1"
+            + "\u00e2\u00e3\u00e4\u00e5\u00e6\u00e7\u00e8\u00e9\u00ea\u00eb\u00ec\u00ed\u00ee\u00ef\u00f0\u00f1"
+            + "\u00f2\u00f3\u00f4\u00f5\u00f6\u00f7\u00f8\u00f9\u00fa\u00fb\u00fc\u00fd\u00fe\u00ff\u0100\u0101"
+            + "\u0102\u0103\u0104\u0105\u0106\u0107\u0108\u0109\u010a\u010b\u010c\u010d\u010e\u010f\u0110\u0111"
+            + "\u0112\u0113\u0114\u0115\u0116\u0117\u0118\u0119\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121"
+            + "\u0122\u0123\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b\u012c\u012d\u012e\u012f\u0130\u0131"
+            + "\u0132\u0133\u0134\u0135\u0136\u0137\u0138\u0139\u013a\u013b\u013c\u013d\u013e\u013f\u0140\u0141"
+            + "\u0142\u0143\u0144\u0145\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u014d\u014e\u014f\u0150\u0151"
+            + "\u0152\u0153\u0154\u0155\u0156\u0157\u0158\u0159\u015a\u015b\u015c\u015d\u015e\u015f\u0160\u0161"
+            + "\u0162\u0163\u0164\u0165\u0166\u0167\u0168\u0169\u016a\u016b\u016c\u016d\u016e\u016f\u0170\u0171"
+            + "\u0172\u0173\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c\u017d\u017e\u017f\u0180\u0181"
+            + "\u0182\u0183\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b\u018c\u018d\u018e\u018f\u0190\u0191"
+            + "\u0192\u0193\u0194\u0195\u0196\u0197\u0198\u0199\u019a\u019b\u019c\u019d\u019e\u019f\u01a0\u01a1"
+            + "\u01a2\u01a3\u01a4\u01a5\u01a6\u01a7\u01a8\u01a9\u01aa\u01ab\u01ac\u01ad\u01ae\u01af\u01b0\u01b1"
+            + "\u01b2\u01b3\u01b4\u01b5\u01b6\u01b7\u01b8\u01b9\u01ba\u01bb\u01bc\u01bd\u01be\u01bf\u01c0\u01c1"
+            + "\u01c2\u01c3\u01c4\u01c5\u01c6\u01c7\u01c8\u01c9\u01ca\u01cb\u01cc\u01cd\u01ce\u01cf\u01d0\u01d1"
+            + "\u01d2\u01d3\u01d4\u01d5\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1"
+            + "\u01e2\u01e3\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1"
+            + "\u01f2\u01f3\u01f4\u01f5\u01f6\u01f7\u01f8\u01f9\u01fa\u01fb\u01fc\u01fd\u01fe\u01ff\u0200\u0201"
+            + "\u0202\u0203\u0204\u0205\u0206\u0207\u0208\u0209\u020a\u020b\u020c\u020d\u020e\u020f\u0210\u0211"
+            + "\u0212\u0213\u0214\u0215\u0216\u0217\u0218\u0219\u021a\u021b\u021c\u021d\u021e\u021f\u0220\u0221"
+            + "\u0222\u0223\u0224\u0225\u0226\u0227\u0228\u0229\u022a\u022b\u022c\u022d\u022e\u022f\u0230\u0231"
+            + "\u0232\u0233\u0234\u0235\u0236\u0237\u0238\u0239\u023a\u023b\u023c\u023d\u023e\u023f\u0240\u0241"
+            + "\u0242\u0243\u0244\u0245\u0246\u0247\u0248\u0249\u024a\u024b\u024c\u024d\u024e\u024f\u0250\u0251"
+            + "\u0252\u0253\u0254\u0255\u0256\u0257\u0258\u0259\u025a\u025b\u025c\u025d\u025e\u025f\u0260\u0261"
+            + "\u0262\u0263\u0264\u0265\u0266\u0267\u0268\u0269\u026a\u026b\u026c\u026d\u026e\u026f\u0270\u0271"
+            + "\u0272\u0273\u0274\u0275\u0276\u0277\u0278\u0279\u027a\u027b\u027c\u027d\u027e\u027f\u0280\u0281"
+            + "\u0282\u0283\u0284\u0285\u0286\u0287\u0288\u0289\u028a\u028b\u028c\u028d\u028e\u028f\u0290\u0291"
+            + "\u0292\u0293\u0294\u0295\u0296\u0297\u0298\u0299\u029a\u029b\u029c\u029d\u029e\u029f\u02a0\u02a1"
+            + "\u02a2\u02a3\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac\u02ad\u02ae\u02af\u02b0\u02b1"
+            + "\u02b2\u02b3\u02b4\u02b5\u02b6\u02b7\u02b8\u02b9\u02ba\u02bb\u02bc\u02bd\u02be\u02bf\u02c0\u02c1"
+            + "\u02c2\u02c3\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02cd\u02ce\u02cf\u02d0\u02d1"
+            + "\u02d2\u02d3\u02d4\u02d5\u02d6\u02d7\u02d8\u02d9\u02da\u02db\u02dc\u02dd\u02de\u02df\u02e0\u02e1"
+            + "\u02e2\u02e3\u02e4\u02e5\u02e6\u02e7\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef\u02f0\u02f1"
+            + "\u02f2\u02f3\u02f4\u02f5\u02f6\u02f7\u02f8\u02f9\u02fa\u02fb\u02fc\u02fd\u02fe\u02ff\u0300\u0301"
+            + "\u0302\u0303\u0304\u0305\u0306\u0307\u0308\u0309\u030a\u030b\u030c\u030d\u030e\u030f\u0310\u0311"
+            + "\u0312\u0313\u0314\u0315\u0316\u0317\u0318\u0319\u031a\u031b\u031c\u031d\u031e\u031f\u0320\u0321"
+            + "\u0322\u0323\u0324\u0325\u0326\u0327\u0328\u0329\u032a\u032b\u032c\u032d\u032e\u032f\u0330\u0331"
+            + "\u0332\u0333\u0334\u0335\u0336\u0337\u0338\u0339\u033a\u033b\u033c\u033d\u033e\u033f\u0340\u0341"
+            + "\u0342\u0343\u0344\u0345\u0346\u0347\u0348\u0349\u034a\u034b\u034c\u034d\u034e\u034f\u0350\u0351"
+            + "\u0352\u0353\u0354\u0355\u0356\u0357\u0358\u0359\u035a\u035b\u035c\u035d\u035e\u035f\u0360\u0361"
+            + "\u0362\u0363\u0364\u0365\u0366\u0367\u0368\u0369\u036a\u036b\u036c\u036d\u036e\u036f\u0370\u0371"
+            + "\u0372\u0373\u0374\u0375\u0376\u0377\u0378\u0379\u037a\u037b\u037c\u037d\u037e\u037f\u0380\u0381"
+            + "\u0382\u0383\u0384\u0385\u0386\u0387\u0388\u0389\u038a\u038b\u038c\u038d\u038e\u038f\u0390\u0391"
+            + "\u0392\u0393\u0394\u0395\u0396\u0397\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u03a0\u03a1"
+            + "\u03a2\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8\u03a9\u03aa\u03ab\u03ac\u03ad\u03ae\u03af\u03b0\u03b1"
+            + "\u03b2\u03b3\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1"
+            + "\u03c2\u03c3\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u03ca\u03cb\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1"
+            + "\u03d2\u03d3\u03d4\u03d5\u03d6\u03d7\u03d8\u03d9\u03da\u03db\u03dc\u03dd\u03de\u03df\u03e0\u03e1"
+            + "\u03e2\u03e3\u03e4\u03e5\u03e6\u03e7\u03e8\u03e9\u03ea\u03eb\u03ec\u03ed\u03ee\u03ef\u03f0\u03f1"
+            + "\u03f2\u03f3\u03f4\u03f5\u03f6\u03f7\u03f8\u03f9\u03fa\u03fb\u03fc\u03fd\u03fe\u03ff\u0400\u0401"
+            + "\u0402\u0403\u0404\u0405\u0406\u0407\u0408\u0409\u040a\u040b\u040c\u040d\u040e\u040f\u0410\u0411"
+            + "\u0412\u0413\u0414\u0415\u0416\u0417\u0418\u0419\u041a\u041b\u041c\u041d\u041e\u041f\u0420\u0421"
+            + "\u0422\u0423\u0424\u0425\u0426\u0427\u0428\u0429\u042a\u042b\u042c\u042d\u042e\u042f\u0430\u0431"
+            + "\u0432\u0433\u0434\u0435\u0436\u0437\u0438\u0439\u043a\u043b\u043c\u043d\u043e\u043f\u0440\u0441"
+            + "\u0442\u0443\u0444\u0445\u0446\u0447\u0448\u0449\u044a\u044b\u044c\u044d\u044e\u044f\u0450\u0451"
+            + "\u0452\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045a\u045b\u045c\u045d\u045e\u045f\u0460\u0461"
+            + "\u0462\u0463\u0464\u0465\u0466\u0467\u0468\u0469\u046a\u046b\u046c\u046d\u046e\u046f\u0470\u0471"
+            + "\u0472\u0473\u0474\u0475\u0476\u0477\u0478\u0479\u047a\u047b\u047c\u047d\u047e\u047f\u0480\u0481"
+            + "\u0482\u0483\u0484\u0485\u0486\u0487\u0488\u0489\u048a\u048b\u048c\u048d\u048e\u048f\u0490\u0491"
+            + "\u0492\u0493\u0494\u0495\u0496\u0497\u0498\u0499\u049a\u049b\u049c\u049d\u049e\u049f\u04a0\u04a1"
+            + "\u04a2\u04a3\u04a4\u04a5\u04a6\u04a7\u04a8\u04a9\u04aa\u04ab\u04ac\u04ad\u04ae\u04af\u04b0\u04b1"
+            + "\u04b2\u04b3\u04b4\u04b5\u04b6\u04b7\u04b8\u04b9\u04ba\u04bb\u04bc\u04bd\u04be\u04bf\u04c0\u04c1"
+            + "\u04c2\u04c3\u04c4\u04c5\u04c6\u04c7\u04c8\u04c9\u04ca\u04cb\u04cc\u04cd\u04ce\u04cf\u04d0\u04d1"
+            + "\u04d2\u04d3\u04d4\u04d5\u04d6\u04d7\u04d8\u04d9\u04da\u04db\u04dc\u04dd\u04de\u04df\u04e0\u04e1"
+            + "\u04e2\u04e3\u04e4\u04e5\u04e6\u04e7\u04e8\u04e9\u04ea\u04eb\u04ec\u04ed\u04ee\u04ef\u04f0\u04f1"
+            + "\u04f2\u04f3\u04f4\u04f5\u04f6\u04f7\u04f8\u04f9\u04fa\u04fb\u04fc\u04fd\u04fe\u04ff\u0500\u0501"
+            + "\u0502\u0503\u0504\u0505\u0506\u0507\u0508\u0509\u050a\u050b\u050c\u050d\u050e\u050f\u0510\u0511"
+            + "\u0512\u0513\u0514\u0515\u0516\u0517\u0518\u0519\u051a\u051b\u051c\u051d\u051e\u051f\u0520\u0521"
+            + "\u0522\u0523\u0524\u0525\u0526\u0527\u0528\u0529\u052a\u052b\u052c\u052d\u052e\u052f\u0530\u0531"
+            + "\u0532\u0533\u0534\u0535\u0536\u0537\u0538\u0539\u053a\u053b\u053c\u053d\u053e\u053f\u0540\u0541"
+            + "\u0542\u0543\u0544\u0545\u0546\u0547\u0548\u0549\u054a\u054b\u054c\u054d\u054e\u054f\u0550\u0551"
+            + "\u0552\u0553\u0554\u0555\u0556\u0557\u0558\u0559\u055a\u055b\u055c\u055d\u055e\u055f\u0560\u0561"
+            + "\u0562\u0563\u0564\u0565\u0566\u0567\u0568\u0569\u056a\u056b\u056c\u056d\u056e\u056f\u0570\u0571"
+            + "\u0572\u0573\u0574\u0575\u0576\u0577\u0578\u0579\u057a\u057b\u057c\u057d\u057e\u057f\u0580\u0581"
+            + "\u0582\u0583\u0584\u0585\u0586\u0587\u0588\u0589\u058a\u058b\u058c\u058d\u058e\u058f\u0590\u0591"
+            + "\u0592\u0593\u0594\u0595\u0596\u0597\u0598\u0599\u059a\u059b\u059c\u059d\u059e\u059f\u05a0\u05a1"
+            + "\u05a2\u05a3\u05a4\u05a5\u05a6\u05a7\u05a8\u05a9\u05aa\u05ab\u05ac\u05ad\u05ae\u05af\u05b0\u05b1"
+            + "\u05b2\u05b3\u05b4\u05b5\u05b6\u05b7\u05b8\u05b9\u05ba\u05bb\u05bc\u05bd\u05be\u05bf\u05c0\u05c1"
+            + "\u05c2\u05c3\u05c4\u05c5\u05c6\u05c7\u05c8\u05c9\u05ca\u05cb\u05cc\u05cd\u05ce\u05cf\u05d0\u05d1"
+            + "\u05d2\u05d3\u05d4\u05d5\u05d6\u05d7\u05d8\u05d9\u05da\u05db\u05dc\u05dd\u05de\u05df\u05e0\u05e1"
+            + "\u05e2\u05e3\u05e4\u05e5\u05e6\u05e7\u05e8\u05e9\u05ea\u05eb\u05ec\u05ed\u05ee\u05ef\u05f0\u05f1"
+            + "\u05f2\u05f3\u05f4\u05f5\u05f6\u05f7\u05f8\u05f9\u05fa\u05fb\u05fc\u05fd\u05fe\u05ff\u0600\u0601"
+            + "\u0602\u0603\u0604\u0605\u0606\u0607\u0608\u0609\u060a\u060b\u060c\u060d\u060e\u060f\u0610\u0611"
+            + "\u0612\u0613\u0614\u0615\u0616\u0617\u0618\u0619\u061a\u061b\u061c\u061d\u061e\u061f\u0620\u0621"
+            + "\u0622\u0623\u0624\u0625\u0626\u0627\u0628\u0629\u062a\u062b\u062c\u062d\u062e\u062f\u0630\u0631"
+            + "\u0632\u0633\u0634\u0635\u0636\u0637\u0638\u0639\u063a\u063b\u063c\u063d\u063e\u063f\u0640\u0641"
+            + "\u0642\u0643\u0644\u0645\u0646\u0647\u0648\u0649\u064a\u064b\u064c\u064d\u064e\u064f\u0650\u0651"
+            + "\u0652\u0653\u0654\u0655\u0656\u0657\u0658\u0659\u065a\u065b\u065c\u065d\u065e\u065f\u0660\u0661"
+            + "\u0662\u0663\u0664\u0665\u0666\u0667\u0668\u0669\u066a\u066b\u066c\u066d\u066e\u066f\u0670\u0671"
+            + "\u0672\u0673\u0674\u0675\u0676\u0677\u0678\u0679\u067a\u067b\u067c\u067d\u067e\u067f\u0680\u0681"
+            + "\u0682\u0683\u0684\u0685\u0686\u0687\u0688\u0689\u068a\u068b\u068c\u068d\u068e\u068f\u0690\u0691"
+            + "\u0692\u0693\u0694\u0695\u0696\u0697\u0698\u0699\u069a\u069b\u069c\u069d\u069e\u069f\u06a0\u06a1"
+            + "\u06a2\u06a3\u06a4\u06a5\u06a6\u06a7\u06a8\u06a9\u06aa\u06ab\u06ac\u06ad\u06ae\u06af\u06b0\u06b1"
+            + "\u06b2\u06b3\u06b4\u06b5\u06b6\u06b7\u06b8\u06b9\u06ba\u06bb\u06bc\u06bd\u06be\u06bf\u06c0\u06c1"
+            + "\u06c2\u06c3\u06c4\u06c5\u06c6\u06c7\u06c8\u06c9\u06ca\u06cb\u06cc\u06cd\u06ce\u06cf\u06d0\u06d1"
+            + "\u06d2\u06d3\u06d4\u06d5\u06d6\u06d7\u06d8\u06d9\u06da\u06db\u06dc\u06dd\u06de\u06df\u06e0\u06e1"
+            + "\u06e2\u06e3\u06e4\u06e5\u06e6\u06e7\u06e8\u06e9\u06ea\u06eb\u06ec\u06ed\u06ee\u06ef\u06f0\u06f1"
+            + "\u06f2\u06f3\u06f4\u06f5\u06f6\u06f7\u06f8\u06f9\u06fa\u06fb\u06fc\u06fd\u06fe\u06ff\u0700\u0701"
+            + "\u0702\u0703\u0704\u0705\u0706\u0707\u0708\u0709\u070a\u070b\u070c\u070d\u070e\u070f\u0710\u0711"
+            + "\u0712\u0713\u0714\u0715\u0716\u0717\u0718\u0719\u071a\u071b\u071c\u071d\u071e\u071f\u0720\u0721"
+            + "\u0722\u0723\u0724\u0725\u0726\u0727\u0728\u0729\u072a\u072b\u072c\u072d\u072e\u072f\u0730\u0731"
+            + "\u0732\u0733\u0734\u0735\u0736\u0737\u0738\u0739\u073a\u073b\u073c\u073d\u073e\u073f\u0740\u0741"
+            + "\u0742\u0743\u0744\u0745\u0746\u0747\u0748\u0749\u074a\u074b\u074c\u074d\u074e\u074f\u0750\u0751"
+            + "\u0752\u0753\u0754\u0755\u0756\u0757\u0758\u0759\u075a\u075b\u075c\u075d\u075e\u075f\u0760\u0761"
+            + "\u0762\u0763\u0764\u0765\u0766\u0767\u0768\u0769\u076a\u076b\u076c\u076d\u076e\u076f\u0770\u0771"
+            + "\u0772\u0773\u0774\u0775\u0776\u0777\u0778\u0779\u077a\u077b\u077c\u077d\u077e\u077f\u0780\u0781"
+            + "\u0782\u0783\u0784\u0785\u0786\u0787\u0788\u078a\u078b\u078c\u078d\u078e\u078f\u0790\u0791\u0792"
+            + "\u0793\u0794\u0795\u0796\u0797\u0798\u0799\u079a\u079b\u079c\u079d\u079e\u079f\u07a0\u07a1\u07a2"
+            + "\u07a3\u07a4\u07a5\u07a6\u07a7\u07a8\u07a9\u07aa\u07ab\u07ac\u07ad\u07ae\u07af\u07b0\u07b1\u07b2"
+            + "\u07b3\u07b4\u07b5\u07b6\u07b7\u07b8\u07b9\u07ba\u07bb\u07bc\u07bd\u07be\u07bf\u07c0\u07c1\u07c2"
+            + "\u07c3\u07c4\u07c5\u07c6\u07c7\u07c8\u07c9\u07ca\u07cb\u07cc\u07cd\u07ce\u07cf\u07d0\u07d1\u07d2"
+            + "\u07d3\u07d4\u07d5\u07d6\u07d7\u07d8\u07d9\u07da\u07db\u07dc\u07dd\u07de\u07df\u07e0\u07e1\u07e2"
+            + "\u07e3\u07e4\u07e5\u07e6\u07e7\u07e8\u07e9\u07ea\u07eb\u07ec\u07ed\u07ee\u07ef\u07f0\u07f1\u07f2"
+            + "\u07f3\u07f4\u07f5\u07f6\u07f7\u07f8\u07f9\u07fa\u07fb\u07fc\u07fd\u07fe\u07ff\u0800\u0801\u0802"
+            + "\u0803\u0804\u0805\u0806\u0807\u0808\u0809\u080a\u080b\u080c\u080d\u080e\u080f\u0810\u0811\u0812"
+            + "\u0813\u0814\u0815\u0816\u0817\u0818\u0819\u081a\u081b\u081c\u081d\u081e\u081f\u0820\u0821\u0822"
+            + "\u0823\u0824\u0825\u0826\u0827\u0828\u0829\u082a\u082b\u082c\u082d\u082e\u082f\u0830\u0831\u0832"
+            + "\u0833\u0834\u0835\u0836\u0837\u0838\u0839\u083a\u083b\u083c\u083d\u083e\u083f\u0840\u0841\u0842"
+            + "\u0843\u0844\u0845\u0846\u0847\u0848\u0849\u084a\u084b\u084c\u084d\u084e\u084f\u0850\u0851\u0852"
+            + "\u0853\u0854\u0855\u0856\u0857\u0858\u0859\u085a\u085b\u085c\u085d\u085e\u085f\u0860\u0861\u0862"
+            + "\u0863\u0864\u0865\u0866\u0867\u0868\u0869\u086a\u086b\u086c\u086d\u086e\u086f\u0870\u0871\u0872"
+            + "\u0873\u0874\u0875\u0876\u0877\u0878\u0879\u087a\u087b\u087c\u087d\u087e\u087f\u0880\u0881\u0882"
+            + "\u0883\u0884\u0885\u0886\u0887\u0888\u0889\u088a\u088b\u088c\u088d\u088e\u088f\u0890\u0891\u0892"
+            + "\u0893\u0894\u0895\u0896\u0897\u0898\u0899\u089a\u089b\u089c\u089d\u089e\u089f\u08a0\u08a1\u08a2"
+            + "\u08a3\u08a4\u08a5\u08a6\u08a7\u08a8\u08a9\u08aa\u08ab\u08ac\u08ad\u08ae\u08af\u08b0\u08b1\u08b2"
+            + "\u08b3\u08b4\u08b5\u08b6\u08b7\u08b8\u08b9\u08ba\u08bb\u08bc\u08bd\u08be\u08bf\u08c0\u08c1\u08c2"
+            + "\u08c3\u08c4\u08c5\u08c6\u08c7\u08c8\u08c9\u08ca\u08cb\u08cc\u08cd\u08ce\u08cf\u08d0\u08d1\u08d2"
+            + "\u08d3\u08d4\u08d5\u08d6\u08d7\u08d8\u08d9\u08da\u08db\u08dc\u08dd\u08de\u08df\u08e0\u08e1\u08e2"
+            + "\u08e3\u08e4\u08e5\u08e6\u08e7\u08e8\u08e9\u08ea\u08eb\u08ec\u08ed\u08ee\u08ef\u08f0\u08f1\u08f2"
+            + "\u08f3\u08f4\u08f5\u08f6\u08f7\u08f8\u08f9\u08fa\u08fb\u08fc\u08fd\u08fe\u08ff\u0900\u0901\u0902"
+            + "\u0903\u0904\u0905\u0906\u0907\u0908\u0909\u090a\u090b\u090c\u090d\u090e\u090f\u0910\u0911\u0912"
+            + "\u0913\u0914\u0915\u0916\u0917\u0918\u0919\u091a\u091b\u091c\u091d\u091e\u091f\u0920\u0921\u0922"
+            + "\u0923\u0924\u0925\u0926\u0927\u0928\u0929\u092a\u092b\u092c\u092d\u092e\u092f\u0930\u0931\u0932"
+            + "\u0933\u0934\u0935\u0936\u0937\u0938\u0939\u093a\u093b\u093c\u093d\u093e\u093f\u0940\u0941\u0942"
+            + "\u0943\u0944\u0945\u0946\u0947\u0948\u0949\u094a\u094b\u094c\u094d\u094e\u094f\u0950\u0951\u0952"
+            + "\u0953\u0954\u0955\u0956\u0957\u0958\u0959\u095a\u095b\u095c\u095d\u095e\u095f\u0960\u0961\u0962"
+            + "\u0963\u0964\u0965\u0966\u0967\u0968\u0969\u096a\u096b\u096c\u096d\u096e\u096f\u0970\u0971\u0972"
+            + "\u0973\u0974\u0975\u0976\u0977\u0978\u0979\u097a\u097b\u097c\u097d\u097e\u097f\u0980\u0981\u0982"
+            + "\u0983\u0984\u0985\u0986\u0987\u0988\u0989\u098a\u098b\u098c\u098d\u098e\u098f\u0990\u0991\u0992"
+            + "\u0993\u0994\u0995\u0996\u0997\u0998\u0999\u099a\u099b\u099c\u099d\u099e\u099f\u09a0\u09a1\u09a2"
+            + "\u09a3\u09a4\u09a5\u09a6\u09a7\u09a8\u09a9\u09aa\u09ab\u09ac\u09ad\u09ae\u09af\u09b0\u09b1\u09b2"
+            + "\u09b3\u09b4\u09b5\u09b6\u09b7\u09b8\u09b9\u09ba\u09bb\u09bc\u09bd\u09be\u09bf\u09c0\u09c1\u09c2"
+            + "\u09c3\u09c4\u09c5\u09c6\u09c7\u09c8\u09c9\u09ca\u09cb\u09cc\u09cd\u09ce\u09cf\u09d0\u09d1\u09d2"
+            + "\u09d3\u09d4\u09d5\u09d6\u09d7\u09d8\u09d9\u09da\u09db\u09dc\u09dd\u09de\u09df\u09e0\u09e1\u09e2"
+            + "\u09e3\u09e4\u09e5\u09e6\u09e7\u09e8\u09e9\u09ea\u09eb\u09ec\u09ed\u09ee\u09ef\u09f0\u09f1\u09f2"
+            + "\u09f3\u09f4\u09f5\u09f6\u09f7\u09f8\u09f9\u09fa\u09fb\u09fc\u09fd\u09fe\u09ff\u0a00\u0a01\u0a02"
+            + "\u0a03\u0a04\u0a05\u0a06\u0a07\u0a08\u0a09\u0a0a\u0a0b\u0a0c\u0a0d\u0a0e\u0a0f\u0a10\u0a11\u0a12"
+            + "\u0a13\u0a14\u0a15\u0a16\u0a17\u0a18\u0a19\u0a1a\u0a1b\u0a1c\u0a1d\u0a1e\u0a1f\u0a20\u0a21\u0a22"
+            + "\u0a23\u0a24\u0a25\u0a26\u0a27\u0a28\u0a29\u0a2a\u0a2b\u0a2c\u0a2d\u0a2e\u0a2f\u0a30\u0a31\u0a32"
+            + "\u0a33\u0a34\u0a35\u0a36\u0a37\u0a38\u0a39\u0a3a\u0a3b\u0a3c\u0a3d\u0a3e\u0a3f\u0a40\u0a41\u0a42"
+            + "\u0a43\u0a44\u0a45\u0a46\u0a47\u0a48\u0a49\u0a4a\u0a4b\u0a4c\u0a4d\u0a4e\u0a4f\u0a50\u0a51\u0a52"
+            + "\u0a53\u0a54\u0a55\u0a56\u0a57\u0a58\u0a59\u0a5a\u0a5b\u0a5c\u0a5d\u0a5e\u0a5f\u0a60\u0a61\u0a62"
+            + "\u0a63\u0a64\u0a65\u0a66\u0a67\u0a68\u0a69\u0a6a\u0a6b\u0a6c\u0a6d\u0a6e\u0a6f\u0a70\u0a71\u0a72"
+            + "\u0a73\u0a74\u0a75\u0a76\u0a77\u0a78\u0a79\u0a7a\u0a7b\u0a7c\u0a7d\u0a7e\u0a7f\u0a80\u0a81\u0a82"
+            + "\u0a83\u0a84\u0a85\u0a86\u0a87\u0a88\u0a89\u0a8a\u0a8b\u0a8c\u0a8d\u0a8e\u0a8f\u0a90\u0a91\u0a92"
+            + "\u0a93\u0a94\u0a95\u0a96\u0a97\u0a98\u0a99\u0a9a\u0a9b\u0a9c\u0a9d\u0a9e\u0a9f\u0aa0\u0aa1\u0aa2"
+            + "\u0aa3\u0aa4\u0aa5\u0aa6\u0aa7\u0aa8\u0aa9\u0aaa\u0aab\u0aac\u0aad\u0aae\u0aaf\u0ab0\u0ab1\u0ab2"
+            + "\u0ab3\u0ab4\u0ab5\u0ab6\u0ab7\u0ab8\u0ab9\u0aba\u0abb\u0abc\u0abd\u0abe\u0abf\u0ac0\u0ac1\u0ac2"
+            + "\u0ac3\u0ac4\u0ac5\u0ac6\u0ac7\u0ac8\u0ac9\u0aca\u0acb\u0acc\u0acd\u0ace\u0acf\u0ad0\u0ad1\u0ad2"
+            + "\u0ad3\u0ad4\u0ad5\u0ad6\u0ad7\u0ad8\u0ad9\u0ada\u0adb\u0adc\u0add\u0ade\u0adf\u0ae0\u0ae1\u0ae2"
+            + "\u0ae3\u0ae4\u0ae5\u0ae6\u0ae7\u0ae8\u0ae9\u0aea\u0aeb\u0aec\u0aed\u0aee\u0aef\u0af0\u0af1\u0af2"
+            + "\u0af3\u0af4\u0af5\u0af6\u0af7\u0af8\u0af9\u0afa\u0afb\u0afc\u0afd\u0afe\u0aff\u0b00\u0b01\u0b02"
+            + "\u0b03\u0b04\u0b05\u0b06\u0b07\u0b08\u0b09\u0b0a\u0b0b\u0b0c\u0b0d\u0b0e\u0b0f\u0b10\u0b11\u0b12"
+            + "\u0b13\u0b14\u0b15\u0b16\u0b17\u0b18\u0b19\u0b1a\u0b1b\u0b1c\u0b1d\u0b1e\u0b1f\u0b20\u0b21\u0b22"
+            + "\u0b23\u0b24\u0b25\u0b26\u0b27\u0b28\u0b29\u0b2a\u0b2b\u0b2c\u0b2d\u0b2e\u0b2f\u0b30\u0b31\u0b32"
+            + "\u0b33\u0b34\u0b35\u0b36\u0b37\u0b38\u0b39\u0b3a\u0b3b\u0b3c\u0b3d\u0b3e\u0b3f\u0b40\u0b41\u0b42"
+            + "\u0b43\u0b44\u0b45\u0b46\u0b47\u0b48\u0b49\u0b4a\u0b4b";
+
+    static final String OFFSETS = "\u0000\u001d0;DQU^dl\u0084\u009b\u00a7\u00b5\u00cb\u00e4\u00f8\u010b\u0118\u0123\u0134\u0153\u0162"
+            + "\u0174\u017c\u018c\u01a9\u01b7\u01d0\u01e5\u01ed\u01f5\u01ff\u020e\u021a\u0229\u0245\u024c\u0281"
+            + "\u028f\u029d\u02ae\u02b9\u02d2\u02d9\u02f8\u0309\u0318\u032e\u0341\u034f\u0368\u0372\u03a0\u03b7"
+            + "\u03d6\u03ea\u03ff\u041f\u0446\u0458\u0489\u0498\u04ae\u04c0\u04d7\u04ff\u0521\u0536\u0543\u055f"
+            + "\u056d\u0575\u0592\u05a2\u05ba\u05d8\u05e3\u0600\u0612\u061a\u062f\u0647\u0656\u0662\u0674\u0685"
+            + "\u06a8\u06cd\u06d8\u06f0\u070b\u0728\u0742\u0763\u0776\u0785\u0797\u07ab\u07b9\u07c7\u07e0\u07f7"
+            + "\u0804\u0811\u081f\u0834\u0841\u0851\u086e\u087b\u089b\u08a3\u08ae\u08bc\u08e5\u08f5\u08fd\u0919"
+            + "\u0931\u0943\u094d\u0958\u0971\u0985\u0994\u09ad\u09ce\u09dc\u09fc\u0a08\u0a25\u0a3e\u0a51\u0a61"
+            + "\u0a6b\u0a85\u0a8c\u0a9a\u0aa1\u0abf\u0b0e\u0b1c\u0b28\u0b64\u0b7b\u0ba2\u0bb3\u0bce\u0be5\u0bf6"
+            + "\u0c0a\u0c1d\u0c2a\u0c51\u0c58\u0c88\u0c95\u0ca2\u0cb2\u0cbb\u0cdd\u0cf1\u0d0a\u0d19\u0d22\u0d32"
+            + "\u0d42\u0d55\u0d68\u0d7d\u0d8a\u0daa\u0dbe\u0dd6\u0de2\u0de9\u0e02\u0e1a\u0e23\u0e42\u0e59\u0e67"
+            + "\u0e79\u0e83\u0eab\u0ec1\u0eda\u0ef5\u0f03\u0f14\u0f23\u0f3e\u0f5d\u0f88\u0f92\u0f9b\u0fa9\u0fc3"
+            + "\u0fcc\u0fd6\u0fde\u0fe4\u0fe8\u0ff3\u1004\u101d\u1030\u1039\u1045\u105e\u1077\u109c\u10a5\u10c1"
+            + "\u10d6\u10f1\u1115\u1129\u1132\u113f\u114f\u1162\u116b\u1180\u1186\u1191\u119d\u11b0\u11c2\u11e0"
+            + "\u11e9\u11f8\u1209\u1217\u1230\u1246\u125c\u126b\u1287\u1298\u12a4\u12bd\u12cf\u12e1\u12ee\u12fb"
+            + "\u130c\u1322\u1333\u133d\u134c\u1358\u136a\u137d\u1395\u13a6\u13bd\u13c8\u13da\u13ec\u1409\u1434"
+            + "\u1451\u146b\u1487\u148e\u149a\u14a2\u14b8\u14cb\u14d2\u14f1\u1506\u1515\u1520\u153f\u1544\u154f"
+            + "\u1560\u1577\u158c\u15a4\u15b7\u15d1\u15d6\u15df\u15ee\u15fb\u1605\u1620\u162d\u1637\u1641\u1648"
+            + "\u1657\u1670\u1682\u1693\u16b5\u16bc\u16d2\u16e2\u16ec\u16fc\u1711\u1726\u172e\u1742\u175a\u1766"
+            + "\u1773\u1787\u1790\u17a9\u17be\u17c6\u17e3\u17ef\u17f8\u1811\u1832\u1840\u1852\u185e\u186a\u187a"
+            + "\u1881\u1892\u18a5\u18b2\u18c2\u18cd\u18d9\u18fd\u190c\u191a\u192d\u1933\u1950\u1958\u1969\u1970"
+            + "\u197d\u19a8\u19b5\u19c4\u19cc\u19e4\u19f3\u1a01\u1a1a\u1a27\u1a2b\u1a30\u1a41\u1a52\u1a81\u1ab4"
+            + "\u1ac2\u1ae0\u1aec\u1af6\u1b0f\u1b16\u1b1e\u1b2a\u1b35\u1b43\u1b59\u1b73\u1b97\u1ba3\u1bb0\u1bc0"
+            + "\u1bca\u1bd5\u1bec\u1c08\u1c19\u1c24\u1c2e\u1c37\u1c42\u1c53\u1c6e\u1c8c\u1c9a\u1ca5\u1cab\u1cb7"
+            + "\u1cc8\u1cda\u1ce3\u1cfc\u1d19\u1d2d\u1d34\u1d4a\u1d56\u1d67\u1d83\u1d92\u1da0\u1db6\u1dd1\u1dd5"
+            + "\u1de6\u1df3\u1e18\u1e2a\u1e4f\u1e5e\u1e71\u1e7b\u1e81\u1e90\u1eac\u1eb1\u1ec2\u1ec7\u1edd\u1ef4"
+            + "\u1f00\u1f14\u1f1a\u1f24\u1f3f\u1f4d\u1f62\u1f7c\u1f8f\u1faa\u1fc1\u1fd4\u1fdd\u1fe8\u1ff9\u2007"
+            + "\u201a\u2032\u203b\u2046\u2058\u207b\u2087\u2096\u20a9\u20cf\u20db\u20ea\u20fb\u2100\u2114\u211f"
+            + "\u212b\u2139\u2149\u214f\u2161\u216d\u217a\u2198\u21b0\u21b3\u21c9\u21d9\u21e9\u21f8\u2205\u220d"
+            + "\u221d\u2233\u2243\u2255\u226e\u2280\u228d\u22b1\u22d0\u22e0\u22e9\u22f2\u2301\u2310\u2323\u2336"
+            + "\u2352\u2360\u2364\u236e\u238f\u239a\u23c0\u23cf\u23dc\u23f8\u2403\u2421\u242c\u2443\u2458\u246e"
+            + "\u2478\u2488\u24bb\u24c9\u24d3\u24e3\u24f4\u2515\u252e\u0000'0:CRbt~\u008a\u009c\u00a8\u00c1\u00db"
+            + "\u00f4\u010c\u0119\u011f\u013b\u014c\u0154\u0170\u0185\u018c\u0199\u01a3\u01af\u01c2\u01d4\u01e0"
+            + "\u01e6\u01f1\u0209\u0219\u022f\u023e\u0259\u0263\u0277\u0283\u0298\u02aa\u02ba\u02d2\u02de\u02f2"
+            + "\u02f8\u0302\u032f\u034a\u0350\u0365\u0386\u03a8\u03b0\u03bd\u03ca\u03d4\u03de\u03ef\u041d\u0427"
+            + "\u0434\u0444\u045e\u0472\u047c\u0485\u0490\u049a\u04a8\u04bc\u04cb\u04df\u04ef\u04f8\u0501\u0514"
+            + "\u0528\u0545\u0560\u0575\u0587\u0599\u05a4\u05ad\u05c9\u05da\u05f6\u0601\u0607\u0643\u0661\u067f"
+            + "\u0699\u06aa\u06be\u06c5\u06d0\u06ea\u06f7\u0700\u070f\u0728\u0736\u073c\u074f\u0756\u0777\u0791"
+            + "\u079e\u07ac\u07bd\u07cf\u07da\u07f0\u07f8\u0807\u080d\u0829\u0834\u0848\u0869\u0875\u087c\u0888"
+            + "\u08a9\u08b7\u08ca\u08da\u08e0\u08e9\u08fd\u0910\u0928\u0935\u0948\u0962\u096c\u0974\u0982\u098e"
+            + "\u0994\u09a3\u09bb\u09c6\u09d4\u09e0\u09e9\u09f3\u0a00\u0a05\u0a14\u0a1d\u0a38\u0a45\u0a59\u0a70"
+            + "\u0a81\u0a94\u0aaa\u0ac0\u0ad6\u0ade\u0ae3\u0af7\u0b10\u0b21\u0b3d\u0b49\u0b52\u0b5d\u0b6a\u0b86"
+            + "\u0b97\u0ba8\u0bbc\u0bd6\u0bdf\u0be8\u0bf5\u0c02\u0c24\u0c36\u0c4b\u0c5e\u0c70\u0c8a\u0c97\u0ca2"
+            + "\u0cad\u0cc9\u0ce3\u0cf0\u0d00\u0d15\u0d3e\u0d53\u0d72\u0d80\u0d9c\u0dc3\u0dd0\u0de2\u0df4\u0e0b"
+            + "\u0e1e\u0e4c\u0e51\u0e53\u0e5f\u0e6a\u0e7f\u0e8a\u0e9b\u0ea9\u0ec4\u0ecb\u0ee3\u0eeb\u0f06\u0f20"
+            + "\u0f40\u0f54\u0f6c\u0f82\u0f93\u0f9d\u0fb8\u0fc6\u0fe3\u0fe9\u0ffd\u1018\u1034\u1043\u1053\u1065"
+            + "\u1074\u108d\u10a1\u10b2\u10c3\u10ce\u10da\u10e5\u10f5\u1108\u111d\u112a\u1146\u1159\u1174\u119e"
+            + "\u11aa\u11d4\u11e8\u11f7\u120d\u121e\u122f\u1247\u1250\u1264\u127d\u1289\u1293\u129a\u12b7\u12bf"
+            + "\u12cd\u12d7\u12e4\u12f5\u12fe\u1319\u1326\u1338\u1350\u136a\u1383\u1398\u13aa\u13bd\u13c3\u13d7"
+            + "\u13e3\u13ee\u13ff\u1418\u1421\u1434\u1449\u1454\u1464\u148b\u149c\u14a8\u14b3\u14c8\u14ce\u14e1"
+            + "\u14f4\u14fd\u1506\u151c\u1535\u154a\u1554\u1560\u156d\u1573\u1584\u158d\u15a4\u15b4\u15cb\u15d4"
+            + "\u15ea\u15f4\u160f\u161e\u1636\u1649\u1666\u166f\u1680\u169b\u16ad\u16b4\u16bb\u16c1\u16ce\u16e2"
+            + "\u16fb\u1709\u1722\u1738\u1742\u1766\u177e\u1794\u17a7\u17bc\u17cc\u17da\u17ee\u180c\u1817\u1828"
+            + "\u182b\u183c\u1843\u1856\u1863\u1873\u187d\u1893\u18a5\u18ce\u18e1\u18ed\u18f7\u1907\u191d\u1923"
+            + "\u1932\u1941\u194c\u195a\u1961\u1971\u197e\u198f\u1998\u19be\u19c6\u19d6\u1a02\u1a09\u1a1a\u1a31"
+            + "\u1a3e\u1a4c\u1a57\u1a6b\u1a7c\u1a92\u1aa5\u1ab5\u1ae7\u1af3\u1b04\u1b18\u1b2d\u1b40\u1b44\u1b4f"
+            + "\u1b59\u1b68\u1b73\u1b82\u1b90\u1b93\u1ba1\u1bbb\u1bc3\u1bcd\u1bdc\u1bec\u1bfd\u1c01\u1c26\u1c37"
+            + "\u1c54\u1c67\u1c78\u1c8c\u1c9b\u1cae\u1cca\u1cd8\u1cfd\u1d08\u1d11\u1d1d\u1d2a\u1d39\u1d52\u1d5c"
+            + "\u1d5f\u1d6c\u1d88\u1d96\u1db3\u1dce\u1dec\u1dfd\u1e09\u1e0f\u1e1a\u1e28\u1e3e\u1e67\u1e7b\u1e87"
+            + "\u1e8d\u1ea2\u1eb6\u1ec7\u1edf\u1eeb\u1f02\u1f16\u1f2c\u1f34\u1f53\u1f66\u1f75\u1f93\u1f9d\u1fb4"
+            + "\u1fcb\u1fd9\u1fe3\u1fee\u1ffa\u2017\u202c\u203a\u204f\u205f\u2067\u2076\u2085\u2091\u209f\u20a8"
+            + "\u20c1\u20d3\u20e8\u210e\u2129\u2133\u2144\u214f\u2155\u2167\u217e\u21a1\u21c6\u21d0\u21dc\u21ea"
+            + "\u21ff\u2210\u2220\u2225\u223e\u224e\u225a\u226e\u2279\u228e\u229b\u22a9\u22c5\u22de\u22e9\u22f7"
+            + "\u230e\u2318\u0000\u001a!;R_y\u0080\u008e\u009c\u00a0\u00aa\u00b8\u00c9\u00e6\u00f7\u010d\u0127"
+            + "\u0131\u0136\u0149\u0173\u0188\u0191\u01a0\u01b7\u01c3\u01d6\u01ed\u01fc\u022f\u0248\u0259\u0267"
+            + "\u027a\u0283\u0293\u02a3\u02cd\u02d9\u02fc\u0309\u0314\u031e\u0334\u033e\u0349\u0358\u0363\u0370"
+            + "\u0381\u0390\u039b\u03ab\u03c0\u03e4\u03f2\u03fc\u0411\u0420\u0430\u0437\u0449\u045b\u046d\u047c"
+            + "\u0487\u0495\u04ad\u04bd\u04cf\u04dc\u04f8\u050a\u0519\u0525\u052e\u0540\u0552\u055d\u0580\u0596"
+            + "\u05a8\u05bd\u05d6\u05f5\u05fe\u0612\u061f\u0635\u0643\u0656\u0661\u0674\u0691\u069c\u06b6\u06be"
+            + "\u06d1\u06e4\u06f7\u0707\u0724\u073c\u0746\u0751\u075a\u0766\u0773\u0797\u07b3\u07be\u07d2\u07e0"
+            + "\u07e9\u07fa\u0809\u081c\u0825\u0852\u0869\u0887\u0899\u08b4\u08d3\u08df\u08e8\u08f6\u0904\u0914"
+            + "\u0924\u094c\u0963\u0979\u0983\u09cc\u09e3\u0a00\u0a14\u0a1d\u0a33\u0a3f\u0a50\u0a67\u0a77\u0a81"
+            + "\u0aa0\u0ab4\u0ac3\u0ae6\u0afb\u0b0f\u0b1f\u0b34\u0b4a\u0b53\u0b5d\u0b64\u0b79\u0b84\u0b8e\u0b97"
+            + "\u0bad\u0bbe\u0bcf\u0bed\u0c1b\u0c2b\u0c43\u0c4f\u0c6d\u0c77\u0c8a\u0c97\u0ca0\u0cba\u0cd6\u0cf6"
+            + "\u0d1a\u0d30\u0d49\u0d59\u0d66\u0d7e\u0d92\u0d9c\u0db9\u0dd3\u0ddf\u0df8\u0e04\u0e0f\u0e21\u0e39"
+            + "\u0e48\u0e5b\u0e7a\u0e8a\u0ea4\u0eae\u0ec0\u0eec\u0efe\u0f10\u0f20\u0f2b\u0f40\u0f4e\u0f72\u0f85"
+            + "\u0f8d\u0fa4\u0fb1\u0fc0\u0fcd\u0fd7\u0fe4\u0ff8\u1003\u1018\u102d\u1049\u1058\u1074\u107b\u1089"
+            + "\u1098\u10a1\u10ad\u10b8\u10c0\u10df\u10f0\u1105\u111e\u1142\u115b\u116d\u1180\u1187\u1196\u11a2"
+            + "\u11ab\u11cc\u11dc\u11eb\u11fe\u120c\u1231\u124c\u1256\u1263\u1281\u1293\u129e\u12b1\u12c6\u12d1"
+            + "\u12dc\u12ec\u12f9\u1304\u131b\u1320\u1329\u1340\u134d\u135a\u1367\u1371\u137f\u13aa\u13c4\u13d9"
+            + "\u13ef\u13f8\u140b\u1415\u1429\u1432\u143b\u1446\u1453\u1462\u1479\u147d\u148e\u14a1\u14ae\u14c0"
+            + "\u14cf\u14dc\u14e8\u150a\u1533\u154f\u155c\u1570\u1579\u158c\u1597\u15a2\u15ac\u15b9\u15c8\u15d5"
+            + "\u15e6\u15fb\u1612\u1626\u164a\u1661\u1677\u1680\u1696\u16a6\u16ad\u16c9\u16d0\u16dd\u16e9\u16f8"
+            + "\u1704\u1716\u1728\u1739\u1751\u1769\u1779\u17a6\u17cf\u17db\u17fc\u1818\u181f\u1838\u183e\u1852"
+            + "\u1858\u1865\u1876\u188a\u18a1\u18b0\u18c8\u18d6\u18e2\u18f3\u190a\u190e\u191f\u1936\u195b\u196e"
+            + "\u197b\u198c\u19a1\u19ad\u19d1\u19f7\u1a17\u1a24\u1a3a\u1a4c\u1a59\u1a76\u1a92\u1a9d\u1aaa\u1ac6"
+            + "\u1ad3\u1ade\u1afa\u1b14\u1b27\u1b37\u1b4b\u1b6c\u1b89\u1b95\u1bb2\u1bc7\u1bdb\u1be4\u1c01\u1c16"
+            + "\u1c2a\u1c41\u1c59\u1c76\u1c8c\u1c93\u1c9f\u1cad\u1cbe\u1cd3\u1cec\u1d12\u1d31\u1d3e\u1d5b\u1d63"
+            + "\u1d76\u1d7e\u1d99\u1da7\u1db6\u1dc5\u1dd3\u1ddf\u1dec\u1e01\u1e19\u1e2e\u1e42\u1e4f\u1e69\u1e78"
+            + "\u1e9c\u1eaf\u1ecd\u1ee4\u1eed\u1f03\u1f0c\u1f25\u1f2c\u1f3a\u1f44\u1f5d\u1f61\u1f75\u1f7c\u1f87"
+            + "\u1fa8\u1fbf\u1fd4\u1fee\u1ff9\u2011\u2037\u204a\u206c\u2075\u2087\u209d\u20ae\u20c9\u20e7\u20f9"
+            + "\u2108\u2118\u2125\u213f\u2152\u2173\u218a\u2193\u21a7\u21b5\u21c3\u21d4\u21e1\u21ea\u21f5\u220e"
+            + "\u2217\u222f\u223f\u2251\u225c\u227c\u2287\u2295\u22b1\u22cd\u22ee\u22fc\u2309\u2318\u2334\u2344"
+            + "\u2357\u2368\u2380\u2393\u23a7\u23be\u23c9\u23cf\u23de\u23f5\u2410\u2420\u2432\u243c\u2444\u2449"
+            + "\u245d\u2470\u2477\u2483\u2489\u2493\u249f\u24a8\u24cd\u24e8\u24f3\u2500\u2508\u250c\u0000\u0012&>R_"
+            + "\u0088\u0092\u00a8\u00b5\u00c9\u00d1\u00e7\u00f8\u0107\u0111\u0126\u013a\u0145\u0152\u0164\u017e"
+            + "\u0196\u01b4\u01d0\u01ea\u01ff\u0217\u022d\u023f\u0252\u0268\u0273\u027d\u028c\u029a\u02c0\u02cc"
+            + "\u02de\u02e7\u02ef\u02f7\u0306\u031c\u032f\u033a\u035a\u0361\u0372\u0380\u0393\u03ab\u03b8\u03c4"
+            + "\u03cd\u03f0\u0409\u0421\u0446\u0456\u0466\u0486\u04a0\u04b3\u04c1\u04c8\u04ed\u0508\u051a\u052c"
+            + "\u052f\u054e\u0554\u0567\u0580\u059d\u05ab\u05bc\u05c3\u05e9\u05ff\u060c\u061d\u0649\u0653\u066a"
+            + "\u0676\u06a0\u06b2\u06c0\u06d6\u06f7\u0709\u071c\u0729\u072f\u0740\u0754\u0769\u0782\u07a2\u07b6"
+            + "\u07d0\u07ef\u0809\u081c\u082e\u0842\u0851\u085a\u086f\u0886\u0898\u08ad\u08bf\u08c3\u08d7\u08de"
+            + "\u08f4\u0913\u0929\u093c\u0952\u096f\u097b\u0985\u0998\u09a5\u09eb\u09ff\u0a0f\u0a1e\u0a29\u0a38"
+            + "\u0a4c\u0a5a\u0a65\u0a82\u0a8b\u0a9d\u0abc\u0af5\u0b01\u0b0b\u0b1c\u0b31\u0b3f\u0b4f\u0b5d\u0b71"
+            + "\u0b88\u0b9f\u0bb2\u0bc7\u0bd4\u0bfa\u0c0c\u0c14\u0c1f\u0c36\u0c50\u0c6d\u0c7f\u0c8e\u0c99\u0cc1"
+            + "\u0cd1\u0ce4\u0d09\u0d36\u0d52\u0d5c\u0d76\u0d93\u0da9\u0db4\u0dc6\u0dd6\u0de6\u0e05\u0e13\u0e1f"
+            + "\u0e2d\u0e48\u0e55\u0e64\u0e6f\u0e7d\u0eaa\u0eb1\u0eb7\u0ec1\u0ed5\u0ee0\u0ef7\u0f07\u0f21\u0f30"
+            + "\u0f42\u0f55\u0f60\u0f7c\u0f87\u0fc3\u0fcf\u0ff7\u1006\u1012\u101f\u1033\u1059\u1066\u1083\u10a6"
+            + "\u10b2\u10c8\u10e8\u10f2\u1119\u1130\u1144\u1164\u1176\u1183\u1199\u119e\u11bb\u11d2\u11de\u11e3"
+            + "\u11f1\u1205\u120e\u1227\u1241\u1253\u1264\u1269\u1275\u128c\u129c\u12b3\u12c6\u12d5\u12ee\u1306"
+            + "\u131d\u132b\u1345\u1360\u136f\u1378\u1384\u13a9\u13cb\u13d4\u13e7\u13f3\u13fe\u141d\u1447\u1457"
+            + "\u1464\u1493\u14b7\u14ce\u14dc\u14fc\u1512\u1539\u154b\u1556\u156c\u1576\u157d\u1597\u15a6\u15ba"
+            + "\u15c9\u15d1\u15dc\u15f0\u15f4\u160f\u1615\u1623\u1631\u1653\u1676\u1683\u1697\u16b8\u16ca\u16fd"
+            + "\u170d\u171c\u1726\u173b\u1751\u176a\u1775\u1785\u178e\u17a7\u17cf\u17e7\u17f1\u1801\u1813\u1829"
+            + "\u1841\u1851\u185c\u1872\u188b\u18a0\u18b4\u18be\u18e2\u18f1\u1916\u1923\u192a\u1931\u1937\u193e"
+            + "\u194b\u1961\u1978\u19a2\u19c9\u19dd\u19fc\u1a07\u1a1a\u1a2c\u1a3c\u1a71\u1a90\u1a9b\u1aaf\u1abd"
+            + "\u1ad4\u1ae8\u1af6\u1b02\u1b2a\u1b39\u1b50\u1b60\u1b75\u1b81\u1b9a\u1ba3\u1bb2\u1bbd\u1bc9\u1bf4"
+            + "\u1c06\u1c1b\u1c46\u1c5e\u1c77\u1c94\u1cb3\u1cc8\u1cd6\u1ced\u1d0a\u1d1d\u1d34\u1d42\u1d59\u1d6b"
+            + "\u1d7a\u1d96\u1d99\u1da5\u1db1\u1dcf\u1ddc\u1dec\u1dfd\u1e0a\u1e27\u1e3e\u1e65\u1e73\u1e94\u1ea9"
+            + "\u1eb7\u1ecf\u1edf\u1eed\u1f06\u1f17\u1f2b\u1f35\u1f4a\u1f61\u1f6b\u1f83\u1f8e\u1f9e\u1fb3\u1fc5"
+            + "\u1fd1\u1fe0\u1fed\u1ffc\u2030\u2055\u2063\u2073\u2081\u2094\u20b0\u20c9\u20d3\u20e0\u210c\u211e"
+            + "\u2131\u213b\u2146\u2165\u2173\u2190\u219c\u21b8\u21d9\u21f7\u2207\u221b\u2229\u223f\u2259\u2269"
+            + "\u227d\u229b\u22a0\u22b4\u22c4\u22cf\u22de\u22f7\u230e\u2319\u2321\u2338\u2341\u2354\u236a\u2379"
+            + "\u2388\u239a\u23ac\u23bc\u23ce\u23f0\u2405\u2427\u2458\u2468\u2496\u24c0\u24db\u24ea\u2500\u2512"
+            + "\u251d\u2546\u255a\u256c\u257e\u258a\u2596\u25a5\u25bd\u25d1\u25ee\u25f8\u2613\u262c\u2638\u2643"
+            + "\u2654\u2664\u2675\u2688\u2696\u26a5\u26af\u26bd\u26c8\u26e5\u26f8\u2710\u2721\u273d\u277d\u279c"
+            + "\u27d4\u27e6\u27f3\u2817\u282a\u2839\u2843\u2850\u2856\u2866\u0000\u0016%3GVd\u008a\u00a9\u00b5"
+            + "\u00bd\u00d4\u00dd\u00e6\u00f1\u0107\u0117\u012b\u0146\u0168\u0171\u0178\u0189\u01a3\u01ac\u01be"
+            + "\u01cc\u01d0\u01f0\u0215\u022b\u0238\u0257\u026e\u0281\u028b\u0299\u02a6\u02bb\u02c4\u02f6\u02fd"
+            + "\u0311\u0335\u0350\u0366\u0370\u037a\u0395\u03a0\u03b0\u03bf\u03d5\u03ee\u03f9\u041c\u0433\u0440"
+            + "\u046a\u047e\u048a\u0498\u04a4\u04b0\u04c6\u04ec\u051c\u053f\u0553\u0566\u0571\u0581\u0599\u05b1"
+            + "\u05b6\u05c5\u05ce\u05d6\u05e8\u05fd\u0628\u0634\u0642\u0657\u0667\u067a\u0693\u069d\u06a6\u06ac"
+            + "\u06b4\u06d6\u06e3\u0711\u0721\u0740\u0754\u0768\u0777\u0796\u07a1\u07c4\u07d1\u07f2\u0808\u0828"
+            + "\u0839\u084b\u0863\u0874\u0896\u08a3\u08b1\u08f1\u0911\u0927\u0938\u0950\u095d\u0967\u0982\u0994"
+            + "\u099c\u09a3\u09b0\u09ba\u09ca\u09eb\u09f7\u09ff\u0a0c\u0a1c\u0a63\u0a70\u0a87\u0aa5\u0abd\u0ac4"
+            + "\u0ad0\u0af1\u0b04\u0b18\u0b24\u0b3e\u0b55\u0b70\u0ba0\u0bae\u0bb4\u0bc1\u0bd3\u0bf1\u0bfe\u0c0e"
+            + "\u0c2f\u0c42\u0c5e\u0c77\u0c83\u0c99\u0cb0\u0cc5\u0cdb\u0ce6\u0d1c\u0d27\u0d3d\u0d4e\u0d61\u0d6f"
+            + "\u0d88\u0d9e\u0daf\u0dc1\u0dd0\u0de2\u0e03\u0e11\u0e2c\u0e48\u0e59\u0e63\u0e86\u0e8d\u0eab\u0eb6"
+            + "\u0ec5\u0ed8\u0ee7\u0ef9\u0f11\u0f1f\u0f3a\u0f4a\u0f57\u0f65\u0f74\u0f82\u0f94\u0faa\u0fc5\u0fcf"
+            + "\u0fe8\u0ffe\u1016\u101a\u102a\u105a\u106d\u107b\u108c\u109b\u10b5\u10ba\u10c1\u10cf\u10d4\u10e7"
+            + "\u1106\u1118\u113a\u1140\u117a\u118e\u119f\u11bc\u11dc\u11f3\u11ff\u1212\u1235\u124e\u1255\u1272"
+            + "\u128e\u12b5\u12c6\u12ef\u12f4\u1310\u131b\u1334\u133d\u1361\u1384\u13a7\u13c3\u13e0\u13ee\u1404"
+            + "\u1414\u142c\u1434\u1449\u145a\u1472\u1494\u149b\u14bb\u14c9\u14d7\u14e9\u1503\u1512\u152e\u153c"
+            + "\u155b\u1569\u1588\u1597\u15aa\u15b1\u15da\u15f8\u161d\u1636\u1640\u1655\u1668\u168f\u16aa\u16b8"
+            + "\u16c6\u16d7\u16e3\u16f1\u1712\u1722\u1733\u1741\u1771\u1781\u17ab\u17c1\u17de\u17e7\u17ee\u1810"
+            + "\u1834\u183b\u184e\u186b\u1872\u187e\u189b\u18af\u18bd\u18c1\u18d0\u18df\u18e8\u18f8\u1911\u191f"
+            + "\u194c\u1956\u1961\u197a\u198d\u199f\u19b0\u19c6\u19e0\u19ef\u19fd\u1a15\u1a45\u1a62\u1a77\u1a8d"
+            + "\u1a98\u1ab2\u1abf\u1aca\u1adb\u1aff\u1b07\u1b0b\u1b21\u1b2e\u1b33\u1b41\u1b48\u1b5a\u1b69\u1b76"
+            + "\u1bc3\u1bde\u1beb\u1bee\u1bfd\u1c0f\u1c25\u1c2f\u1c40\u1c4b\u1c69\u1c80\u1c8f\u1cb0\u1cc2\u1ce6"
+            + "\u1cf2\u1cff\u1d13\u1d20\u1d35\u1d4f\u1d61\u1d63\u1da4\u1dac\u1db1\u1dd4\u1de4\u1dfc\u1e14\u1e29"
+            + "\u1e39\u1e47\u1e5e\u1e66\u1e76\u1e83\u1eaa\u1eca\u1ed8\u1eeb\u1ef8\u1f09\u1f18\u1f28\u1f4e\u1f6f"
+            + "\u1f77\u1f91\u1f9b\u1fab\u1fb1\u1fc3\u1fd2\u1fdd\u1ffd\u2015\u2021\u203a\u204b\u2053\u2070\u207c"
+            + "\u2089\u20a4\u20bb\u20c6\u20d6\u20e8\u20ff\u210f\u2136\u2140\u2154\u2175\u2195\u21a1\u21b2\u21c9"
+            + "\u21e2\u21f1\u21f6\u2203\u220b\u2220\u2234\u223a\u223f\u225f\u226d\u229b\u22b5\u22c3\u22d5\u22ee"
+            + "\u2303\u2318\u2324\u2358\u2363\u2370\u2381\u2389\u239e\u23b0\u23b6\u23d6\u23ec\u23fb\u2402\u240f"
+            + "\u2418\u242b\u2439\u243f\u244f\u2462\u2471\u2488\u24b9\u24c8\u24d2\u24ee\u2537\u253e\u2561\u2575"
+            + "\u2583\u2597\u25a0\u25b7\u25d4\u25ed\u2606\u2614\u262b\u263a\u2640\u2649\u265d\u2674\u268d\u269a"
+            + "\u26a3\u26bb\u26df\u26e9\u26f1\u2705\u2712\u2732\u2741\u276f\u278a\u27a8\u27c5\u27d7\u27e2\u2804"
+            + "\u2823\u2832\u283a\u2851\u286d\u2874\u0000\u000b\u001e5F\\\u0082\u0090\u0097\u009b\u00b0\u00bd\u00ed"
+            + "\u00fe\u0110\u0121\u0133\u013b\u0153\u016b\u0177\u017f\u018e\u019e\u01bf\u01cb\u01da\u01e9\u01f4"
+            + "\u01f9\u0202\u021a\u023e\u0252\u0268\u0277\u0291\u02ac\u02b9\u02d4\u02dc\u02f9\u030b\u0317\u0340"
+            + "\u0366\u0378\u0386\u038f\u039a\u03b3\u03b9\u03ca\u03d8\u03f0\u0404\u0421\u0432\u0442\u045c\u0467"
+            + "\u046e\u0492\u04c6\u04d3\u04e3\u04f5\u0515\u0522\u053b\u0561\u0575\u0586\u059b\u05aa\u05cd\u05ef"
+            + "\u0611\u0623\u063e\u064c\u0651\u0669\u067c\u0692\u06a7\u06ac\u06d0\u06df\u06ed\u070f\u0724\u073f"
+            + "\u0755\u0762\u0769\u0790\u07a0\u07b3\u07bd\u07ce\u07d8\u07eb\u0817\u082b\u083e\u0852\u086b\u0872"
+            + "\u0887\u0897\u08a3\u08a7\u08b6\u08c8\u08d3\u08e0\u08f7\u090d\u0922\u0947\u0951\u095e\u0968\u0971"
+            + "\u098d\u09aa\u09b9\u09c6\u09e2\u09e9\u09f5\u0a03\u0a20\u0a35\u0a5e\u0a71\u0a7d\u0a97\u0aa4\u0ab3"
+            + "\u0ac8\u0ad7\u0ae0\u0b05\u0b1f\u0b34\u0b43\u0b4d\u0b57\u0b66\u0b6d\u0b77\u0baa\u0bc0\u0bc9\u0bf6"
+            + "\u0c0f\u0c1d\u0c34\u0c4c\u0c6a\u0c79\u0c88\u0c93\u0cb7\u0cc9\u0cd5\u0ce7\u0cfd\u0d18\u0d29\u0d37"
+            + "\u0d4a\u0d5e\u0d68\u0d7b\u0d96\u0da8\u0dbd\u0dd7\u0e05\u0e11\u0e2a\u0e3e\u0e41\u0e52\u0e5f\u0e80"
+            + "\u0e8b\u0eb6\u0ec6\u0ed7\u0efc\u0f34\u0f40\u0f46\u0f54\u0f65\u0f84\u0f94\u0f9f\u0fc3\u0ff0\u0ff7"
+            + "\u101c\u1037\u1048\u1059\u107b\u1093\u10ac\u10ce\u10db\u10e5\u10f7\u1110\u1128\u1137\u1146\u1150"
+            + "\u115a\u1175\u118c\u11a7\u11cc\u11e1\u11ea\u11f7\u11ff\u1207\u1223\u1230\u123f\u124f\u125b\u1280"
+            + "\u128c\u129a\u12b8\u12cf\u12de\u1308\u1311\u1334\u134b\u1357\u135d\u1375\u137e\u13a0\u13b3\u13d4"
+            + "\u13e6\u1400\u1411\u1430\u144a\u146f\u1492\u149a\u14a8\u14b2\u14c1\u14f3\u14fb\u151b\u1528\u152f"
+            + "\u1543\u155b\u1566\u157d\u158e\u15a7\u15ae\u15b4\u15c3\u15dc\u15eb\u15f7\u160c\u1620\u1638\u1642"
+            + "\u1655\u165c\u1688\u1699\u169f\u16af\u16c9\u16ed\u16fa\u1714\u1733\u1739\u1761\u1771\u1774\u1784"
+            + "\u179e\u17ae\u17c3\u17ca\u17e3\u17f5\u1801\u1824\u182b\u1831\u185d\u186b\u1885\u189c\u18c2\u18d8"
+            + "\u18e5\u18fa\u190a\u191f\u192b\u192e\u1943\u195d\u1975\u1985\u1997\u19a4\u19b9\u19c2";
+
+    static final String[] NAMES = {
+            "Ericsson Technology LicensingNokia Mobile PhonesIntel Corp.IBM Corp.Toshiba Corp.3ComMicrosoftLucent"
+                + "MotorolaInfineon Technologies AGCambridge Silicon RadioSilicon WaveDigianswer A/STexas Instruments I"
+                + "nc.Parthus Technologies Inc.Broadcom CorporationMitel SemiconductorWidcomm, Inc.Zeevo, Inc.Atmel Cor"
+                + "porationMitsubishi Electric CorporationRTX Telecom A/SKC Technology Inc.NewlogicTransilica, Inc.Rohd"
+                + "e & Schwarz GmbH & Co. KGTTPCom LimitedSignia Technologies, Inc.Conexant Systems Inc.QualcommInvente"
+                + "lAVM BerlinBandSpeed, Inc.Mansella LtdNEC CorporationWavePlus Technology Co.,Ltd.AlcatelNXP Semicond"
+                + "uctors (formerly Philips Semiconductors);C TechnologiesOpen InterfaceR F Micro DevicesHitachi LtdSym"
+                + "bol Technologies, Inc.TenovisMacronix International Co. Ltd.GCT SemiconductorNorwood SystemsMewTel T"
+                + "echnology Inc.ST MicroelectronicsSynopsys, Inc.Red-M (Communications,LtdCommil LtdComputer Access Te"
+                + "chnology Corporation (CATC);Eclipse (HQ Espana,S.L.Renesas Electronics CorporationMobilian Corporati"
+                + "onSyntronix CorporationIntegrated System Solution Corp.Matsushita Electric Industrial Co.,Ltd.Gennum"
+                + " CorporationBlackBerry Limited (formerly Research In Motion);IPextreme, Inc.Systems and Chips, IncBl"
+                + "uetooth SIG, IncSeiko Epson CorporationIntegrated Silicon Solution Taiwan, Inc.CONWISE Technology Co"
+                + "rporation LtdPARROT AUTOMOTIVE SASSocket MobileAtheros Communications, Inc.MediaTek, Inc.BluegigaMar"
+                + "vell Technology Group Ltd.3DSP CorporationAccel Semiconductor Ltd.Continental Automotive SystemsAppl"
+                + "e, Inc.Staccato Communications, Inc.Avago TechnologiesAPT Ltd.SiRF Technology, Inc.Tzero Technologie"
+                + "s, Inc.J&M CorporationFree2move AB3DiJoy CorporationPlantronics, Inc.Sony Ericsson Mobile Communicat"
+                + "ionsHarman International Industries, Inc.Vizio, Inc.Nordic Semiconductor ASAEM Microelectronic-Marin"
+                + " SARalink Technology CorporationBelkin International, Inc.Realtek Semiconductor CorporationStonestre"
+                + "et One,LLCWicentric, Inc.RivieraWaves S.A.SRDA MicroelectronicsGibson GuitarsMiCommand Inc.Band XI I"
+                + "nternational,LLCHewlett-Packard Company9Solutions OyGN Netcom A/SGeneral MotorsA&D Engineering, Inc."
+                + "MindTree Ltd.Polar Electro OYBeautiful Enterprise Co.,Ltd.BriarTek, IncSummit Data Communications, I"
+                + "nc.Sound IDMonster,LLCconnectBlue ABShangHai Super Smart Electronics Co. Ltd.Group Sense Ltd.Zomm,LL"
+                + "CSamsung Electronics Co. Ltd.Creative Technology Ltd.Laird TechnologiesNike, Inc.lesswire AGMStar Se"
+                + "miconductor, Inc.Hanlynn TechnologiesA & R CambridgeSeers Technology Co.,Ltd.Sports Tracking Technol"
+                + "ogies Ltd.Autonet MobileDeLorme Publishing Company, Inc.WuXi VimicroSennheiser Communications A/STim"
+                + "eKeeping Systems, Inc.Ludus Helsinki Ltd.BlueRadios, Inc.Equinux AGGarmin International, Inc.Ecotest"
+                + "GN ReSound A/SJawboneTopcon Positioning Systems,LLCGimbal Inc. (formerly Qualcomm Labs, Inc. and Qua"
+                + "lcomm Retail Solutions, Inc.);Zscan SoftwareQuintic CorpTelit Wireless Solutions GmbH (formerly Stol"
+                + "lmann E+V GmbH);Funai Electric Co.,Ltd.Advanced PANMOBIL systems GmbH & Co. KGThinkOptics, Inc.Unive"
+                + "rsal Electronics, Inc.Airoha Technology Corp.NEC Lighting,Ltd.ODM Technology, Inc.ConnecteDevice Ltd"
+                + ".zero1.tv GmbHi.Tech Dynamic Global Distribution Ltd.AlpwiseJiangsu Toppower Automotive Electronics "
+                + "Co.,Ltd.Colorfy, Inc.Geoforce Inc.Bose CorporationSuunto OyKensington Computer Products GroupSR-Medi"
+                + "zinelektronikVertu Corporation LimitedMeta Watch Ltd.LINAK A/SOTL Dynamics LLCPanda Ocean Inc.Visteo"
+                + "n CorporationARP Devices LimitedMagneti Marelli S.p.ACAEN RFID srlIngenieur-Systemgruppe Zahn GmbHGr"
+                + "een Throttle GamesPeter Systemtechnik GmbHOmegawave OyCinetixPassif Semiconductor CorpSaris Cycling "
+                + "Group, IncBekey A/SClarinox Technologies Pty. Ltd.BDE Technology Co.,Ltd.Swirl NetworksMeso internat"
+                + "ionalTreLab LtdQualcomm Innovation Center, Inc. (QuIC);Johnson Controls, Inc.Starkey Laboratories In"
+                + "c.S-Power Electronics LimitedAce Sensor IncAplix CorporationAAMP of AmericaStalmart Technology Limit"
+                + "edAMICCOM Electronics CorporationShenzhen Excelsecu Data Technology Co.);LtdGeneq Inc.adidas AGLG El"
+                + "ectronicsOnset Computer CorporationSelfly BVQuuppa Oy.GeLo IncEvlumaMC10Binauric SEBeats Electronics"
+                + "Microchip Technology Inc.Elgato Systems GmbHARCHOS SADexcom, Inc.Polar Electro Europe B.V.Dialog Sem"
+                + "iconductor B.V.Taixingbang Technology (HK,Co);. LTD.KawantechAustco Communication SystemsTimex Group"
+                + " USA, Inc.Qualcomm Technologies, Inc.Qualcomm Connected Experiences, Inc.Voyetra Turtle Beachtxtr Gm"
+                + "bHBiosentronicsProcter & GambleHosiden CorporationMuzik LLCMisfit Wearables CorpGoogleDanlers LtdSem"
+                + "ilink IncinMusic Brands, IncL.S. Research Inc.Eden Software Consultants Ltd.FreshtempKS Technologies"
+                + "ACTS TechnologiesVtrack SystemsNielsen-Kellerman CompanyServer Technology Inc.BioResearch Associates"
+                + "Jolly Logic,LLCAbove Average Outcomes, Inc.Bitsplitters GmbHPayPal, Inc.Witron Technology LimitedMor"
+                + "se Project Inc.Kent Displays Inc.Nautilus Inc.Smartifier OyElcometer LimitedVSN Technologies, Inc.Ac"
+                + "eUni Corp.,Ltd.StickNFindCrystal Code ABKOUKAAM a.s.Delphi CorporationValenceTech LimitedStanley Bla"
+                + "ck and DeckerTypo Products,LLCTomTom International BVFugoo, Inc.Keiser CorporationBang & Olufsen A/S"
+                + "PLUS Location Systems Pty LtdUbiquitous Computing Technology CorporationInnovative Yachtter Solution"
+                + "sWilliam Demant Holding A/SChicony Electronics Co.,Ltd.Atus BVCodegate LtdERi, IncTransducers Direct"
+                + ",LLCFujitsu Ten LImitedAudi AGHiSilicon Technologies Col,Ltd.Nippon Seiki Co.,Ltd.Steelseries ApSVis"
+                + "ybl Inc.Openbrain Technologies,Co.,Ltd.Xensre.solutions10AK TechnologiesWimoto Technologies IncRadiu"
+                + "s Networks, Inc.Wize Technology Co.,Ltd.Qualcomm Labs, Inc.Hewlett Packard EnterpriseBaiduArendi AGS"
+                + "koda Auto a.s.Volkswagen AGPorsche AGSino Wealth Electronic Ltd.AirTurn, Inc.Kinsa, IncHID GlobalSEA"
+                + "T esPromethean Ltd.Salutica Allied SolutionsGPSI Group Pty LtdNimble Devices OyChangzhou Yongse Info"
+                + "tech Co.,Ltd.SportIQTEMEC Instruments B.V.Sony CorporationASSA ABLOYClarion Co. Inc.Warehouse Innova"
+                + "tionsCypress SemiconductorMADS IncBlue Maestro LimitedResolution Products,Ltd.Aireware LLCSilvair, I"
+                + "nc.Prestigio Plaza Ltd.NTEO Inc.Focus Systems CorporationTencent Holdings Ltd.AllegionMurata Manufac"
+                + "turing Co.,Ltd.WirelessWERXNod, Inc.B&B Manufacturing CompanyAlpine Electronics (China,Co.,LtdFedEx "
+                + "ServicesGrape Systems Inc.Bkon ConnectLintech GmbHNovatel WirelessCirightMighty Cast, Inc.Ambimat El"
+                + "ectronicsPerytons Ltd.Tivoli Audio,LLCMaster LockMesh-Net LtdHUIZHOU DESAY SV AUTOMOTIVE CO.,LTD.Tan"
+                + "gerine, Inc.B&W Group Ltd.Pioneer CorporationOnBeepVernier Software & TechnologyROL ErgoPebble Techn"
+                + "ologyNETATMOAccumulate ABAnhui Huami Information Technology Co.,Ltd.Inmite s.r.o.ChefSteps, Inc.mica"
+                + "s AGBiomedical Research Ltd.Pitius Tec S.L.Estimote, Inc.Unikey Technologies, Inc.Timer Cap Co.AwoXy"
+                + "ikesMADSGlobalNZ Ltd.PCH InternationalQingdao Yeelink Information Technology Co.,Ltd.Milwaukee Tool "
+                + "(Formally Milwaukee Electric Tools);MISHIK Pte LtdAscensia Diabetes Care US Inc.Spicebox LLCemberlig"
+                + "htCooper-Atkins CorporationQblinksMYSPHERALifeScan IncVolantic ABPodo Labs, IncRoche Diabetes Care A"
+                + "GAmazon Fulfillment ServiceConnovate Technology Private LimitedKocomojo,LLCEverykey Inc.Dynamic Cont"
+                + "rolsSentriLockI-SYST inc.CASIO COMPUTER CO.,LTD.LAPIS Semiconductor Co.,Ltd.Telemonitor, Inc.taskit "
+                + "GmbHDaimler AGBatAndCatBluDotz LtdXTel Wireless ApSGigaset Communications GmbHGecko Health Innovatio"
+                + "ns, Inc.HOP UbiquitousWalt DisneyNectarbel'apps LLCCORE Lighting LtdSeraphim Sense LtdUnico RBCPhysi"
+                + "cal Enterprises Inc.Able Trend Technology LimitedKonica Minolta, Inc.Wilo SEExtron Design ServicesFi"
+                + "tbit, Inc.Fireflies SystemsIntelletto Technologies Inc.FDK CORPORATIONCloudleaf, IncMaveric Automati"
+                + "on LLCAcoustic Stream CorporationZuliPaxton Access LtdWiSilica Inc.VENGIT Korlatolt Felelossegu Tars"
+                + "asagSALTO SYSTEMS S.L.TRON Forum (formerly T-Engine Forum);CUBETECH s.r.o.Cokiya IncorporatedCVS Hea"
+                + "lthCeruusStrainstall LtdChannel Enterprises (HK,Ltd.FIAMMGIGALANE.CO.);LTDEROADMine Safety Appliance"
+                + "sIcon Health and FitnessAsandoo GmbHENERGOUS CORPORATIONTaobaoCanon Inc.Geophysical Technology Inc.F"
+                + "acebook, Inc.Trividia Health, Inc.FlightSafety InternationalEarlens CorporationSunrise Micro Devices"
+                + ", Inc.Star Micronics Co.,Ltd.Netizens Sp. z o.o.Nymi Inc.Nytec, Inc.Trineo Sp. z o.o.Nest Labs Inc.L"
+                + "M Technologies LtdGeneral Electric Companyi+D3 S.L.HANA MicronStages Cycling LLCCochlear Bone Anchor"
+                + "ed Solutions ABSenionLab ABSyszone Co.,LtdPulsate Mobile Ltd.Hong Kong HunterSun Electronic Limitedp"
+                + "ironex GmbHBRADATECH Corp.Transenergooil AGBunchDME MicroelectronicsBitcraze ABHASWARE Inc.Abiogenix"
+                + " Inc.Poly-Control ApSAvi-onLaerdal Medical ASFetch My PetSam Labs Ltd.Chengdu Synwing Technology Ltd"
+                + "HOUWA SYSTEM DESIGN,k.k.BSHPrimus Inter Pares LtdAugust Home, IncGill ElectronicsSky Wave DesignNewl"
+                + "ab S.r.l.ELAD srlG-wearables inc.Squadrone Systems Inc.Code CorporationSavant Systems LLCLogitech In"
+                + "ternational SAInnblue ConsultingiParking Ltd.Koninklijke Philips Electronics N.V.Minelab Electronics"
+                + " Pty LimitedBison Group Ltd.Widex A/SJolla LtdLectronix, Inc.Caterpillar IncFreedom InnovationsDynam"
+                + "ic Devices LtdTechnology Solutions (UK,LtdIPS Group Inc.STIRSano, Inc.Advanced Application Design, I"
+                + "nc.AutoMap LLCSpreadtrum Communications Shanghai LtdCuteCircuit LTDValeo ServiceFullpower Technologi"
+                + "es, Inc.KloudNationZebra Technologies CorporationItron, Inc.The University of TokyoUTC Fire and Secu"
+                + "rityCool Webthings LimitedDJO GlobalGelliner LimitedAnyka (Guangzhou,Microelectronics Technology Co,"
+                + "LTDMedtronic Inc.Gozio Inc.Form Lifting,LLCWahoo Fitness,LLCKontakt Micro-Location Sp. z o.o.Radio S"
+                + "ystems CorporationFreescale Semiconductor, Inc.",
+            "Verifone Systems Pte Ltd. Taiwan BranchAR TimingRigado LLCKemppi OyTapcentive Inc.Smartbotics Inc.Ot"
+                + "ter Products,LLCSTEMP Inc.LumiGeek LLCInvisionHeart Inc.Macnica Inc.Jaguar Land Rover LimitedCoroWar"
+                + "e Technologies, IncSimplo Technology Co.,LTDOmron Healthcare Co.,LTDComodule GMBHikeGPSTelink Semico"
+                + "nductor Co. LtdInterplan Co.,LtdWyler AGIK Multimedia Production srlLukoton Experience OyMTI LtdTech"
+                + "4home,LdaHiotech ABDOTT LimitedBlue Speck Labs,LLCCisco Systems, IncMobicomm IncEdamicGoodnet,LtdLus"
+                + "ter Leaf Products IncManus Machina BVMobiquity Networks IncPraxis DynamicsPhilip Morris Products S.A"
+                + ".Comarch SANestl Nespresso S.A.Merlinia A/SLifeBEAM TechnologiesTwocanoes Labs,LLCMuoverti LimitedSt"
+                + "amer Musikanlagen GMBHTesla MotorsPharynks CorporationLupineSiemens AGHuami (Shanghai,Culture Commun"
+                + "ication CO.,LTDFoster Electric Company,LtdETA SAx-Senso Solutions KftShenzhen SuLong Communication L"
+                + "tdFengFan (BeiJing,Technology Co,LtdQrio IncPitpatpet LtdMSHeli s.r.l.Trakm8 LtdJIN CO,LtdAlatech Te"
+                + "hnologyBeijing CarePulse Electronic Technology Co,LtdAwarepointViCentra B.V.Raven IndustriesWaveWare"
+                + " Technologies Inc.Argenox TechnologiesBragi GmbH16Lab IncMasimo CorpIotera IncEndress+HauserACKme Ne"
+                + "tworks, Inc.FiftyThree Inc.Parker Hannifin CorpTranscranial LtdUwatec AGOrlan LLCBlue Clover Devices"
+                + "M-Way Solutions GmbHMicrotronics Engineering GmbHSchneider Schreibgerte GmbHSapphire Circuits LLCLum"
+                + "o Bodytech Inc.UKC TechnosolutionXicato Inc.PlaybrushDai Nippon Printing Co.,Ltd.G24 Power LimitedAd"
+                + "Babble Local Commerce Inc.Devialet SAALTYORUniversity of Applied Sciences Valais/Haute Ecole Valaisa"
+                + "nneFive Interactive,LLC dba ZendoNetEaseHangzhouNetwork co.Ltd.Lexmark International Inc.Fluke Corpo"
+                + "rationYardarm TechnologiesSensaRxSECVRE GmbHGlacial Ridge TechnologiesIdentiv, Inc.DDS, Inc.SMK Corp"
+                + "orationSchawbel Technologies LLCXMI Systems SACerevoTorrox GmbH & Co KGGemaltoDEKA Research & Develo"
+                + "pment Corp.Domster Tadeusz SzydlowskiTechnogym SPAFLEURBAEY BVBAAptcode SolutionsLSI ADL TechnologyA"
+                + "nimas CorpAlps Electric Co.,Ltd.OCEASOFTMotsai ResearchGeotabE.G.O. Elektro-Gertebau GmbHbewhere inc"
+                + "Johnson Outdoors Incsteute Schaltgerate GmbH & Co. KGEkomini inc.DEFA ASAseptika LtdHUAWEI Technolog"
+                + "ies Co.,Ltd. ( );HabitAware,LLCruwido austria gmbhITEC corporationStoneLSonova AGMaven Machines, Inc"
+                + ".Synapse ElectronicsStandard Innovation Inc.RF Code, Inc.Wally Ventures S.L.Willowbank Electronics L"
+                + "tdSK TelecomJetro ASCode Gears LTDNANOLINK APSIF,LLCRF Digital CorpChurch & Dwight Co., IncMultibit "
+                + "OyCliniCloud IncSwiftSensorsBlue BiteELIAS GmbHSivantos GmbHPetzlstorm power ltdEISST LtdInexess Tec"
+                + "hnology Simma KGCurrant, Inc.C2 Development, Inc.Blue Sky Scientific,LLCALOTTAZS LABS,LLCKupson spol"
+                + ". s r.o.Areus Engineering GmbHImpossible Camera GmbHInventureTrack SystemsLockedUpItudePacific Lock "
+                + "CompanyTendyron Corporation ( );Robert Bosch GmbHIlluxtron international B.V.miSport Ltd.ChargelibDo"
+                + "ppler LabBBPOS LimitedRTB Elektronik GmbH & Co. KGRx Networks, Inc.WeatherFlow, Inc.Technicolor USA "
+                + "Inc.Bestechnic(Shanghai););LtdRaden IncJouZen OyCLABER S.P.A.Hyginex, Inc.HANSHIN ELECTRIC RAILWAY C"
+                + "O.);LTD.Schneider ElectricOort Technologies LLCChrono TherapeuticsRinnai CorporationSwissprime Techn"
+                + "ologies AGKoha.);Co.LtdGenevac LtdChemtronicsSeguro Technology Sp. z o.o.Redbird Flight SimulationsD"
+                + "ash RoboticsLINE CorporationGuillemot CorporationTechtronic Power Tools Technology LimitedWilson Spo"
+                + "rting GoodsLenovo (Singapore,Pte Ltd. ( );Ayatan SensorsElectronics Tomorrow LimitedVASCO Data Secur"
+                + "ity International, Inc.PayRange Inc.ABOV SemiconductorAINA-Wireless Inc.Eijkelkamp Soil & WaterBMA e"
+                + "rgonomics b.v.Teva Branded Pharmaceutical Products R&D, Inc.Anima3MEmpatica SrlAfero, Inc.Powercast "
+                + "CorporationSecuyou ApSOMRON CorporationSend SolutionsNIPPON SYSTEMWARE CO.);LTD.NeosfarFliegl Agrart"
+                + "echnik GmbHGilvaderDigi International Inc (R);DeWalch Technologies, Inc.Flint Rehabilitation Devices"
+                + ",LLCSamsung SDS Co.,Ltd.Blur Product DevelopmentUniversity of MichiganVictron Energy BVNTT docomoCar"
+                + "manah Technologies Corp.Bytestorm Ltd.Espressif Incorporated ( (,);UnwireConnected Yard, Inc.America"
+                + "n Music EnvironmentsSensogram Technologies, Inc.Fujitsu LimitedArdic TechnologyDelta Systems, IncHTC"
+                + " CorporationCitizen Holdings Co.,Ltd.SMART-INNOVATION.incBlackrat SoftwareThe Idea Cave,LLCGoPro, In"
+                + "c.AuthAir, IncVensi, Inc.Indagem Tech LLCIntemo TechnologiesDreamVisions co.,Ltd.Runteq Oy LtdIMAGIN"
+                + "ATION TECHNOLOGIES LTDCoSTAR TEchnologiesClarius Mobile Health Corp.Shanghai Frequen Microelectronic"
+                + "s Co.,Ltd.Uwanna, Inc.Lierda Science & Technology Group Co.,Ltd.Silicon LaboratoriesWorld Moto Inc.G"
+                + "iatec Scientific Inc.Loop Devices, IncIACA electroniqueProxy Technologies, Inc.Swipp ApSLife Laborat"
+                + "ory Inc.FUJI INDUSTRIAL CO.);LTD.Surefire,LLCDolby LabsEllisysMagnitude Lighting ConvertersHilti AGD"
+                + "evdata S.r.l.DeviceworxShortcut LabsSGL Italia S.r.l.PEEQ DATADucere Technologies Pvt LtdDiveNav, In"
+                + "c.RIIG AI Sp. z o.o.Thermo Fisher ScientificAG Measurematics Pvt. Ltd.CHUO Electronics CO.,LTD.Aspen"
+                + "ta InternationalEugster Frismag AGAmber wireless GmbHHQ IncLab Sensor SolutionsEnterlab ApSEyefi, In"
+                + "c.MetaSystem S.p.A.SONO ELECTRONICS. CO.,LTDJewelbotsCompumedics LimitedRotor Bike ComponentsAstro, "
+                + "Inc.Amotus SolutionsHealthwear Technologies (Changzhou);LtdEssex ElectronicsGrundfos A/SEargo, Inc.E"
+                + "lectronic Design LabESYLUXNIPPON SMT.CO.);LtdBM innovations GmbHindoormapOttoQ IncNorth Pole Enginee"
+                + "ring3flares Technologies Inc.Electrocompaniet A.S.Mul-T-LockCorentium ASEnlighted IncGISTICAJP2 Hold"
+                + "ings,LLCCOBI GmbHBlue Sky Scientific,LLCAppception, Inc.Courtney Thorne LimitedVirtuosysTPV Technolo"
+                + "gy LimitedMonitra SAAutomation Components, Inc.Letsense s.r.l.Etesian Technologies LLCGERTEC BRASIL "
+                + "LTDA.Drekker Development Pty. Ltd.Whirl IncLocus PositioningAcuity Brands Lighting, IncPrevent Biome"
+                + "tricsArioneoVersaMeVaddioLibratone A/SHM Electronics, Inc.TASER International, Inc.SafeTrust Inc.Hea"
+                + "rtland Payment SystemsBitstrata Systems Inc.Pieps GmbHiRiding(Xiamen);Technology Co.);Ltd.Alpha Audi"
+                + "otronics, Inc.TOPPAN FORMS CO.);LTD.Sigma Designs, Inc.Spectrum Brands, Inc.Polymap WirelessMagniWar"
+                + "e Ltd.Novotec Medical GmbHMedicom Innovation Partner a/sMatrix Inc.Eaton CorporationKYSNaya Health, "
+                + "Inc.AcromagInsulet CorporationWellinks Inc.ON SemiconductorFREELAP SAFavero Electronics SrlBioMech S"
+                + "ensor LLCBOLTT Sports technologies Private limitedSaphe InternationalMetormote ABlittleBitsSetPoint "
+                + "MedicalBRControls Products BVZipcarAirBolt Pty LtdKeepTruckin IncMotiv, Inc.Wazombi Labs OORBCOMMNix"
+                + "ie Labs, Inc.AppNearMe LtdHolman IndustriesExpain ASElectronic Temperature Instruments LtdPlejd ABPr"
+                + "opeller HealthShenzhen iMCO Electronic Technology Co.);LtdAlgoriaApption Labs Inc.Cronologics Corpor"
+                + "ationMICRODIA Ltd.lulabytes S.L.Nestec S.A.LLC \"MEGA-F service\"Sharp CorporationPrecision Outcomes"
+                + " LtdKronos IncorporatedOCOSMOS Co.,Ltd.Embedded Electronic Solutions Ltd. dba e2SolutionsAterica Inc"
+                + ".BluStor PMC, Inc.Kapsch TrafficCom ABActiveBlu CorporationKohler Mira LimitedNokeAppion Inc.Resmed "
+                + "LtdCrownstone B.V.Xiaomi Inc.INFOTECH s.r.o.Thingsquare ABT&DLAVAZZA S.p.A.Netclearance Systems, Inc"
+                + ".SDATAWAYBLOKS GmbHLEGO System A/SThetatronics LtdNikon CorporationNeSTSouth Silicon Valley Microele"
+                + "ctronicsALE InternationalCareView Communications, Inc.SchoolBoard LimitedMolex CorporationIVT Wirele"
+                + "ss LimitedAlpine Labs LLCCandura InstrumentsSmartMovt Technology Co.,LtdToken Zero LtdACE CAD Enterp"
+                + "rise Co.,Ltd. (ACECAD);Medela, IncAeroScoutEsrille Inc.THINKERLY SRLExon Sp. z o.o.Meizu Technology "
+                + "Co.,Ltd.Smablo LTDXiQAllswell Inc.Comm-N-Sense Corp DBA VerigoVIBRADORM GmbHOtodata Wireless Network"
+                + " Inc.Propagation Systems LimitedMidwest Instruments & ControlsAlpha Nodus, Inc.petPOMM, IncMattelAir"
+                + "bly Inc.A-Safe LimitedFREDERIQUE CONSTANT SAMaxscend Microelectronics Company LimitedAbbott Diabetes"
+                + " CareASB Bank LtdamadasApplied Science, Inc.iLumi Solutions Inc.Arch Systems Inc.Ember Technologies,"
+                + " Inc.Snapchat IncCasambi Technologies OyPico Technology Inc.St. Jude Medical, Inc.IntriconStructural"
+                + " Health Systems, Inc.Avvel InternationalGallagher GroupIn2things Automation Pvt. Ltd.SYSDEV SrlVonki"
+                + "l Technologies LtdWynd Technologies, Inc.CONTRINEX S.A.MIRA, Inc.Watteam LtdDensity Inc.IOT Pot Indi"
+                + "a Private LimitedSigma Connectivity ABPEG PEREGO SPAWyzelink Systems Inc.Yota Devices LTDFINSECURZen"
+                + "-Me Labs Ltd3IWare Co.,Ltd.EnOcean GmbHInstabeat, IncNima LabsAndreas Stihl AG & Co. KGNathan Rhoade"
+                + "s LLCGrob Technologies,LLCActions (Zhuhai,Technology Co.,LimitedSPD Development Company LtdSensoan O"
+                + "yQualcomm Life IncChip-ing AGffly4uIoT Instruments OyTRUE Fitness TechnologyReiner Kartengeraete Gmb"
+                + "H & Co. KG.SHENZHEN LEMONJOY TECHNOLOGY CO.,LTD.Hello Inc.Evollve Inc.Jigowatts Inc.BASIC MICRO.COM)"
+                + ";INC.CUBE TECHNOLOGIESfoolography GmbHCLINKHestan Smart Cooking Inc.WindowMaster A/SFlowscape ABPAL "
+                + "Technologies LtdWHERE, Inc.Iton Technology Corp.Owl Labs Inc.Rockford Corp.Becon Technologies Co.);L"
+                + "td.Vyassoft Technologies IncNox MedicalKimberly-ClarkTrimble Navigation Ltd.LittelfuseWithings",
+            "i-developer IT Beratung UGUnknownSears Holdings CorporationGantner Electronic GmbHAuthomate IncVerte"
+                + "x International, Inc.AirtagoSwiss Audio SAToGetHome Inc.AXISOpenmaticsJana Care Inc.Senix Corporatio"
+                + "nNorthStar Battery Company,LLCSKF (U.K.,LimitedCO-AX Technology, Inc.Fender Musical InstrumentsLuidi"
+                + "a IncSEFAMWireless Cables IncLightning Protection International Pty LtdUber Technologies IncSODA Gmb"
+                + "HFatigue ScienceAlpine Electronics Inc.Novalogy LTDFriday Labs LimitedOrthoAccel TechnologiesWaterGu"
+                + "ru, Inc.Benning Elektrotechnik und Elektronik GmbH & Co. KGDell Computer CorporationKopin Corporatio"
+                + "nTecBakery GmbHBackbone Labs, Inc.DELSEY SAChargifi LimitedTrainesense Ltd.Unify Software and Soluti"
+                + "ons GmbH & Co. KGHusqvarna ABFocus fleet and fuel management incSmallLoop,LLCProlon Inc.BD MedicaliM"
+                + "icroMed IncorporatedTicto N.V.Meshtech ASMemCachier Inc.Danfoss A/SSnapStyk Inc.Amway CorporationSil"
+                + "k Labs, Inc.Pillsy Inc.Hatch Baby, Inc.Blocks Wearables Ltd.Drayson Technologies (Europe,LimitedeBes"
+                + "t IOT Inc.Helvar LtdRadiance TechnologiesNuheara LimitedAppside co.,ltd.DeLavalCoiler CorporationThe"
+                + "rmomedics, Inc.Tentacle Sync GmbHValencell, Inc.iProtoXi OySECOM CO.,LTD.Tucker International LLCMet"
+                + "anate LimitedKobian Canada Inc.NETGEAR, Inc.Fabtronics Australia Pty LtdGrand Centrix GmbH1UP USA.co"
+                + "m llcSHIMANO INC.Nain Inc.LifeStyle Lock,LLCVEGA Grieshaber KGXtrava Inc.TTS Tooltechnic Systems AG "
+                + "& Co. KGTeenage Engineering ABTunstall Nordic ABSvep Design Center ABGreenPeak Technologies BVSphinx"
+                + " Electronics GmbH & Co KGAtomationNemik Consulting IncRF INNOVATIONMini Solution Co.,Ltd.Lumenetix, "
+                + "Inc2048450 Ontario IncSPACEEK LTDDelta T CorporationBoston Scientific CorporationNuviz, Inc.Real Tim"
+                + "e Automation, Inc.Kolibreevhf elektronik GmbHBonsai Systems GmbHFathom Systems Inc.Bellman & SymfonI"
+                + "nternational Forte Group LLCCycleLabs Solutions inc.Codenex OyKynesim LtdPalago ABINSIGMA INC.PMD So"
+                + "lutionsQingdao Realtime Technology Co.,Ltd.BEGA Gantenbrink-Leuchten KGPambor Ltd.Develco Products A"
+                + "/SiDesign s.r.l.TiVo CorpControl-J Pty LtdSteelcase, Inc.iApartment co.,ltd.Icom inc.Oxstren Wearabl"
+                + "e Technologies Private LimitedBlue Spark TechnologiesFarSite Communications Limitedmywerk system Gmb"
+                + "HSinosun Technology Co.,Ltd.MIYOSHI ELECTRONICS CORPORATIONPOWERMAT LTDOccly LLCOurHub Dev IvSPro-Ma"
+                + "rk, Inc.Dynometrics Inc.Quintrax LimitedPOS Tuning Udo Vosshenrich GmbH & Co. KGMulti Care Systems B"
+                + ".V.Revol Technologies IncSKIDATA AGDEV TECNOLOGIA INDUSTRIA,COMERCIO E MANUTENCAO DE EQUIPAMENTOS LT"
+                + "DA. - MECentrica Connected HomeAutomotive Data Solutions IncIgarashi EngineeringTaelek OyCP Electron"
+                + "ics LimitedVectronix AGS-Labs Sp. z o.o.Companion Medical, Inc.BlueKitchen GmbHMatting ABSOREX - Wir"
+                + "eless Solutions GmbHADC Technology, Inc.Lynxemi Pte LtdSENNHEISER electronic GmbH & Co. KGLMT Mercer"
+                + " Group, IncPolymorphic Labs LLCCochlear LimitedMETER Group, Inc. USARuuvi Innovations Ltd.Situne ASn"
+                + "Visti,LLCDyOceanUhlmann & Zacher GmbHAND!XOR LLCtictote ABVypin,LLCPNI Sensor CorporationovrEngineer"
+                + "ed,LLCGT-tronics HK LtdHerbert Waldmann GmbH & Co. KGGuangzhou FiiO Electronics Technology Co.);LtdV"
+                + "inetech Co.,LtdDallas Logic CorporationBioTex, Inc.DISCOVERY SOUND TECHNOLOGY,LLCLINKIO SASHarbortro"
+                + "nics, Inc.Undagrid B.V.Shure IncERM Electronic Systems LTDBIOROWER Handelsagentur GmbHWeba Sport und"
+                + " Med. Artikel GmbHKartographers Technologies Pvt. Ltd.The Shadow on the Moonmobike (Hong Kong,Limite"
+                + "dInuheat Group ABSwiftronix ABDiagnoptics TechnologiesAnalog Devices, Inc.Soraa Inc.CSR Building Pro"
+                + "ducts LimitedCrestron Electronics, Inc.Neatebox LtdDraegerwerk AG & Co. KGaAAlbynMedicalAveros FZCOV"
+                + "IT Initiative,LLCStatsports InternationalSospitas,s.r.o.Dmet Products Corp.Mantracourt Electronics L"
+                + "imitedTeAM Hutchins ABSeibert Williams Glass,LLCInsta GmbHSvantek Sp. z o.o.Shanghai Flyco Electrica"
+                + "l Appliance Co.,Ltd.Thornwave Labs IncSteiner-Optik GmbHNovo Nordisk A/SEnflux Inc.Safetech Products"
+                + " LLCGOOOLED S.R.L.DOM Sicherheitstechnik GmbH & Co. KGOlympus CorporationKTS GmbHAnloq Technologies "
+                + "Inc.Queercon, Inc5th Element LtdGooee LimitedLUGLOC LLCBlincam, Inc.FUJIFILM CorporationRandMcNallyF"
+                + "ranceschi Marina sncEngineered Audio,LLC.IOTTIVE (OPC,PRIVATE LIMITED4MOD TechnologyLutron Electroni"
+                + "cs Co., Inc.EmersonGuardtec, Inc.REACTEC LIMITEDEllieGridUnder ArmourWoodensharkAvack OySmart Soluti"
+                + "on Technology, Inc.REHABTRONICS INC.STABILO InternationalBusch Jaeger Elektro GmbHPacific Bioscience"
+                + " Laboratories, IncBird Home Automation GmbHMotorola SolutionsR9 Technology, Inc.AuxiviaDaisyWorks, I"
+                + "ncKosi LimitedTheben AGInDreamer Techsol Private LimitedCerevast MedicalZanCompute Inc.Pirelli Tyre "
+                + "S.P.A.McLear LimitedShenzhen Huiding Technology Co.);Ltd.Convergence Systems LimitedInteractioAndrot"
+                + "ec GmbHBenchmark Drives GmbH & Co. KGSwingLync L. L. C.Tapkey GmbHWoosim Systems Inc.Microsemi Corpo"
+                + "rationWiliot LTD.Polaris INDSpecifi-Kali LLCLocoroll, IncPHYPLUS IncInplay Technologies LLCHagerYell"
+                + "owcogAxes System sp. z o. o.myLIFTER Inc.Shake-on B.V.Vibrissa Inc.OSRAM GmbHTRSystems GmbHYichip Mi"
+                + "croelectronics (Hangzhou,Co.);Ltd.Foundation Engineering LLCUNI-ELECTRONICS, Inc.Brookfield Equinox "
+                + "LLCSoprod SA9974091 Canada Inc.FIBRO GmbHRB Controls Co.,Ltd.FootmarksAmcore ABMAMORIO.incTyto Life "
+                + "LLCLeica Camera AGAngee Technologies Ltd.EDPSOFF Line Co.,Ltd.Detect Blue LimitedSetec Pty LtdTarget"
+                + " CorporationIAI CorporationNS Tech, Inc.MTG Co.,Ltd.Hangzhou iMagic Technology Co.,LtdHONGKONG NANO "
+                + "IC TECHNOLOGIES CO.,LIMITEDHoneywell International Inc.Albrecht JUNGLunera Lighting Inc.Lumen UABKey"
+                + "nes Controls LtdNovartis AGGeosatis SAEXFO, Inc.LEDVANCE GmbHCenter ID Corp.Adolene, Inc.D&M Holding"
+                + "s Inc.CRESCO Wireless, Inc.Nura Operations Pty LtdFrontiergadget, Inc.Smart Component Technologies L"
+                + "imitedZTR Control Systems LLCMetaLogics CorporationMedela AGOPPLE Lighting Co.,LtdSavitech Corp.);pr"
+                + "odigyScreenovate Technologies LtdTESA SACLIM8 LIMITEDSilergy CorpSilverPlus, IncSharknet srlMist Sys"
+                + "tems, Inc.MIWA LOCK CO.);LtdOrthoSensor, Inc.Candy Hoover Group s.r.lApexar Technologies S.A.LOGICDA"
+                + "TA d.o.o.Knick Elektronische Messgeraete GmbH & Co. KGSmart Technologies and Investment LimitedLinou"
+                + "gh Inc.Advanced Electronic Designs, Inc.Carefree Scott Fetzer Co IncSensomeFORTRONIK storitve d.o.o."
+                + "SinnozVersa Networks, Inc.SyleroAvempace SARLNintendo Co.,Ltd.National InstrumentsKROHNE Messtechnik"
+                + " GmbHOtodynamics LtdArwin Technology Limitedbenegear, Inc.Newcon OptikCANDY HOUSE, Inc.FRANKLIN TECH"
+                + "NOLOGY INCLelyValve CorporationHekatron Vertriebs GmbHPROTECH S.A.S. DI GIRARDI ANDREA & C.Sarita Ca"
+                + "reTech IVSFinder S.p.A.Thalmic Labs Inc.Steinel Vertrieb GmbHBeghelli SpaBeijing Smartspace Technolo"
+                + "gies Inc.CORE TRANSPORT TECHNOLOGIES NZ LIMITEDXiamen Everesports Goods Co.,LtdBodyport Inc.Audionic"
+                + "s System, Inc.Flipnavi Co.);Ltd.Rion Co.,Ltd.Long AddressRange Systems,LLCRedmond Industrial Group L"
+                + "LCVIZPIN INC.BikeFinder ASConsumer Sleep Solutions LLCPSIKICK, Inc.AntTail.comLighting Science Group"
+                + " Corp.AFFORDABLE ELECTRONICS INCIntegral Memroy PlcGlobalstar, Inc.True Wearables, Inc.Wellington Dr"
+                + "ive Technologies LtdEnsemble Tech Private LimitedOMNI RemotesDuracell U.S. Operations Inc.Toor Techn"
+                + "ologies LLCInstinct PerformanceBeco, IncScuf Gaming International,LLCARANZ Medical LimitedLYS TECHNO"
+                + "LOGIES LTDBreakwall Analytics,LLCCode Blue CommunicationsGira Giersiepen GmbH & Co. KGHearing Lab Te"
+                + "chnologyLEGRANDDerichs GmbHALT-TEKNIK LLCStar TechnologiesSTART TODAY CO.);LTD.Maxim Integrated Prod"
+                + "uctsMERCK Kommanditgesellschaft auf AktienJungheinrich AktiengesellschaftOculus VR,LLCHENDON SEMICON"
+                + "DUCTORS PTY LTDPur3 LtdViasat Group S.p.A.IZITHERMSpaulding Clinical ResearchKohler CompanyInor Proc"
+                + "ess ABMy Smart BlindsRadioPulse Incrapitag GmbHLazlo326,LLC.Teledyne Lecroy, Inc.Dataflow Systems Li"
+                + "mitedMacrogiga ElectronicsTandem Diabetes CarePolycom, Inc.Fisher & Paykel HealthcareRCP Software Oy"
+                + "Shanghai Xiaoyi Technology Co.);Ltd.ADHERIUM(NZ,LIMITEDAxiomware Systems IncorporatedO. E. M. Contro"
+                + "ls, Inc.Kiiroo BVTelecon Mobile LimitedSonos IncTom Allebrandi ConsultingMonidorTramex LimitedNofenc"
+                + "e ASGoerTek Dynaudio Co.,Ltd.INIACARMATE MFG.CO.);LTDONvocalNewTec GmbHMedallion Instrumentation Sys"
+                + "temsCAREL INDUSTRIES S.P.A.Parabit Systems, Inc.White Horse Scientific ltdverisiliconElecs Industry "
+                + "Co.);Ltd.Beijing Pinecone Electronics Co.);Ltd.Ambystoma Labs Inc.Suzhou Pairlink Network Technology"
+                + "igloohomeOxford Metrics plcLeviton Mfg. Co., Inc.ULC Robotics Inc.RFID Global by Softwork SrLReal-Wo"
+                + "rld-Systems CorporationNalu Medical, Inc.P.I.EngineeringGrote IndustriesRuntime, Inc.Codecoup sp. z "
+                + "o.o. sp. k.SELVE GmbH & Co. KGSmart Animal Training Systems,LLCLippert Components, IncSOMFY SASTBS E"
+                + "lectronics B.V.MHL Custom IncLucentWear LLCWATTS ELECTRONICSRJ Brands LLCV-ZUG LtdBiowatch SAAnova A"
+                + "pplied ElectronicsLindab ABfrogblue TECHNOLOGY GmbHAcurable LimitedLAMPLIGHT Co.,Ltd.TEGAM, Inc.Zhuh"
+                + "ai Jieli technology Co.);Ltdmodum.io AGFarm Jenny LLCToyo Electronics CorporationApplied Neural Rese"
+                + "arch CorpAvid Identification Systems, Inc.Petronics Inc.essentim GmbHQT Medical INC.VIRTUALCLINIC.DI"
+                + "RECT LIMITEDViper Design LLCHuman, IncorporatedstAPPtronics GmbHElemental Machines, Inc.Taiyo Yuden "
+                + "Co.,LtdINEO ENERGY& SYSTEMSMotion Instruments Inc.PressureProCOWBOYiconmobile GmbHACS-Control-System"
+                + " GmbHBayerische Motoren Werke AGGycom Svenska ABFuji Xerox Co.,LtdGlide Inc.SIKOM ASbekenThe Linux F"
+                + "oundationTry and E CO.);LTD.SeeScanClearity,LLCGS TAGDPTechnicsTRACMO, Inc.Anki Inc.Hagleitner Hygie"
+                + "ne International GmbHKonami Sports Life Co.,Ltd.Arblet Inc.Masbando GmbHInnoseisNikoWellnomics Ltd",
+            "iRobot CorporationSchrader ElectronicsGeberit International AGFourth Evolution IncCell2Jack LLCFMW e"
+                + "lectronic Futterer u. Maier-Wolf OHGJohn DeereRookery Technology LtdKeySafe-CloudBchi Labortechnik A"
+                + "GIQAir AGTriax Technologies IncVuzix CorporationTDK CorporationBlueair ABPhilips Lighting B.V.ADH GU"
+                + "ARDIAN USA LLCBeurer GmbHPlayfinity ASHans Dinslage GmbHOnAsset Intelligence, Inc.INTER ACTION Corpo"
+                + "rationOS42 UG (haftungsbeschraenkt);WIZCONNECTED COMPANY LIMITEDAudio-Technica CorporationSix Guys L"
+                + "abs, s.r.o.R.W. Beckett Corporationsilex technology, inc.Univations LimitedSENS Innovation ApSDiamon"
+                + "d Kinetics, Inc.Phrame Inc.Forciot OyNoordung d.o.o.Beam Labs, LLCPhiladelphia Scientific (U.K.) Lim"
+                + "itedBiovotion AGSquare Panda, Inc.AmplificoWEG S.A.Ensto OyPHONEPE PVT LTDLunatico Astronomia SLMine"
+                + "beaMitsumi Inc.ASPion GmbHVossloh-Schwabe Deutschland GmbHProceptONKYO CorporationAsthrea D.O.O.Fort"
+                + "iori Design LLCHugo Muller GmbH & Co KGWangi Lai PLTFanstel CorpCrookwoodELECTRONICA INTEGRAL DE SON"
+                + "IDO S.A.GiP Innovation Tools GmbHLX SOLUTIONS PTY LIMITEDShenzhen Minew Technologies Co., Ltd.Proloj"
+                + "ik LimitedKromek Group PlcContec Medical Systems Co., Ltd.Xradio Technology Co.,Ltd.The Indoor Lab, "
+                + "LLCLDL TECHNOLOGYParkifiRevenue Collection Systems FRANCE SASBluetrum Technology Co.,Ltdmakita corpo"
+                + "rationApogee InstrumentsBM3SGV Group Holding GmbH & Co. KGMED-ELUltune TechnologiesRyeex Technology "
+                + "Co.,Ltd.Open Research Institute, Inc.Scale-Tec, LtdZumtobel Group AGiLOQ OyKRUXWorks Technologies Pr"
+                + "ivate LimitedDigital Matter Pty LtdCoravin, Inc.Stasis Labs, Inc.ITZ Innovations- und Technologiezen"
+                + "trum GmbHMeggitt SALedlenser GmbH & Co. KGRenishaw PLCZhuHai AdvanPro Technology Company LimitedMesh"
+                + "tronix LimitedPayex Norge ASUnSeen Technologies OyZound Industries International ABSesam Solutions B"
+                + "VPixArt Imaging Inc.Panduit Corp.Alo ABRicoh Company LtdRTC Industries, Inc.Mode Lighting LimitedPar"
+                + "ticle Industries, Inc.Advanced Telemetry Systems, Inc.RHA TECHNOLOGIES LTDPure International Limited"
+                + "WTO Werkzeug-Einrichtungen GmbHSpark Technology Labs Inc.Bleb Technology srlLivanova USA, Inc.Brady "
+                + "Worldwide Inc.DewertOkin GmbHZtove ApSVenso EcoSolutions ABEurotronik Kranj d.o.o.Hug Technology Ltd"
+                + "Gema Switzerland GmbHBuzz Products Ltd.KopiInnova Ideas LimitedBeSpoonDeco Enterprises, Inc.Expai So"
+                + "lutions Private LimitedInnovation First, Inc.SABIK Offshore GmbH4iiii Innovations Inc.The Energy Con"
+                + "servatory, Inc.I.FARM, INC.Tile, Inc.Form Athletica Inc.MbientLab IncNETGRID S.N.C. DI BISSOLI MATTE"
+                + "O, CAMPOREALE SIMONE, TOGNETTI FEDERICOMannkind CorporationTrade FIDES a.s.Photron LimitedEltako Gmb"
+                + "HDermalapps, LLCGreenwald IndustriesinQs Co., Ltd.Cherry GmbHAmsted Digital Solutions Inc.Tacx b.v.R"
+                + "aytac CorporationJiangsu Teranovo Tech Co., Ltd.Changzhou Sound Dragon Electronics and Acoustics Co."
+                + ", LtdJetBeep Inc.Razer Inc.JRM Group LimitedEccrine Systems, Inc.Curie Point ABGeorg Fischer AGHach "
+                + "- DanaherT&A Laboratories LLCKoki Holdings Co., Ltd.Gunakar Private LimitedStemco Products IncWood I"
+                + "T Security, LLCRandomLab SASAdero, Inc. (formerly as TrackR, Inc.)Dragonchip LimitedNoomi ABVakaros "
+                + "LLCDelta Electronics, Inc.FlowMotion Technologies ASOBIQ Location Technology Inc.Cardo Systems, LtdG"
+                + "lobalworx GmbHNymbus, LLCSanyo Techno Solutions Tottori Co., Ltd.TEKZITEL PTY LTDRoambee Corporation"
+                + "Chipsea Technologies (ShenZhen) Corp.GD Midea Air-Conditioning Equipment Co., Ltd.Soundmax Electroni"
+                + "cs LimitedProdual OyHMS Industrial Networks ABIngchips Technology Co., Ltd.InnovaSea Systems Inc.Sen"
+                + "seQ Inc.Shoof TechnologiesBRK Brands, Inc.SimpliSafe, Inc.Tussock Innovation 2013 LimitedThe Hablab "
+                + "ApSSencilion OyWabilogic Ltd.Sociometric Solutions, Inc.iCOGNIZE GmbHShadeCraft, IncBeflex Inc.Beaco"
+                + "nzone LtdLeaftronix Analogic Solutions Private LimitedTWS SrlABB OyHitSeed OyDelcom Products Inc.CAM"
+                + "E S.p.A.Alarm.com Holdings, IncMeasurlogic Inc.King I Electronics.Co.,LtdDream Labs GmbHUrban Compas"
+                + "s, IncSimm Tronic LimitedSomatix IncStorz & Bickel GmbH & Co. KGMYLAPS B.V.Shenzhen Zhongguang Infot"
+                + "ech Technology Development Co., LtdDyeware, LLCDongguan SmartAction Technology Co.,Ltd.DIG Corporati"
+                + "onFIOR & GENTZBelparts N.V.Etekcity CorporationMeyer Sound Laboratories, IncorporatedCeoTronics AGTr"
+                + "iTeq Lock and Security, LLCDYNAKODE TECHNOLOGY PRIVATE LIMITEDSensirion AGJCT Healthcare Pty LtdFUBA"
+                + " Automotive Electronics GmbHAW CompanyShanghai Mountain View Silicon Co.,Ltd.Zliide Technologies ApS"
+                + "Automatic Labs, Inc.Industrial Network Controls, LLCIntellithings Ltd.Navcast, Inc.Hubbell Lighting,"
+                + " Inc.AvayaMilestone AV Technologies LLCAlango Technologies LtdSpinlock LtdAlunaOPTEX CO.,LTD.NIHON D"
+                + "ENGYO KOUSAKUVELUX A/SAlmendo Technologies GmbHZmartfun Electronics, Inc.SafeLine Sweden ABHouston R"
+                + "adar LLCSigurJ Neades LtdAvantis Systems LimitedALCARE Co., Ltd.Chargy Technologies, SLShibutani Co."
+                + ", Ltd.Trapper Data ABAlfred International Inc.Near Field Solutions LtdVigil Technologies Inc.Vitulo "
+                + "Plus BVWILKA Schliesstechnik GmbHBodyPlus Technology Co.,Ltdhappybrush GmbHEnequi ABSartorius AGTom "
+                + "Communication Industrial Co.,Ltd.ESS Embedded System Solutions Inc.Mahr GmbHRedpine Signals IncTraqF"
+                + "req LLCPAFERS TECHAkciju sabiedriba \"SAF TEHNIKA\"Beijing Jingdong Century Trading Co., Ltd.JBX Des"
+                + "igns Inc.AB ElectroluxWernher von Braun Center for ASdvanced ResearchEssity Hygiene and Health Aktie"
+                + "bolagBe Interactive Co., LtdCarewear Corp.Huf Hlsbeck & Frst GmbH & Co. KGElement Products, Inc.Beij"
+                + "ing Winner Microelectronics Co.,LtdSmartSnugg Pty LtdFiveCo SarlCalifornia Things Inc.Audiodo ABABAX"
+                + " ASBull Group Company LimitedRespiri LimitedMindPeace Safety LLCVgyan SolutionsAltonicsiQsquare BVID"
+                + "IBAIX enginneeringECSGREVSMART WEARABLE HK CO LTDPrecorF5 Sports, IncexoTIC SystemsDONGGUAN HELE ELE"
+                + "CTRONICS CO., LTDDongguan Liesheng Electronic Co.LtdOculeve, Inc.Clover Network, Inc.Xiamen Eholder "
+                + "Electronics Co.LtdFord Motor CompanyGuangzhou SuperSound Information Technology Co.,LtdTedee Sp. z o"
+                + ".o.PHC CorporationSTALKIT ASEli Lilly and CompanySwaraLink TechnologiesJMR embedded systems GmbHBitk"
+                + "ey Inc.GWA Hygiene GmbHSafera OyOpen Platform Systems LLCOnePlus Electronics (Shenzhen) Co., Ltd.Wil"
+                + "dlife Acoustics, Inc.ABLIC Inc.Dairy Tech, Inc.Iguanavation, Inc.DiUS Computing Pty LtdUpRight Techn"
+                + "ologies LTDFrancisFund, LLCLLC NavitekGlass Security Pte LtdJiangsu Qinheng Co., Ltd.Chandler System"
+                + "s Inc.Fantini Cosmi s.p.a.Acubit ApSBeijing Hao Heng Tian Tech Co., Ltd.Bluepack S.R.L.Beijing Uniso"
+                + "c Technologies Co., Ltd.HITIQ LIMITEDMAC SRLDML LLCSanofiSOCOMECWIZNOVA, Inc.Seitec Elektronik GmbHO"
+                + "R Technologies Pty LtdGuangZhou KuGou Computer Technology Co.LtdDIAODIAO (Beijing) Technology Co., L"
+                + "td.Illusory Studios LLCSarvavid Software Solutions LLPiopool s.a.Amtech Systems, LLCEAGLE DETECTION "
+                + "SAMEDIATECH S.R.L.Hamilton Professional Services of Canada IncorporatedChangsha JEMO IC Design Co.,L"
+                + "tdElatec GmbHJLG Industries, Inc.Michael ParkinBrother Industries, LtdLumens For Less, IncELA Innova"
+                + "tionumanSense ABShanghai InGeek Cyber Security Co., Ltd.HARMAN CO.,LTD.Smart Sensor Devices ABAntitr"
+                + "onics Inc.RHOMBUS SYSTEMS, INC.Katerra Inc.Remote Solution Co., LTD.Vimar SpAMantis Tech LLCTerOpta "
+                + "LtdPIKOLIN S.L.WWZN Information Technology Company LimitedVoxx InternationalART AND PROGRAM, INC.NIT"
+                + "TO DENKO ASIA TECHNICAL CENTRE PTE. LTD.Peloton Interactive Inc.Force Impact TechnologiesDmac Mobile"
+                + " Developments, LLCEngineered Medical TechnologiesNoodle Technology incGraesslin GmbHWuQi technologie"
+                + "s, Inc.Successful Endeavours Pty LtdInnoCon Medical ApSCorvex Connected SafetyThirdwayv Inc.Echoflex"
+                + " Solutions Inc.C-MAX Asia Limited4eBusiness GmbHCyber Transport Control GmbHCueKOAMTAC INC.Loopshore"
+                + " OyNiruha Systems Private LimitedAmaterZ, Inc.radius co., ltd.Sensority, s.r.o.Sparkage Inc.Glenview"
+                + " Software CorporationFinch Technologies Ltd.Qingping Technology (Beijing) Co., Ltd.DeviceDrive ASESE"
+                + "MBER LIMITED LIABILITY COMPANYaudifon GmbH & Co. KGO2 Micro, Inc.HLP Controls Pty LimitedPangaea Sol"
+                + "utionBubblyNet, LLCThe Wildflower FoundationOptikam Tech Inc.MINIBREW HOLDING B.VCybex GmbHFUJIMIC N"
+                + "IIGATA, INC.Hanna Instruments, Inc.KOMPAN A/SScosche Industries, Inc.Provo CraftAEV spol. s r.o.The "
+                + "Coca-Cola CompanyGASTEC CORPORATIONStarLeaf LtdWater-i.d. GmbHHoloKit, Inc.PlantChoir Inc.GuangDong "
+                + "Oppo Mobile Telecommunications Corp., Ltd.CST ELECTRONICS (PROPRIETARY) LIMITEDSky UK LimitedDigibal"
+                + "e Pty LtdSmartloxx GmbHPune Scientific LLPRegent Beleuchtungskorper AGApollo Neuroscience, Inc.Roku,"
+                + " Inc.Comcast CableXiamen Mage Information Technology Co., Ltd.RAB Lighting, Inc.Musen Connect, Inc.Z"
+                + "ume, Inc.conbee GmbHBruel & Kjaer Sound & VibrationThe Kroger Co.Granite River Solutions, Inc.LoupeD"
+                + "eck OyNew H3C Technologies Co.,LtdAurea Solucoes Tecnologicas Ltda.Hong Kong Bouffalo Lab LimitedGV "
+                + "Concepts Inc.Thomas Dynamics, LLCMoeco IOT Inc.2N TELEKOMUNIKACE a.s.Hormann KG AntriebstechnikCRONO"
+                + " CHIP, S.L.Soundbrenner LimitedETABLISSEMENTS GEORGES RENAULTiSwipEpona Biotec LimitedBattery-Biz In"
+                + "c.EPIC S.R.L.KD CIRCUITS LLCGenedrive Diagnostics LtdAxentia Technologies ABREGULA Ltd.Biral AGA.W. "
+                + "Chesterton CompanyRadinn ABCIMTechniques, Inc.Johnson Health Tech NAJune Life, Inc.Bluenetics GmbHia"
+                + "conicDesign Inc.WRLDS Creations ABSkullcandy, Inc.Modul-System HH ABWest Pharmaceutical Services, In"
+                + "c.Barnacle Systems Inc.Smart Wave Technologies Canada IncShanghai Top-Chip Microelectronics Tech. Co"
+                + "., LTDNeoSensory, Inc.Hangzhou Tuya Information  Technology Co., LtdShanghai Panchip Microelectronic"
+                + "s Co., LtdReact Accessibility LimitedLIVNEX Co.,Ltd.Kano Computing Limitedhoots classic GmbHecobee I"
+                + "nc.Nanjing Qinheng Microelectronics Co., LtdSOLUTIONS AMBRA INC.Micro-Design, Inc.STARLITE Co., Ltd."
+                + "Remedee LabsThingOS GmbHLinear CircuitsUnlimited Engineering SLSnap-on IncorporatedEdifier Internati"
+                + "onal LimitedLucie LabsAlfred Kaercher SE & Co. KGAudiowise Technology Inc.Geeksme S.L.Minut, Inc.Way"
+                + "beyond LimitedKomfort IQ, Inc.Packetcraft, Inc.H\u00e4fele GmbH & Co KGShapeLog, Inc.NOVABASE S.R.L."
+                + "Frecce LLCJoule IQ, INC.KidzTek LLCAktiebolaget Sandvik Coromante-moola.com Pty LtdZimi Innovations "
+                + "Pty LtdSERENE GROUP, INCDIGISINE ENERGYTECH CO. LTD.MEDIRLAB Orvosbiologiai Fejleszto Korlatolt Fele"
+                + "lossegu TarsasagByton North America CorporationShenzhen TonliScience and Technology Development Co.,"
+                + "LtdCesar Systems Ltd.quip NYC Inc.Direct Communication Solutions, Inc.Klipsch Group, Inc.Access Co.,"
+                + " LtdRenault SAJSK CO., LTD.BIROTAmaxon motor ltd.Optek",
+            "CRONUS ELECTRONICS LTDNantSound, Inc.Domintell s.a.Andon Health Co.,LtdUrbanminded LtdTYRI Sweden AB"
+                + "ECD Electronic Components GmbH DresdenSISTEMAS KERN, SOCIEDAD AN\u00d3MINATrulli AudioAltaneosNanole"
+                + "af Canada LimitedIngy B.V.Azbil Co.TATTCOM LLCParadox Engineering SALECO CorporationBecker Antriebe "
+                + "GmbHMstream Technologies., Inc.Flextronics International USA Inc.Ossur hf.SKC IncSPICA SYSTEMS LLCWa"
+                + "ngs Alliance Corporationtatwah SAHunter Douglas IncShenzhen ConexDIM3Bobrick Washroom Equipment, Inc"
+                + ".Potrykus Holdings and Development LLCiNFORM Technology GmbHeSenseLab LTDBrilliant Home Technology, "
+                + "Inc.INOVA Geophysical, Inc.adafruit industriesNexite Ltd8Power LimitedCME PTE. LTD.Hyundai Motor Com"
+                + "panyKickmakerShanghai Suisheng Information Technology Co., Ltd.HEXAGONMitutoyo Corporationshenzhen f"
+                + "itcare electronics Co.,LtdINGICS TECHNOLOGY CO., LTD.INCUS PERFORMANCE LTD.ABB S.p.A.Blippit ABCore "
+                + "Health and Fitness LLCFoxble, LLCIntermotive,Inc.Conneqtech B.V.RIKEN KEIKI CO., LTD.,Canopy Growth "
+                + "CorporationBitwards Oyvivo Mobile Communication Co., Ltd.Etymotic Research, Inc.A puissance 3BPW Ber"
+                + "gische Achsen KommanditgesellschaftPiaggio Fast ForwardBeerTech LTDTokenize, Inc.Zorachka LTDD-Link "
+                + "Corp.Down Range Systems LLCGeneral Luminaire (Shanghai) Co., Ltd.Tangshan HongJia electronic technol"
+                + "ogy co., LTD.FRAGRANCE DELIVERY TECHNOLOGIES LTDPepperl + Fuchs GmbHDometic CorporationUSound GmbHDN"
+                + "ANUDGE LIMITEDJUJU JOINTS CANADA CORP.Dopple Technologies B.V.ARCOMBiotechware SRLORSO Inc.SafePortC"
+                + "arol Cole CompanyEmbedded Fitness B.V.Yealink (Xiamen) Network Technology Co.,LTDSubeca, Inc.Cognoso"
+                + "s, Inc.Pektron Group LimitedTap Sound SystemHelios Hockey, Inc.Canopy Growth CorporationParsyl IncSO"
+                + "UNDBOKSBlueUpDAKATECHRICOH ELECTRONIC DEVICES CO., LTD.ACOS CO.,LTD.Guilin Zhishen Information Techn"
+                + "ology Co.,Ltd.Krog Systems LLCCOMPEGPS TEAM,SOCIEDAD LIMITADAAlflex Products B.V.SmartSensor Labs Lt"
+                + "dSmartDrive Inc.Yo-tronics Technology Co., Ltd.RafaelmicroEmergency Lighting Products LimitedLAONZ C"
+                + "o.,LtdWestern Digital Techologies, Inc.WIOsense GmbH & Co. KGEVVA Sicherheitstechnologie GmbHOdic In"
+                + "corporatedPacific Track, LLCRevvo Technologies, Inc.Biometrika d.o.o.Vorwerk Elektrowerke GmbH & Co."
+                + " KGTrackunit A/SWyze Labs, IncDension Elektronikai Kft. (formerly: Dension Audio Systems Ltd.)11 Hea"
+                + "lth & Technologies LimitedInnophase IncorporatedTreegreen LimitedBerner International LLCSmartResQ A"
+                + "pSTome, Inc.The Chamberlain Group, Inc.MIZUNO CorporationZRF, LLCBYSTAMPCrosscan GmbHKonftel AB1bar."
+                + "net LimitedPhillips Connect Technologies LLCimagiLabs ABOptalertPSYONIC, Inc.Wintersteiger AGControl"
+                + "id Industria, Comercio de Hardware e Servicos de Tecnologia LtdaLEVOLOR, INC.Xsens Technologies B.V."
+                + "Hydro-Gear Limited PartnershipEnPointe Fencing Pty LtdXANTHIOsclak s.r.l.Tricorder Arraay Technologi"
+                + "es LLCGB Solution co.,LtdSoliton Systems K.K.GIGA-TMS INCTait International LimitedNICHIEI INTEC CO."
+                + ", LTD.SmartWireless GmbH & Co. KGIngenieurbuero Birnfeld UG (haftungsbeschraenkt)Maytronics LtdEPIFI"
+                + "TGimer medicalNokian Renkaat OyjCurrent Lighting Solutions LLCSensibo, Inc.SFS unimarket AGPrivate l"
+                + "imited company TeltonikaSaucon TechnologiesEmbedded Devices Co. CompanyJ-J.A.D.E. Enterprise LLCi-SE"
+                + "NS, inc.Witschi Electronic LtdAclara Technologies LLCEXEO TECH CORPORATIONEpic Systems Co., Ltd.Hoff"
+                + "mann SERealme Chongqing Mobile Telecommunications Corp., Ltd.UMEHEAL LtdIntelligenceworks Inc.TGR 1."
+                + "618 LimitedShanghai Kfcube IncFraunhofer IISSZ DJI TECHNOLOGY CO.,LTDCoburn Technology, LLCTopre Cor"
+                + "porationKayamatics LimitedMoticon ReGo AGPolidea Sp. z o.o.Trivedi Advanced Technologies LLCCORE|vis"
+                + "ion BVPF SCHWEISSTECHNOLOGIE GMBHIONIQ Skincare GmbH & Co. KGSengled Co., Ltd.TransferFiBoehringer I"
+                + "ngelheim Vetmedica GmbHABB IncCheck Technology Solutions LLCU-Shin Ltd.HYPER ICE, INC.Tokai-rika co."
+                + ",ltd.Prevayl Limitedbf1systems limitedubisys technologies GmbHSIRC Co., Ltd.Accent Advanced Systems "
+                + "SLURayden.Earth LTDLindinvent ABCHIPOLO d.o.o.CellAssist, LLCJ. Wagner GmbHIntegra Optics IncMonadno"
+                + "ck Systems Ltd.Liteboxer Technologies Inc.Noventa AGNubia Technology Co.,Ltd.JT INNOVATIONS LIMITEDT"
+                + "GM TECHNOLOGY CO., LTD.iflyZIMI CORPORATIONbetternotstealmybike UG (with limited liability)ESTOM Inf"
+                + "otech Kft.Sensovium Inc.Virscient LimitedNovel Bits, LLCADATA Technology Co., LTD.KEYesNome OyInovon"
+                + "ics CorpWARESPointr Labs LimitedMiridia Technology IncorporatedTertium TechnologySHENZHEN AUKEY E BU"
+                + "SINESS CO., LTDcode-QTyco Electronics Corporation a TE Connectivity Ltd CompanyIRIS OHYAMA CO.,LTD.P"
+                + "hilia TechnologyKOZO KEIKAKU ENGINEERING Inc.Shenzhen Simo Technology co. LTDRepublic Wireless, Inc."
+                + "Rashidov ltdCrowd Connected LtdEneso Tecnologia de Adaptacion S.L.Barrot Technology LimitedNaonextTa"
+                + "iwan Intelligent Home Corp.COWBELL ENGINEERING CO.,LTD.Beijing Big Moment Technology Co., Ltd.Denso "
+                + "CorporationIMI Hydronic Engineering International SAASKEYCumulus Digital Systems, IncJoovv, Inc.The "
+                + "L.S. Starrett CompanyMicrooledPSP - Pauli Services & Products GmbHKodimo Technologies Company Limite"
+                + "dTymtix Technologies Private LimitedDermal Photonics CorporationMTD Products Inc & Affiliatesinstagr"
+                + "id GmbHSpacelabs Medical Inc.Troo CorporationDarkglass Electronics OyHill-RomBioIntelliSense, Inc.Ke"
+                + "tronixs Sdn BhdPlastimold Products, IncBeijing Zizai Technology Co., LTD.LucimedTSC Auto-ID Technolo"
+                + "gy Co., Ltd.DATAMARS, Inc.SUNCORPORATIONYandex Services AGScope Logistical SolutionsUser Hello, LLCP"
+                + "inpoint Innovations Limited70mai Co.,Ltd.Zhuhai Hoksi Technology CO.,LTDEMBR labs, INCRadiawave Tech"
+                + "nologies Co.,Ltd.IOT Invent GmbHOPTIMUSIOT TECH LLPVC Inc.ASR Microelectronics (Shanghai) Co., Ltd.D"
+                + "ouglas Lighting Controls Inc.Nerbio Medical Software Platforms IncBraveheart Wireless, Inc.INEO-SENS"
+                + "EHonda Motor Co., Ltd.Ambient Sensors LLCASR Microelectronics(ShenZhen)Co., Ltd.Technosphere Labs Pv"
+                + "t. Ltd.NO SMD LIMITEDAlbertronic BVLuminostics, Inc.Oblamatik AGInnokind, Inc.Melbot Studios, Socied"
+                + "ad LimitadaMyzee TechnologyOmnisense LimitedKAHA PTE. LTD.Shanghai MXCHIP Information Technology Co."
+                + ", Ltd.JSB TECH PTE LTDFundacion Tecnalia Research and InnovationYukai Engineering Inc.Gooligum Techn"
+                + "ologies Pty LtdROOQ GmbHAiRISTAQingdao Haier Technology Co., Ltd.Sappl Verwaltungs- und Betriebs Gmb"
+                + "HTekHomePCI Private LimitedLeggett & Platt, IncorporatedPS GmbHC.O.B.O. SpAJames Walker RotaBolt Lim"
+                + "itedBREATHINGS Co., Ltd.BarVision, LLCSRAMKiteSpring Inc.Reconnect, Inc.Elekon AGRealThingks GmbHHen"
+                + "way Technologies, LTD.ASTEM Co.,Ltd.LinkedSemi Microelectronics (Xiamen) Co., LtdENSESO LLCXenoma In"
+                + "c.Adolf Wuerth GmbH & Co KGCatalyft Labs, Inc.JEPICO CorporationHero Workout GmbHRivian Automotive, "
+                + "LLCTRANSSION HOLDINGS LIMITEDInovonics Corp.Agitron d.o.o.Globe (Jiangsu) Co., LtdAMC International "
+                + "Alfa Metalcraft Corporation AGFirst Light Technologies Ltd.Wearable Link LimitedMetronom Health Euro"
+                + "peZwift, Inc.Kindeva Drug Delivery L.P.GimmiSys GmbHtkLABS INC.PassiveBolt, Inc.Limited Liability Co"
+                + "mpany MikrotiklsCapetechPPRSApptricity CorporationLogiLube, LLCJulboBreville GroupKerlinkOhsung Elec"
+                + "tronicsZTE CorporationHerdDogg, IncSelekt Bilgisayar, lletisim Urunleri lnsaat Sanayi ve Ticaret Lim"
+                + "ited SirketiLismore Instruments LimitedLogiLube, LLCETCBioEchoNet inc.NUANCE HEARING LTDSena Technol"
+                + "ogies Inc.Linkura ABGL Solutions K.K.Moonbird BVCountrymate Technology LimitedAsahi Kasei Corporatio"
+                + "nPointGuard, LLCNeo Materials and Consulting Inc.Actev Motors, Inc.Woan Technology (Shenzhen) Co., L"
+                + "td.dricos, Inc.Guide ID B.V.9374-7319 Quebec incGunwerks, LLCBand Industries, inc.Lund Motion Produc"
+                + "ts, Inc.IBA Dosimetry GmbHGAClosed Joint Stock Company \"Zavod Flometr\" (\"Zavod Flometr\" CJSC)Pop"
+                + "it OyABEYEBlueIOT(Beijing) Technology Co.,LtdFauna Audio GmbHTOYOTA motor corporationZifferEins GmbH"
+                + " & Co. KGBIOTRONIK SE & Co. KGCORE CORPORATIONCTEK Sweden ABThorley Industries, LLCCLB B.V.SonicSens"
+                + "ory IncISEMAR S.R.L.DEKRA TESTING AND CERTIFICATION, S.A.U.Bernard Krone Holding SE & Co.KGELPRO-BUC"
+                + "HS AGFeedback Sports LLCTeraTron GmbHLumos Health Inc.Cello Hill, LLCTSE BRAKES, INC.BHM-Tech Produk"
+                + "tionsgesellschaft m.b.HWIKA Alexander Wiegand SE & Co.KGBiovigilMequonic Engineering, S.L.bGrid B.V."
+                + "C3-WIRELESS, LLCADVEEZAktiebolaget ReginAnton Paar GmbHTelenor ASABig Kaiser Precision Tooling LtdAb"
+                + "solute Audio Labs B.V.VT42 Pty LtdBronkhorst High-Tech B.V.C. & E. Fein GmbHNextMindPixie Dust Techn"
+                + "ologies, Inc.eTactica ehfNew Audio LLCSendum Wireless Corporationdeister electronic GmbHYKK AP Inc.S"
+                + "tep One LimitedKoya Medical, Inc.Proof Diagnostics, Inc.VOS Systems, LLCENGAGENOW DATA SCIENCES PRIV"
+                + "ATE LIMITEDARDUINO SAKUMHO ELECTRICS, INCSecurity Enhancement Systems, LLCBEIJING ELECTRIC VEHICLE C"
+                + "O.,LTDPaybuddy ApSKHN Solutions IncNippon Ceramic Co.,Ltd.PHOTODYNAMIC INCORPORATEDDashLogic, Inc.Am"
+                + "biqNarhwall Inc.Pozyx NVifLink Open CommunityDeublin Company, LLCBLINQYDYPHIBlueX Microelectronics C"
+                + "orp Ltd.PentaLock Aps.AUTEC Gesellschaft fuer Automationstechnik mbHPegasus Technologies, Inc.Bout L"
+                + "abs, LLCPlayerData LimitedSAVOY ELECTRONIC LIGHTINGElimo Engineering LtdSkyStream CorporationAerosen"
+                + "s LLCCentre Suisse d'Electronique et de Microtechnique SAVessel Ltd.Span.IO, Inc.AnotherBrain inc.Ro"
+                + "sewillUniversal Audio, Inc.JAPAN TOBACCO INC.UVISIOHungYi Microelectronics Co.,Ltd.Honor Device Co.,"
+                + " Ltd.Combustion, LLCXUNTONGCrowdGlow LtdMobitraceHx Engineering, LLCSenso4s d.o.o.BlyottJulius Blum "
+                + "GmbHBlueStreak IoT, LLCChess Wise B.V.ABLEPAY TECHNOLOGIES ASTemperature Sensitive Solutions Systems"
+                + " Sweden ABHeartHero, inc.ORBIS Inc.GEAR RADIO ELECTRONICS CORP.EAR TEKNIK ISITME VE ODIOMETRI CIHAZL"
+                + "ARI SANAYI VE TICARET ANONIM SIRKETICoyottaSynergy Tecnologia em Sistemas LtdaVivoSensMedical GmbHNa"
+                + "gravision SABionic Avionics Inc.AON2 Ltd.Innoware Development ABJLD Technology Solutions, LLCMagnus "
+                + "Technology Sdn BhdPreddio Technologies Inc.Tag-N-Trac IncWuhan Linptech Co.,Ltd.Friday Home ApsCPS A"
+                + "SMobilogixMasonite CorporationKabushikigaisha HANERONMelange Systems Pvt. Ltd.LumenRadio ABAthlos Oy"
+                + "KEAN ELECTRONICS PTY LTDYukon advanced optics worldwide, UABSibel Inc.OJMAR SASteinel Solutions AGWa"
+                + "tchGas B.V.OM Digital Solutions CorporationAudeara Pty LtdBeijing Zero Zero Infinity Technology Co.,"
+                + "Ltd.Spectrum Technologies, Inc.OKI Electric Industry Co., LtdMobile Action Technology Inc.SENSATEC C"
+                + "o., Ltd.R.O. S.R.L.Hangzhou Yaguan Technology Co. LTDListen Technologies CorporationTOITU CO., LTD.C"
+                + "onfidexKeep Technologies, Inc.Lichtvision Engineering GmbHAIRSTARAmpler Bikes OU",
+            "Cleveron ASAyxon-Dynamics GmbHdonutrobotics Co., Ltd.Flosonics MedicalSouthwire Company, LLCShanghai"
+                + " wuqi microelectronics Co.,LtdReflow Pty LtdOras OyECCTVolan Technology Inc.SIANA SystemsShanghai Yi"
+                + "dian Intelligent Technology Co., Ltd.Blue Peacock GmbHRoland CorporationLIXIL CorporationSUBARU Corp"
+                + "orationSensolusDyson Technology LimitedTec4med LifeScience GmbHCROXEL, INC.Syng IncRIDE VISION LTDPl"
+                + "ume Design IncCambridge Animal Technologies LtdMaxell, Ltd.Link Labs, Inc.Embrava Pty LtdINPEAK S.C."
+                + "API-KCombiQ ABDeVilbiss Healthcare LLCJiangxi Innotech Technology Co., LtdApollogic Sp. z o.o.DAIICH"
+                + "IKOSHO CO., LTD.BIXOLON CO.,LTDAtmosic Technologies, Inc.Eran Financial Services LLCLouis VuittonAYU"
+                + " DEVICES PRIVATE LIMITEDNanoFlexWorthcloud Technology Co.,LtdYamaha CorporationPaceBait IVSShenzhen "
+                + "H&T Intelligent Control Co., LtdShenzhen Feasycom Technology Co., Ltd.Zuma Array LimitedInstamic, In"
+                + "c.Air-WeighNevro Corp.Pinnacle Technology, Inc.WMF AGLuxer Corporationsafectory GmbHNGK SPARK PLUG C"
+                + "O., LTD.2587702 Ontario Inc.Bouffalo Lab (Nanjing)., Ltd.BLUETICKETING SRLIncotex Co. Ltd.Galileo Te"
+                + "chnology LimitedSiteco GmbHDELABIEHefei Yunlian Semiconductor Co., LtdShenzhen Yopeak Optoelectronic"
+                + "s Technology Co., Ltd.GEWISS S.p.A.OPEX CorporationMotionalysis, Inc.Busch Systems International Inc"
+                + ".Novidan, Inc.3SI Security Systems, IncBeijing HC-Infinite Technology LimitedThe Wand Company LtdJRC"
+                + " Mobility Inc.Venture Research Inc.Map Large, Inc.MistyWest Energy and Transport Ltd.SiFli Technolog"
+                + "ies (shanghai) Inc.Lockn Technologies Private LimitedToytec CorporationVANMOOF Global Holding B.V.Ne"
+                + "xtscape Inc.CSIROFollow Sense Europe B.V.KKM COMPANY LIMITEDSQL Technologies Corp.Inugo Systems Limi"
+                + "tedambieMeizhou Guo Wei Electronics Co., LtdIndigo DiabetesTourBuilt, LLCSontheim Industrie Elektron"
+                + "ik GmbHLEGIC Identsystems AGInnovative Design Labs Inc.MG Energy Systems B.V.LaceClips llcstrykerDAT"
+                + "ANG SEMICONDUCTOR TECHNOLOGY CO.,LTDSmart Parks B.V.MOKO TECHNOLOGY LtdGremsy JSCGeopal system A/SLy"
+                + "tx, INC.JUSTMORPH PTE. LTD.Beijing SuperHexa Century Technology CO. LtdFocus Ingenieria SRLHAPPIEST "
+                + "BABY, INC.Scribble Design Inc.Olympic Ophthalmics, Inc.PokkelsKUUKANJYOKIN Co.,Ltd.Pac Sane LimitedW"
+                + "arner Bros.OomaSenquip Pty LtdJumo GmbH & Co. KGInnohome OyMICROSON S.A.Delta Cycle CorporationSynap"
+                + "tics IncorporatedJMD PACIFIC PTE. LTD.Shenzhen Sunricher Technology LimitedWebasto SEEmlid LimitedUn"
+                + "iqAir OyWAFERLOCKFreedman Electronics Pty LtdKEBA Handover Automation GmbHIntuity MedicalCleer Limit"
+                + "edUniversal Biosensors Pty LtdCorsairRivata, Inc.Greennote Inc,Snowball Technology Co., Ltd.ALIZENT "
+                + "InternationalShanghai Smart System Technology Co., LtdPSA Peugeot CitroenSES-ImagotagHAINBUCH SPANNE"
+                + "NDE TECHNIKSANlight GmbHDelpSys, s.r.o.JCM TECHNOLOGIES S.A.Perfect CompanyTOTO LTD.Shenzhen Grandsu"
+                + "n Electronic Co.,Ltd.Monarch International Inc.Carestream Dental LLCGiPStech S.r.l.OOBIK Inc.Pamex I"
+                + "nc.Lightricity LtdSensTekFoil, Inc.Shanghai high-flying electronics technology Co.,LtdTEMKIN ASSOCIA"
+                + "TES, LLCEello LLCXi'an Fengyu Information Technology Co., Ltd.Canon Finetech Nisca Inc.LifePlus, Inc"
+                + ".ista International GmbHLoy Tec electronics GmbHLINCOGN TECHNOLOGY CO. LIMITEDCare Bloom, LLCDIC Cor"
+                + "porationFAZEPRO LLCShenzhen Uascent Technology Co., LtdRealityworks, inc.Urbanista ABZencontrol Pty "
+                + "LtdMrinq Technologies LLCComputime International LtdAnhui Listenai CoOSM HK LimitedAdevo Consulting "
+                + "ABPS Engineering, Inc.AIAIAI ApSVisiontronic s.r.o.InVue Security Products IncTouchTronics, Inc.INNE"
+                + "R RANGE PTY. LTD.Ellenby Technologies, Inc.Elstat Ltd [ Formerly Elstat Electronics Ltd.]Xenter, Inc"
+                + ".LogTag North America Inc.Sens.ai IncorporatedSTLOpen Bionics Ltd.R-DAS, s.r.o.KCCS Mobile Engineeri"
+                + "ng Co., Ltd.Inventas ASRobkoo Information & Technologies Co., Ltd.PAUL HARTMANN AGOmni-ID USA, INC.S"
+                + "henzhen Jingxun Technology Co., Ltd.RealMega Microelectronics technology (Shanghai) Co. Ltd.Kenzen, "
+                + "Inc.CODIUMFlexoptix GmbHBarnes Group Inc.Chengdu Aich Technology Co.,LtdKeepin Co., Ltd.Swedlock ABS"
+                + "henzhen CoolKit Technology Co., Ltdise Individuelle Software und Elektronik GmbHNuvotonVisuallex Spo"
+                + "rt International LimitedKOBATA GAUGE MFG. CO., LTD.CACI TechnologiesNordic Strong ApSEAGLE KINGDOM T"
+                + "ECHNOLOGIES LIMITEDLautsprecher Teufel GmbHSSV Software Systems GmbHZhuhai Pantum Electronisc Co., L"
+                + "tdStreamit B.V.nymea GmbHAL-KO Geraete GmbHFranz Kaldewei GmbH&Co KGShenzhen Aimore. Co.,LtdCodefabr"
+                + "ik GmbHReelables, Inc.Duravit AGBoss AudioVocera Communications, Inc.Douglas Dynamics L.L.C.Viceroy "
+                + "Devices CorporationChengDu ForThink Technology Co., Ltd.IMATRIX SYSTEMS, INC.GlobalMedDALI Allianceu"
+                + "nu GmbHHexologySunplus Technology Co., Ltd.LEVEL, s.r.o.FLIR Systems ABBorda TechnologySquare, Inc.F"
+                + "UTEK ADVANCED SENSOR TECHNOLOGY, INCSaxonar GmbHVelentium, LLCGLP German Light Products GmbHLeupold "
+                + "& Stevens, Inc.CRADERS,CO.,LTDShanghai All Link Microelectronics Co.,Ltd701x Inc.Radioworks Microele"
+                + "ctronics PTY LTDUnitech Electronic Inc.AMETEK, Inc.IrdetoFirst Design System Inc.Unisto AGChengdu Am"
+                + "bit Technology Co., Ltd.SMT ELEKTRONIK GmbHCerebrum Sensor Technologies Inc.Weber Sensors, LLCEarda "
+                + "Technologies Co.,LtdFUSEAWARE LIMITEDFlaircomm Microelectronics Inc.RESIDEO TECHNOLOGIES, INC.IORA T"
+                + "echnology Development Ltd. Sti.Precision Triathlon Systems LimitedI-PERCUTMarquardt GmbHFAZUA GmbHWo"
+                + "rkaround GmbhShenzhen Qianfenyi Intelligent Technology Co., LTDsoonisysBelun Technology Company Limi"
+                + "tedSanistaal A/SBluPeakSANYO DENKO Co.,Ltd.Honda Lock Mfg. Co.,Ltd.B.E.A. S.A.Alfa Laval Corporate A"
+                + "BThermoWorks, Inc.ToughBuilt Industries LLCIOTOOLSOlumeeNAOS JAPAN K.K.Guard RFID Solutions Inc.SIG "
+                + "SAUER, INC.DECATHLON SEWBS PROJECT H PTY LTDRoca Sanitario, S.A.Enerpac Tool Group Corp.Nanoleq AGAc"
+                + "celerated SystemsPB INC.Beijing ESWIN Computing Technology Co., Ltd.TKH Security B.V.ams AGHygiene I"
+                + "Q, LLC.iRhythm Technologies, Inc.BeiJing ZiJie TiaoDong KeJi Co.,Ltd.NIBROTECH LTDBaracoda Daily Hea"
+                + "lthtech.Lumi United Technology Co., LtdCHACONTech-Venom Entertainment Private LimitedACL Airshop B.V"
+                + ".MAIILLUMAGEAR, Inc.REDARC ELECTRONICS PTY LTDMOCA System Inc.Duke Manufacturing CoART SPASilver Wol"
+                + "f Vehicles Inc.Hala Systems, Inc.ARMATURA LLCCONZUMEX INDUSTRIES PRIVATE LIMITEDBH SensSINTEFOmnivol"
+                + "taic Energy Solutions Limited CompanyWISYCOM S.R.L.Red 100 Lighting Co., ltd.Impact Biosystems, Inc."
+                + "AIC semiconductor (Shanghai) Co., Ltd.Dodge Industrial, Inc.REALTIMEID ASISEO Serrature S.p.a.MindRh"
+                + "ythm, Inc.Havells India LimitedSentrax GmbHTSIINCITAT ENVIRONNEMENTnFore Technology Co., Ltd.Electro"
+                + "nic Sensors, Inc.Bird Rides, Inc.Gentex CorporationNIO USA, Inc.SkyHawke TechnologiesNomono ASEMS In"
+                + "tegrators, LLC"
+    };
+
+    private CompanyIdentifierTable() {
+    }
+}
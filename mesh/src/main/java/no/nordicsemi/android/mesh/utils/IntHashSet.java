@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Set of non-negative int values, such as mesh addresses, stored in an open addressing hash table without boxing.
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY)
+public final class IntHashSet {
+
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] mTable;
+    private int mSize;
+
+    public IntHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructs a set large enough to hold the given number of values without resizing.
+     *
+     * @param expectedSize expected number of values
+     */
+    public IntHashSet(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 / 4 < expectedSize) {
+            capacity <<= 1;
+        }
+        mTable = newTable(capacity);
+    }
+
+    /**
+     * Returns the number of values in the set.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns true if the set is empty.
+     */
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    /**
+     * Returns true if the set contains the given value.
+     */
+    public boolean contains(final int value) {
+        if (value < 0)
+            return false;
+        final int mask = mTable.length - 1;
+        int index = hash(value) & mask;
+        int entry;
+        while ((entry = mTable[index]) != EMPTY) {
+            if (entry == value)
+                return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value non-negative value
+     * @return true if the value was added or false if it is already in the set
+     */
+    public boolean add(final int value) {
+        if (value < 0)
+            throw new IllegalArgumentException("Value must not be negative");
+        if ((mSize + 1) * 4 > mTable.length * 3) {
+            resize(mTable.length << 1);
+        }
+        final int mask = mTable.length - 1;
+        int index = hash(value) & mask;
+        int entry;
+        while ((entry = mTable[index]) != EMPTY) {
+            if (entry == value)
+                return false;
+            index = (index + 1) & mask;
+        }
+        mTable[index] = value;
+        mSize++;
+        return true;
+    }
+
+    /**
+     * Removes a value from the set.
+     *
+     * @param value value to be removed
+     * @return true if the value was removed or false if it was not in the set
+     */
+    public boolean remove(final int value) {
+        if (value < 0)
+            return false;
+        final int mask = mTable.length - 1;
+        int index = hash(value) & mask;
+        int entry;
+        while ((entry = mTable[index]) != value) {
+            if (entry == EMPTY)
+                return false;
+            index = (index + 1) & mask;
+        }
+        mTable[index] = EMPTY;
+        mSize--;
+        // Shift the following entries of the probe sequence back so that lookups do not stop at the removed slot
+        int next = (index + 1) & mask;
+        while ((entry = mTable[next]) != EMPTY) {
+            final int home = hash(entry) & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                mTable[index] = entry;
+                mTable[next] = EMPTY;
+                index = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return true;
+    }
+
+    /**
+     * Removes all values from the set.
+     */
+    public void clear() {
+        Arrays.fill(mTable, EMPTY);
+        mSize = 0;
+    }
+
+    /**
+     * Returns the values of the set in ascending order.
+     */
+    @NonNull
+    public int[] toArray() {
+        final int[] values = new int[mSize];
+        int count = 0;
+        for (int entry : mTable) {
+            if (entry != EMPTY) {
+                values[count++] = entry;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private void resize(final int capacity) {
+        final int[] old = mTable;
+        mTable = newTable(capacity);
+        mSize = 0;
+        for (int entry : old) {
+            if (entry != EMPTY) {
+                add(entry);
+            }
+        }
+    }
+
+    private static int[] newTable(final int capacity) {
+        final int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static int hash(final int value) {
+        final int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
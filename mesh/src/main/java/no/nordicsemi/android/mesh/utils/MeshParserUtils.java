@@ -22,9 +22,7 @@
 package no.nordicsemi.android.mesh.utils;
 
 import android.content.Context;
-import android.text.TextUtils;
 import no.nordicsemi.android.mesh.logger.MeshLogger;
-import android.util.SparseArray;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -111,6 +109,10 @@ public class MeshParserUtils {
         return value == null || value != (value & 0xFFF);
     }
 
+    private static boolean isEmpty(final CharSequence value) {
+        return value == null || value.length() == 0;
+    }
+
     /**
      * Checks if the IV Index is valid.
      *
@@ -163,7 +165,7 @@ public class MeshParserUtils {
      */
     public static boolean validateNetworkKeyInput(@NonNull final String networkKey) throws IllegalArgumentException {
 
-        if (TextUtils.isEmpty(networkKey)) {
+        if (isEmpty(networkKey)) {
             throw new IllegalArgumentException("Network key cannot be empty!");
         } else if (!networkKey.matches(PATTERN_KEY)) {
             throw new IllegalArgumentException("Network key must be 16 bytes long!");
@@ -182,7 +184,7 @@ public class MeshParserUtils {
      */
     public static boolean validateKeyIndexInput(final Context context, final String input) throws IllegalArgumentException {
 
-        if (TextUtils.isEmpty(input)) {
+        if (isEmpty(input)) {
             throw new IllegalArgumentException(context.getString(R.string.error_empty_key_index));
         }
 
@@ -210,7 +212,7 @@ public class MeshParserUtils {
      */
     public static boolean validateIvIndexInput(final Context context, final String input) throws IllegalArgumentException {
 
-        if (TextUtils.isEmpty(input)) {
+        if (isEmpty(input)) {
             throw new IllegalArgumentException(context.getString(R.string.error_empty_iv_index));
         }
 
@@ -256,7 +258,7 @@ public class MeshParserUtils {
      * @throws IllegalArgumentException in case of an invalid was entered as an input and the message containing the error
      */
     public static boolean validateKeyInput(@NonNull final String key) throws IllegalArgumentException {
-        if (TextUtils.isEmpty(key)) {
+        if (isEmpty(key)) {
             throw new IllegalArgumentException("Key cannot be empty!");
         } else if (!key.matches(PATTERN_KEY)) {
             throw new IllegalArgumentException("key must be a 32-character hexadecimal string!");
@@ -273,7 +275,7 @@ public class MeshParserUtils {
      * @throws IllegalArgumentException in case of an invalid was entered as an input and the message containing the error
      */
     public static boolean validatePublicKeyInput(@NonNull final String key) throws IllegalArgumentException {
-        if (TextUtils.isEmpty(key)) {
+        if (isEmpty(key)) {
             throw new IllegalArgumentException("Key cannot be empty!");
         } else if (!key.matches(PATTERN_PUBLIC_KEY)) {
             throw new IllegalArgumentException("key must be a 128-character hexadecimal string!");
@@ -331,7 +333,7 @@ public class MeshParserUtils {
         return ByteBuffer.allocate(2).put(pdu, 8, 2).array(); // get mDst address from pdu
     }
 
-    private static int getSegmentedMessageLength(final SparseArray<byte[]> segmentedMessageMap) {
+    private static int getSegmentedMessageLength(final ByteArrayMap segmentedMessageMap) {
         int length = 0;
         for (int i = 0; i < segmentedMessageMap.size(); i++) {
             length += segmentedMessageMap.get(i).length;
@@ -339,7 +341,7 @@ public class MeshParserUtils {
         return length;
     }
 
-    public static byte[] concatenateSegmentedMessages(final SparseArray<byte[]> segmentedMessages) {
+    public static byte[] concatenateSegmentedMessages(final ByteArrayMap segmentedMessages) {
         final int length = getSegmentedMessageLength(segmentedMessages);
         final ByteBuffer completeBuffer = ByteBuffer.allocate(length);
         completeBuffer.order(ByteOrder.BIG_ENDIAN);
@@ -5,7 +5,6 @@ import android.os.Parcelable;
 import androidx.annotation.NonNull;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,7 +15,7 @@ import java.util.List;
 public class ProxyFilter implements Parcelable {
 
     private final ProxyFilterType filterType;
-    private final List<AddressArray> addresses = new ArrayList<>();
+    private final IntHashSet addresses = new IntHashSet();
 
     /**
      * Constructs the proxy filter
@@ -29,13 +28,17 @@ public class ProxyFilter implements Parcelable {
 
     private ProxyFilter(Parcel in) {
         filterType = in.readParcelable(ProxyFilterType.class.getClassLoader());
-        in.readList(addresses, AddressArray.class.getClassLoader());
+        final List<AddressArray> list = new ArrayList<>();
+        in.readList(list, AddressArray.class.getClassLoader());
+        for (AddressArray addressArray : list) {
+            addAddress(addressArray);
+        }
     }
 
     @Override
     public void writeToParcel(Parcel dest, int flags) {
         dest.writeParcelable(filterType, flags);
-        dest.writeList(addresses);
+        dest.writeList(getAddresses());
     }
 
     @Override
@@ -66,7 +69,26 @@ public class ProxyFilter implements Parcelable {
      * Returns the list of addresses containing {@link AddressArray} added to the proxy filter
      */
     public List<AddressArray> getAddresses() {
-        return Collections.unmodifiableList(addresses);
+        final int[] values = addresses.toArray();
+        final List<AddressArray> list = new ArrayList<>(values.length);
+        for (int address : values) {
+            list.add(new AddressArray((byte) (address >> 8), (byte) address));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns the addresses added to the proxy filter in ascending order
+     */
+    public int[] getAddressValues() {
+        return addresses.toArray();
+    }
+
+    /**
+     * Returns the number of addresses added to the proxy filter
+     */
+    public int getAddressCount() {
+        return addresses.size();
     }
 
     /**
@@ -75,23 +97,16 @@ public class ProxyFilter implements Parcelable {
      * @param addressArray address to be added
      */
     public void addAddress(final AddressArray addressArray) {
-        if (!contains(addressArray)) {
-            addresses.add(addressArray);
-        }
+        addresses.add(toInt(addressArray));
     }
 
     /**
-     * Checks is the address exists within the list of proxy filter addresses.
+     * Adds an address to the ProxyFilter
      *
-     * @param addressArray address
+     * @param address 16-bit address to be added
      */
-    private boolean contains(@NonNull final AddressArray addressArray) {
-        for (AddressArray arr : addresses) {
-            if (Arrays.equals(addressArray.getAddress(), arr.getAddress())) {
-                return true;
-            }
-        }
-        return false;
+    public void addAddress(final int address) {
+        addresses.add(address & 0xFFFF);
     }
 
     /**
@@ -104,23 +119,39 @@ public class ProxyFilter implements Parcelable {
      */
     public final boolean contains(@NonNull final byte[] address) {
         if (MeshAddress.isValidUnicastAddress(address) || MeshAddress.isValidSubscriptionAddress(address)) {
-            final AddressArray addressArray = new AddressArray(address[0], address[1]);
-            for (AddressArray arr : addresses) {
-                if (Arrays.equals(addressArray.getAddress(), arr.getAddress())) {
-                    return true;
-                }
-            }
+            return addresses.contains(MeshParserUtils.unsignedBytesToInt(address[1], address[0]));
         }
         return false;
     }
 
+    /**
+     * Checks is the address exists within the list of proxy filter addresses.
+     *
+     * @param address 16-bit address
+     */
+    public final boolean contains(final int address) {
+        return addresses.contains(address);
+    }
+
     /**
      * Removes an address from the ProxyFilter
      *
      * @param addressArray address to be removed
      */
     public void removeAddress(final AddressArray addressArray) {
-        addresses.remove(addressArray);
+        addresses.remove(toInt(addressArray));
     }
 
+    /**
+     * Removes an address from the ProxyFilter
+     *
+     * @param address 16-bit address to be removed
+     */
+    public void removeAddress(final int address) {
+        addresses.remove(address & 0xFFFF);
+    }
+
+    private static int toInt(@NonNull final AddressArray addressArray) {
+        return MeshParserUtils.unsignedBytesToInt(addressArray.getAddress()[1], addressArray.getAddress()[0]);
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import no.nordicsemi.android.mesh.opcodes.ApplicationMessageOpCodes;
+import no.nordicsemi.android.mesh.transport.AccessMessage;
+import no.nordicsemi.android.mesh.transport.GenericOnOffGet;
+import no.nordicsemi.android.mesh.transport.GenericOnOffStatus;
+import no.nordicsemi.android.mesh.transport.VirtualScheduler;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GroupTransactionTest {
+
+    private final ApplicationKey applicationKey = new ApplicationKey(MeshParserUtils.hexToInt("0456"),
+            MeshParserUtils.toByteArray("63964771734fbd76e3b40519d1d94a48"));
+
+    private GroupTransaction createTransaction(final int retries) {
+        return new GroupTransaction(0xC000, new GenericOnOffGet(applicationKey),
+                ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS, new int[]{0x0005, 0x0001, 0x0003}, 1000, retries);
+    }
+
+    @Test
+    public void testResponsesAreRecordedOnce() {
+        final GroupTransaction transaction = createTransaction(1);
+
+        assertTrue(transaction.onStatusReceived(0x0003, ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS));
+        assertFalse(transaction.onStatusReceived(0x0003, ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS));
+        assertFalse(transaction.onStatusReceived(0x0002, ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS));
+        assertFalse(transaction.onStatusReceived(0x0001, ApplicationMessageOpCodes.GENERIC_LEVEL_STATUS));
+
+        assertEquals(3, transaction.getExpectedResponderCount());
+        assertEquals(Collections.singletonList(0x0003), transaction.getResponders());
+        assertEquals(Arrays.asList(0x0001, 0x0005), transaction.getMissingResponders());
+        assertFalse(transaction.isSuccessful());
+    }
+
+    @Test
+    public void testRetriesTargetMissingResponders() {
+        final GroupTransaction transaction = createTransaction(1);
+        transaction.onStatusReceived(0x0001, ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS);
+
+        assertEquals(Arrays.asList(0x0003, 0x0005), transaction.nextRetry());
+        assertTrue(transaction.onUnicastRetry(0x0003));
+        assertTrue(transaction.onUnicastRetry(0x0005));
+        assertFalse(transaction.onUnicastRetry(0x0001));
+        assertEquals(2, transaction.getUnicastRetryCount());
+        assertTrue(transaction.nextRetry().isEmpty());
+
+        transaction.onStatusReceived(0x0003, ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS);
+        transaction.onStatusReceived(0x0005, ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS);
+        assertTrue(transaction.isSuccessful());
+    }
+
+    @Test
+    public void testUnicastRetriesArePacedWithBackoff() {
+        final VirtualScheduler scheduler = new VirtualScheduler();
+        final List<Integer> destinations = new ArrayList<>();
+        final List<Long> times = new ArrayList<>();
+        final GroupTransactionManager manager = new GroupTransactionManager(scheduler.createTransportScheduler(),
+                (dst, message) -> {
+                    destinations.add(dst);
+                    times.add(scheduler.now());
+                });
+        final GroupTransaction transaction = createTransaction(2);
+        manager.start(transaction, completed -> {
+        });
+        scheduler.runUntilIdle();
+
+        assertEquals(Arrays.asList(0xC000, 0x0001, 0x0003, 0x0005, 0x0001, 0x0003, 0x0005), destinations);
+        // The retries of a round are spaced out and the timeout doubles after each round
+        assertEquals(Arrays.asList(0L, 1000L, 1100L, 1200L, 3200L, 3300L, 3400L), times);
+        assertEquals(6, transaction.getUnicastRetryCount());
+        assertEquals(7400L, scheduler.now());
+        assertTrue(transaction.isComplete());
+    }
+
+    @Test
+    public void testRespondersAreNotRetried() {
+        final VirtualScheduler scheduler = new VirtualScheduler();
+        final List<Integer> destinations = new ArrayList<>();
+        final GroupTransactionManager manager = new GroupTransactionManager(scheduler.createTransportScheduler(),
+                (dst, message) -> destinations.add(dst));
+        final GroupTransaction transaction = createTransaction(1);
+        manager.start(transaction, completed -> {
+        });
+        scheduler.runUntil(1000);
+        manager.onMessageReceived(status(0x0003));
+        scheduler.runUntilIdle();
+
+        assertEquals(Arrays.asList(0xC000, 0x0001, 0x0005), destinations);
+        assertEquals(2, transaction.getUnicastRetryCount());
+    }
+
+    @Test
+    public void testCancelledTransactionsAreNotRetried() {
+        final VirtualScheduler scheduler = new VirtualScheduler();
+        final List<Integer> destinations = new ArrayList<>();
+        final GroupTransactionManager manager = new GroupTransactionManager(scheduler.createTransportScheduler(),
+                (dst, message) -> destinations.add(dst));
+        final GroupTransaction transaction = createTransaction(1);
+        manager.start(transaction, completed -> {
+        });
+        scheduler.runUntil(1100);
+        manager.cancelAll();
+        scheduler.runUntilIdle();
+
+        assertEquals(Arrays.asList(0xC000, 0x0001, 0x0003), destinations);
+        assertFalse(transaction.isComplete());
+    }
+
+    private static GenericOnOffStatus status(final int src) {
+        final AccessMessage message = new AccessMessage();
+        message.setSrc(src);
+        message.setParameters(new byte[]{0x01});
+        return new GenericOnOffStatus(message);
+    }
+}
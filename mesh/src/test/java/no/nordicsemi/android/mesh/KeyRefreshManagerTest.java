@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.opcodes.ConfigMessageOpCodes;
+import no.nordicsemi.android.mesh.transport.AccessMessage;
+import no.nordicsemi.android.mesh.transport.ConfigAppKeyStatus;
+import no.nordicsemi.android.mesh.transport.ConfigAppKeyUpdate;
+import no.nordicsemi.android.mesh.transport.ConfigKeyRefreshPhaseSet;
+import no.nordicsemi.android.mesh.transport.ConfigKeyRefreshPhaseStatus;
+import no.nordicsemi.android.mesh.transport.ConfigNetKeyStatus;
+import no.nordicsemi.android.mesh.transport.ConfigNetKeyUpdate;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.transport.MeshNetworkFixtures;
+import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
+import no.nordicsemi.android.mesh.transport.VirtualScheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class KeyRefreshManagerTest {
+
+    private static final int NODE_COUNT = 40;
+    private static final long RESPONSE_DELAY = 100;
+
+    private final VirtualScheduler scheduler = new VirtualScheduler();
+    private final Set<Integer> unreachable = new HashSet<>();
+    private MeshNetwork network;
+    private NetworkKey networkKey;
+    private KeyRefreshManager manager;
+    private int sentCount;
+    private int inFlight;
+    private int maxInFlight;
+
+    private final List<Integer> phasesStarted = new ArrayList<>();
+    private int nodesRefreshed;
+    private boolean completed;
+    private List<ProvisionedMeshNode> failedNodes;
+
+    private final KeyRefreshCallbacks callbacks = new KeyRefreshCallbacks() {
+        @Override
+        public void onKeyRefreshPhaseStarted(@NonNull final NetworkKey networkKey, final int phase, final int nodeCount) {
+            phasesStarted.add(phase);
+        }
+
+        @Override
+        public void onNodeKeyRefreshed(@NonNull final NetworkKey networkKey, final int phase, @NonNull final ProvisionedMeshNode node) {
+            nodesRefreshed++;
+        }
+
+        @Override
+        public void onKeyRefreshCompleted(@NonNull final NetworkKey networkKey) {
+            completed = true;
+        }
+
+        @Override
+        public void onKeyRefreshFailed(@NonNull final NetworkKey networkKey, final int phase, @NonNull final List<ProvisionedMeshNode> failed) {
+            failedNodes = failed;
+        }
+    };
+
+    @Before
+    public void setUp() {
+        network = MeshNetworkFixtures.create(1, NODE_COUNT);
+        manager = new KeyRefreshManager(scheduler.createTransportScheduler(), this::respond);
+
+        networkKey = network.distributeNetKey(network.getNetKeys().get(0), key(0x11));
+        assertNotNull(network.distributeAppKey(network.getAppKeys().get(0), key(0x22)));
+    }
+
+    private static byte[] key(final int value) {
+        final byte[] key = new byte[16];
+        key[0] = (byte) value;
+        return key;
+    }
+
+    /**
+     * Responds to the configuration messages like a node would, after a delay.
+     */
+    private void respond(final int dst, @NonNull final MeshMessage meshMessage) {
+        sentCount++;
+        if (unreachable.contains(dst))
+            return;
+        inFlight++;
+        maxInFlight = Math.max(maxInFlight, inFlight);
+        final AccessMessage message = new AccessMessage();
+        message.setSrc(dst);
+        final MeshMessage status;
+        if (meshMessage instanceof ConfigNetKeyUpdate) {
+            final byte[] request = ((ConfigNetKeyUpdate) meshMessage).getParameters();
+            message.setOpCode(ConfigMessageOpCodes.CONFIG_NETKEY_STATUS);
+            message.setParameters(new byte[]{0x00, request[0], request[1]});
+            status = new ConfigNetKeyStatus(message);
+        } else if (meshMessage instanceof ConfigAppKeyUpdate) {
+            final byte[] request = ((ConfigAppKeyUpdate) meshMessage).getParameters();
+            message.setOpCode(ConfigMessageOpCodes.CONFIG_APPKEY_STATUS);
+            message.setParameters(new byte[]{0x00, request[0], request[1], request[2]});
+            status = new ConfigAppKeyStatus(message);
+        } else {
+            final byte[] request = ((ConfigKeyRefreshPhaseSet) meshMessage).getParameters();
+            final int phase = request[2] == NetworkKey.USE_NEW_KEYS ? NetworkKey.USING_NEW_KEYS : NetworkKey.NORMAL_OPERATION;
+            message.setOpCode(ConfigMessageOpCodes.CONFIG_KEY_REFRESH_PHASE_STATUS);
+            message.setParameters(new byte[]{0x00, request[0], request[1], (byte) phase});
+            status = new ConfigKeyRefreshPhaseStatus(message);
+        }
+        scheduler.postDelayed(() -> {
+            inFlight--;
+            manager.onMessageReceived(status);
+        }, RESPONSE_DELAY);
+    }
+
+    @Test
+    public void all_phases_complete_on_every_node() {
+        manager.start(network, networkKey, 8, 1000, 2, callbacks);
+        scheduler.runUntilIdle();
+
+        assertTrue(completed);
+        assertNull(failedNodes);
+        assertEquals(3, phasesStarted.size());
+        assertEquals(3 * NODE_COUNT, nodesRefreshed);
+        // One net key update, one app key update and two phase changes per node
+        assertEquals(4 * NODE_COUNT, sentCount);
+        assertEquals(8, maxInFlight);
+        assertEquals(NetworkKey.NORMAL_OPERATION, networkKey.getPhase());
+        for (ProvisionedMeshNode node : network.getNodes()) {
+            assertFalse(node.getAddedNetKeys().get(0).isUpdated());
+            assertFalse(node.getAddedAppKeys().get(0).isUpdated());
+        }
+        assertFalse(manager.isRunning(networkKey));
+    }
+
+    @Test
+    public void unreachable_nodes_stop_the_procedure_after_the_phase() {
+        unreachable.add(0x0005);
+        manager.start(network, networkKey, 8, 1000, 2, callbacks);
+        scheduler.runUntilIdle();
+
+        assertFalse(completed);
+        assertNotNull(failedNodes);
+        assertEquals(1, failedNodes.size());
+        assertEquals(0x0005, failedNodes.get(0).getUnicastAddress());
+        assertEquals(NetworkKey.KEY_DISTRIBUTION, networkKey.getPhase());
+        assertEquals(1, phasesStarted.size());
+        // Two updates to each reachable node and the net key update sent three times to the unreachable one
+        assertEquals(2 * (NODE_COUNT - 1) + 3, sentCount);
+    }
+
+    @Test
+    public void procedure_resumes_from_the_saved_progress() {
+        unreachable.add(0x0005);
+        manager.start(network, networkKey, 8, 1000, 2, callbacks);
+        scheduler.runUntilIdle();
+
+        unreachable.clear();
+        sentCount = 0;
+        failedNodes = null;
+        manager = new KeyRefreshManager(scheduler.createTransportScheduler(), this::respond);
+        manager.start(network, networkKey, 8, 1000, 2, callbacks);
+        scheduler.runUntilIdle();
+
+        assertTrue(completed);
+        assertNull(failedNodes);
+        // Only the node that failed is sent the new keys again
+        assertEquals(2 + 2 * NODE_COUNT, sentCount);
+        assertEquals(NetworkKey.NORMAL_OPERATION, networkKey.getPhase());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import no.nordicsemi.android.mesh.transport.VirtualScheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NetworkChangeCoalescerTest {
+
+    private final VirtualScheduler scheduler = new VirtualScheduler();
+    private final List<NetworkChangeSet> dispatched = new ArrayList<>();
+    private final List<Long> times = new ArrayList<>();
+    private final NetworkChangeCoalescer coalescer = new NetworkChangeCoalescer(scheduler.createTransportScheduler(),
+            changes -> {
+                dispatched.add(changes);
+                times.add(scheduler.now());
+            });
+
+    @Test
+    public void changes_are_dispatched_immediately_without_interval() {
+        coalescer.nodeChanged(0x0002);
+        coalescer.dispatch();
+
+        assertEquals(1, dispatched.size());
+        assertTrue(dispatched.get(0).getNodes().contains(0x0002));
+        assertEquals(0, scheduler.getPendingTaskCount());
+    }
+
+    @Test
+    public void changes_within_interval_are_merged() {
+        coalescer.setInterval(500);
+        coalescer.nodeChanged(0x0002);
+        coalescer.dispatch();
+        scheduler.runUntilIdle();
+        assertEquals(1, dispatched.size());
+        assertEquals(0L, (long) times.get(0));
+
+        scheduler.postDelayed(() -> {
+            coalescer.nodeChanged(0x0003);
+            coalescer.dispatch();
+        }, 100);
+        scheduler.postDelayed(() -> {
+            coalescer.groupChanged(0xC000);
+            coalescer.dispatch();
+        }, 200);
+        scheduler.runUntilIdle();
+
+        assertEquals(2, dispatched.size());
+        assertEquals(500L, (long) times.get(1));
+        final NetworkChangeSet changes = dispatched.get(1);
+        assertTrue(changes.getNodes().contains(0x0003));
+        assertTrue(changes.getGroups().contains(0xC000));
+        assertFalse(changes.isNetworkChanged());
+    }
+
+    @Test
+    public void nothing_is_dispatched_without_changes() {
+        coalescer.setInterval(500);
+        coalescer.dispatch();
+        scheduler.runUntilIdle();
+
+        assertTrue(dispatched.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import no.nordicsemi.android.mesh.transport.MeshNetworkFixtures;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class NetworkIdFilterTest {
+
+    private MeshNetwork network;
+    private NetworkIdFilter filter;
+
+    @Before
+    public void setUp() {
+        network = MeshNetworkFixtures.create(2, 3);
+        filter = new NetworkIdFilter();
+    }
+
+    private static byte[] serviceData(final byte[] key) {
+        final byte[] networkId = SecureUtils.calculateK3(key);
+        final byte[] serviceData = new byte[1 + NetworkIdFilter.NETWORK_ID_LENGTH];
+        System.arraycopy(networkId, 0, serviceData, 1, networkId.length);
+        return serviceData;
+    }
+
+    @Test
+    public void network_ids_of_all_keys_match() {
+        for (NetworkKey key : network.getNetKeys()) {
+            assertTrue(filter.matches(network, serviceData(key.getKey()), 1));
+        }
+        assertFalse(filter.matches(network, serviceData(new byte[16]), 1));
+        assertFalse(filter.matches(network, new byte[4], 1));
+    }
+
+    @Test
+    public void old_network_id_matches_only_during_key_refresh() {
+        final byte[] oldKey = network.getNetKeys().get(0).getKey();
+        final byte[] newKey = new byte[16];
+        newKey[0] = 0x42;
+        assertTrue(filter.matches(network, serviceData(oldKey), 1));
+        assertFalse(filter.matches(network, serviceData(newKey), 1));
+
+        final NetworkKey networkKey = network.distributeNetKey(network.getNetKeys().get(0), newKey);
+        assertNotNull(networkKey);
+        assertTrue(filter.matches(network, serviceData(oldKey), 1));
+        assertTrue(filter.matches(network, serviceData(newKey), 1));
+
+        assertTrue(network.switchToNewKey(networkKey));
+        assertTrue(filter.matches(network, serviceData(oldKey), 1));
+
+        assertTrue(network.revokeOldKey(networkKey));
+        assertFalse(filter.matches(network, serviceData(oldKey), 1));
+        assertTrue(filter.matches(network, serviceData(newKey), 1));
+    }
+}
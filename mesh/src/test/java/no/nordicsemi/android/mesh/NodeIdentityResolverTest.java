@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import no.nordicsemi.android.mesh.transport.MeshNetworkFixtures;
+import no.nordicsemi.android.mesh.transport.ProvisionedMeshNode;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NodeIdentityResolverTest {
+
+    private static final byte[] RANDOM = {0x34, (byte) 0xAE, 0x60, (byte) 0x8F, (byte) 0xBB, (byte) 0xC1, (byte) 0xF2, (byte) 0xC6};
+
+    private MeshNetwork network;
+    private NodeIdentityResolver resolver;
+
+    @Before
+    public void setUp() {
+        network = MeshNetworkFixtures.create(2, 50);
+        resolver = new NodeIdentityResolver();
+    }
+
+    private static byte[] serviceData(final byte[] identityKey, final int address) {
+        final byte[] hash = SecureUtils.calculateHash(identityKey, RANDOM, MeshAddress.addressIntToBytes(address));
+        final byte[] serviceData = new byte[NodeIdentityResolver.SERVICE_DATA_LENGTH];
+        serviceData[0] = 0x01;
+        System.arraycopy(hash, 0, serviceData, NodeIdentityResolver.HASH_OFFSET, hash.length);
+        System.arraycopy(RANDOM, 0, serviceData, NodeIdentityResolver.RANDOM_OFFSET, RANDOM.length);
+        return serviceData;
+    }
+
+    @Test
+    public void resolves_the_advertising_node_with_any_network_key() {
+        for (NetworkKey key : network.getNetKeys()) {
+            final ProvisionedMeshNode node = resolver.resolve(network, serviceData(key.getIdentityKey(), 0x0020), 0);
+            assertNotNull(node);
+            assertEquals(0x0020, node.getUnicastAddress());
+        }
+    }
+
+    @Test
+    public void unknown_advertisements_are_not_resolved() {
+        assertNull(resolver.resolve(network, serviceData(network.getNetKeys().get(0).getIdentityKey(), 0x1000), 0));
+        assertNull(resolver.resolve(network, serviceData(new byte[16], 0x0020), 0));
+    }
+
+    @Test
+    public void results_are_cached_until_the_network_changes() {
+        final byte[] serviceData = serviceData(network.getNetKeys().get(0).getIdentityKey(), 0x0100);
+        assertNull(resolver.resolve(network, serviceData, 0));
+
+        final MeshNetwork larger = MeshNetworkFixtures.create(2, 300);
+        final byte[] largerServiceData = serviceData(larger.getNetKeys().get(0).getIdentityKey(), 0x0100);
+        assertNull(resolver.resolve(network, largerServiceData, 1));
+        assertNotNull(resolver.resolve(larger, largerServiceData, 2));
+    }
+
+    @Test
+    public void matches_a_single_node() {
+        final ProvisionedMeshNode node = network.getNode(0x0010);
+        final byte[] identityKey = network.getNetKeys().get(1).getIdentityKey();
+        assertTrue(resolver.matches(network, node, serviceData(identityKey, 0x0010)));
+        assertFalse(resolver.matches(network, node, serviceData(identityKey, 0x0011)));
+    }
+}
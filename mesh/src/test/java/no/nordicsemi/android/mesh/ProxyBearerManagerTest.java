@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.utils.ProxyFilter;
+import no.nordicsemi.android.mesh.utils.ProxyFilterType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProxyBearerManagerTest {
+
+    private static final class RecordingBearer implements ProxyBearer {
+        final List<byte[]> pdus = new ArrayList<>();
+
+        @Override
+        public int getMtu() {
+            return 66;
+        }
+
+        @Override
+        public void sendPdu(@NonNull final byte[] pdu) {
+            pdus.add(pdu);
+        }
+    }
+
+    private final ProxyBearerManager manager = new ProxyBearerManager();
+    private final RecordingBearer first = new RecordingBearer();
+    private final RecordingBearer second = new RecordingBearer();
+
+    @Before
+    public void setUp() {
+        manager.add(first, 0x0002, 0x0002, 0);
+        manager.add(second, 0x0003, 0x0004, 0);
+    }
+
+    private static byte[] networkPdu(final int value) {
+        return new byte[]{MeshManagerApi.PDU_TYPE_NETWORK, (byte) value, 0x11, 0x22};
+    }
+
+    @Test
+    public void network_pdus_are_routed_to_the_nearest_proxy() {
+        manager.send(0x0003, networkPdu(1), 0);
+        assertEquals(0, first.pdus.size());
+        assertEquals(1, second.pdus.size());
+
+        manager.setReceivingBearer(first);
+        manager.onMessageReceived(0x0010);
+        manager.setReceivingBearer(null);
+        manager.send(0x0010, networkPdu(2), 0);
+        assertEquals(1, first.pdus.size());
+    }
+
+    @Test
+    public void network_pdus_are_balanced_by_pending_writes() {
+        manager.send(0x0020, networkPdu(1), 0);
+        manager.send(0x0021, networkPdu(2), 0);
+        assertEquals(1, first.pdus.size());
+        assertEquals(1, second.pdus.size());
+
+        manager.onPduWritten(second);
+        manager.send(0x0022, networkPdu(3), 0);
+        assertEquals(2, second.pdus.size());
+    }
+
+    @Test
+    public void proxy_configuration_is_sent_to_every_proxy() {
+        manager.send(0x0000, new byte[]{MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION, 0x01}, 0);
+        assertEquals(1, first.pdus.size());
+        assertEquals(1, second.pdus.size());
+    }
+
+    @Test
+    public void sent_pdus_are_reported_with_the_bearer_id_and_mtu() {
+        final List<Integer> bearerIds = new ArrayList<>();
+        final List<Integer> mtus = new ArrayList<>();
+        manager.setPduListener((bearerId, mtu, pdu) -> {
+            bearerIds.add(bearerId);
+            mtus.add(mtu);
+        });
+        manager.send(0x0000, new byte[]{MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION, 0x01}, 0);
+        manager.send(0x0003, networkPdu(1), 0);
+
+        assertEquals(1, manager.getBearerId(first));
+        assertEquals(2, manager.getBearerId(second));
+        assertEquals(0, manager.getBearerId(new RecordingBearer()));
+        assertEquals(Arrays.asList(1, 2, 2), bearerIds);
+        assertEquals(Arrays.asList(66, 66, 66), mtus);
+    }
+
+    @Test
+    public void copies_of_a_network_pdu_received_over_other_proxies_are_dropped() {
+        manager.setReceivingBearer(first);
+        assertFalse(manager.isDuplicate(0, 0x0010, 1));
+        manager.setReceivingBearer(second);
+        assertTrue(manager.isDuplicate(0, 0x0010, 1));
+        assertFalse(manager.isDuplicate(0, 0x0010, 2));
+        assertFalse(manager.isDuplicate(0, 0x0011, 1));
+        assertFalse(manager.isDuplicate(1, 0x0010, 1));
+        manager.setReceivingBearer(null);
+        assertFalse(manager.isDuplicate(0, 0x0010, 1));
+        assertEquals(1, manager.getDuplicateCount());
+    }
+
+    @Test
+    public void filter_statuses_update_the_filter_of_their_proxy() {
+        final ProxyFilter filter = new ProxyFilter(new ProxyFilterType(ProxyFilterType.INCLUSION_LIST_FILTER));
+        filter.addAddress(0x0001);
+        manager.setReceivingBearer(second);
+        assertTrue(manager.setReceivingProxyFilter(filter));
+        manager.setReceivingBearer(null);
+        assertFalse(manager.setReceivingProxyFilter(filter));
+
+        assertEquals(0, manager.getProxyFilter(first).getAddressCount());
+        assertSame(filter, manager.getProxyFilter(second));
+    }
+
+    @Test
+    public void network_pdus_to_any_element_of_a_proxy_are_sent_to_it() {
+        manager.send(0x0004, networkPdu(1), 0);
+        manager.send(0x0004, networkPdu(2), 0);
+        assertEquals(0, first.pdus.size());
+        assertEquals(2, second.pdus.size());
+    }
+
+    @Test
+    public void recent_pdus_fail_over_to_the_remaining_proxy() {
+        final byte[] recent = networkPdu(2);
+        manager.send(0x0002, networkPdu(1), 0);
+        manager.send(0x0002, recent, ProxyBearerManager.FAILOVER_WINDOW);
+
+        assertTrue(manager.remove(first, ProxyBearerManager.FAILOVER_WINDOW + 1));
+
+        assertEquals(1, second.pdus.size());
+        assertSame(recent, second.pdus.get(0));
+        assertEquals(1, manager.getFailoverCount());
+    }
+
+    @Test
+    public void pdus_are_kept_until_a_proxy_is_added() {
+        manager.remove(second, 0);
+        manager.send(0x0004, networkPdu(1), 0);
+        manager.remove(first, 0);
+        assertTrue(manager.isEmpty());
+
+        final RecordingBearer third = new RecordingBearer();
+        manager.add(third, 0x0005, 0x0005, 100);
+        assertEquals(1, third.pdus.size());
+    }
+}
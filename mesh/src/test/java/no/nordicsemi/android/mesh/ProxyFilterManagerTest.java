@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import androidx.annotation.NonNull;
+
+import no.nordicsemi.android.mesh.transport.ControlMessage;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.transport.MeshNetworkFixtures;
+import no.nordicsemi.android.mesh.transport.ProxyConfigAddAddressToFilter;
+import no.nordicsemi.android.mesh.transport.ProxyConfigFilterStatus;
+import no.nordicsemi.android.mesh.transport.ProxyConfigRemoveAddressFromFilter;
+import no.nordicsemi.android.mesh.transport.ProxyConfigSetFilterType;
+import no.nordicsemi.android.mesh.utils.AddressArray;
+import no.nordicsemi.android.mesh.utils.ProxyFilter;
+import no.nordicsemi.android.mesh.utils.ProxyFilterType;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ProxyFilterManagerTest {
+
+    private MeshNetwork network;
+    private ProxyFilterManager manager;
+    private final Queue<MeshMessage> sent = new ArrayDeque<>();
+    private int capacity = Integer.MAX_VALUE;
+
+    @Before
+    public void setUp() {
+        network = MeshNetworkFixtures.create(1, 3);
+        manager = new ProxyFilterManager((dst, meshMessage) -> sent.add(meshMessage));
+    }
+
+    /**
+     * Applies the sent messages to the filter like the proxy and the message handler would, and returns the statuses.
+     */
+    private void runProxy() {
+        MeshMessage message;
+        while ((message = sent.poll()) != null) {
+            ProxyFilter filter = network.getProxyFilter();
+            if (message instanceof ProxyConfigSetFilterType) {
+                filter = new ProxyFilter(((ProxyConfigSetFilterType) message).getFilterType());
+            } else if (message instanceof ProxyConfigAddAddressToFilter) {
+                for (AddressArray address : ((ProxyConfigAddAddressToFilter) message).getAddresses()) {
+                    filter.addAddress(address);
+                }
+            } else if (message instanceof ProxyConfigRemoveAddressFromFilter) {
+                for (AddressArray address : ((ProxyConfigRemoveAddressFromFilter) message).getAddresses()) {
+                    filter.removeAddress(address);
+                }
+            }
+            network.setProxyFilter(filter);
+            final int listSize = Math.min(capacity, filter.getAddressCount());
+            final ControlMessage controlMessage = new ControlMessage();
+            controlMessage.setParameters(new byte[]{(byte) filter.getFilterType().getType(), (byte) (listSize >> 8), (byte) listSize});
+            manager.onMessageReceived(network, new ProxyConfigFilterStatus(controlMessage));
+        }
+    }
+
+    @Test
+    public void provisioner_address_is_added_on_connect() {
+        manager.onProxyConnected(network);
+        runProxy();
+
+        assertArrayEquals(new int[]{MeshNetworkFixtures.PROVISIONER_ADDRESS}, network.getProxyFilter().getAddressValues());
+        assertEquals(1, manager.getMessageCount());
+    }
+
+    @Test
+    public void changes_are_batched_into_the_fewest_messages() {
+        for (int i = 0; i < 14; i++) {
+            manager.addAddresses(network, 0xC000 + i);
+        }
+        manager.onProxyConnected(network);
+        runProxy();
+        assertEquals(15, network.getProxyFilter().getAddressCount());
+        assertEquals(3, manager.getMessageCount());
+
+        manager.removeAddresses(network, 0xC000, 0xC001, 0xC002, 0xC003, 0xC004, 0xC005);
+        runProxy();
+        assertEquals(9, network.getProxyFilter().getAddressCount());
+        assertEquals(5, manager.getMessageCount());
+    }
+
+    @Test
+    public void additions_stop_when_the_proxy_filter_is_full() {
+        capacity = 3;
+        manager.addAddresses(network, 0xC000, 0xC001, 0xC002, 0xC003, 0xC004, 0xC005, 0xC006, 0xC007);
+        manager.onProxyConnected(network);
+        runProxy();
+
+        assertEquals(1, manager.getMessageCount());
+        assertEquals(3, network.getProxyFilter().getAddressCount());
+        assertTrue(network.getProxyFilter().contains(MeshNetworkFixtures.PROVISIONER_ADDRESS));
+    }
+
+    @Test
+    public void exclusion_list_contains_only_the_added_addresses() {
+        manager.onProxyConnected(network);
+        runProxy();
+        manager.setFilterType(network, new ProxyFilterType(ProxyFilterType.EXCLUSION_LIST_FILTER));
+        manager.addAddresses(network, 0xC100);
+        runProxy();
+
+        final ProxyFilter filter = network.getProxyFilter();
+        assertEquals(ProxyFilterType.EXCLUSION_LIST_FILTER, filter.getFilterType().getType());
+        assertArrayEquals(new int[]{0xC100}, filter.getAddressValues());
+        assertTrue(filter.contains(0xC100));
+    }
+
+    @Test
+    public void filter_messages_of_the_application_are_not_undone() {
+        manager.onProxyConnected(network);
+        runProxy();
+
+        sendFromApplication(new ProxyConfigRemoveAddressFromFilter(toAddressArrays(MeshNetworkFixtures.PROVISIONER_ADDRESS)));
+        assertEquals(0, network.getProxyFilter().getAddressCount());
+
+        sendFromApplication(new ProxyConfigSetFilterType(new ProxyFilterType(ProxyFilterType.EXCLUSION_LIST_FILTER)));
+        sendFromApplication(new ProxyConfigAddAddressToFilter(toAddressArrays(0xC100)));
+
+        final ProxyFilter filter = network.getProxyFilter();
+        assertEquals(ProxyFilterType.EXCLUSION_LIST_FILTER, filter.getFilterType().getType());
+        assertArrayEquals(new int[]{0xC100}, filter.getAddressValues());
+        assertEquals(1, manager.getMessageCount());
+    }
+
+    @Test
+    public void automatic_addresses_follow_the_provisioner() {
+        manager.onProxyConnected(network);
+        runProxy();
+
+        network.getSelectedProvisioner().setProvisionerAddress(0x0005);
+        final NetworkChangeSet changes = new NetworkChangeSet();
+        changes.addProvisioner(network.getSelectedProvisioner().getProvisionerUuid());
+        manager.onNetworkChanged(network, changes);
+        runProxy();
+
+        assertArrayEquals(new int[]{0x0005}, network.getProxyFilter().getAddressValues());
+    }
+
+    private void sendFromApplication(@NonNull final MeshMessage message) {
+        manager.onApplicationMessage(network, message);
+        sent.add(message);
+        runProxy();
+    }
+
+    @NonNull
+    private static List<AddressArray> toAddressArrays(final int... addresses) {
+        final List<AddressArray> list = new ArrayList<>();
+        for (int address : addresses) {
+            list.add(new AddressArray((byte) (address >> 8), (byte) address));
+        }
+        return list;
+    }
+}
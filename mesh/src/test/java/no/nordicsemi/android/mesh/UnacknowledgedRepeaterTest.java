@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import no.nordicsemi.android.mesh.transport.GenericLevelSetUnacknowledged;
+import no.nordicsemi.android.mesh.transport.GenericOnOffSetUnacknowledged;
+import no.nordicsemi.android.mesh.transport.MeshMessage;
+import no.nordicsemi.android.mesh.transport.VirtualScheduler;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class UnacknowledgedRepeaterTest {
+
+    private static final int SRC = 0x0001;
+    private static final int GROUP = 0xC000;
+
+    private final ApplicationKey applicationKey = new ApplicationKey(MeshParserUtils.hexToInt("0456"),
+            MeshParserUtils.toByteArray("63964771734fbd76e3b40519d1d94a48"));
+    private final VirtualScheduler scheduler = new VirtualScheduler();
+    private final List<MeshMessage> sent = new ArrayList<>();
+    private final List<Long> times = new ArrayList<>();
+    private final UnacknowledgedRepeater repeater = new UnacknowledgedRepeater(scheduler.createTransportScheduler(),
+            (dst, message) -> {
+                sent.add(message);
+                times.add(scheduler.now());
+            }, new Random(1));
+
+    private UnacknowledgedMessageFactory onOff(final boolean state) {
+        return tId -> new GenericOnOffSetUnacknowledged(applicationKey, state, tId);
+    }
+
+    private static int tid(final MeshMessage message) {
+        return ((GenericOnOffSetUnacknowledged) message).getParameters()[1] & 0xFF;
+    }
+
+    @Test
+    public void messages_are_repeated_with_the_same_tid() {
+        final MeshMessage first = repeater.send(SRC, GROUP, onOff(true), 3, 100, 50);
+        scheduler.runUntilIdle();
+
+        assertEquals(3, sent.size());
+        for (int i = 0; i < sent.size(); i++) {
+            assertSame(first, sent.get(i));
+            if (i > 0) {
+                final long spacing = times.get(i) - times.get(i - 1);
+                assertTrue(spacing >= 100 && spacing <= 150);
+            }
+        }
+        final MeshMessage second = repeater.send(SRC, GROUP, onOff(false), 1, 100, 50);
+        assertEquals((tid(first) + 1) & 0xFF, tid(second));
+        assertEquals(0, repeater.getPendingCount());
+    }
+
+    @Test
+    public void newer_messages_supersede_pending_repeats() {
+        repeater.send(SRC, GROUP, onOff(true), 3, 100, 0);
+        repeater.send(SRC, GROUP, tId -> new GenericLevelSetUnacknowledged(applicationKey, 100, tId), 3, 100, 0);
+        scheduler.runUntil(150);
+        final MeshMessage newer = repeater.send(SRC, GROUP, onOff(false), 3, 100, 0);
+        scheduler.runUntilIdle();
+
+        // The older on off message was sent twice before being superseded, the level message is not superseded
+        assertEquals(8, sent.size());
+        int count = 0;
+        for (MeshMessage message : sent) {
+            if (message == newer) count++;
+        }
+        assertEquals(3, count);
+
+        repeater.send(SRC, GROUP, onOff(true), 3, 100, 0);
+        assertTrue(repeater.cancel(GROUP));
+        assertFalse(repeater.cancel(GROUP));
+        scheduler.runUntilIdle();
+        assertEquals(9, sent.size());
+    }
+
+    @Test
+    public void tids_are_allocated_per_source_and_destination() {
+        final int first = repeater.nextTid(SRC, GROUP);
+        final int other = repeater.nextTid(SRC, 0x0005);
+        assertEquals((first + 1) & 0xFF, repeater.nextTid(SRC, GROUP));
+        assertEquals((other + 1) & 0xFF, repeater.nextTid(SRC, 0x0005));
+        for (int i = 0; i < 300; i++) {
+            final int tId = repeater.nextTid(SRC, GROUP);
+            assertTrue(tId >= 0 && tId <= 0xFF);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.metrics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class MeshMetricsTest {
+
+    @Before
+    public void setUp() {
+        MeshMetrics.setExporter(null);
+        MeshMetrics.reset();
+    }
+
+    @Test
+    public void values_are_counted_in_their_buckets() {
+        final Histogram histogram = new Histogram("test", new long[]{10, 100, 1000});
+        histogram.record(5);
+        histogram.record(10);
+        histogram.record(50);
+        histogram.record(5000);
+
+        final HistogramSnapshot snapshot = histogram.snapshot();
+        assertArrayEquals(new long[]{2, 1, 0, 1}, snapshot.getCounts());
+        assertEquals(4, snapshot.getCount());
+        assertEquals(5065, snapshot.getSum());
+        assertEquals(5000, snapshot.getMax());
+        assertEquals(10, snapshot.getPercentile(50));
+        assertEquals(100, snapshot.getPercentile(75));
+        assertEquals(5000, snapshot.getPercentile(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bucket_bounds_must_be_ascending() {
+        new Histogram("test", new long[]{100, 10});
+    }
+
+    @Test
+    public void snapshots_are_passed_to_the_exporter() {
+        MeshMetrics.NETWORK_PDUS_RECEIVED.increment();
+        MeshMetrics.NETWORK_PDUS_RECEIVED.add(2);
+        MeshMetrics.ACCESS_RESPONSE_LATENCY.record(42);
+
+        final List<MetricsSnapshot> exported = new ArrayList<>();
+        MeshMetrics.setExporter(exported::add);
+        final MetricsSnapshot snapshot = MeshMetrics.export();
+        assertEquals(1, exported.size());
+        assertSame(snapshot, exported.get(0));
+        assertEquals(3, snapshot.getCounter("network.pdus_received"));
+        assertEquals(0, snapshot.getCounter("lower_transport.dropped.replay"));
+        final HistogramSnapshot latency = snapshot.getHistogram("access.response_latency_ms");
+        assertNotNull(latency);
+        assertEquals(1, latency.getCount());
+
+        MeshMetrics.reset();
+        assertEquals(0, MeshMetrics.snapshot().getCounter("network.pdus_received"));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.sensorhistory;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import no.nordicsemi.android.mesh.transport.AccessMessage;
+import no.nordicsemi.android.mesh.transport.SensorSeriesStatus;
+import no.nordicsemi.android.mesh.transport.SensorStatus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SensorHistoryTest {
+
+    private static final int PRESENT_AMBIENT_TEMPERATURE = 0x004F;
+    private static final long MINUTE = 60 * 1000;
+
+    private static AccessMessage accessMessage(final int src, final byte... parameters) {
+        final AccessMessage message = new AccessMessage();
+        message.setSrc(src);
+        message.setParameters(parameters);
+        return message;
+    }
+
+    @Test
+    public void values_are_downsampled_into_tiers() {
+        final SensorHistory history = new SensorHistory(4, 10, 10);
+        for (int i = 0; i < 10; i++) {
+            history.add(0x0005, PRESENT_AMBIENT_TEMPERATURE, i * MINUTE / 2, i);
+        }
+        // Older values are recorded at the time of the latest one
+        history.add(0x0005, PRESENT_AMBIENT_TEMPERATURE, 0, 10);
+
+        final SensorSample latest = history.getLatest(0x0005, PRESENT_AMBIENT_TEMPERATURE);
+        assertNotNull(latest);
+        assertEquals(10, latest.getMean(), 0);
+        assertEquals(9 * MINUTE / 2, latest.getTimestamp());
+        assertEquals(4, history.getSamples(0x0005, PRESENT_AMBIENT_TEMPERATURE, SensorHistory.RAW, 0, Long.MAX_VALUE).size());
+
+        final List<SensorSample> minutes = history.getSamples(0x0005, PRESENT_AMBIENT_TEMPERATURE,
+                SensorHistory.ONE_MINUTE, 0, Long.MAX_VALUE);
+        assertEquals(5, minutes.size());
+        assertEquals(3 * MINUTE, minutes.get(3).getTimestamp());
+        assertEquals(6.5, minutes.get(3).getMean(), 0);
+        assertEquals(3, minutes.get(4).getCount());
+
+        // The raw values no longer cover the start of the range, so the minute aggregates are used
+        final SensorSample aggregate = history.getAggregate(0x0005, PRESENT_AMBIENT_TEMPERATURE, 0, 2 * MINUTE);
+        assertNotNull(aggregate);
+        assertEquals(0, aggregate.getMin(), 0);
+        assertEquals(3, aggregate.getMax(), 0);
+        assertEquals(4, aggregate.getCount());
+        assertEquals(10, history.getAggregate(0x0005, PRESENT_AMBIENT_TEMPERATURE, 0, Long.MAX_VALUE).getMax(), 0);
+
+        history.remove(0x0005);
+        assertNull(history.getLatest(0x0005, PRESENT_AMBIENT_TEMPERATURE));
+    }
+
+    @Test
+    public void rings_grow_up_to_their_capacity() {
+        final SampleRing ring = new SampleRing(40);
+        assertEquals(SampleRing.INITIAL_CAPACITY, ring.getAllocatedCapacity());
+        for (int i = 0; i < 50; i++) {
+            ring.add(i, i);
+        }
+        assertEquals(40, ring.getAllocatedCapacity());
+        assertEquals(40, ring.size());
+        assertEquals(10, ring.getTimestamp(0));
+        assertEquals(49, ring.getTimestamp(39));
+        assertEquals(3, ring.search(13));
+    }
+
+    private static File createDirectory() throws Exception {
+        final File directory = File.createTempFile("sensors", "");
+        //noinspection ResultOfMethodCallIgnored
+        directory.delete();
+        return directory;
+    }
+
+    private static void deleteDirectory(final File directory) {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+        //noinspection ResultOfMethodCallIgnored
+        directory.delete();
+    }
+
+    @Test
+    public void overwritten_values_are_spilled_to_segments() throws Exception {
+        final File directory = createDirectory();
+        try {
+            final SensorHistory history = new SensorHistory(2, 10, 10);
+            final SensorSegmentWriter writer = new SensorSegmentWriter(directory, 5 + 3 * 21);
+            history.setSpillWriter(writer);
+            for (int i = 0; i < 10; i++) {
+                history.add(0x0010, PRESENT_AMBIENT_TEMPERATURE, 1000 + i, i * 0.5);
+            }
+            writer.close();
+
+            assertEquals(8, writer.getRecordCount());
+            assertEquals(3, directory.listFiles().length);
+            final List<SensorSample> spilled = SensorSegmentReader.read(directory, 0x0010, PRESENT_AMBIENT_TEMPERATURE, 1002, 2000);
+            assertEquals(6, spilled.size());
+            assertEquals(1002, spilled.get(0).getTimestamp());
+            assertEquals(3.5, spilled.get(5).getMean(), 0);
+            assertTrue(SensorSegmentReader.read(directory, 0x0011, PRESENT_AMBIENT_TEMPERATURE, 0, 2000).isEmpty());
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    public void queries_read_the_samples_spilled_from_every_tier() throws Exception {
+        final File directory = createDirectory();
+        try {
+            final SensorHistory history = new SensorHistory(2, 2, 2);
+            final SensorSegmentWriter writer = new SensorSegmentWriter(directory, 1024);
+            history.setSpillWriter(writer);
+            // A value every 5 minutes for an hour and a half
+            for (int i = 0; i < 18; i++) {
+                history.add(0x0010, PRESENT_AMBIENT_TEMPERATURE, i * 5 * MINUTE, i);
+            }
+
+            // The rings only hold the last 2 samples, the older ones are read from the segments
+            final List<SensorSample> raw = history.getSamples(0x0010, PRESENT_AMBIENT_TEMPERATURE,
+                    SensorHistory.RAW, 0, Long.MAX_VALUE);
+            assertEquals(18, raw.size());
+            assertEquals(0, raw.get(0).getTimestamp());
+            assertEquals(17, raw.get(17).getMean(), 0);
+            assertEquals(18, history.getSamples(0x0010, PRESENT_AMBIENT_TEMPERATURE,
+                    SensorHistory.ONE_MINUTE, 0, Long.MAX_VALUE).size());
+            final List<SensorSample> quarters = history.getSamples(0x0010, PRESENT_AMBIENT_TEMPERATURE,
+                    SensorHistory.FIFTEEN_MINUTES, 0, 60 * MINUTE);
+            assertEquals(4, quarters.size());
+            assertEquals(15 * MINUTE, quarters.get(1).getTimestamp());
+            assertEquals(3, quarters.get(1).getMin(), 0);
+            assertEquals(5, quarters.get(1).getMax(), 0);
+            assertEquals(3, quarters.get(1).getCount());
+
+            final SensorSample aggregate = history.getAggregate(0x0010, PRESENT_AMBIENT_TEMPERATURE, 10 * MINUTE, 85 * MINUTE);
+            assertNotNull(aggregate);
+            assertEquals(2, aggregate.getMin(), 0);
+            assertEquals(16, aggregate.getMax(), 0);
+            assertEquals(15, aggregate.getCount());
+            writer.close();
+
+            // A new history with the same segments still knows the latest spilled values
+            final SensorHistory restored = new SensorHistory();
+            restored.setSpillWriter(new SensorSegmentWriter(directory, 1024));
+            final SensorSample latest = restored.getLatest(0x0010, PRESENT_AMBIENT_TEMPERATURE);
+            assertNotNull(latest);
+            assertEquals(15, latest.getMean(), 0);
+            assertNull(restored.getLatest(0x0011, PRESENT_AMBIENT_TEMPERATURE));
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    public void sensor_statuses_are_decoded() {
+        final SensorHistory history = new SensorHistory();
+        // Format A, Present Ambient Temperature, 1 octet of 0.5 degree
+        history.update(new SensorStatus(accessMessage(0x0020, (byte) 0xE0, (byte) 0x09, (byte) 0x2B)), 500);
+        final SensorSample sample = history.getLatest(0x0020, PRESENT_AMBIENT_TEMPERATURE);
+        assertNotNull(sample);
+        assertEquals(21.5, sample.getMean(), 0);
+        assertEquals(500, sample.getTimestamp());
+
+        history.update(new SensorSeriesStatus(accessMessage(0x0020, (byte) 0x4F, (byte) 0x00,
+                (byte) 0x00, (byte) 0x14, (byte) 0x28,
+                (byte) 0x14, (byte) 0x14, (byte) 0x2A)), 600);
+        final List<SensorColumn> columns = history.getColumns(0x0020, PRESENT_AMBIENT_TEMPERATURE);
+        assertEquals(2, columns.size());
+        assertEquals(10, columns.get(1).getX(), 0);
+        assertEquals(10, columns.get(1).getWidth(), 0);
+        assertEquals(21, columns.get(1).getY(), 0);
+    }
+}
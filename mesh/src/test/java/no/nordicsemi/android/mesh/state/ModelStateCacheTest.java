@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.state;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import no.nordicsemi.android.mesh.models.SigModelParser;
+import no.nordicsemi.android.mesh.transport.AccessMessage;
+import no.nordicsemi.android.mesh.transport.GenericBatteryStatus;
+import no.nordicsemi.android.mesh.transport.GenericLevelStatus;
+import no.nordicsemi.android.mesh.transport.GenericOnOffStatus;
+import no.nordicsemi.android.mesh.transport.LightCtlStatus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ModelStateCacheTest {
+
+    private final ModelStateCache cache = new ModelStateCache();
+
+    private static AccessMessage accessMessage(final int src, final byte... parameters) {
+        final AccessMessage message = new AccessMessage();
+        message.setSrc(src);
+        message.setParameters(parameters);
+        return message;
+    }
+
+    private static GenericOnOffStatus onOffStatus(final int src, final boolean on) {
+        return new GenericOnOffStatus(accessMessage(src, (byte) (on ? 1 : 0)));
+    }
+
+    @Test
+    public void statuses_are_kept_per_element_and_model() {
+        cache.update(new LightCtlStatus(accessMessage(0x0010,
+                (byte) 0x00, (byte) 0x80, (byte) 0x20, (byte) 0x4E,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0x88, (byte) 0x13, (byte) 0x0A)), 100);
+        cache.update(onOffStatus(0x0010, true), 200);
+
+        final ModelState ctl = cache.getState(0x0010, SigModelParser.LIGHT_CTL_SERVER);
+        assertNotNull(ctl);
+        assertEquals(2, ctl.getValueCount());
+        assertEquals(0x8000, ctl.getPresentValue(ModelState.LIGHTNESS));
+        assertEquals(20000, ctl.getPresentValue(ModelState.TEMPERATURE));
+        assertTrue(ctl.hasTargetValues());
+        assertEquals(0xFFFF, ctl.getTargetValue(ModelState.LIGHTNESS));
+        assertEquals(5000, ctl.getTargetValue(ModelState.TEMPERATURE));
+        assertEquals(100, ctl.getTimestamp());
+
+        final ModelState onOff = cache.getState(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER);
+        assertNotNull(onOff);
+        assertEquals(1, onOff.getPresentValue(ModelState.ON_OFF));
+        assertFalse(onOff.hasTargetValues());
+        assertNull(cache.getState(0x0011, SigModelParser.GENERIC_ON_OFF_SERVER));
+    }
+
+    @Test
+    public void raw_parameters_match_the_parsed_status() {
+        final GenericLevelStatus level = new GenericLevelStatus(accessMessage(0x0020,
+                (byte) 0xFB, (byte) 0xFF, (byte) 0x10, (byte) 0x80, (byte) 0x0A));
+        final GenericBatteryStatus battery = new GenericBatteryStatus(accessMessage(0x0020,
+                (byte) 0x50, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0x04, (byte) 0x05, (byte) 0x06, (byte) 0x15));
+        cache.update(level, 1);
+        cache.update(battery, 1);
+
+        final ModelState levelState = cache.getState(0x0020, SigModelParser.GENERIC_LEVEL_SERVER);
+        assertNotNull(levelState);
+        assertEquals(level.getPresentLevel(), levelState.getPresentValue(ModelState.LEVEL));
+        assertEquals((int) level.getTargetLevel(), levelState.getTargetValue(ModelState.LEVEL));
+
+        final ModelState batteryState = cache.getState(0x0020, SigModelParser.GENERIC_BATTERY_SERVER);
+        assertNotNull(batteryState);
+        assertEquals(battery.getBatteryLevel(), batteryState.getPresentValue(ModelState.BATTERY_LEVEL));
+        assertEquals(battery.getTimeToDischarge(), batteryState.getPresentValue(ModelState.TIME_TO_DISCHARGE));
+        assertEquals(battery.getTimeToCharge(), batteryState.getPresentValue(ModelState.TIME_TO_CHARGE));
+        assertEquals(battery.getFlags(), batteryState.getPresentValue(ModelState.BATTERY_FLAGS));
+    }
+
+    @Test
+    public void listeners_are_notified_of_changes_only() {
+        final List<ModelState> all = new ArrayList<>();
+        final List<ModelState> single = new ArrayList<>();
+        cache.addListener(all::add);
+        cache.addListener(0x0002, SigModelParser.GENERIC_ON_OFF_SERVER, single::add);
+
+        cache.update(onOffStatus(0x0002, true), 1);
+        cache.update(onOffStatus(0x0002, true), 2);
+        cache.update(onOffStatus(0x0003, true), 3);
+        cache.update(onOffStatus(0x0002, false), 4);
+
+        assertEquals(3, all.size());
+        assertEquals(2, single.size());
+        assertEquals(0, single.get(1).getPresentValue(ModelState.ON_OFF));
+        // The timestamp is refreshed even if the state did not change
+        cache.update(onOffStatus(0x0003, true), 5);
+        assertEquals(3, all.size());
+        assertEquals(5, cache.getState(0x0003, SigModelParser.GENERIC_ON_OFF_SERVER).getTimestamp());
+    }
+
+    @Test
+    public void large_networks_are_read_in_bulk() {
+        for (int address = 1; address <= 2000; address++) {
+            cache.update(onOffStatus(address, address % 2 == 0), address);
+        }
+        assertEquals(2000, cache.size());
+        assertEquals(2000, cache.getStates(SigModelParser.GENERIC_ON_OFF_SERVER).size());
+        assertTrue(cache.getStates(SigModelParser.LIGHT_CTL_SERVER).isEmpty());
+
+        for (int address = 1; address <= 2000; address += 2) {
+            cache.remove(address);
+        }
+        assertEquals(1000, cache.size());
+        for (int address = 1; address <= 2000; address++) {
+            final ModelState state = cache.getState(address, SigModelParser.GENERIC_ON_OFF_SERVER);
+            if (address % 2 == 0) {
+                assertNotNull(state);
+                assertEquals(1, state.getPresentValue(ModelState.ON_OFF));
+                assertEquals(address, state.getTimestamp());
+            } else {
+                assertNull(state);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.trace;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PduTraceTest {
+
+    private static final byte[] NETWORK_PDU = {0x00, 0x68, (byte) 0xCA, 0x2A, 0x3B, 0x71, 0x5C};
+    private static final byte[] BEACON_PDU = {0x01, 0x01, 0x00, 0x3E, (byte) 0xCA, (byte) 0xFF};
+
+    @Test
+    public void records_are_read_back_with_their_timestamps() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final PduTraceWriter writer = new PduTraceWriter(output, true, 1000, 500);
+        writer.write(PduTraceRecord.DIRECTION_IN, 1500, 2, 69, NETWORK_PDU);
+        writer.write(PduTraceRecord.DIRECTION_OUT, 301500, PduTraceRecord.DEFAULT_BEARER, 23, BEACON_PDU);
+        writer.close();
+        assertEquals(2, writer.getRecordCount());
+
+        final PduTraceReader reader = new PduTraceReader(new ByteArrayInputStream(output.toByteArray()));
+        final PduTraceRecord received = reader.next();
+        assertEquals(PduTraceRecord.DIRECTION_IN, received.getDirection());
+        assertEquals(1000 * 1000 + 1000, received.getTimestamp());
+        assertEquals(2, received.getBearer());
+        assertEquals(69, received.getMtu());
+        assertArrayEquals(NETWORK_PDU, received.getPdu());
+
+        final PduTraceRecord sent = reader.next();
+        assertEquals(PduTraceRecord.DIRECTION_OUT, sent.getDirection());
+        assertEquals(1000 * 1000 + 301000, sent.getTimestamp());
+        assertEquals(PduTraceRecord.DEFAULT_BEARER, sent.getBearer());
+        assertEquals(23, sent.getMtu());
+        assertArrayEquals(BEACON_PDU, sent.getPdu());
+        assertNull(reader.next());
+    }
+
+    @Test(expected = IOException.class)
+    public void traces_without_a_header_are_rejected() throws IOException {
+        new PduTraceReader(new ByteArrayInputStream(new byte[]{0x7F, 0x00, 0x00}));
+    }
+
+    @Test
+    public void sessions_are_appended_to_an_existing_file() throws IOException, InterruptedException {
+        final File file = File.createTempFile("trace", ".mpdu");
+        try {
+            PduTraceWriter writer = new PduTraceWriter(file);
+            writer.write(PduTraceRecord.DIRECTION_IN, 23, NETWORK_PDU);
+            writer.write(PduTraceRecord.DIRECTION_OUT, 23, BEACON_PDU);
+            writer.close();
+            writer = new PduTraceWriter(file);
+            writer.write(PduTraceRecord.DIRECTION_IN, 1, 23, BEACON_PDU);
+            writer.close();
+
+            final List<byte[]> replayed = new ArrayList<>();
+            final List<Integer> bearers = new ArrayList<>();
+            final PduTraceReplayer replayer = new PduTraceReplayer(new PduTraceReplayer.Target() {
+                @Override
+                public void onReplayStarted() {
+                }
+
+                @Override
+                public void handleNotifications(final int bearer, final int mtuSize, @NonNull final byte[] data) {
+                    bearers.add(bearer);
+                    replayed.add(data);
+                }
+
+                @Override
+                public void onReplayFinished() {
+                }
+            });
+            final PduTraceReader reader = new PduTraceReader(file);
+            try {
+                assertEquals(2, replayer.replay(reader, 0));
+            } finally {
+                reader.close();
+            }
+            assertEquals(2, replayed.size());
+            assertArrayEquals(NETWORK_PDU, replayed.get(0));
+            assertArrayEquals(BEACON_PDU, replayed.get(1));
+            assertEquals(Arrays.asList(PduTraceRecord.DEFAULT_BEARER, 1), bearers);
+        } finally {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.ApplicationKey;
+import no.nordicsemi.android.mesh.Group;
+import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.NetworkKey;
+import no.nordicsemi.android.mesh.Provisioner;
+
+/**
+ * Transport layer callbacks backed by a {@link MeshNetwork}, mirroring the callbacks of the MeshManagerApi.
+ * <p>
+ * The last network key is reported as the primary key, so that messages are encrypted with the key found last when
+ * the network keys are searched for a matching NID. Timers are never run.
+ * </p>
+ */
+final class BenchmarkTransportCallbacks implements NetworkLayerCallbacks, UpperTransportLayerCallbacks,
+        LowerTransportLayerCallbacks, TransportScheduler {
+
+    private final MeshNetwork mNetwork;
+
+    BenchmarkTransportCallbacks(@NonNull final MeshNetwork network) {
+        mNetwork = network;
+    }
+
+    /**
+     * Creates a transport using these callbacks.
+     */
+    MeshTransport createTransport() {
+        final MeshTransport transport = new MeshTransport(this);
+        transport.setNetworkLayerCallbacks(this);
+        transport.setUpperTransportLayerCallbacks(this);
+        transport.setLowerTransportLayerCallbacks(this);
+        return transport;
+    }
+
+    @Override
+    public Provisioner getProvisioner() {
+        return mNetwork.getSelectedProvisioner();
+    }
+
+    @Override
+    public Provisioner getProvisioner(final int unicastAddress) {
+        return mNetwork.getSelectedProvisioner();
+    }
+
+    @Override
+    public NetworkKey getPrimaryNetworkKey() {
+        final List<NetworkKey> keys = mNetwork.getNetKeys();
+        return keys.get(keys.size() - 1);
+    }
+
+    @Override
+    public NetworkKey getNetworkKey(final int keyIndex) {
+        return mNetwork.getNetKey(keyIndex);
+    }
+
+    @Override
+    public List<NetworkKey> getNetworkKeys() {
+        return mNetwork.getNetKeys();
+    }
+
+    @Override
+    public ProvisionedMeshNode getNode(final int unicastAddress) {
+        return mNetwork.getNode(unicastAddress);
+    }
+
+    @Override
+    public byte[] getIvIndex() {
+        return ByteBuffer.allocate(4).putInt(mNetwork.getIvIndex().getTransmitIvIndex()).array();
+    }
+
+    @Override
+    public byte[] getApplicationKey(final int aid) {
+        return null;
+    }
+
+    @Override
+    public List<ApplicationKey> getApplicationKeys(final int boundNetKeyIndex) {
+        final List<ApplicationKey> keys = new ArrayList<>();
+        for (ApplicationKey key : mNetwork.getAppKeys()) {
+            if (key.getBoundNetKeyIndex() == boundNetKeyIndex) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public List<Group> gerVirtualGroups() {
+        return mNetwork.getGroups();
+    }
+
+    @Override
+    public void sendSegmentAcknowledgementMessage(final ControlMessage controlMessage) {
+        // Acknowledgements are not sent in the benchmarks
+    }
+
+    @Override
+    public void onIncompleteTimerExpired() {
+        // Timers are never run
+    }
+
+    @Override
+    public int getTtl() {
+        return mNetwork.getSelectedProvisioner().getGlobalTtl();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return 0;
+    }
+
+    @Override
+    public void postDelayed(@NonNull final Runnable task, final long delay) {
+        // Timers are never run
+    }
+
+    @Override
+    public void removeCallbacks(@NonNull final Runnable task) {
+    }
+
+    @Override
+    public void removeAllCallbacks() {
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import no.nordicsemi.android.mesh.ApplicationKey;
+import no.nordicsemi.android.mesh.metrics.MeshMetrics;
+import no.nordicsemi.android.mesh.sensorutils.DeviceProperty;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CommandCoalescerTest {
+
+    private final ApplicationKey applicationKey = new ApplicationKey(MeshParserUtils.hexToInt("0456"),
+            MeshParserUtils.toByteArray("63964771734fbd76e3b40519d1d94a48"));
+    private final VirtualScheduler scheduler = new VirtualScheduler();
+    private final List<MeshMessage> sent = new ArrayList<>();
+    private final List<Long> times = new ArrayList<>();
+    private final CommandCoalescer coalescer = new CommandCoalescer(scheduler.createTransportScheduler(), (dst, message) -> {
+        sent.add(message);
+        times.add(scheduler.now());
+    });
+
+    @Before
+    public void setUp() {
+        MeshMetrics.reset();
+        coalescer.setMinInterval(100);
+    }
+
+    @Test
+    public void only_the_latest_message_is_sent_per_interval() {
+        LightLightnessSet last = null;
+        for (int i = 0; i < 25; i++) {
+            last = new LightLightnessSet(applicationKey, i * 1000, i);
+            coalescer.send(0xC000, last);
+            // A message of another model to the same destination is not held back by the lightness messages
+            if (i == 10) {
+                coalescer.send(0xC000, new GenericOnOffSet(applicationKey, true, i));
+            }
+            scheduler.runUntil(scheduler.now() + 10);
+        }
+        scheduler.runUntilIdle();
+
+        // Lightness sent at 0, 100, 200 and 300, the messages held in between being superseded
+        assertEquals(5, sent.size());
+        assertEquals(100L, (long) times.get(1));
+        assertTrue(sent.get(2) instanceof GenericOnOffSet);
+        assertEquals(200L, (long) times.get(3));
+        assertEquals(300L, (long) times.get(4));
+        assertSame(last, sent.get(4));
+        assertEquals(21, MeshMetrics.COMMANDS_SUPERSEDED.get());
+        assertEquals(0, MeshMetrics.COMMANDS_DROPPED.get());
+    }
+
+    @Test
+    public void requests_for_different_targets_are_all_sent() {
+        coalescer.send(0x0002, new SensorGet(applicationKey, DeviceProperty.PRESENT_AMBIENT_TEMPERATURE));
+        coalescer.send(0x0002, new SensorGet(applicationKey, DeviceProperty.PRESENT_AMBIENT_LIGHT_LEVEL));
+        coalescer.send(0x0002, new SceneStore(applicationKey, 1));
+        coalescer.send(0x0002, new SceneStore(applicationKey, 2));
+        coalescer.send(0x0002, new GenericOnOffGet(applicationKey));
+        coalescer.send(0x0002, new GenericOnOffGet(applicationKey));
+
+        assertEquals(6, sent.size());
+        assertEquals(0, coalescer.getHeldCount());
+        assertEquals(0x4E, sent.get(1).getParameters()[0]);
+        assertEquals(2, sent.get(3).getParameters()[0]);
+        assertEquals(0, MeshMetrics.COMMANDS_SUPERSEDED.get());
+    }
+
+    @Test
+    public void configuration_messages_are_never_held() {
+        coalescer.send(0x0002, new ConfigCompositionDataGet());
+        coalescer.send(0x0002, new ConfigCompositionDataGet());
+        assertEquals(2, sent.size());
+
+        coalescer.send(0x0002, new GenericOnOffSet(applicationKey, true, 1));
+        coalescer.send(0x0002, new GenericOnOffSet(applicationKey, false, 2));
+        coalescer.send(0x0003, new GenericOnOffSet(applicationKey, false, 2));
+        assertEquals(4, sent.size());
+        assertEquals(1, coalescer.getHeldCount());
+
+        coalescer.clear();
+        scheduler.runUntilIdle();
+        assertEquals(4, sent.size());
+        assertEquals(1, MeshMetrics.COMMANDS_DROPPED.get());
+
+        coalescer.send(0x0002, new GenericOnOffSet(applicationKey, true, 3));
+        coalescer.send(0x0002, new GenericOnOffSet(applicationKey, false, 4));
+        coalescer.setMinInterval(0);
+        assertEquals(6, sent.size());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import no.nordicsemi.android.mesh.Features;
+import no.nordicsemi.android.mesh.MeshTypeConverters;
+import no.nordicsemi.android.mesh.NodeKey;
+import no.nordicsemi.android.mesh.models.ConfigurationServerModel;
+import no.nordicsemi.android.mesh.models.SigModelParser;
+import no.nordicsemi.android.mesh.models.VendorModel;
+import no.nordicsemi.android.mesh.utils.HeartbeatPublication;
+import no.nordicsemi.android.mesh.utils.HeartbeatSubscription;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ElementBlobConverterTest {
+
+    private static final UUID LABEL_UUID = UUID.fromString("6a5d6e8b-4f6a-4b0c-9a8f-3c1f0e6b9d21");
+
+    private static Map<Integer, Element> createElements() {
+        final ConfigurationServerModel configurationServer =
+                (ConfigurationServerModel) SigModelParser.getSigModel(SigModelParser.CONFIGURATION_SERVER);
+        configurationServer.setHeartbeatPublication(new HeartbeatPublication(0xC001, (byte) 0x02, (byte) 0x05, 7,
+                new Features(Features.ENABLED, Features.UNSUPPORTED, Features.DISABLED, Features.ENABLED), 1));
+        configurationServer.setHeartbeatSubscription(new HeartbeatSubscription(0x0002, 0x0001, (byte) 0x03, (byte) 0x04, 1, 5));
+        final Map<Integer, MeshModel> primaryModels = new LinkedHashMap<>();
+        primaryModels.put(configurationServer.getModelId(), configurationServer);
+
+        final MeshModel onOffServer = SigModelParser.getSigModel(SigModelParser.GENERIC_ON_OFF_SERVER);
+        onOffServer.setBoundAppKeyIndex(0);
+        onOffServer.setBoundAppKeyIndex(0x0FFF);
+        onOffServer.subscriptionAddresses.add(0xC000);
+        onOffServer.labelUuids.add(LABEL_UUID);
+        onOffServer.sceneNumbers.add(0x1234);
+        onOffServer.setPublicationSettings(new PublicationSettings(0x8123, LABEL_UUID, 3, true, 5, 10, 1, 2, 4));
+        primaryModels.put(onOffServer.getModelId(), onOffServer);
+
+        final Map<Integer, MeshModel> secondaryModels = new LinkedHashMap<>();
+        final VendorModel vendorModel = new VendorModel(0x00590001);
+        vendorModel.setPublicationSettings(new PublicationSettings(0xC002, 1, false, 0, 0));
+        secondaryModels.put(vendorModel.getModelId(), vendorModel);
+
+        final Map<Integer, Element> elements = new LinkedHashMap<>();
+        elements.put(0x0001, new Element(0x0001, 0x0100, primaryModels, "Primary"));
+        elements.put(0x0002, new Element(0x0002, 0, secondaryModels));
+        return elements;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final byte[] blob = ElementBlobConverter.toBlob(createElements());
+        final Map<Integer, Element> elements = ElementBlobConverter.fromBlob(blob);
+        assertNotNull(elements);
+        assertEquals(new ArrayList<>(createElements().keySet()), new ArrayList<>(elements.keySet()));
+        assertArrayEquals(blob, ElementBlobConverter.toBlob(elements));
+
+        final Element primary = elements.get(0x0001);
+        assertEquals(0x0100, primary.getLocationDescriptor());
+        assertEquals("Primary", primary.getName());
+
+        final ConfigurationServerModel configurationServer =
+                (ConfigurationServerModel) primary.getMeshModels().get((int) SigModelParser.CONFIGURATION_SERVER);
+        final HeartbeatPublication heartbeatPublication = configurationServer.getHeartbeatPublication();
+        assertEquals(0xC001, heartbeatPublication.getDst());
+        assertEquals(0x02, heartbeatPublication.getCountLog());
+        assertEquals(0x05, heartbeatPublication.getPeriodLog());
+        assertEquals(7, heartbeatPublication.getTtl());
+        assertEquals(Features.UNSUPPORTED, heartbeatPublication.getFeatures().getLowPower());
+        assertEquals(Features.ENABLED, heartbeatPublication.getFeatures().getRelay());
+        assertEquals(1, heartbeatPublication.getNetKeyIndex());
+        final HeartbeatSubscription heartbeatSubscription = configurationServer.getHeartbeatSubscription();
+        assertEquals(0x0002, heartbeatSubscription.getSrc());
+        assertEquals(0x04, heartbeatSubscription.getCountLog());
+        assertEquals(5, heartbeatSubscription.getMaxHops());
+
+        final MeshModel onOffServer = primary.getMeshModels().get((int) SigModelParser.GENERIC_ON_OFF_SERVER);
+        assertEquals(2, onOffServer.getBoundAppKeyIndexes().size());
+        assertEquals(Integer.valueOf(0x0FFF), onOffServer.getBoundAppKeyIndexes().get(1));
+        assertEquals(Integer.valueOf(0xC000), onOffServer.getSubscribedAddresses().get(0));
+        assertEquals(LABEL_UUID, onOffServer.getLabelUUID().get(0));
+        assertEquals(Integer.valueOf(0x1234), onOffServer.sceneNumbers.get(0));
+        final PublicationSettings publication = onOffServer.getPublicationSettings();
+        assertEquals(0x8123, publication.getPublishAddress());
+        assertEquals(LABEL_UUID, publication.getLabelUUID());
+        assertEquals(3, publication.getAppKeyIndex());
+        assertTrue(publication.getCredentialFlag());
+        assertEquals(5, publication.getPublishTtl());
+        assertEquals(10, publication.getPublicationSteps());
+        assertEquals(1, publication.getPublicationResolution());
+        assertEquals(2, publication.getPublishRetransmitCount());
+        assertEquals(4, publication.getPublishRetransmitIntervalSteps());
+
+        final Element secondary = elements.get(0x0002);
+        final MeshModel vendorModel = secondary.getMeshModels().get(0x00590001);
+        assertTrue(vendorModel instanceof VendorModel);
+        assertNull(vendorModel.getPublicationSettings().getLabelUUID());
+        assertFalse(vendorModel.getPublicationSettings().getCredentialFlag());
+    }
+
+    @Test
+    public void testColumnsKeptAsJsonAreRead() {
+        final Charset utf8 = Charset.forName("UTF-8");
+        final List<NodeKey> keys = MeshTypeConverters.fromBlobToNodeKeys(
+                "[{\"index\":1,\"updated\":true}]".getBytes(utf8));
+        assertEquals(1, keys.size());
+        assertEquals(1, keys.get(0).getIndex());
+        assertTrue(keys.get(0).isUpdated());
+
+        final String json = MeshTypeConverters.elementsToJson(createElements());
+        final Map<Integer, Element> elements = MeshTypeConverters.fromBlobToElements(json.getBytes(utf8));
+        assertEquals(2, elements.size());
+        assertEquals("Primary", elements.get(0x0001).getName());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import android.content.Context;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.ApplicationKey;
+import no.nordicsemi.android.mesh.InternalTransportCallbacks;
+import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.MeshStatusCallbacks;
+import no.nordicsemi.android.mesh.opcodes.ApplicationMessageOpCodes;
+import no.nordicsemi.android.mesh.utils.ExtendedInvalidCipherTextException;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks parsing received network PDUs, from the network key lookup and de-obfuscation to the access message
+ * being decoded, see {@link BaseMeshMessageHandler#parseMeshPduNotifications}.
+ * <p>
+ * The PDUs are Generic OnOff Status messages sent by nodes spread across the network to the provisioner. They are
+ * encrypted with the last network key so that every key is checked for a matching NID.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InboundPduBenchmark {
+
+    private static final int PDU_COUNT = 64;
+
+    @Param({"1", "10", "100"})
+    public int netKeyCount;
+
+    @Param({"10", "1000", "10000"})
+    public int nodeCount;
+
+    private MeshNetwork network;
+    private BenchmarkMessageHandler handler;
+    private byte[][] pdus;
+    private int index;
+
+    private static final class BenchmarkMessageHandler extends BaseMeshMessageHandler {
+
+        BenchmarkMessageHandler(@NonNull final BenchmarkTransportCallbacks callbacks) {
+            super(Mockito.mock(Context.class, withSettings().stubOnly()),
+                    Mockito.mock(InternalTransportCallbacks.class, withSettings().stubOnly()),
+                    callbacks, callbacks);
+            setMeshStatusCallbacks(Mockito.mock(MeshStatusCallbacks.class, withSettings().stubOnly()));
+        }
+
+        @Override
+        protected void setMeshStatusCallbacks(@NonNull final MeshStatusCallbacks statusCallbacks) {
+            mStatusCallbacks = statusCallbacks;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        network = MeshNetworkFixtures.create(netKeyCount, nodeCount);
+        final BenchmarkTransportCallbacks callbacks = new BenchmarkTransportCallbacks(network);
+        final MeshTransport transport = callbacks.createTransport();
+        final ApplicationKey appKey = network.getAppKey(MeshNetworkFixtures.APP_KEY_INDEX);
+        final int aid = SecureUtils.calculateK4(appKey.getKey());
+
+        pdus = new byte[PDU_COUNT][];
+        for (int i = 0; i < PDU_COUNT; i++) {
+            final int src = MeshNetworkFixtures.PROVISIONER_ADDRESS + 1 + (int) ((long) i * nodeCount / PDU_COUNT);
+            final AccessMessage message = transport.createMeshMessage(src, MeshNetworkFixtures.PROVISIONER_ADDRESS,
+                    null, null, appKey, 1, aid, 0,
+                    ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS, new byte[]{0x01});
+            pdus[i] = message.getNetworkLayerPduMap().get(0);
+        }
+        handler = new BenchmarkMessageHandler(callbacks);
+    }
+
+    @Benchmark
+    public void parseMeshPdu() throws ExtendedInvalidCipherTextException {
+        handler.parseMeshPduNotifications(pdus[index++ & (PDU_COUNT - 1)], network);
+    }
+}
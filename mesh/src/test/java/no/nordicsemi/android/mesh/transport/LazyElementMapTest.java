@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import no.nordicsemi.android.mesh.models.SigModelParser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LazyElementMapTest {
+
+    private static Map<Integer, Element> createElements() {
+        final Map<Integer, Element> elements = new LinkedHashMap<>();
+        for (int address = 0x0010; address < 0x0013; address++) {
+            final Map<Integer, MeshModel> models = new LinkedHashMap<>();
+            final MeshModel model = SigModelParser.getSigModel(SigModelParser.GENERIC_ON_OFF_SERVER);
+            model.setBoundAppKeyIndex(address);
+            models.put(model.getModelId(), model);
+            elements.put(address, new Element(address, 0, models));
+        }
+        return elements;
+    }
+
+    @Test
+    public void testAddressLookupWithoutDecoding() {
+        final byte[] blob = ElementBlobConverter.toBlob(createElements());
+        final LazyElementMap elements = new LazyElementMap(blob);
+
+        assertEquals(3, elements.size());
+        assertTrue(elements.containsKey(0x0012));
+        assertFalse(elements.containsKey(0x0013));
+        assertNull(elements.get(0x0013));
+        assertFalse(elements.isDecoded());
+        assertArrayEquals(blob, ElementBlobConverter.toBlob(elements));
+    }
+
+    @Test
+    public void testDecodeOnAccess() {
+        final LazyElementMap elements = new LazyElementMap(ElementBlobConverter.toBlob(createElements()));
+
+        final Element element = elements.get(0x0011);
+        assertNotNull(element);
+        assertTrue(elements.isDecoded());
+        final MeshModel model = element.getMeshModels().get((int) SigModelParser.GENERIC_ON_OFF_SERVER);
+        assertNotNull(model);
+        assertEquals(Integer.valueOf(0x0011), model.getBoundAppKeyIndexes().get(0));
+
+        elements.remove(0x0012);
+        assertEquals(2, ElementBlobConverter.fromBlob(ElementBlobConverter.toBlob(elements)).size());
+    }
+
+    @Test
+    public void testStubFetchesOnAccess() {
+        final byte[] blob = ElementBlobConverter.toBlob(createElements());
+        final Map<String, Integer> loads = new HashMap<>();
+        final ElementCache cache = new ElementCache(1, uuid -> {
+            final Integer count = loads.get(uuid);
+            loads.put(uuid, count == null ? 1 : count + 1);
+            return blob;
+        });
+        final LazyElementMap elements = new LazyElementMap("node", 0x0010, 3, cache);
+
+        assertEquals(3, elements.size());
+        assertTrue(elements.containsKey(0x0012));
+        assertFalse(elements.containsKey(0x0013));
+        assertTrue(elements.isStub());
+        assertTrue(loads.isEmpty());
+
+        final Element element = elements.get(0x0011);
+        assertNotNull(element);
+        assertTrue(elements.isDecoded());
+        assertEquals(Integer.valueOf(1), loads.get("node"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testEvictedElementsAreReleased() {
+        final byte[] blob = ElementBlobConverter.toBlob(createElements());
+        final ElementCache cache = new ElementCache(1, uuid -> blob);
+        final LazyElementMap unchanged = new LazyElementMap("unchanged", 0x0010, 3, cache);
+        final LazyElementMap changed = new LazyElementMap("changed", 0x0010, 3, cache);
+
+        assertNotNull(unchanged.get(0x0010));
+        changed.remove(0x0012);
+        assertEquals(1, cache.size());
+
+        // Unchanged elements become a stub again, the changed ones are kept encoded
+        assertTrue(unchanged.isStub());
+        assertEquals(1, unchanged.getGeneration());
+        assertNotNull(unchanged.get(0x0011));
+        assertFalse(changed.isStub());
+        assertFalse(changed.isDecoded());
+        assertEquals(2, changed.size());
+        assertFalse(changed.containsKey(0x0012));
+        assertEquals(2, ElementBlobConverter.fromBlob(ElementBlobConverter.toBlob(changed)).size());
+    }
+
+    @Test
+    public void testWrittenElementsAreKeptEncoded() {
+        final byte[] blob = ElementBlobConverter.toBlob(createElements());
+        final ElementCache cache = new ElementCache(1, uuid -> blob);
+        final LazyElementMap elements = new LazyElementMap("node", 0x0010, 3, cache);
+        final LazyElementMap other = new LazyElementMap("other", 0x0010, 3, cache);
+
+        // Once changed elements have been written, the database holds neither the fetched nor the released elements
+        final Element removed = elements.remove(0x0012);
+        ElementBlobConverter.toBlob(elements);
+        elements.put(0x0012, removed);
+        other.get(0x0010);
+
+        assertFalse(elements.isStub());
+        assertFalse(elements.isDecoded());
+        assertEquals(3, ElementBlobConverter.fromBlob(ElementBlobConverter.toBlob(elements)).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedVersion() {
+        final byte[] blob = ElementBlobConverter.toBlob(createElements());
+        blob[0] = ElementBlobConverter.VERSION + 1;
+        new LazyElementMap(blob);
+    }
+}
@@ -23,7 +23,6 @@
 package no.nordicsemi.android.mesh.transport;
 
 import android.content.Context;
-import android.util.SparseArray;
 
 import org.junit.Assert;
 import org.junit.Rule;
@@ -32,8 +31,11 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
+import no.nordicsemi.android.mesh.utils.ByteArrayMap;
 import no.nordicsemi.android.mesh.utils.MeshParserUtils;
 
 import static org.junit.Assert.assertEquals;
@@ -78,7 +80,7 @@ public class LowerTransportLayerTests {
 
         meshLayerTestBase.createLowerTransportAccessPDU(accessMessage);
 
-        final SparseArray<byte[]> actualTransportAccessPdu = accessMessage.getLowerTransportAccessPdu();
+        final ByteArrayMap actualTransportAccessPdu = accessMessage.getLowerTransportAccessPduMap();
         Assert.assertArrayEquals(expectedLowerTransportPdu, actualTransportAccessPdu.get(0));
     }
 
@@ -86,7 +88,7 @@ public class LowerTransportLayerTests {
     public void create_segmented_access_message_isCorrect() {
         //Message #6
 
-        final SparseArray<String> expectedSegmentedTransportPDU = new SparseArray<>();
+        final Map<Integer, String> expectedSegmentedTransportPDU = new HashMap<>();
         expectedSegmentedTransportPDU.put(0, "8026ac01ee9dddfd2169326d23f3afdf".toUpperCase(Locale.US));
         expectedSegmentedTransportPDU.put(1, "8026ac21cfdc18c52fdef772e0e17308".toUpperCase(Locale.US));
 
@@ -112,7 +114,7 @@ public class LowerTransportLayerTests {
 
         meshLayerTestBase.createLowerTransportAccessPDU(accessMessage);
 
-        final SparseArray<byte[]> actualSegmentedTransportPdu = accessMessage.getLowerTransportAccessPdu();
+        final ByteArrayMap actualSegmentedTransportPdu = accessMessage.getLowerTransportAccessPduMap();
 
         Assert.assertTrue("Segment count does not match", expectedSegmentedTransportPDU.size() != actualSegmentedTransportPdu.size());
 
@@ -150,7 +152,7 @@ public class LowerTransportLayerTests {
         controlMessage.setTransportControlPdu(upperTransportPdu);
 
         meshLayerTestBase.createLowerTransportControlPDU(controlMessage);
-        final SparseArray<byte[]> actualTransportAccessPdu = controlMessage.getLowerTransportControlPdu();
+        final ByteArrayMap actualTransportAccessPdu = controlMessage.getLowerTransportControlPduMap();
         Assert.assertArrayEquals(expectedLowerTransportPdu, actualTransportAccessPdu.get(0));
     }
 }
\ No newline at end of file
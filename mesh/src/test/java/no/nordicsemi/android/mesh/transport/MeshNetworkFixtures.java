@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import no.nordicsemi.android.mesh.AllocatedGroupRange;
+import no.nordicsemi.android.mesh.AllocatedSceneRange;
+import no.nordicsemi.android.mesh.AllocatedUnicastRange;
+import no.nordicsemi.android.mesh.ApplicationKey;
+import no.nordicsemi.android.mesh.Features;
+import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.NetworkKey;
+import no.nordicsemi.android.mesh.NodeKey;
+import no.nordicsemi.android.mesh.Provisioner;
+import no.nordicsemi.android.mesh.models.SigModelParser;
+
+/**
+ * Builds mesh networks of a given size for the benchmarks and the {@link MeshNetworkSimulator}.
+ * <p>
+ * Keys are generated from a fixed seed so that every run works on the same network. The provisioner uses the unicast
+ * address 0x0001 and the nodes follow from 0x0002, each with a single element containing a Configuration Server and
+ * the Generic OnOff, Generic Level, Sensor, Scene and Scene Setup servers bound to the application key.
+ * </p>
+ */
+public final class MeshNetworkFixtures {
+
+    public static final int PROVISIONER_ADDRESS = 0x0001;
+    public static final int APP_KEY_INDEX = 0;
+
+    private static final short[] SERVER_MODELS = {
+            SigModelParser.GENERIC_ON_OFF_SERVER,
+            SigModelParser.GENERIC_LEVEL_SERVER,
+            SigModelParser.SENSOR_SERVER,
+            SigModelParser.SCENE_SERVER,
+            SigModelParser.SCENE_SETUP_SERVER
+    };
+
+    private MeshNetworkFixtures() {
+    }
+
+    /**
+     * Creates a mesh network.
+     *
+     * @param netKeyCount number of network keys, the application key is bound to the last one
+     * @param nodeCount   number of nodes excluding the provisioner
+     */
+    public static MeshNetwork create(final int netKeyCount, final int nodeCount) {
+        final Random random = new Random(netKeyCount * 31L + nodeCount);
+        final String meshUuid = new UUID(random.nextLong(), random.nextLong()).toString().toUpperCase(Locale.US);
+        final MeshNetwork network = new MeshNetwork(meshUuid);
+        network.setMeshName("Benchmark");
+
+        for (int i = 0; i < netKeyCount; i++) {
+            network.addNetKey(new NetworkKey(i, randomKey(random)));
+        }
+        final ApplicationKey appKey = new ApplicationKey(APP_KEY_INDEX, randomKey(random));
+        appKey.setBoundNetKeyIndex(netKeyCount - 1);
+        network.addAppKey(appKey);
+
+        final List<AllocatedUnicastRange> unicastRanges = new ArrayList<>();
+        unicastRanges.add(new AllocatedUnicastRange(0x0001, 0x7FFF));
+        final List<AllocatedGroupRange> groupRanges = new ArrayList<>();
+        groupRanges.add(new AllocatedGroupRange(0xC000, 0xFEFF));
+        final List<AllocatedSceneRange> sceneRanges = new ArrayList<>();
+        sceneRanges.add(new AllocatedSceneRange(0x0001, 0xFFFF));
+        final Provisioner provisioner = new Provisioner(new UUID(random.nextLong(), random.nextLong()).toString(),
+                unicastRanges, groupRanges, sceneRanges, meshUuid);
+        provisioner.setProvisionerName("Benchmark Provisioner");
+        provisioner.setProvisionerAddress(PROVISIONER_ADDRESS);
+        provisioner.setLastSelected(true);
+        network.addProvisioner(provisioner);
+
+        final List<NodeKey> netKeys = new ArrayList<>();
+        for (int i = 0; i < netKeyCount; i++) {
+            netKeys.add(new NodeKey(i));
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            network.addNode(createNode(random, meshUuid, PROVISIONER_ADDRESS + 1 + i, netKeys));
+        }
+        return network;
+    }
+
+    private static ProvisionedMeshNode createNode(final Random random,
+                                                 final String meshUuid,
+                                                 final int address,
+                                                 final List<NodeKey> netKeys) {
+        final ProvisionedMeshNode node = new ProvisionedMeshNode();
+        node.setMeshUuid(meshUuid);
+        node.setUuid(new UUID(random.nextLong(), random.nextLong()).toString().toUpperCase(Locale.US));
+        node.setNodeName("Node " + address);
+        node.setUnicastAddress(address);
+        node.setDeviceKey(randomKey(random));
+        node.setTtl(5);
+        node.setConfigured(true);
+        node.setCompanyIdentifier(0x0059);
+        node.setProductIdentifier(0x0001);
+        node.setVersionIdentifier(0x0001);
+        node.setCrpl(0x0028);
+        node.setNodeFeatures(new Features(Features.UNSUPPORTED, Features.UNSUPPORTED, Features.ENABLED, Features.ENABLED));
+        final List<NodeKey> addedNetKeys = new ArrayList<>();
+        for (NodeKey netKey : netKeys) {
+            addedNetKeys.add(new NodeKey(netKey.getIndex()));
+        }
+        node.setAddedNetKeys(addedNetKeys);
+        node.setAddedAppKeys(new ArrayList<>(Collections.singletonList(new NodeKey(APP_KEY_INDEX))));
+
+        final Map<Integer, MeshModel> models = new HashMap<>();
+        final MeshModel configurationServer = SigModelParser.getSigModel(SigModelParser.CONFIGURATION_SERVER);
+        models.put(configurationServer.getModelId(), configurationServer);
+        for (short modelId : SERVER_MODELS) {
+            final MeshModel model = SigModelParser.getSigModel(modelId);
+            model.setBoundAppKeyIndex(APP_KEY_INDEX);
+            models.put(model.getModelId(), model);
+        }
+        final Map<Integer, Element> elements = new HashMap<>();
+        elements.put(address, new Element(address, 0, models));
+        node.setElements(elements);
+        return node;
+    }
+
+    private static byte[] randomKey(final Random random) {
+        final byte[] key = new byte[16];
+        random.nextBytes(key);
+        return key;
+    }
+}
@@ -0,0 +1,568 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import no.nordicsemi.android.mesh.MeshManagerApi;
+import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.NetworkKey;
+import no.nordicsemi.android.mesh.Provisioner;
+import no.nordicsemi.android.mesh.utils.ByteArrayMap;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+/**
+ * Deterministic in-process mesh network acting as a GATT proxy for a client such as the {@link MeshManagerApi}.
+ * <p>
+ * Every node of the given network that is not a provisioner is hosted as a {@link SimulatedNode}. Proxy PDUs created
+ * by the client are passed to {@link #onMeshPduCreated(byte[])} and the PDUs sent back by the nodes are split in to
+ * notifications of the MTU size and delivered to {@link ProxyCallbacks#onNotification(int, byte[])}, which can be
+ * passed on to {@link MeshManagerApi#handleNotifications(int, byte[])}.
+ * </p>
+ * <p>
+ * Nodes are connected in a star around the proxy node unless links are added using {@link #link(int, int)}. A PDU
+ * takes one transmission from the client to the proxy node and one transmission per link from there on. A node
+ * receives a PDU sent over a single transmission regardless of the TTL, further nodes only if the TTL is at least the
+ * number of transmissions as every relay needs a TTL of 2 or more. Each transmission is delayed by a random latency
+ * and every transmission over the advertising bearer may be lost. All randomness comes from a single seeded
+ * {@link Random} and time from the {@link VirtualScheduler}, so that a run can be reproduced from its seed.
+ * </p>
+ */
+public final class MeshNetworkSimulator {
+
+    private static final int DEFAULT_MTU = 20;
+    private static final int SAR_COMPLETE = 0x00;
+    private static final int SAR_FIRST = 0x01;
+    private static final int SAR_CONTINUATION = 0x02;
+    private static final int SAR_LAST = 0x03;
+
+    private final MeshNetwork mNetwork;
+    private final VirtualScheduler mScheduler;
+    private final Random mRandom;
+    private final Set<Integer> mProvisionerAddresses = new HashSet<>();
+    private final Map<Integer, SimulatedNode> mNodes = new TreeMap<>();
+    private final NetworkPduReader mReader = new NetworkPduReader();
+    private final Map<Integer, SimulatedNode> mElementOwners = new HashMap<>();
+    private final Map<Integer, Map<Integer, SimulatedNode>> mSubscribers = new HashMap<>();
+    private final Map<Integer, Set<Integer>> mLinks = new HashMap<>();
+    private final Map<Integer, Map<Integer, Integer>> mHopCache = new HashMap<>();
+    private ProxyCallbacks mProxyCallbacks;
+    private int mProxyAddress;
+    private int mMtu = DEFAULT_MTU;
+    private long mMinLatency = 10;
+    private long mMaxLatency = 30;
+    private double mLossRate;
+    private int mSentPduCount;
+    private int mProxyConfigurationPduCount;
+    private int mNotificationCount;
+    private int mDeliveredPduCount;
+    private int mLostPduCount;
+    private int mExpiredPduCount;
+    private int mUnknownPduCount;
+
+    /**
+     * Callbacks receiving the notifications sent by the proxy node.
+     */
+    public interface ProxyCallbacks {
+
+        /**
+         * Invoked for every notification sent by the proxy node.
+         *
+         * @param mtu  MTU size of the connection
+         * @param data notification data
+         */
+        void onNotification(final int mtu, @NonNull final byte[] data);
+    }
+
+    /**
+     * Decoded network PDU.
+     */
+    private static final class NetworkPdu {
+        final NetworkKey key;
+        final SecureUtils.K2Output k2Output;
+        final byte[] pdu;
+        final int ivIndex;
+        final int ttl;
+        final int src;
+        final int dst;
+
+        NetworkPdu(final NetworkKey key, final SecureUtils.K2Output k2Output, final byte[] pdu, final NetworkPduReader reader) {
+            this.key = key;
+            this.k2Output = k2Output;
+            this.pdu = pdu;
+            this.ivIndex = reader.getIvIndex();
+            this.ttl = reader.getTtl();
+            this.src = reader.getSrc();
+            this.dst = reader.getDst();
+        }
+    }
+
+    /**
+     * Creates a simulator hosting the nodes of the given network.
+     *
+     * @param network   mesh network containing the nodes, their keys and their models
+     * @param scheduler event loop running the simulation
+     * @param seed      seed of the random latency and loss
+     */
+    public MeshNetworkSimulator(@NonNull final MeshNetwork network, @NonNull final VirtualScheduler scheduler, final long seed) {
+        mNetwork = network;
+        mScheduler = scheduler;
+        mRandom = new Random(seed);
+        for (Provisioner provisioner : network.getProvisioners()) {
+            if (provisioner.getProvisionerAddress() != null) {
+                mProvisionerAddresses.add(provisioner.getProvisionerAddress());
+            }
+        }
+        for (ProvisionedMeshNode node : network.getNodes()) {
+            if (mProvisionerAddresses.contains(node.getUnicastAddress()))
+                continue;
+            final SimulatedNode simulatedNode = new SimulatedNode(this, network, node,
+                    scheduler.createTransportScheduler(), 40 + mRandom.nextInt(20));
+            mNodes.put(node.getUnicastAddress(), simulatedNode);
+            for (SimulatedNode.ElementState element : simulatedNode.getElements()) {
+                mElementOwners.put(element.address, simulatedNode);
+            }
+            for (int address : simulatedNode.getSubscriptions()) {
+                onSubscriptionAdded(simulatedNode, address);
+            }
+        }
+        if (!mNodes.isEmpty()) {
+            mProxyAddress = mNodes.keySet().iterator().next();
+        }
+    }
+
+    /**
+     * Sets the callbacks receiving the notifications of the proxy node.
+     */
+    public void setProxyCallbacks(@Nullable final ProxyCallbacks callbacks) {
+        mProxyCallbacks = callbacks;
+    }
+
+    /**
+     * Sets the MTU size used to split the notifications, 20 by default.
+     */
+    public void setMtu(final int mtu) {
+        if (mtu < 2)
+            throw new IllegalArgumentException("MTU must be at least 2 bytes");
+        mMtu = mtu;
+    }
+
+    /**
+     * Sets the range of the latency added to every transmission, 10 to 30 milliseconds by default.
+     */
+    public void setLatency(final long minLatency, final long maxLatency) {
+        if (minLatency < 0 || maxLatency < minLatency)
+            throw new IllegalArgumentException("Invalid latency range");
+        mMinLatency = minLatency;
+        mMaxLatency = maxLatency;
+    }
+
+    /**
+     * Sets the probability of a transmission over the advertising bearer being lost, 0 by default.
+     */
+    public void setLossRate(final double lossRate) {
+        if (lossRate < 0 || lossRate > 1)
+            throw new IllegalArgumentException("Loss rate must be between 0 and 1");
+        mLossRate = lossRate;
+    }
+
+    /**
+     * Sets the node the client is connected to, by default the node with the lowest unicast address.
+     */
+    public void setProxyNode(final int unicastAddress) {
+        if (!mNodes.containsKey(unicastAddress))
+            throw new IllegalArgumentException("Unknown node " + MeshAddress.formatAddress(unicastAddress, true));
+        mProxyAddress = unicastAddress;
+        mHopCache.clear();
+    }
+
+    /**
+     * Links two nodes in range of each other.
+     * <p>
+     * Once a link is added only the nodes linked together can reach each other, the default star topology around
+     * the proxy node is no longer used.
+     * </p>
+     */
+    public void link(final int unicastAddress, final int otherUnicastAddress) {
+        if (!mNodes.containsKey(unicastAddress) || !mNodes.containsKey(otherUnicastAddress))
+            throw new IllegalArgumentException("Links can only be added between simulated nodes");
+        addLink(unicastAddress, otherUnicastAddress);
+        addLink(otherUnicastAddress, unicastAddress);
+        mHopCache.clear();
+    }
+
+    /**
+     * Returns the unicast addresses of the simulated nodes in ascending order.
+     */
+    @NonNull
+    public Set<Integer> getNodeAddresses() {
+        return Collections.unmodifiableSet(new TreeSet<>(mNodes.keySet()));
+    }
+
+    /**
+     * Returns the current state of the Generic OnOff server on the given element.
+     */
+    public boolean getOnOff(final int elementAddress) {
+        return getElement(elementAddress).onOff;
+    }
+
+    /**
+     * Returns the current state of the Generic Level server on the given element.
+     */
+    public int getLevel(final int elementAddress) {
+        return getElement(elementAddress).level;
+    }
+
+    /**
+     * Returns the current scene of the Scene server on the given element.
+     */
+    public int getCurrentScene(final int elementAddress) {
+        return getElement(elementAddress).currentScene;
+    }
+
+    /**
+     * Invoked when the client creates a proxy PDU, equivalent to writing the PDU to the proxy node.
+     *
+     * @param pdu complete proxy PDU starting with the PDU type
+     */
+    public void onMeshPduCreated(@NonNull final byte[] pdu) {
+        if (pdu[0] == MeshManagerApi.PDU_TYPE_PROXY_CONFIGURATION) {
+            // Proxy filters are not simulated, the client receives every message addressed to a provisioner
+            mProxyConfigurationPduCount++;
+            return;
+        }
+        if (pdu[0] != MeshManagerApi.PDU_TYPE_NETWORK)
+            return;
+        mSentPduCount++;
+        final NetworkPdu networkPdu = decode(pdu);
+        if (networkPdu == null) {
+            mUnknownPduCount++;
+            return;
+        }
+        for (SimulatedNode node : getRecipients(networkPdu.dst)) {
+            final int hops = getHopCount(mProxyAddress, node.getUnicastAddress());
+            if (hops >= 0) {
+                transmit(networkPdu, hops + 1, 1, node);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of network PDUs received from the client.
+     */
+    public int getSentPduCount() {
+        return mSentPduCount;
+    }
+
+    /**
+     * Returns the number of proxy configuration PDUs received from the client, these are not handled.
+     */
+    public int getProxyConfigurationPduCount() {
+        return mProxyConfigurationPduCount;
+    }
+
+    /**
+     * Returns the number of notifications sent to the client.
+     */
+    public int getNotificationCount() {
+        return mNotificationCount;
+    }
+
+    /**
+     * Returns the number of network PDUs delivered to a node or the client.
+     */
+    public int getDeliveredPduCount() {
+        return mDeliveredPduCount;
+    }
+
+    /**
+     * Returns the number of network PDUs lost on the way to a node or the client.
+     */
+    public int getLostPduCount() {
+        return mLostPduCount;
+    }
+
+    /**
+     * Returns the number of network PDUs that did not reach a node or the client as the TTL was too low.
+     */
+    public int getExpiredPduCount() {
+        return mExpiredPduCount;
+    }
+
+    /**
+     * Returns the number of network PDUs that could not be decrypted with any of the network keys.
+     */
+    public int getUnknownPduCount() {
+        return mUnknownPduCount;
+    }
+
+    /**
+     * Returns the number of access messages handled by the nodes.
+     */
+    public int getHandledMessageCount() {
+        int count = 0;
+        for (SimulatedNode node : mNodes.values()) {
+            count += node.getHandledMessageCount();
+        }
+        return count;
+    }
+
+    byte[] getIvIndex() {
+        return ByteBuffer.allocate(4).order(ByteOrder.BIG_ENDIAN).putInt(mNetwork.getIvIndex().getTransmitIvIndex()).array();
+    }
+
+    /**
+     * Sends the network PDUs created by a node.
+     */
+    void sendFromNode(@NonNull final SimulatedNode sender, @NonNull final ByteArrayMap pdus) {
+        for (int i = 0; i < pdus.size(); i++) {
+            final NetworkPdu networkPdu = decode(pdus.valueAt(i));
+            if (networkPdu == null)
+                continue;
+            if (mProvisionerAddresses.contains(networkPdu.dst)) {
+                final int hops = getHopCount(sender.getUnicastAddress(), mProxyAddress);
+                if (hops >= 0) {
+                    transmit(networkPdu, hops + 1, hops, null);
+                }
+                continue;
+            }
+            for (SimulatedNode node : getRecipients(networkPdu.dst)) {
+                if (node == sender)
+                    continue;
+                final int hops = getHopCount(sender.getUnicastAddress(), node.getUnicastAddress());
+                if (hops > 0) {
+                    transmit(networkPdu, hops, hops, node);
+                }
+            }
+        }
+    }
+
+    void onSubscriptionAdded(@NonNull final SimulatedNode node, final int address) {
+        Map<Integer, SimulatedNode> subscribers = mSubscribers.get(address);
+        if (subscribers == null) {
+            subscribers = new TreeMap<>();
+            mSubscribers.put(address, subscribers);
+        }
+        subscribers.put(node.getUnicastAddress(), node);
+    }
+
+    void onNodeReset(@NonNull final SimulatedNode node) {
+        // The reset is completed once the status has been sent
+        mScheduler.postDelayed(() -> {
+            mNodes.remove(node.getUnicastAddress());
+            for (SimulatedNode.ElementState element : node.getElements()) {
+                mElementOwners.remove(element.address);
+            }
+            for (Map<Integer, SimulatedNode> subscribers : mSubscribers.values()) {
+                subscribers.remove(node.getUnicastAddress());
+            }
+            for (Set<Integer> links : mLinks.values()) {
+                links.remove(node.getUnicastAddress());
+            }
+            mLinks.remove(node.getUnicastAddress());
+            mHopCache.clear();
+        }, mMaxLatency);
+    }
+
+    /**
+     * Schedules a network PDU to be received after the given number of transmissions.
+     *
+     * @param transmissions     number of transmissions until the PDU is received
+     * @param meshTransmissions number of these transmissions over the advertising bearer
+     * @param recipient         receiving node or null if the PDU is sent to the client
+     */
+    private void transmit(@NonNull final NetworkPdu networkPdu,
+                          final int transmissions,
+                          final int meshTransmissions,
+                          @Nullable final SimulatedNode recipient) {
+        if (transmissions > 1 && networkPdu.ttl < transmissions) {
+            mExpiredPduCount++;
+            return;
+        }
+        long delay = 0;
+        for (int i = 0; i < transmissions; i++) {
+            delay += mMinLatency + (long) (mRandom.nextDouble() * (mMaxLatency - mMinLatency));
+        }
+        for (int i = 0; i < meshTransmissions; i++) {
+            if (mRandom.nextDouble() < mLossRate) {
+                mLostPduCount++;
+                return;
+            }
+        }
+        mScheduler.postDelayed(() -> {
+            mDeliveredPduCount++;
+            if (recipient == null) {
+                notifyClient(networkPdu.pdu);
+            } else if (mNodes.get(recipient.getUnicastAddress()) == recipient) {
+                recipient.onNetworkPdu(networkPdu.key, networkPdu.k2Output, networkPdu.pdu, networkPdu.ivIndex);
+            }
+        }, delay);
+    }
+
+    private void notifyClient(@NonNull final byte[] pdu) {
+        final ProxyCallbacks callbacks = mProxyCallbacks;
+        if (callbacks == null)
+            return;
+        for (byte[] notification : segment(mMtu, pdu)) {
+            mNotificationCount++;
+            callbacks.onNotification(mMtu, notification);
+        }
+    }
+
+    /**
+     * Decodes the network header and decrypts the network payload of a network PDU.
+     *
+     * @return the decoded PDU or null if none of the network keys matched
+     */
+    @Nullable
+    private NetworkPdu decode(@NonNull final byte[] pdu) {
+        final int nid = pdu[1] & 0x7F;
+        final int ivIndex = mNetwork.getIvIndex().getTransmitIvIndex();
+        for (NetworkKey key : mNetwork.getNetKeys()) {
+            final List<SecureUtils.K2Output> candidates = new ArrayList<>(2);
+            if (key.getDerivatives().getNid() == nid) candidates.add(key.getDerivatives());
+            if (key.getOldDerivatives() != null && key.getOldDerivatives().getNid() == nid)
+                candidates.add(key.getOldDerivatives());
+            for (SecureUtils.K2Output k2Output : candidates) {
+                mReader.deObfuscate(pdu, ivIndex, k2Output.getPrivacyKey());
+                try {
+                    mReader.decrypt(pdu, k2Output.getEncryptionKey());
+                    return new NetworkPdu(key, k2Output, pdu, mReader);
+                } catch (Exception ex) {
+                    // NID collision, try the next key
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the nodes receiving a PDU sent to the given destination in ascending order of their addresses.
+     */
+    @NonNull
+    private Collection<SimulatedNode> getRecipients(final int dst) {
+        if (MeshAddress.isValidUnicastAddress(dst)) {
+            final SimulatedNode node = mElementOwners.get(dst);
+            return node == null ? Collections.emptyList() : Collections.singletonList(node);
+        }
+        if (dst >= 0xFF00) {
+            return new ArrayList<>(mNodes.values());
+        }
+        final Map<Integer, SimulatedNode> subscribers = mSubscribers.get(dst);
+        return subscribers == null ? Collections.emptyList() : new ArrayList<>(subscribers.values());
+    }
+
+    /**
+     * Returns the number of links between two nodes or -1 if they are not connected.
+     */
+    private int getHopCount(final int from, final int to) {
+        if (from == to)
+            return 0;
+        if (mLinks.isEmpty()) {
+            // Star topology around the proxy node
+            return from == mProxyAddress || to == mProxyAddress ? 1 : 2;
+        }
+        Map<Integer, Integer> hops = mHopCache.get(from);
+        if (hops == null) {
+            hops = new HashMap<>();
+            hops.put(from, 0);
+            final ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(from);
+            while (!queue.isEmpty()) {
+                final int address = queue.poll();
+                final Set<Integer> neighbours = mLinks.get(address);
+                if (neighbours == null)
+                    continue;
+                for (int neighbour : neighbours) {
+                    if (!hops.containsKey(neighbour)) {
+                        hops.put(neighbour, hops.get(address) + 1);
+                        queue.add(neighbour);
+                    }
+                }
+            }
+            mHopCache.put(from, hops);
+        }
+        final Integer count = hops.get(to);
+        return count == null ? -1 : count;
+    }
+
+    private void addLink(final int from, final int to) {
+        Set<Integer> links = mLinks.get(from);
+        if (links == null) {
+            links = new TreeSet<>();
+            mLinks.put(from, links);
+        }
+        links.add(to);
+    }
+
+    @NonNull
+    private SimulatedNode.ElementState getElement(final int elementAddress) {
+        final SimulatedNode node = mElementOwners.get(elementAddress);
+        final SimulatedNode.ElementState element = node == null ? null : node.getElement(elementAddress);
+        if (element == null)
+            throw new IllegalArgumentException("Unknown element " + MeshAddress.formatAddress(elementAddress, true));
+        return element;
+    }
+
+    /**
+     * Splits a proxy PDU in to notifications of the given MTU size using the proxy protocol segmentation.
+     */
+    @NonNull
+    static List<byte[]> segment(final int mtu, @NonNull final byte[] pdu) {
+        final int type = pdu[0] & 0x3F;
+        final int length = pdu.length - 1;
+        final int payloadSize = mtu - 1;
+        final List<byte[]> segments = new ArrayList<>();
+        if (length <= payloadSize) {
+            final byte[] segment = pdu.clone();
+            segment[0] = (byte) (SAR_COMPLETE << 6 | type);
+            segments.add(segment);
+            return segments;
+        }
+        for (int offset = 0; offset < length; offset += payloadSize) {
+            final int size = Math.min(payloadSize, length - offset);
+            final int sar = offset == 0 ? SAR_FIRST : offset + size == length ? SAR_LAST : SAR_CONTINUATION;
+            final byte[] segment = new byte[size + 1];
+            segment[0] = (byte) (sar << 6 | type);
+            System.arraycopy(pdu, 1 + offset, segment, 1, size);
+            segments.add(segment);
+        }
+        return segments;
+    }
+}
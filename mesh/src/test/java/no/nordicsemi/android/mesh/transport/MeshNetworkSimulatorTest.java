@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import android.content.Context;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.ApplicationKey;
+import no.nordicsemi.android.mesh.InternalTransportCallbacks;
+import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.MeshStatusCallbacks;
+import no.nordicsemi.android.mesh.models.SigModelParser;
+import no.nordicsemi.android.mesh.trace.PduTraceReader;
+import no.nordicsemi.android.mesh.trace.PduTraceRecord;
+import no.nordicsemi.android.mesh.trace.PduTraceReplayer;
+import no.nordicsemi.android.mesh.trace.PduTraceWriter;
+import no.nordicsemi.android.mesh.utils.ExtendedInvalidCipherTextException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class MeshNetworkSimulatorTest {
+
+    private static final int NODE_COUNT = 10;
+    private static final int GROUP_ADDRESS = 0xC000;
+
+    private MeshNetwork network;
+    private ApplicationKey appKey;
+    private VirtualScheduler scheduler;
+    private MeshNetworkSimulator simulator;
+    private MeshStatusCallbacks statusCallbacks;
+    private ClientMessageHandler client;
+    private PduTraceWriter traceWriter;
+
+    private static final class ClientMessageHandler extends BaseMeshMessageHandler {
+
+        ClientMessageHandler(@NonNull final InternalTransportCallbacks internalTransportCallbacks,
+                             @NonNull final BenchmarkTransportCallbacks callbacks,
+                             @NonNull final MeshStatusCallbacks statusCallbacks) {
+            super(mock(Context.class), internalTransportCallbacks, callbacks, callbacks);
+            setMeshStatusCallbacks(statusCallbacks);
+        }
+
+        @Override
+        protected void setMeshStatusCallbacks(@NonNull final MeshStatusCallbacks statusCallbacks) {
+            mStatusCallbacks = statusCallbacks;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        network = MeshNetworkFixtures.create(1, NODE_COUNT);
+        appKey = network.getAppKey(MeshNetworkFixtures.APP_KEY_INDEX);
+        scheduler = new VirtualScheduler();
+        simulator = createSimulator(network, scheduler, 1);
+        statusCallbacks = mock(MeshStatusCallbacks.class);
+
+        final InternalTransportCallbacks internalTransportCallbacks = mock(InternalTransportCallbacks.class);
+        doAnswer(invocation -> network.getNode((Integer) invocation.getArgument(0)))
+                .when(internalTransportCallbacks).getNode(anyInt());
+        doAnswer(invocation -> {
+            simulator.onMeshPduCreated(invocation.getArgument(1));
+            return null;
+        }).when(internalTransportCallbacks).onMeshPduCreated(anyInt(), any(byte[].class), anyInt());
+        client = new ClientMessageHandler(internalTransportCallbacks, new BenchmarkTransportCallbacks(network), statusCallbacks);
+        simulator.setProxyCallbacks((mtu, data) -> {
+            if (traceWriter != null) {
+                traceWriter.write(PduTraceRecord.DIRECTION_IN, mtu, data);
+            }
+            parse(data);
+        });
+    }
+
+    private void parse(@NonNull final byte[] data) {
+        try {
+            client.parseMeshPduNotifications(data, network);
+        } catch (ExtendedInvalidCipherTextException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private static MeshNetworkSimulator createSimulator(final MeshNetwork network, final VirtualScheduler scheduler, final long seed) {
+        final MeshNetworkSimulator simulator = new MeshNetworkSimulator(network, scheduler, seed);
+        // Large enough for any unsegmented network PDU to be sent in a single notification
+        simulator.setMtu(66);
+        return simulator;
+    }
+
+    private void send(final int dst, @NonNull final MeshMessage message) {
+        client.createMeshMessage(MeshNetworkFixtures.PROVISIONER_ADDRESS, dst, null, message);
+        scheduler.runUntilIdle();
+    }
+
+    private <T extends MeshMessage> T received(final int src, final Class<T> type) {
+        final ArgumentCaptor<MeshMessage> captor = ArgumentCaptor.forClass(MeshMessage.class);
+        verify(statusCallbacks, Mockito.atLeastOnce()).onMeshMessageReceived(eq(src), captor.capture());
+        final MeshMessage message = captor.getValue();
+        assertTrue(type.isInstance(message));
+        return type.cast(message);
+    }
+
+    @Test
+    public void generic_on_off_set_updates_node_and_returns_status() {
+        send(0x0002, new GenericOnOffSet(appKey, true, 1));
+
+        assertTrue(simulator.getOnOff(0x0002));
+        assertFalse(simulator.getOnOff(0x0003));
+        assertTrue(received(0x0002, GenericOnOffStatus.class).getPresentState());
+        assertEquals(1, simulator.getHandledMessageCount());
+    }
+
+    @Test
+    public void generic_level_and_scenes_are_handled() {
+        send(0x0003, new GenericLevelSet(appKey, 1000, 1));
+        assertEquals(1000, received(0x0003, GenericLevelStatus.class).getPresentLevel());
+
+        send(0x0003, new SceneStore(appKey, 7));
+        send(0x0003, new GenericLevelSet(appKey, -5, 2));
+        send(0x0003, new SceneRecall(appKey, 7, 3));
+
+        final SceneStatus status = received(0x0003, SceneStatus.class);
+        assertTrue(status.isSuccessful());
+        assertEquals(7, status.getCurrentScene());
+        assertEquals(1000, simulator.getLevel(0x0003));
+    }
+
+    @Test
+    public void group_control_reaches_subscribed_nodes() {
+        final List<Integer> subscribers = new ArrayList<>();
+        for (int address : simulator.getNodeAddresses()) {
+            if (address % 2 == 0) {
+                subscribers.add(address);
+                send(address, new ConfigModelSubscriptionAdd(address, GROUP_ADDRESS, SigModelParser.GENERIC_ON_OFF_SERVER));
+            }
+        }
+
+        send(GROUP_ADDRESS, new GenericOnOffSetUnacknowledged(appKey, true, 1));
+
+        for (int address : simulator.getNodeAddresses()) {
+            assertEquals(subscribers.contains(address), simulator.getOnOff(address));
+        }
+        assertEquals(2 * subscribers.size(), simulator.getHandledMessageCount());
+    }
+
+    @Test
+    public void replayed_trace_delivers_the_access_messages_again() throws IOException, InterruptedException {
+        final File file = File.createTempFile("trace", ".mpdu");
+        try {
+            traceWriter = new PduTraceWriter(file);
+            send(0x0002, new GenericOnOffGet(appKey));
+            send(0x0003, new GenericLevelGet(appKey));
+            traceWriter.close();
+            traceWriter = null;
+            verify(statusCallbacks).onMeshMessageReceived(eq(0x0002), any(GenericOnOffStatus.class));
+            verify(statusCallbacks).onMeshMessageReceived(eq(0x0003), any(GenericLevelStatus.class));
+
+            // The network holds the SeqAuth values received during the capture, which must be reset for the
+            // replayed messages not to be dropped
+            final PduTraceReplayer replayer = new PduTraceReplayer(new PduTraceReplayer.Target() {
+                @Override
+                public void onReplayStarted() {
+                    for (ProvisionedMeshNode node : network.getNodes()) {
+                        node.clearSeqAuth();
+                    }
+                }
+
+                @Override
+                public void handleNotifications(final int bearer, final int mtuSize, @NonNull final byte[] data) {
+                    parse(data);
+                }
+
+                @Override
+                public void onReplayFinished() {
+                }
+            });
+            final PduTraceReader reader = new PduTraceReader(file);
+            try {
+                assertEquals(2, replayer.replay(reader, 0));
+            } finally {
+                reader.close();
+            }
+
+            verify(statusCallbacks, times(2)).onMeshMessageReceived(eq(0x0002), any(GenericOnOffStatus.class));
+            verify(statusCallbacks, times(2)).onMeshMessageReceived(eq(0x0003), any(GenericLevelStatus.class));
+        } finally {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+    }
+
+    @Test
+    public void ttl_limits_the_number_of_hops() {
+        // Chain topology where the last node is 9 links away from the proxy node
+        for (int address = 0x0002; address < 0x0002 + NODE_COUNT - 1; address++) {
+            simulator.link(address, address + 1);
+        }
+        send(0x0004, new GenericOnOffSet(appKey, true, 1));
+        send(0x0002 + NODE_COUNT - 1, new GenericOnOffSet(appKey, true, 2));
+
+        assertTrue(simulator.getOnOff(0x0004));
+        assertFalse(simulator.getOnOff(0x0002 + NODE_COUNT - 1));
+        assertEquals(1, simulator.getExpiredPduCount());
+    }
+
+    @Test
+    public void runs_are_reproducible_from_the_seed() {
+        final long[] first = runLossyNetwork(42);
+        final long[] second = runLossyNetwork(42);
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(first[i], second[i]);
+        }
+    }
+
+    private static long[] runLossyNetwork(final long seed) {
+        final MeshNetwork network = MeshNetworkFixtures.create(1, NODE_COUNT);
+        final ApplicationKey appKey = network.getAppKey(MeshNetworkFixtures.APP_KEY_INDEX);
+        final VirtualScheduler scheduler = new VirtualScheduler();
+        final MeshNetworkSimulator simulator = createSimulator(network, scheduler, seed);
+        simulator.setLossRate(0.3);
+        final MeshTransport transport = new BenchmarkTransportCallbacks(network).createTransport();
+        for (int i = 0; i < 100; i++) {
+            final int dst = 0x0002 + i % NODE_COUNT;
+            final AccessMessage message = transport.createMeshMessage(MeshNetworkFixtures.PROVISIONER_ADDRESS, dst, null,
+                    null, appKey, 1, appKey.getAid(), 0, new GenericOnOffGet(appKey).getOpCode(), null);
+            simulator.onMeshPduCreated(message.getNetworkLayerPduMap().get(0));
+            scheduler.runUntilIdle();
+        }
+        return new long[]{scheduler.now(), simulator.getLostPduCount(), simulator.getDeliveredPduCount(),
+                simulator.getHandledMessageCount()};
+    }
+}
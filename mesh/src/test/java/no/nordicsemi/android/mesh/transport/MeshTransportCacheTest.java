@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MeshTransportCacheTest {
+
+    private final VirtualScheduler scheduler = new VirtualScheduler();
+    private MeshTransportCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new MeshTransportCache(scheduler.createTransportScheduler());
+    }
+
+    private MeshTransport newTransport() {
+        return new MeshTransport(scheduler.createTransportScheduler());
+    }
+
+    @Test
+    public void least_recently_used_address_is_evicted_when_full() {
+        cache.setLimits(2, 0);
+        cache.put(0x0001, newTransport(), false);
+        cache.put(0x0002, newTransport(), false);
+        assertNotNull(cache.get(0x0001));
+
+        cache.put(0x0003, newTransport(), false);
+
+        assertNotNull(cache.get(0x0001));
+        assertNull(cache.get(0x0002));
+        assertNotNull(cache.get(0x0003));
+        assertEquals(2, cache.getTransportCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void idle_addresses_are_evicted() {
+        cache.setLimits(10, 1000);
+        cache.put(0x0001, newTransport(), false);
+        scheduler.runUntil(600);
+        cache.put(0x0002, newTransport(), false);
+        scheduler.runUntil(1200);
+
+        assertNull(cache.get(0x0003));
+
+        assertEquals(1, cache.getTransportCount());
+        assertNotNull(cache.get(0x0002));
+    }
+
+    @Test
+    public void evicted_transports_are_reused() {
+        cache.setLimits(1, 0);
+        final MeshTransport transport = newTransport();
+        final MeshTransportCache.Entry entry = cache.put(0x0001, transport, false);
+        entry.state = new DefaultNoOperationMessageState(null, transport, null, null, null);
+        assertEquals(1, cache.getStateCount());
+
+        cache.put(0x0002, newTransport(), false);
+
+        assertEquals(0, cache.getStateCount());
+        assertEquals(1, cache.getPooledTransportCount());
+        assertSame(transport, cache.obtainTransport());
+        assertNull(cache.obtainTransport());
+    }
+
+    @Test
+    public void reset_removes_the_address() {
+        cache.put(0x0001, newTransport(), false);
+        cache.remove(0x0001);
+
+        assertNull(cache.get(0x0001));
+        assertEquals(0, cache.getTransportCount());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void addresses_with_a_transfer_in_progress_are_not_evicted() {
+        cache.setLimits(1, 0);
+        cache.onTransferStarted(cache.put(0x0001, newTransport(), false));
+
+        cache.put(0x0002, newTransport(), true);
+
+        assertNotNull(cache.get(0x0001));
+        assertEquals(0, cache.getEvictionCount());
+
+        scheduler.runUntil(MeshTransportCache.TRANSFER_TIMEOUT);
+        cache.put(0x0003, newTransport(), true);
+
+        assertNull(cache.get(0x0001));
+        assertNull(cache.get(0x0002));
+        assertNotNull(cache.get(0x0003));
+    }
+
+    @Test
+    public void responses_from_a_group_evict_each_other_first() {
+        cache.setLimits(4, 0);
+        cache.put(0x0001, newTransport(), false);
+        cache.put(0x0002, newTransport(), false);
+        for (int address = 0x0100; address < 0x0200; address++) {
+            cache.put(address, newTransport(), true);
+        }
+
+        assertNotNull(cache.get(0x0001));
+        assertNotNull(cache.get(0x0002));
+        assertNotNull(cache.get(0x01FF));
+        assertEquals(4, cache.getTransportCount());
+    }
+}
@@ -23,8 +23,6 @@
 package no.nordicsemi.android.mesh.transport;
 
 import android.content.Context;
-import android.util.SparseArray;
-
 
 import org.junit.Assert;
 import org.junit.Rule;
@@ -38,6 +36,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
+import no.nordicsemi.android.mesh.utils.ByteArrayMap;
 import no.nordicsemi.android.mesh.utils.MeshParserUtils;
 import no.nordicsemi.android.mesh.utils.SecureUtils;
 
@@ -85,13 +84,13 @@ public class NetworkLayerTests {
         accessMessage.setDst(dst);
         accessMessage.setSequenceNumber(sequenceNumber);
         accessMessage.setIvIndex(ivIndex);
-        final SparseArray<byte[]> lowerTransportAccessPdu = new SparseArray<>();
+        final ByteArrayMap lowerTransportAccessPdu = new ByteArrayMap();
         lowerTransportAccessPdu.put(0, lowerTransportPdu);
         accessMessage.setLowerTransportAccessPdu(lowerTransportAccessPdu);
 
         final Message message = meshLayerTestBase.createNetworkLayerPDU(accessMessage);
 
-        final SparseArray<byte[]> actualNetworkTransportPdu = message.getNetworkLayerPdu();
+        final ByteArrayMap actualNetworkTransportPdu = message.getNetworkLayerPduMap();
 
         Assert.assertFalse("Segment count does not match", expectedNetworkPdu.size() != actualNetworkTransportPdu.size());
 
@@ -133,14 +132,14 @@ public class NetworkLayerTests {
         accessMessage.setDst(dst);
         accessMessage.setSequenceNumber(sequenceNumber);
         accessMessage.setIvIndex(ivIndex);
-        final SparseArray<byte[]> lowerTransportAccessPdu = new SparseArray<>();
+        final ByteArrayMap lowerTransportAccessPdu = new ByteArrayMap();
         lowerTransportAccessPdu.put(0, lowerTransportPdu0);
         lowerTransportAccessPdu.put(1, lowerTransportPdu1);
         accessMessage.setLowerTransportAccessPdu(lowerTransportAccessPdu);
 
         final Message message = meshLayerTestBase.createNetworkLayerPDU(accessMessage);
 
-        final SparseArray<byte[]> actualNetworkTransportPdu = message.getNetworkLayerPdu();
+        final ByteArrayMap actualNetworkTransportPdu = message.getNetworkLayerPduMap();
 
         Assert.assertFalse("Segment count does not match", expectedNetworkPdu.size() != actualNetworkTransportPdu.size());
 
@@ -231,13 +230,13 @@ public class NetworkLayerTests {
         accessMessage.setDst(dst);
         accessMessage.setSequenceNumber(sequenceNumber);
         accessMessage.setIvIndex(ivIndex);
-        final SparseArray<byte[]> lowerTransportAccessPdu = new SparseArray<>();
+        final ByteArrayMap lowerTransportAccessPdu = new ByteArrayMap();
         lowerTransportAccessPdu.put(0, lowerTransportPdu0);
         accessMessage.setLowerTransportAccessPdu(lowerTransportAccessPdu);
 
         final Message message = meshLayerTestBase.createNetworkLayerPDU(accessMessage);
 
-        final SparseArray<byte[]> actualNetworkTransportPdu = message.getNetworkLayerPdu();
+        final ByteArrayMap actualNetworkTransportPdu = message.getNetworkLayerPduMap();
 
         Assert.assertFalse("Segment count does not match", expectedProxyConfigurationPdu.size() != actualNetworkTransportPdu.size());
 
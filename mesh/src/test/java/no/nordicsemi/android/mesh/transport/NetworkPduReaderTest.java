@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Test;
+import org.spongycastle.crypto.InvalidCipherTextException;
+
+import java.util.Arrays;
+
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NetworkPduReaderTest {
+
+    private final SecureUtils.K2Output k2Output = SecureUtils.calculateK2(
+            MeshParserUtils.toByteArray("7dd7364cd842ad18c17c2b820c84c3d6"), SecureUtils.K2_MASTER_INPUT);
+
+    @Test
+    public void sample_messages_are_decoded_in_to_the_reused_buffer() throws InvalidCipherTextException {
+        final NetworkPduReader reader = new NetworkPduReader();
+
+        // Mesh Profile sample message #6, a segment sent by 0x0003 to 0x1201
+        final byte[] segment = MeshParserUtils.toByteArray("0068cab5c5348a230afba8c63d4e686364979deaf4fd40961145939cda0e");
+        reader.deObfuscate(segment, 0x12345678, k2Output.getPrivacyKey());
+        reader.decrypt(segment, k2Output.getEncryptionKey());
+        assertEquals(0x0003, reader.getSrc());
+        assertEquals(0x1201, reader.getDst());
+        assertEquals(0x3129AB, reader.getSequenceNumber());
+        assertEquals(4, reader.getTtl());
+        assertEquals("8026AC01EE9DDDFD2169326D23F3AFDF", lowerTransportPdu(reader));
+
+        // Sample message #16, shorter than the previous one, the received PDU being left untouched
+        final byte[] pdu = MeshParserUtils.toByteArray("0068e80e5da5af0e6b9be7f5a642f2f98680e61c3a8b47f228");
+        reader.deObfuscate(pdu, 0x12345678, k2Output.getPrivacyKey());
+        reader.decrypt(pdu, k2Output.getEncryptionKey());
+        assertEquals(0x1201, reader.getSrc());
+        assertEquals(0x0003, reader.getDst());
+        assertEquals(0x000006, reader.getSequenceNumber());
+        assertEquals(0x0B, reader.getTtl());
+        assertEquals(0, reader.getCtl());
+        assertEquals("0089511BF1D1A81C11DCEF", lowerTransportPdu(reader));
+        assertEquals("0068E80E5DA5AF0E6B9BE7F5A642F2F98680E61C3A8B47F228", MeshParserUtils.bytesToHex(pdu, false));
+    }
+
+    @Test(expected = InvalidCipherTextException.class)
+    public void pdu_with_invalid_mic_is_rejected() throws InvalidCipherTextException {
+        final NetworkPduReader reader = new NetworkPduReader();
+        final byte[] pdu = MeshParserUtils.toByteArray("0068e80e5da5af0e6b9be7f5a642f2f98680e61c3a8b47f229");
+        assertTrue(NetworkPduReader.isValidLength(pdu));
+        reader.deObfuscate(pdu, 0x12345678, k2Output.getPrivacyKey());
+        reader.decrypt(pdu, k2Output.getEncryptionKey());
+    }
+
+    private static String lowerTransportPdu(final NetworkPduReader reader) {
+        return MeshParserUtils.bytesToHex(Arrays.copyOfRange(reader.getBuffer(), NetworkPduReader.HEADER_LENGTH + 2, reader.getLength()), false);
+    }
+}
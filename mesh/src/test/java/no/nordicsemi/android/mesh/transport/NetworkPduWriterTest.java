@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Test;
+
+import no.nordicsemi.android.mesh.MeshManagerApi;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+import static org.junit.Assert.assertEquals;
+
+public class NetworkPduWriterTest {
+
+    private final SecureUtils.K2Output k2Output = SecureUtils.calculateK2(
+            MeshParserUtils.toByteArray("7dd7364cd842ad18c17c2b820c84c3d6"), SecureUtils.K2_MASTER_INPUT);
+    private final byte[] ivIndex = MeshParserUtils.toByteArray("12345678");
+    private final byte iviNid = (byte) k2Output.getNid();
+
+    @Test
+    public void pdus_written_with_reused_buffers_match_sample_messages() {
+        final NetworkPduWriter writer = new NetworkPduWriter();
+        writer.begin(k2Output.getEncryptionKey(), k2Output.getPrivacyKey(), ivIndex);
+
+        // Mesh Profile sample message #6, two segments with consecutive sequence numbers
+        final byte[] segment0 = writer.write(MeshManagerApi.PDU_TYPE_NETWORK, iviNid, (byte) 0x04, 0x3129AB, 0x0003, 0x1201,
+                MeshParserUtils.toByteArray("8026ac01ee9dddfd2169326d23f3afdf"), 4);
+        final byte[] segment1 = writer.write(MeshManagerApi.PDU_TYPE_NETWORK, iviNid, (byte) 0x04, 0x3129AC, 0x0003, 0x1201,
+                MeshParserUtils.toByteArray("8026ac21cfdc18c52fdef772e0e17308"), 4);
+        // Sample message #16, shorter than the previous payload written to the same buffers
+        final byte[] unsegmented = writer.write(MeshManagerApi.PDU_TYPE_NETWORK, iviNid, (byte) 0x0B, 0x000006, 0x1201, 0x0003,
+                MeshParserUtils.toByteArray("0089511bf1d1a81c11dcef"), 4);
+
+        assertEquals("0068CAB5C5348A230AFBA8C63D4E686364979DEAF4FD40961145939CDA0E", MeshParserUtils.bytesToHex(segment0, false));
+        assertEquals("00681615B5DD4A846CAE0C032BF0746F44F1B8CC8CE5EDC57E55BEED49C0", MeshParserUtils.bytesToHex(segment1, false));
+        assertEquals("0068E80E5DA5AF0E6B9BE7F5A642F2F98680E61C3A8B47F228", MeshParserUtils.bytesToHex(unsegmented, false));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import no.nordicsemi.android.mesh.ApplicationKey;
+import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.opcodes.ApplicationMessageOpCodes;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+/**
+ * Benchmarks creating the network PDUs of an access message sent by the provisioner, see
+ * {@link MeshTransport#createMeshMessage(int, int, java.util.UUID, Integer, ApplicationKey, int, int, int, int, byte[])}.
+ * <p>
+ * The unsegmented message carries a single parameter byte, the segmented one carries the largest access payload,
+ * 380 bytes, which is sent in 32 segments.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboundPduBenchmark {
+
+    private static final int NODE_ADDRESS = MeshNetworkFixtures.PROVISIONER_ADDRESS + 1;
+
+    @Param({"1", "32"})
+    public int segments;
+
+    private MeshNetwork network;
+    private MeshTransport transport;
+    private ApplicationKey appKey;
+    private int aid;
+    private byte[] parameters;
+
+    @Setup
+    public void setup() {
+        network = MeshNetworkFixtures.create(1, 1);
+        transport = new BenchmarkTransportCallbacks(network).createTransport();
+        appKey = network.getAppKey(MeshNetworkFixtures.APP_KEY_INDEX);
+        aid = SecureUtils.calculateK4(appKey.getKey());
+        // 2 byte op code followed by the parameters and a 4 byte transport MIC, 12 bytes per segment
+        parameters = new byte[segments == 1 ? 1 : segments * 12 - 2 - 4];
+    }
+
+    @Setup(Level.Iteration)
+    public void resetSequenceNumber() {
+        // Keeps the 24-bit sequence number from wrapping around during long runs
+        network.getNode(MeshNetworkFixtures.PROVISIONER_ADDRESS).setSequenceNumber(0);
+    }
+
+    @Benchmark
+    public AccessMessage createMeshMessage() {
+        return transport.createMeshMessage(MeshNetworkFixtures.PROVISIONER_ADDRESS, NODE_ADDRESS, null, null,
+                appKey, 1, aid, 0, ApplicationMessageOpCodes.GENERIC_ON_OFF_SET, parameters);
+    }
+}
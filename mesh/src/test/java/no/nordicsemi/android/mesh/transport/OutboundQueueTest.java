@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import no.nordicsemi.android.mesh.OutboundQueueCallbacks;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OutboundQueueTest {
+
+    private final VirtualScheduler scheduler = new VirtualScheduler();
+    private final List<Integer> sent = new ArrayList<>();
+    private final List<Long> times = new ArrayList<>();
+
+    private OutboundQueue createQueue(final int capacity) {
+        return new OutboundQueue(scheduler.createTransportScheduler(), (dst, pdu) -> {
+            sent.add((int) pdu[0]);
+            times.add(scheduler.now());
+        }, capacity);
+    }
+
+    private static int[] toArray(final List<Integer> list) {
+        final int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    @Test
+    public void higher_priority_overtakes_only_pdus_to_other_nodes() {
+        final OutboundQueue queue = createQueue(OutboundQueue.DEFAULT_CAPACITY);
+        queue.setPacing(1, 0);
+        queue.enqueue(0x0002, 0x0002, OutboundQueue.PRIORITY_BULK, new byte[]{1});
+        queue.enqueue(0x0002, 0x0002, OutboundQueue.PRIORITY_BULK, new byte[]{2});
+        queue.enqueue(0x0003, 0x0003, OutboundQueue.PRIORITY_BULK, new byte[]{3});
+        queue.enqueue(0x0003, 0x0002, OutboundQueue.PRIORITY_CONTROL, new byte[]{4});
+        queue.enqueue(0x0004, 0x0004, OutboundQueue.PRIORITY_INTERACTIVE, new byte[]{5});
+        queue.enqueue(0xC000, OutboundQueue.ANY_NODE, OutboundQueue.PRIORITY_INTERACTIVE, new byte[]{6});
+        queue.enqueue(0x0005, 0x0005, OutboundQueue.PRIORITY_CONTROL, new byte[]{7});
+        assertEquals(1, sent.size());
+
+        for (int i = 0; i < 6; i++) {
+            queue.onPduSent();
+        }
+
+        // The acknowledgement to node 2 waits for the PDU queued before it to that node, and nothing overtakes
+        // the group message
+        assertArrayEquals(new int[]{1, 5, 2, 4, 3, 6, 7}, toArray(sent));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void pdus_are_paced_and_queue_reports_when_full() {
+        final OutboundQueue queue = createQueue(4);
+        final int[] notifications = new int[2];
+        queue.setListener(new OutboundQueueCallbacks() {
+            @Override
+            public void onOutboundQueueFull() {
+                notifications[0]++;
+            }
+
+            @Override
+            public void onOutboundQueueAvailable() {
+                notifications[1]++;
+            }
+
+            @Override
+            public void onMeshMessageRejected(final int dst, @NonNull final MeshMessage meshMessage) {
+            }
+        });
+        queue.setPacing(0, 50);
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(0x0002, 0x0002, OutboundQueue.PRIORITY_INTERACTIVE, new byte[]{(byte) i});
+        }
+        assertTrue(queue.isFull());
+        assertEquals(1, notifications[0]);
+
+        scheduler.runUntil(50);
+        assertEquals(3, queue.size());
+        assertEquals(0, notifications[1]);
+        scheduler.runUntil(100);
+        assertFalse(queue.isFull());
+        assertEquals(1, notifications[1]);
+
+        scheduler.runUntilIdle();
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, toArray(sent));
+        assertEquals(200L, (long) times.get(4));
+        assertEquals(1, notifications[0]);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import no.nordicsemi.android.mesh.models.SigModelParser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProvisionedMeshNodeTest {
+
+    private static Element createElement(final int address, final int modelId) {
+        final Map<Integer, MeshModel> models = new LinkedHashMap<>();
+        final MeshModel model = SigModelParser.getSigModel(modelId);
+        models.put(model.getModelId(), model);
+        return new Element(address, 0, models);
+    }
+
+    @Test
+    public void testElementChangesWrittenThrough() {
+        final ProvisionedMeshNode node = new ProvisionedMeshNode();
+        node.setElements(new LinkedHashMap<>());
+        assertNull(node.getMeshModel(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+
+        node.getElements().put(0x0010, createElement(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+        assertNotNull(node.getMeshModel(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+
+        node.getElements().remove(0x0010);
+        assertTrue(node.getElements().isEmpty());
+        assertNull(node.getMeshModel(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+    }
+
+    @Test
+    public void testModelIndexInvalidatedOnElementChange() {
+        final ProvisionedMeshNode node = new ProvisionedMeshNode();
+        node.setElements(new LinkedHashMap<>());
+        node.putElement(createElement(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+        assertNotNull(node.getMeshModel(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+        assertNull(node.getMeshModel(0x0010, SigModelParser.GENERIC_LEVEL_SERVER));
+
+        final Element element = createElement(0x0010, SigModelParser.GENERIC_LEVEL_SERVER);
+        node.putElement(element);
+        assertNull(node.getMeshModel(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+        assertSame(element.getMeshModels().get((int) SigModelParser.GENERIC_LEVEL_SERVER),
+                node.getMeshModel(0x0010, SigModelParser.GENERIC_LEVEL_SERVER));
+    }
+
+    @Test
+    public void testStoredElementsNotDecoded() {
+        final Map<Integer, Element> elements = new LinkedHashMap<>();
+        elements.put(0x0010, createElement(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+        final byte[] blob = ElementBlobConverter.toBlob(elements);
+        final LazyElementMap lazyElements = new LazyElementMap(blob);
+        final ProvisionedMeshNode node = new ProvisionedMeshNode();
+        node.setElements(lazyElements);
+
+        assertArrayEquals(blob, ElementBlobConverter.toBlob(node.getElements()));
+        assertFalse(lazyElements.isDecoded());
+    }
+
+    @Test
+    public void testModelIndexRebuiltAfterRelease() {
+        final Map<Integer, Element> elements = new LinkedHashMap<>();
+        elements.put(0x0010, createElement(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER));
+        final byte[] blob = ElementBlobConverter.toBlob(elements);
+        final ElementCache cache = new ElementCache(1, uuid -> blob);
+        final ProvisionedMeshNode node = new ProvisionedMeshNode();
+        node.setElements(new LazyElementMap("node", 0x0010, 1, cache));
+        final LazyElementMap other = new LazyElementMap("other", 0x0010, 1, cache);
+
+        final MeshModel model = node.getMeshModel(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER);
+        assertNotNull(model);
+        assertNotNull(other.get(0x0010));
+        final MeshModel reloaded = node.getMeshModel(0x0010, SigModelParser.GENERIC_ON_OFF_SERVER);
+        assertNotNull(reloaded);
+        assertNotSame(model, reloaded);
+        assertSame(node.getElements().get(0x0010).getMeshModels().get((int) SigModelParser.GENERIC_ON_OFF_SERVER), reloaded);
+    }
+}
@@ -0,0 +1,621 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.spongycastle.crypto.InvalidCipherTextException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import no.nordicsemi.android.mesh.ApplicationKey;
+import no.nordicsemi.android.mesh.Group;
+import no.nordicsemi.android.mesh.MeshNetwork;
+import no.nordicsemi.android.mesh.NetworkKey;
+import no.nordicsemi.android.mesh.NodeKey;
+import no.nordicsemi.android.mesh.Provisioner;
+import no.nordicsemi.android.mesh.models.SigModelParser;
+import no.nordicsemi.android.mesh.opcodes.ApplicationMessageOpCodes;
+import no.nordicsemi.android.mesh.opcodes.ConfigMessageOpCodes;
+import no.nordicsemi.android.mesh.utils.MeshAddress;
+import no.nordicsemi.android.mesh.utils.MeshParserUtils;
+import no.nordicsemi.android.mesh.utils.SecureUtils;
+
+/**
+ * A node hosted by the {@link MeshNetworkSimulator}.
+ * <p>
+ * Received PDUs are decoded and responses are encoded by a {@link MeshTransport} of its own, so the node goes through
+ * the same transport layers as the library. The node implements the Configuration Server messages needed to configure
+ * it, and the Generic OnOff, Generic Level, Sensor and Scene servers on each element containing these models.
+ * </p>
+ */
+final class SimulatedNode implements NetworkLayerCallbacks, UpperTransportLayerCallbacks, LowerTransportLayerCallbacks {
+
+    private static final int STATUS_SUCCESS = 0x00;
+    private static final int STATUS_INVALID_MODEL = 0x02;
+    private static final int STATUS_SCENE_NOT_FOUND = 0x02;
+    private static final short PRESENT_AMBIENT_TEMPERATURE = 0x004F;
+    private static final int DEFAULT_TTL = 5;
+
+    private final MeshNetworkSimulator mSimulator;
+    private final MeshNetwork mNetwork;
+    private final ProvisionedMeshNode mNode;
+    private final MeshTransport mTransport;
+    private final NetworkPduReader mReader = new NetworkPduReader();
+    private final int mTtl;
+    private final Map<Integer, ElementState> mElements = new TreeMap<>();
+    private final Map<Integer, ApplicationKey> mAppKeys = new HashMap<>();
+    // Models are keyed by element address in the upper 32 bits and the model identifier in the lower 32 bits
+    private final Map<Long, Set<Integer>> mBindings = new HashMap<>();
+    private final Map<Long, Set<Integer>> mSubscriptions = new HashMap<>();
+    private final Map<Integer, ProvisionedMeshNode> mPeers = new HashMap<>();
+    private NetworkKey mNetworkKey;
+    private int mHandledMessageCount;
+
+    /**
+     * State of the server models of an element.
+     */
+    static final class ElementState {
+        final int address;
+        final int locationDescriptor;
+        final List<Integer> modelIds;
+        final Map<Integer, int[]> scenes = new TreeMap<>();
+        boolean onOff;
+        int level;
+        int currentScene;
+        int temperature;
+
+        ElementState(final int address, final int locationDescriptor, @NonNull final List<Integer> modelIds) {
+            this.address = address;
+            this.locationDescriptor = locationDescriptor;
+            this.modelIds = modelIds;
+        }
+    }
+
+    SimulatedNode(@NonNull final MeshNetworkSimulator simulator,
+                  @NonNull final MeshNetwork network,
+                  @NonNull final ProvisionedMeshNode node,
+                  @NonNull final TransportScheduler scheduler,
+                  final int temperature) {
+        mSimulator = simulator;
+        mNetwork = network;
+        mTtl = node.getTtl() != null ? node.getTtl() : DEFAULT_TTL;
+
+        // The node keeps its own copy so that its sequence number is independent of the network used by the client
+        mNode = new ProvisionedMeshNode();
+        mNode.setMeshUuid(node.getMeshUuid());
+        mNode.setUuid(node.getUuid());
+        mNode.setUnicastAddress(node.getUnicastAddress());
+        mNode.setDeviceKey(node.getDeviceKey());
+        mNode.setSequenceNumber(node.getSequenceNumber());
+        mNode.setTtl(mTtl);
+        mNode.setCompanyIdentifier(node.getCompanyIdentifier());
+        mNode.setProductIdentifier(node.getProductIdentifier());
+        mNode.setVersionIdentifier(node.getVersionIdentifier());
+        mNode.setCrpl(node.getCrpl());
+        mNode.setNodeFeatures(node.getNodeFeatures());
+        mNode.setElements(new HashMap<>(node.getElements()));
+
+        for (NodeKey key : node.getAddedAppKeys()) {
+            final ApplicationKey appKey = network.getAppKey(key.getIndex());
+            if (appKey != null) {
+                mAppKeys.put(key.getIndex(), appKey);
+            }
+        }
+        for (Element element : node.getElements().values()) {
+            final List<Integer> modelIds = new ArrayList<>(element.getMeshModels().keySet());
+            final ElementState state = new ElementState(element.getElementAddress(), element.getLocationDescriptor(), modelIds);
+            state.temperature = temperature;
+            mElements.put(element.getElementAddress(), state);
+            for (MeshModel model : element.getMeshModels().values()) {
+                final long key = modelKey(element.getElementAddress(), model.getModelId());
+                mBindings.put(key, new HashSet<>(model.getBoundAppKeyIndexes()));
+                mSubscriptions.put(key, new HashSet<>(model.getSubscribedAddresses()));
+            }
+        }
+        final List<NetworkKey> netKeys = network.getNetKeys();
+        mNetworkKey = netKeys.isEmpty() ? null : netKeys.get(0);
+
+        mTransport = new MeshTransport(scheduler);
+        mTransport.setNetworkLayerCallbacks(this);
+        mTransport.setUpperTransportLayerCallbacks(this);
+        mTransport.setLowerTransportLayerCallbacks(this);
+    }
+
+    int getUnicastAddress() {
+        return mNode.getUnicastAddress();
+    }
+
+
+    /**
+     * Returns the element states in ascending order of the element address.
+     */
+    @NonNull
+    List<ElementState> getElements() {
+        return new ArrayList<>(mElements.values());
+    }
+
+    @Nullable
+    ElementState getElement(final int address) {
+        return mElements.get(address);
+    }
+
+    /**
+     * Returns the group addresses any model of this node is subscribed to.
+     */
+    @NonNull
+    Set<Integer> getSubscriptions() {
+        final Set<Integer> addresses = new HashSet<>();
+        for (Set<Integer> subscriptions : mSubscriptions.values()) {
+            addresses.addAll(subscriptions);
+        }
+        return addresses;
+    }
+
+    int getHandledMessageCount() {
+        return mHandledMessageCount;
+    }
+
+    /**
+     * Decodes a network PDU addressed to this node and handles the access message once it is complete.
+     */
+    void onNetworkPdu(@NonNull final NetworkKey key,
+                      @NonNull final SecureUtils.K2Output k2Output,
+                      @NonNull final byte[] pdu,
+                      final int ivIndex) {
+        final Message message;
+        try {
+            mReader.deObfuscate(pdu, ivIndex, k2Output.getPrivacyKey());
+            mReader.decrypt(pdu, k2Output.getEncryptionKey());
+            message = mTransport.parseMeshMessage(key, getPeer(mReader.getSrc()), pdu, mReader);
+        } catch (InvalidCipherTextException | IllegalArgumentException ex) {
+            // The message was encrypted with a key this node does not know
+            return;
+        }
+        if (message instanceof AccessMessage) {
+            mNetworkKey = key;
+            onAccessMessage((AccessMessage) message);
+        }
+    }
+
+    /**
+     * Returns the node used by the transport to receive messages from the given source.
+     * <p>
+     * The transport expects the node of the sender, holding the SeqAuth values and the device key used for
+     * decryption. The messages received by this node are encrypted with its own device key.
+     * </p>
+     */
+    private ProvisionedMeshNode getPeer(final int src) {
+        ProvisionedMeshNode peer = mPeers.get(src);
+        if (peer == null) {
+            peer = new ProvisionedMeshNode();
+            peer.setUnicastAddress(src);
+            peer.setDeviceKey(mNode.getDeviceKey());
+            final Map<Integer, Element> elements = new HashMap<>();
+            elements.put(src, new Element(src, 0, new HashMap<>()));
+            peer.setElements(elements);
+            mPeers.put(src, peer);
+        }
+        return peer;
+    }
+
+    private void onAccessMessage(@NonNull final AccessMessage message) {
+        final int dst = message.getDst();
+        if (message.getAkf() == 0) {
+            if (dst == mNode.getUnicastAddress()) {
+                mHandledMessageCount++;
+                onConfigurationMessage(message);
+            }
+            return;
+        }
+        final Integer appKeyIndex = getAppKeyIndex(message.getAid());
+        if (appKeyIndex == null)
+            return;
+        if (MeshAddress.isValidUnicastAddress(dst)) {
+            final ElementState element = mElements.get(dst);
+            if (element != null) {
+                onApplicationMessage(element, appKeyIndex, message);
+            }
+        } else if (isFixedGroupAddress(dst)) {
+            onApplicationMessage(mElements.values().iterator().next(), appKeyIndex, message);
+        } else {
+            for (ElementState element : mElements.values()) {
+                final int modelId = getServerModelId(message.getOpCode());
+                final Set<Integer> subscriptions = mSubscriptions.get(modelKey(element.address, modelId));
+                if (subscriptions != null && subscriptions.contains(dst)) {
+                    onApplicationMessage(element, appKeyIndex, message);
+                }
+            }
+        }
+    }
+
+    private void onConfigurationMessage(@NonNull final AccessMessage message) {
+        final byte[] params = message.getParameters();
+        switch (message.getOpCode()) {
+            case ConfigMessageOpCodes.CONFIG_APPKEY_ADD: {
+                final int netKeyIndex = ((params[1] & 0x0F) << 8) | (params[0] & 0xFF);
+                final int appKeyIndex = ((params[2] & 0xFF) << 4) | ((params[1] & 0xF0) >> 4);
+                final byte[] key = new byte[16];
+                System.arraycopy(params, 3, key, 0, key.length);
+                final ApplicationKey appKey = new ApplicationKey(appKeyIndex, key);
+                appKey.setBoundNetKeyIndex(netKeyIndex);
+                mAppKeys.put(appKeyIndex, appKey);
+                sendConfigurationStatus(message, ConfigMessageOpCodes.CONFIG_APPKEY_STATUS,
+                        withStatus(STATUS_SUCCESS, params, 3));
+                break;
+            }
+            case ConfigMessageOpCodes.CONFIG_MODEL_APP_BIND: {
+                final int elementAddress = MeshParserUtils.unsignedBytesToInt(params[0], params[1]);
+                final int appKeyIndex = MeshParserUtils.unsignedBytesToInt(params[2], params[3]) & 0x0FFF;
+                final Set<Integer> bindings = mBindings.get(modelKey(elementAddress, getModelId(params, 4)));
+                final int status;
+                if (bindings == null) {
+                    status = STATUS_INVALID_MODEL;
+                } else {
+                    bindings.add(appKeyIndex);
+                    status = STATUS_SUCCESS;
+                }
+                sendConfigurationStatus(message, ConfigMessageOpCodes.CONFIG_MODEL_APP_STATUS,
+                        withStatus(status, params, params.length));
+                break;
+            }
+            case ConfigMessageOpCodes.CONFIG_MODEL_SUBSCRIPTION_ADD: {
+                final int elementAddress = MeshParserUtils.unsignedBytesToInt(params[0], params[1]);
+                final int address = MeshParserUtils.unsignedBytesToInt(params[2], params[3]);
+                final Set<Integer> subscriptions = mSubscriptions.get(modelKey(elementAddress, getModelId(params, 4)));
+                final int status;
+                if (subscriptions == null) {
+                    status = STATUS_INVALID_MODEL;
+                } else {
+                    if (subscriptions.add(address)) {
+                        mSimulator.onSubscriptionAdded(this, address);
+                    }
+                    status = STATUS_SUCCESS;
+                }
+                sendConfigurationStatus(message, ConfigMessageOpCodes.CONFIG_MODEL_SUBSCRIPTION_STATUS,
+                        withStatus(status, params, params.length));
+                break;
+            }
+            case ConfigMessageOpCodes.CONFIG_COMPOSITION_DATA_GET:
+                sendConfigurationStatus(message, ConfigMessageOpCodes.CONFIG_COMPOSITION_DATA_STATUS, createCompositionData());
+                break;
+            case ConfigMessageOpCodes.CONFIG_DEFAULT_TTL_GET:
+                sendConfigurationStatus(message, ConfigMessageOpCodes.CONFIG_DEFAULT_TTL_STATUS, new byte[]{(byte) mTtl});
+                break;
+            case ConfigMessageOpCodes.CONFIG_NODE_RESET:
+                sendConfigurationStatus(message, ConfigMessageOpCodes.CONFIG_NODE_RESET_STATUS, null);
+                mSimulator.onNodeReset(this);
+                break;
+            default:
+                mHandledMessageCount--;
+                break;
+        }
+    }
+
+    private void onApplicationMessage(@NonNull final ElementState element, final int appKeyIndex, @NonNull final AccessMessage message) {
+        final int modelId = getServerModelId(message.getOpCode());
+        if (modelId < 0 || !element.modelIds.contains(modelId))
+            return;
+        final Set<Integer> bindings = mBindings.get(modelKey(element.address, modelId));
+        if (bindings == null || !bindings.contains(appKeyIndex))
+            return;
+
+        mHandledMessageCount++;
+        final byte[] params = message.getParameters();
+        final ByteBuffer buffer = params == null ? null : ByteBuffer.wrap(params).order(ByteOrder.LITTLE_ENDIAN);
+        switch (message.getOpCode()) {
+            case ApplicationMessageOpCodes.GENERIC_ON_OFF_SET:
+            case ApplicationMessageOpCodes.GENERIC_ON_OFF_SET_UNACKNOWLEDGED:
+                element.onOff = buffer.get() != 0;
+                // fall through
+            case ApplicationMessageOpCodes.GENERIC_ON_OFF_GET:
+                if (message.getOpCode() != ApplicationMessageOpCodes.GENERIC_ON_OFF_SET_UNACKNOWLEDGED) {
+                    sendStatus(element, appKeyIndex, message, ApplicationMessageOpCodes.GENERIC_ON_OFF_STATUS,
+                            new byte[]{(byte) (element.onOff ? 0x01 : 0x00)});
+                }
+                break;
+            case ApplicationMessageOpCodes.GENERIC_LEVEL_SET:
+            case ApplicationMessageOpCodes.GENERIC_LEVEL_SET_UNACKNOWLEDGED:
+                element.level = buffer.getShort();
+                // fall through
+            case ApplicationMessageOpCodes.GENERIC_LEVEL_GET:
+                if (message.getOpCode() != ApplicationMessageOpCodes.GENERIC_LEVEL_SET_UNACKNOWLEDGED) {
+                    sendStatus(element, appKeyIndex, message, ApplicationMessageOpCodes.GENERIC_LEVEL_STATUS,
+                            ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN).putShort((short) element.level).array());
+                }
+                break;
+            case ApplicationMessageOpCodes.SENSOR_GET: {
+                final int propertyId = buffer == null || buffer.remaining() < 2 ? 0 : buffer.getShort() & 0xFFFF;
+                final byte[] status;
+                if (propertyId == 0 || propertyId == PRESENT_AMBIENT_TEMPERATURE) {
+                    // Format A, 1 octet long Present Ambient Temperature in steps of 0.5 degrees Celsius
+                    status = new byte[]{(byte) ((PRESENT_AMBIENT_TEMPERATURE & 0x07) << 5),
+                            (byte) (PRESENT_AMBIENT_TEMPERATURE >> 3), (byte) element.temperature};
+                } else {
+                    // Format B with the length 0x7F marks a property that is not supported
+                    status = new byte[]{(byte) (0x7F << 1 | 0x01), (byte) propertyId, (byte) (propertyId >> 8)};
+                }
+                sendStatus(element, appKeyIndex, message, ApplicationMessageOpCodes.SENSOR_STATUS, status);
+                break;
+            }
+            case ApplicationMessageOpCodes.SCENE_STORE:
+            case ApplicationMessageOpCodes.SCENE_STORE_UNACKNOWLEDGED: {
+                final int scene = buffer.getShort() & 0xFFFF;
+                element.scenes.put(scene, new int[]{element.onOff ? 1 : 0, element.level});
+                element.currentScene = scene;
+                if (message.getOpCode() == ApplicationMessageOpCodes.SCENE_STORE) {
+                    sendStatus(element, appKeyIndex, message, ApplicationMessageOpCodes.SCENE_REGISTER_STATUS,
+                            createSceneRegister(element));
+                }
+                break;
+            }
+            case ApplicationMessageOpCodes.SCENE_REGISTER_GET:
+                sendStatus(element, appKeyIndex, message, ApplicationMessageOpCodes.SCENE_REGISTER_STATUS,
+                        createSceneRegister(element));
+                break;
+            case ApplicationMessageOpCodes.SCENE_RECALL:
+            case ApplicationMessageOpCodes.SCENE_RECALL_UNACKNOWLEDGED: {
+                final int scene = buffer.getShort() & 0xFFFF;
+                final int[] stored = element.scenes.get(scene);
+                final int status;
+                if (stored == null) {
+                    status = STATUS_SCENE_NOT_FOUND;
+                } else {
+                    element.onOff = stored[0] != 0;
+                    element.level = stored[1];
+                    element.currentScene = scene;
+                    status = STATUS_SUCCESS;
+                }
+                if (message.getOpCode() == ApplicationMessageOpCodes.SCENE_RECALL) {
+                    sendStatus(element, appKeyIndex, message, ApplicationMessageOpCodes.SCENE_STATUS,
+                            createSceneStatus(status, element.currentScene));
+                }
+                break;
+            }
+            case ApplicationMessageOpCodes.SCENE_GET:
+                sendStatus(element, appKeyIndex, message, ApplicationMessageOpCodes.SCENE_STATUS,
+                        createSceneStatus(STATUS_SUCCESS, element.currentScene));
+                break;
+            default:
+                mHandledMessageCount--;
+                break;
+        }
+    }
+
+    private void sendConfigurationStatus(@NonNull final AccessMessage request, final int opCode, @Nullable final byte[] params) {
+        final AccessMessage message = mTransport.createMeshMessage(mNode.getUnicastAddress(), request.getSrc(), mTtl,
+                mNode.getDeviceKey(), 0, 0, 0, opCode, params);
+        mSimulator.sendFromNode(this, message.getNetworkLayerPduMap());
+    }
+
+    private void sendStatus(@NonNull final ElementState element,
+                            final int appKeyIndex,
+                            @NonNull final AccessMessage request,
+                            final int opCode,
+                            @NonNull final byte[] params) {
+        final ApplicationKey appKey = mAppKeys.get(appKeyIndex);
+        final AccessMessage message = mTransport.createMeshMessage(element.address, request.getSrc(), null, mTtl,
+                appKey, 1, SecureUtils.calculateK4(appKey.getKey()), 0, opCode, params);
+        mSimulator.sendFromNode(this, message.getNetworkLayerPduMap());
+    }
+
+    private byte[] createCompositionData() {
+        int length = 11;
+        for (ElementState element : mElements.values()) {
+            length += 4;
+            for (int modelId : element.modelIds) {
+                length += MeshParserUtils.isVendorModel(modelId) ? 4 : 2;
+            }
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 0x00);
+        buffer.putShort((short) valueOf(mNode.getCompanyIdentifier()));
+        buffer.putShort((short) valueOf(mNode.getProductIdentifier()));
+        buffer.putShort((short) valueOf(mNode.getVersionIdentifier()));
+        buffer.putShort((short) valueOf(mNode.getCrpl()));
+        buffer.putShort((short) 0x0003); // Relay and Proxy features
+        for (ElementState element : mElements.values()) {
+            int sigModels = 0;
+            for (int modelId : element.modelIds) {
+                if (!MeshParserUtils.isVendorModel(modelId)) sigModels++;
+            }
+            buffer.putShort((short) element.locationDescriptor);
+            buffer.put((byte) sigModels);
+            buffer.put((byte) (element.modelIds.size() - sigModels));
+            for (int modelId : element.modelIds) {
+                if (!MeshParserUtils.isVendorModel(modelId)) buffer.putShort((short) modelId);
+            }
+            for (int modelId : element.modelIds) {
+                if (MeshParserUtils.isVendorModel(modelId)) {
+                    buffer.putShort((short) (modelId >> 16));
+                    buffer.putShort((short) modelId);
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    private static byte[] createSceneRegister(@NonNull final ElementState element) {
+        final ByteBuffer buffer = ByteBuffer.allocate(3 + 2 * element.scenes.size()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) STATUS_SUCCESS);
+        buffer.putShort((short) element.currentScene);
+        for (int scene : element.scenes.keySet()) {
+            buffer.putShort((short) scene);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] createSceneStatus(final int status, final int currentScene) {
+        return ByteBuffer.allocate(3).order(ByteOrder.LITTLE_ENDIAN)
+                .put((byte) status)
+                .putShort((short) currentScene)
+                .array();
+    }
+
+    private static byte[] withStatus(final int status, @NonNull final byte[] params, final int length) {
+        final byte[] result = new byte[length + 1];
+        result[0] = (byte) status;
+        System.arraycopy(params, 0, result, 1, length);
+        return result;
+    }
+
+    private static int getModelId(@NonNull final byte[] params, final int offset) {
+        if (params.length - offset == 2) {
+            return MeshParserUtils.unsignedBytesToInt(params[offset], params[offset + 1]);
+        }
+        final int companyIdentifier = MeshParserUtils.unsignedBytesToInt(params[offset], params[offset + 1]);
+        final int modelIdentifier = MeshParserUtils.unsignedBytesToInt(params[offset + 2], params[offset + 3]);
+        return companyIdentifier << 16 | modelIdentifier;
+    }
+
+    /**
+     * Returns the server model handling the given op code or -1 if the op code is not supported.
+     */
+    private static int getServerModelId(final int opCode) {
+        switch (opCode) {
+            case ApplicationMessageOpCodes.GENERIC_ON_OFF_GET:
+            case ApplicationMessageOpCodes.GENERIC_ON_OFF_SET:
+            case ApplicationMessageOpCodes.GENERIC_ON_OFF_SET_UNACKNOWLEDGED:
+                return SigModelParser.GENERIC_ON_OFF_SERVER;
+            case ApplicationMessageOpCodes.GENERIC_LEVEL_GET:
+            case ApplicationMessageOpCodes.GENERIC_LEVEL_SET:
+            case ApplicationMessageOpCodes.GENERIC_LEVEL_SET_UNACKNOWLEDGED:
+                return SigModelParser.GENERIC_LEVEL_SERVER;
+            case ApplicationMessageOpCodes.SENSOR_GET:
+                return SigModelParser.SENSOR_SERVER;
+            case ApplicationMessageOpCodes.SCENE_GET:
+            case ApplicationMessageOpCodes.SCENE_REGISTER_GET:
+            case ApplicationMessageOpCodes.SCENE_RECALL:
+            case ApplicationMessageOpCodes.SCENE_RECALL_UNACKNOWLEDGED:
+                return SigModelParser.SCENE_SERVER;
+            case ApplicationMessageOpCodes.SCENE_STORE:
+            case ApplicationMessageOpCodes.SCENE_STORE_UNACKNOWLEDGED:
+                return SigModelParser.SCENE_SETUP_SERVER;
+            default:
+                return -1;
+        }
+    }
+
+    @Nullable
+    private Integer getAppKeyIndex(final int aid) {
+        for (Map.Entry<Integer, ApplicationKey> entry : mAppKeys.entrySet()) {
+            if (entry.getValue().getAid() == aid) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFixedGroupAddress(final int address) {
+        return address >= 0xFF00;
+    }
+
+    private static long modelKey(final int elementAddress, final int modelId) {
+        return ((long) elementAddress << 32) | (modelId & 0xFFFFFFFFL);
+    }
+
+    private static int valueOf(@Nullable final Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    @Override
+    public Provisioner getProvisioner() {
+        return mNetwork.getSelectedProvisioner();
+    }
+
+    @Override
+    public Provisioner getProvisioner(final int unicastAddress) {
+        return mNetwork.getSelectedProvisioner();
+    }
+
+    @Override
+    public NetworkKey getPrimaryNetworkKey() {
+        return mNetworkKey;
+    }
+
+    @Override
+    public NetworkKey getNetworkKey(final int keyIndex) {
+        return mNetwork.getNetKey(keyIndex);
+    }
+
+    @Override
+    public List<NetworkKey> getNetworkKeys() {
+        return mNetwork.getNetKeys();
+    }
+
+    @Override
+    public ProvisionedMeshNode getNode(final int unicastAddress) {
+        return mNode;
+    }
+
+    @Override
+    public byte[] getIvIndex() {
+        return mSimulator.getIvIndex();
+    }
+
+    @Override
+    public byte[] getApplicationKey(final int aid) {
+        final Integer index = getAppKeyIndex(aid);
+        return index == null ? null : mAppKeys.get(index).getKey();
+    }
+
+    @Override
+    public List<ApplicationKey> getApplicationKeys(final int boundNetKeyIndex) {
+        final List<ApplicationKey> keys = new ArrayList<>();
+        for (ApplicationKey key : mAppKeys.values()) {
+            if (key.getBoundNetKeyIndex() == boundNetKeyIndex) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public List<Group> gerVirtualGroups() {
+        return mNetwork.getGroups();
+    }
+
+    @Override
+    public void sendSegmentAcknowledgementMessage(final ControlMessage controlMessage) {
+        final ControlMessage message = mTransport.createSegmentBlockAcknowledgementMessage(controlMessage);
+        mSimulator.sendFromNode(this, message.getNetworkLayerPduMap());
+    }
+
+    @Override
+    public void onIncompleteTimerExpired() {
+        // The segments received so far are dropped by the lower transport layer
+    }
+
+    @Override
+    public int getTtl() {
+        return mTtl;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class StatusDecodingTest {
+
+    private static AccessMessage accessMessage(final byte... parameters) {
+        final AccessMessage message = new AccessMessage();
+        message.setSrc(0x0002);
+        message.setParameters(parameters);
+        return message;
+    }
+
+    @Test
+    public void fields_are_decoded_on_first_access() {
+        final LightHslStatus status = new LightHslStatus(accessMessage(
+                (byte) 0xFF, (byte) 0xFF, (byte) 0x00, (byte) 0x80, (byte) 0x34, (byte) 0x12));
+        assertFalse(status.isParsed());
+        assertEquals(0x0002, status.getSrc());
+        assertFalse(status.isParsed());
+
+        assertEquals(0x8000, status.getPresentHue());
+        assertTrue(status.isParsed());
+        assertEquals(0xFFFF, status.getPresentLightness());
+        assertEquals(0x1234, status.getPresentSaturation());
+    }
+
+    @Test
+    public void sensor_cadence_and_vendor_statuses_are_decoded_on_first_access() {
+        // Present Ambient Temperature, without a cadence set
+        final SensorCadenceStatus cadence = new SensorCadenceStatus(accessMessage((byte) 0x4F, (byte) 0x00));
+        assertFalse(cadence.isParsed());
+        assertEquals(0x004F, cadence.getCadence().getDeviceProperty().getPropertyId());
+        assertTrue(cadence.isParsed());
+
+        final VendorModelMessageStatus vendor = new VendorModelMessageStatus(accessMessage((byte) 0x01), 0x00590001);
+        assertFalse(vendor.isParsed());
+        assertEquals(0x00590001, vendor.getModelIdentifier());
+        assertFalse(vendor.isParsed());
+        vendor.getAccessPayload();
+        assertTrue(vendor.isParsed());
+    }
+
+    @Test
+    public void fields_are_decoded_once() {
+        // Format A, Present Ambient Temperature
+        final SensorStatus status = new SensorStatus(accessMessage((byte) 0xE0, (byte) 0x09, (byte) 0x2B));
+        assertEquals(1, status.getMarshalledSensorData().size());
+        assertEquals(1, status.getMarshalledSensorData().size());
+
+        final SceneRegisterStatus scenes = new SceneRegisterStatus(accessMessage(
+                (byte) 0x00, (byte) 0x01, (byte) 0x00, (byte) 0x01, (byte) 0x00, (byte) 0x02, (byte) 0x00));
+        assertTrue(scenes.isSuccessful());
+        assertEquals(2, scenes.getSceneList().size());
+        assertEquals(2, scenes.getSceneList().size());
+        assertNull(new GenericOnOffStatus(accessMessage((byte) 0x01)).getTargetState());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.transport;
+
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Single threaded event loop with a virtual clock.
+ * <p>
+ * Tasks run in the order of their due time, tasks due at the same time run in the order they were posted. The clock
+ * only moves when tasks are run, so a simulation produces the same results regardless of the speed of the machine.
+ * Each transport gets its own {@link TransportScheduler} from {@link #createTransportScheduler()} so that
+ * {@link TransportScheduler#removeAllCallbacks()} only removes the tasks of that transport.
+ * </p>
+ */
+public final class VirtualScheduler {
+
+    private final PriorityQueue<Task> mTasks = new PriorityQueue<>();
+    private long mNow;
+    private long mSequence;
+
+    private static final class Task implements Comparable<Task> {
+        final long time;
+        final long sequence;
+        final Object owner;
+        final Runnable runnable;
+
+        Task(final long time, final long sequence, final Object owner, final Runnable runnable) {
+            this.time = time;
+            this.sequence = sequence;
+            this.owner = owner;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public int compareTo(@NonNull final Task other) {
+            final int result = Long.compare(time, other.time);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Returns the current virtual time in milliseconds.
+     */
+    public long now() {
+        return mNow;
+    }
+
+    /**
+     * Returns the number of pending tasks.
+     */
+    public int getPendingTaskCount() {
+        return mTasks.size();
+    }
+
+    /**
+     * Runs the task once the given delay has elapsed on the virtual clock.
+     */
+    public void postDelayed(@NonNull final Runnable task, final long delay) {
+        post(this, task, delay);
+    }
+
+    /**
+     * Creates a scheduler for a transport, backed by this event loop.
+     */
+    @NonNull
+    public TransportScheduler createTransportScheduler() {
+        return new TransportScheduler() {
+            @Override
+            public long currentTimeMillis() {
+                return mNow;
+            }
+
+            @Override
+            public void postDelayed(@NonNull final Runnable task, final long delay) {
+                post(this, task, delay);
+            }
+
+            @Override
+            public void removeCallbacks(@NonNull final Runnable task) {
+                remove(this, task);
+            }
+
+            @Override
+            public void removeAllCallbacks() {
+                remove(this, null);
+            }
+        };
+    }
+
+    /**
+     * Runs the next task, advancing the clock to its due time.
+     *
+     * @return false if there were no tasks to run
+     */
+    public boolean runNext() {
+        final Task task = mTasks.poll();
+        if (task == null)
+            return false;
+        mNow = task.time;
+        task.runnable.run();
+        return true;
+    }
+
+    /**
+     * Runs all tasks due up to the given time and advances the clock to it.
+     */
+    public void runUntil(final long time) {
+        while (!mTasks.isEmpty() && mTasks.peek().time <= time) {
+            runNext();
+        }
+        mNow = Math.max(mNow, time);
+    }
+
+    /**
+     * Runs tasks until there are none left, including tasks posted while running.
+     */
+    public void runUntilIdle() {
+        //noinspection StatementWithEmptyBody
+        while (runNext()) ;
+    }
+
+    private void post(@NonNull final Object owner, @NonNull final Runnable task, final long delay) {
+        mTasks.add(new Task(mNow + Math.max(delay, 0), mSequence++, owner, task));
+    }
+
+    private void remove(@NonNull final Object owner, final Runnable runnable) {
+        final Iterator<Task> iterator = mTasks.iterator();
+        while (iterator.hasNext()) {
+            final Task task = iterator.next();
+            if (task.owner == owner && (runnable == null || task.runnable == runnable)) {
+                iterator.remove();
+            }
+        }
+    }
+}
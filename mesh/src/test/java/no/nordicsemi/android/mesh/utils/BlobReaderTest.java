@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class BlobReaderTest {
+
+    @Test
+    public void testVarIntRoundTrip() {
+        final int[] values = {0, 1, 0x7F, 0x80, 0x3FFF, 0x4000, 0xFFFF, 0x0059FFFF, Integer.MAX_VALUE, -1};
+        final BlobWriter writer = new BlobWriter(1);
+        for (int value : values) {
+            writer.writeVarInt(value);
+        }
+        final BlobReader reader = new BlobReader(writer.toByteArray());
+        for (int value : values) {
+            assertEquals(value, reader.readVarInt());
+        }
+        assertFalse(reader.hasRemaining());
+    }
+
+    @Test
+    public void testVarIntEncoding() {
+        final BlobWriter writer = new BlobWriter();
+        writer.writeVarInt(0x1000);
+        assertArrayEquals(new byte[]{(byte) 0x80, 0x20}, writer.toByteArray());
+    }
+
+    @Test
+    public void testStringAndUuidRoundTrip() {
+        final UUID uuid = UUID.fromString("70CF7C97-32A3-45B6-9149-4810D2E9CBF4");
+        final BlobWriter writer = new BlobWriter();
+        writer.writeString("Element: 0x0001");
+        writer.writeString(null);
+        writer.writeString("");
+        writer.writeUuid(uuid);
+        writer.writeByte(0xAB);
+
+        final BlobReader reader = new BlobReader(writer.toByteArray());
+        assertEquals("Element: 0x0001", reader.readString());
+        assertNull(reader.readString());
+        assertEquals("", reader.readString());
+        assertEquals(uuid, reader.readUuid());
+        assertEquals(0xAB, reader.readByte());
+        assertFalse(reader.hasRemaining());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncatedData() {
+        new BlobReader(new byte[]{(byte) 0x80}).readVarInt();
+    }
+}
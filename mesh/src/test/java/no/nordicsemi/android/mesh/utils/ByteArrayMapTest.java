@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ByteArrayMapTest {
+
+    @Test
+    public void testEntriesAreSortedByKey() {
+        final ByteArrayMap map = new ByteArrayMap(1);
+        map.put(3, new byte[]{3});
+        map.put(0, new byte[]{0});
+        map.put(7, new byte[]{7});
+        map.put(1, new byte[]{1});
+        map.put(3, new byte[]{4});
+
+        assertEquals(4, map.size());
+        final int[] keys = {0, 1, 3, 7};
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(keys[i], map.keyAt(i));
+        }
+        assertArrayEquals(new byte[]{4}, map.get(3));
+        assertNull(map.get(2));
+    }
+
+    @Test
+    public void testCloneIsIndependent() {
+        final ByteArrayMap map = new ByteArrayMap();
+        map.put(0, new byte[]{0});
+        map.put(1, new byte[]{1});
+
+        final ByteArrayMap clone = map.clone();
+        map.clear();
+        clone.remove(0);
+
+        assertEquals(0, map.size());
+        assertEquals(1, clone.size());
+        assertArrayEquals(new byte[]{1}, clone.valueAt(0));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompanyIdentifiersTest {
+
+    @Test
+    public void known_companies_are_resolved() {
+        assertEquals("Ericsson Technology Licensing", CompanyIdentifiers.getCompanyName((short) 0x0000));
+        assertEquals("Nordic Semiconductor ASA", CompanyIdentifiers.getCompanyName((short) 0x0059));
+        assertEquals("Häfele GmbH & Co KG", CompanyIdentifiers.getCompanyName((short) 0x07E9));
+        assertEquals("EMS Integrators, LLC", CompanyIdentifiers.getCompanyName((short) 0x0B4B));
+        assertTrue(CompanyIdentifiers.isKnownCompany(0x0059));
+        assertEquals(2891, CompanyIdentifiers.getCompanyCount());
+    }
+
+    @Test
+    public void unknown_companies_are_unavailable() {
+        assertEquals("Company ID unavailable", CompanyIdentifiers.getCompanyName((short) 0xFFFF));
+        assertFalse(CompanyIdentifiers.isKnownCompany(0x10000));
+    }
+}
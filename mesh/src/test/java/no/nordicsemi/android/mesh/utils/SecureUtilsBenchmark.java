@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018, Nordic Semiconductor
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE
+ * USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package no.nordicsemi.android.mesh.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongycastle.crypto.InvalidCipherTextException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cryptographic primitives used for every mesh PDU sent or received.
+ * <p>
+ * The inputs are taken from the Mesh Profile sample data, the CCM payload is the largest lower transport PDU of an
+ * unsegmented access message encrypted with a 32-bit NetMIC.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecureUtilsBenchmark {
+
+    private final byte[] key = MeshParserUtils.toByteArray("7dd7364cd842ad18c17c2b820c84c3d6");
+    private final byte[] nonce = MeshParserUtils.toByteArray("00800000011201000012345678");
+    private final byte[] payload = MeshParserUtils.toByteArray("0089511bf1d1a81c11dcef0102030405");
+    private final byte[] privacyPlaintext = MeshParserUtils.toByteArray("0000000000123456788b47f228b3f4a2");
+    private final byte[] encryptedPayload = SecureUtils.encryptCCM(payload, key, nonce, 4);
+
+    @Benchmark
+    public byte[] encryptCCM() {
+        return SecureUtils.encryptCCM(payload, key, nonce, 4);
+    }
+
+    @Benchmark
+    public byte[] decryptCCM() throws InvalidCipherTextException {
+        return SecureUtils.decryptCCM(encryptedPayload, key, nonce, 4);
+    }
+
+    @Benchmark
+    public byte[] calculateCMAC() {
+        return SecureUtils.calculateCMAC(payload, key);
+    }
+
+    @Benchmark
+    public SecureUtils.K2Output calculateK2() {
+        return SecureUtils.calculateK2(key, SecureUtils.K2_MASTER_INPUT);
+    }
+
+    @Benchmark
+    public byte[] calculateK3() {
+        return SecureUtils.calculateK3(key);
+    }
+
+    @Benchmark
+    public byte calculateK4() {
+        return SecureUtils.calculateK4(key);
+    }
+
+    /**
+     * The single AES block computing the PECB used to obfuscate the network header.
+     */
+    @Benchmark
+    public byte[] obfuscationBlock() {
+        return SecureUtils.encryptWithAES(privacyPlaintext, key);
+    }
+}